@@ -0,0 +1,41 @@
+package com.ssafy.keeping.domain.auth.security;
+
+import com.ssafy.keeping.domain.auth.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+
+/**
+ * 요청마다 실행되는 JWT 검증 (HS384)
+ * - validate: 서명 검증 + 클레임 파싱 1회
+ * - authFilterPath: JwtAuthenticationFilter 와 같은 순서 (validateToken → getUserId → getUserRole)
+ */
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+
+    JwtProvider jwtProvider;
+    String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtProvider = new JwtProvider();
+        Field secret = JwtProvider.class.getDeclaredField("secret");
+        secret.setAccessible(true);
+        secret.set(jwtProvider, "benchmark-secret-benchmark-secret-benchmark-secret-0123456789");
+        jwtProvider.init();
+        accessToken = jwtProvider.generateAccessToken(12L, UserRole.CUSTOMER);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public void authFilterPath(Blackhole bh) {
+        bh.consume(jwtProvider.validateToken(accessToken));
+        bh.consume(jwtProvider.getUserId(accessToken));
+        bh.consume(jwtProvider.getUserRole(accessToken));
+    }
+}
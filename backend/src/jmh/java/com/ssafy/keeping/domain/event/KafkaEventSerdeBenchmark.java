@@ -0,0 +1,61 @@
+package com.ssafy.keeping.domain.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.keeping.domain.event.dto.PaymentEvent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Kafka 결제 이벤트 직렬화/역직렬화 (KafkaConfig 와 같은 설정)
+ * - serialize: 프로듀서 JsonSerializer
+ * - deserializeAndConvert: 컨슈머 JsonDeserializer(Map) → ObjectMapper.convertValue(PaymentEvent)
+ */
+@State(Scope.Benchmark)
+public class KafkaEventSerdeBenchmark {
+
+    private static final String TOPIC = "notification-events";
+
+    JsonSerializer<Object> serializer;
+    JsonDeserializer<Object> deserializer;
+    ObjectMapper objectMapper;
+    PaymentEvent event;
+    byte[] payload;
+
+    @Setup
+    public void setUp() {
+        serializer = new JsonSerializer<>();
+        serializer.configure(Map.of(), false);
+        deserializer = new JsonDeserializer<>();
+        deserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "com.ssafy.keeping",
+                JsonDeserializer.USE_TYPE_INFO_HEADERS, false,
+                JsonDeserializer.VALUE_DEFAULT_TYPE, "java.util.Map"), false);
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        event = PaymentEvent.builder()
+                .eventId(UUID.randomUUID().toString()).eventTimestamp(LocalDateTime.of(2025, 9, 1, 12, 0)).eventType("PAYMENT")
+                .customerId(12L).customerName("홍길동").storeId(345L).storeName("카페 키핑").ownerId(67L)
+                .transactionId(890_123L).transactionUniqueNo("20250901120000123456")
+                .paymentAmount(50_000L).totalPoints(55_000L).bonusPercentage(10).bonusAmount(5_000L)
+                .transactionTime(LocalDateTime.of(2025, 9, 1, 12, 0))
+                .build();
+        payload = serializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public PaymentEvent deserializeAndConvert() {
+        Object map = deserializer.deserialize(TOPIC, payload);
+        return objectMapper.convertValue(map, PaymentEvent.class);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ssafy.keeping.domain.idempotency.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keeping.domain.payment.intent.constant.PaymentStatus;
+import com.ssafy.keeping.domain.payment.intent.dto.PaymentIntentDetailResponse;
+import com.ssafy.keeping.domain.payment.intent.dto.PaymentIntentItemView;
+import com.ssafy.keeping.global.config.CanonicalJsonConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 멱등 응답 스냅샷 기록 / 재생 비용: 이전 JSON 컬럼 vs 바이너리 스냅샷
+ * - json*: valueToTree → (Hibernate JSON 타입) 문자열 / 문자열 → JsonNode → treeToValue
+ * - binary*: ResponseSnapshotCodecs (Smile, 임계값 이상 deflate)
+ * - 저장 크기는 setUp 에서 출력 (items=3 은 압축 안 함, 20 은 압축)
+ */
+@State(Scope.Benchmark)
+public class ResponseSnapshotBenchmark {
+
+    @Param({"3", "20"})
+    int items;
+
+    ObjectMapper canonicalObjectMapper;
+    ResponseSnapshotCodecs codecs;
+    PaymentIntentDetailResponse response;
+    String jsonColumn;
+    byte[] snapshot;
+
+    @Setup
+    public void setUp() throws Exception {
+        canonicalObjectMapper = new CanonicalJsonConfig().canonicalObjectMapper();
+        codecs = new ResponseSnapshotCodecs(canonicalObjectMapper, 512);
+
+        List<PaymentIntentItemView> views = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            views.add(PaymentIntentItemView.builder()
+                    .menuId(10_000L + i).name("메뉴" + i).unitPrice(4_500L).quantity(1 + i % 3).lineTotal(4_500L * (1 + i % 3))
+                    .build());
+        }
+        response = PaymentIntentDetailResponse.builder()
+                .intentId(UUID.randomUUID().toString()).storeId(12_345L).customerId(12L).amount(54_000L)
+                .status(PaymentStatus.APPROVED)
+                .createdAt("2025-09-01T12:00:00+09:00").expiresAt("2025-09-01T12:03:00+09:00")
+                .approvedAt("2025-09-01T12:00:30+09:00")
+                .items(views)
+                .build();
+
+        jsonColumn = jsonWrite();
+        snapshot = binaryWrite();
+        System.out.printf("%n[snapshot bytes] items=%d json=%d binary=%d%n",
+                items, jsonColumn.getBytes(StandardCharsets.UTF_8).length, snapshot.length);
+    }
+
+    @Benchmark
+    public String jsonWrite() throws Exception {
+        return canonicalObjectMapper.writeValueAsString(canonicalObjectMapper.valueToTree(response));
+    }
+
+    @Benchmark
+    public PaymentIntentDetailResponse jsonReplay() throws Exception {
+        return canonicalObjectMapper.treeToValue(canonicalObjectMapper.readTree(jsonColumn), PaymentIntentDetailResponse.class);
+    }
+
+    @Benchmark
+    public byte[] binaryWrite() throws Exception {
+        return codecs.encode(response);
+    }
+
+    @Benchmark
+    public PaymentIntentDetailResponse binaryReplay() throws Exception {
+        return codecs.decode(snapshot, PaymentIntentDetailResponse.class);
+    }
+}
@@ -0,0 +1,34 @@
+package com.ssafy.keeping.domain.notification.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+
+/**
+ * SSE 재연결 시 유실 이벤트 조회 (EmitterRepository.findAllEventCacheStartWithByReceiver)
+ * - cached: 노드의 이벤트 캐시 크기, 수신자 1명당 이벤트 10건
+ */
+@State(Scope.Benchmark)
+public class EmitterRepositoryBenchmark {
+
+    @Param({"1000", "100000"})
+    int cached;
+
+    EmitterRepository repository;
+    long receiverId;
+
+    @Setup
+    public void setUp() {
+        repository = new EmitterRepository();
+        for (int i = 0; i < cached; i++) {
+            long id = i / 10;
+            repository.saveEventCache("customer-" + id + "_" + (1_700_000_000_000L + i), "event-" + i);
+        }
+        receiverId = cached / 20;
+    }
+
+    @Benchmark
+    public Map<String, Object> findByReceiver() {
+        return repository.findAllEventCacheStartWithByReceiver("customer", receiverId);
+    }
+}
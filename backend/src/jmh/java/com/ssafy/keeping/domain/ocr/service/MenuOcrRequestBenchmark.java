@@ -0,0 +1,107 @@
+package com.ssafy.keeping.domain.ocr.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keeping.global.monitoring.ExternalApiMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 메뉴 OCR 요청 바디 만들기 비용 (gc.alloc.rate.norm = 호출당 힙 할당량)
+ * - 샘플: exec/scenario 의 앱 화면 이미지 (-Dmenu-ocr.samples=<디렉터리> 로 변경)
+ * - legacy: 원본 전체 → base64 문자열 → data URL 문자열 → Map → Jackson 직렬화 (이전 MenuOcrService)
+ * - streamed: MenuImageDownscaler 축소 후 바디 버퍼에 바로 base64 기록
+ *   (운영은 Netty 풀 버퍼라 힙 밖이지만 여기서는 힙 버퍼로 측정 → 바디 크기까지 할당량에 포함)
+ * - 1회 호출 = 샘플 전체 1바퀴, 이미지별 크기는 setUp 에서 출력
+ */
+@State(Scope.Benchmark)
+public class MenuOcrRequestBenchmark {
+
+    ObjectMapper om;
+    MenuOcrService service;
+    List<byte[]> samples;
+    DefaultDataBufferFactory bufferFactory;
+
+    @Setup
+    public void setUp() throws Exception {
+        om = new ObjectMapper();
+        service = new MenuOcrService(om, new ExternalApiMetrics(new SimpleMeterRegistry()),
+                "bench-key", "http://localhost:1/v1/chat/completions", 60_000, 4, 10_000, 2048, 768, 0.85f);
+        bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+        Path dir = Paths.get(System.getProperty("menu-ocr.samples", "../exec/scenario/owner"));
+        samples = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path p : files.filter(f -> f.toString().matches("(?i).*\\.(jpe?g|png)$")).sorted().toList()) {
+                byte[] bytes = Files.readAllBytes(p);
+                samples.add(bytes);
+                MenuImageDownscaler.Prepared prepared = prepare(bytes);
+                System.out.printf("%n[menu-ocr sample] %s original=%dB sent=%dB body legacy=%dB streamed=%dB",
+                        p.getFileName(), bytes.length, prepared.length(),
+                        legacyBody(bytes).length, service.bodyLength(prepared));
+            }
+        }
+        if (samples.isEmpty()) {
+            throw new IllegalStateException("샘플 이미지 없음: " + dir.toAbsolutePath());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.close();
+    }
+
+    @Benchmark
+    public long legacy() throws Exception {
+        long total = 0;
+        for (byte[] bytes : samples) {
+            total += legacyBody(bytes).length;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long streamed() throws Exception {
+        long total = 0;
+        for (byte[] bytes : samples) {
+            MenuImageDownscaler.Prepared image = prepare(bytes);
+            DataBuffer body = service.writeBody(bufferFactory, image, service.bodyLength(image));
+            total += body.readableByteCount();
+            DataBufferUtils.release(body);
+        }
+        return total;
+    }
+
+    private MenuImageDownscaler.Prepared prepare(byte[] bytes) throws Exception {
+        return MenuImageDownscaler.prepare(() -> new ByteArrayInputStream(bytes), "image/jpeg", 2048, 768, 0.85f);
+    }
+
+    private byte[] legacyBody(byte[] bytes) throws Exception {
+        String dataUrl = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(bytes);
+        Map<String, Object> body = Map.of(
+                "model", "gpt-4o",
+                "temperature", 0,
+                "response_format", Map.of("type", "json_object"),
+                "messages", List.of(
+                        Map.of("role", "system", "content", "system prompt"),
+                        Map.of("role", "user", "content", List.of(
+                                Map.of("type", "text", "text", "user prompt"),
+                                Map.of("type", "image_url", "image_url", Map.of("url", dataUrl))
+                        ))
+                )
+        );
+        return om.writeValueAsBytes(body);
+    }
+}
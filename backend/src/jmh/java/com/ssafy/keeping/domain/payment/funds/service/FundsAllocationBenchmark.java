@@ -0,0 +1,41 @@
+package com.ssafy.keeping.domain.payment.funds.service;
+
+import com.ssafy.keeping.domain.wallet.model.WalletStoreLot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결제 승인 시 로트 FIFO 배분 (FundsService.allocateFifo)
+ * - 차감은 항상 성공한다고 보고 배분 루프 자체의 비용만 측정 (DB 왕복 제외)
+ * - lots: 지갑 · 가게별 사용 가능 로트 수, 결제 금액은 전체 잔액의 절반
+ */
+@State(Scope.Benchmark)
+public class FundsAllocationBenchmark {
+
+    @Param({"4", "64"})
+    int lots;
+
+    List<WalletStoreLot> spendable;
+    long amount;
+
+    @Setup
+    public void setUp() {
+        spendable = new ArrayList<>();
+        long total = 0;
+        for (int i = 0; i < lots; i++) {
+            long remaining = 1_000L + (i % 5) * 500L;
+            spendable.add(WalletStoreLot.builder().lotId(1_000L + i).amountTotal(remaining).amountRemaining(remaining).build());
+            total += remaining;
+        }
+        amount = total / 2;
+    }
+
+    @Benchmark
+    public List<FundsService.LotUse> allocateFifo() {
+        List<FundsService.LotUse> consumed = new ArrayList<>();
+        FundsService.allocateFifo(spendable, amount, consumed, (lotId, use) -> 1);
+        return consumed;
+    }
+}
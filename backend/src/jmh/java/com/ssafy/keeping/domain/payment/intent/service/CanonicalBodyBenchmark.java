@@ -0,0 +1,102 @@
+package com.ssafy.keeping.domain.payment.intent.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keeping.domain.idempotency.service.IdempotencyService;
+import com.ssafy.keeping.domain.payment.intent.canonical.CanonicalApprove;
+import com.ssafy.keeping.domain.payment.intent.canonical.CanonicalInitiate;
+import com.ssafy.keeping.domain.payment.intent.constant.PaymentStatus;
+import com.ssafy.keeping.domain.payment.intent.dto.ApproveRequest;
+import com.ssafy.keeping.domain.payment.intent.dto.PaymentInitiateItemDto;
+import com.ssafy.keeping.domain.payment.intent.dto.PaymentInitiateRequest;
+import com.ssafy.keeping.domain.payment.intent.dto.PaymentIntentDetailResponse;
+import com.ssafy.keeping.domain.payment.intent.dto.PaymentIntentItemView;
+import com.ssafy.keeping.global.config.CanonicalJsonConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 결제 요청 멱등 처리의 CPU 구간
+ * - initiateBodyHash: 주문 항목 정렬 + 정규 JSON + SHA-256 을 CanonicalBodyHasher 로 스트리밍 (initiate 요청마다 1회)
+ * - approveBodyHash: PIN 검증/정규화 + SHA-256 (approve 요청마다 1회)
+ * - legacy*: 이전 방식(캔노니컬 DTO → ObjectMapper 문자열 → 매번 새 MessageDigest) 비교용
+ * - snapshot: 응답 DTO → JsonNode (멱등 완료 기록마다 1회)
+ * - 호출당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 확인 (스트리밍 경로는 결과 32바이트 수준)
+ */
+@State(Scope.Benchmark)
+public class CanonicalBodyBenchmark {
+
+    @Param({"3", "20"})
+    int items;
+
+    ObjectMapper canonicalObjectMapper;
+    PaymentInitiateRequest request;
+    ApproveRequest approveRequest;
+    PaymentIntentDetailResponse response;
+
+    @Setup
+    public void setUp() {
+        canonicalObjectMapper = new CanonicalJsonConfig().canonicalObjectMapper();
+
+        List<PaymentInitiateItemDto> orderItems = new ArrayList<>();
+        List<PaymentIntentItemView> views = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            long menuId = 10_000L + (i * 7919L) % 1000; // 정렬이 일어나도록 섞인 순서
+            orderItems.add(PaymentInitiateItemDto.builder().menuId(menuId).quantity(1 + i % 3).build());
+            views.add(PaymentIntentItemView.builder()
+                    .menuId(menuId).name("메뉴" + i).unitPrice(4_500L).quantity(1 + i % 3).lineTotal(4_500L * (1 + i % 3))
+                    .build());
+        }
+        request = PaymentInitiateRequest.builder().storeId(12_345L).orderItems(orderItems).build();
+        approveRequest = canonicalObjectMapper.convertValue(Map.of("pin", "123456"), ApproveRequest.class);
+        response = PaymentIntentDetailResponse.builder()
+                .intentId(UUID.randomUUID().toString()).storeId(12_345L).customerId(12L).amount(54_000L)
+                .status(PaymentStatus.APPROVED)
+                .createdAt("2025-09-01T12:00:00+09:00").expiresAt("2025-09-01T12:03:00+09:00")
+                .approvedAt("2025-09-01T12:00:30+09:00")
+                .items(views)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] initiateBodyHash() {
+        return PaymentIntentService.initiateBodyHash(request);
+    }
+
+    @Benchmark
+    public byte[] legacyInitiateBodyHash() throws Exception {
+        List<CanonicalInitiate.Item> normItems = new ArrayList<>();
+        for (PaymentInitiateItemDto it : request.getOrderItems()) {
+            normItems.add(CanonicalInitiate.Item.builder().menuId(it.getMenuId()).quantity(it.getQuantity()).build());
+        }
+        normItems.sort(Comparator.comparing(CanonicalInitiate.Item::getMenuId)
+                .thenComparingInt(CanonicalInitiate.Item::getQuantity));
+        CanonicalInitiate canonical = CanonicalInitiate.builder().storeId(request.getStoreId()).items(normItems).build();
+        return IdempotencyService.sha256(canonicalObjectMapper.writeValueAsString(canonical));
+    }
+
+    @Benchmark
+    public byte[] approveBodyHash() {
+        return PaymentIntentService.approveBodyHash(approveRequest);
+    }
+
+    @Benchmark
+    public byte[] legacyApproveBodyHash() throws Exception {
+        String normalized = approveRequest.getPin().replaceAll("\\s+", "");
+        if (!normalized.matches("\\d{6}")) {
+            throw new IllegalStateException();
+        }
+        CanonicalApprove canonical = CanonicalApprove.builder().pin(normalized).build();
+        return IdempotencyService.sha256(canonicalObjectMapper.writeValueAsString(canonical));
+    }
+
+    @Benchmark
+    public JsonNode snapshot() {
+        return canonicalObjectMapper.valueToTree(response);
+    }
+}
@@ -32,6 +32,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final static String AUTHORIZATION_HEADER = "Authorization";
     private final static String BEARER_PREFIX = "Bearer";
+    private final static String BLACKLIST_PREFIX = "auth:blacklist:";
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -39,8 +40,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
 
             if(StringUtils.hasText(jwt) && jwtProvider.validateToken(jwt)) {
-                // 블랙리스트 검증
-                if(redis.hasKey("auth:blacklist:" + jwt)) {
+                // 블랙리스트 검증 (요청마다 EXISTS 1회, 타임아웃/연결 끊김이면 예외 → 인증하지 않음)
+                if(Boolean.TRUE.equals(redis.hasKey(BLACKLIST_PREFIX + jwt))) {
                     throw new CustomException(ErrorCode.BLACKLIST_TOKEN);
                 }
 
@@ -12,6 +12,7 @@ import com.ssafy.keeping.domain.user.owner.model.Owner;
 import com.ssafy.keeping.domain.user.owner.repository.OwnerRepository;
 import com.ssafy.keeping.domain.user.customer.dto.CustomerRegisterResponse;
 import com.ssafy.keeping.domain.user.customer.dto.SignupCustomerResponse;
+import com.ssafy.keeping.domain.otp.session.OtpStateStore;
 import com.ssafy.keeping.domain.otp.session.RegSession;
 import com.ssafy.keeping.domain.otp.session.RegSessionStore;
 import com.ssafy.keeping.domain.otp.session.RegStep;
@@ -39,11 +40,11 @@ public class AuthService {
     private final CustomerRepository customerRepository;
     private final OwnerRepository ownerRepository;
     private final RegSessionStore sessionStore;
+    private final OtpStateStore otpStateStore;
     private final TokenService tokenService;
     private final CookieUtil cookieUtil;
 
     private final String SIGN_UP_INFO_KEY = "signup:info:";
-    private final String OTP_KEY_PREFIX = "otp:info:";
 
     public UserRole extractRoleFromState(String state) {
         // 세션에서 role 가져오기
@@ -112,50 +113,35 @@ public class AuthService {
     }
 
     // otp 입력 후 합치기
-    public void attachOtpInfo(String regSessionId) {
-        String otpKey = OTP_KEY_PREFIX + regSessionId;
-        String otpValue = redis.opsForValue().get(otpKey);
-
-        RegSession regSession = new RegSession();
-        if(otpValue != null) {
-            try {
-                regSession = om.readValue(otpValue, RegSession.class);
-
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
+    /**
+     * OTP 검증이 끝난 세션을 가입 정보에 합침
+     * - 가입 정보 조회 1회 + (가입 정보 저장, OTP 세션 삭제) 파이프라인 1회
+     */
+    public void attachOtpInfo(String regSessionId, RegSession regSession) {
+        otpStateStore.promote(regSessionId, SIGN_UP_INFO_KEY + regSessionId, Duration.ofMinutes(15), signUpValue -> {
+            Map<String, Object> map = new HashMap<>();
+
+            if(signUpValue != null) {
+                try {
+                    map = om.readValue(signUpValue, Map.class);
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException(e); // 수정 필요
+                }
             }
-        } else {
-            System.out.println("[ATTACH OTP] otpValue is null!");
-        }
-
-        String signUpKey = SIGN_UP_INFO_KEY + regSessionId;
-        String signUpValue = redis.opsForValue().get(signUpKey);
-
 
-        Map<String, Object> map = new HashMap<>();
+            map.put("name", regSession.getName());
+            map.put("birth", regSession.getBirth());
+            map.put("phoneNumber", regSession.getPhoneNumber());
+            map.put("regStep", RegStep.PHONE_VERIFIED);
+            map.put("phoneVerifiedAt", regSession.getPhoneVerifiedAt());
+            map.put("gender", regSession.getGender().name());
 
-        if(signUpValue != null) {
             try {
-                map = om.readValue(signUpValue, Map.class);
+                return om.writeValueAsString(map);
             } catch (JsonProcessingException e) {
-                throw new RuntimeException(e); // 수정 필요
+                throw new RuntimeException(e);
             }
-        }
-
-        map.put("name", regSession.getName());
-        map.put("birth", regSession.getBirth());
-        map.put("phoneNumber", regSession.getPhoneNumber());
-        map.put("regStep", RegStep.PHONE_VERIFIED);
-        map.put("phoneVerifiedAt", regSession.getPhoneVerifiedAt());
-        map.put("gender", regSession.getGender().name());
-
-
-        try {
-            String finalValue = om.writeValueAsString(map);
-            redis.opsForValue().set(signUpKey, finalValue, Duration.ofMinutes(15));
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+        });
     }
 
     public PrefillResponse prefillInfo(String regSessionId) {
@@ -1,8 +1,5 @@
 package com.ssafy.keeping.domain.charge.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ssafy.keeping.domain.charge.canonical.CanonicalPrepayment;
 import com.ssafy.keeping.domain.charge.dto.request.PrepaymentRequestDto;
 import com.ssafy.keeping.domain.charge.dto.response.PrepaymentResponseDto;
 import com.ssafy.keeping.domain.charge.dto.ssafyapi.response.SsafyCardPaymentResponseDto;
@@ -14,10 +11,15 @@ import com.ssafy.keeping.domain.idempotency.dto.IdemBegin;
 import com.ssafy.keeping.domain.idempotency.model.IdempotencyKey;
 import com.ssafy.keeping.domain.idempotency.model.IdempotentResult;
 import com.ssafy.keeping.domain.idempotency.repository.IdempotencyKeyRepository;
+import com.ssafy.keeping.domain.idempotency.service.CanonicalBodyHasher;
 import com.ssafy.keeping.domain.idempotency.service.IdempotencyService;
+import com.ssafy.keeping.domain.idempotency.service.ResponseSnapshotCodecs;
 import com.ssafy.keeping.domain.charge.model.SettlementTask;
 import com.ssafy.keeping.domain.charge.repository.SettlementTaskRepository;
+import com.ssafy.keeping.domain.user.customer.constant.OnboardingStatus;
 import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.customer.model.CustomerOnboarding;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerOnboardingRepository;
 import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
 import com.ssafy.keeping.domain.payment.transactions.constant.TransactionType;
 import com.ssafy.keeping.domain.store.model.Store;
@@ -39,13 +41,11 @@ import com.ssafy.keeping.global.exception.CustomException;
 import com.ssafy.keeping.global.exception.constants.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -59,6 +59,7 @@ public class PrepaymentService {
 
     private final SsafyFinanceApiService ssafyFinanceApiService;
     private final CustomerRepository customerRepository;
+    private final CustomerOnboardingRepository customerOnboardingRepository;
     private final StoreRepository storeRepository;
     private final WalletRepository walletRepository;
     private final TransactionRepository transactionRepository;
@@ -70,12 +71,8 @@ public class PrepaymentService {
 
     private final IdempotencyKeyRepository idempotencyKeyRepository;
     private final IdempotencyService idempotencyService;
-    @Qualifier("canonicalObjectMapper")
-    private final ObjectMapper canonicalObjectMapper;
+    private final ResponseSnapshotCodecs snapshotCodecs;
 
-    private final ObjectMapper objectMapper;
-
-    // ObjectMapper : 자바객체 -> JSON / JSON -> 자바객체
     /**
      * 선결제 처리 (멱등성 적용)
      * - 멱등 스코프: (actorType=CUSTOMER, actorId=userId, path=/stores/{storeId}/prepayment, key=Idempotency-Key)
@@ -92,10 +89,11 @@ public class PrepaymentService {
         if (idempotencyKeyHeader == null || idempotencyKeyHeader.isBlank()) {
             throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REQUIRED);
         }
+        // 가입 후 계좌/카드 준비가 끝나지 않은 고객 (멱등 키를 선점하기 전에 거절)
+        requireOnboardingCompleted(customerId);
 
         // 멱등 바디 정규화 → SHA-256
-        String canonicalBody = canonicalizeRequestBody(requestDto);
-        byte[] bodyHash = IdempotencyService.sha256(canonicalBody); // 암호화
+        byte[] bodyHash = requestBodyHash(requestDto); // 정규화 + 암호화
         // sha256 : 해시 암호화의 알고리즘
 
         // 멱등 선점 또는 로드
@@ -113,10 +111,8 @@ public class PrepaymentService {
 
         if (slot.getStatus() == IdemStatus.DONE) {
             // 스냅샷이 있으면 그대로, 없으면 리소스 재조회해서 응답 구성
-            PrepaymentResponseDto replay;
-            if (slot.getResponseJson() != null) { // DONE 인데, 응답 결과가 있다면 반환
-                replay = parseSnapshot(slot.getResponseJson().toString());
-            } else {
+            PrepaymentResponseDto replay = parseSnapshot(slot);
+            if (replay == null) { // DONE 인데, 응답 결과가 없다면
                 throw new CustomException(ErrorCode.IDEMPOTENCY_REPLAY_UNAVAILABLE);
             }
             return IdempotentResult.okReplay(replay);
@@ -180,6 +176,19 @@ public class PrepaymentService {
         return IdempotentResult.created(response);
     }
 
+    /**
+     * 온보딩 행이 있는데 COMPLETED 가 아니면 결제 불가 (카드 미발급 / 초기 입금 전)
+     * - 온보딩 도입 전 가입 고객은 행이 없으므로 그대로 통과
+     */
+    private void requireOnboardingCompleted(Long customerId) {
+        OnboardingStatus status = customerOnboardingRepository.findById(customerId)
+                .map(CustomerOnboarding::getStatus)
+                .orElse(OnboardingStatus.COMPLETED);
+        if (status != OnboardingStatus.COMPLETED) {
+            throw new CustomException(ErrorCode.ONBOARDING_NOT_COMPLETED);
+        }
+    }
+
     /**
      * 개인 지갑 조회 또는 생성
      */
@@ -297,30 +306,24 @@ public class PrepaymentService {
     }
 
     /**
-     * 요청 바디 정규화 (키 정렬 + 공백 제거 등: ObjectMapper 설정에 따름)
+     * 요청 바디 정규화 + SHA-256 (CanonicalPrepayment 직렬화와 같은 바이트, null 필드는 생략)
      */
-    private String canonicalizeRequestBody(PrepaymentRequestDto requestDto) {
-        CanonicalPrepayment canonical = CanonicalPrepayment.builder()
-                .cardNo(requestDto.getCardNo())
-                .cvc(requestDto.getCvc())
-                .paymentBalance(requestDto.getPaymentBalance())
-                .build();
-
-        try {
-            return canonicalObjectMapper.writeValueAsString(canonical);
-            // JSON 문자열로 변환
-        } catch (JsonProcessingException e) {
-            throw new CustomException(ErrorCode.REQUEST_CANONICALIZE_FAILED);
-        }
+    static byte[] requestBodyHash(PrepaymentRequestDto requestDto) {
+        return CanonicalBodyHasher.start()
+                .beginObject()
+                .field("cardNo", requestDto.getCardNo())
+                .field("cvc", requestDto.getCvc())
+                .field("paymentBalance", requestDto.getPaymentBalance())
+                .endObject()
+                .digest();
     }
 
     /**
-     * 스냅샷 JSON → DTO
+     * 응답 스냅샷 → DTO (스냅샷 없으면 null)
      */
-    private PrepaymentResponseDto parseSnapshot(String json) {
+    private PrepaymentResponseDto parseSnapshot(IdempotencyKey slot) {
         try {
-            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
-            return objectMapper.readValue(bytes, PrepaymentResponseDto.class);
+            return snapshotCodecs.readSnapshot(slot, PrepaymentResponseDto.class);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.RESPONSE_SNAPSHOT_PARSE_FAILED);
         }
@@ -123,6 +123,10 @@ public class SsafyFinanceApiService {
     /**
      * 기관거래고유번호 생성 (YYYYMMDDHHMMSS + 6자리 일련번호)
      */
+    public String newInstitutionTransactionUniqueNo() {
+        return generateInstitutionTransactionUniqueNo(LocalDateTime.now());
+    }
+
     private String generateInstitutionTransactionUniqueNo(LocalDateTime dateTime) {
         String dateTimeStr = dateTime.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
         long counter = transactionCounter.incrementAndGet() % 1000000; // 6자리로 제한
@@ -277,13 +281,18 @@ public class SsafyFinanceApiService {
 
     // 공통 헤더 생성
     public SsafyApiHeaderDto createCommonHeader(String userKey, String apiName) {
+        return createCommonHeader(userKey, apiName, newInstitutionTransactionUniqueNo());
+    }
+
+    /**
+     * 기관거래고유번호를 지정한 공통 헤더 (미리 저장해 둔 번호로 재시도 → 같은 요청으로 식별)
+     */
+    public SsafyApiHeaderDto createCommonHeader(String userKey, String apiName, String institutionTransactionUniqueNo) {
         LocalDateTime now = LocalDateTime.now();
         String transmissionDate = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
         String transmissionTime = now.format(DateTimeFormatter.ofPattern("HHmmss"));
         log.debug("현재 시각 : {}", transmissionTime);
 
-        String institutionTransactionUniqueNo = generateInstitutionTransactionUniqueNo(now);
-
         return SsafyApiHeaderDto.createCommonHeaderDto(
                 transmissionDate,
                 transmissionTime,
@@ -343,29 +352,11 @@ public class SsafyFinanceApiService {
         // HTTP 요청 생성
         HttpEntity<SsafyCardInquiryRequestDto> requestEntity = createHttpEntity(requestDto);
 
-        // 디버그: 실제 JSON 요청 로깅
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            String jsonRequest = objectMapper.writeValueAsString(requestDto);
-            log.info("=== 실제 전송되는 JSON ===");
-            log.info("{}", jsonRequest);
-        } catch (Exception e) {
-            log.warn("JSON 변환 실패", e);
-        }
-
-        // 디버그: 요청 데이터 로깅
-        log.info("=== 카드 조회 API 요청 데이터 ===");
-        log.info("userKey: {}", userKey);
-        log.info("apiName: {}", header.getApiName());
-        log.info("transmissionDate: {}", header.getTransmissionDate());
-        log.info("transmissionTime: {}", header.getTransmissionTime());
-        log.info("institutionTransactionUniqueNo: {}", header.getInstitutionTransactionUniqueNo());
-        log.info("apiKey: {}", header.getApiKey());
-        log.info("userKey in header: {}", header.getUserKey());
-        log.info("institutionCode: {}", header.getInstitutionCode());
-        log.info("fintechAppNo: {}", header.getFintechAppNo());
-        log.info("apiServiceCode: {}", header.getApiServiceCode());
-        log.info("URL: {}", baseUrl + "/ssafy/api/v1/edu/creditCard/inquireSignUpCreditCardList");
+        // 디버그: 요청 헤더 로깅 (apiKey/userKey 는 남기지 않음, 요청마다 JSON 직렬화하지 않음)
+        log.debug("카드 조회 API 헤더 - apiName: {}, transmissionDate: {}, transmissionTime: {}, institutionTransactionUniqueNo: {}, institutionCode: {}, fintechAppNo: {}, apiServiceCode: {}",
+                header.getApiName(), header.getTransmissionDate(), header.getTransmissionTime(),
+                header.getInstitutionTransactionUniqueNo(), header.getInstitutionCode(),
+                header.getFintechAppNo(), header.getApiServiceCode());
 
         // API 호출
         String url = baseUrl + "/ssafy/api/v1/edu/creditCard/inquireSignUpCreditCardList";
@@ -5,11 +5,11 @@ import com.ssafy.keeping.domain.event.dto.CancelEvent;
 import com.ssafy.keeping.domain.event.dto.PaymentEvent;
 import com.ssafy.keeping.domain.notification.entity.NotificationType;
 import com.ssafy.keeping.domain.notification.service.FcmService;
+import com.ssafy.keeping.global.redis.RedisPipeline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
 import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
@@ -19,17 +19,17 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AnomalyDetectionConsumer {
 
-    private final StringRedisTemplate redisTemplate;
+    private final RedisPipeline redisPipeline;
     private final ObjectMapper objectMapper;
     private final FcmService fcmService;
 
@@ -39,6 +39,7 @@ public class AnomalyDetectionConsumer {
 
     private static final String PAYMENT_KEY_PREFIX = "anomaly:payment:";
     private static final String CANCEL_KEY_PREFIX = "anomaly:cancel:";
+    private static final Duration COUNTER_TTL = Duration.ofHours(24);
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     /**
@@ -60,7 +61,7 @@ public class AnomalyDetectionConsumer {
             Acknowledgment acknowledgment) {
 
         try {
-            log.info("이상거래 탐지 이벤트 수신 - 토픽: {}, 파티션: {}, 오프셋: {}, 키: {}",
+            log.debug("이상거래 탐지 이벤트 수신 - 토픽: {}, 파티션: {}, 오프셋: {}, 키: {}",
                     topic, partition, offset, record.key());
 
             Object eventData = record.value();
@@ -82,7 +83,7 @@ public class AnomalyDetectionConsumer {
             }
 
             acknowledgment.acknowledge();
-            log.info("이상거래 탐지 이벤트 처리 완료 - 오프셋: {}", offset);
+            log.debug("이상거래 탐지 이벤트 처리 완료 - 오프셋: {}", offset);
 
         } catch (Exception e) {
             log.error("이상거래 탐지 이벤트 처리 중 오류 - 토픽: {}, 오프셋: {}", topic, offset, e);
@@ -100,25 +101,20 @@ public class AnomalyDetectionConsumer {
             String today = LocalDate.now().format(DATE_FORMATTER);
             String redisKey = PAYMENT_KEY_PREFIX + event.getCustomerId() + ":" + today;
 
-            log.info("Redis 키 생성: {}", redisKey);
+            log.debug("Redis 키 생성: {}", redisKey);
 
-            // Redis에서 오늘 결제 횟수 증가
-            Long currentCount = redisTemplate.opsForValue().increment(redisKey);
+            // Redis에서 오늘 결제 횟수 증가 (첫 증가 시 TTL 24시간, 왕복 1회)
+            long currentCount = redisPipeline.incrementWithTtl(redisKey, COUNTER_TTL);
 
-            log.info("Redis INCR 실행 완료: {} = {}", redisKey, currentCount);
+            log.debug("Redis INCR 실행 완료: {} = {}", redisKey, currentCount);
 
-            // 첫 번째 증가인 경우 TTL 설정 (24시간)
-            if (currentCount == 1) {
-                redisTemplate.expire(redisKey, 24, TimeUnit.HOURS);
-            }
-
-            log.info("결제 이상거래 탐지 - 고객ID: {}, 오늘 결제 횟수: {}/{}",
+            log.debug("결제 이상거래 탐지 - 고객ID: {}, 오늘 결제 횟수: {}/{}",
                     event.getCustomerId(), currentCount, dailyPaymentThreshold);
 
             // 임계치 초과 시 직접 FCM 알림 전송 (첫 번째 초과 시점에만)
             if (currentCount == dailyPaymentThreshold + 1) {
                 sendAnomalyFcmNotification(event.getCustomerId(), "EXCESSIVE_PAYMENT",
-                        currentCount.intValue(), dailyPaymentThreshold);
+                        (int) currentCount, dailyPaymentThreshold);
             }
 
         } catch (Exception e) {
@@ -137,21 +133,16 @@ public class AnomalyDetectionConsumer {
             String today = LocalDate.now().format(DATE_FORMATTER);
             String redisKey = CANCEL_KEY_PREFIX + event.getCustomerId() + ":" + today;
 
-            // Redis에서 오늘 취소 횟수 증가
-            Long currentCount = redisTemplate.opsForValue().increment(redisKey);
-
-            // 첫 번째 증가인 경우 TTL 설정 (24시간)
-            if (currentCount == 1) {
-                redisTemplate.expire(redisKey, 24, TimeUnit.HOURS);
-            }
+            // Redis에서 오늘 취소 횟수 증가 (첫 증가 시 TTL 24시간, 왕복 1회)
+            long currentCount = redisPipeline.incrementWithTtl(redisKey, COUNTER_TTL);
 
-            log.info("취소 이상거래 탐지 - 고객ID: {}, 오늘 취소 횟수: {}/{}",
+            log.debug("취소 이상거래 탐지 - 고객ID: {}, 오늘 취소 횟수: {}/{}",
                     event.getCustomerId(), currentCount, dailyCancelThreshold);
 
             // 임계치 초과 시 직접 FCM 알림 전송 (첫 번째 초과 시점에만)
             if (currentCount == dailyCancelThreshold + 1) {
                 sendAnomalyFcmNotification(event.getCustomerId(), "EXCESSIVE_CANCEL",
-                        currentCount.intValue(), dailyCancelThreshold);
+                        (int) currentCount, dailyCancelThreshold);
             }
 
         } catch (Exception e) {
@@ -52,7 +52,7 @@ public class NotificationEventConsumer {
             Acknowledgment acknowledgment) {
 
         try {
-            log.info("알림 이벤트 수신 - 토픽: {}, 파티션: {}, 오프셋: {}, 키: {}",
+            log.debug("알림 이벤트 수신 - 토픽: {}, 파티션: {}, 오프셋: {}, 키: {}",
                     topic, partition, offset, record.key());
 
             Object eventData = record.value();
@@ -74,7 +74,7 @@ public class NotificationEventConsumer {
 
             // 수동으로 commit
             acknowledgment.acknowledge(); // 메시지 처리가 완료되었으니 kafka에게 알려줘야지~
-            log.info("알림 이벤트 처리 완료 - 오프셋: {}", offset);
+            log.debug("알림 이벤트 처리 완료 - 오프셋: {}", offset);
 
         } catch (Exception e) {
             log.error("알림 이벤트 처리 중 오류 - 토픽: {}, 오프셋: {}", topic, offset, e);
@@ -89,7 +89,7 @@ public class NotificationEventConsumer {
         try {
             PaymentEvent event = objectMapper.convertValue(eventMap, PaymentEvent.class);
 
-            log.info("결제 알림 이벤트 처리 - 고객: {}, 점주ID: {}, 금액: {}",
+            log.debug("결제 알림 이벤트 처리 - 고객: {}, 점주ID: {}, 금액: {}",
                     event.getCustomerName(), event.getOwnerId(), event.getPaymentAmount());
 
             // 점주에게 알림 전송 (기존 NotificationService 활용)
@@ -102,7 +102,7 @@ public class NotificationEventConsumer {
                     notificationContent
             );
 
-            log.info("결제 알림 전송 완료 - 점주ID: {}", event.getOwnerId());
+            log.debug("결제 알림 전송 완료 - 점주ID: {}", event.getOwnerId());
 
         } catch (Exception e) {
             log.error("결제 이벤트 처리 중 오류", e);
@@ -120,7 +120,7 @@ public class NotificationEventConsumer {
         try {
             CancelEvent event = objectMapper.convertValue(eventMap, CancelEvent.class);
 
-            log.info("취소 알림 이벤트 처리 - 고객: {}, 점주ID: {}, 취소금액: {}",
+            log.debug("취소 알림 이벤트 처리 - 고객: {}, 점주ID: {}, 취소금액: {}",
                     event.getCustomerName(), event.getOwnerId(), event.getCancelAmount());
 
             // 점주에게 취소 알림 전송
@@ -133,7 +133,7 @@ public class NotificationEventConsumer {
                     notificationContent
             );
 
-            log.info("취소 알림 전송 완료 - 점주ID: {}", event.getOwnerId());
+            log.debug("취소 알림 전송 완료 - 점주ID: {}", event.getOwnerId());
 
         } catch (Exception e) {
             log.error("취소 이벤트 처리 중 오류", e);
@@ -27,7 +27,7 @@ public class KafkaEventProducer {
     public void publishPaymentEvent(PaymentEvent event) {
         try {
             event.setEventType("PAYMENT");
-            log.info("카드 결제 이벤트 발행 시작 - 고객ID: {}, 거래ID: {}, 결제금액: {}",
+            log.debug("카드 결제 이벤트 발행 시작 - 고객ID: {}, 거래ID: {}, 결제금액: {}",
                     event.getCustomerId(), event.getTransactionId(), event.getPaymentAmount());
 
             // 알림용 토픽으로 발행
@@ -37,7 +37,7 @@ public class KafkaEventProducer {
 //
             notificationResult.whenComplete((result, ex) -> { // 해당 토픽에 정상적으로 가면
                 if (ex == null) {
-                    log.info("결제 알림 이벤트 발행 성공 - 토픽: {}, 오프셋: {}, 파티션: {}",
+                    log.debug("결제 알림 이벤트 발행 성공 - 토픽: {}, 오프셋: {}, 파티션: {}",
                             notificationTopic, result.getRecordMetadata().offset(),
                             result.getRecordMetadata().partition());
                 } else {
@@ -52,7 +52,7 @@ public class KafkaEventProducer {
 
             anomalyResult.whenComplete((result, ex) -> {
                 if (ex == null) {
-                    log.info("결제 이상거래탐지 이벤트 발행 성공 - 토픽: {}, 오프셋: {}",
+                    log.debug("결제 이상거래탐지 이벤트 발행 성공 - 토픽: {}, 오프셋: {}",
                             anomalyDetectionTopic, result.getRecordMetadata().offset());
                 } else {
                     log.error("결제 이상거래탐지 이벤트 발행 실패 - 토픽: {}, 고객ID: {}",
@@ -71,7 +71,7 @@ public class KafkaEventProducer {
     public void publishCancelEvent(CancelEvent event) {
         try {
             event.setEventType("CANCEL");
-            log.info("카드 취소 이벤트 발행 시작 - 고객ID: {}, 거래번호: {}, 취소금액: {}",
+            log.debug("카드 취소 이벤트 발행 시작 - 고객ID: {}, 거래번호: {}, 취소금액: {}",
                     event.getCustomerId(), event.getTransactionUniqueNo(), event.getCancelAmount());
 
             // 알림용 토픽으로 발행 (점주 알림)
@@ -80,7 +80,7 @@ public class KafkaEventProducer {
 
             notificationResult.whenComplete((result, ex) -> {
                 if (ex == null) {
-                    log.info("취소 알림 이벤트 발행 성공 - 토픽: {}, 오프셋: {}, 파티션: {}",
+                    log.debug("취소 알림 이벤트 발행 성공 - 토픽: {}, 오프셋: {}, 파티션: {}",
                             notificationTopic, result.getRecordMetadata().offset(),
                             result.getRecordMetadata().partition());
                 } else {
@@ -95,7 +95,7 @@ public class KafkaEventProducer {
 
             anomalyResult.whenComplete((result, ex) -> {
                 if (ex == null) {
-                    log.info("취소 이상거래탐지 이벤트 발행 성공 - 토픽: {}, 오프셋: {}",
+                    log.debug("취소 이상거래탐지 이벤트 발행 성공 - 토픽: {}, 오프셋: {}",
                             anomalyDetectionTopic, result.getRecordMetadata().offset());
                 } else {
                     log.error("취소 이상거래탐지 이벤트 발행 실패 - 토픽: {}, 고객ID: {}",
@@ -3,6 +3,7 @@ package com.ssafy.keeping.domain.group.contoller;
 import com.ssafy.keeping.domain.group.constant.RequestStatus;
 import com.ssafy.keeping.domain.group.dto.*;
 import com.ssafy.keeping.domain.group.service.GroupService;
+import com.ssafy.keeping.domain.wallet.service.WalletTransferCoordinator;
 import com.ssafy.keeping.global.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GroupController {
     private final GroupService groupService;
+    private final WalletTransferCoordinator transferCoordinator;
 
     @PostMapping()
     public ResponseEntity<ApiResponse<GroupResponseDto>> createGroup(
@@ -123,7 +125,9 @@ public class GroupController {
             @PathVariable Long groupId,
             @Valid @RequestBody GroupExpelRequestDto req
     ) {
-        groupService.expelMember(groupId, leaderId, req.getTargetCustomerId());
+        // 공유 포인트 정산이 포함되어 잠금 충돌 시 트랜잭션 단위 재시도
+        transferCoordinator.execute("expel",
+                () -> groupService.expelMember(groupId, leaderId, req.getTargetCustomerId()));
         return ResponseEntity.ok(ApiResponse.success("모임원을 내보냈습니다.", 200, null));
     }
 
@@ -132,7 +136,8 @@ public class GroupController {
             @PathVariable Long groupId,
             @AuthenticationPrincipal Long customerId
     ) {
-        GroupLeaveResponseDto dto =groupService.leaveGroup(groupId, customerId);
+        GroupLeaveResponseDto dto = transferCoordinator.execute("leave",
+                () -> groupService.leaveGroup(groupId, customerId));
         return ResponseEntity.ok(ApiResponse.success("모임을 탈퇴했습니다.", 200, dto));
     }
 
@@ -145,7 +150,8 @@ public class GroupController {
             @PathVariable Long groupId,
             @AuthenticationPrincipal Long leaderId
     ) {
-        GroupDisbandResponseDto dto = groupService.disbandGroup(groupId, leaderId);
+        GroupDisbandResponseDto dto = transferCoordinator.execute("disband",
+                () -> groupService.disbandGroup(groupId, leaderId));
         return ResponseEntity.ok(ApiResponse.success("모임을 해체했습니다.", 200, dto));
     }
 }
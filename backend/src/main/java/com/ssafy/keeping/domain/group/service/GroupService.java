@@ -297,12 +297,10 @@ public class GroupService {
             notificationService.sendToCustomer(
                     userId, NotificationType.GROUP_JOINED, "모임 참여가 완료되었습니다.");
 
-            // 기존 멤버 전원: 새 멤버 참여 알림 (본인 제외, 스냅샷 기반)
-            memberIdsToNotify.stream()
-                    .filter(id -> !id.equals(userId))
-                    .distinct()
-                    .forEach(id -> notificationService.sendToCustomer(
-                            id, NotificationType.GROUP_JOINED, "새 멤버가 참여했습니다."));
+            // 기존 멤버 전원: 새 멤버 참여 알림 (본인 제외, 스냅샷 기반, 공유 본문 1건)
+            notificationService.sendToGroupMembers(groupId,
+                    memberIdsToNotify.stream().filter(id -> !id.equals(userId)).toList(),
+                    NotificationType.GROUP_JOINED, "새 멤버가 참여했습니다.");
         });
 
 
@@ -376,12 +374,10 @@ public class GroupService {
                     targetCustomerId, NotificationType.MEMBER_EXPELLED,
                     String.format("%s 모임에서 내보내졌습니다.", groupName)
             );
-            memberIds.forEach(id ->
-                    notificationService.sendToCustomer(
-                            id, NotificationType.MEMBER_EXPELLED,
-                            String.format("%s 모임의 모임원 %s이 내보내졌습니다.", groupName, targetName)
-                    )
-            );
+            notificationService.sendToGroupMembers(groupId,
+                    memberIds.stream().filter(id -> !id.equals(targetCustomerId)).toList(),
+                    NotificationType.MEMBER_EXPELLED,
+                    String.format("%s 모임의 모임원 %s이 내보내졌습니다.", groupName, targetName));
         });
     }
 
@@ -401,8 +397,8 @@ public class GroupService {
             notificationService.sendToCustomer(
                     customerId, NotificationType.GROUP_LEFT,
                     String.format("모임 탈퇴, %dP 환급되었습니다. 잔액 %dP", refunded, indivBalance));
-            others.forEach(id -> notificationService.sendToCustomer(
-                    id, NotificationType.GROUP_LEFT, "모임원이 탈퇴했습니다."));
+            notificationService.sendToGroupMembers(groupId, others,
+                    NotificationType.GROUP_LEFT, "모임원이 탈퇴했습니다.");
         });
 
         return new GroupLeaveResponseDto(groupId, customerId, refunded, indivBalance, LocalDateTime.now());
@@ -437,9 +433,12 @@ public class GroupService {
         Group group = groupRepository.getReferenceById(groupId);
         groupRepository.delete(group);
 
-        afterCommit(() -> refundedByMember.forEach((cid, amt) ->
-                notificationService.sendToCustomer(
-                        cid, NotificationType.GROUP_DISBANDED,
+        // 환급액이 같은 모임원끼리 공유 본문 1건
+        Map<Long, List<Long>> membersByRefund = new LinkedHashMap<>();
+        refundedByMember.forEach((cid, amt) -> membersByRefund.computeIfAbsent(amt, k -> new ArrayList<>()).add(cid));
+        afterCommit(() -> membersByRefund.forEach((amt, cids) ->
+                notificationService.sendToGroupMembers(
+                        groupId, cids, NotificationType.GROUP_DISBANDED,
                         "모임 해체. 환급 " + amt + "P 완료.")));
 
         return new GroupDisbandResponseDto(
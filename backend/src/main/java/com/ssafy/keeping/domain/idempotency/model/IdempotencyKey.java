@@ -61,7 +61,10 @@ public class IdempotencyKey {
 
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "response_json", columnDefinition = "json") // MySQL JSON 가능
-    private JsonNode responseJson; // 최초 응답 원문
+    private JsonNode responseJson; // 최초 응답 원문 (이전 형식: 읽기만, 새 기록은 response_snapshot)
+
+    @Column(name = "response_snapshot", columnDefinition = "VARBINARY(16384)")
+    private byte[] responseSnapshot; // 최초 응답 스냅샷 (ResponseSnapshotCodecs 바이너리)
 
     @Column(name = "intent_public_id", columnDefinition = "BINARY(16)")
     private UUID intentPublicId;
@@ -0,0 +1,255 @@
+package com.ssafy.keeping.domain.idempotency.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 정규화 요청 바디 SHA-256 (JSON 토큰을 중간 String / byte[] 없이 바로 다이제스트에 씀)
+ * - 출력 바이트는 canonicalObjectMapper 직렬화 결과와 같음 → 기존 멱등 키의 body_hash 와 그대로 비교 가능
+ *   (키 순서는 호출 순서, 문자열 이스케이프 / UTF-8 인코딩 / 숫자 표기는 Jackson 과 동일)
+ * - 스레드별 인스턴스(MessageDigest + 버퍼) 재사용, 호출당 할당은 결과 32바이트뿐
+ *   (가상 스레드는 요청마다 새 스레드라 재사용되지 않음 → 기존과 같은 비용)
+ *
+ * 사용: CanonicalBodyHasher.start().beginObject().field("storeId", id)...endObject().digest()
+ */
+public final class CanonicalBodyHasher {
+
+    private static final ThreadLocal<CanonicalBodyHasher> LOCAL = ThreadLocal.withInitial(CanonicalBodyHasher::new);
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
+    private static final int MAX_DEPTH = 63;
+
+    private final MessageDigest md;
+    private final byte[] buf = new byte[256];
+    private int pos;
+    private long[] scratch = new long[64];
+
+    // 깊이별 비트: 이미 값이 하나 이상 쓰였는지(쉼표 필요) / 배열인지
+    private int depth;
+    private long commaBits;
+    private long arrayBits;
+    private boolean inUse;
+
+    private CanonicalBodyHasher() {
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static CanonicalBodyHasher start() {
+        CanonicalBodyHasher h = LOCAL.get();
+        if (h.inUse) {
+            h = new CanonicalBodyHasher(); // 같은 스레드에서 계산 도중 다시 들어온 경우만 새로 만듦
+        }
+        h.inUse = true;
+        h.pos = 0;
+        h.depth = 0;
+        h.commaBits = 0;
+        h.arrayBits = 0;
+        h.md.reset();
+        return h;
+    }
+
+    /** 정렬 등에 쓰는 스레드별 작업 배열 (digest() 전까지 유효, 내용은 보장하지 않음) */
+    public long[] scratch(int length) {
+        if (scratch.length < length) {
+            scratch = new long[Math.max(length, scratch.length * 2)];
+        }
+        return scratch;
+    }
+
+    public CanonicalBodyHasher beginObject() {
+        beforeValue();
+        return open('{', false);
+    }
+
+    public CanonicalBodyHasher endObject() {
+        return close('}');
+    }
+
+    public CanonicalBodyHasher beginArray(String name) {
+        name(name);
+        return open('[', true);
+    }
+
+    public CanonicalBodyHasher endArray() {
+        return close(']');
+    }
+
+    public CanonicalBodyHasher field(String name, long value) {
+        name(name);
+        writeLong(value);
+        return this;
+    }
+
+    /** null 이면 필드 생략 (canonicalObjectMapper 의 NON_NULL) */
+    public CanonicalBodyHasher field(String name, Long value) {
+        if (value != null) {
+            field(name, value.longValue());
+        }
+        return this;
+    }
+
+    /** null 이면 필드 생략 (canonicalObjectMapper 의 NON_NULL) */
+    public CanonicalBodyHasher field(String name, String value) {
+        if (value != null) {
+            name(name);
+            writeString(value);
+        }
+        return this;
+    }
+
+    /** null 이면 null 리터럴 (ObjectNode.put 과 같은 표현) */
+    public CanonicalBodyHasher fieldOrNull(String name, Long value) {
+        if (value == null) {
+            name(name);
+            write('n');
+            write('u');
+            write('l');
+            write('l');
+            return this;
+        }
+        return field(name, value.longValue());
+    }
+
+    public byte[] digest() {
+        flush();
+        inUse = false;
+        return md.digest();
+    }
+
+    // ===== 토큰 쓰기 =====
+
+    private CanonicalBodyHasher open(char bracket, boolean array) {
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("정규화 바디 중첩이 너무 깊음");
+        }
+        write(bracket);
+        depth++;
+        long bit = 1L << depth;
+        commaBits &= ~bit;
+        arrayBits = array ? (arrayBits | bit) : (arrayBits & ~bit);
+        return this;
+    }
+
+    private CanonicalBodyHasher close(char bracket) {
+        depth--;
+        write(bracket);
+        return this;
+    }
+
+    private void name(String name) {
+        separator();
+        writeString(name);
+        write(':');
+    }
+
+    // 배열 원소 앞 쉼표 (객체 필드는 name() 에서 처리)
+    private void beforeValue() {
+        if (depth > 0 && (arrayBits & (1L << depth)) != 0) {
+            separator();
+        }
+    }
+
+    private void separator() {
+        long bit = 1L << depth;
+        if ((commaBits & bit) != 0) {
+            write(',');
+        } else {
+            commaBits |= bit;
+        }
+    }
+
+    private void writeLong(long v) {
+        if (v == Long.MIN_VALUE) {
+            writeAscii("-9223372036854775808");
+            return;
+        }
+        if (v < 0) {
+            write('-');
+            v = -v;
+        }
+        long div = 1;
+        while (div <= v / 10) {
+            div *= 10;
+        }
+        for (; div > 0; div /= 10) {
+            write((char) ('0' + (v / div) % 10));
+        }
+    }
+
+    // Jackson 기본 이스케이프: " \ 와 제어문자(0x00-0x1F)만, 그 외는 UTF-8 그대로
+    private void writeString(String s) {
+        write('"');
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    write('\\');
+                    write(c);
+                } else if (c < 0x20) {
+                    writeControl(c);
+                } else {
+                    write(c);
+                }
+            } else if (c < 0x800) {
+                writeByte(0xC0 | (c >> 6));
+                writeByte(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                writeByte(0xF0 | (cp >> 18));
+                writeByte(0x80 | ((cp >> 12) & 0x3F));
+                writeByte(0x80 | ((cp >> 6) & 0x3F));
+                writeByte(0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                write('?'); // 짝 없는 서러게이트: String.getBytes(UTF_8) 의 대체 문자와 동일
+            } else {
+                writeByte(0xE0 | (c >> 12));
+                writeByte(0x80 | ((c >> 6) & 0x3F));
+                writeByte(0x80 | (c & 0x3F));
+            }
+        }
+        write('"');
+    }
+
+    private void writeControl(char c) {
+        write('\\');
+        switch (c) {
+            case '\b' -> write('b');
+            case '\t' -> write('t');
+            case '\n' -> write('n');
+            case '\f' -> write('f');
+            case '\r' -> write('r');
+            default -> {
+                write('u');
+                write('0');
+                write('0');
+                writeByte(HEX[c >> 4]);
+                writeByte(HEX[c & 0xF]);
+            }
+        }
+    }
+
+    private void writeAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            write(s.charAt(i));
+        }
+    }
+
+    private void write(char c) {
+        writeByte(c);
+    }
+
+    private void writeByte(int b) {
+        if (pos == buf.length) {
+            flush();
+        }
+        buf[pos++] = (byte) b;
+    }
+
+    private void flush() {
+        md.update(buf, 0, pos);
+        pos = 0;
+    }
+}
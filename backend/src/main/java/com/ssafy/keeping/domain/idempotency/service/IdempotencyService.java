@@ -1,8 +1,5 @@
 package com.ssafy.keeping.domain.idempotency.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import com.ssafy.keeping.domain.idempotency.constant.IdemActorType;
 import com.ssafy.keeping.domain.idempotency.constant.IdemStatus;
 import com.ssafy.keeping.domain.idempotency.dto.IdemBegin;
@@ -11,9 +8,9 @@ import com.ssafy.keeping.domain.idempotency.repository.IdempotencyKeyRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.Clock;
@@ -28,9 +25,7 @@ public class IdempotencyService {
 
     private final IdempotencyKeyRepository idempotencyKeyRepository;
     private final Clock clock;
-
-    @Qualifier("canonicalObjectMapper")
-    private final ObjectMapper canonicalObjectMapper;
+    private final ResponseSnapshotCodecs snapshotCodecs;
 
     /**
      * 멱등키 '선점 또는 로드'
@@ -80,8 +75,7 @@ public class IdempotencyService {
         row.setHttpStatus(httpStatus);
         row.setIntentPublicId(resourcePublicId);
         try {
-            // String json = canonicalObjectMapper.writeValueAsString(responseBody); // JSON 직렬화
-            row.setResponseJson(canonicalObjectMapper.valueToTree(responseBody));
+            row.setResponseSnapshot(snapshotCodecs.encode(responseBody));
         } catch (Exception e) {
             log.warn("Response 직렬화 실패", e);
         }
@@ -93,13 +87,12 @@ public class IdempotencyService {
     public void completeStrict(IdempotencyKey row,
                                int httpStatus,
                                Object responseBody,
-                               UUID resourcePublicId) throws JsonProcessingException {
+                               UUID resourcePublicId) throws IOException {
         row.setStatus(IdemStatus.DONE);
         row.setHttpStatus(httpStatus);
         row.setIntentPublicId(resourcePublicId);
 
-        // String json = canonicalObjectMapper.writeValueAsString(responseBody); // throws 가능
-        row.setResponseJson(canonicalObjectMapper.valueToTree(responseBody));
+        row.setResponseSnapshot(snapshotCodecs.encode(responseBody)); // 직렬화 실패 / 크기 초과 시 throw
 
         idempotencyKeyRepository.save(row);
     }
@@ -109,7 +102,7 @@ public class IdempotencyService {
         row.setStatus(IdemStatus.DONE);
         row.setHttpStatus(httpStatus);
         try {
-            row.setResponseJson(canonicalObjectMapper.valueToTree(responseBody));
+            row.setResponseSnapshot(snapshotCodecs.encode(responseBody));
         } catch (Exception e) {
             log.warn("Response 직렬화 실패", e);
         }
@@ -138,7 +131,7 @@ public class IdempotencyService {
                                         UUID intentPublicId) {
         row.setStatus(IdemStatus.DONE);
         row.setHttpStatus(httpStatus);
-        row.setResponseJson(null); // 스냅샷 없음 (직렬화 실패)
+        row.setResponseSnapshot(null); // 스냅샷 없음 (직렬화 실패)
         row.setIntentPublicId(intentPublicId);
 
         idempotencyKeyRepository.save(row);
@@ -0,0 +1,19 @@
+package com.ssafy.keeping.domain.idempotency.service;
+
+import java.io.IOException;
+
+/**
+ * 멱등 응답 스냅샷 코덱 (응답 타입 1개 담당)
+ * - 빈으로 등록하면 ResponseSnapshotCodecs 가 그 타입에 기본 코덱(Smile) 대신 사용
+ * - formatId(1~127)는 스냅샷 첫 바이트에 기록됨 → 인코딩을 바꾸면 formatId 도 바꿔야 기존 스냅샷을 잘못 읽지 않음
+ */
+public interface ResponseSnapshotCodec<T> {
+
+    Class<T> type();
+
+    int formatId();
+
+    byte[] encode(T value) throws IOException;
+
+    T decode(byte[] bytes, int offset, int length) throws IOException;
+}
@@ -0,0 +1,204 @@
+package com.ssafy.keeping.domain.idempotency.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import com.ssafy.keeping.domain.idempotency.model.IdempotencyKey;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 멱등 응답 스냅샷 (idempotency_keys.response_snapshot, VARBINARY) 인코딩 / 재생
+ * - 응답 타입별 코덱 레지스트리: ResponseSnapshotCodec 빈이 있으면 그것, 없으면 타입에 묶인 Smile 코덱
+ *   (Smile: canonicalObjectMapper 와 같은 설정의 바이너리 JSON → JsonNode 트리 / JSON 문자열 단계 없이 DTO 로 바로 읽음)
+ * - 포맷: [헤더 1바이트: formatId | 압축 비트] + 본문
+ *   압축 시 본문 = [원본 길이 4바이트] + raw deflate (임계값 이상이고 실제로 줄어들 때만)
+ * - 이전 형식(response_json) 행은 readSnapshot 에서 그대로 읽음
+ */
+@Component
+public class ResponseSnapshotCodecs {
+
+    static final int FORMAT_SMILE = 1;
+    private static final int DEFLATED = 0x80;
+    private static final int DEFLATED_HEADER = 5;
+
+    /** response_snapshot 컬럼 크기 */
+    public static final int MAX_SNAPSHOT_BYTES = 16_384;
+
+    private final ObjectMapper canonicalObjectMapper;
+    private final ObjectMapper smileMapper;
+    private final int compressThresholdBytes;
+    private final Map<Class<?>, ResponseSnapshotCodec<?>> codecs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ResponseSnapshotCodecs(@Qualifier("canonicalObjectMapper") ObjectMapper canonicalObjectMapper,
+                                  ObjectProvider<ResponseSnapshotCodec<?>> customCodecs,
+                                  @Value("${idempotency.snapshot.compress-threshold-bytes:512}") int compressThresholdBytes) {
+        this(canonicalObjectMapper, compressThresholdBytes);
+        customCodecs.orderedStream().forEach(this::register);
+    }
+
+    public ResponseSnapshotCodecs(ObjectMapper canonicalObjectMapper, int compressThresholdBytes) {
+        this.canonicalObjectMapper = canonicalObjectMapper;
+        // 헤더(:)\n + 버전 4바이트)는 생략 — 자체 헤더 바이트로 포맷을 구분
+        this.smileMapper = canonicalObjectMapper.copyWith(SmileFactory.builder()
+                .disable(SmileGenerator.Feature.WRITE_HEADER)
+                .disable(SmileParser.Feature.REQUIRE_HEADER)
+                .build());
+        this.compressThresholdBytes = compressThresholdBytes;
+    }
+
+    public void register(ResponseSnapshotCodec<?> codec) {
+        if (codec.formatId() < 1 || codec.formatId() >= DEFLATED) {
+            throw new IllegalArgumentException("formatId 는 1~127: " + codec.type().getName());
+        }
+        codecs.put(codec.type(), codec);
+    }
+
+    /**
+     * 응답 DTO → 스냅샷 바이트
+     * - 컬럼 크기를 넘으면 IOException (호출부는 스냅샷 없이 DONE 기록)
+     */
+    public byte[] encode(Object responseBody) throws IOException {
+        @SuppressWarnings("unchecked")
+        ResponseSnapshotCodec<Object> codec = (ResponseSnapshotCodec<Object>) codecFor(responseBody.getClass());
+        byte[] raw = codec.encode(responseBody);
+
+        byte[] out = raw.length >= compressThresholdBytes ? deflate(codec.formatId(), raw) : null;
+        if (out == null) {
+            out = new byte[raw.length + 1];
+            out[0] = (byte) codec.formatId();
+            System.arraycopy(raw, 0, out, 1, raw.length);
+        }
+        if (out.length > MAX_SNAPSHOT_BYTES) {
+            throw new IOException("응답 스냅샷 크기 초과: " + out.length + "B (" + responseBody.getClass().getSimpleName() + ")");
+        }
+        return out;
+    }
+
+    public <T> T decode(byte[] snapshot, Class<T> type) throws IOException {
+        if (snapshot.length == 0) {
+            throw new IOException("빈 응답 스냅샷");
+        }
+        ResponseSnapshotCodec<T> codec = codecFor(type);
+        int header = snapshot[0] & 0xFF;
+        if ((header & ~DEFLATED) != codec.formatId()) {
+            throw new IOException("스냅샷 포맷 불일치: " + (header & ~DEFLATED) + " != " + codec.formatId() + " (" + type.getSimpleName() + ")");
+        }
+        if ((header & DEFLATED) == 0) {
+            return codec.decode(snapshot, 1, snapshot.length - 1);
+        }
+        byte[] raw = inflate(snapshot);
+        return codec.decode(raw, 0, raw.length);
+    }
+
+    /**
+     * 멱등 행의 응답 스냅샷 재생 (없으면 null)
+     * - response_snapshot 우선, 없으면 이전 형식 response_json
+     */
+    public <T> T readSnapshot(IdempotencyKey row, Class<T> type) throws IOException {
+        byte[] snapshot = row.getResponseSnapshot();
+        if (snapshot != null) {
+            return decode(snapshot, type);
+        }
+        JsonNode legacy = row.getResponseJson();
+        if (legacy != null && !legacy.isNull()) {
+            return canonicalObjectMapper.treeToValue(legacy, type);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseSnapshotCodec<T> codecFor(Class<T> type) {
+        return (ResponseSnapshotCodec<T>) codecs.computeIfAbsent(type, t -> new SmileCodec<>(
+                (Class<Object>) t, smileMapper.readerFor(t), smileMapper.writerFor(t)));
+    }
+
+    // 줄어들지 않으면 null (압축하지 않음)
+    private static byte[] deflate(int formatId, byte[] raw) {
+        byte[] out = new byte[raw.length];
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            int n = deflater.deflate(out, DEFLATED_HEADER, out.length - DEFLATED_HEADER);
+            if (!deflater.finished()) {
+                return null;
+            }
+            out[0] = (byte) (formatId | DEFLATED);
+            out[1] = (byte) (raw.length >>> 24);
+            out[2] = (byte) (raw.length >>> 16);
+            out[3] = (byte) (raw.length >>> 8);
+            out[4] = (byte) raw.length;
+            return Arrays.copyOf(out, DEFLATED_HEADER + n);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] snapshot) throws IOException {
+        if (snapshot.length < DEFLATED_HEADER) {
+            throw new IOException("압축 스냅샷 헤더 손상");
+        }
+        int rawLength = ((snapshot[1] & 0xFF) << 24) | ((snapshot[2] & 0xFF) << 16)
+                | ((snapshot[3] & 0xFF) << 8) | (snapshot[4] & 0xFF);
+        if (rawLength < 0 || rawLength > MAX_SNAPSHOT_BYTES * 64) {
+            throw new IOException("압축 스냅샷 길이 손상: " + rawLength);
+        }
+        byte[] raw = new byte[rawLength];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(snapshot, DEFLATED_HEADER, snapshot.length - DEFLATED_HEADER);
+            int n = 0;
+            while (n < rawLength) {
+                int read = inflater.inflate(raw, n, rawLength - n);
+                if (read == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                n += read;
+            }
+            if (n != rawLength) {
+                throw new IOException("압축 스냅샷 길이 불일치: " + n + " != " + rawLength);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("압축 스냅샷 손상", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private record SmileCodec<T>(Class<T> type, ObjectReader reader, ObjectWriter writer)
+            implements ResponseSnapshotCodec<T> {
+
+        @Override
+        public int formatId() {
+            return FORMAT_SMILE;
+        }
+
+        @Override
+        public byte[] encode(T value) throws IOException {
+            return writer.writeValueAsBytes(value);
+        }
+
+        @Override
+        public T decode(byte[] bytes, int offset, int length) throws IOException {
+            return reader.readValue(bytes, offset, length);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.ssafy.keeping.domain.menu.dto;
 
+import com.ssafy.keeping.global.s3.constant.ImageVariant;
+
 public record MenuResponseDto(
         Long menuId,
         Long storeId,
@@ -9,6 +11,14 @@ public record MenuResponseDto(
         int displayOrder,
         boolean soldOut,
         String imgUrl,
+        String thumbnailUrl,    // 메뉴 목록용 축소 이미지 (없으면 원본)
         String description,
         int price
-) { }
\ No newline at end of file
+) {
+    // JPQL 생성자 표현식 / 서비스에서 사용 (썸네일 URL 은 원본 URL 에서 계산)
+    public MenuResponseDto(Long menuId, Long storeId, String menuName, Long categoryId, String categoryName,
+                           int displayOrder, boolean soldOut, String imgUrl, String description, int price) {
+        this(menuId, storeId, menuName, categoryId, categoryName, displayOrder, soldOut,
+                imgUrl, ImageVariant.THUMBNAIL.urlOf(imgUrl), description, price);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ssafy.keeping.domain.notification.controller;
 
+import com.ssafy.keeping.domain.notification.dto.NotificationCursorResponseDto;
 import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
 import com.ssafy.keeping.domain.notification.service.NotificationService;
 import com.ssafy.keeping.domain.notification.service.NotificationQueryService;
@@ -11,11 +12,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 
@@ -34,11 +37,11 @@ public class NotificationController {
      * 
      * @param customerId 고객 ID
      * @param lastEventId 마지막으로 받은 이벤트 ID (재연결용)
-     * @return SseEmitter
+     * @return 고객 이벤트 스트림
      * 로그인 시에 이걸 불러서 구독하도록 할 것임
      */
     @GetMapping(value = "/subscribe/customer/{customerId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeCustomer(@PathVariable Long customerId,
+    public Flux<ServerSentEvent<Object>> subscribeCustomer(@PathVariable Long customerId,
                                        @RequestHeader(value = "Last-Event-ID", required = false, defaultValue = "") String lastEventId,
                                        @RequestHeader(value = "Authorization", required = false) String authorizationHeader) {
 
@@ -56,11 +59,11 @@ public class NotificationController {
      * 
      * @param ownerId 점주 ID
      * @param lastEventId 마지막으로 받은 이벤트 ID (재연결용)
-     * @return SseEmitter
+     * @return 점주 이벤트 스트림
      * 로그인 시에 이걸 불러서 구독하도록 할 것임
      */
     @GetMapping(value = "/subscribe/owner/{ownerId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribeOwner(@PathVariable Long ownerId,
+    public Flux<ServerSentEvent<Object>> subscribeOwner(@PathVariable Long ownerId,
                                     @RequestHeader(value = "Last-Event-ID", required = false, defaultValue = "") String lastEventId,
                                     @RequestHeader(value = "Authorization", required = false) String authorizationHeader) {
 
@@ -117,6 +120,40 @@ public class NotificationController {
         );
     }
 
+    /**
+     * 고객 알림 전체 읽음 처리
+     * 
+     * @param customerId 고객 ID
+     * @return 읽음 처리된 알림 개수
+     */
+    @PutMapping("/customer/{customerId}/read-all")
+    public ResponseEntity<ApiResponse<Integer>> markAllAsReadForCustomer(
+            @PathVariable @Positive(message = "고객 ID는 양수여야 합니다.") Long customerId) {
+        
+        int updated = notificationQueryService.markAllAsReadForCustomer(customerId);
+        
+        return ResponseEntity.ok(
+            ApiResponse.success("알림이 모두 읽음 처리되었습니다.", HttpStatus.OK.value(), updated)
+        );
+    }
+
+    /**
+     * 점주 알림 전체 읽음 처리
+     * 
+     * @param ownerId 점주 ID
+     * @return 읽음 처리된 알림 개수
+     */
+    @PutMapping("/owner/{ownerId}/read-all")
+    public ResponseEntity<ApiResponse<Integer>> markAllAsReadForOwner(
+            @PathVariable @Positive(message = "점주 ID는 양수여야 합니다.") Long ownerId) {
+        
+        int updated = notificationQueryService.markAllAsReadForOwner(ownerId);
+        
+        return ResponseEntity.ok(
+            ApiResponse.success("알림이 모두 읽음 처리되었습니다.", HttpStatus.OK.value(), updated)
+        );
+    }
+
     /**
      * 고객 알림 목록 조회
      * 
@@ -179,6 +216,52 @@ public class NotificationController {
         );
     }
 
+    /**
+     * 고객 알림함 커서 조회 (깊은 페이지에서도 일정한 비용)
+     * 
+     * @param customerId 고객 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @param unreadOnly 읽지 않은 알림만 조회
+     * @return 알림 목록 + 다음 커서
+     */
+    @GetMapping("/customer/{customerId}/inbox")
+    public ResponseEntity<ApiResponse<NotificationCursorResponseDto>> getInboxForCustomer(
+            @PathVariable @Positive(message = "고객 ID는 양수여야 합니다.") Long customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Positive(message = "페이지 크기는 양수여야 합니다.") @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size,
+            @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        
+        NotificationCursorResponseDto inbox = notificationQueryService.getInboxForCustomer(customerId, cursor, size, unreadOnly);
+        
+        return ResponseEntity.ok(
+            ApiResponse.success("고객 알림함 조회 완료", HttpStatus.OK.value(), inbox)
+        );
+    }
+
+    /**
+     * 점주 알림함 커서 조회 (깊은 페이지에서도 일정한 비용)
+     * 
+     * @param ownerId 점주 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @param unreadOnly 읽지 않은 알림만 조회
+     * @return 알림 목록 + 다음 커서
+     */
+    @GetMapping("/owner/{ownerId}/inbox")
+    public ResponseEntity<ApiResponse<NotificationCursorResponseDto>> getInboxForOwner(
+            @PathVariable @Positive(message = "점주 ID는 양수여야 합니다.") Long ownerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Positive(message = "페이지 크기는 양수여야 합니다.") @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size,
+            @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        
+        NotificationCursorResponseDto inbox = notificationQueryService.getInboxForOwner(ownerId, cursor, size, unreadOnly);
+        
+        return ResponseEntity.ok(
+            ApiResponse.success("점주 알림함 조회 완료", HttpStatus.OK.value(), inbox)
+        );
+    }
+
     /**
      * 고객 읽지 않은 알림 개수 조회
      * 
@@ -0,0 +1,41 @@
+package com.ssafy.keeping.domain.notification.dto;
+
+import com.ssafy.keeping.domain.notification.entity.Notification;
+import com.ssafy.keeping.global.exception.CustomException;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 알림함 keyset 커서 (마지막으로 받은 알림의 createdAt, notificationId)
+ * - 클라이언트에는 "epochSecond:nano:notificationId" 를 base64url 로 감싼 불투명 문자열로 전달
+ */
+public record NotificationCursor(LocalDateTime createdAt, Long notificationId) {
+
+    /** 첫 페이지: 모든 알림보다 뒤 */
+    public static final NotificationCursor FIRST = new NotificationCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    public static NotificationCursor after(Notification last) {
+        return new NotificationCursor(last.getCreatedAt(), last.getNotificationId());
+    }
+
+    public static NotificationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return FIRST;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(
+                    Long.parseLong(parts[0]), Integer.parseInt(parts[1]), ZoneOffset.UTC);
+            return new NotificationCursor(createdAt, Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.NOTIFICATION_INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toEpochSecond(ZoneOffset.UTC) + ":" + createdAt.getNano() + ":" + notificationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,20 @@
+package com.ssafy.keeping.domain.notification.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커서 기반 알림함 응답
+ * - nextCursor 를 다음 요청의 cursor 로 그대로 전달, hasNext=false 면 마지막 페이지
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationCursorResponseDto {
+
+    private List<NotificationResponseDto> notifications;
+    private String nextCursor;
+    private boolean hasNext;
+}
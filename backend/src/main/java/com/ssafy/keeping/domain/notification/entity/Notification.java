@@ -10,7 +10,14 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notification_customer_created", columnList = "customer_id, created_at"),
+        @Index(name = "idx_notification_customer_read_created", columnList = "customer_id, is_read, created_at"),
+        @Index(name = "idx_notification_owner_created", columnList = "owner_id, created_at"),
+        @Index(name = "idx_notification_owner_read_created", columnList = "owner_id, is_read, created_at"),
+        @Index(name = "idx_notification_created", columnList = "created_at"),
+        @Index(name = "idx_notification_body", columnList = "body_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -30,9 +37,13 @@ public class Notification {
     @JoinColumn(name = "owner_id")
     private Owner owner;
 
-    @Column(name = "content", nullable = false, length = 500)
+    @Column(name = "content", length = 500)
     private String content;
-    // 알림 메시지 내용 (사용자가 실제로 보는 텍스트)
+    // 알림 메시지 내용 (사용자가 실제로 보는 텍스트), 공유 본문을 참조하는 알림은 null
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "body_id")
+    private NotificationBody body;
 
 
     @Column(name = "is_read", nullable = false)
@@ -52,6 +63,11 @@ public class Notification {
         this.isRead = true;
     }
 
+    // 공유 본문을 참조하면 본문 내용
+    public String getContent() {
+        return body != null ? body.getContent() : content;
+    }
+
     // 수신자 정보 조회 (Customer 또는 Owner 중 하나)
     public String getReceiverType() {
         if (customer != null) return "CUSTOMER";
@@ -0,0 +1,50 @@
+package com.ssafy.keeping.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지나 notifications 에서 옮겨진 읽은 알림
+ * - 원본 notification_id 를 그대로 사용, 고객/점주는 FK 없이 ID 값만 보관
+ * - 적재/삭제는 NotificationJdbcRepository 의 집합 SQL 로만 수행
+ */
+@Entity
+@Table(name = "notifications_archive", indexes = {
+        @Index(name = "idx_notification_archive_customer", columnList = "customer_id, created_at"),
+        @Index(name = "idx_notification_archive_owner", columnList = "owner_id, created_at"),
+        @Index(name = "idx_notification_archive_archived", columnList = "archived_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationArchive {
+
+    @Id
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Column(name = "content", nullable = false, length = 500)
+    private String content;
+
+    @Column(name = "is_read", nullable = false)
+    private Boolean isRead;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false, length = 50)
+    private NotificationType notificationType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
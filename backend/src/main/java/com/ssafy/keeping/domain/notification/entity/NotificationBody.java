@@ -0,0 +1,41 @@
+package com.ssafy.keeping.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 수신자에게 같은 내용으로 보내는 알림의 공유 본문 (모임 알림 등)
+ * - 수신자별 notifications 행은 content 없이 body_id 로 이 본문을 참조 (읽음 여부는 수신자 행에 유지)
+ * - 적재/삭제는 NotificationJdbcRepository 의 집합 SQL 로만 수행
+ */
+@Entity
+@Table(name = "notification_bodies", indexes = {
+        @Index(name = "idx_notification_body_created", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationBody {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "body_id")
+    private Long bodyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false, length = 50)
+    private NotificationType notificationType;
+
+    @Column(name = "content", nullable = false, length = 500)
+    private String content;
+
+    // 묶인 원본 이벤트 수 (1 이면 단건, 2 이상이면 요약 알림)
+    @Column(name = "event_count", nullable = false)
+    private Integer eventCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
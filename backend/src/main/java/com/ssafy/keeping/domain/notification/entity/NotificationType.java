@@ -16,6 +16,7 @@ public enum NotificationType {
     PAYMENT_REQUEST("포인트 결제 요청"),
     PAYMENT_CANCELED("결제 취소"),
     SETTLEMENT_COMPLETED("정산 완료"),
+    POINT_EXPIRING("포인트 만료 예정"),
     
     // 그룹 관련
     GROUP_INVITE("모임 초대"),
@@ -28,6 +29,12 @@ public enum NotificationType {
     GROUP_POINT_SHARED("모임 지갑에 포인트 공유"),
     GROUP_LEFT("모임 나가기"),
     GROUP_DISBANDED("모임 해체"),
+    // OCR 비동기 작업 (저장하지 않는 SSE 이벤트, content 는 작업 ID)
+    OCR_JOB_COMPLETED("OCR 분석 완료"),
+    OCR_JOB_FAILED("OCR 분석 실패"),
+    // 가입 후 계좌/카드 준비 (저장하지 않는 SSE 이벤트, 고객 ID 는 receiverId)
+    ONBOARDING_COMPLETED("계좌/카드 준비 완료"),
+    ONBOARDING_FAILED("계좌/카드 준비 실패"),
     // 시스템 관련
     DLQ_NOTICE("DLQ 생성"),
     ANOMALY_DETECTED("이상거래 탐지");
@@ -0,0 +1,248 @@
+package com.ssafy.keeping.domain.notification.gateway;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
+import com.ssafy.keeping.domain.notification.repository.EmitterRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 노드 간 SSE 알림 팬아웃
+ * - 접속 현황(SsePresenceRegistry)으로 수신자 연결을 가진 노드를 찾고, 해당 노드 채널(sse:node:{nodeId})로만 발행
+ * - 자기 노드가 가진 연결은 Redis 를 거치지 않고 바로 게이트웨이에 적재
+ * - 여러 수신자 알림(publishAll)은 대상 노드별로 묶어 노드당 1회만 발행
+ * - Redis 장애 시에는 로컬 연결에만 전달 (단일 노드 때와 동일한 동작)
+ */
+@Slf4j
+@Component
+public class NotificationFanoutBus implements MessageListener {
+
+    static final String NODE_CHANNEL_PREFIX = "sse:node:";
+
+    private final NotificationSseGateway gateway;
+    private final EmitterRepository emitterRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final SsePresenceRegistry presence;
+
+    public NotificationFanoutBus(NotificationSseGateway gateway,
+                                 EmitterRepository emitterRepository,
+                                 StringRedisTemplate redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 ObjectMapper objectMapper,
+                                 @Value("${notification.node-id:}") String nodeId,
+                                 @Value("${notification.presence.ttl-ms:45000}") long presenceTtlMs) {
+        this.gateway = gateway;
+        this.emitterRepository = emitterRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        String resolvedNodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.presence = new SsePresenceRegistry(redisTemplate, resolvedNodeId, Duration.ofMillis(presenceTtlMs));
+    }
+
+    @PostConstruct
+    public void subscribeNodeChannel() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(NODE_CHANNEL_PREFIX + presence.nodeId()));
+        log.info("SSE 팬아웃 노드 채널 구독 - nodeId: {}", presence.nodeId());
+    }
+
+    /**
+     * 수신자 연결 등록 + 접속 현황 등록 (마지막 로컬 연결이 끊기면 접속 현황에서 제거)
+     */
+    public Flux<ServerSentEvent<Object>> connect(String receiverType, Long receiverId,
+                                                 Flux<ServerSentEvent<Object>> initialEvents) {
+        String receiverKey = receiverKey(receiverType, receiverId);
+
+        // 접속 현황도 게이트웨이 연결과 같이 구독 시점에 등록
+        return gateway.connect(receiverType, receiverId, initialEvents)
+                .doOnSubscribe(subscription -> safely(() -> presence.markOnline(receiverKey), "markOnline"))
+                .doFinally(signal -> {
+                    if (!gateway.hasConnection(receiverType, receiverId)) {
+                        safely(() -> presence.markOffline(receiverKey), "markOffline");
+                    }
+                });
+    }
+
+    /**
+     * 클러스터 어디든 수신자 SSE 연결이 있는지
+     */
+    public boolean isOnline(String receiverType, Long receiverId) {
+        if (gateway.hasConnection(receiverType, receiverId)) return true;
+        try {
+            return !presence.nodesFor(receiverKey(receiverType, receiverId)).isEmpty();
+        } catch (Exception e) {
+            log.warn("SSE 접속 현황 조회 실패 - {}-{}, 오류: {}", receiverType, receiverId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 수신자 연결을 가진 모든 노드로 전달
+     * @return 전달 대상 노드 수 (자기 노드 포함)
+     */
+    public int publish(String eventId, NotificationResponseDto notification) {
+        String receiverType = notification.getReceiverType().toLowerCase();
+        Long receiverId = notification.getReceiverId();
+        String receiverKey = receiverKey(receiverType, receiverId);
+
+        Set<String> nodes;
+        try {
+            nodes = presence.nodesFor(receiverKey);
+        } catch (Exception e) {
+            log.warn("SSE 접속 현황 조회 실패, 로컬 전달만 수행 - {}, 오류: {}", receiverKey, e.getMessage());
+            nodes = Set.of();
+        }
+
+        int targets = 0;
+        if (nodes.contains(presence.nodeId()) || gateway.hasConnection(receiverType, receiverId)) {
+            deliverLocal(receiverType, receiverId, eventId, notification);
+            targets++;
+        }
+
+        for (String node : nodes) {
+            if (node.equals(presence.nodeId())) continue;
+            try {
+                String json = objectMapper.writeValueAsString(
+                        new SseFanoutMessage(presence.nodeId(), receiverType, receiverId, eventId, notification));
+                redisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + node, json);
+                targets++;
+            } catch (Exception e) {
+                log.warn("SSE 팬아웃 발행 실패 - 대상 노드: {}, {}, 오류: {}", node, receiverKey, e.getMessage());
+            }
+        }
+        return targets;
+    }
+
+    /** 일괄 전달 결과: 연결이 있어 SSE 로 전달된 수신자 키, Redis 발행 횟수 */
+    public record BroadcastResult(Set<String> delivered, int published) {
+    }
+
+    /**
+     * 같은 내용을 여러 수신자에게 전달 (공유 본문 알림)
+     * - 접속 현황은 파이프라인 1회로 조회, 다른 노드로는 노드당 메시지 1건만 발행
+     */
+    public BroadcastResult publishAll(List<NotificationResponseDto> notifications) {
+        if (notifications.isEmpty()) return new BroadcastResult(Set.of(), 0);
+
+        List<String> receiverKeys = notifications.stream()
+                .map(n -> receiverKey(n.getReceiverType().toLowerCase(), n.getReceiverId()))
+                .toList();
+        Map<String, Set<String>> nodesByReceiver;
+        try {
+            nodesByReceiver = presence.nodesForAll(receiverKeys);
+        } catch (Exception e) {
+            log.warn("SSE 접속 현황 일괄 조회 실패, 로컬 전달만 수행 - 수신자 수: {}, 오류: {}", receiverKeys.size(), e.getMessage());
+            nodesByReceiver = Map.of();
+        }
+
+        long now = System.currentTimeMillis();
+        Set<String> delivered = new HashSet<>();
+        Map<String, List<SseFanoutMessage>> byNode = new HashMap<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            NotificationResponseDto notification = notifications.get(i);
+            String receiverType = notification.getReceiverType().toLowerCase();
+            Long receiverId = notification.getReceiverId();
+            String receiverKey = receiverKeys.get(i);
+            String eventId = receiverKey + "_" + now;
+            Set<String> nodes = nodesByReceiver.getOrDefault(receiverKey, Set.of());
+
+            if (nodes.contains(presence.nodeId()) || gateway.hasConnection(receiverType, receiverId)) {
+                deliverLocal(receiverType, receiverId, eventId, notification);
+                delivered.add(receiverKey);
+            }
+            for (String node : nodes) {
+                if (node.equals(presence.nodeId())) continue;
+                byNode.computeIfAbsent(node, k -> new ArrayList<>())
+                        .add(new SseFanoutMessage(presence.nodeId(), receiverType, receiverId, eventId, notification));
+                delivered.add(receiverKey);
+            }
+        }
+
+        int published = 0;
+        for (Map.Entry<String, List<SseFanoutMessage>> entry : byNode.entrySet()) {
+            try {
+                String json = objectMapper.writeValueAsString(new SseFanoutBatchMessage(presence.nodeId(), entry.getValue()));
+                redisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + entry.getKey(), json);
+                published++;
+            } catch (Exception e) {
+                log.warn("SSE 일괄 팬아웃 발행 실패 - 대상 노드: {}, 수신자 수: {}, 오류: {}",
+                        entry.getKey(), entry.getValue().size(), e.getMessage());
+            }
+        }
+        return new BroadcastResult(delivered, published);
+    }
+
+    /**
+     * 다른 노드에서 온 전달 요청 (단건 / 일괄)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            JsonNode body = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+            if (body.has("deliveries")) {
+                SseFanoutBatchMessage batch = objectMapper.treeToValue(body, SseFanoutBatchMessage.class);
+                for (SseFanoutMessage msg : batch.deliveries()) {
+                    deliverLocal(msg.receiverType(), msg.receiverId(), msg.eventId(), msg.notification());
+                }
+                return;
+            }
+            SseFanoutMessage msg = objectMapper.treeToValue(body, SseFanoutMessage.class);
+            deliverLocal(msg.receiverType(), msg.receiverId(), msg.eventId(), msg.notification());
+        } catch (Exception e) {
+            log.warn("SSE 팬아웃 메시지 처리 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    private void deliverLocal(String receiverType, Long receiverId, String eventId, NotificationResponseDto notification) {
+        // 재연결 시 재전송용 캐시는 연결을 가진 노드에 저장
+        emitterRepository.saveEventCache(eventId, notification);
+        gateway.publish(receiverType, receiverId, ServerSentEvent.<Object>builder(notification)
+                .id(eventId)
+                .event("notification")
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${notification.presence.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        presence.heartbeat(gateway.localReceiverKeys());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        safely(() -> presence.removeAll(gateway.localReceiverKeys()), "removeAll");
+    }
+
+    public String nodeId() {
+        return presence.nodeId();
+    }
+
+    private void safely(Runnable action, String name) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("SSE 접속 현황 {} 실패 - 오류: {}", name, e.getMessage());
+        }
+    }
+
+    static String receiverKey(String receiverType, Long receiverId) {
+        return receiverType + "-" + receiverId;
+    }
+}
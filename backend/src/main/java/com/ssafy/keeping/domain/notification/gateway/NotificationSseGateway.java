@@ -0,0 +1,218 @@
+package com.ssafy.keeping.domain.notification.gateway;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 논블로킹 SSE 게이트웨이
+ * - 수신자(receiverType-receiverId)별 연결 목록, 연결마다 크기가 제한된 큐를 가진 sink
+ * - publish 는 큐에 넣기만 하고 바로 반환 → 결제 트랜잭션 스레드가 느린 클라이언트 때문에 막히지 않음
+ * - 큐가 가득 차면 이벤트 드롭, 연속 드롭이 maxConsecutiveDrops 를 넘으면 느린 소비자로 보고 연결 종료
+ *   (클라이언트는 재연결 시 이벤트 캐시에서 유실분을 다시 받음)
+ * - 하트비트는 전역 타이머 1개를 모든 연결이 공유
+ * - 실제 소켓 쓰기는 MVC ReactiveTypeHandler 가 applicationTaskExecutor 에서 1건씩 요청하며 수행
+ *   (유휴 연결은 스레드를 잡지 않지만 서블릿 비동기 요청 + Tomcat 커넥션 1개씩 점유
+ *    → 노드당 연결 수 상한은 server.tomcat.max-connections, 비동기 타임아웃은 max-lifetime 보다 길게)
+ */
+@Slf4j
+@Component
+public class NotificationSseGateway {
+
+    private final int bufferSize;
+    private final int maxConsecutiveDrops;
+    private final Duration maxLifetime;
+    private final Flux<ServerSentEvent<Object>> heartbeat;
+
+    private final Map<String, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicLong connectionSeq = new AtomicLong();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong publishedEvents = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong slowConsumerDisconnects = new AtomicLong();
+
+    public NotificationSseGateway(@Value("${notification.sse.buffer-size:256}") int bufferSize,
+                                  @Value("${notification.sse.max-consecutive-drops:32}") int maxConsecutiveDrops,
+                                  @Value("${notification.sse.heartbeat-interval-ms:15000}") long heartbeatIntervalMs,
+                                  @Value("${notification.sse.max-lifetime-ms:3600000}") long maxLifetimeMs) {
+        this.bufferSize = bufferSize;
+        this.maxConsecutiveDrops = maxConsecutiveDrops;
+        this.maxLifetime = Duration.ofMillis(maxLifetimeMs);
+        this.heartbeat = Flux.interval(Duration.ofMillis(heartbeatIntervalMs))
+                .map(tick -> ServerSentEvent.builder().comment("heartbeat").build())
+                .share();
+    }
+
+    /**
+     * 수신자 이벤트 스트림 반환
+     * - 연결은 구독 시점에 등록(doOnSubscribe)하고 종료/취소/오류 시 해제(doFinally)
+     *   → 구독되지 않은 Flux 는 아무것도 등록하지 않아 누수가 없고, 구독마다 별도 연결
+     * @param initialEvents 연결 직후 먼저 보낼 이벤트 (연결 확인, 유실 이벤트 재전송)
+     */
+    public Flux<ServerSentEvent<Object>> connect(String receiverType, Long receiverId,
+                                                 Flux<ServerSentEvent<Object>> initialEvents) {
+        String receiverKey = receiverKey(receiverType, receiverId);
+
+        return Flux.defer(() -> {
+            Connection connection = new Connection(connectionSeq.incrementAndGet(), receiverKey, bufferSize);
+
+            // prefetch 1: sink 큐 밖에 이벤트를 쌓아두지 않아 버퍼 한도가 그대로 유지됨
+            Flux<ServerSentEvent<Object>> live = Flux.merge(1, connection.sink.asFlux(), heartbeat)
+                    .takeUntilOther(connection.kill.asMono());
+
+            return Flux.concat(initialEvents, live)
+                    .take(maxLifetime)
+                    .doOnSubscribe(subscription -> register(connection))
+                    .doFinally(signal -> unregister(connection, signal.toString()));
+        });
+    }
+
+    /**
+     * 수신자의 모든 연결에 이벤트 적재 (블로킹 없음)
+     * @return 큐에 적재된 연결 수
+     */
+    public int publish(String receiverType, Long receiverId, ServerSentEvent<Object> event) {
+        Set<Connection> targets = connections.get(receiverKey(receiverType, receiverId));
+        if (targets == null || targets.isEmpty()) return 0;
+
+        publishedEvents.incrementAndGet();
+        int delivered = 0;
+        for (Connection connection : targets) {
+            if (connection.offer(event)) {
+                delivered++;
+                continue;
+            }
+            droppedEvents.incrementAndGet();
+            if (connection.consecutiveDrops.get() >= maxConsecutiveDrops) {
+                slowConsumerDisconnects.incrementAndGet();
+                log.warn("느린 SSE 소비자 연결 종료 - {}, connectionId: {}, 연속 드롭: {}",
+                        connection.receiverKey, connection.id, connection.consecutiveDrops.get());
+                connection.kill.tryEmitValue(Boolean.TRUE);
+            }
+        }
+        return delivered;
+    }
+
+    public boolean hasConnection(String receiverType, Long receiverId) {
+        Set<Connection> targets = connections.get(receiverKey(receiverType, receiverId));
+        return targets != null && !targets.isEmpty();
+    }
+
+    /**
+     * 이 노드가 연결을 가진 수신자 키 목록 (접속 현황 heartbeat 용)
+     */
+    public Set<String> localReceiverKeys() {
+        return Set.copyOf(connections.keySet());
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * 전체 연결의 대기 이벤트 수 합
+     */
+    public long queueDepth() {
+        long depth = 0;
+        for (Set<Connection> set : connections.values()) {
+            for (Connection c : set) depth += c.queue.size();
+        }
+        return depth;
+    }
+
+    public int receiverCount() {
+        return connections.size();
+    }
+
+    public long publishedEvents() {
+        return publishedEvents.get();
+    }
+
+    public long droppedEvents() {
+        return droppedEvents.get();
+    }
+
+    public long slowConsumerDisconnects() {
+        return slowConsumerDisconnects.get();
+    }
+
+    @Scheduled(fixedDelayString = "${notification.sse.stats-log-interval-ms:60000}")
+    public void logStats() {
+        if (connectionCount.get() == 0 && publishedEvents.get() == 0) return;
+        log.info("SSE 게이트웨이 - 연결: {}, 수신자: {}, 대기 이벤트: {}, 발행: {}, 드롭: {}, 느린 소비자 종료: {}",
+                connectionCount.get(), connections.size(), queueDepth(),
+                publishedEvents.get(), droppedEvents.get(), slowConsumerDisconnects.get());
+    }
+
+    private void register(Connection connection) {
+        connections.computeIfAbsent(connection.receiverKey, k -> ConcurrentHashMap.newKeySet()).add(connection);
+        connectionCount.incrementAndGet();
+        log.debug("SSE 연결 등록 - {}, connectionId: {}, 전체 연결: {}",
+                connection.receiverKey, connection.id, connectionCount.get());
+    }
+
+    private void unregister(Connection connection, String reason) {
+        connections.computeIfPresent(connection.receiverKey, (k, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+        connectionCount.decrementAndGet();
+        log.debug("SSE 연결 해제 - {}, connectionId: {}, 사유: {}", connection.receiverKey, connection.id, reason);
+    }
+
+    private static String receiverKey(String receiverType, Long receiverId) {
+        return receiverType + "-" + receiverId;
+    }
+
+    /**
+     * 단일 SSE 연결
+     * - unicast sink 는 동시 emit 을 허용하지 않으므로 짧은 락으로 직렬화 (I/O 없음)
+     */
+    private static final class Connection {
+        private final long id;
+        private final String receiverKey;
+        private final Queue<ServerSentEvent<Object>> queue;
+        private final Sinks.Many<ServerSentEvent<Object>> sink;
+        private final Sinks.One<Boolean> kill = Sinks.one();
+        private final ReentrantLock emitLock = new ReentrantLock();
+        private final AtomicInteger consecutiveDrops = new AtomicInteger();
+
+        private Connection(long id, String receiverKey, int bufferSize) {
+            this.id = id;
+            this.receiverKey = receiverKey;
+            this.queue = Queues.<ServerSentEvent<Object>>get(bufferSize).get();
+            this.sink = Sinks.many().unicast().onBackpressureBuffer(queue);
+        }
+
+        private boolean offer(ServerSentEvent<Object> event) {
+            Sinks.EmitResult result;
+            emitLock.lock();
+            try {
+                result = sink.tryEmitNext(event);
+            } finally {
+                emitLock.unlock();
+            }
+
+            if (result.isSuccess()) {
+                consecutiveDrops.set(0);
+                return true;
+            }
+            consecutiveDrops.incrementAndGet();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.ssafy.keeping.domain.notification.gateway;
+
+import java.util.List;
+
+// 노드 간 SSE 일괄 전달 메시지 (공유 본문 알림 1건 → 대상 노드당 1회 발행)
+public record SseFanoutBatchMessage(String originNodeId, List<SseFanoutMessage> deliveries) {}
@@ -0,0 +1,9 @@
+package com.ssafy.keeping.domain.notification.gateway;
+
+import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
+
+// 노드 간 SSE 전달 메시지 (Redis pub/sub, JSON)
+public record SseFanoutMessage(
+        String originNodeId, String receiverType, Long receiverId,
+        String eventId, NotificationResponseDto notification
+) {}
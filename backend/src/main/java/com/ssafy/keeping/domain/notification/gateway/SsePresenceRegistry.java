@@ -0,0 +1,122 @@
+package com.ssafy.keeping.domain.notification.gateway;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 클러스터 SSE 접속 현황 (Redis)
+ * - 키: sse:presence:{receiverKey}  (ZSET, member = nodeId, score = 만료 시각 epoch ms)
+ * - 노드는 자신이 연결을 가진 수신자에 대해 주기적으로 만료 시각을 연장(heartbeat)
+ * - 노드가 죽으면 heartbeat 가 끊겨 ttl 후 자연 소멸 → 조회 시 만료된 member 는 무시/정리
+ */
+@Slf4j
+public class SsePresenceRegistry {
+
+    static final String KEY_PREFIX = "sse:presence:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId;
+    private final Duration ttl;
+
+    public SsePresenceRegistry(StringRedisTemplate redisTemplate, String nodeId, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeId;
+        this.ttl = ttl;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public void markOnline(String receiverKey) {
+        String key = KEY_PREFIX + receiverKey;
+        redisTemplate.opsForZSet().add(key, nodeId, System.currentTimeMillis() + ttl.toMillis());
+        redisTemplate.expire(key, ttl.multipliedBy(2));
+    }
+
+    public void markOffline(String receiverKey) {
+        redisTemplate.opsForZSet().remove(KEY_PREFIX + receiverKey, nodeId);
+    }
+
+    /**
+     * 수신자 연결을 가진 (만료되지 않은) 노드 목록
+     */
+    public Set<String> nodesFor(String receiverKey) {
+        Set<String> nodes = redisTemplate.opsForZSet()
+                .rangeByScore(KEY_PREFIX + receiverKey, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return nodes == null ? Set.of() : nodes;
+    }
+
+    /**
+     * 여러 수신자의 연결 노드 목록 (파이프라인 1회 왕복), 입력 순서 유지
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Set<String>> nodesForAll(List<String> receiverKeys) {
+        if (receiverKeys.isEmpty()) return Map.of();
+
+        long now = System.currentTimeMillis();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String receiverKey : receiverKeys) {
+                conn.zRangeByScore(KEY_PREFIX + receiverKey, now, Double.POSITIVE_INFINITY);
+            }
+            return null;
+        });
+
+        Map<String, Set<String>> nodes = new LinkedHashMap<>();
+        for (int i = 0; i < receiverKeys.size(); i++) {
+            Object result = i < results.size() ? results.get(i) : null;
+            nodes.put(receiverKeys.get(i), result instanceof Set<?> set ? (Set<String>) set : Set.of());
+        }
+        return nodes;
+    }
+
+    /**
+     * 로컬 수신자 전체 만료 시각 연장 (파이프라인 1회 왕복) + 만료된 다른 노드 member 정리
+     */
+    public void heartbeat(Collection<String> receiverKeys) {
+        if (receiverKeys.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        double expireAt = now + ttl.toMillis();
+        long keyTtlSeconds = ttl.multipliedBy(2).toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (String receiverKey : receiverKeys) {
+                    String key = KEY_PREFIX + receiverKey;
+                    conn.zAdd(key, expireAt, nodeId);
+                    conn.zRemRangeByScore(key, 0, now);
+                    conn.expire(key, keyTtlSeconds);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("SSE presence heartbeat 실패 - 수신자 수: {}, 오류: {}", receiverKeys.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 노드 종료 시 자신의 member 제거
+     */
+    public void removeAll(Collection<String> receiverKeys) {
+        if (receiverKeys.isEmpty()) return;
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String receiverKey : receiverKeys) {
+                conn.zRem(KEY_PREFIX + receiverKey, nodeId);
+            }
+            return null;
+        });
+    }
+}
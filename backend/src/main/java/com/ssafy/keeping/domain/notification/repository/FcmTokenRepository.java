@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,12 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
     @Query("SELECT f FROM FcmToken f WHERE f.customer.customerId = :customerId")
     List<FcmToken> findByCustomerId(@Param("customerId") Long customerId);
 
+    /**
+     * 여러 고객의 FCM 토큰 목록 조회 (멀티캐스트용)
+     */
+    @Query("SELECT f FROM FcmToken f WHERE f.customer.customerId IN :customerIds")
+    List<FcmToken> findByCustomerIdIn(@Param("customerIds") Collection<Long> customerIds);
+
     /**
      * 특정 점주의 FCM 토큰 목록 조회
      */
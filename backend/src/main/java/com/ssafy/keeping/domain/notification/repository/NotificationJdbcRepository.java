@@ -0,0 +1,213 @@
+package com.ssafy.keeping.domain.notification.repository;
+
+import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 일괄 저장/보관용 JDBC 접근
+ * - 엔티티 단건 saveAndFlush 대신 JDBC 배치 INSERT 1회 + 생성 키 회수
+ * - 여러 수신자에게 같은 내용을 보내는 알림은 공유 본문 1행 + 수신자 행(INSERT ... SELECT 1회)으로 저장
+ * - 보존 기간이 지난 읽은 알림을 notification_id 구간 단위로 notifications_archive 로 이동
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** 저장할 알림 1건 (customerId / ownerId 중 하나만 값이 있음) */
+    public record NotificationRow(Long customerId, Long ownerId, NotificationType notificationType,
+                                  String content, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 배치 INSERT 후 입력 순서대로 생성된 notification_id 반환
+     */
+    public List<Long> insertAll(List<NotificationRow> rows) {
+        if (rows.isEmpty()) return List.of();
+
+        SqlParameterSource[] params = rows.stream()
+                .map(r -> new MapSqlParameterSource()
+                        .addValue("customerId", r.customerId())
+                        .addValue("ownerId", r.ownerId())
+                        .addValue("content", r.content())
+                        .addValue("type", r.notificationType().name())
+                        .addValue("createdAt", Timestamp.valueOf(r.createdAt())))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbc.batchUpdate("""
+                INSERT INTO notifications (customer_id, owner_id, content, is_read, notification_type, created_at)
+                VALUES (:customerId, :ownerId, :content, false, :type, :createdAt)
+                """, params, keyHolder, new String[]{"notification_id"});
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Map<String, Object> key : keyHolder.getKeyList()) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        if (ids.size() != rows.size()) {
+            throw new IllegalStateException("생성 키 수 불일치 - 요청: " + rows.size() + ", 회수: " + ids.size());
+        }
+        return ids;
+    }
+
+    /** 공유 본문을 참조하는 수신자 행 */
+    public record FanoutRecipient(Long notificationId, Long customerId, String customerName) {
+    }
+
+    /**
+     * 공유 본문 저장 → body_id
+     */
+    public Long insertBody(NotificationType notificationType, String content, int eventCount, LocalDateTime createdAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbc.update("""
+                INSERT INTO notification_bodies (notification_type, content, event_count, created_at)
+                VALUES (:type, :content, :eventCount, :createdAt)
+                """, new MapSqlParameterSource()
+                        .addValue("type", notificationType.name())
+                        .addValue("content", content)
+                        .addValue("eventCount", eventCount)
+                        .addValue("createdAt", Timestamp.valueOf(createdAt)),
+                keyHolder, new String[]{"body_id"});
+        return keyHolder.getKey().longValue();
+    }
+
+    /**
+     * 존재하는 고객에 대해서만 본문 참조 수신자 행 일괄 저장 (문장 1회) → 저장된 수신자
+     * - 탈퇴 등으로 없어진 고객은 FK 위반 대신 조용히 제외
+     */
+    public List<FanoutRecipient> insertRecipients(Long bodyId, NotificationType notificationType,
+                                                  Collection<Long> customerIds, LocalDateTime createdAt) {
+        if (customerIds.isEmpty()) return List.of();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("bodyId", bodyId)
+                .addValue("type", notificationType.name())
+                .addValue("customerIds", customerIds)
+                .addValue("createdAt", Timestamp.valueOf(createdAt));
+        jdbc.update("""
+                INSERT INTO notifications (customer_id, body_id, is_read, notification_type, created_at)
+                SELECT c.customer_id, :bodyId, false, :type, :createdAt
+                  FROM customers c
+                 WHERE c.customer_id IN (:customerIds)
+                 ORDER BY c.customer_id
+                """, params);
+        return jdbc.query("""
+                SELECT n.notification_id, n.customer_id, c.name
+                  FROM notifications n
+                  JOIN customers c ON c.customer_id = n.customer_id
+                 WHERE n.body_id = :bodyId
+                 ORDER BY n.notification_id
+                """, params, (rs, i) -> new FanoutRecipient(
+                        rs.getLong("notification_id"), rs.getLong("customer_id"), rs.getString("name")));
+    }
+
+    /**
+     * cutoff 이전에 생성된 알림 중 가장 큰 notification_id (보관 대상 id 상한)
+     */
+    public Long findMaxIdCreatedBefore(LocalDateTime cutoff) {
+        return jdbc.queryForObject("""
+                SELECT MAX(notification_id) FROM notifications WHERE created_at < :cutoff
+                """, new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff)), Long.class);
+    }
+
+    /**
+     * (afterId, maxId] 구간에서 보관 대상(읽음 + cutoff 이전) id, PK 순
+     * - 읽지 않은 알림은 보존 기간이 지나도 남김
+     */
+    public List<Long> findArchivableIds(long afterId, long maxId, LocalDateTime cutoff, int limit) {
+        return jdbc.queryForList("""
+                SELECT notification_id FROM notifications
+                 WHERE notification_id > :afterId AND notification_id <= :maxId
+                   AND is_read = true AND created_at < :cutoff
+                 ORDER BY notification_id
+                 LIMIT :limit
+                """, new MapSqlParameterSource()
+                        .addValue("afterId", afterId)
+                        .addValue("maxId", maxId)
+                        .addValue("cutoff", Timestamp.valueOf(cutoff))
+                        .addValue("limit", limit), Long.class);
+    }
+
+    /**
+     * 보관 테이블로 복사 후 원본 삭제 (호출 트랜잭션 안에서 실행) → 이동한 행 수
+     */
+    public int moveToArchive(List<Long> ids, LocalDateTime archivedAt) {
+        if (ids.isEmpty()) return 0;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        jdbc.update("""
+                INSERT INTO notifications_archive
+                       (notification_id, customer_id, owner_id, content, is_read, notification_type, created_at, archived_at)
+                SELECT n.notification_id, n.customer_id, n.owner_id, COALESCE(n.content, b.content),
+                       n.is_read, n.notification_type, n.created_at, :archivedAt
+                  FROM notifications n
+                  LEFT JOIN notification_bodies b ON b.body_id = n.body_id
+                 WHERE n.notification_id IN (:ids) AND n.is_read = true
+                """, params);
+        // 읽음 → 읽지 않음 전환은 없으므로 복사/삭제 대상이 같음
+        return jdbc.update("""
+                DELETE FROM notifications WHERE notification_id IN (:ids) AND is_read = true
+                """, params);
+    }
+
+    /**
+     * 보관 기간까지 지난 보관 알림 id
+     */
+    public List<Long> findExpiredArchiveIds(LocalDateTime cutoff, int limit) {
+        return jdbc.queryForList("""
+                SELECT notification_id FROM notifications_archive
+                 WHERE archived_at < :cutoff
+                 ORDER BY archived_at
+                 LIMIT :limit
+                """, new MapSqlParameterSource()
+                        .addValue("cutoff", Timestamp.valueOf(cutoff))
+                        .addValue("limit", limit), Long.class);
+    }
+
+    public int deleteArchive(List<Long> ids) {
+        if (ids.isEmpty()) return 0;
+        return jdbc.update("DELETE FROM notifications_archive WHERE notification_id IN (:ids)",
+                new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * cutoff 이전에 만들어졌고 참조하는 수신자 행이 모두 보관/삭제된 공유 본문 id
+     */
+    public List<Long> findOrphanBodyIds(LocalDateTime cutoff, int limit) {
+        return jdbc.queryForList("""
+                SELECT b.body_id FROM notification_bodies b
+                 WHERE b.created_at < :cutoff
+                   AND NOT EXISTS (SELECT 1 FROM notifications n WHERE n.body_id = b.body_id)
+                 ORDER BY b.body_id
+                 LIMIT :limit
+                """, new MapSqlParameterSource()
+                        .addValue("cutoff", Timestamp.valueOf(cutoff))
+                        .addValue("limit", limit), Long.class);
+    }
+
+    /**
+     * 본문 삭제 (조회 이후 상태가 바뀌었을 수 있어 참조 여부를 다시 확인)
+     */
+    public int deleteBodies(List<Long> ids) {
+        if (ids.isEmpty()) return 0;
+        return jdbc.update("""
+                DELETE FROM notification_bodies
+                 WHERE body_id IN (:ids)
+                   AND NOT EXISTS (SELECT 1 FROM notifications n WHERE n.body_id = notification_bodies.body_id)
+                """, new MapSqlParameterSource("ids", ids));
+    }
+}
@@ -3,11 +3,15 @@ package com.ssafy.keeping.domain.notification.repository;
 import com.ssafy.keeping.domain.notification.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +21,7 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     /**
      * 특정 고객의 알림인지 확인 (권한 검증용)
      */
+    @EntityGraph(attributePaths = "body")
     @Query("SELECT n FROM Notification n WHERE n.notificationId = :notificationId AND n.customer.customerId = :customerId")
     Optional<Notification> findByNotificationIdAndCustomerId(@Param("notificationId") Long notificationId, 
                                                            @Param("customerId") Long customerId);
@@ -24,6 +29,7 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     /**
      * 특정 점주의 알림인지 확인 (권한 검증용)
      */
+    @EntityGraph(attributePaths = "body")
     @Query("SELECT n FROM Notification n WHERE n.notificationId = :notificationId AND n.owner.ownerId = :ownerId")
     Optional<Notification> findByNotificationIdAndOwnerId(@Param("notificationId") Long notificationId, 
                                                         @Param("ownerId") Long ownerId);
@@ -31,15 +37,77 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     /**
      * 특정 고객의 알림 목록 조회 (최신순)
      */
+    @EntityGraph(attributePaths = "body")
     @Query("SELECT n FROM Notification n WHERE n.customer.customerId = :customerId ORDER BY n.createdAt DESC")
     Page<Notification> findByCustomerIdOrderByCreatedAtDesc(@Param("customerId") Long customerId, Pageable pageable);
 
     /**
      * 특정 점주의 알림 목록 조회 (최신순)
      */
+    @EntityGraph(attributePaths = "body")
     @Query("SELECT n FROM Notification n WHERE n.owner.ownerId = :ownerId ORDER BY n.createdAt DESC")
     Page<Notification> findByOwnerIdOrderByCreatedAtDesc(@Param("ownerId") Long ownerId, Pageable pageable);
 
+    /**
+     * 특정 고객의 알림함 keyset 페이지 (createdAt, notificationId 내림차순, 커서 이후)
+     */
+    @EntityGraph(attributePaths = "body")
+    @Query("""
+            SELECT n FROM Notification n
+             WHERE n.customer.customerId = :customerId
+               AND (n.createdAt < :cursorAt OR (n.createdAt = :cursorAt AND n.notificationId < :cursorId))
+             ORDER BY n.createdAt DESC, n.notificationId DESC
+            """)
+    List<Notification> findInboxByCustomerId(@Param("customerId") Long customerId,
+                                             @Param("cursorAt") LocalDateTime cursorAt,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    /**
+     * 특정 고객의 읽지 않은 알림함 keyset 페이지
+     */
+    @EntityGraph(attributePaths = "body")
+    @Query("""
+            SELECT n FROM Notification n
+             WHERE n.customer.customerId = :customerId AND n.isRead = false
+               AND (n.createdAt < :cursorAt OR (n.createdAt = :cursorAt AND n.notificationId < :cursorId))
+             ORDER BY n.createdAt DESC, n.notificationId DESC
+            """)
+    List<Notification> findUnreadInboxByCustomerId(@Param("customerId") Long customerId,
+                                                   @Param("cursorAt") LocalDateTime cursorAt,
+                                                   @Param("cursorId") Long cursorId,
+                                                   Pageable pageable);
+
+    /**
+     * 특정 점주의 알림함 keyset 페이지
+     */
+    @EntityGraph(attributePaths = "body")
+    @Query("""
+            SELECT n FROM Notification n
+             WHERE n.owner.ownerId = :ownerId
+               AND (n.createdAt < :cursorAt OR (n.createdAt = :cursorAt AND n.notificationId < :cursorId))
+             ORDER BY n.createdAt DESC, n.notificationId DESC
+            """)
+    List<Notification> findInboxByOwnerId(@Param("ownerId") Long ownerId,
+                                          @Param("cursorAt") LocalDateTime cursorAt,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
+    /**
+     * 특정 점주의 읽지 않은 알림함 keyset 페이지
+     */
+    @EntityGraph(attributePaths = "body")
+    @Query("""
+            SELECT n FROM Notification n
+             WHERE n.owner.ownerId = :ownerId AND n.isRead = false
+               AND (n.createdAt < :cursorAt OR (n.createdAt = :cursorAt AND n.notificationId < :cursorId))
+             ORDER BY n.createdAt DESC, n.notificationId DESC
+            """)
+    List<Notification> findUnreadInboxByOwnerId(@Param("ownerId") Long ownerId,
+                                                @Param("cursorAt") LocalDateTime cursorAt,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+
     /**
      * 특정 고객의 읽지 않은 알림 개수 조회
      */
@@ -52,16 +120,44 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.owner.ownerId = :ownerId AND n.isRead = false")
     long countUnreadByOwnerId(@Param("ownerId") Long ownerId);
 
+    /**
+     * 고객별 읽지 않은 알림 개수 (카운터 재계산용, [customerId, count])
+     */
+    @Query("SELECT n.customer.customerId, COUNT(n) FROM Notification n WHERE n.customer.customerId IN :customerIds AND n.isRead = false GROUP BY n.customer.customerId")
+    List<Object[]> countUnreadGroupByCustomerIds(@Param("customerIds") Collection<Long> customerIds);
+
+    /**
+     * 점주별 읽지 않은 알림 개수 (카운터 재계산용, [ownerId, count])
+     */
+    @Query("SELECT n.owner.ownerId, COUNT(n) FROM Notification n WHERE n.owner.ownerId IN :ownerIds AND n.isRead = false GROUP BY n.owner.ownerId")
+    List<Object[]> countUnreadGroupByOwnerIds(@Param("ownerIds") Collection<Long> ownerIds);
+
+    /**
+     * 특정 고객의 읽지 않은 알림 전체 읽음 처리
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.customer.customerId = :customerId AND n.isRead = false")
+    int markAllAsReadByCustomerId(@Param("customerId") Long customerId);
+
+    /**
+     * 특정 점주의 읽지 않은 알림 전체 읽음 처리
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.owner.ownerId = :ownerId AND n.isRead = false")
+    int markAllAsReadByOwnerId(@Param("ownerId") Long ownerId);
+
 
     /**
      * 특정 고객의 읽지 않은 알림 목록 조회 (페이징, 최신순)
      */
+    @EntityGraph(attributePaths = "body")
     @Query("SELECT n FROM Notification n WHERE n.customer.customerId = :customerId AND n.isRead = false ORDER BY n.createdAt DESC")
     Page<Notification> findUnreadNotificationsByCustomerIdOrderByCreatedAtDesc(@Param("customerId") Long customerId, Pageable pageable);
 
     /**
      * 특정 점주의 읽지 않은 알림 목록 조회 (페이징, 최신순)
      */
+    @EntityGraph(attributePaths = "body")
     @Query("SELECT n FROM Notification n WHERE n.owner.ownerId = :ownerId AND n.isRead = false ORDER BY n.createdAt DESC")
     Page<Notification> findUnreadNotificationsByOwnerIdOrderByCreatedAtDesc(@Param("ownerId") Long ownerId, Pageable pageable);
 }
\ No newline at end of file
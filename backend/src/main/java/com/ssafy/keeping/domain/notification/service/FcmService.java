@@ -15,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +24,8 @@ import java.util.Map;
 @Slf4j
 public class FcmService {
 
+    private static final int MULTICAST_MAX_TOKENS = 500;
+
     private final FcmTokenRepository fcmTokenRepository;
     private final CustomerRepository customerRepository;
     private final OwnerRepository ownerRepository;
@@ -126,6 +129,74 @@ public class FcmService {
         }
     }
 
+    /**
+     * 여러 고객에게 같은 FCM 푸시 알림 전송 (멀티캐스트, 토큰 500개당 1회 호출)
+     * @return FCM 호출 횟수
+     */
+    public int sendMulticastToCustomers(Collection<Long> customerIds, String title, String body, Map<String, String> data) {
+        if (customerIds.isEmpty()) return 0;
+
+        List<String> tokens = fcmTokenRepository.findByCustomerIdIn(customerIds).stream()
+                .map(FcmToken::getToken)
+                .distinct()
+                .toList();
+        if (tokens.isEmpty()) {
+            log.warn("FCM 멀티캐스트 대상 토큰이 없음 - 고객 수: {}", customerIds.size());
+            return 0;
+        }
+
+        int calls = 0;
+        for (int from = 0; from < tokens.size(); from += MULTICAST_MAX_TOKENS) {
+            sendMulticast(tokens.subList(from, Math.min(tokens.size(), from + MULTICAST_MAX_TOKENS)), title, body, data);
+            calls++;
+        }
+        log.info("FCM 멀티캐스트 전송 완료 - 고객 수: {}, 토큰 수: {}, 호출: {}회", customerIds.size(), tokens.size(), calls);
+        return calls;
+    }
+
+    private void sendMulticast(List<String> tokens, String title, String body, Map<String, String> data) {
+        try {
+            MulticastMessage.Builder messageBuilder = MulticastMessage.builder()
+                    .addAllTokens(tokens)
+                    .setNotification(Notification.builder()
+                            .setTitle(title)
+                            .setBody(body)
+                            .build())
+                    .setWebpushConfig(WebpushConfig.builder()
+                            .setNotification(WebpushNotification.builder()
+                                    .setTitle(title)
+                                    .setBody(body)
+                                    .setIcon("/icon-192x192.png") // 웹 푸시 아이콘
+                                    .build())
+                            .build());
+
+            if (data != null && !data.isEmpty()) {
+                messageBuilder.putAllData(data);
+            }
+
+            BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(messageBuilder.build());
+            if (response.getFailureCount() == 0) return;
+
+            // 응답 순서 = 토큰 순서, 유효하지 않은 토큰만 삭제
+            List<SendResponse> responses = response.getResponses();
+            for (int i = 0; i < responses.size(); i++) {
+                FirebaseMessagingException e = responses.get(i).getException();
+                if (e == null) continue;
+                if (e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED ||
+                    e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT) {
+                    log.info("유효하지 않은 토큰 삭제 - 토큰: {}", tokens.get(i).substring(0, 20) + "...");
+                    fcmTokenRepository.deleteByToken(tokens.get(i));
+                }
+            }
+            log.warn("FCM 멀티캐스트 일부 실패 - 성공: {}, 실패: {}", response.getSuccessCount(), response.getFailureCount());
+
+        } catch (FirebaseMessagingException e) {
+            log.error("FCM 멀티캐스트 전송 실패 - 토큰 수: {}, 오류: {}", tokens.size(), e.getMessage());
+        } catch (Exception e) {
+            log.error("FCM 멀티캐스트 전송 중 예상치 못한 오류", e);
+        }
+    }
+
     /**
      * FCM 메시지 전송
      */
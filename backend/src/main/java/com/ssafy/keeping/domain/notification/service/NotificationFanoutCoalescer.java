@@ -0,0 +1,288 @@
+package com.ssafy.keeping.domain.notification.service;
+
+import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
+import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import com.ssafy.keeping.domain.notification.repository.NotificationJdbcRepository;
+import com.ssafy.keeping.domain.notification.repository.NotificationJdbcRepository.FanoutRecipient;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 여러 수신자에게 같은 내용으로 보내는 알림(모임 알림) 저장/묶음 처리
+ * - 저장: 공유 본문 1행 + 수신자 행 INSERT ... SELECT 1회 → 수신자 수와 무관하게 SQL 문장 2회
+ * - 저장 후 수신자별 읽지 않은 개수 증가(파이프라인 1회) → onPersisted 콜백 1회 (SSE 일괄 발행 + FCM 멀티캐스트)
+ * - 같은 주제(모임) · 같은 유형 알림이 window-ms 안에 여러 번 오면 수신자별로 모아 요약 알림 1건으로 저장/전송
+ *   (창은 첫 알림 기준으로 닫히므로 지연은 최대 window-ms, max-events 에 도달하면 바로 닫음)
+ * - 묶음 대상이 아닌 유형은 기다리지 않고 바로 저장/전송
+ * - 묶음은 노드 메모리 단위라 같은 모임 알림이 여러 노드에서 발생하면 노드별로 따로 묶임
+ * - 저장/전송은 작은 고정 풀 + 제한 큐, 큐가 차면 제출한 스레드(발송자 또는 타이머)가 직접 처리
+ */
+@Slf4j
+@Component
+public class NotificationFanoutCoalescer {
+
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int CONTENT_MAX_LENGTH = 500;
+
+    private final NotificationJdbcRepository jdbcRepository;
+    private final NotificationUnreadCounter unreadCounter;
+    private final TransactionTemplate txTemplate;
+    private final long windowMs;
+    private final int maxEvents;
+    private final Set<NotificationType> coalescedTypes;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer =
+            Executors.newSingleThreadScheduledExecutor(daemonThreads("notification-coalescer-"));
+    private final ThreadPoolExecutor worker;
+
+    private final LongAdder events = new LongAdder();
+    private final LongAdder bodies = new LongAdder();
+    private final LongAdder recipientRows = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+
+    public NotificationFanoutCoalescer(NotificationJdbcRepository jdbcRepository,
+                                       NotificationUnreadCounter unreadCounter,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${notification.coalesce.window-ms:3000}") long windowMs,
+                                       @Value("${notification.coalesce.max-events:20}") int maxEvents,
+                                       @Value("${notification.coalesce.types:GROUP_POINT_SHARED,GROUP_POINT_USE}")
+                                       Set<NotificationType> coalescedTypes,
+                                       @Value("${notification.coalesce.worker-threads:4}") int workerThreads,
+                                       @Value("${notification.coalesce.worker-queue:1000}") int workerQueue) {
+        this.jdbcRepository = jdbcRepository;
+        this.unreadCounter = unreadCounter;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        // 호출자 트랜잭션과 무관하게 커밋 (write-behind 저장소와 동일)
+        this.txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.windowMs = windowMs;
+        this.maxEvents = maxEvents;
+        this.coalescedTypes = coalescedTypes.isEmpty() ? EnumSet.noneOf(NotificationType.class) : EnumSet.copyOf(coalescedTypes);
+        int threads = Math.max(1, workerThreads);
+        // 큐가 가득 차거나 종료 중이면 제출한 스레드에서 저장 (버리지 않음)
+        this.worker = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, workerQueue)), daemonThreads("notification-fanout-"),
+                (task, executor) -> {
+                    callerRuns.increment();
+                    task.run();
+                });
+    }
+
+    /**
+     * 여러 고객에게 보낼 알림 1건
+     */
+    public record FanoutEvent(NotificationType notificationType, Collection<Long> customerIds, String content,
+                              LocalDateTime createdAt, Consumer<FanoutDelivery> onPersisted) {
+    }
+
+    /**
+     * 저장 완료된 공유 본문 알림 (수신자별 notificationId 가 채워진 DTO 목록)
+     */
+    public record FanoutDelivery(Long bodyId, NotificationType notificationType, String content, int eventCount,
+                                 String createdAt, List<NotificationResponseDto> notifications) {
+    }
+
+    public record Stats(long events, long bodies, long recipientRows, long coalesced, long failed, int openWindows,
+                        long callerRuns, int queued) {
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory factory = new CustomizableThreadFactory(prefix);
+        factory.setDaemon(true);
+        return factory;
+    }
+
+    /** 묶음 창: compute 안에서만 추가, 창을 닫을 때는 맵에서 먼저 제거 */
+    private static final class Window {
+        private final List<FanoutEvent> events = new ArrayList<>();
+    }
+
+    /** 저장 단위 (요약 알림이면 eventCount ≥ 2) */
+    private record Digest(NotificationType notificationType, List<Long> customerIds, String content, int eventCount,
+                          LocalDateTime createdAt, Consumer<FanoutDelivery> onPersisted) {
+    }
+
+    /**
+     * @param topic 묶음 단위 (예: group-12), 같은 topic · 같은 유형끼리만 묶음
+     */
+    public void submit(String topic, FanoutEvent event) {
+        events.increment();
+        if (windowMs <= 0 || !coalescedTypes.contains(event.notificationType())) {
+            execute(List.of(single(event)));
+            return;
+        }
+
+        String key = topic + ":" + event.notificationType();
+        boolean[] opened = {false};
+        boolean[] full = {false};
+        Window window = windows.compute(key, (k, current) -> {
+            Window target = current != null ? current : new Window();
+            opened[0] = current == null;
+            target.events.add(event);
+            full[0] = target.events.size() >= maxEvents;
+            return target;
+        });
+
+        if (full[0]) {
+            close(key, window);
+        } else if (opened[0]) {
+            try {
+                timer.schedule(() -> close(key, window), windowMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // 종료 중: 바로 닫음
+                close(key, window);
+            }
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(events.sum(), bodies.sum(), recipientRows.sum(), coalesced.sum(), failed.sum(), windows.size(),
+                callerRuns.sum(), worker.getQueue().size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        timer.shutdownNow();
+        // 열린 창은 기다리지 않고 바로 저장/전송
+        for (String key : new ArrayList<>(windows.keySet())) {
+            Window window = windows.remove(key);
+            if (window != null) persistAll(digest(window.events));
+        }
+        worker.shutdown();
+        try {
+            worker.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("알림 묶음 처리 종료 - {}", stats());
+    }
+
+    private void close(String key, Window window) {
+        // 이미 닫힌 창(개수 도달 후 타이머 만료 등)은 무시
+        if (!windows.remove(key, window)) return;
+        if (window.events.size() > 1) coalesced.add(window.events.size());
+        execute(digest(window.events));
+    }
+
+    private void execute(List<Digest> digests) {
+        worker.execute(() -> persistAll(digests));
+    }
+
+    /**
+     * 창 안 알림을 수신자별로 모아 요약
+     * - 같은 알림 조합을 받은 수신자끼리 본문 1개를 공유 (보통 모임원 전원이 같은 조합)
+     */
+    private static List<Digest> digest(List<FanoutEvent> events) {
+        if (events.size() == 1) return List.of(single(events.get(0)));
+
+        Map<Long, BitSet> eventsByReceiver = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            for (Long customerId : events.get(i).customerIds()) {
+                eventsByReceiver.computeIfAbsent(customerId, k -> new BitSet()).set(i);
+            }
+        }
+        Map<BitSet, List<Long>> receiversByEvents = new LinkedHashMap<>();
+        eventsByReceiver.forEach((customerId, bits) ->
+                receiversByEvents.computeIfAbsent(bits, k -> new ArrayList<>()).add(customerId));
+
+        List<Digest> digests = new ArrayList<>(receiversByEvents.size());
+        receiversByEvents.forEach((bits, customerIds) -> {
+            List<FanoutEvent> picked = bits.stream().mapToObj(events::get).toList();
+            FanoutEvent last = picked.get(picked.size() - 1);
+            digests.add(new Digest(last.notificationType(), customerIds,
+                    digestContent(picked.stream().map(FanoutEvent::content).toList()),
+                    picked.size(), last.createdAt(), last.onPersisted()));
+        });
+        return digests;
+    }
+
+    private static Digest single(FanoutEvent event) {
+        return new Digest(event.notificationType(), List.copyOf(new LinkedHashSet<>(event.customerIds())),
+                event.content(), 1, event.createdAt(), event.onPersisted());
+    }
+
+    /**
+     * 요약 본문: 모두 담을 수 있으면 목록, 길면 마지막 알림 + 나머지 건수
+     */
+    public static String digestContent(List<String> contents) {
+        if (contents.size() == 1) return contents.get(0);
+
+        String listed = String.format("새 알림 %d건\n", contents.size()) + String.join("\n", contents);
+        if (listed.length() <= CONTENT_MAX_LENGTH) return listed;
+
+        String summary = String.format("%s 외 %d건", contents.get(contents.size() - 1), contents.size() - 1);
+        return summary.length() <= CONTENT_MAX_LENGTH ? summary : summary.substring(0, CONTENT_MAX_LENGTH);
+    }
+
+    private void persistAll(List<Digest> digests) {
+        for (Digest digest : digests) {
+            try {
+                persist(digest);
+            } catch (Exception e) {
+                failed.increment();
+                log.error("공유 본문 알림 저장 실패 - 유형: {}, 수신자 수: {}",
+                        digest.notificationType(), digest.customerIds().size(), e);
+            }
+        }
+    }
+
+    private void persist(Digest digest) {
+        FanoutDelivery delivery = txTemplate.execute(status -> {
+            Long bodyId = jdbcRepository.insertBody(digest.notificationType(), digest.content(),
+                    digest.eventCount(), digest.createdAt());
+            List<FanoutRecipient> recipients = jdbcRepository.insertRecipients(bodyId, digest.notificationType(),
+                    digest.customerIds(), digest.createdAt());
+            return toDelivery(bodyId, digest, recipients);
+        });
+        if (delivery == null || delivery.notifications().isEmpty()) return;
+
+        bodies.increment();
+        recipientRows.add(delivery.notifications().size());
+
+        Map<String, Long> unreadDeltas = new HashMap<>();
+        for (NotificationResponseDto n : delivery.notifications()) {
+            unreadDeltas.put(NotificationUnreadCounter.receiverKey(n.getReceiverType(), n.getReceiverId()), 1L);
+        }
+        unreadCounter.addAll(unreadDeltas);
+
+        if (digest.onPersisted() == null) return;
+        try {
+            digest.onPersisted().accept(delivery);
+        } catch (Exception e) {
+            log.error("공유 본문 알림 전송 콜백 오류 - 본문ID: {}", delivery.bodyId(), e);
+        }
+    }
+
+    private static FanoutDelivery toDelivery(Long bodyId, Digest digest, List<FanoutRecipient> recipients) {
+        String createdAt = digest.createdAt().format(CREATED_AT_FORMAT);
+        List<NotificationResponseDto> notifications = recipients.stream()
+                .map(r -> NotificationResponseDto.builder()
+                        .notificationId(r.notificationId())
+                        .content(digest.content())
+                        .isRead(false)
+                        .notificationType(digest.notificationType())
+                        .receiverType("CUSTOMER")
+                        .receiverId(r.customerId())
+                        .receiverName(r.customerName())
+                        .createdAt(createdAt)
+                        .build())
+                .toList();
+        return new FanoutDelivery(bodyId, digest.notificationType(), digest.content(), digest.eventCount(),
+                createdAt, notifications);
+    }
+}
@@ -1,5 +1,7 @@
 package com.ssafy.keeping.domain.notification.service;
 
+import com.ssafy.keeping.domain.notification.dto.NotificationCursor;
+import com.ssafy.keeping.domain.notification.dto.NotificationCursorResponseDto;
 import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
 import com.ssafy.keeping.domain.notification.entity.Notification;
 import com.ssafy.keeping.domain.notification.repository.NotificationRepository;
@@ -9,13 +11,17 @@ import com.ssafy.keeping.domain.user.owner.model.Owner;
 import com.ssafy.keeping.domain.user.owner.repository.OwnerRepository;
 import com.ssafy.keeping.global.exception.CustomException;
 import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import com.ssafy.keeping.global.util.TxUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -24,6 +30,7 @@ public class NotificationQueryService {
     private final NotificationRepository notificationRepository;
     private final CustomerRepository customerRepository;
     private final OwnerRepository ownerRepository;
+    private final NotificationUnreadCounter unreadCounter;
 
     /**
      * 고객 알림 읽음 처리
@@ -46,6 +53,7 @@ public class NotificationQueryService {
         // 읽음 처리
         notification.markAsRead();
         notificationRepository.save(notification);
+        TxUtils.afterCommit(() -> unreadCounter.add(NotificationUnreadCounter.receiverKey("customer", customerId), -1L));
         
         log.info("고객 알림 읽음 처리 성공 - 고객ID: {}, 알림ID: {}", customerId, notificationId);
     }
@@ -71,10 +79,50 @@ public class NotificationQueryService {
         // 읽음 처리
         notification.markAsRead();
         notificationRepository.save(notification);
+        TxUtils.afterCommit(() -> unreadCounter.add(NotificationUnreadCounter.receiverKey("owner", ownerId), -1L));
         
         log.info("점주 알림 읽음 처리 성공 - 점주ID: {}, 알림ID: {}", ownerId, notificationId);
     }
 
+    /**
+     * 고객 알림 전체 읽음 처리
+     * @param customerId 고객 ID
+     * @return 읽음 처리된 알림 개수
+     */
+    @Transactional
+    public int markAllAsReadForCustomer(Long customerId) {
+        log.info("고객 알림 전체 읽음 처리 요청 - 고객ID: {}", customerId);
+
+        customerRepository.findById(customerId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CUSTOMER_NOT_FOUND));
+
+        // 0으로 덮어쓰지 않고 실제로 바뀐 개수만큼 차감 (그 사이 저장된 새 알림 보존)
+        int updated = notificationRepository.markAllAsReadByCustomerId(customerId);
+        TxUtils.afterCommit(() -> unreadCounter.add(NotificationUnreadCounter.receiverKey("customer", customerId), -updated));
+
+        log.info("고객 알림 전체 읽음 처리 성공 - 고객ID: {}, 처리 수: {}", customerId, updated);
+        return updated;
+    }
+
+    /**
+     * 점주 알림 전체 읽음 처리
+     * @param ownerId 점주 ID
+     * @return 읽음 처리된 알림 개수
+     */
+    @Transactional
+    public int markAllAsReadForOwner(Long ownerId) {
+        log.info("점주 알림 전체 읽음 처리 요청 - 점주ID: {}", ownerId);
+
+        ownerRepository.findById(ownerId)
+                .orElseThrow(() -> new CustomException(ErrorCode.OWNER_NOT_FOUND));
+
+        int updated = notificationRepository.markAllAsReadByOwnerId(ownerId);
+        TxUtils.afterCommit(() -> unreadCounter.add(NotificationUnreadCounter.receiverKey("owner", ownerId), -updated));
+
+        log.info("점주 알림 전체 읽음 처리 성공 - 점주ID: {}, 처리 수: {}", ownerId, updated);
+        return updated;
+    }
+
     /**
      * 고객 알림 목록 조회
      * @param customerId 고객 ID
@@ -122,19 +170,73 @@ public class NotificationQueryService {
     }
 
     /**
-     * 고객 읽지 않은 알림 개수 조회
+     * 고객 알림함 커서 조회 (offset 없이 마지막으로 받은 알림 이후만 인덱스 범위로 읽음)
      * @param customerId 고객 ID
-     * @return 읽지 않은 알림 개수
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param unreadOnly 읽지 않은 알림만
+     * @return 알림 목록 + 다음 커서
      */
     @Transactional(readOnly = true)
+    public NotificationCursorResponseDto getInboxForCustomer(Long customerId, String cursor, int size, boolean unreadOnly) {
+        NotificationCursor after = NotificationCursor.decode(cursor);
+        customerRepository.findById(customerId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CUSTOMER_NOT_FOUND));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Notification> rows = unreadOnly
+                ? notificationRepository.findUnreadInboxByCustomerId(customerId, after.createdAt(), after.notificationId(), limit)
+                : notificationRepository.findInboxByCustomerId(customerId, after.createdAt(), after.notificationId(), limit);
+        return toCursorResponse(rows, size);
+    }
+
+    /**
+     * 점주 알림함 커서 조회
+     * @param ownerId 점주 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param unreadOnly 읽지 않은 알림만
+     * @return 알림 목록 + 다음 커서
+     */
+    @Transactional(readOnly = true)
+    public NotificationCursorResponseDto getInboxForOwner(Long ownerId, String cursor, int size, boolean unreadOnly) {
+        NotificationCursor after = NotificationCursor.decode(cursor);
+        ownerRepository.findById(ownerId)
+                .orElseThrow(() -> new CustomException(ErrorCode.OWNER_NOT_FOUND));
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Notification> rows = unreadOnly
+                ? notificationRepository.findUnreadInboxByOwnerId(ownerId, after.createdAt(), after.notificationId(), limit)
+                : notificationRepository.findInboxByOwnerId(ownerId, after.createdAt(), after.notificationId(), limit);
+        return toCursorResponse(rows, size);
+    }
+
+    private NotificationCursorResponseDto toCursorResponse(List<Notification> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<Notification> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? NotificationCursor.after(page.get(page.size() - 1)).encode() : null;
+        return NotificationCursorResponseDto.builder()
+                .notifications(page.stream().map(NotificationResponseDto::from).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 고객 읽지 않은 알림 개수 조회 (Redis 카운터, 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행)
+     * @param customerId 고객 ID
+     * @return 읽지 않은 알림 개수
+     */
     public long getUnreadCountForCustomer(Long customerId) {
         log.info("고객 읽지 않은 알림 개수 조회 요청 - 고객ID: {}", customerId);
         
-        // 고객 존재 여부 확인
-        Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CUSTOMER_NOT_FOUND));
-        
-        long unreadCount = notificationRepository.countUnreadByCustomerId(customerId);
+        // 카운터가 없을 때만 고객 존재 확인 + DB COUNT
+        long unreadCount = unreadCounter.get(NotificationUnreadCounter.receiverKey("customer", customerId), () -> {
+            customerRepository.findById(customerId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.CUSTOMER_NOT_FOUND));
+            return notificationRepository.countUnreadByCustomerId(customerId);
+        });
         
         log.info("고객 읽지 않은 알림 개수 조회 완료 - 고객ID: {}, 읽지 않은 알림 수: {}", customerId, unreadCount);
         
@@ -142,19 +244,19 @@ public class NotificationQueryService {
     }
 
     /**
-     * 점주 읽지 않은 알림 개수 조회
+     * 점주 읽지 않은 알림 개수 조회 (Redis 카운터, 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행)
      * @param ownerId 점주 ID
      * @return 읽지 않은 알림 개수
      */
-    @Transactional(readOnly = true)
     public long getUnreadCountForOwner(Long ownerId) {
         log.info("점주 읽지 않은 알림 개수 조회 요청 - 점주ID: {}", ownerId);
         
-        // 점주 존재 여부 확인
-        Owner owner = ownerRepository.findById(ownerId)
-                .orElseThrow(() -> new CustomException(ErrorCode.OWNER_NOT_FOUND));
-        
-        long unreadCount = notificationRepository.countUnreadByOwnerId(ownerId);
+        // 카운터가 없을 때만 점주 존재 확인 + DB COUNT
+        long unreadCount = unreadCounter.get(NotificationUnreadCounter.receiverKey("owner", ownerId), () -> {
+            ownerRepository.findById(ownerId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.OWNER_NOT_FOUND));
+            return notificationRepository.countUnreadByOwnerId(ownerId);
+        });
         
         log.info("점주 읽지 않은 알림 개수 조회 완료 - 점주ID: {}, 읽지 않은 알림 수: {}", ownerId, unreadCount);
         
@@ -0,0 +1,162 @@
+package com.ssafy.keeping.domain.notification.service;
+
+import com.ssafy.keeping.domain.notification.repository.NotificationJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 알림 보존 기간 관리 스케줄러
+ * 1. 보관: retention-days 가 지난 읽은 알림을 notification_id 구간(keyset) chunk 단위로 notifications_archive 로 이동
+ *    - 읽지 않은 알림은 기간이 지나도 알림함에 남김
+ *    - chunk 마다 별도 트랜잭션이라 잠금/언두가 짧고, 중간에 멈춰도 다음 실행이 이어서 처리
+ * 2. 삭제: archive-days 가 지난 보관 알림을 chunk 단위로 삭제
+ * 3. 공유 본문 정리: 수신자 행이 모두 보관(내용은 보관 행에 복사됨)된 notification_bodies 삭제
+ */
+@Service
+@Slf4j
+public class NotificationRetentionScheduler {
+
+    private final NotificationJdbcRepository jdbcRepository;
+    private final TransactionTemplate txTemplate;
+    private final Clock clock;
+    private final int retentionDays;
+    private final int archiveDays;
+    private final int chunkSize;
+    private final long maxRunMs;
+
+    // 누적 지표 (실행 간 유지)
+    private final LongAdder archivedTotal = new LongAdder();
+    private final LongAdder purgedTotal = new LongAdder();
+    private final LongAdder chunksTotal = new LongAdder();
+    private final LongAdder failedRuns = new LongAdder();
+    private volatile RunStats lastRun;
+
+    public NotificationRetentionScheduler(NotificationJdbcRepository jdbcRepository,
+                                          PlatformTransactionManager transactionManager,
+                                          Clock clock,
+                                          @Value("${notification.retention.days:90}") int retentionDays,
+                                          @Value("${notification.retention.archive-days:365}") int archiveDays,
+                                          @Value("${notification.retention.chunk-size:1000}") int chunkSize,
+                                          @Value("${notification.retention.max-run-ms:1800000}") long maxRunMs) {
+        this.jdbcRepository = jdbcRepository;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.retentionDays = retentionDays;
+        this.archiveDays = archiveDays;
+        this.chunkSize = chunkSize;
+        this.maxRunMs = maxRunMs;
+    }
+
+    public record RunStats(int archived, int purged, int bodies, int chunks, long elapsedMs) {
+        public double rowsPerSecond() {
+            return elapsedMs == 0 ? archived + purged : (archived + purged) * 1000.0 / elapsedMs;
+        }
+    }
+
+    public record Metrics(long archivedTotal, long purgedTotal, long chunksTotal, long failedRuns, RunStats lastRun) {
+    }
+
+    /**
+     * 매일 03:40
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 40 3 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        try {
+            purge();
+        } catch (Exception e) {
+            failedRuns.increment();
+            log.warn("알림 보존 기간 정리 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    public RunStats purge() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        long started = System.currentTimeMillis();
+        int[] chunks = {0};
+
+        int archived = archive(now.minusDays(retentionDays), started, chunks);
+        int purged = purgeArchive(now.minusDays(archiveDays), started, chunks);
+        int bodies = purgeOrphanBodies(now.minusDays(retentionDays), started, chunks);
+
+        RunStats stats = new RunStats(archived, purged, bodies, chunks[0], System.currentTimeMillis() - started);
+        lastRun = stats;
+        if (archived + purged + bodies > 0) {
+            log.info("알림 보존 기간 정리 완료 - 보관: {}건, 보관본 삭제: {}건, 공유 본문 삭제: {}건, chunk: {}, 소요: {}ms, 처리량: {} rows/s",
+                    archived, purged, bodies, stats.chunks(), stats.elapsedMs(), String.format("%.1f", stats.rowsPerSecond()));
+        }
+        return stats;
+    }
+
+    public Metrics metrics() {
+        return new Metrics(archivedTotal.sum(), purgedTotal.sum(), chunksTotal.sum(), failedRuns.sum(), lastRun);
+    }
+
+    private int archive(LocalDateTime cutoff, long started, int[] chunks) {
+        Long maxId = jdbcRepository.findMaxIdCreatedBefore(cutoff);
+        if (maxId == null) return 0;
+
+        LocalDateTime archivedAt = LocalDateTime.now(clock);
+        long cursor = 0L;
+        int archived = 0;
+        while (true) {
+            List<Long> ids = jdbcRepository.findArchivableIds(cursor, maxId, cutoff, chunkSize);
+            if (ids.isEmpty()) break;
+
+            Integer moved = txTemplate.execute(status -> jdbcRepository.moveToArchive(ids, archivedAt));
+            archived += moved == null ? 0 : moved;
+            archivedTotal.add(moved == null ? 0 : moved);
+            chunksTotal.increment();
+            chunks[0]++;
+            cursor = ids.get(ids.size() - 1);
+
+            if (ids.size() < chunkSize) break;
+            if (System.currentTimeMillis() - started > maxRunMs) {
+                log.warn("알림 보관 시간 초과로 중단 - 보관: {}건, 마지막 알림ID: {}", archived, cursor);
+                break;
+            }
+        }
+        return archived;
+    }
+
+    private int purgeArchive(LocalDateTime cutoff, long started, int[] chunks) {
+        int purged = 0;
+        while (System.currentTimeMillis() - started <= maxRunMs) {
+            List<Long> ids = jdbcRepository.findExpiredArchiveIds(cutoff, chunkSize);
+            if (ids.isEmpty()) break;
+
+            Integer deleted = txTemplate.execute(status -> jdbcRepository.deleteArchive(ids));
+            purged += deleted == null ? 0 : deleted;
+            purgedTotal.add(deleted == null ? 0 : deleted);
+            chunksTotal.increment();
+            chunks[0]++;
+
+            if (ids.size() < chunkSize) break;
+        }
+        return purged;
+    }
+
+    private int purgeOrphanBodies(LocalDateTime cutoff, long started, int[] chunks) {
+        int deleted = 0;
+        while (System.currentTimeMillis() - started <= maxRunMs) {
+            List<Long> ids = jdbcRepository.findOrphanBodyIds(cutoff, chunkSize);
+            if (ids.isEmpty()) break;
+
+            Integer removed = txTemplate.execute(status -> jdbcRepository.deleteBodies(ids));
+            deleted += removed == null ? 0 : removed;
+            chunksTotal.increment();
+            chunks[0]++;
+
+            if (ids.size() < chunkSize || removed == null || removed == 0) break;
+        }
+        return deleted;
+    }
+}
@@ -1,30 +1,26 @@
 package com.ssafy.keeping.domain.notification.service;
 
 import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
-import com.ssafy.keeping.domain.notification.entity.Notification;
 import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import com.ssafy.keeping.domain.notification.gateway.NotificationFanoutBus;
 import com.ssafy.keeping.domain.notification.repository.EmitterRepository;
-import com.ssafy.keeping.domain.notification.repository.NotificationRepository;
 import com.ssafy.keeping.domain.user.customer.model.Customer;
 import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
 import com.ssafy.keeping.domain.user.owner.model.Owner;
 import com.ssafy.keeping.domain.user.owner.repository.OwnerRepository;
 import com.ssafy.keeping.domain.auth.security.JwtProvider;
 import com.ssafy.keeping.domain.auth.enums.UserRole;
+import com.ssafy.keeping.global.redis.RedisPipeline;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Date;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -32,14 +28,15 @@ import java.util.Map;
 public class NotificationService {
 
     private final EmitterRepository emitterRepository;
-    private final NotificationRepository notificationRepository;
+    private final NotificationFanoutBus fanoutBus;
+    private final NotificationWriteBehindStore writeBehindStore;
+    private final NotificationFanoutCoalescer fanoutCoalescer;
     private final CustomerRepository customerRepository;
     private final OwnerRepository ownerRepository;
     private final FcmService fcmService;
     private final JwtProvider jwtProvider;
     private final StringRedisTemplate redisTemplate;
-
-    private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60; // 60분
+    private final RedisPipeline redisPipeline;
 
     //   - 알림 전송 실패가 핵심 비즈니스를 방해하면 안됨
     //  - 결제 취소는 성공했는데 알림 때문에 전체가 실패하면 더 큰 문제
@@ -51,67 +48,39 @@ public class NotificationService {
      * @param receiverId 사용자 ID
      * @param lastEventId 마지막으로 받은 이벤트 ID (재연결용)
      * @param accessToken AccessToken (토큰 기반 재전송을 위함, null 가능)
-     * @return SseEmitter
+     * @return 수신자 이벤트 스트림 (연결 확인 → 유실 이벤트 재전송 → 실시간 이벤트 + 하트비트)
      */
     // "구독"은 실시간 알림을 받기 위해 맨 처음 단 한 번, 서버와 클라이언트(브라우저) 사이에 '알림 전용 통신선'을 개통하는 행위입니다.
-    public SseEmitter subscribe(String receiverType, Long receiverId, String lastEventId, String accessToken) {
-        String emitterId = makeTimeIncludeId(receiverType, receiverId);
-
-        SseEmitter sseEmitter = emitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
-        
-        log.info("SSE 구독 시작 - {}:{}, EmitterID: {}", receiverType, receiverId, emitterId);
-        // Emitter 완료/타임아웃/에러 시 정리 작업
-        sseEmitter.onCompletion(() -> {
-            log.info("SSE 연결 완료 - EmitterID: {}", emitterId);
-            emitterRepository.deleteById(emitterId);
-        });
-        
-        sseEmitter.onTimeout(() -> {
-            log.info("SSE 연결 타임아웃 - EmitterID: {}", emitterId);
-            emitterRepository.deleteById(emitterId);
-        });
-        
-        sseEmitter.onError((e) -> {
-            log.error("SSE 연결 에러 - EmitterID: {}, Error: {}", emitterId, e.getMessage());
-            emitterRepository.deleteById(emitterId);
-        });
+    public Flux<ServerSentEvent<Object>> subscribe(String receiverType, Long receiverId, String lastEventId, String accessToken) {
+        log.info("SSE 구독 시작 - {}:{}", receiverType, receiverId);
 
-        // 503 에러 방지를 위한 더미 이벤트 전송
-        try {
-            String eventId = makeTimeIncludeId(receiverType, receiverId);
-            boolean connectionSuccess = sendNotification(sseEmitter, eventId, emitterId, 
+        // 503 에러 방지를 위한 더미 이벤트 (연결 직후 바로 전송)
+        ServerSentEvent<Object> connected = notificationEvent(makeTimeIncludeId(receiverType, receiverId),
                 "SSE 연결 성공 [" + receiverType + ":" + receiverId + "]");
-            
-            if (!connectionSuccess) {
-                log.warn("초기 연결 이벤트 전송 실패 - EmitterID: {}", emitterId);
-            }
-
-            // 토큰 기반 유실 데이터 재전송 처리
-            if (accessToken != null && !accessToken.trim().isEmpty()) {
-                // AccessToken이 있는 경우 - 네트워크 재연결 시나리오
-                log.info("AccessToken 기반 재전송 시도 - {}:{}", receiverType, receiverId);
-                sendLostDataWithTokenFilter(accessToken, receiverType, receiverId, emitterId, sseEmitter);
-            } else {
-                // AccessToken이 없는 경우 - 로그아웃 상태로 간주하여 재전송 차단
-                log.info("AccessToken 없음 - 로그아웃 상태로 간주하여 재전송 차단 - {}:{}", receiverType, receiverId);
-            }
 
-        } catch (Exception e) {
-            log.error("SSE 구독 초기화 중 오류 - EmitterID: {}", emitterId, e);
-            cleanupEmitter(emitterId);
+        // 토큰 기반 유실 데이터 재전송 처리
+        List<ServerSentEvent<Object>> lostEvents = List.of();
+        if (accessToken != null && !accessToken.trim().isEmpty()) {
+            // AccessToken이 있는 경우 - 네트워크 재연결 시나리오
+            log.info("AccessToken 기반 재전송 시도 - {}:{}", receiverType, receiverId);
+            lostEvents = findLostDataWithTokenFilter(accessToken, receiverType, receiverId);
+        } else {
+            // AccessToken이 없는 경우 - 로그아웃 상태로 간주하여 재전송 차단
+            log.info("AccessToken 없음 - 로그아웃 상태로 간주하여 재전송 차단 - {}:{}", receiverType, receiverId);
         }
 
-        return sseEmitter;
+        Flux<ServerSentEvent<Object>> initialEvents = Flux.concat(Flux.just(connected), Flux.fromIterable(lostEvents));
+        return fanoutBus.connect(receiverType, receiverId, initialEvents);
     }
 
 
     /**
      * 고객에게 알림 전송
+     * - DB 저장은 write-behind 저장소가 모아서 일괄 처리, 저장 후 전송 전략에 따라 SSE/FCM 전송
      * @param customerId 고객 ID
      * @param notificationType 알림 타입
      * @param content 알림 내용
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void sendToCustomer(Long customerId, NotificationType notificationType, String content) {
         try {
             // 입력 값 검증
@@ -128,20 +97,8 @@ public class NotificationService {
                 return;
             }
 
-            // DB에 알림 저장
-            Notification notification = Notification.builder()
-                    .customer(customer)
-                    .content(content)
-                    .notificationType(notificationType)
-                    .build();
-
-            Notification saved = notificationRepository.saveAndFlush(notification);
-            log.info("고객 알림 DB 저장 완료 - 고객ID: {}, 알림ID: {}, 타입: {}",
-                    customerId, saved.getNotificationId(), notificationType);
+            enqueue(customer.getCustomerId(), null, customer.getName(), notificationType, content);
 
-            // 포그라운드/백그라운드 분기하여 알림 전송
-            sendNotificationWithStrategy(NotificationResponseDto.from(saved));
-            
         } catch (Exception e) {
             log.error("고객 알림 전송 중 예상치 못한 오류 - 고객ID: {}, 타입: {}", customerId, notificationType, e);
         }
@@ -168,60 +125,52 @@ public class NotificationService {
                 return;
             }
 
-            // DB에 알림 저장
-            Notification notification = Notification.builder()
-                    .owner(owner)
-                    .content(content)
-                    .notificationType(notificationType)
-                    .build();
-
-            Notification saved = notificationRepository.saveAndFlush(notification);
-            log.info("점주 알림 DB 저장 완료 - 점주ID: {}, 알림ID: {}, 타입: {}", 
-                    ownerId, saved.getNotificationId(), notificationType);
+            enqueue(null, owner.getOwnerId(), owner.getName(), notificationType, content);
 
-            // 포그라운드/백그라운드 분기하여 알림 전송
-            sendNotificationWithStrategy(NotificationResponseDto.from(saved));
-            
         } catch (Exception e) {
             log.error("점주 알림 전송 중 예상치 못한 오류 - 점주ID: {}, 타입: {}", ownerId, notificationType, e);
         }
     }
 
     /**
-     * 고객에게 알림 전체 전송
+     * 모임원 등 여러 고객에게 같은 내용의 알림 전송
+     * - 공유 본문 1행 + 수신자 행으로 저장, SSE 는 대상 노드당 1회 발행, FCM 은 멀티캐스트 1회
+     * - 잦은 유형(포인트 공유/사용)은 같은 모임에서 짧은 시간 안에 여러 번 오면 수신자별 요약 알림으로 묶음
+     * @param groupId 모임 ID (묶음 단위)
      * @param customerIds 고객 ID들
      * @param notificationType 알림 타입
      * @param content 알림 내용
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void sendGroupSharedToMembers(List<Long> customerIds, NotificationType notificationType, String content) {
-        if (customerIds == null || customerIds.isEmpty()) return;
-
-        // 중복 제거
-        for (Long cid : customerIds.stream().distinct().toList()) {
-            try {
-                Customer c = customerRepository.findById(cid).orElse(null);
-                if (c == null) {
-                    log.warn("알림 스킵 - 없는 고객 ID: {}", cid);
-                    continue;
-                }
-
-                Notification n = Notification.builder()
-                        .customer(c)
-                        .notificationType(notificationType)
-                        .content(content)
-                        .build();
+    public void sendToGroupMembers(Long groupId, Collection<Long> customerIds,
+                                   NotificationType notificationType, String content) {
+        try {
+            if (groupId == null || customerIds == null || customerIds.isEmpty()
+                    || notificationType == null || content == null || content.trim().isEmpty()) {
+                log.warn("모임 알림 전송 실패 - 필수 파라미터 누락: groupId={}, type={}, content={}",
+                        groupId, notificationType, content);
+                return;
+            }
 
-                Notification saved = notificationRepository.save(n);
-                // 기존 전송 전략 그대로 재사용
-                sendNotificationWithStrategy(NotificationResponseDto.from(saved));
+            // 없는 고객은 저장 시 제외됨 (수신자 행 INSERT ... SELECT)
+            List<Long> distinctIds = customerIds.stream().filter(Objects::nonNull).distinct().toList();
+            fanoutCoalescer.submit("group-" + groupId, new NotificationFanoutCoalescer.FanoutEvent(
+                    notificationType, distinctIds, content, LocalDateTime.now().withNano(0), this::sendFanoutNotification));
 
-            } catch (Exception e) {
-                log.error("그룹 알림 중 오류 - 고객ID: {}", cid, e);
-            }
+        } catch (Exception e) {
+            log.error("모임 알림 전송 중 예상치 못한 오류 - 모임ID: {}, 타입: {}", groupId, notificationType, e);
         }
     }
 
+    /**
+     * write-behind 저장소에 적재 (저장 완료 후 기존 전송 전략 그대로 재사용)
+     */
+    private void enqueue(Long customerId, Long ownerId, String receiverName,
+                         NotificationType notificationType, String content) {
+        writeBehindStore.enqueue(new NotificationWriteBehindStore.PendingNotification(
+                customerId, ownerId, receiverName, notificationType, content,
+                LocalDateTime.now().withNano(0), this::sendNotificationWithStrategy));
+    }
+
     /**
      * 포그라운드/백그라운드/로그아웃 분기하여 알림 전송
      */
@@ -230,12 +179,12 @@ public class NotificationService {
         Long receiverId = data.getReceiverId();
 
         try {
-            // 활성 SSE 연결이 있는지 확인
-            boolean hasActiveConnection = emitterRepository.hasActiveConnection(receiverType, receiverId);
+            // 활성 SSE 연결이 있는지 확인 (다른 노드의 연결 포함)
+            boolean hasActiveConnection = fanoutBus.isOnline(receiverType, receiverId);
 
             if (hasActiveConnection) {
                 // 1. 포그라운드: SSE로 실시간 전송
-                log.info("포그라운드 상태 감지 - SSE로 알림 전송: {}:{}", receiverType, receiverId);
+                log.debug("포그라운드 상태 감지 - SSE로 알림 전송: {}:{}", receiverType, receiverId);
                 sendRealTimeNotification(data);
             } else {
                 // SSE 연결이 없는 경우: 로그인 상태 확인 필요
@@ -243,11 +192,11 @@ public class NotificationService {
 
                 if (isLoggedIn) {
                     // 2. 백그라운드 (로그인 상태): FCM으로 푸시 알림 전송
-                    log.info("백그라운드 상태 감지 - FCM으로 푸시 알림 전송: {}:{}", receiverType, receiverId);
+                    log.debug("백그라운드 상태 감지 - FCM으로 푸시 알림 전송: {}:{}", receiverType, receiverId);
                     sendFcmNotification(data);
                 } else {
                     // 3. 로그아웃 상태: 알림 전송 차단
-                    log.info("로그아웃 상태 감지 - 알림 전송 차단: {}:{}", receiverType, receiverId);
+                    log.debug("로그아웃 상태 감지 - 알림 전송 차단: {}:{}", receiverType, receiverId);
                     // DB에는 저장되지만 실시간/푸시 알림은 보내지 않음
                 }
             }
@@ -257,6 +206,41 @@ public class NotificationService {
         }
     }
     
+    /**
+     * 공유 본문 알림 일괄 전송
+     * - SSE 연결이 있는 수신자는 일괄 발행으로, 나머지 중 로그인 상태인 수신자는 FCM 멀티캐스트 1회로 전송
+     */
+    private void sendFanoutNotification(NotificationFanoutCoalescer.FanoutDelivery delivery) {
+        try {
+            NotificationFanoutBus.BroadcastResult result = fanoutBus.publishAll(delivery.notifications());
+
+            List<Long> offline = delivery.notifications().stream()
+                    .filter(n -> !result.delivered().contains(
+                            NotificationUnreadCounter.receiverKey(n.getReceiverType(), n.getReceiverId())))
+                    .map(NotificationResponseDto::getReceiverId)
+                    .toList();
+            List<Long> loggedIn = filterLoggedIn("customer", offline);
+
+            int fcmCalls = 0;
+            if (!loggedIn.isEmpty()) {
+                Map<String, String> fcmData = Map.of(
+                        "bodyId", delivery.bodyId().toString(),
+                        "type", delivery.notificationType().toString(),
+                        "createdAt", delivery.createdAt()
+                );
+                fcmCalls = fcmService.sendMulticastToCustomers(loggedIn,
+                        delivery.notificationType().getDisplayName(), delivery.content(), fcmData);
+            }
+
+            log.debug("공유 본문 알림 전송 완료 - 본문ID: {}, 수신자: {}, SSE: {}명 (발행 {}회), FCM: {}명 ({}회), 로그아웃: {}명",
+                    delivery.bodyId(), delivery.notifications().size(), result.delivered().size(), result.published(),
+                    loggedIn.size(), fcmCalls, offline.size() - loggedIn.size());
+
+        } catch (Exception e) {
+            log.error("공유 본문 알림 전송 중 오류 - 본문ID: {}", delivery.bodyId(), e);
+        }
+    }
+
     /**
      * FCM 푸시 알림 전송
      */
@@ -285,7 +269,7 @@ public class NotificationService {
                 fcmService.sendToOwner(receiverId, data.getNotificationType(), title, body, fcmData);
             }
             
-            log.info("FCM 푸시 알림 전송 완료 - {}:{}, 제목: {}", receiverType, receiverId, title);
+            log.debug("FCM 푸시 알림 전송 완료 - {}:{}, 제목: {}", receiverType, receiverId, title);
             
         } catch (Exception e) {
             log.error("FCM 푸시 알림 전송 실패 - {}:{}", receiverType, receiverId, e);
@@ -294,6 +278,7 @@ public class NotificationService {
 
     /**
      * 실시간 알림 전송 (SSE) - 총괄 메니저 역할
+     * - 수신자 연결을 가진 노드(자기 자신 포함)로 팬아웃, 각 노드는 게이트웨이 큐에 적재만 하고 반환
      */
     // receiverType : customer, owner
     private void sendRealTimeNotification(NotificationResponseDto data) {
@@ -301,88 +286,24 @@ public class NotificationService {
         Long receiverId = data.getReceiverId();
 
         try {
-            Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartWithByReceiver(receiverType, receiverId);
-            
-            if (emitters.isEmpty()) {
-                log.info("연결된 사용자 없음 - {}:{}, 알림을 캐시에만 저장", receiverType, receiverId);
-                return;
-            }
-            
             // 하나의 알림에 대해 단일 eventId 생성 (모든 연결에서 동일하게 사용)
             String eventId = makeTimeIncludeId(receiverType, receiverId);
-            
-            // 이벤트 캐시에 한 번만 저장 (중복 저장 방지)
-            emitterRepository.saveEventCache(eventId, data);
-            
-            // 단순 카운터
-            int successCount = 0;
-            int failCount = 0;
-            
-            // 모든 emitter에 순차 전송
-            for (Map.Entry<String, SseEmitter> entry : emitters.entrySet()) {
-                String emitterId = entry.getKey();
-                SseEmitter emitter = entry.getValue();
-                
-                try {
-                    boolean success = sendNotification(emitter, eventId, emitterId, data);
-                    if (success) {
-                        successCount++;
-                    } else {
-                        failCount++;
-                    }
-                } catch (Exception e) {
-                    failCount++;
-                    log.warn("개별 SSE 전송 실패 - EmitterID: {}, 사유: {}", emitterId, e.getMessage());
-                }
-            }
-            
-            log.info("실시간 알림 전송 완료 - {}:{}, EventID: {}, 총 연결: {}, 성공: {}, 실패: {}", 
-                    receiverType, receiverId, eventId, emitters.size(), successCount, failCount);
-                    
+
+            int targetNodes = fanoutBus.publish(eventId, data);
+
+            log.debug("실시간 알림 팬아웃 완료 - {}:{}, EventID: {}, 대상 노드: {}",
+                    receiverType, receiverId, eventId, targetNodes);
+
         } catch (Exception e) {
             log.error("실시간 알림 전송 중 예상치 못한 오류 - {}:{}", receiverType, receiverId, e);
         }
     }
 
-    /**
-     * SSE로 알림 전송 ( 실제로 알림 전송 - 네트워크 관여 )
-     * @return 전송 성공 여부
-     */
-    private boolean sendNotification(SseEmitter emitter, String eventId, String emitterId, Object data) {
-        try {
-            emitter.send(SseEmitter.event()
-                    .id(eventId)
-                    .name("notification")
-                    .data(data));
-            return true;
-            
-        } catch (IOException e) {
-            log.warn("SSE 전송 실패 - EmitterID: {}, EventID: {}, 오류: {}", 
-                    emitterId, eventId, e.getMessage());
-            
-            // 연결이 끊어진 Emitter 정리
-            cleanupEmitter(emitterId);
-            return false;
-            
-        } catch (Exception e) {
-            log.error("SSE 전송 중 예상치 못한 오류 - EmitterID: {}, EventID: {}", 
-                    emitterId, eventId, e);
-            
-            // 예상치 못한 오류 시에도 Emitter 정리
-            cleanupEmitter(emitterId);
-            return false;
-        }
-    }
-
-    /**
-     * Emitter 안전 정리 - 제대로 응답 안하는 id 하나만 삭제함
-     */
-    private void cleanupEmitter(String emitterId) {
-        try {
-            emitterRepository.deleteById(emitterId);
-        } catch (Exception e) {
-            log.warn("Emitter 정리 중 오류 - EmitterID: {}, 오류: {}", emitterId, e.getMessage());
-        }
+    private ServerSentEvent<Object> notificationEvent(String eventId, Object data) {
+        return ServerSentEvent.builder(data)
+                .id(eventId)
+                .event("notification")
+                .build();
     }
 
     /**
@@ -448,41 +369,36 @@ public class NotificationService {
     }
 
     /**
-     * 토큰 기반 유실 데이터 재전송
+     * 토큰 기반 유실 데이터 재전송 대상 조회 (토큰 발급 이후 생성된 캐시 이벤트만, 생성 순)
      */
-    private void sendLostDataWithTokenFilter(String accessToken, String receiverType, Long receiverId,
-                                           String emitterId, SseEmitter emitter) {
+    private List<ServerSentEvent<Object>> findLostDataWithTokenFilter(String accessToken, String receiverType, Long receiverId) {
         try {
             LocalDateTime tokenIssuedAt = getTokenIssuedAt(accessToken);
             if (tokenIssuedAt == null) {
                 log.warn("토큰 발급시간을 확인할 수 없어 재전송을 차단합니다 - {}:{}", receiverType, receiverId);
-                return;
+                return List.of();
             }
 
             Map<String, Object> eventCaches = emitterRepository.findAllEventCacheStartWithByReceiver(receiverType, receiverId);
 
             if (eventCaches.isEmpty()) {
                 log.info("재전송할 캐시 이벤트가 없습니다 - {}:{}", receiverType, receiverId);
-                return;
+                return List.of();
             }
 
-            int totalEvents = eventCaches.size();
-            int sentEvents = 0;
+            List<ServerSentEvent<Object>> lostEvents = eventCaches.entrySet().stream()
+                    .filter(entry -> isEventAfterTokenTime(entry.getValue(), tokenIssuedAt))
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(entry -> notificationEvent(entry.getKey(), entry.getValue()))
+                    .toList();
 
-            for (Map.Entry<String, Object> entry : eventCaches.entrySet()) {
-                if (isEventAfterTokenTime(entry.getValue(), tokenIssuedAt)) {
-                    boolean success = sendNotification(emitter, entry.getKey(), emitterId, entry.getValue());
-                    if (success) {
-                        sentEvents++;
-                    }
-                }
-            }
-
-            log.info("토큰 기반 유실 데이터 재전송 완료 - {}:{}, 토큰발급시간: {}, 총 캐시: {}, 재전송: {}",
-                    receiverType, receiverId, tokenIssuedAt, totalEvents, sentEvents);
+            log.info("토큰 기반 유실 데이터 재전송 준비 - {}:{}, 토큰발급시간: {}, 총 캐시: {}, 재전송: {}",
+                    receiverType, receiverId, tokenIssuedAt, eventCaches.size(), lostEvents.size());
+            return lostEvents;
 
         } catch (Exception e) {
             log.error("토큰 기반 유실 데이터 재전송 중 오류 - {}:{}", receiverType, receiverId, e);
+            return List.of();
         }
     }
 
@@ -517,6 +433,33 @@ public class NotificationService {
         }
     }
 
+    /**
+     * 로그인 상태인 수신자만 추림 (RefreshToken 존재 여부를 파이프라인으로 확인)
+     * - 확인 실패 시 isUserLoggedIn 과 같이 전송 쪽으로 판단
+     */
+    private List<Long> filterLoggedIn(String receiverType, List<Long> receiverIds) {
+        if (receiverIds.isEmpty()) return receiverIds;
+        UserRole userRole = convertToUserRole(receiverType);
+        if (userRole == null) return List.of();
+
+        try {
+            List<String> keys = new ArrayList<>(receiverIds.size());
+            for (Long receiverId : receiverIds) {
+                keys.add("auth:rt:" + userRole.name() + ":" + receiverId);
+            }
+            List<Boolean> exists = redisPipeline.existsEach(keys);
+
+            List<Long> loggedIn = new ArrayList<>();
+            for (int i = 0; i < receiverIds.size(); i++) {
+                if (!Boolean.FALSE.equals(exists.get(i))) loggedIn.add(receiverIds.get(i));
+            }
+            return loggedIn;
+        } catch (Exception e) {
+            log.error("로그인 상태 일괄 확인 중 오류 - 수신자 수: {}", receiverIds.size(), e);
+            return receiverIds;
+        }
+    }
+
     /**
      * receiverType을 UserRole로 변환
      */
@@ -0,0 +1,152 @@
+package com.ssafy.keeping.domain.notification.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 읽지 않은 알림 개수 (Redis)
+ * - 키: notification:unread:{receiverType}-{receiverId}  (STRING, 값 = 개수)
+ * - 키가 없을 때는 증감하지 않음 → 다음 조회에서 DB COUNT 로 채움 (증감 유실로 어긋나지 않도록)
+ * - 값은 0 미만으로 내려가지 않으며, 증감할 때마다 ttl 연장
+ */
+@Slf4j
+@Component
+public class NotificationUnreadCounter {
+
+    static final String KEY_PREFIX = "notification:unread:";
+
+    // KEYS[1] 카운터, ARGV[1] 증감, ARGV[2] ttl(초) → 반영 후 값, 키가 없으면 -1
+    private static final String ADD_IF_EXISTS = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            local v = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if v < 0 then redis.call('SET', KEYS[1], 0); v = 0 end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return v
+            """;
+
+    // KEYS[1] 카운터, ARGV[1] 재계산 시작 시점 값, ARGV[2] DB 개수, ARGV[3] ttl(초) → 그 사이 값이 바뀌었으면 건너뜀
+    private static final String SET_IF_UNCHANGED = """
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+            return 1
+            """;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final DefaultRedisScript<Long> setIfUnchanged = new DefaultRedisScript<>(SET_IF_UNCHANGED, Long.class);
+    private final DefaultRedisScript<Long> addIfExists = new DefaultRedisScript<>(ADD_IF_EXISTS, Long.class);
+
+    public NotificationUnreadCounter(StringRedisTemplate redisTemplate,
+                                     @Value("${notification.unread.ttl-hours:72}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    public static String receiverKey(String receiverType, Long receiverId) {
+        return receiverType.toLowerCase() + "-" + receiverId;
+    }
+
+    /**
+     * 읽지 않은 개수 조회, 카운터가 없으면 DB 개수로 채움 (Redis 장애 시 DB 개수)
+     */
+    public long get(String receiverKey, LongSupplier dbCount) {
+        String key = KEY_PREFIX + receiverKey;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) return Long.parseLong(cached);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 카운터 조회 실패 - {}, 오류: {}", receiverKey, e.getMessage());
+            return dbCount.getAsLong();
+        }
+
+        long count = dbCount.getAsLong();
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, Long.toString(count), ttl);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 카운터 초기화 실패 - {}, 오류: {}", receiverKey, e.getMessage());
+        }
+        return count;
+    }
+
+    /**
+     * 수신자별 증감을 파이프라인 1회 왕복으로 반영 (알림 일괄 저장 직후)
+     */
+    public void addAll(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) return;
+        String ttlSeconds = Long.toString(ttl.toSeconds());
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                deltas.forEach((receiverKey, delta) ->
+                        conn.eval(ADD_IF_EXISTS, ReturnType.INTEGER, 1,
+                                KEY_PREFIX + receiverKey, Long.toString(delta), ttlSeconds));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 카운터 증감 실패 - 수신자 수: {}, 오류: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    public void add(String receiverKey, long delta) {
+        if (delta == 0L) return;
+        try {
+            redisTemplate.execute(addIfExists, List.of(KEY_PREFIX + receiverKey),
+                    Long.toString(delta), Long.toString(ttl.toSeconds()));
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 카운터 증감 실패 - {}, 오류: {}", receiverKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 재계산: 읽어둔 값이 그대로일 때만 DB 개수로 덮어씀
+     */
+    public boolean setIfUnchanged(String receiverKey, String expected, long count) {
+        Long result = redisTemplate.execute(setIfUnchanged, List.of(KEY_PREFIX + receiverKey),
+                expected, Long.toString(count), Long.toString(ttl.toSeconds()));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 현재 존재하는 카운터를 batchSize 단위로 (receiverKey → 값) 전달
+     */
+    public void scan(int batchSize, Consumer<Map<String, String>> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(batchSize).build();
+        List<String> keys = new ArrayList<>(batchSize);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() >= batchSize) {
+                    consumer.accept(values(keys));
+                    keys.clear();
+                }
+            }
+        }
+        if (!keys.isEmpty()) consumer.accept(values(keys));
+    }
+
+    private Map<String, String> values(List<String> keys) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        Map<String, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            if (value != null) result.put(keys.get(i).substring(KEY_PREFIX.length()), value);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+package com.ssafy.keeping.domain.notification.service;
+
+import com.ssafy.keeping.domain.notification.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽지 않은 알림 카운터 재계산 스케줄러
+ * - Redis 에 존재하는 카운터만 SCAN 으로 훑어 batchSize 단위 GROUP BY COUNT 1회로 DB 값과 비교
+ * - 재계산 도중 알림 저장/읽음 처리로 값이 바뀐 카운터는 덮어쓰지 않고 다음 실행으로 넘김
+ */
+@Service
+@Slf4j
+public class NotificationUnreadReconcileScheduler {
+
+    private final NotificationUnreadCounter unreadCounter;
+    private final NotificationRepository notificationRepository;
+    private final int batchSize;
+
+    public NotificationUnreadReconcileScheduler(NotificationUnreadCounter unreadCounter,
+                                                NotificationRepository notificationRepository,
+                                                @Value("${notification.unread.reconcile.batch-size:500}") int batchSize) {
+        this.unreadCounter = unreadCounter;
+        this.notificationRepository = notificationRepository;
+        this.batchSize = batchSize;
+    }
+
+    public record RunStats(int counters, int drifted, int skipped, long elapsedMs) {
+    }
+
+    /**
+     * 매시 15분
+     */
+    @Scheduled(cron = "${notification.unread.reconcile.cron:0 15 * * * *}", zone = "Asia/Seoul")
+    public void run() {
+        try {
+            reconcileAll();
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 카운터 재계산 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    public RunStats reconcileAll() {
+        long started = System.currentTimeMillis();
+        AtomicInteger counters = new AtomicInteger();
+        AtomicInteger drifted = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+
+        unreadCounter.scan(batchSize, cached -> {
+            counters.addAndGet(cached.size());
+            Map<String, Long> actual = countFromDb(cached.keySet());
+            cached.forEach((receiverKey, value) -> {
+                long expected = actual.getOrDefault(receiverKey, 0L);
+                if (Long.parseLong(value) == expected) return;
+                if (unreadCounter.setIfUnchanged(receiverKey, value, expected)) {
+                    drifted.incrementAndGet();
+                } else {
+                    skipped.incrementAndGet();
+                }
+            });
+        });
+
+        RunStats stats = new RunStats(counters.get(), drifted.get(), skipped.get(), System.currentTimeMillis() - started);
+        log.info("읽지 않은 알림 카운터 재계산 완료 - 카운터: {}개, 보정: {}건, 변경 중 건너뜀: {}건, 소요: {}ms",
+                stats.counters(), stats.drifted(), stats.skipped(), stats.elapsedMs());
+        return stats;
+    }
+
+    /**
+     * receiverKey(customer-1, owner-2 …) → DB 읽지 않은 개수
+     */
+    private Map<String, Long> countFromDb(Collection<String> receiverKeys) {
+        List<Long> customerIds = new ArrayList<>();
+        List<Long> ownerIds = new ArrayList<>();
+        for (String receiverKey : receiverKeys) {
+            int dash = receiverKey.lastIndexOf('-');
+            if (dash < 0) continue;
+            String type = receiverKey.substring(0, dash);
+            long id = Long.parseLong(receiverKey.substring(dash + 1));
+            if ("customer".equals(type)) customerIds.add(id);
+            else if ("owner".equals(type)) ownerIds.add(id);
+        }
+
+        Map<String, Long> counts = new HashMap<>();
+        if (!customerIds.isEmpty()) {
+            for (Object[] row : notificationRepository.countUnreadGroupByCustomerIds(customerIds)) {
+                counts.put(NotificationUnreadCounter.receiverKey("customer", (Long) row[0]), (Long) row[1]);
+            }
+        }
+        if (!ownerIds.isEmpty()) {
+            for (Object[] row : notificationRepository.countUnreadGroupByOwnerIds(ownerIds)) {
+                counts.put(NotificationUnreadCounter.receiverKey("owner", (Long) row[0]), (Long) row[1]);
+            }
+        }
+        return counts;
+    }
+}
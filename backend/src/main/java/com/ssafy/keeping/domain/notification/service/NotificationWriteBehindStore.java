@@ -0,0 +1,250 @@
+package com.ssafy.keeping.domain.notification.service;
+
+import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
+import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import com.ssafy.keeping.domain.notification.repository.NotificationJdbcRepository;
+import com.ssafy.keeping.domain.notification.repository.NotificationJdbcRepository.NotificationRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 알림 write-behind 저장소
+ * - 여러 발송 스레드의 알림을 큐에 모아 batchSize 건 또는 lingerMs 마다 JDBC 배치 INSERT 1회로 저장
+ * - 저장 후 수신자별 읽지 않은 개수 증가(파이프라인 1회) → 알림마다 onPersisted 콜백(SSE/FCM 전송)
+ * - 큐가 가득 차면 호출 스레드에서 바로 저장 (유실 대신 지연을 선택)
+ * - 배치 실패 시 1건씩 다시 저장해 문제 행(삭제된 수신자 등)만 제외
+ * - SSE/FCM 전송은 고정 크기 풀 + 제한 큐, 큐가 차면 flusher 스레드가 직접 전송 (스레드가 한없이 늘지 않고 저장 속도가 전송 속도에 맞춰짐)
+ */
+@Slf4j
+@Component
+public class NotificationWriteBehindStore {
+
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final long IDLE_POLL_MS = 200;
+
+    private final NotificationJdbcRepository jdbcRepository;
+    private final NotificationUnreadCounter unreadCounter;
+    private final TransactionTemplate txTemplate;
+    private final BlockingQueue<PendingNotification> queue;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final ThreadPoolExecutor deliveryExecutor;
+
+    private final LongAdder persisted = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder overflow = new LongAdder();
+    private final LongAdder deliveryCallerRuns = new LongAdder();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public NotificationWriteBehindStore(NotificationJdbcRepository jdbcRepository,
+                                        NotificationUnreadCounter unreadCounter,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${notification.write-behind.batch-size:200}") int batchSize,
+                                        @Value("${notification.write-behind.linger-ms:20}") long lingerMs,
+                                        @Value("${notification.write-behind.capacity:10000}") int capacity,
+                                        @Value("${notification.write-behind.delivery-threads:8}") int deliveryThreads,
+                                        @Value("${notification.write-behind.delivery-queue:2000}") int deliveryQueue) {
+        this.jdbcRepository = jdbcRepository;
+        this.unreadCounter = unreadCounter;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        // 호출자 트랜잭션과 무관하게 커밋 (기존 REQUIRES_NEW 와 동일)
+        this.txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        int threads = Math.max(1, deliveryThreads);
+        // 큐가 가득 차거나 종료 중이면 호출 스레드에서 전송 (CallerRunsPolicy 와 달리 종료 중에도 버리지 않음)
+        this.deliveryExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, deliveryQueue)), daemonThreads("notification-delivery-"),
+                (task, executor) -> {
+                    deliveryCallerRuns.increment();
+                    task.run();
+                });
+    }
+
+    /**
+     * 저장 대기 알림 (customerId / ownerId 중 하나만 값이 있음)
+     */
+    public record PendingNotification(Long customerId, Long ownerId, String receiverName,
+                                      NotificationType notificationType, String content,
+                                      LocalDateTime createdAt, Consumer<NotificationResponseDto> onPersisted) {
+
+        String receiverType() {
+            return customerId != null ? "CUSTOMER" : "OWNER";
+        }
+
+        Long receiverId() {
+            return customerId != null ? customerId : ownerId;
+        }
+    }
+
+    public record Stats(long persisted, long batches, long failed, long overflow, int queueDepth,
+                        long deliveryCallerRuns, int deliveryQueueDepth) {
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory factory = new CustomizableThreadFactory(prefix);
+        factory.setDaemon(true);
+        return factory;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runLoop, "notification-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (flusher == null) return;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 직전 남은 알림 저장
+        List<PendingNotification> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int from = 0; from < rest.size(); from += batchSize) {
+            flush(rest.subList(from, Math.min(rest.size(), from + batchSize)));
+        }
+        deliveryExecutor.shutdown();
+        log.info("알림 write-behind 종료 - {}", stats());
+    }
+
+    public void enqueue(PendingNotification notification) {
+        if (running && queue.offer(notification)) return;
+        overflow.increment();
+        flush(List.of(notification));
+    }
+
+    public Stats stats() {
+        return new Stats(persisted.sum(), batches.sum(), failed.sum(), overflow.sum(), queue.size(),
+                deliveryCallerRuns.sum(), deliveryExecutor.getQueue().size());
+    }
+
+    private void runLoop() {
+        List<PendingNotification> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingNotification first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                // 첫 건 기준 lingerMs 안에 들어온 알림을 batchSize 까지 모음
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    if (batch.size() >= batchSize) break;
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    PendingNotification next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("알림 write-behind 처리 중 오류 - 배치 크기: {}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingNotification> batch) {
+        if (batch.isEmpty()) return;
+        List<Long> ids = persist(batch);
+
+        Map<String, Long> unreadDeltas = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (ids.get(i) == null) continue;
+            PendingNotification n = batch.get(i);
+            unreadDeltas.merge(NotificationUnreadCounter.receiverKey(n.receiverType(), n.receiverId()), 1L, Long::sum);
+        }
+        unreadCounter.addAll(unreadDeltas);
+
+        for (int i = 0; i < batch.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null) continue;
+            PendingNotification n = batch.get(i);
+            if (n.onPersisted() == null) continue;
+            NotificationResponseDto dto = toDto(id, n);
+            deliveryExecutor.execute(() -> {
+                try {
+                    n.onPersisted().accept(dto);
+                } catch (Exception e) {
+                    log.error("알림 전송 콜백 오류 - 알림ID: {}", id, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 배치 저장, 실패 시 1건씩 재시도 → 입력 순서대로 생성 ID (저장 실패 건은 null)
+     */
+    private List<Long> persist(List<PendingNotification> batch) {
+        try {
+            List<Long> ids = txTemplate.execute(status -> jdbcRepository.insertAll(rows(batch)));
+            batches.increment();
+            persisted.add(batch.size());
+            return ids;
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                failed.increment();
+                log.error("알림 저장 실패 - {}:{}", batch.get(0).receiverType(), batch.get(0).receiverId(), e);
+                return Collections.singletonList(null);
+            }
+            log.warn("알림 배치 저장 실패, 1건씩 재시도 - 배치 크기: {}, 오류: {}", batch.size(), e.getMessage());
+        }
+
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (PendingNotification n : batch) {
+            ids.add(persist(List.of(n)).get(0));
+        }
+        return ids;
+    }
+
+    private static List<NotificationRow> rows(List<PendingNotification> batch) {
+        List<NotificationRow> rows = new ArrayList<>(batch.size());
+        for (PendingNotification n : batch) {
+            rows.add(new NotificationRow(n.customerId(), n.ownerId(), n.notificationType(), n.content(), n.createdAt()));
+        }
+        return rows;
+    }
+
+    private static NotificationResponseDto toDto(Long id, PendingNotification n) {
+        return NotificationResponseDto.builder()
+                .notificationId(id)
+                .content(n.content())
+                .isRead(false)
+                .notificationType(n.notificationType())
+                .receiverType(n.receiverType())
+                .receiverId(n.receiverId())
+                .receiverName(n.receiverName())
+                .createdAt(n.createdAt().format(CREATED_AT_FORMAT))
+                .build();
+    }
+}
@@ -2,7 +2,11 @@ package com.ssafy.keeping.domain.ocr.controller;
 
 import com.ssafy.keeping.domain.ocr.dto.BizLicenseOcrResponse;
 
+import com.ssafy.keeping.domain.auth.Util.SecurityUtils;
 import com.ssafy.keeping.domain.ocr.dto.MenuOcrResponse;
+import com.ssafy.keeping.domain.ocr.dto.OcrJobResponse;
+import com.ssafy.keeping.domain.ocr.job.OcrJobKind;
+import com.ssafy.keeping.domain.ocr.job.OcrJobService;
 import com.ssafy.keeping.domain.ocr.service.BizLicenseOcrService;
 import com.ssafy.keeping.domain.ocr.service.MenuOcrService;
 import com.ssafy.keeping.global.exception.CustomException;
@@ -12,10 +16,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestPart;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 @RestController
@@ -25,25 +27,13 @@ public class OcrController {
 
     private final BizLicenseOcrService bizLicenseOcrService;
     private final MenuOcrService menuOcrService;
+    private final OcrJobService ocrJobService;
 
     @PostMapping(value = "/biz-license" , consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<BizLicenseOcrResponse>> recognizeBizLicense(
             @RequestPart("file")MultipartFile file
     ) {
-        if (file == null || file.isEmpty()) {
-            throw new CustomException(ErrorCode.OCR_FILE_REQUIRED);
-        }
-
-        // 이미지 타입 제한
-        String ct = file.getContentType();
-        if (ct == null || !(ct.equals("image/jpeg") || ct.equals("image/png") || ct.equals("image/jpg"))) {
-            throw new CustomException(ErrorCode.OCR_FILE_TYPE_NOT_ALLOWED);
-        }
-        // 용량 제한(예: 10MB)
-        long maxBytes = 10L * 1024 * 1024;
-        if (file.getSize() > maxBytes) {
-            throw new CustomException(ErrorCode.OCR_FILE_TOO_LARGE);
-        }
+        validateImage(file);
 
         BizLicenseOcrResponse data = bizLicenseOcrService.recognize(file);
 
@@ -60,6 +50,45 @@ public class OcrController {
     public ResponseEntity<ApiResponse<MenuOcrResponse>> recognizeMenu(
             @RequestPart("file") MultipartFile file
     ) {
+        validateImage(file);
+
+        MenuOcrResponse data = menuOcrService.recognize(file);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("메뉴판 OCR 결과가 생성되었습니다", HttpStatus.CREATED.value(), data));
+    }
+
+    /**
+     * OCR 비동기 작업 제출: 바로 작업 ID 반환 (같은 이미지의 이전 결과가 있으면 완료 상태로 반환)
+     * - 로그인 상태면 완료 시 SSE 알림(OCR_JOB_COMPLETED / OCR_JOB_FAILED, content = 작업 ID)
+     */
+    @PostMapping(value = "/jobs/{kind}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<OcrJobResponse>> submitJob(
+            @PathVariable("kind") String kind,
+            @RequestPart("file") MultipartFile file,
+            @AuthenticationPrincipal Long userId
+    ) {
+        OcrJobKind jobKind = switch (kind) {
+            case "biz-license" -> OcrJobKind.BIZ_LICENSE;
+            case "menu" -> OcrJobKind.MENU;
+            default -> throw new CustomException(ErrorCode.INVALID_REQUEST);
+        };
+        validateImage(file);
+
+        String receiverType = userId != null ? SecurityUtils.getCurrentUserRole().name() : null;
+        OcrJobResponse data = ocrJobService.submit(jobKind, file, receiverType, userId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("OCR 작업이 접수되었습니다", HttpStatus.ACCEPTED.value(), data));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<OcrJobResponse>> getJob(@PathVariable("jobId") String jobId) {
+        OcrJobResponse data = ocrJobService.find(jobId);
+        return ResponseEntity.ok(ApiResponse.success("OCR 작업 조회 성공", HttpStatus.OK.value(), data));
+    }
+
+    // 이미지 타입(jpg, png) / 용량(10MB) 제한
+    private static void validateImage(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new CustomException(ErrorCode.OCR_FILE_REQUIRED);
         }
@@ -71,9 +100,5 @@ public class OcrController {
         if (file.getSize() > maxBytes) {
             throw new CustomException(ErrorCode.OCR_FILE_TOO_LARGE);
         }
-
-        MenuOcrResponse data = menuOcrService.recognize(file);
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success("메뉴판 OCR 결과가 생성되었습니다", HttpStatus.CREATED.value(), data));
     }
 }
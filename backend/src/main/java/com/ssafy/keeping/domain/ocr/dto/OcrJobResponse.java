@@ -0,0 +1,25 @@
+package com.ssafy.keeping.domain.ocr.dto;
+
+import com.ssafy.keeping.domain.ocr.job.OcrJobKind;
+import com.ssafy.keeping.domain.ocr.job.OcrJobStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * OCR 비동기 작업 상태 (Redis 에 JSON 으로 보관, 조회 응답으로 그대로 사용)
+ * - result: 성공 시 BizLicenseOcrResponse / MenuOcrResponse 와 같은 구조
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class OcrJobResponse {
+    private String jobId;
+    private OcrJobKind kind;
+    private OcrJobStatus status;
+    private boolean cached;         // 같은 이미지의 이전 결과 재사용 여부 (외부 API 미호출)
+    private int attempts;
+    private Object result;
+    private String errorCode;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,6 @@
+package com.ssafy.keeping.domain.ocr.job;
+
+public enum OcrJobKind {
+    BIZ_LICENSE,    // 사업자등록증 (Clova Template OCR)
+    MENU            // 메뉴판 (LLM)
+}
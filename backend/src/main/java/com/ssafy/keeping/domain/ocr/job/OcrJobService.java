@@ -0,0 +1,249 @@
+package com.ssafy.keeping.domain.ocr.job;
+
+import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
+import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import com.ssafy.keeping.domain.notification.gateway.NotificationFanoutBus;
+import com.ssafy.keeping.domain.ocr.dto.OcrJobResponse;
+import com.ssafy.keeping.domain.ocr.service.BizLicenseOcrService;
+import com.ssafy.keeping.domain.ocr.service.MenuOcrService;
+import com.ssafy.keeping.global.exception.CustomException;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OCR 비동기 작업
+ * - 제출: 이미지를 읽으며 SHA-256 계산 → 같은 이미지 결과가 캐시에 있으면 바로 완료(외부 API 미호출),
+ *   같은 이미지가 처리 중이면 그 작업 ID 반환, 아니면 작업 등록 후 바로 작업 ID 반환
+ * - 처리: 고정 크기 작업 스레드 + 제한된 대기열 (가득 차면 503), 외부 API 장애/타임아웃은 지수 백오프로 재시도
+ * - 완료 통지: 로그인 사용자면 SSE 알림 채널로 작업 ID 전달(저장하지 않는 일회성 이벤트), 그 외는 조회(polling)
+ */
+@Slf4j
+@Service
+public class OcrJobService {
+
+    // 재시도 대상: 외부 API 장애 / 타임아웃 (요청 형식 오류는 재시도해도 같은 결과)
+    private static final Set<ErrorCode> RETRYABLE = Set.of(ErrorCode.OCR_UPSTREAM_ERROR, ErrorCode.OCR_EXTERNAL_API_FAILED);
+
+    private final BizLicenseOcrService bizLicenseOcrService;
+    private final MenuOcrService menuOcrService;
+    private final OcrJobStore store;
+    private final NotificationFanoutBus fanoutBus;
+    private final Clock clock;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final Duration jobTtl;
+    private final Duration resultTtl;
+    private final Duration inflightTtl;
+    private final ThreadPoolExecutor workers;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public OcrJobService(BizLicenseOcrService bizLicenseOcrService,
+                         MenuOcrService menuOcrService,
+                         OcrJobStore store,
+                         NotificationFanoutBus fanoutBus,
+                         Clock clock,
+                         @Value("${ocr.jobs.workers:4}") int workerCount,
+                         @Value("${ocr.jobs.queue-capacity:32}") int queueCapacity,
+                         @Value("${ocr.jobs.max-attempts:3}") int maxAttempts,
+                         @Value("${ocr.jobs.retry-backoff-ms:500}") long retryBackoffMs,
+                         @Value("${ocr.jobs.ttl-minutes:60}") long jobTtlMinutes,
+                         @Value("${ocr.cache.ttl-hours:168}") long resultTtlHours,
+                         @Value("${ocr.jobs.inflight-ttl-seconds:300}") long inflightTtlSeconds) {
+        this.bizLicenseOcrService = bizLicenseOcrService;
+        this.menuOcrService = menuOcrService;
+        this.store = store;
+        this.fanoutBus = fanoutBus;
+        this.clock = clock;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        this.jobTtl = Duration.ofMinutes(jobTtlMinutes);
+        this.resultTtl = Duration.ofHours(resultTtlHours);
+        this.inflightTtl = Duration.ofSeconds(inflightTtlSeconds);
+
+        CustomizableThreadFactory threads = new CustomizableThreadFactory("ocr-job-");
+        threads.setDaemon(true);
+        // 대기열이 차면 제출 시점에 거절 (이미지 바이트를 메모리에 들고 있으므로 대기열 크기로 메모리 상한)
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threads, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public record Stats(long submitted, long cacheHits, long joined, long rejected, long upstreamCalls,
+                        long retries, long succeeded, long failed, int queued, int running) {
+    }
+
+    /**
+     * @param receiverType 완료 알림을 받을 사용자 유형 (비로그인 null)
+     * @param receiverId   완료 알림을 받을 사용자 ID (비로그인 null)
+     */
+    public OcrJobResponse submit(OcrJobKind kind, MultipartFile file, String receiverType, Long receiverId) {
+        submitted.increment();
+        byte[] bytes;
+        String contentHash;
+        try (DigestInputStream in = new DigestInputStream(file.getInputStream(), MessageDigest.getInstance("SHA-256"))) {
+            bytes = in.readAllBytes();
+            contentHash = HexFormat.of().formatHex(in.getMessageDigest().digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new CustomException(ErrorCode.OCR_FILE_REQUIRED);
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        String jobId = UUID.randomUUID().toString();
+
+        // 1) 같은 이미지의 이전 결과
+        Object cachedResult = store.findResult(kind, contentHash).orElse(null);
+        if (cachedResult != null) {
+            cacheHits.increment();
+            OcrJobResponse job = OcrJobResponse.builder()
+                    .jobId(jobId).kind(kind).status(OcrJobStatus.SUCCEEDED).cached(true)
+                    .result(cachedResult).createdAt(now).completedAt(now)
+                    .build();
+            store.save(job, jobTtl);
+            return job;
+        }
+
+        // 2) 같은 이미지를 처리 중인 작업에 합류
+        String owner = store.claim(kind, contentHash, jobId, inflightTtl);
+        if (!jobId.equals(owner)) {
+            OcrJobResponse running = store.find(owner).orElse(null);
+            if (running != null) {
+                joined.increment();
+                return running;
+            }
+        }
+
+        // 3) 새 작업
+        OcrJobResponse job = OcrJobResponse.builder()
+                .jobId(jobId).kind(kind).status(OcrJobStatus.PENDING).createdAt(now)
+                .build();
+        store.save(job, jobTtl);
+        try {
+            workers.execute(() -> run(job, bytes, file.getOriginalFilename(), file.getContentType(),
+                    contentHash, receiverType, receiverId));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            store.release(kind, contentHash, jobId);
+            job.setStatus(OcrJobStatus.FAILED);
+            job.setErrorCode(ErrorCode.OCR_QUEUE_FULL.name());
+            job.setErrorMessage(ErrorCode.OCR_QUEUE_FULL.getMessage());
+            store.save(job, jobTtl);
+            throw new CustomException(ErrorCode.OCR_QUEUE_FULL);
+        }
+        return job;
+    }
+
+    public OcrJobResponse find(String jobId) {
+        return store.find(jobId).orElseThrow(() -> new CustomException(ErrorCode.OCR_JOB_NOT_FOUND));
+    }
+
+    public Stats stats() {
+        return new Stats(submitted.sum(), cacheHits.sum(), joined.sum(), rejected.sum(), upstreamCalls.sum(),
+                retries.sum(), succeeded.sum(), failed.sum(), workers.getQueue().size(), workers.getActiveCount());
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) workers.shutdownNow();
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("OCR 작업 처리 종료 - {}", stats());
+    }
+
+    private void run(OcrJobResponse job, byte[] bytes, String originalName, String contentType,
+                     String contentHash, String receiverType, Long receiverId) {
+        job.setStatus(OcrJobStatus.RUNNING);
+        store.save(job, jobTtl);
+
+        CustomException failure = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            job.setAttempts(attempt);
+            try {
+                upstreamCalls.increment();
+                Object result = recognize(job.getKind(), bytes, originalName, contentType);
+                store.saveResult(job.getKind(), contentHash, result, resultTtl);
+                job.setStatus(OcrJobStatus.SUCCEEDED);
+                job.setResult(result);
+                failure = null;
+                break;
+            } catch (CustomException e) {
+                failure = e;
+            } catch (Exception e) {
+                log.error("OCR 작업 처리 중 오류 - jobId: {}", job.getJobId(), e);
+                failure = new CustomException(ErrorCode.OCR_UPSTREAM_ERROR);
+            }
+            if (!RETRYABLE.contains(failure.getErrorCode()) || attempt == maxAttempts) break;
+
+            retries.increment();
+            log.warn("OCR 작업 재시도 - jobId: {}, 시도: {}/{}, 원인: {}",
+                    job.getJobId(), attempt, maxAttempts, failure.getErrorCode());
+            try {
+                Thread.sleep(retryBackoffMs << (attempt - 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (failure != null) {
+            failed.increment();
+            job.setStatus(OcrJobStatus.FAILED);
+            job.setErrorCode(failure.getErrorCode().name());
+            job.setErrorMessage(failure.getErrorCode().getMessage());
+        } else {
+            succeeded.increment();
+        }
+        job.setCompletedAt(LocalDateTime.now(clock));
+        store.save(job, jobTtl);
+        store.release(job.getKind(), contentHash, job.getJobId());
+        notifyCompleted(job, receiverType, receiverId);
+    }
+
+    private Object recognize(OcrJobKind kind, byte[] bytes, String originalName, String contentType) {
+        return switch (kind) {
+            case BIZ_LICENSE -> bizLicenseOcrService.recognize(bytes, originalName, contentType);
+            case MENU -> menuOcrService.recognize(bytes, contentType);
+        };
+    }
+
+    private void notifyCompleted(OcrJobResponse job, String receiverType, Long receiverId) {
+        if (receiverType == null || receiverId == null) return;
+        NotificationType type = job.getStatus() == OcrJobStatus.SUCCEEDED
+                ? NotificationType.OCR_JOB_COMPLETED : NotificationType.OCR_JOB_FAILED;
+        try {
+            fanoutBus.publish("ocr-" + job.getJobId(),
+                    NotificationResponseDto.forSSE(job.getJobId(), type, receiverType, receiverId));
+        } catch (Exception e) {
+            log.warn("OCR 작업 완료 알림 실패 (조회로 확인 가능) - jobId: {}, 오류: {}", job.getJobId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.ssafy.keeping.domain.ocr.job;
+
+public enum OcrJobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,101 @@
+package com.ssafy.keeping.domain.ocr.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keeping.domain.ocr.dto.OcrJobResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * OCR 작업 상태 / 결과 캐시 (Redis, 모든 노드에서 조회 가능)
+ * - ocr:job:{jobId}              작업 상태 JSON
+ * - ocr:result:{kind}:{sha256}   이미지 내용 해시별 OCR 결과 JSON → 같은 이미지 재업로드는 외부 API 호출 없음
+ * - ocr:inflight:{kind}:{sha256} 처리 중인 작업 ID → 같은 이미지가 동시에 올라오면 기존 작업에 합류
+ */
+@Component
+@RequiredArgsConstructor
+public class OcrJobStore {
+
+    private static final String JOB_KEY = "ocr:job:";
+    private static final String RESULT_KEY = "ocr:result:";
+    private static final String INFLIGHT_KEY = "ocr:inflight:";
+
+    // KEYS[1] inflight / ARGV[1] 작업 ID, ARGV[2] ttl(ms) → 처리 중인 작업 ID (없으면 ARGV[1] 로 선점)
+    private static final DefaultRedisScript<String> CLAIM = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current then return current end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return ARGV[1]
+            """, String.class);
+
+    // KEYS[1] inflight / ARGV[1] 작업 ID → 자기 작업일 때만 해제
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper om;
+
+    public void save(OcrJobResponse job, Duration ttl) {
+        redis.opsForValue().set(JOB_KEY + job.getJobId(), write(job), ttl);
+    }
+
+    public Optional<OcrJobResponse> find(String jobId) {
+        String json = redis.opsForValue().get(JOB_KEY + jobId);
+        if (json == null) return Optional.empty();
+        try {
+            return Optional.of(om.readValue(json, OcrJobResponse.class));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public Optional<Object> findResult(OcrJobKind kind, String contentHash) {
+        String json = redis.opsForValue().get(resultKey(kind, contentHash));
+        if (json == null) return Optional.empty();
+        try {
+            return Optional.of(om.readValue(json, Object.class));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void saveResult(OcrJobKind kind, String contentHash, Object result, Duration ttl) {
+        redis.opsForValue().set(resultKey(kind, contentHash), write(result), ttl);
+    }
+
+    /**
+     * 같은 이미지를 처리 중인 작업 선점
+     * @return 처리를 맡은 작업 ID (jobId 와 같으면 선점 성공, 다르면 이미 처리 중인 작업)
+     */
+    public String claim(OcrJobKind kind, String contentHash, String jobId, Duration ttl) {
+        return redis.execute(CLAIM, List.of(inflightKey(kind, contentHash)), jobId, String.valueOf(ttl.toMillis()));
+    }
+
+    public void release(OcrJobKind kind, String contentHash, String jobId) {
+        redis.execute(RELEASE, List.of(inflightKey(kind, contentHash)), jobId);
+    }
+
+    private String write(Object value) {
+        try {
+            return om.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String resultKey(OcrJobKind kind, String contentHash) {
+        return RESULT_KEY + kind.name().toLowerCase() + ":" + contentHash;
+    }
+
+    private static String inflightKey(OcrJobKind kind, String contentHash) {
+        return INFLIGHT_KEY + kind.name().toLowerCase() + ":" + contentHash;
+    }
+}
@@ -3,11 +3,13 @@ package com.ssafy.keeping.domain.ocr.service;
 import com.ssafy.keeping.domain.ocr.dto.BizLicenseOcrResponse;
 import com.ssafy.keeping.global.exception.CustomException;
 import com.ssafy.keeping.global.exception.constants.ErrorCode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MimeTypeUtils;
@@ -16,13 +18,13 @@ import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class BizLicenseOcrService {
 
     @Value("${clova.ocr.url}")
@@ -34,9 +36,48 @@ public class BizLicenseOcrService {
     @Value("${clova.ocr.template-ids}")
     private String templateIdsProp;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+
+    public BizLicenseOcrService(@Value("${ocr.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+                                @Value("${ocr.http.read-timeout-ms:30000}") int readTimeoutMs) {
+        // 외부 OCR 이 응답하지 않을 때 작업 스레드가 무기한 묶이지 않도록 타임아웃 지정
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
+        factory.setConnectTimeout(connectTimeoutMs);
+        factory.setReadTimeout(readTimeoutMs);
+        this.restTemplate = new RestTemplate(factory);
+    }
 
     public BizLicenseOcrResponse recognize(MultipartFile file) {
+        String filename = guessFilename(file.getOriginalFilename(), file.getContentType());
+        InputStreamResource fileResource;
+        try {
+            // 바이트 배열로 올리지 않고 업로드 임시 파일에서 스트림으로 전송
+            fileResource = new InputStreamResource(file.getInputStream()) {
+                @Override public String getFilename() {
+                    return filename;
+                }
+                @Override public long contentLength() {
+                    return file.getSize();
+                }
+            };
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.OCR_FILE_REQUIRED);
+        }
+        return recognize(fileResource, file.getOriginalFilename(), file.getContentType());
+    }
+
+    /** 이미 읽어 둔 이미지 (OCR 비동기 작업) */
+    public BizLicenseOcrResponse recognize(byte[] bytes, String originalName, String contentType) {
+        String filename = guessFilename(originalName, contentType);
+        ByteArrayResource fileResource = new ByteArrayResource(bytes) {
+            @Override public String getFilename() {
+                return filename;
+            }
+        };
+        return recognize(fileResource, originalName, contentType);
+    }
+
+    private BizLicenseOcrResponse recognize(Resource fileResource, String originalName, String contentType) {
         try {
             // 요청 헤더
             // 1) 멀티파트 구성: message(JSON) + file(바이너리)
@@ -50,25 +91,20 @@ public class BizLicenseOcrService {
             // message 파트(JSON) — 템플릿 OCR: templateIds 포함!!!
             HttpHeaders msgHeaders = new HttpHeaders();
             msgHeaders.setContentType(MediaType.APPLICATION_JSON);
-            String messageJson = buildMessageJson(file.getOriginalFilename(), file.getContentType());
+            String messageJson = buildMessageJson(originalName, contentType);
             HttpEntity<String> messagePart = new HttpEntity<>(messageJson, msgHeaders);
             multipart.add("message", messagePart);
 
             // file 파트
-            ByteArrayResource fileResource = new ByteArrayResource(file.getBytes()) {
-                @Override public String getFilename() {
-                    return guessFilename(file.getOriginalFilename(), file.getContentType());
-                }
-            };
             HttpHeaders fileHeaders = new HttpHeaders();
             fileHeaders.setContentType(MediaType.APPLICATION_OCTET_STREAM);
             fileHeaders.setContentDisposition(
                     ContentDisposition.builder("form-data")
                             .name("file")
-                            .filename(guessFilename(file.getOriginalFilename(), file.getContentType()))
+                            .filename(fileResource.getFilename())
                             .build()
             );
-            HttpEntity<ByteArrayResource> filePart = new HttpEntity<>(fileResource, fileHeaders);
+            HttpEntity<Resource> filePart = new HttpEntity<>(fileResource, fileHeaders);
             multipart.add("file", filePart);
 
             HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(multipart, rootHeaders);
@@ -85,6 +121,8 @@ public class BizLicenseOcrService {
             // 3) 응답 파싱/정규화
             return mapClovaResponse(resp.getBody());
 
+        } catch (CustomException e) {
+            throw e;
         } catch (HttpStatusCodeException e) {
             log.error("CLOVA Template OCR 실패 status={} body={}", e.getStatusCode(), safe(e.getResponseBodyAsString()));
             if (e.getStatusCode().is4xxClientError()) {
@@ -0,0 +1,121 @@
+package com.ssafy.keeping.domain.ocr.service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 메뉴판 이미지를 모델이 실제로 쓰는 해상도로 축소
+ * - 비전 모델(high detail)은 긴 변 2048 / 짧은 변 768 로 줄여서 보므로 그 이상은 전송량만 늘림
+ * - 헤더로 크기만 먼저 읽고, 줄여야 하면 ImageReader 서브샘플링으로 디코딩 (원본 해상도 래스터를 만들지 않음)
+ *   → 마지막 배율만 보간 후 JPEG 재인코딩
+ * - 이미 작거나 ImageIO 가 못 읽는 형식(HEIC 등)은 원본 그대로
+ */
+public final class MenuImageDownscaler {
+
+    private MenuImageDownscaler() {}
+
+    @FunctionalInterface
+    public interface Source {
+        InputStream open() throws IOException;
+    }
+
+    /** 전송할 이미지 (bytes 는 length 까지만 유효) */
+    public record Prepared(byte[] bytes, int length, String contentType, boolean downscaled) {
+    }
+
+    public static Prepared prepare(Source source, String contentType, int maxLongSide, int maxShortSide,
+                                   float jpegQuality) throws IOException {
+        try (InputStream in = source.open();
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            ImageReader reader = iis == null ? null : firstReader(iis);
+            if (reader != null) {
+                try {
+                    reader.setInput(iis, true, true);
+                    int width = reader.getWidth(0);
+                    int height = reader.getHeight(0);
+                    double scale = scale(width, height, maxLongSide, maxShortSide);
+                    if (scale < 1.0) {
+                        return downscale(reader, width, height, scale, jpegQuality);
+                    }
+                } finally {
+                    reader.dispose();
+                }
+            }
+        }
+        try (InputStream in = source.open()) {
+            byte[] original = in.readAllBytes();
+            return new Prepared(original, original.length, contentType, false);
+        }
+    }
+
+    /** 긴 변 / 짧은 변 한도를 둘 다 만족하는 배율 (1 이상이면 축소 불필요) */
+    static double scale(int width, int height, int maxLongSide, int maxShortSide) {
+        int longSide = Math.max(width, height);
+        int shortSide = Math.min(width, height);
+        return Math.min((double) maxLongSide / longSide, (double) maxShortSide / shortSide);
+    }
+
+    private static Prepared downscale(ImageReader reader, int width, int height, double scale,
+                                      float jpegQuality) throws IOException {
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        // 목표 크기 이상을 유지하는 최대 정수 배율로 디코딩 단계에서 먼저 줄임
+        int subsampling = Math.max(1, (int) Math.floor(1.0 / scale));
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        BufferedImage decoded = reader.read(0, param);
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(decoded, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+        decoded.flush();
+
+        BufferOutputStream out = new BufferOutputStream(targetWidth * targetHeight / 4);
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (MemoryCacheImageOutputStream ios = new MemoryCacheImageOutputStream(out)) {
+            ImageWriteParam writeParam = writer.getDefaultWriteParam();
+            writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            writeParam.setCompressionQuality(jpegQuality);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(target, null, null), writeParam);
+        } finally {
+            writer.dispose();
+        }
+        // 복사 없이 내부 버퍼를 그대로 넘김 (길이는 size)
+        return new Prepared(out.buffer(), out.size(), "image/jpeg", true);
+    }
+
+    private static final class BufferOutputStream extends ByteArrayOutputStream {
+        BufferOutputStream(int size) {
+            super(Math.max(32, size));
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+
+    private static ImageReader firstReader(ImageInputStream iis) {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+        return readers.hasNext() ? readers.next() : null;
+    }
+}
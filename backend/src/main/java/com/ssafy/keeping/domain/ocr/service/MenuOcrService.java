@@ -1,86 +1,186 @@
 package com.ssafy.keeping.domain.ocr.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.keeping.domain.ocr.dto.MenuOcrItem;
 import com.ssafy.keeping.domain.ocr.dto.MenuOcrResponse;
 import com.ssafy.keeping.global.exception.CustomException;
 import com.ssafy.keeping.global.exception.constants.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import com.ssafy.keeping.global.monitoring.ExternalApiMetrics;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
-import java.util.Base64;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * 메뉴판 이미지 → 메뉴 항목 추출 (OpenAI 호환 비전 API)
+ * - 커넥션 풀을 가진 WebClient 1개를 재사용 (호출마다 클라이언트 / 커넥션을 새로 만들지 않음)
+ * - 이미지는 모델이 보는 해상도로 먼저 축소 (MenuImageDownscaler)
+ * - 요청 바디: 고정 부분(프롬프트 등)은 시작 시 한 번 직렬화, 이미지는 네트워크 버퍼에 바로 base64 로 기록
+ *   (base64 문자열 / data URL 문자열 / Map 직렬화 사본을 힙에 만들지 않음)
+ * - 동시 호출 상한: 넘으면 acquire-timeout 동안 대기 후 OCR_QUEUE_FULL
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MenuOcrService {
 
+    // 프롬프트(LLM에게 JSON만 내도록 강제)
+    private static final String SYSTEM_PROMPT = """
+            You extract Korean menu items from an image (OCR + light layout reasoning).
+            Return ONLY valid JSON. No prose.
+            Rules:
+            - Output price as KRW integer (strip commas/₩/원).
+            - If price is missing/ambiguous, drop the item.
+            - description is optional; brief (≤40 chars) if present.
+            
+            JSON schema:
+            { "items":[ { "nameKr":"string", "price":0, "description":"string|null" } ] }
+            """;
+    private static final String USER_PROMPT = """
+            메뉴판 이미지가 첨부됩니다.
+            1) 메뉴명(nameKr)과 가격(price), 설명(description|optional)만 추출하세요.
+            2) 중복 항목은 하나로 합치고 가장 신뢰되는 가격만 남기세요.
+            3) 범위/모호 가격은 제외하세요.
+            """;
+    private static final String IMAGE_URL_PLACEHOLDER = "__menu_image_data_url__";
+
     private final ObjectMapper om;
+    private final ConnectionProvider pool;
+    private final WebClient client;
+    private final Duration timeout;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final int maxLongSide;
+    private final int maxShortSide;
+    private final float jpegQuality;
+    // 요청 바디 중 이미지 URL 문자열 앞 / 뒤 (따옴표 포함)
+    private final byte[] bodyPrefix;
+    private final byte[] bodySuffix;
+
+    public MenuOcrService(ObjectMapper om,
+                          ExternalApiMetrics externalApiMetrics,
+                          @Value("${openai.api.key}") String openAiApiKey,
+                          @Value("${openai.api.url:https://gms.ssafy.io/gmsapi/api.openai.com/v1/chat/completions}") String openAiUrl,
+                          // LLM 응답은 길어질 수 있어 Clova 보다 넉넉하게
+                          @Value("${openai.api.timeout-ms:60000}") long timeoutMs,
+                          @Value("${ocr.menu.max-concurrency:4}") int maxConcurrency,
+                          @Value("${ocr.menu.acquire-timeout-ms:10000}") long acquireTimeoutMs,
+                          @Value("${ocr.menu.max-long-side:2048}") int maxLongSide,
+                          @Value("${ocr.menu.max-short-side:768}") int maxShortSide,
+                          @Value("${ocr.menu.jpeg-quality:0.85}") float jpegQuality) {
+        this.om = om;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.permits = new Semaphore(Math.max(1, maxConcurrency), true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.maxLongSide = maxLongSide;
+        this.maxShortSide = maxShortSide;
+        this.jpegQuality = jpegQuality;
 
-    @Value("${openai.api.key}")
-    private String openAiApiKey;
+        this.pool = ConnectionProvider.builder("menu-ocr")
+                .maxConnections(Math.max(1, maxConcurrency))
+                .pendingAcquireTimeout(Duration.ofMillis(acquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        this.client = WebClient.builder()
+                .baseUrl(openAiUrl)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + openAiApiKey)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(pool).responseTimeout(timeout)))
+                .filter(externalApiMetrics.webClientFilter())
+                .build();
 
-    @Value("${openai.api.url:https://gms.ssafy.io/gmsapi/api.openai.com/v1/chat/completions}")
-    private String openAiUrl;
+        // OpenAI 호출 바디 (이미지 URL 자리만 비워 두고 한 번만 직렬화)
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("model", "gpt-4o");
+        body.put("temperature", 0);
+        body.put("response_format", Map.of("type", "json_object"));
+        body.put("messages", List.of(
+                Map.of("role", "system", "content", SYSTEM_PROMPT),
+                Map.of("role", "user", "content", List.of(
+                        Map.of("type", "text", "text", USER_PROMPT),
+                        Map.of("type", "image_url", "image_url", Map.of("url", IMAGE_URL_PLACEHOLDER))
+                ))
+        ));
+        try {
+            String json = om.writeValueAsString(body);
+            int at = json.indexOf('"' + IMAGE_URL_PLACEHOLDER + '"');
+            this.bodyPrefix = json.substring(0, at + 1).getBytes(StandardCharsets.UTF_8);
+            this.bodySuffix = json.substring(at + 1 + IMAGE_URL_PLACEHOLDER.length()).getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메뉴 OCR 요청 템플릿 직렬화 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.dispose();
+    }
 
     public MenuOcrResponse recognize(MultipartFile file) {
+        // 업로드 임시 파일에서 바로 읽음 (원본 바이트 배열을 만들지 않음)
+        return recognize(file::getInputStream, file.getContentType());
+    }
+
+    /** 이미 읽어 둔 이미지 (OCR 비동기 작업) */
+    public MenuOcrResponse recognize(byte[] bytes, String contentType) {
+        return recognize(() -> new ByteArrayInputStream(bytes), contentType);
+    }
+
+    private MenuOcrResponse recognize(MenuImageDownscaler.Source source, String contentType) {
+        boolean acquired;
         try {
-            byte[] bytes = file.getBytes();
-            String b64 = Base64.getEncoder().encodeToString(bytes);
-            String dataUrl = "data:" + Optional.ofNullable(file.getContentType()).orElse("image/jpeg")
-                    + ";base64," + b64;
-
-            // 프롬프트(LLM에게 JSON만 내도록 강제)
-            String system = """
-                You extract Korean menu items from an image (OCR + light layout reasoning).
-                Return ONLY valid JSON. No prose.
-                Rules:
-                - Output price as KRW integer (strip commas/₩/원).
-                - If price is missing/ambiguous, drop the item.
-                - description is optional; brief (≤40 chars) if present.
-                
-                JSON schema:
-                { "items":[ { "nameKr":"string", "price":0, "description":"string|null" } ] }
-                """;
-            String user = """
-                메뉴판 이미지가 첨부됩니다.
-                1) 메뉴명(nameKr)과 가격(price), 설명(description|optional)만 추출하세요.
-                2) 중복 항목은 하나로 합치고 가장 신뢰되는 가격만 남기세요.
-                3) 범위/모호 가격은 제외하세요.
-                """;
-
-            // OpenAI 호출 바디
-            Map<String, Object> body = Map.of(
-                    "model", "gpt-4o",
-                    "temperature", 0,
-                    "response_format", Map.of("type", "json_object"),
-                    "messages", List.of(
-                            Map.of("role", "system", "content", system),
-                            Map.of("role", "user", "content", List.of(
-                                    Map.of("type", "text", "text", user),
-                                    Map.of("type", "image_url", "image_url", Map.of("url", dataUrl))
-                            ))
-                    )
-            );
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.OCR_QUEUE_FULL);
+        }
+        if (!acquired) {
+            throw new CustomException(ErrorCode.OCR_QUEUE_FULL);
+        }
 
-            // HTTP 호출
-            WebClient client = WebClient.builder()
-                    .baseUrl(openAiUrl)
-                    .defaultHeader("Authorization", "Bearer " + openAiApiKey)
-                    .build();
+        try {
+            MenuImageDownscaler.Prepared image;
+            try {
+                image = MenuImageDownscaler.prepare(source, Optional.ofNullable(contentType).orElse("image/jpeg"),
+                        maxLongSide, maxShortSide, jpegQuality);
+            } catch (IOException e) {
+                throw new CustomException(ErrorCode.OCR_FILE_REQUIRED);
+            }
 
+            // HTTP 호출
             String raw = client.post()
                     .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(body)
+                    .body(requestBody(image))
                     .retrieve()
                     .bodyToMono(String.class)
+                    .timeout(timeout)
                     .block();
 
             log.info(raw);
@@ -89,7 +189,7 @@ public class MenuOcrService {
             JsonNode root = om.readTree(raw);
             String content = root.path("choices").path(0).path("message").path("content").asText();
             if (content == null || content.isBlank()) {
-                throw new CustomException(ErrorCode.OCR_EXTERNAL_API_FAILED);
+                throw new CustomException(ErrorCode.OCR_INFER_FAILED);
             }
 
             // JSON → DTO
@@ -117,12 +217,89 @@ public class MenuOcrService {
 
         } catch (CustomException e) {
             throw e;
+        } catch (WebClientResponseException e) {
+            // 4xx(인증/요청 형식 오류)는 다시 보내도 같으므로 재시도 대상이 아닌 코드로 구분
+            log.error("Menu OCR 실패 status={} body={}", e.getStatusCode(), e.getResponseBodyAsString());
+            throw new CustomException(isRetryable(e.getStatusCode())
+                    ? ErrorCode.OCR_EXTERNAL_API_FAILED : ErrorCode.OCR_UPSTREAM_BAD_REQUEST);
+        } catch (WebClientRequestException e) {
+            // 연결 실패 / 응답 전 끊김
+            log.error("Menu OCR 연결 실패", e);
+            throw new CustomException(ErrorCode.OCR_EXTERNAL_API_FAILED);
+        } catch (JsonProcessingException e) {
+            // 모델이 약속한 JSON 을 돌려주지 않음
+            log.error("Menu OCR 응답 파싱 실패", e);
+            throw new CustomException(ErrorCode.OCR_INFER_FAILED);
         } catch (Exception e) {
+            if (isTimeout(e)) {
+                log.warn("Menu OCR 응답 시간 초과 ({}ms)", timeout.toMillis());
+                throw new CustomException(ErrorCode.OCR_EXTERNAL_API_FAILED);
+            }
             log.error("Menu OCR failed", e);
-            throw new CustomException(ErrorCode.OCR_EXTERNAL_API_FAILED);
+            throw new CustomException(ErrorCode.OCR_INFER_FAILED);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** 5xx / 408 / 429 만 일시 장애로 보고 재시도 가능 코드로 응답 */
+    private static boolean isRetryable(HttpStatusCode status) {
+        return status.is5xxServerError() || status.value() == 408 || status.value() == 429;
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException) return true;
+        }
+        return false;
+    }
+
+    /** 요청 바디 크기 (Content-Length) */
+    int bodyLength(MenuImageDownscaler.Prepared image) {
+        return bodyPrefix.length + dataUrlHeader(image).length
+                + 4 * ((image.length() + 2) / 3) + bodySuffix.length;
+    }
+
+    /** 고정 앞부분 + data URL 머리 + base64(이미지) + 고정 뒷부분을 네트워크 버퍼 하나에 바로 기록 */
+    BodyInserter<Object, ReactiveHttpOutputMessage> requestBody(MenuImageDownscaler.Prepared image) {
+        return (message, context) -> {
+            int length = bodyLength(image);
+            message.getHeaders().setContentLength(length);
+            return message.writeWith(Mono.fromSupplier(() -> writeBody(message.bufferFactory(), image, length)));
+        };
+    }
+
+    DataBuffer writeBody(DataBufferFactory factory, MenuImageDownscaler.Prepared image, int length) {
+        DataBuffer buffer = factory.allocateBuffer(length);
+        try (OutputStream out = buffer.asOutputStream()) {
+            out.write(bodyPrefix);
+            out.write(dataUrlHeader(image));
+            // close 는 base64 마지막 블록(패딩)만 쓰고 버퍼 스트림은 닫지 않음
+            try (OutputStream base64 = Base64.getEncoder().wrap(new FilterOutputStream(out) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            })) {
+                base64.write(image.bytes(), 0, image.length());
+            }
+            out.write(bodySuffix);
+            return buffer;
+        } catch (IOException | RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            throw new IllegalStateException("메뉴 OCR 요청 바디 작성 실패", e);
         }
     }
 
+    private static byte[] dataUrlHeader(MenuImageDownscaler.Prepared image) {
+        return ("data:" + image.contentType() + ";base64,").getBytes(StandardCharsets.US_ASCII);
+    }
+
     private static String optText(JsonNode n, String f) {
         return n.hasNonNull(f) ? n.get(f).asText() : null;
     }
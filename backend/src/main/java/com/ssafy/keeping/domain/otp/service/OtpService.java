@@ -1,6 +1,5 @@
 package com.ssafy.keeping.domain.otp.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.keeping.domain.auth.enums.UserRole;
 import com.ssafy.keeping.domain.auth.service.AuthService;
 import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
@@ -9,12 +8,11 @@ import com.ssafy.keeping.domain.otp.dto.OtpRequest;
 import com.ssafy.keeping.domain.otp.dto.OtpRequestResponse;
 import com.ssafy.keeping.domain.otp.dto.OtpVerifyRequest;
 import com.ssafy.keeping.domain.otp.dto.OtpVerifyResponse;
+import com.ssafy.keeping.domain.otp.session.OtpStateStore;
 import com.ssafy.keeping.domain.otp.session.RegSession;
-import com.ssafy.keeping.domain.otp.session.RegSessionStore;
 import com.ssafy.keeping.domain.otp.adapter.SmsSender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
@@ -26,20 +24,15 @@ import java.time.LocalDateTime;
 @Slf4j
 public class OtpService {
 
-    private final StringRedisTemplate redis;
-    private final ObjectMapper om;
     private final CustomerRepository customerRepository;
     private final OwnerRepository ownerRepository;
-    private final RegSessionStore sessionStore;
+    private final OtpStateStore otpStateStore;
     private final SmsSender smsSender;
     private final AuthService authService;
     private final SecureRandom secureRandom = new SecureRandom();
 
     private static final Duration REG_TTL = Duration.ofMinutes(30);
     private static final Duration OTP_TTL = Duration.ofMinutes(5);
-    private static final String OTP_CODE_KEY = "otp:code:";
-    private static final String OTP_TRY_KEY = "otp:try:";
-    private static final String OTP_KEY_PREFIX = "otp:info:";
     private static final int OTP_MAX_TRIES = 5;
 
     // OTP 요청
@@ -71,15 +64,12 @@ public class OtpService {
                     });
         }
 
-        // 세선 져장
+        // 세션 + 인증번호 + 실패 횟수 저장 (Redis 왕복 1회)
         RegSession session = RegSession.fromOtpRequest(dto, dto.getRegSessionId());
-        sessionStore.setSession(OTP_KEY_PREFIX, dto.getRegSessionId(), session, REG_TTL);
-
-        // OTP 전송
         String otp = createNumberKey();
+        otpStateStore.issue(dto.getRegSessionId(), session, REG_TTL, otp, OTP_TTL);
 
-        redis.opsForValue().set(OTP_CODE_KEY + dto.getRegSessionId(), otp, OTP_TTL);
-        redis.opsForValue().set(OTP_TRY_KEY + dto.getRegSessionId(), "0", OTP_TTL);
+        // OTP 전송
 
         String text = "[keeping] 본인인증 인증번호는 " + otp + " 입니다. 정확히 입력해주세요.";
 
@@ -90,65 +80,21 @@ public class OtpService {
 
     // OTP 검증
     public OtpVerifyResponse verifyOtp(OtpVerifyRequest dto) {
-        System.out.println("[OTP VERIFY] Received regSessionId: " + dto.getRegSessionId());
-        System.out.println("[OTP VERIFY] Looking for key: " + OTP_KEY_PREFIX + dto.getRegSessionId());
-
-        RegSession regSession = sessionStore.getSession(OTP_KEY_PREFIX, dto.getRegSessionId());
-
-        // OTP 검증
-        String keyCode = OTP_CODE_KEY + dto.getRegSessionId();
-        String keyTry = OTP_TRY_KEY + dto.getRegSessionId();
-
-        String savedCode = redis.opsForValue().get(keyCode);
-        if(savedCode == null || savedCode.isBlank()) {
-            throw new IllegalStateException("인증이 만료되어 인증에 실패했습니다.");
-        }
-
-        // 실패 횟수 확인
-        String triesStr = redis.opsForValue().get(keyTry);
-
-        int tries = 0;
-        if (triesStr != null) {
-            try {
-                tries = Integer.parseInt(triesStr);
-            } catch (NumberFormatException e) {
-                tries = 0; // 파싱 실패 시 0으로 초기화
-            }
-        }
-
-        if(tries >= OTP_MAX_TRIES) {
-            redis.delete(keyCode);
-            redis.delete(keyTry);
-            throw new IllegalStateException("인증 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요");
-        }
-
-        // 인증 만료
-        Long remains = redis.getExpire(keyCode);
-        if(remains == null || remains <= 0) {
-            redis.opsForValue().set(keyTry, "0", OTP_TTL);
-            redis.delete(keyCode);
-            redis.delete(keyTry);
-            throw new IllegalStateException("인증이 만료되었습니다. 다시 시도해주세요.");
+        // 세션 조회 + 잠금 확인 + 코드 비교 + 실패 횟수 증가를 한 번에 (Redis 왕복 1회, 동시 요청에도 시도 제한 보장)
+        OtpStateStore.VerifyResult result = otpStateStore.verify(dto.getRegSessionId(), dto.getCode(), OTP_MAX_TRIES);
+
+        switch (result.status()) {
+            case SESSION_EXPIRED -> throw new IllegalStateException("가입 세션이 만료되었습니다. 다시 시도해주세요.");
+            case CODE_EXPIRED -> throw new IllegalStateException("인증이 만료되어 인증에 실패했습니다.");
+            case LOCKED -> throw new IllegalStateException("인증 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요");
+            case MISMATCH -> throw new IllegalStateException("인증번호가 일치하지 않습니다.");
+            case VERIFIED -> { }
         }
 
-        // 코드 검증 오류
-        if(!savedCode.equals(dto.getCode())) {
-            // increment 사용으로 안전하게 증가
-            redis.opsForValue().increment(keyTry);
-            // 기존 TTL 유지
-            redis.expire(keyTry, Duration.ofSeconds(redis.getExpire(keyCode)));
-            throw new IllegalStateException("인증번호가 일치하지 않습니다.");
-        }
-
-        // 코드 검증 성공
+        // 코드 검증 성공 → 가입 정보에 합치고 OTP 세션 삭제
+        RegSession regSession = result.session();
         regSession.markVerifiedAt();
-        sessionStore.setSession(OTP_KEY_PREFIX, dto.getRegSessionId(), regSession, sessionStore.remainingTtl(OTP_KEY_PREFIX, dto.getRegSessionId()));
-
-        authService.attachOtpInfo(dto.getRegSessionId());
-
-        redis.delete(keyCode);
-        redis.delete(keyTry);
-        redis.delete(OTP_KEY_PREFIX + dto.getRegSessionId());
+        authService.attachOtpInfo(dto.getRegSessionId(), regSession);
 
         return new OtpVerifyResponse(true);
     }
@@ -0,0 +1,178 @@
+package com.ssafy.keeping.domain.otp.session;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * 가입 OTP 단계 상태 (Redis)
+ * - 키: otp:info:{regSessionId} (가입 세션 JSON), otp:code:{regSessionId} (인증번호), otp:try:{regSessionId} (실패 횟수)
+ *   중괄호는 해시태그 → 클러스터에서도 세 키가 같은 슬롯에 있어 스크립트 하나로 다룰 수 있음
+ * - 단계마다 Lua 스크립트 / 파이프라인 1회 왕복으로 처리 (요청 1회, 검증 1회, 가입 정보 합치기 2회)
+ * - 실패 횟수 확인과 증가를 스크립트 안에서 원자적으로 처리 → 동시 요청으로 시도 제한을 넘길 수 없음
+ * - 커넥션은 템플릿이 빌리고 반납 (팩토리에서 직접 꺼내지 않음)
+ */
+@Slf4j
+@Component
+public class OtpStateStore {
+
+    static final String INFO_KEY = "otp:info:";
+    static final String CODE_KEY = "otp:code:";
+    static final String TRY_KEY = "otp:try:";
+
+    // KEYS[1] 세션, KEYS[2] 인증번호, KEYS[3] 실패 횟수 / ARGV[1] 세션 JSON, ARGV[2] 세션 ttl(ms), ARGV[3] 인증번호, ARGV[4] 인증번호 ttl(ms)
+    private static final String ISSUE = """
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[4])
+            redis.call('SET', KEYS[3], '0', 'PX', ARGV[4])
+            return 1
+            """;
+
+    // KEYS 는 ISSUE 와 동일 / ARGV[1] 입력 인증번호, ARGV[2] 최대 시도 횟수 → {상태, 세션 JSON, 실패 횟수}
+    // - 실패 횟수가 최대에 도달하면 인증번호를 지워 더 이상 맞출 수 없게 하고, 실패 횟수 키는 남겨 잠금 상태 유지
+    private static final String VERIFY = """
+            local session = redis.call('GET', KEYS[1])
+            if not session then return {'SESSION_EXPIRED', '', '0'} end
+            local tries = tonumber(redis.call('GET', KEYS[3]) or '0') or 0
+            local max = tonumber(ARGV[2])
+            if tries >= max then
+              redis.call('DEL', KEYS[2])
+              return {'LOCKED', '', tostring(tries)}
+            end
+            local code = redis.call('GET', KEYS[2])
+            if not code then return {'CODE_EXPIRED', '', tostring(tries)} end
+            if code ~= ARGV[1] then
+              local ttl = redis.call('PTTL', KEYS[2])
+              tries = redis.call('INCR', KEYS[3])
+              if ttl > 0 then redis.call('PEXPIRE', KEYS[3], ttl) end
+              if tries >= max then redis.call('DEL', KEYS[2]) end
+              return {'MISMATCH', '', tostring(tries)}
+            end
+            redis.call('DEL', KEYS[2], KEYS[3])
+            return {'VERIFIED', session, '0'}
+            """;
+
+    private final DefaultRedisScript<Long> issueScript = new DefaultRedisScript<>(ISSUE, Long.class);
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> verifyScript = new DefaultRedisScript<>(VERIFY, List.class);
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper om;
+
+    // 누적 지표
+    private final LongAdder issued = new LongAdder();
+    private final LongAdder verified = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+    private final LongAdder lockouts = new LongAdder();
+    private final LongAdder roundTrips = new LongAdder();
+
+    public OtpStateStore(StringRedisTemplate redis, ObjectMapper om) {
+        this.redis = redis;
+        this.om = om;
+    }
+
+    public enum VerifyStatus { VERIFIED, MISMATCH, LOCKED, CODE_EXPIRED, SESSION_EXPIRED }
+
+    /**
+     * @param session 검증 성공 시 가입 세션 (그 외 null)
+     * @param tries 현재 실패 횟수
+     */
+    public record VerifyResult(VerifyStatus status, RegSession session, int tries) {
+    }
+
+    public record Metrics(long issued, long verified, long mismatches, long lockouts, long roundTrips) {
+        /** 인증 완료 1건당 Redis 왕복 수 (요청 + 검증 + 합치기, 재요청/실패 시도 포함) */
+        public double roundTripsPerSignup() {
+            return verified == 0 ? 0 : roundTrips / (double) verified;
+        }
+    }
+
+    /**
+     * OTP 요청: 세션 저장 + 인증번호 저장 + 실패 횟수 초기화 (왕복 1회)
+     */
+    public void issue(String regSessionId, RegSession session, Duration sessionTtl, String code, Duration codeTtl) {
+        String json;
+        try {
+            json = om.writeValueAsString(session);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+        redis.execute(issueScript, keys(regSessionId),
+                json, String.valueOf(sessionTtl.toMillis()), code, String.valueOf(codeTtl.toMillis()));
+        roundTrips.increment();
+        issued.increment();
+    }
+
+    /**
+     * OTP 검증: 세션 조회 + 잠금 확인 + 인증번호 비교 + 실패 횟수 증가 / 성공 시 인증번호 삭제 (왕복 1회)
+     */
+    @SuppressWarnings("unchecked")
+    public VerifyResult verify(String regSessionId, String code, int maxTries) {
+        List<Object> result = redis.execute(verifyScript, keys(regSessionId),
+                code == null ? "" : code, String.valueOf(maxTries));
+        roundTrips.increment();
+
+        VerifyStatus status = VerifyStatus.valueOf(String.valueOf(result.get(0)));
+        int tries = Integer.parseInt(String.valueOf(result.get(2)));
+        switch (status) {
+            case MISMATCH -> {
+                mismatches.increment();
+                if (tries >= maxTries) {
+                    lockouts.increment();
+                    log.warn("OTP 시도 횟수 초과로 잠금 - regSessionId: {}", regSessionId);
+                }
+            }
+            case VERIFIED -> {
+                verified.increment();
+                try {
+                    return new VerifyResult(status, om.readValue(String.valueOf(result.get(1)), RegSession.class), 0);
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            default -> {
+            }
+        }
+        return new VerifyResult(status, null, tries);
+    }
+
+    /**
+     * 인증된 세션을 가입 정보로 합치기
+     * - 가입 정보 조회 1회 → merge → 가입 정보 저장 + OTP 세션 삭제 파이프라인 1회 (왕복 2회)
+     * @param merge 기존 가입 정보 JSON(없으면 null) → 저장할 JSON
+     */
+    public void promote(String regSessionId, String signUpKey, Duration signUpTtl, UnaryOperator<String> merge) {
+        String merged = merge.apply(redis.opsForValue().get(signUpKey));
+        roundTrips.increment();
+
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.setEx(signUpKey, signUpTtl.toSeconds(), merged);
+            conn.del(key(INFO_KEY, regSessionId));
+            return null;
+        });
+        roundTrips.increment();
+    }
+
+    public Metrics metrics() {
+        return new Metrics(issued.sum(), verified.sum(), mismatches.sum(), lockouts.sum(), roundTrips.sum());
+    }
+
+    private static List<String> keys(String regSessionId) {
+        return List.of(key(INFO_KEY, regSessionId), key(CODE_KEY, regSessionId), key(TRY_KEY, regSessionId));
+    }
+
+    static String key(String prefix, String regSessionId) {
+        return prefix + "{" + regSessionId + "}";
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -39,7 +40,6 @@ public class RedisSessionStore implements RegSessionStore{
         String json = redis.opsForValue().get(key);
 
         if(json == null) {
-            redis.delete(key);
             throw new IllegalStateException("가입 세션이 만료되었습니다. 다시 시도해주세요.");
         }
 
@@ -57,8 +57,8 @@ public class RedisSessionStore implements RegSessionStore{
 
     @Override
     public Duration remainingTtl(String KEY_PREFIX, String regSessionId) {
-        Long seconds = redis.getConnectionFactory() != null ? redis.getConnectionFactory().getConnection()
-                .keyCommands().ttl((KEY_PREFIX + regSessionId).getBytes()) : null;
+        // 템플릿이 커넥션을 빌리고 반납 (팩토리에서 직접 꺼내면 커넥션이 반납되지 않음)
+        Long seconds = redis.getExpire(KEY_PREFIX + regSessionId, TimeUnit.SECONDS);
 
         if(seconds == null || seconds < 0 ) {
             return REG_TTL;
@@ -1,10 +1,19 @@
 package com.ssafy.keeping.domain.payment.common;
 
+import com.ssafy.keeping.global.exception.CustomException;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+
 import java.util.UUID;
 
 public class IdUtil {
     private IdUtil() {}
 
+    // 원장 ID 발급기 (노드 번호는 기동 시 LedgerNodeLease 가 지정, 그 전/테스트에서는 0)
+    private static volatile LedgerIdGenerator ledgerIds = new LedgerIdGenerator(0);
+
+    // Redis 임대 번호의 유효 기한 (System.nanoTime 기준), null 이면 기한 없음 (고정 번호 / 테스트)
+    private static volatile Long leaseDeadlineNanos = null;
+
     public static UUID newId() {
         // 기본은 랜덤 UUID (v4)
         return UUID.randomUUID();
@@ -14,4 +23,45 @@ public class IdUtil {
     public static UUID newUuidV7() {
         return com.github.f4b6a3.uuid.UuidCreator.getTimeOrdered();
     }
-}
\ No newline at end of file
+
+    // 원장 테이블 PK (시간순 53비트, LedgerIdGenerator 참고)
+    // 임대가 ttl 안에 연장되지 않았으면 다른 인스턴스가 같은 번호를 가졌을 수 있으므로 발급 거부
+    public static long newLedgerId() {
+        Long deadline = leaseDeadlineNanos;
+        if (deadline != null && System.nanoTime() - deadline > 0) {
+            throw new CustomException(ErrorCode.LEDGER_ID_UNAVAILABLE);
+        }
+        return ledgerIds.next();
+    }
+
+    public static int ledgerNode() {
+        return ledgerIds.node();
+    }
+
+    // 고정 번호 (ledger.id.node): 기한 없음
+    static void useLedgerNode(int node) {
+        switchNode(node);
+        leaseDeadlineNanos = null;
+    }
+
+    // 임대 번호: 발급기를 먼저 바꾼 뒤 기한을 열어야 이전 번호로 발급되는 틈이 없음
+    static void useLeasedNode(int node, long deadlineNanos) {
+        switchNode(node);
+        leaseDeadlineNanos = deadlineNanos;
+    }
+
+    static void extendLease(long deadlineNanos) {
+        leaseDeadlineNanos = deadlineNanos;
+    }
+
+    // 임대를 잃음 / 반납: 즉시 발급 중단
+    static void revokeLease() {
+        leaseDeadlineNanos = System.nanoTime() - 1;
+    }
+
+    private static void switchNode(int node) {
+        if (ledgerIds.node() != node) {
+            ledgerIds = new LedgerIdGenerator(node);
+        }
+    }
+}
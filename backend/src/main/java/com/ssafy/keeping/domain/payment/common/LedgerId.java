@@ -0,0 +1,18 @@
+package com.ssafy.keeping.domain.payment.common;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 원장 엔티티 PK: 저장 직전 애플리케이션에서 시간순 ID 발급 (IdUtil.newLedgerId)
+ * - @GeneratedValue(IDENTITY) 대신 사용 → persist 시점에 INSERT 하지 않아 flush 때 JDBC 배치로 묶임
+ */
+@IdGeneratorType(LedgerIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface LedgerId {
+}
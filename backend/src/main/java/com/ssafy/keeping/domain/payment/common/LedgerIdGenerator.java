@@ -0,0 +1,50 @@
+package com.ssafy.keeping.domain.payment.common;
+
+/**
+ * 원장 테이블(거래/거래 품목/로트/로트 이동/결제 품목)용 시간순 ID
+ * - [41비트 ms (2025-01-01 KST 기준, 약 69년)] [5비트 노드] [7비트 순번] = 53비트
+ * - 53비트 이하 → JSON 숫자로 내려가도 프론트(JS Number)에서 정밀도 손실 없음
+ * - DB 왕복 없이 발급하므로 IDENTITY 와 달리 Hibernate JDBC 배치 INSERT 가능
+ * - 노드 안에서 단조 증가 (시계가 뒤로 가도 마지막 ms 를 이어 사용, 같은 ms 에 128건을 넘으면 다음 ms 로 넘김)
+ */
+public final class LedgerIdGenerator {
+
+    static final long EPOCH_MS = 1735657200000L;     // 2025-01-01T00:00+09:00
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final int node;
+    private long lastMs = -1L;
+    private long sequence;
+
+    public LedgerIdGenerator(int node) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("노드 번호는 0~" + MAX_NODE + " 범위여야 합니다: " + node);
+        }
+        this.node = node;
+    }
+
+    public int node() {
+        return node;
+    }
+
+    public long next() {
+        return next(System.currentTimeMillis());
+    }
+
+    synchronized long next(long nowMs) {
+        long ms = Math.max(nowMs - EPOCH_MS, lastMs);
+        if (ms == lastMs) {
+            if (++sequence > MAX_SEQUENCE) {
+                ms = ++lastMs;
+                sequence = 0;
+            }
+        } else {
+            lastMs = ms;
+            sequence = 0;
+        }
+        return (ms << (NODE_BITS + SEQUENCE_BITS)) | ((long) node << SEQUENCE_BITS) | sequence;
+    }
+}
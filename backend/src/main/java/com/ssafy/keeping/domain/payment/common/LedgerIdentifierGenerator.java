@@ -0,0 +1,25 @@
+package com.ssafy.keeping.domain.payment.common;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * @LedgerId 용 Hibernate 생성기 (Hibernate 가 직접 생성하므로 스프링 빈이 아닌 IdUtil 을 통해 발급)
+ */
+public class LedgerIdentifierGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return IdUtil.newLedgerId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,158 @@
+package com.ssafy.keeping.domain.payment.common;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 원장 ID 노드 번호(0~31) 배정
+ * - ledger.id.node 를 지정하면 그 값을 사용 (고정 배포)
+ * - 지정하지 않으면 Redis 에서 비어 있는 번호를 임대 (ledger:id:node:{n} = 인스턴스 토큰, ttl 동안 유효)
+ *   → 노드끼리 같은 번호를 쓰지 않으므로 같은 ms 에 발급해도 ID 가 겹치지 않음
+ * - 기동 시 임대하지 못하면(Redis 장애 / 32개 모두 사용 중) 기동 실패: 임의 번호로 뜨면 다른 노드와 겹칠 수 있음
+ * - 임대는 heartbeat 로 연장, 종료 시 반납 / 임대를 잃으면 다른 번호로 다시 임대
+ * - 마지막으로 연장에 성공한 시점 + ttl 이 지나면 IdUtil 이 발급을 거부 (Redis 에서 만료돼 다른 노드가 가져갔을 수 있음)
+ */
+@Slf4j
+@Component
+public class LedgerNodeLease {
+
+    static final String KEY_PREFIX = "ledger:id:node:";
+
+    // KEYS[1] 노드 키 / ARGV[1] 인스턴스 토큰, ARGV[2] ttl(ms) → 1 연장 성공, 0 다른 인스턴스 소유(또는 만료)
+    private static final String RENEW = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """;
+
+    // KEYS[1] 노드 키 / ARGV[1] 인스턴스 토큰 → 본인 소유일 때만 삭제
+    private static final String RELEASE = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    private final DefaultRedisScript<Long> renewScript = new DefaultRedisScript<>(RENEW, Long.class);
+    private final DefaultRedisScript<Long> releaseScript = new DefaultRedisScript<>(RELEASE, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final int configuredNode;
+    private final Duration ttl;
+    private final String token = UUID.randomUUID().toString();
+    private volatile int leasedNode = -1;
+    private final LongAdder renewFailures = new LongAdder();
+
+    public LedgerNodeLease(StringRedisTemplate redis,
+                           @Value("${ledger.id.node:-1}") int configuredNode,
+                           @Value("${ledger.id.lease-ttl-seconds:60}") long ttlSeconds) {
+        this.redis = redis;
+        this.configuredNode = configuredNode;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (configuredNode >= 0) {
+            IdUtil.useLedgerNode(configuredNode);
+            log.info("원장 ID 노드 번호 고정 - node: {}", configuredNode);
+            return;
+        }
+        if (!acquire()) {
+            throw new IllegalStateException(
+                    "원장 ID 노드 번호를 임대하지 못했습니다. Redis 상태를 확인하거나 ledger.id.node 를 지정하세요.");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ledger.id.lease-renew-interval-ms:20000}")
+    public void heartbeat() {
+        if (configuredNode >= 0) return;
+        if (leasedNode < 0) {
+            // 이전 재임대 실패: 그동안 발급은 거부된 상태
+            acquire();
+            return;
+        }
+        try {
+            long sentAt = System.nanoTime();
+            Long renewed = redis.execute(renewScript, List.of(KEY_PREFIX + leasedNode),
+                    token, String.valueOf(ttl.toMillis()));
+            if (renewed != null && renewed == 1L) {
+                // 명령을 보낸 시점 기준 → Redis 쪽 만료보다 항상 먼저 끝남
+                IdUtil.extendLease(sentAt + ttl.toNanos());
+                return;
+            }
+            log.warn("원장 ID 노드 임대 만료 - node: {}, 다시 임대", leasedNode);
+            IdUtil.revokeLease();
+            leasedNode = -1;
+            acquire();
+        } catch (Exception e) {
+            // 연장 실패가 ttl 동안 이어지면 IdUtil 이 발급을 거부
+            renewFailures.increment();
+            log.warn("원장 ID 노드 임대 연장 실패 - node: {}, 연속 실패 시 ttl({}s) 후 발급 중단, 오류: {}",
+                    leasedNode, ttl.toSeconds(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (leasedNode < 0) return;
+        // 반납 후 다른 인스턴스가 같은 번호를 가져가기 전에 발급부터 중단
+        IdUtil.revokeLease();
+        try {
+            redis.execute(releaseScript, List.of(KEY_PREFIX + leasedNode), token);
+        } catch (Exception e) {
+            log.warn("원장 ID 노드 반납 실패 - node: {}, 오류: {}", leasedNode, e.getMessage());
+        }
+    }
+
+    public int node() {
+        return IdUtil.ledgerNode();
+    }
+
+    /** 현재 임대 중인 번호 (고정 번호 / 임대 없음이면 -1) */
+    public int leasedNode() {
+        return leasedNode;
+    }
+
+    public long renewFailures() {
+        return renewFailures.sum();
+    }
+
+    /**
+     * 비어 있는 번호 임대, 실패하면 false (번호를 임의로 고르지 않음)
+     */
+    private boolean acquire() {
+        // 노드마다 다른 번호부터 찾도록 시작 위치를 흩뜨림
+        int start = ThreadLocalRandom.current().nextInt(LedgerIdGenerator.MAX_NODE + 1);
+        try {
+            for (int i = 0; i <= LedgerIdGenerator.MAX_NODE; i++) {
+                int node = (start + i) % (LedgerIdGenerator.MAX_NODE + 1);
+                long sentAt = System.nanoTime();
+                Boolean ok = redis.opsForValue().setIfAbsent(KEY_PREFIX + node, token, ttl);
+                if (Boolean.TRUE.equals(ok)) {
+                    leasedNode = node;
+                    IdUtil.useLeasedNode(node, sentAt + ttl.toNanos());
+                    log.info("원장 ID 노드 번호 임대 - node: {}", node);
+                    return true;
+                }
+            }
+            log.error("원장 ID 노드 번호가 모두 사용 중 - 원장 ID 발급 중단");
+        } catch (Exception e) {
+            log.error("원장 ID 노드 임대 실패 - 원장 ID 발급 중단, 오류: {}", e.getMessage());
+        }
+        return false;
+    }
+}
@@ -22,6 +22,7 @@ import com.ssafy.keeping.domain.wallet.repository.WalletLotMoveRepository;
 import com.ssafy.keeping.domain.wallet.repository.WalletRepository;
 import com.ssafy.keeping.domain.wallet.repository.WalletStoreBalanceRepository;
 import com.ssafy.keeping.domain.wallet.repository.WalletStoreLotRepository;
+import com.ssafy.keeping.domain.wallet.service.GroupContributionLedger;
 import com.ssafy.keeping.global.exception.CustomException;
 import com.ssafy.keeping.global.exception.constants.ErrorCode;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,17 +34,20 @@ import org.springframework.stereotype.Service;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class FundsService {
 
-    private static class LotUse {
+    static class LotUse {
         private final Long lotId;
         private final Long used;
 
-        private LotUse(Long lotId, Long used) {
+        LotUse(Long lotId, Long used) {
             this.lotId = lotId;
             this.used = used;
         }
@@ -52,6 +56,12 @@ public class FundsService {
         public Long getUsed()  { return used; }
     }
 
+    /** 로트 1건 조건부 차감 (영향행 1이면 성공) */
+    @FunctionalInterface
+    interface LotDecrement {
+        int apply(Long lotId, long use);
+    }
+
     private final WalletStoreBalanceRepository balanceRepository;
     private final WalletStoreLotRepository lotRepository;
     private final WalletLotMoveRepository lotMoveRepository;
@@ -64,6 +74,7 @@ public class FundsService {
     private final TransactionRepository txRepository;
     private final TransactionItemRepository txItemRepository;
     private final PaymentIntentItemRepository intentItemRepository;
+    private final GroupContributionLedger contributionLedger;
     private final Clock clock;
 
     /**
@@ -93,28 +104,23 @@ public class FundsService {
         }
 
         // 로트 FIFO 차감 (만료 전 ACTIVE 로트만, 한 로트씩 조건부 차감)
-        long remain = amount; // remain : 남은 결제 금액
         List<LotUse> consumed = new ArrayList<>();
 
         List<WalletStoreLot> lots = lotRepository.findSpendableLots(walletId, storeId, now);
-        for (WalletStoreLot lot : lots) {
-            if (remain <= 0L) break;
-
-            long available = lot.getAmountRemaining() == null ? 0L : lot.getAmountRemaining();
-            if (available <= 0L) continue;
-
-            long use = Math.min(available, remain);
-            int ok = lotRepository.decrementLotIfEnough(lot.getLotId(), use, now);
-            if (ok == 1) {
-                consumed.add(new LotUse(lot.getLotId(), use));
-                remain -= use;
-            }
-        }
+        long remain = allocateFifo(lots, amount, consumed,
+                (lotId, use) -> lotRepository.decrementLotIfEnough(lotId, use, now)); // remain : 남은 결제 금액
 
         if (remain > 0L) { // 이론 상 남은 결제금액이 > 0 인 경우는 있으면 안됨.... 잔액 부족 상태
             throw new CustomException(ErrorCode.FUNDS_INVARIANT_VIOLATION);
         }
 
+        // 그룹 지갑 결제면 기여 LOT 차감분을 모임 기여 요약에 반영
+        Map<Long, WalletStoreLot> lotById = new HashMap<>();
+        lots.forEach(l -> lotById.put(l.getLotId(), l));
+        contributionLedger.applyLotDeltas(consumed.stream()
+                .map(u -> GroupContributionLedger.LotDelta.of(lotById.get(u.getLotId()), -u.getUsed()))
+                .toList());
+
         Wallet walletRef   = walletRepository.getReferenceById(walletId);
         Customer customerRef = customerRepository.getReferenceById(intent.getCustomerId());
         Store storeRef    = storeRepository.getReferenceById(storeId);
@@ -139,13 +145,18 @@ public class FundsService {
             throw new CustomException(ErrorCode.STORE_NOT_MATCH);
         }
 
+        // 메뉴는 한 번에 조회 (품목마다 findById 하지 않음, 삭제된 메뉴는 null)
+        Map<Long, Menu> menuById = new HashMap<>();
+        menuRepository.findAllById(intentItems.stream()
+                        .map(PaymentIntentItem::getMenuId)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList())
+                .forEach(m -> menuById.put(m.getMenuId(), m));
+
         for (PaymentIntentItem it : intentItems) {
 
-            Menu menuRef = null;
-            Long menuId = it.getMenuId();
-            if (menuId != null) {
-                menuRef = menuRepository.findById(menuId).orElse(null);
-            }
+            Menu menuRef = it.getMenuId() == null ? null : menuById.get(it.getMenuId());
 
             TransactionItem row = TransactionItem.builder()
                     .transaction(tx)
@@ -157,7 +168,7 @@ public class FundsService {
                     .build();
             rows.add(row);
         }
-        txItemRepository.saveAll(rows);
+        txItemRepository.saveAll(rows);   // @LedgerId → flush 때 배치 INSERT
 
         // 로트 증감 기록 (USE ⇒ delta 음수)
         List<WalletLotMove> moves = new ArrayList<>();
@@ -176,4 +187,26 @@ public class FundsService {
         return FundsResult.ok(tx.getTransactionId());
     }
 
+    /**
+     * 로트 FIFO 배분: 앞 로트부터 남은 금액만큼 차감 시도, 성공한 차감만 consumed 에 추가
+     * @param lots 적립 순(acquiredAt, lotId)으로 정렬된 사용 가능 로트
+     * @return 배분하지 못한 남은 금액 (정상이면 0)
+     */
+    static long allocateFifo(List<WalletStoreLot> lots, long amount, List<LotUse> consumed, LotDecrement decrement) {
+        long remain = amount;
+        for (WalletStoreLot lot : lots) {
+            if (remain <= 0L) break;
+
+            long available = lot.getAmountRemaining() == null ? 0L : lot.getAmountRemaining();
+            if (available <= 0L) continue;
+
+            long use = Math.min(available, remain);
+            if (decrement.apply(lot.getLotId(), use) == 1) {
+                consumed.add(new LotUse(lot.getLotId(), use));
+                remain -= use;
+            }
+        }
+        return remain;
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.ssafy.keeping.domain.payment.intent.model;
 
+import com.ssafy.keeping.domain.payment.common.LedgerId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,7 @@ import lombok.*;
         indexes = @Index(name="idx_intent", columnList="intent_id"))
 public class PaymentIntentItem {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @LedgerId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -1,10 +1,7 @@
 package com.ssafy.keeping.domain.payment.intent.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.keeping.domain.auth.pin.service.PinAuthService;
-import com.ssafy.keeping.domain.group.model.GroupMember;
 import com.ssafy.keeping.domain.group.repository.GroupMemberRepository;
 import com.ssafy.keeping.domain.idempotency.constant.IdemActorType;
 import com.ssafy.keeping.domain.idempotency.constant.IdemStatus;
@@ -12,7 +9,9 @@ import com.ssafy.keeping.domain.idempotency.dto.IdemBegin;
 import com.ssafy.keeping.domain.idempotency.model.IdempotencyKey;
 import com.ssafy.keeping.domain.idempotency.model.IdempotentResult;
 import com.ssafy.keeping.domain.idempotency.repository.IdempotencyKeyRepository;
+import com.ssafy.keeping.domain.idempotency.service.CanonicalBodyHasher;
 import com.ssafy.keeping.domain.idempotency.service.IdempotencyService;
+import com.ssafy.keeping.domain.idempotency.service.ResponseSnapshotCodecs;
 import com.ssafy.keeping.domain.menu.model.Menu;
 import com.ssafy.keeping.domain.menu.repository.MenuRepository;
 import com.ssafy.keeping.domain.notification.entity.NotificationType;
@@ -20,8 +19,6 @@ import com.ssafy.keeping.domain.notification.service.NotificationService;
 import com.ssafy.keeping.domain.payment.common.IdUtil;
 import com.ssafy.keeping.domain.payment.funds.dto.FundsResult;
 import com.ssafy.keeping.domain.payment.funds.service.FundsService;
-import com.ssafy.keeping.domain.payment.intent.canonical.CanonicalApprove;
-import com.ssafy.keeping.domain.payment.intent.canonical.CanonicalInitiate;
 import com.ssafy.keeping.domain.payment.intent.constant.PaymentStatus;
 import com.ssafy.keeping.domain.payment.intent.dto.*;
 import com.ssafy.keeping.domain.payment.intent.model.PaymentIntent;
@@ -40,24 +37,32 @@ import com.ssafy.keeping.domain.wallet.model.Wallet;
 import com.ssafy.keeping.domain.wallet.repository.WalletRepository;
 import com.ssafy.keeping.global.exception.CustomException;
 import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import com.ssafy.keeping.global.monitoring.PaymentMetrics;
+import com.ssafy.keeping.global.monitoring.PaymentMetrics.IdemOutcome;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static com.ssafy.keeping.global.monitoring.PaymentMetrics.Operation.APPROVE;
+import static com.ssafy.keeping.global.monitoring.PaymentMetrics.Operation.INITIATE;
+import static com.ssafy.keeping.global.monitoring.PaymentMetrics.Phase.*;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentIntentService {
 
+    private static final int PIN_LENGTH = 6;
+
     private final PaymentIntentRepository intentRepository;
     private final PaymentIntentItemRepository itemRepository;
     private final QrTokenRepository qrTokenRepository;
@@ -71,10 +76,10 @@ public class PaymentIntentService {
 
     private final IdempotencyKeyRepository idempotencyKeyRepository;
     private final IdempotencyService idempotencyService;
-    @Qualifier("canonicalObjectMapper")
-    private final ObjectMapper canonicalObjectMapper;
+    private final ResponseSnapshotCodecs snapshotCodecs;
     private final ObjectMapper objectMapper;
     private final Clock clock;
+    private final PaymentMetrics paymentMetrics;
 
     /**
      * 결제 의도 생성
@@ -101,18 +106,19 @@ public class PaymentIntentService {
         }
 
         // 멱등 바디 정규화 → SHA-256
-        String canonicalBody = canonicalizeInitiateBody(req); // 정규화
-        byte[] bodyHash = IdempotencyService.sha256(canonicalBody); // SHA-256
+        byte[] bodyHash = initiateBodyHash(req);
 
         // 멱등 선점 또는 로드
         UUID keyUuid = UUID.fromString(idempotencyKeyHeader);
         String path = "/cpqr/" + qrTokenId + "/initiate"; // 스코프 정규화
-        IdemBegin begin = idempotencyService.beginOrLoad(IdemActorType.MERCHANT, ownerId, "POST", path, keyUuid, bodyHash);
+        IdemBegin begin = paymentMetrics.time(INITIATE, IDEMPOTENCY_BEGIN,
+                () -> idempotencyService.beginOrLoad(IdemActorType.MERCHANT, ownerId, "POST", path, keyUuid, bodyHash));
 
         IdempotencyKey slot = begin.getRow();
 
         // 본문 충돌 확인
         if (idempotencyService.isBodyConflict(slot, bodyHash)) {
+            paymentMetrics.idempotency(INITIATE, IdemOutcome.CONFLICT);
             throw new CustomException(ErrorCode.IDEMPOTENCY_BODY_CONFLICT);
         }
 
@@ -121,23 +127,24 @@ public class PaymentIntentService {
             PaymentIntentDetailResponse replay;
 
             try {
-                var node = slot.getResponseJson(); // JsonNode
-                if (node != null && !node.isNull()) {
-                    replay = canonicalObjectMapper.treeToValue(node, PaymentIntentDetailResponse.class);
-                } else if (slot.getIntentPublicId() != null) {
-                    replay = rebuildFromResource(slot.getIntentPublicId());
-                } else {
+                replay = snapshotCodecs.readSnapshot(slot, PaymentIntentDetailResponse.class);
+            } catch (IOException e) {
+                throw new CustomException(ErrorCode.JSON_PARSE_ERROR);
+            }
+            if (replay == null) {
+                if (slot.getIntentPublicId() == null) {
                     throw new CustomException(ErrorCode.IDEMPOTENCY_REPLAY_UNAVAILABLE);
                 }
-            } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-                throw new CustomException(ErrorCode.JSON_PARSE_ERROR);
+                replay = rebuildFromResource(slot.getIntentPublicId());
             }
 
+            paymentMetrics.idempotency(INITIATE, IdemOutcome.REPLAY);
             return IdempotentResult.okReplay(replay);
         }
 
         // 다른 처리에서 IN_PROGRESS로 선점
         if (!begin.isCreated() && slot.getStatus() == IdemStatus.IN_PROGRESS) {
+            paymentMetrics.idempotency(INITIATE, IdemOutcome.ACCEPTED);
             return IdempotentResult.acceptedWithRetryAfterSeconds(2);
         }
 
@@ -194,7 +201,7 @@ public class PaymentIntentService {
         }
 
         // Intent 생성
-        PaymentIntent intent = PaymentIntent.builder()
+        PaymentIntent intent = intentRepository.save(PaymentIntent.builder()
                 .publicId(IdUtil.newUuidV7())
                 .qrToken(qr)
                 .customerId(qr.getCustomerId())
@@ -206,9 +213,7 @@ public class PaymentIntentService {
                 .updatedAt(now)
                 .expiresAt(now.plusMinutes(3))
                 .idempotencyKey(idempotencyKeyHeader)
-                .build();
-
-        intent = intentRepository.save(intent);
+                .build());
 
         // 아이템 스냅샷 저장
         List<PaymentIntentItem> items = new ArrayList<>();
@@ -232,28 +237,13 @@ public class PaymentIntentService {
         }
         PaymentIntentDetailResponse res = PaymentIntentDetailResponse.from(intent, itemViews);
 
-        try {
-            Long customerId = qr.getCustomerId();
-            Store store = storeRepository.findById(intent.getStoreId()).orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
-            String storeName = store.getStoreName();
-
-            String notificationContent = String.format("%s에서 결제 요청이 도착하였습니다.", storeName);
-
-            notificationService.sendToCustomer(
-                    customerId,
-                    NotificationType.PAYMENT_REQUEST,
-                    notificationContent
-            );
-
-            log.info("결제 요청 알림 전송 완료 - 손님ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, intent.getAmount(), intent.getStoreId());
-        } catch (Exception e) {
-            log.info("결제 요청 알림 전송 완료 - 손님ID: {}, 결제 금액: {}, 사용 가게 ID: {}", qr.getCustomerId(), intent.getAmount(), intent.getStoreId());
-            // 알림 실패는 비즈니스 로직에 영향을 주지 않음
-        }
+        paymentMetrics.time(INITIATE, NOTIFY, () -> notifyPaymentRequest(qr.getCustomerId(), intent));
 
         // 멱등 완료 기록(DONE + 응답 스냅샷)
-        idempotencyService.complete(slot, HttpStatus.CREATED.value(), res, intent.getPublicId());
+        paymentMetrics.time(INITIATE, IDEMPOTENCY_COMPLETE,
+                () -> idempotencyService.complete(slot, HttpStatus.CREATED.value(), res, intent.getPublicId()));
 
+        paymentMetrics.idempotency(INITIATE, IdemOutcome.CREATED);
         return IdempotentResult.created(res);
     }
 
@@ -291,8 +281,7 @@ public class PaymentIntentService {
         }
 
         // 멱등 바디 정규화 → SHA-256
-        String canonicalBody = canonicalizeApproveBody(req); // 키 정렬/NULL 제거
-        byte[] bodyHash = IdempotencyService.sha256(canonicalBody); // SHA-256
+        byte[] bodyHash = approveBodyHash(req);
 
         // 멱등 선점 또는 로드
         UUID keyUuid;
@@ -302,32 +291,34 @@ public class PaymentIntentService {
             throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_INVALID);
         }
         String path = "/payments/" + intentPublicId + "/approve"; // 스코프 정규화
-        IdemBegin begin = idempotencyService.beginOrLoad(IdemActorType.CUSTOMER, customerId, "POST", path, keyUuid, bodyHash);
+        IdemBegin begin = paymentMetrics.time(APPROVE, IDEMPOTENCY_BEGIN,
+                () -> idempotencyService.beginOrLoad(IdemActorType.CUSTOMER, customerId, "POST", path, keyUuid, bodyHash));
 
         IdempotencyKey slot = begin.getRow();
 
         // 본문 충돌 확인
         if (idempotencyService.isBodyConflict(slot, bodyHash)) {
+            paymentMetrics.idempotency(APPROVE, IdemOutcome.CONFLICT);
             throw new CustomException(ErrorCode.IDEMPOTENCY_BODY_CONFLICT); // Idempotency-Key 충돌: 요청 내용이 처음과 다릅니다.
         }
 
         // DONE 재생
         if (slot.getStatus() == IdemStatus.DONE) {
-            PaymentIntentDetailResponse replay;
-            var node = slot.getResponseJson();
+            PaymentIntentDetailResponse replay = parseSnapshot(slot);
 
-            if (node != null && !node.isNull()) {
-                replay = parseSnapshot(node); // ← JsonNode 버전 사용
-            } else if (slot.getIntentPublicId() != null) {
+            if (replay == null) {
+                if (slot.getIntentPublicId() == null) {
+                    throw new CustomException(ErrorCode.IDEMPOTENCY_REPLAY_UNAVAILABLE);
+                }
                 replay = rebuildFromResource(slot.getIntentPublicId());
-            } else {
-                throw new CustomException(ErrorCode.IDEMPOTENCY_REPLAY_UNAVAILABLE);
             }
+            paymentMetrics.idempotency(APPROVE, IdemOutcome.REPLAY);
             return IdempotentResult.okReplay(replay);
         }
 
         // 타 프로세스가 IN_PROGRESS 선점 중이면 202
         if (!begin.isCreated() && slot.getStatus() == IdemStatus.IN_PROGRESS) {
+            paymentMetrics.idempotency(APPROVE, IdemOutcome.ACCEPTED);
             return IdempotentResult.acceptedWithRetryAfterSeconds(2); // 202
         }
 
@@ -348,13 +339,13 @@ public class PaymentIntentService {
         }
 
         // PIN 검증
-        boolean pinOk = pinAuthService.verify(customerId, req.getPin());
+        boolean pinOk = paymentMetrics.time(APPROVE, PIN_VERIFY, () -> pinAuthService.verify(customerId, req.getPin()));
         if (!pinOk) {
             throw new CustomException(ErrorCode.PIN_INVALID); // 결제 비밀번호(PIN)가 올바르지 않습니다.
         }
 
         // --- 잔액/한도 검증 및 차감(원자 UPDATE 또는 내부 비관락; Intent는 낙관락 유지) ---
-        FundsResult funds = fundsService.capture(intent);
+        FundsResult funds = paymentMetrics.time(APPROVE, CAPTURE, () -> fundsService.capture(intent));
         if (!funds.isSufficient()) {
             throw new CustomException(ErrorCode.FUNDS_INSUFFICIENT); // 잔액이 부족합니다.
         }
@@ -381,6 +372,42 @@ public class PaymentIntentService {
         Wallet wallet = walletRepository.findById(intent.getWalletId()).orElseThrow(() -> new CustomException(ErrorCode.WALLET_NOT_FOUND));
 
         // 알림 전송
+        paymentMetrics.time(APPROVE, NOTIFY, () -> notifyApproved(intent, store, wallet, customerId));
+
+        paymentMetrics.time(APPROVE, IDEMPOTENCY_COMPLETE, () -> {
+            try {
+                idempotencyService.completeStrict(slot, HttpStatus.OK.value(), res, intent.getPublicId());
+            } catch (IOException e) {
+                idempotencyService.completeWithoutSnapshot(slot, HttpStatus.OK.value(), intent.getPublicId());
+            }
+        });
+
+        paymentMetrics.idempotency(APPROVE, IdemOutcome.CREATED);
+        return IdempotentResult.ok(res);
+    }
+
+    /* ---------- 내부 유틸 ---------- */
+
+    /** 결제 요청 알림 (손님) - 알림 실패는 비즈니스 로직에 영향을 주지 않음 */
+    private void notifyPaymentRequest(Long customerId, PaymentIntent intent) {
+        try {
+            Store store = storeRepository.findById(intent.getStoreId()).orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+            String notificationContent = String.format("%s에서 결제 요청이 도착하였습니다.", store.getStoreName());
+
+            notificationService.sendToCustomer(
+                    customerId,
+                    NotificationType.PAYMENT_REQUEST,
+                    notificationContent
+            );
+
+            log.debug("결제 요청 알림 전송 완료 - 손님ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, intent.getAmount(), intent.getStoreId());
+        } catch (Exception e) {
+            log.warn("결제 요청 알림 전송 실패 - 손님ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, intent.getAmount(), intent.getStoreId());
+        }
+    }
+
+    /** 결제 승인 알림 (점주 + 손님 또는 모임원) - 알림 실패는 비즈니스 로직에 영향을 주지 않음 */
+    private void notifyApproved(PaymentIntent intent, Store store, Wallet wallet, Long customerId) {
         if (wallet.getWalletType() == WalletType.INDIVIDUAL) { // 개인 지갑
             // 결제 완료된 가게에 알림 전송
             try {
@@ -395,9 +422,8 @@ public class PaymentIntentService {
                         notificationContent
                 );
 
-                log.info("점주 알림 전송 완료 - 손님ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, intent.getAmount(), intent.getStoreId());
+                log.debug("점주 알림 전송 완료 - 손님ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, intent.getAmount(), intent.getStoreId());
             } catch (Exception e) {
-                Long ownerId = store.getOwner().getOwnerId();
                 log.warn("점주 알림 전송 실패 - 손님ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, intent.getAmount(), intent.getStoreId());
             }
             // 결제한 손님에게 알림 전송
@@ -411,7 +437,7 @@ public class PaymentIntentService {
                         notificationContent
                 );
 
-                log.info("결제 수락 알림 전송 완료 - 손님ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, intent.getAmount(), intent.getStoreId());
+                log.debug("결제 수락 알림 전송 완료 - 손님ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, intent.getAmount(), intent.getStoreId());
             } catch (Exception e) {
                 log.warn("결제 수락 알림 전송 실패 - 손님ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, intent.getAmount(), intent.getStoreId());
             }
@@ -429,43 +455,32 @@ public class PaymentIntentService {
                         notificationContent
                 );
 
-                log.info("점주 알림 전송 완료 - 손님ID: {}, 그룹ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, wallet.getGroup().getGroupId(), intent.getAmount(), intent.getStoreId());
+                log.debug("점주 알림 전송 완료 - 손님ID: {}, 그룹ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, wallet.getGroup().getGroupId(), intent.getAmount(), intent.getStoreId());
             } catch (Exception e) {
-                log.warn("점주 알림 전송 완료 - 손님ID: {}, 그룹ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, wallet.getGroup().getGroupId(), intent.getAmount(), intent.getStoreId());
+                log.warn("점주 알림 전송 실패 - 손님ID: {}, 그룹ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, wallet.getGroup().getGroupId(), intent.getAmount(), intent.getStoreId());
             }
 
+            // 모임원 전원에게 같은 내용 → 공유 본문 1건으로 일괄 전송 (잇단 결제는 수신자별 요약 알림으로 묶임)
             Long groupId = wallet.getGroup().getGroupId();
-            List<GroupMember> groupMembers = groupMemberRepository.findAllByGroup_GroupId(groupId);
-
-            for (GroupMember groupMember : groupMembers) {
-                try {
-                    String notificationContent = String.format("%s에서 %s지갑의 %,d포인트가 사용되었습니다.",
-                            store.getStoreName(), groupName, intent.getAmount());
-
-                    notificationService.sendToOwner(
-                            groupMember.getGroupMemberId(),
-                            NotificationType.GROUP_POINT_USE,
-                            notificationContent
-                    );
-
-                    log.info("결제 수락 알림 전송 완료 - 손님ID: {}, 그룹ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, wallet.getGroup().getGroupId(), intent.getAmount(), intent.getStoreId());
-                } catch (Exception e) {
-                    log.warn("결제 수락 알림 전송 실패 - 손님ID: {}, 그룹ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, wallet.getGroup().getGroupId(), intent.getAmount(), intent.getStoreId());
-                }
-            }
-        }
+            try {
+                List<Long> memberIds = groupMemberRepository.findMemberIdsByGroupId(groupId);
+                String notificationContent = String.format("%s에서 %s지갑의 %,d포인트가 사용되었습니다.",
+                        store.getStoreName(), groupName, intent.getAmount());
 
-        try {
-            idempotencyService.completeStrict(slot, HttpStatus.OK.value(), res, intent.getPublicId());
-        } catch (JsonProcessingException e) {
-            idempotencyService.completeWithoutSnapshot(slot, HttpStatus.OK.value(), intent.getPublicId());
-        }
+                notificationService.sendToGroupMembers(
+                        groupId,
+                        memberIds,
+                        NotificationType.GROUP_POINT_USE,
+                        notificationContent
+                );
 
-        return IdempotentResult.ok(res);
+                log.debug("결제 수락 알림 전송 완료 - 손님ID: {}, 그룹ID: {}, 모임원 수: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, groupId, memberIds.size(), intent.getAmount(), intent.getStoreId());
+            } catch (Exception e) {
+                log.warn("결제 수락 알림 전송 실패 - 손님ID: {}, 그룹ID: {}, 결제 금액: {}, 사용 가게 ID: {}", customerId, groupId, intent.getAmount(), intent.getStoreId());
+            }
+        }
     }
 
-    /* ---------- 내부 유틸 ---------- */
-
     private PaymentIntentItemView toItemView(PaymentIntentItem it) {
         long line = (it.getLineTotal() != null) ? it.getLineTotal() : it.getUnitPriceSnap() * it.getQuantity();
         return PaymentIntentItemView.builder()
@@ -477,68 +492,103 @@ public class PaymentIntentService {
                 .build();
     }
 
-    /** initiate 요청 바디 정규화 (키 정렬 + 공백 제거 등: ObjectMapper 설정에 따름) */
-    private String canonicalizeInitiateBody(PaymentInitiateRequest req) {
-
-        // 아이템 정규화: menuId 오름차순, 같으면 quantity 오름차순
-        List<CanonicalInitiate.Item> normItems = new ArrayList<>();
-        for (PaymentInitiateItemDto it : req.getOrderItems()) {
+    /**
+     * initiate 요청 바디 정규화 + SHA-256 (CanonicalInitiate 직렬화와 같은 바이트)
+     * - 아이템 정렬: menuId 오름차순, 같으면 quantity 오름차순 (스레드별 작업 배열에서 삽입 정렬, 주문 항목은 수 개~수십 개)
+     */
+    static byte[] initiateBodyHash(PaymentInitiateRequest req) {
+        List<PaymentInitiateItemDto> items = req.getOrderItems();
+        int n = items.size();
+        // 검증은 해시 시작 전에 (도중에 예외가 나면 스레드별 인스턴스가 사용 중으로 남음)
+        for (int i = 0; i < n; i++) {
+            PaymentInitiateItemDto it = items.get(i);
             if (it.getQuantity() <= 0) {
                 throw new CustomException(ErrorCode.PAYMENT_INIT_QUANTITY_INVALID);
             }
-            CanonicalInitiate.Item ci = CanonicalInitiate.Item.builder()
-                    .menuId(it.getMenuId())
-                    .quantity(it.getQuantity())
-                    .build();
-            normItems.add(ci);
+            if (it.getMenuId() == null) {
+                throw new CustomException(ErrorCode.REQUEST_CANONICALIZE_FAILED);
+            }
         }
-        normItems.sort((a, b) -> {
-            int c = a.getMenuId().compareTo(b.getMenuId());
-            if (c != 0) return c;
-            return Integer.compare(a.getQuantity(), b.getQuantity());
-        });
 
-        // 캔노니컬 DTO 구성(필드 순서 고정)
-        CanonicalInitiate canonical = CanonicalInitiate.builder()
-                .storeId(req.getStoreId())
-                .items(normItems)
-                .build();
+        CanonicalBodyHasher hasher = CanonicalBodyHasher.start();
+        long[] pairs = hasher.scratch(n * 2); // [menuId, quantity] 쌍
+        for (int i = 0; i < n; i++) {
+            PaymentInitiateItemDto it = items.get(i);
+            long menuId = it.getMenuId();
+            long quantity = it.getQuantity();
+            int j = i - 1;
+            while (j >= 0 && (pairs[2 * j] > menuId || (pairs[2 * j] == menuId && pairs[2 * j + 1] > quantity))) {
+                pairs[2 * j + 2] = pairs[2 * j];
+                pairs[2 * j + 3] = pairs[2 * j + 1];
+                j--;
+            }
+            pairs[2 * j + 2] = menuId;
+            pairs[2 * j + 3] = quantity;
+        }
 
-        try {
-            return canonicalObjectMapper.writeValueAsString(canonical);
-        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-            // 바디 정규화 실패 시, 의미상 동일 비교가 불가
-            throw new CustomException(ErrorCode.REQUEST_CANONICALIZE_FAILED);
+        // 필드 순서 고정: storeId, items[menuId, quantity]
+        hasher.beginObject().field("storeId", req.getStoreId()).beginArray("items");
+        for (int i = 0; i < n; i++) {
+            hasher.beginObject()
+                    .field("menuId", pairs[2 * i])
+                    .field("quantity", pairs[2 * i + 1])
+                    .endObject();
         }
+        return hasher.endArray().endObject().digest();
     }
 
-    /** Approve 요청 바디 정규화 */
-    private String canonicalizeApproveBody(ApproveRequest req) {
-        // 방어적 정규화: 공백 전부 제거 (탁상·붙여넣기 실수 대비)
-        String raw = req.getPin();
-        String normalized = (raw == null) ? null : raw.replaceAll("\\s+", ""); // 공백 모두 제거
+    /**
+     * Approve 요청 바디 정규화 + SHA-256 (CanonicalApprove 직렬화와 같은 바이트)
+     * - 공백 제거 후 숫자 6자리인지 한 번 더 검증 (@Valid 통과 후라도 방어)
+     */
+    static byte[] approveBodyHash(ApproveRequest req) {
+        String pin = normalizePin(req.getPin()); // 검증 실패는 해시 시작 전에
+        return CanonicalBodyHasher.start()
+                .beginObject()
+                .field("pin", pin)
+                .endObject()
+                .digest();
+    }
 
-        // 숫자 6자리 재검증 (@Valid 통과 후라도 한 번 더 방어)
-        if (normalized == null || !normalized.matches("\\d{6}")) {
+    // 정규식 \s(공백 6종) 제거 + \d{6} 검사를 한 번 훑어서 처리, 공백이 없으면 원본 그대로 (할당 없음)
+    static String normalizePin(String raw) {
+        if (raw == null) {
             throw new CustomException(ErrorCode.PIN_INVALID);
         }
-
-        // 캔노니컬 DTO 생성 (필드 순서 고정)
-        CanonicalApprove canonical = CanonicalApprove.builder()
-                .pin(normalized)
-                .build();
-
-        try {
-            return canonicalObjectMapper.writeValueAsString(canonical);
-        } catch (JsonProcessingException e) {
-            throw new CustomException(ErrorCode.REQUEST_CANONICALIZE_FAILED);
+        int digits = 0;
+        boolean hasWhitespace = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (isRegexWhitespace(c)) {
+                hasWhitespace = true;
+            } else if (c >= '0' && c <= '9') {
+                digits++;
+            } else {
+                throw new CustomException(ErrorCode.PIN_INVALID);
+            }
         }
+        if (digits != PIN_LENGTH) {
+            throw new CustomException(ErrorCode.PIN_INVALID);
+        }
+        if (!hasWhitespace) {
+            return raw;
+        }
+        StringBuilder sb = new StringBuilder(PIN_LENGTH);
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (!isRegexWhitespace(c)) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
-    /** 스냅샷 JSON → DTO */
-    private PaymentIntentDetailResponse parseSnapshot(JsonNode node) {
+    /** 응답 스냅샷 → DTO (스냅샷 없으면 null) */
+    private PaymentIntentDetailResponse parseSnapshot(IdempotencyKey slot) {
         try {
-            return canonicalObjectMapper.treeToValue(node, PaymentIntentDetailResponse.class);
+            return snapshotCodecs.readSnapshot(slot, PaymentIntentDetailResponse.class);
         } catch (Exception e) {
             // 스냅샷 파싱이 불가능하면 리소스 재조회를 시도하도록 위에서 폴백 처리
             throw new CustomException(ErrorCode.RESPONSE_SNAPSHOT_PARSE_FAILED);
@@ -1,7 +1,6 @@
 package com.ssafy.keeping.domain.payment.refund.service;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.keeping.domain.idempotency.constant.IdemActorType;
 import com.ssafy.keeping.domain.idempotency.constant.IdemStatus;
 import com.ssafy.keeping.domain.idempotency.dto.IdemBegin;
@@ -9,6 +8,7 @@ import com.ssafy.keeping.domain.idempotency.model.IdempotencyKey;
 import com.ssafy.keeping.domain.idempotency.model.IdempotentResult;
 import com.ssafy.keeping.domain.idempotency.repository.IdempotencyKeyRepository;
 import com.ssafy.keeping.domain.idempotency.service.IdempotencyService;
+import com.ssafy.keeping.domain.idempotency.service.ResponseSnapshotCodecs;
 import com.ssafy.keeping.domain.notification.entity.NotificationType;
 import com.ssafy.keeping.domain.notification.service.NotificationService;
 import com.ssafy.keeping.domain.payment.intent.dto.PaymentIntentDetailResponse;
@@ -24,19 +24,20 @@ import com.ssafy.keeping.domain.wallet.model.WalletStoreLot;
 import com.ssafy.keeping.domain.wallet.repository.WalletLotMoveRepository;
 import com.ssafy.keeping.domain.wallet.repository.WalletStoreBalanceRepository;
 import com.ssafy.keeping.domain.wallet.repository.WalletStoreLotRepository;
+import com.ssafy.keeping.domain.wallet.service.GroupContributionLedger;
 import com.ssafy.keeping.domain.payment.transactions.model.Transaction;
 import com.ssafy.keeping.global.exception.CustomException;
 import com.ssafy.keeping.global.exception.constants.ErrorCode;
 import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 
+import java.io.IOException;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -59,11 +60,11 @@ public class PaymentRefundService {
     private final TransactionRepository transactionRepository;
     private final WalletStoreBalanceRepository walletStoreBalanceRepository;
     private final WalletLotMoveRepository walletLotMoveRepository;
+    private final GroupContributionLedger contributionLedger;
     private final StoreRepository storeRepository;
     private final IdempotencyService idempotencyService;
     private final NotificationService notificationService;
-    @Qualifier("canonicalObjectMapper")
-    private final ObjectMapper canonicalObjectMapper;
+    private final ResponseSnapshotCodecs snapshotCodecs;
 
     private final Clock clock;
 
@@ -146,15 +147,13 @@ public class PaymentRefundService {
             RefundResponse replay;
 
             try {
-                var node = slot.getResponseJson(); // JsonNode
-                if (node != null && !node.isNull()) {
-                    replay = canonicalObjectMapper.treeToValue(node, RefundResponse.class);
-                } else {
-                    throw new CustomException(ErrorCode.IDEMPOTENCY_REPLAY_UNAVAILABLE);
-                }
-            } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+                replay = snapshotCodecs.readSnapshot(slot, RefundResponse.class);
+            } catch (IOException e) {
                 throw new CustomException(ErrorCode.JSON_PARSE_ERROR);
             }
+            if (replay == null) {
+                throw new CustomException(ErrorCode.IDEMPOTENCY_REPLAY_UNAVAILABLE);
+            }
 
             return IdempotentResult.okReplay(replay);
         }
@@ -224,6 +223,12 @@ public class PaymentRefundService {
             throw new CustomException(ErrorCode.FUNDS_INVARIANT_VIOLATION);
         }
 
+        // 그룹 지갑 결제 취소면 복원된 기여 LOT 을 모임 기여 요약에도 되돌림
+        contributionLedger.applyLotDeltas(usedMoves.stream()
+                .filter(m -> m.getDelta() < 0)
+                .map(m -> GroupContributionLedger.LotDelta.of(m.getLot(), -m.getDelta()))
+                .toList());
+
         // 손님에게 알림 전송
         try {
             String notificationContent = String.format("%s에서 %,d포인트 사용이 취소되었습니다.",
@@ -6,5 +6,6 @@ public enum TransactionType {
     TRANSFER_IN, // 공유
     TRANSFER_OUT, // 회수
     CANCEL_CHARGE, // 카드 결제 취소
-    CANCEL_USE // 포인트 사용 취소
+    CANCEL_USE, // 포인트 사용 취소
+    EXPIRE // 유효기간 만료 소멸
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.ssafy.keeping.domain.menu.model.Menu;
 import com.ssafy.keeping.domain.store.model.Store;
 import com.ssafy.keeping.global.exception.CustomException;
 import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import com.ssafy.keeping.domain.payment.common.LedgerId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -22,7 +23,7 @@ import java.time.LocalDateTime;
 public class TransactionItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @LedgerId
     @Column(name = "item_id")
     private Long itemId;
 
@@ -5,28 +5,43 @@ import com.ssafy.keeping.domain.menuCategory.dto.MenuCategoryEditRequestDto;
 import com.ssafy.keeping.domain.menuCategory.dto.MenuCategoryRequestDto;
 import com.ssafy.keeping.domain.menuCategory.dto.MenuCategoryResponseDto;
 import com.ssafy.keeping.domain.store.dto.StoreEditRequestDto;
+import com.ssafy.keeping.domain.store.dto.StoreNearbyDto;
+import com.ssafy.keeping.domain.store.dto.StorePageDto;
 import com.ssafy.keeping.domain.store.dto.StorePublicDto;
 import com.ssafy.keeping.domain.store.dto.StoreResponseDto;
 import com.ssafy.keeping.domain.store.dto.StoreRequestDto;
+import com.ssafy.keeping.domain.store.service.StoreListingCache;
 import com.ssafy.keeping.domain.store.service.StoreService;
 import com.ssafy.keeping.global.response.ApiResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.security.Principal;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
 @RequestMapping("/stores")
 @RequiredArgsConstructor
+@Validated
 public class StoreController {
     private final StoreService storeService;
+    private final StoreListingCache storeListingCache;
+
+    private static final Duration LISTING_MAX_AGE = Duration.ofSeconds(30);
 
     /* =================================
      * 일반 고객이 가게 조회하는 api
@@ -37,6 +52,53 @@ public class StoreController {
         return ResponseEntity.ok(ApiResponse.success("전체 매장이 조회되었습니다", HttpStatus.OK.value(), storeService.getAllStore()));
     }
 
+    /**
+     * 공개 가게 목록 페이지
+     * - 강한 ETag + If-None-Match → 변경 없으면 304 (본문 없음)
+     * - Cache-Control: public, 짧은 max-age 후 재검증 (nginx proxy_cache 도 동일 헤더 사용)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<StorePageDto>> getStorePage(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest
+    ) {
+        StoreListingCache.Snapshot snapshot = storeService.getStorePage(category, page, size);
+        CacheControl cacheControl = CacheControl.maxAge(LISTING_MAX_AGE).cachePublic().mustRevalidate();
+
+        if (webRequest.checkNotModified(snapshot.etag())) {
+            storeListingCache.recordNotModified(snapshot);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(cacheControl)
+                .body(ApiResponse.success("매장 목록 페이지가 조회되었습니다.", HttpStatus.OK.value(), snapshot.page()));
+    }
+
+    /**
+     * 근처 가게 조회 (가까운 순)
+     * - radius(m) 미지정 시 서버 최대 반경 내 kNN, category 지정 시 해당 카테고리만
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<Slice<StoreNearbyDto>>> getNearbyStores(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Double radius,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "0") @PositiveOrZero(message = "페이지는 0 이상이어야 합니다.")
+            @Max(value = StoreService.MAX_NEARBY_PAGE, message = "페이지는 " + StoreService.MAX_NEARBY_PAGE + " 이하여야 합니다.") int page,
+            @RequestParam(defaultValue = "20") @Positive(message = "페이지 크기는 양수여야 합니다.") @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success("근처 매장이 조회되었습니다.", HttpStatus.OK.value(),
+                storeService.getNearbyStores(lat, lng, radius, category, page, size)));
+    }
+
     @GetMapping("/{storeId}")
     public ResponseEntity<ApiResponse<StorePublicDto>> getStore(
             @PathVariable Long storeId
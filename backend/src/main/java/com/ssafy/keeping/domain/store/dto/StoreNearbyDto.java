@@ -0,0 +1,6 @@
+package com.ssafy.keeping.domain.store.dto;
+
+// 근처 가게 검색 결과 (가게 공개 정보 + 기준 좌표로부터의 거리)
+public record StoreNearbyDto(
+        StorePublicDto store, long distanceMeters
+) {}
@@ -0,0 +1,9 @@
+package com.ssafy.keeping.domain.store.dto;
+
+import java.util.List;
+
+// 공개 가게 목록 페이지 (캐시 스냅샷 단위)
+public record StorePageDto(
+        List<StorePublicDto> content, int page, int size,
+        long totalElements, int totalPages, boolean hasNext
+) {}
@@ -1,6 +1,7 @@
 package com.ssafy.keeping.domain.store.dto;
 
 import com.ssafy.keeping.domain.store.constant.StoreStatus;
+import com.ssafy.keeping.global.s3.constant.ImageVariant;
 
 import java.time.LocalDateTime;
 
@@ -8,5 +9,15 @@ import java.time.LocalDateTime;
 public record StorePublicDto(
         Long storeId, String storeName, String address, String phoneNumber,
         String category, StoreStatus storeStatus, String description,
-        LocalDateTime createdAt, String imgUrl
-) {}
+        LocalDateTime createdAt, String imgUrl, String mediumImgUrl,
+        Double latitude, Double longitude
+) {
+    // JPQL 생성자 표현식용 (가게 화면용 중간 크기 URL 은 원본 URL 에서 계산, 없으면 원본)
+    public StorePublicDto(Long storeId, String storeName, String address, String phoneNumber,
+                          String category, StoreStatus storeStatus, String description,
+                          LocalDateTime createdAt, String imgUrl,
+                          Double latitude, Double longitude) {
+        this(storeId, storeName, address, phoneNumber, category, storeStatus, description,
+                createdAt, imgUrl, ImageVariant.MEDIUM.urlOf(imgUrl), latitude, longitude);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ssafy.keeping.domain.store.geo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 지오코딩 비활성 (geocoder.provider 미설정 시 기본값 none)
+ * - 좌표를 만들지 않음 → 가게는 좌표 없이 저장되고 근처 검색에서만 제외 (가짜 좌표가 저장되지 않음)
+ * - 운영: geocoder.provider=kakao, 테스트/로컬: stub
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "geocoder.provider", havingValue = "none", matchIfMissing = true)
+public class DisabledGeocoder implements Geocoder {
+
+    public DisabledGeocoder() {
+        log.warn("지오코더 비활성 (geocoder.provider=none) - 새 가게는 좌표 없이 저장되어 근처 가게 검색에서 제외됩니다. " +
+                "운영은 kakao, 테스트/로컬은 stub 으로 설정하세요.");
+    }
+
+    @Override
+    public Optional<GeoPoint> geocode(String address) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,29 @@
+package com.ssafy.keeping.domain.store.geo;
+
+// 위경도 좌표 (WGS84)
+public record GeoPoint(double latitude, double longitude) {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    public GeoPoint {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("invalid coordinate: " + latitude + ", " + longitude);
+        }
+    }
+
+    /**
+     * 하버사인 거리 (미터)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    public double distanceMeters(GeoPoint other) {
+        return distanceMeters(latitude, longitude, other.latitude, other.longitude);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ssafy.keeping.domain.store.geo;
+
+import java.util.Optional;
+
+/**
+ * 주소 → 좌표 변환기
+ * - 가게 생성/수정 시 1회만 호출하고 결과는 stores.latitude/longitude 에 저장한다.
+ * - 변환 실패 시 Optional.empty() (가게 등록 자체는 막지 않음, 근처 검색에서만 제외)
+ */
+public interface Geocoder {
+    Optional<GeoPoint> geocode(String address);
+}
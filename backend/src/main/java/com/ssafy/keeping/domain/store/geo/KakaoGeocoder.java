@@ -0,0 +1,63 @@
+package com.ssafy.keeping.domain.store.geo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 카카오 로컬 API 주소 검색 기반 지오코더
+ * - geocoder.provider=kakao 일 때만 활성화
+ * - 응답의 첫 번째 document 좌표 사용 (x=경도, y=위도)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "geocoder.provider", havingValue = "kakao")
+public class KakaoGeocoder implements Geocoder {
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    public KakaoGeocoder(@Value("${geocoder.kakao.base-url:https://dapi.kakao.com}") String baseUrl,
+                         @Value("${geocoder.kakao.rest-api-key}") String restApiKey,
+                         @Value("${geocoder.kakao.timeout-ms:2000}") long timeoutMs) {
+        this.webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "KakaoAK " + restApiKey)
+                .build();
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    @Override
+    public Optional<GeoPoint> geocode(String address) {
+        if (address == null || address.isBlank()) return Optional.empty();
+
+        try {
+            JsonNode body = webClient.get()
+                    .uri(uri -> uri.path("/v2/local/search/address.json")
+                            .queryParam("query", address.trim())
+                            .build())
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .block(timeout);
+
+            JsonNode docs = body == null ? null : body.path("documents");
+            if (docs == null || !docs.isArray() || docs.isEmpty()) {
+                log.warn("지오코딩 결과 없음 - address: {}", address);
+                return Optional.empty();
+            }
+
+            JsonNode first = docs.get(0);
+            return Optional.of(new GeoPoint(first.path("y").asDouble(), first.path("x").asDouble()));
+        } catch (Exception e) {
+            log.warn("지오코딩 실패 - address: {}, 오류: {}", address, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.ssafy.keeping.domain.store.geo;
+
+// 근처 가게 인덱스 항목 (JPQL constructor expression 에서도 사용)
+public record StoreGeoEntry(Long storeId, Double latitude, Double longitude, String category) {}
@@ -0,0 +1,230 @@
+package com.ssafy.keeping.domain.store.geo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가게 좌표 인메모리 격자(grid) 인덱스
+ * - 위경도를 cellDegrees 크기의 격자로 나눠 셀 단위로 가게를 보관
+ * - 반경 검색: 반경을 덮는 셀만 훑은 뒤 하버사인으로 필터
+ * - kNN 검색: 중심 셀부터 링(ring)을 넓혀가며 탐색, 남은 셀의 최소거리가 k번째 후보보다 멀어지면 종료
+ * - ACTIVE 가게만 보관 (생성/수정/삭제 시 StoreService 에서 갱신, 주기적으로 DB 기준 재적재)
+ */
+@Component
+public class StoreGeoIndex {
+
+    private static final double METERS_PER_DEGREE_LAT = 111_195.0;
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private final double cellDegrees;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, StoreGeoEntry> byStoreId = new HashMap<>();
+    private Map<Long, List<StoreGeoEntry>> cells = new HashMap<>();
+
+    public StoreGeoIndex(@Value("${store.geo.cell-degrees:0.01}") double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 10) {
+            throw new IllegalArgumentException("cellDegrees out of range: " + cellDegrees);
+        }
+        this.cellDegrees = cellDegrees;
+    }
+
+    public record Hit(long storeId, double distanceMeters) {}
+
+    /* ===================== 갱신 ===================== */
+
+    public void upsert(long storeId, double latitude, double longitude, String category) {
+        StoreGeoEntry entry = new StoreGeoEntry(storeId, latitude, longitude, category);
+        lock.writeLock().lock();
+        try {
+            removeInternal(storeId);
+            byStoreId.put(storeId, entry);
+            cells.computeIfAbsent(cellKey(latitude, longitude), k -> new ArrayList<>()).add(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long storeId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(storeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 교체 (새 맵을 만든 뒤 한 번에 스왑 → 재적재 중에도 조회는 이전 스냅샷으로 응답)
+     */
+    public void replaceAll(Collection<StoreGeoEntry> entries) {
+        Map<Long, StoreGeoEntry> newById = new HashMap<>(entries.size() * 2);
+        Map<Long, List<StoreGeoEntry>> newCells = new HashMap<>();
+        for (StoreGeoEntry e : entries) {
+            newById.put(e.storeId(), e);
+            newCells.computeIfAbsent(cellKey(e.latitude(), e.longitude()), k -> new ArrayList<>()).add(e);
+        }
+
+        lock.writeLock().lock();
+        try {
+            this.byStoreId = newById;
+            this.cells = newCells;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byStoreId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(long storeId) {
+        StoreGeoEntry old = byStoreId.remove(storeId);
+        if (old == null) return;
+        long key = cellKey(old.latitude(), old.longitude());
+        List<StoreGeoEntry> bucket = cells.get(key);
+        if (bucket != null) {
+            bucket.removeIf(e -> e.storeId() == storeId);
+            if (bucket.isEmpty()) cells.remove(key);
+        }
+    }
+
+    /* ===================== 조회 ===================== */
+
+    /**
+     * 반경 내 전체 (거리 오름차순)
+     */
+    public List<Hit> within(double latitude, double longitude, double radiusMeters, String category) {
+        List<Hit> hits = new ArrayList<>();
+        int latSpan = (int) Math.ceil(radiusMeters / METERS_PER_DEGREE_LAT / cellDegrees);
+        int lngSpan = (int) Math.ceil(radiusMeters / metersPerDegreeLng(latitude, latSpan) / cellDegrees);
+        int ci = latIndex(latitude), cj = lngIndex(longitude);
+
+        lock.readLock().lock();
+        try {
+            for (int i = ci - latSpan; i <= ci + latSpan; i++) {
+                for (int j = cj - lngSpan; j <= cj + lngSpan; j++) {
+                    List<StoreGeoEntry> bucket = cells.get(key(i, j));
+                    if (bucket == null) continue;
+                    for (StoreGeoEntry e : bucket) {
+                        if (!matches(e, category)) continue;
+                        double d = GeoPoint.distanceMeters(latitude, longitude, e.latitude(), e.longitude());
+                        if (d <= radiusMeters) hits.add(new Hit(e.storeId(), d));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(HIT_ORDER);
+        return hits;
+    }
+
+    /**
+     * 가까운 순 k개 (maxRadiusMeters 이내)
+     */
+    public List<Hit> nearest(double latitude, double longitude, int k, double maxRadiusMeters, String category) {
+        if (k <= 0) return List.of();
+
+        // k개를 유지하는 최대 힙 (가장 먼 후보가 peek)
+        PriorityQueue<Hit> heap = new PriorityQueue<>(k + 1, HIT_ORDER.reversed());
+        int ci = latIndex(latitude), cj = lngIndex(longitude);
+        int maxRing = (int) Math.ceil(180.0 / cellDegrees);
+
+        lock.readLock().lock();
+        try {
+            for (int r = 0; r <= maxRing; r++) {
+                double bound = ringLowerBoundMeters(latitude, longitude, ci, cj, r - 1);
+                if (bound > maxRadiusMeters) break;
+                if (heap.size() == k && heap.peek().distanceMeters() <= bound) break;
+
+                for (int i = ci - r; i <= ci + r; i++) {
+                    boolean edgeRow = (i == ci - r || i == ci + r);
+                    int step = edgeRow ? 1 : 2 * r; // 링의 테두리 셀만 방문
+                    for (int j = cj - r; j <= cj + r; j += Math.max(step, 1)) {
+                        List<StoreGeoEntry> bucket = cells.get(key(i, j));
+                        if (bucket == null) continue;
+                        for (StoreGeoEntry e : bucket) {
+                            if (!matches(e, category)) continue;
+                            double d = GeoPoint.distanceMeters(latitude, longitude, e.latitude(), e.longitude());
+                            if (d > maxRadiusMeters) continue;
+                            if (heap.size() < k) {
+                                heap.add(new Hit(e.storeId(), d));
+                            } else if (HIT_ORDER.compare(new Hit(e.storeId(), d), heap.peek()) < 0) {
+                                heap.poll();
+                                heap.add(new Hit(e.storeId(), d));
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> result = new ArrayList<>(heap);
+        result.sort(HIT_ORDER);
+        return result;
+    }
+
+    private static final Comparator<Hit> HIT_ORDER =
+            Comparator.comparingDouble(Hit::distanceMeters).thenComparingLong(Hit::storeId);
+
+    private static boolean matches(StoreGeoEntry e, String category) {
+        return category == null || category.equals(e.category());
+    }
+
+    /**
+     * (ci, cj) 중심의 반지름 r 링까지 방문했을 때, 아직 방문하지 않은 셀까지의 최소 거리 하한
+     * r < 0 이면 아무것도 방문하지 않은 상태 → 0
+     */
+    private double ringLowerBoundMeters(double latitude, double longitude, int ci, int cj, int r) {
+        if (r < 0) return 0;
+
+        double south = (ci - r) * cellDegrees - 90;
+        double north = (ci + r + 1) * cellDegrees - 90;
+        double west = (cj - r) * cellDegrees - 180;
+        double east = (cj + r + 1) * cellDegrees - 180;
+
+        double dLat = Math.min(latitude - south, north - latitude) * METERS_PER_DEGREE_LAT;
+
+        // 경선까지의 최단거리: asin(cos(위도) * sin(경도차)) * R, 사각형 내 가장 고위도 기준으로 하한
+        double maxAbsLat = Math.min(90, Math.max(Math.abs(south), Math.abs(north)));
+        double dLngDeg = Math.min(90, Math.min(longitude - west, east - longitude));
+        double dLng = EARTH_RADIUS_METERS * Math.asin(
+                Math.cos(Math.toRadians(maxAbsLat)) * Math.sin(Math.toRadians(dLngDeg)));
+
+        return Math.max(0, Math.min(dLat, dLng));
+    }
+
+    private double metersPerDegreeLng(double latitude, int latSpan) {
+        // 반경 범위 내 가장 고위도 기준 → 경도 1도 길이가 가장 짧음 → 셀을 넉넉히 덮음
+        double maxAbsLat = Math.min(89.9, Math.abs(latitude) + (latSpan + 1) * cellDegrees);
+        return Math.max(1.0, METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(maxAbsLat)));
+    }
+
+    private int latIndex(double latitude) {
+        return (int) Math.floor((latitude + 90) / cellDegrees);
+    }
+
+    private int lngIndex(double longitude) {
+        return (int) Math.floor((longitude + 180) / cellDegrees);
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return key(latIndex(latitude), lngIndex(longitude));
+    }
+
+    private static long key(int i, int j) {
+        return ((long) i << 32) | (j & 0xFFFFFFFFL);
+    }
+}
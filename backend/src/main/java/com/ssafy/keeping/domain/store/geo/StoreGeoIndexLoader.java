@@ -0,0 +1,76 @@
+package com.ssafy.keeping.domain.store.geo;
+
+import com.ssafy.keeping.domain.store.constant.StoreStatus;
+import com.ssafy.keeping.domain.store.model.Store;
+import com.ssafy.keeping.domain.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StoreGeoIndex 적재기
+ * - 기동 시: (옵션) 좌표 없는 가게 지오코딩 백필 → DB 기준 전체 적재
+ * - 주기적 재적재: 다른 노드에서 생긴 변경을 반영 (노드 간 인덱스 불일치 상한 = reload 주기)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreGeoIndexLoader {
+
+    private final StoreRepository storeRepository;
+    private final StoreGeoIndex storeGeoIndex;
+    private final Geocoder geocoder;
+
+    @Value("${store.geo.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (backfillOnStartup) {
+            backfillMissingLocations();
+        }
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${store.geo.reload-interval-ms:600000}",
+            initialDelayString = "${store.geo.reload-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void reload() {
+        long started = System.currentTimeMillis();
+        List<StoreGeoEntry> entries = storeRepository.findGeoIndexEntries(StoreStatus.ACTIVE);
+        storeGeoIndex.replaceAll(entries);
+        log.info("근처 가게 인덱스 적재 완료 - 가게 수: {}, 소요: {}ms", entries.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 좌표가 없는 ACTIVE 가게를 storeId 순으로 100건씩 지오코딩 (실패한 가게는 건너뛰고 다음 기동 때 재시도)
+     * - onReady 내부 호출이라 프록시 트랜잭션이 없음 → 배치마다 saveAll 로 반영
+     */
+    public void backfillMissingLocations() {
+        int updated = 0;
+        long cursor = 0L;
+        List<Store> batch;
+        while (!(batch = storeRepository.findMissingLocationAfter(StoreStatus.ACTIVE, cursor, PageRequest.of(0, 100))).isEmpty()) {
+            List<Store> located = new ArrayList<>();
+            for (Store store : batch) {
+                cursor = store.getStoreId();
+                geocoder.geocode(store.getAddress()).ifPresent(point -> {
+                    store.updateLocation(point.latitude(), point.longitude());
+                    located.add(store);
+                });
+            }
+            storeRepository.saveAll(located);
+            updated += located.size();
+        }
+        log.info("가게 좌표 백필 완료 - 갱신 수: {}", updated);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ssafy.keeping.domain.store.geo;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * 로컬/테스트용 지오코더
+ * - 외부 API 없이 주소 문자열 해시로 서울 영역 안의 좌표를 결정적으로 만들어준다.
+ * - 같은 주소는 항상 같은 좌표 → 테스트 재현 가능
+ * - geocoder.provider=stub 으로 명시했을 때만 활성화 (가짜 좌표가 운영 데이터에 저장되지 않도록)
+ */
+@Component
+@ConditionalOnProperty(name = "geocoder.provider", havingValue = "stub")
+public class StubGeocoder implements Geocoder {
+
+    // 서울 대략적 경계
+    static final double MIN_LAT = 37.42, MAX_LAT = 37.70;
+    static final double MIN_LNG = 126.76, MAX_LNG = 127.18;
+
+    @Override
+    public Optional<GeoPoint> geocode(String address) {
+        if (address == null || address.isBlank()) return Optional.empty();
+
+        CRC32 crc = new CRC32();
+        crc.update(address.trim().getBytes(StandardCharsets.UTF_8));
+        long h = crc.getValue(); // 32bit
+
+        double latRatio = (h & 0xFFFF) / 65535.0;
+        double lngRatio = ((h >>> 16) & 0xFFFF) / 65535.0;
+
+        return Optional.of(new GeoPoint(
+                MIN_LAT + (MAX_LAT - MIN_LAT) * latRatio,
+                MIN_LNG + (MAX_LNG - MIN_LNG) * lngRatio
+        ));
+    }
+}
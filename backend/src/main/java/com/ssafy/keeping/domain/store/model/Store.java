@@ -27,6 +27,10 @@ import java.util.Objects;
 @Table(name = "stores",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"tax_id_number", "address"})
+        },
+        indexes = {
+                @Index(name = "idx_stores_status_location", columnList = "stores_status, latitude, longitude"),
+                @Index(name = "idx_stores_category_status_name", columnList = "category, stores_status, store_name")
         })
 @EntityListeners(AuditingEntityListener.class)
 public class Store {
@@ -70,6 +74,13 @@ public class Store {
     @Column(length = 250)
     private String description;
 
+    // 주소 지오코딩 결과 (생성/수정 시 1회 계산)
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false, nullable = false)
     private LocalDateTime createdAt;
@@ -102,6 +113,15 @@ public class Store {
         if (!Objects.equals(this.imgUrl,     imgUrl))                     this.imgUrl = imgUrl;
     }
 
+    public void updateLocation(Double latitude, Double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
     // TODO: 점주 탈퇴 시 사용하여 유령가게 방지
     public void deleteStore(StoreStatus storeStatus) {
         if (!Objects.equals(StoreStatus.DELETED, storeStatus)) this.deletedAt = LocalDateTime.now();
@@ -2,13 +2,17 @@ package com.ssafy.keeping.domain.store.repository;
 
 import com.ssafy.keeping.domain.store.constant.StoreStatus;
 import com.ssafy.keeping.domain.store.dto.StorePublicDto;
+import com.ssafy.keeping.domain.store.geo.StoreGeoEntry;
 import com.ssafy.keeping.domain.store.model.Store;
 import com.ssafy.keeping.domain.user.owner.model.Owner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +21,8 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     @Query("""
     select new com.ssafy.keeping.domain.store.dto.StorePublicDto(
       s.storeId, s.storeName, s.address, s.phoneNumber,
-      s.category, s.storeStatus, s.description, s.createdAt, s.imgUrl
+      s.category, s.storeStatus, s.description, s.createdAt, s.imgUrl,
+      s.latitude, s.longitude
     )
     from Store s
     where s.storeId = :id
@@ -31,7 +36,8 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     @Query("""
     select new com.ssafy.keeping.domain.store.dto.StorePublicDto(
       s.storeId, s.storeName, s.address, s.phoneNumber,
-      s.category, s.storeStatus, s.description, s.createdAt, s.imgUrl
+      s.category, s.storeStatus, s.description, s.createdAt, s.imgUrl,
+      s.latitude, s.longitude
     )
     from Store s
     where s.storeStatus = :status and s.deletedAt is null
@@ -42,7 +48,8 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     @Query("""
     select new com.ssafy.keeping.domain.store.dto.StorePublicDto(
       s.storeId, s.storeName, s.address, s.phoneNumber,
-      s.category, s.storeStatus, s.description, s.createdAt, s.imgUrl
+      s.category, s.storeStatus, s.description, s.createdAt, s.imgUrl,
+      s.latitude, s.longitude
     )
     from Store s
     where s.storeStatus = :status and s.deletedAt is null
@@ -55,7 +62,8 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     @Query("""
     select new com.ssafy.keeping.domain.store.dto.StorePublicDto(
       s.storeId, s.storeName, s.address, s.phoneNumber,
-      s.category, s.storeStatus, s.description, s.createdAt, s.imgUrl
+      s.category, s.storeStatus, s.description, s.createdAt, s.imgUrl,
+      s.latitude, s.longitude
     )
     from Store s
     where s.storeStatus = :status and s.deletedAt is null
@@ -65,6 +73,77 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     List<StorePublicDto> findPublicAllSimilarityByName(@Param("name") String name,
                                                        @Param("status") StoreStatus status);
 
+    @Query(value = """
+    select new com.ssafy.keeping.domain.store.dto.StorePublicDto(
+      s.storeId, s.storeName, s.address, s.phoneNumber,
+      s.category, s.storeStatus, s.description, s.createdAt, s.imgUrl,
+      s.latitude, s.longitude
+    )
+    from Store s
+    where s.storeStatus = :status and s.deletedAt is null
+    order by s.storeId desc
+    """,
+    countQuery = """
+    select count(s) from Store s
+    where s.storeStatus = :status and s.deletedAt is null
+    """)
+    Page<StorePublicDto> findPublicApprovedStorePage(@Param("status") StoreStatus status, Pageable pageable);
+
+    @Query(value = """
+    select new com.ssafy.keeping.domain.store.dto.StorePublicDto(
+      s.storeId, s.storeName, s.address, s.phoneNumber,
+      s.category, s.storeStatus, s.description, s.createdAt, s.imgUrl,
+      s.latitude, s.longitude
+    )
+    from Store s
+    where s.storeStatus = :status and s.deletedAt is null
+      and s.category = :category
+    order by s.storeName asc, s.storeId asc
+    """,
+    countQuery = """
+    select count(s) from Store s
+    where s.storeStatus = :status and s.deletedAt is null
+      and s.category = :category
+    """)
+    Page<StorePublicDto> findPublicStorePageByCategory(@Param("category") String category,
+                                                       @Param("status") StoreStatus status,
+                                                       Pageable pageable);
+
+    @Query("""
+    select new com.ssafy.keeping.domain.store.dto.StorePublicDto(
+      s.storeId, s.storeName, s.address, s.phoneNumber,
+      s.category, s.storeStatus, s.description, s.createdAt, s.imgUrl,
+      s.latitude, s.longitude
+    )
+    from Store s
+    where s.storeId in :ids
+      and s.storeStatus = :status and s.deletedAt is null
+    """)
+    List<StorePublicDto> findPublicAllByIdIn(@Param("ids") Collection<Long> ids,
+                                             @Param("status") StoreStatus status);
+
+    /** 근처 가게 인덱스 적재용 (좌표가 있는 ACTIVE 가게만) */
+    @Query("""
+    select new com.ssafy.keeping.domain.store.geo.StoreGeoEntry(
+      s.storeId, s.latitude, s.longitude, s.category
+    )
+    from Store s
+    where s.storeStatus = :status and s.deletedAt is null
+      and s.latitude is not null and s.longitude is not null
+    """)
+    List<StoreGeoEntry> findGeoIndexEntries(@Param("status") StoreStatus status);
+
+    /** 좌표 미보정 가게 (지오코딩 백필 대상, storeId 키셋 페이징) */
+    @Query("""
+    select s from Store s
+    where s.storeStatus = :status and s.deletedAt is null
+      and s.latitude is null and s.storeId > :cursor
+    order by s.storeId asc
+    """)
+    List<Store> findMissingLocationAfter(@Param("status") StoreStatus status,
+                                         @Param("cursor") Long cursor,
+                                         Pageable pageable);
+
     Optional<Store> findByStoreIdAndOwner(Long storeId, Owner owner);
     /** 점주가 해당 가게의 소유자인지 빠르게 존재 체크 */
     boolean existsByStoreIdAndOwner_OwnerId(Long storeId, Long ownerId);
@@ -0,0 +1,173 @@
+package com.ssafy.keeping.domain.store.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keeping.domain.store.dto.StorePageDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 공개 가게 목록 페이지 스냅샷 캐시
+ * - 키: (category, page, size) / category == null 은 전체 목록
+ * - 값: 페이지 DTO + 강한 ETag(정규화 JSON 의 SHA-256) + 직렬화 크기
+ * - 무효화: 가게 생성/수정/상태변경 커밋 후 해당 카테고리 + 전체 목록 페이지 제거
+ * - 다른 노드의 변경은 TTL(store.listing.cache-ttl-ms) 로 반영
+ * - 엔트리가 maxEntries 를 넘으면 가장 오래 조회되지 않은 페이지부터 제거 (LRU)
+ * - 로딩 중 같은 카테고리가 무효화되면(세대 번호 변경) 로딩 결과는 돌려주기만 하고 저장하지 않음
+ */
+@Slf4j
+@Component
+public class StoreListingCache {
+
+    private static final String ALL = "*";
+
+    private final ObjectMapper canonicalObjectMapper;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    // 접근 순서 LinkedHashMap (조회도 순서를 바꾸므로 읽기/쓰기 모두 lock 안에서)
+    private final Map<Key, Snapshot> snapshots;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 카테고리별 무효화 세대 (evictAll 은 전체 세대) - lock 안에서만 읽고 씀
+    private final Map<String, Long> generations = new HashMap<>();
+    private long allGeneration;
+
+    // 통계 (hit ratio / 304 로 절약한 바이트)
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    public StoreListingCache(@Qualifier("canonicalObjectMapper") ObjectMapper canonicalObjectMapper,
+                             Clock clock,
+                             @Value("${store.listing.cache-ttl-ms:60000}") long ttlMillis,
+                             @Value("${store.listing.cache-max-entries:1000}") int maxEntries) {
+        this.canonicalObjectMapper = canonicalObjectMapper;
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Snapshot> eldest) {
+                return size() > StoreListingCache.this.maxEntries;
+            }
+        };
+    }
+
+    private record Key(String category, int page, int size) {}
+
+    public record Snapshot(StorePageDto page, String etag, int bodyBytes, long loadedAtMillis) {}
+
+    public Snapshot get(String category, int page, int size, Supplier<StorePageDto> loader) {
+        Key key = new Key(category == null ? ALL : category, page, size);
+        long now = clock.millis();
+
+        long[] generation = new long[1];
+        Snapshot cached = withLock(() -> {
+            generation[0] = generation(key.category());
+            return snapshots.get(key);
+        });
+        if (cached != null && now - cached.loadedAtMillis() < ttlMillis) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        // 로딩(DB 조회)은 lock 밖에서, 그사이 evict 가 있었으면 옛 데이터일 수 있어 저장하지 않음
+        misses.incrementAndGet();
+        Snapshot loaded = toSnapshot(loader.get(), now);
+        withLock(() -> {
+            if (generation(key.category()) == generation[0]) snapshots.put(key, loaded);
+            return null;
+        });
+        return loaded;
+    }
+
+    /**
+     * If-None-Match 가 일치해 304 로 응답한 경우 호출 (본문만큼 전송량 절약)
+     */
+    public void recordNotModified(Snapshot snapshot) {
+        notModified.incrementAndGet();
+        bytesSaved.addAndGet(snapshot.bodyBytes());
+    }
+
+    /**
+     * 가게 변경 시: 해당 카테고리 페이지 + 전체 목록 페이지 제거
+     */
+    public void evict(String category) {
+        withLock(() -> {
+            generations.merge(ALL, 1L, Long::sum);
+            if (category != null) generations.merge(category, 1L, Long::sum);
+            return snapshots.keySet().removeIf(k -> ALL.equals(k.category()) || k.category().equals(category));
+        });
+    }
+
+    public void evictAll() {
+        withLock(() -> {
+            allGeneration++;
+            snapshots.clear();
+            return null;
+        });
+    }
+
+    public int size() {
+        return withLock(snapshots::size);
+    }
+
+    @Scheduled(fixedDelayString = "${store.listing.stats-log-interval-ms:600000}")
+    public void logStats() {
+        long h = hits.get(), m = misses.get();
+        if (h + m == 0) return;
+        log.info("가게 목록 캐시 - hit: {}, miss: {}, hitRatio: {}%, 304: {}, 절약 바이트: {}, 엔트리: {}",
+                h, m, String.format("%.1f", h * 100.0 / (h + m)), notModified.get(), bytesSaved.get(), size());
+    }
+
+    public double hitRatio() {
+        long h = hits.get(), total = h + misses.get();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    public long bytesSaved() {
+        return bytesSaved.get();
+    }
+
+    // lock 안에서 호출
+    private long generation(String category) {
+        return allGeneration + generations.getOrDefault(category, 0L);
+    }
+
+    private <T> T withLock(Supplier<T> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Snapshot toSnapshot(StorePageDto page, long now) {
+        try {
+            byte[] json = canonicalObjectMapper.writeValueAsBytes(page);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            String etag = "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            return new Snapshot(page, etag, json.length, now);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("store page snapshot failed", e);
+        }
+    }
+}
@@ -3,9 +3,14 @@ package com.ssafy.keeping.domain.store.service;
 import com.ssafy.keeping.domain.menuCategory.service.MenuCategoryService;
 import com.ssafy.keeping.domain.store.constant.StoreStatus;
 import com.ssafy.keeping.domain.store.dto.StoreEditRequestDto;
+import com.ssafy.keeping.domain.store.dto.StoreNearbyDto;
+import com.ssafy.keeping.domain.store.dto.StorePageDto;
 import com.ssafy.keeping.domain.store.dto.StorePublicDto;
 import com.ssafy.keeping.domain.store.dto.StoreRequestDto;
 import com.ssafy.keeping.domain.store.dto.StoreResponseDto;
+import com.ssafy.keeping.domain.store.geo.GeoPoint;
+import com.ssafy.keeping.domain.store.geo.Geocoder;
+import com.ssafy.keeping.domain.store.geo.StoreGeoIndex;
 import com.ssafy.keeping.domain.store.model.Store;
 import com.ssafy.keeping.domain.store.repository.StoreRepository;
 import com.ssafy.keeping.domain.user.finopenapi.dto.DetailDto;
@@ -18,22 +23,40 @@ import com.ssafy.keeping.global.client.FinOpenApiClient;
 import com.ssafy.keeping.global.exception.CustomException;
 import com.ssafy.keeping.global.exception.constants.ErrorCode;
 import com.ssafy.keeping.global.s3.service.ImageService;
+import com.ssafy.keeping.global.util.TxUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class StoreService {
+    public static final int MAX_NEARBY_PAGE = 100;
+
     private final StoreRepository storeRepository;
     private final OwnerRepository ownerRepository;
     private final WalletStoreBalanceRepository balanceRepository;
     private final FinOpenApiClient apiClient;
     private final ImageService imageService;
+    private final Geocoder geocoder;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreListingCache storeListingCache;
+
+    @Value("${store.geo.max-radius-meters:20000}")
+    private double maxNearbyRadiusMeters;
 
     /*
      * ==================================
@@ -68,23 +91,29 @@ public class StoreService {
             throw new CustomException(ErrorCode.BAD_REQUEST);
         }
 
-        return StoreResponseDto.fromEntity(
-                storeRepository.save(
-                        Store.builder()
-                                .owner(owner)
-                                .taxIdNumber(requestDto.getTaxIdNumber())
-                                .storeName(requestDto.getStoreName())
-                                .address(requestDto.getAddress())
-                                .phoneNumber(requestDto.getPhoneNumber())
-                                .merchantId(Long.valueOf(merchantId))
-                                .category(requestDto.getCategory())
-                                .bankAccount(requestDto.getBankAccount())
-                                .description(requestDto.getDescription())
-                                .storeStatus(StoreStatus.ACTIVE)
-                                .imgUrl(imgUrl)
-                                .build()
-                )
+        // 좌표는 등록 시 1회만 계산 (실패해도 등록은 진행, 근처 검색에서만 제외)
+        Optional<GeoPoint> location = geocoder.geocode(requestDto.getAddress());
+
+        Store saved = storeRepository.save(
+                Store.builder()
+                        .owner(owner)
+                        .taxIdNumber(requestDto.getTaxIdNumber())
+                        .storeName(requestDto.getStoreName())
+                        .address(requestDto.getAddress())
+                        .phoneNumber(requestDto.getPhoneNumber())
+                        .merchantId(Long.valueOf(merchantId))
+                        .category(requestDto.getCategory())
+                        .bankAccount(requestDto.getBankAccount())
+                        .description(requestDto.getDescription())
+                        .storeStatus(StoreStatus.ACTIVE)
+                        .imgUrl(imgUrl)
+                        .latitude(location.map(GeoPoint::latitude).orElse(null))
+                        .longitude(location.map(GeoPoint::longitude).orElse(null))
+                        .build()
         );
+        syncGeoIndex(saved);
+
+        return StoreResponseDto.fromEntity(saved);
     }
 
     public static String makeImgUrl(MultipartFile file) {
@@ -115,11 +144,19 @@ public class StoreService {
             throw new CustomException(ErrorCode.STORE_ALREADY_EXISTS);
         }
 
+        boolean addressChanged = !Objects.equals(store.getAddress(), requestDto.getAddress());
+        String previousCategory = store.getCategory();
         store.patchStore(requestDto, editImgUrl);
+        if (addressChanged) {
+            Optional<GeoPoint> location = geocoder.geocode(store.getAddress());
+            store.updateLocation(location.map(GeoPoint::latitude).orElse(null),
+                    location.map(GeoPoint::longitude).orElse(null));
+        }
 
-        return StoreResponseDto.fromEntity(
-                storeRepository.save(store)
-        );
+        Store saved = storeRepository.save(store);
+        syncGeoIndex(saved, previousCategory);
+
+        return StoreResponseDto.fromEntity(saved);
     }
 
     @Transactional
@@ -136,9 +173,10 @@ public class StoreService {
         StoreStatus status = hasPositive ? StoreStatus.SUSPENDED : StoreStatus.DELETED;
         store.deleteStore(status);
 
-        return StoreResponseDto.fromEntity(
-                storeRepository.save(store)
-        );
+        Store saved = storeRepository.save(store);
+        syncGeoIndex(saved);
+
+        return StoreResponseDto.fromEntity(saved);
     }
 
     /*
@@ -152,6 +190,27 @@ public class StoreService {
         return allApprovedStoreDto;
     }
 
+    /**
+     * 공개 가게 목록 페이지 (카테고리 필터 선택)
+     * - (category, page, size) 단위 스냅샷 캐시 → 가게 변경 커밋 시 무효화
+     */
+    public StoreListingCache.Snapshot getStorePage(String categoryName, int page, int size) {
+        if (page < 0 || size <= 0 || size > 100) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        String category = categoryName == null || categoryName.isBlank() ? null : categoryName.trim();
+
+        return storeListingCache.get(category, page, size, () -> {
+            PageRequest pageable = PageRequest.of(page, size);
+            Page<StorePublicDto> result = category == null
+                    ? storeRepository.findPublicApprovedStorePage(StoreStatus.ACTIVE, pageable)
+                    : storeRepository.findPublicStorePageByCategory(category, StoreStatus.ACTIVE, pageable);
+
+            return new StorePageDto(result.getContent(), page, size,
+                    result.getTotalElements(), result.getTotalPages(), result.hasNext());
+        });
+    }
+
     public StorePublicDto getStoreByStoreId(Long storeId) {
         return storeRepository.findPublicById(storeId, StoreStatus.ACTIVE).orElseThrow(
                 () -> new CustomException(ErrorCode.STORE_NOT_FOUND));
@@ -184,6 +243,70 @@ public class StoreService {
         return similarityByNameStoreDto;
     }
 
+    /**
+     * 근처 가게 조회 (가까운 순, 카테고리 필터, 페이지네이션)
+     * - radius 미지정 시 store.geo.max-radius-meters 까지 kNN
+     * - 전체 개수 계산 없이 (page+1)*size+1 개만 찾아 다음 페이지 여부 판단 → Slice
+     * - page 는 MAX_NEARBY_PAGE 까지 (그 이상은 탐색 비용만 크고 offset 이 넘칠 수 있음)
+     */
+    public Slice<StoreNearbyDto> getNearbyStores(double latitude, double longitude, Double radiusMeters,
+                                                 String categoryName, int page, int size) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180
+                || page < 0 || page > MAX_NEARBY_PAGE || size <= 0 || size > 100
+                || (radiusMeters != null && radiusMeters <= 0)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        double radius = radiusMeters == null ? maxNearbyRadiusMeters : Math.min(radiusMeters, maxNearbyRadiusMeters);
+        String category = categoryName == null || categoryName.isBlank() ? null : categoryName.trim();
+
+        int offset = Math.toIntExact((long) page * size);
+        List<StoreGeoIndex.Hit> hits = storeGeoIndex.nearest(latitude, longitude, offset + size + 1, radius, category);
+
+        boolean hasNext = hits.size() > offset + size;
+        List<StoreGeoIndex.Hit> pageHits = hits.subList(Math.min(offset, hits.size()), Math.min(offset + size, hits.size()));
+        if (pageHits.isEmpty()) {
+            return new SliceImpl<>(List.of(), PageRequest.of(page, size), false);
+        }
+
+        Map<Long, StorePublicDto> storesById = storeRepository
+                .findPublicAllByIdIn(pageHits.stream().map(StoreGeoIndex.Hit::storeId).toList(), StoreStatus.ACTIVE)
+                .stream()
+                .collect(Collectors.toMap(StorePublicDto::storeId, Function.identity()));
+
+        // 인덱스 순서(거리순) 유지, 그 사이 비활성화된 가게는 제외
+        List<StoreNearbyDto> content = pageHits.stream()
+                .filter(hit -> storesById.containsKey(hit.storeId()))
+                .map(hit -> new StoreNearbyDto(storesById.get(hit.storeId()), Math.round(hit.distanceMeters())))
+                .toList();
+
+        return new SliceImpl<>(content, PageRequest.of(page, size), hasNext);
+    }
+
+    /**
+     * 커밋 후 근처 가게 인덱스 / 공개 목록 캐시 반영 (인덱스는 ACTIVE + 좌표 보유 가게만)
+     */
+    private void syncGeoIndex(Store store) {
+        syncGeoIndex(store, store.getCategory());
+    }
+
+    /**
+     * 카테고리가 바뀐 경우 이전 카테고리 페이지도 함께 제거 (이전 목록에 가게가 남지 않게)
+     */
+    private void syncGeoIndex(Store store, String previousCategory) {
+        Long storeId = store.getStoreId();
+        boolean indexable = store.getStoreStatus() == StoreStatus.ACTIVE && store.hasLocation();
+        double lat = indexable ? store.getLatitude() : 0;
+        double lng = indexable ? store.getLongitude() : 0;
+        String category = store.getCategory();
+
+        TxUtils.afterCommit(() -> {
+            if (indexable) storeGeoIndex.upsert(storeId, lat, lng, category);
+            else storeGeoIndex.remove(storeId);
+            storeListingCache.evict(category);
+            if (!Objects.equals(previousCategory, category)) storeListingCache.evict(previousCategory);
+        });
+    }
+
     private Owner validOwner(Long ownerId) {
         return ownerRepository.findById(ownerId).orElseThrow(
                 () -> new CustomException(ErrorCode.OWNER_NOT_FOUND)
@@ -0,0 +1,8 @@
+package com.ssafy.keeping.domain.user.customer.constant;
+
+public enum OnboardingStatus {
+    PENDING,    // 처리 대기 (가입 직후 / 재시도 대기)
+    RUNNING,    // 작업 스레드가 점유 중
+    COMPLETED,  // 계좌 생성 + 카드 발급 + 입금 완료
+    FAILED      // 최대 시도 횟수 초과 (수동 재시도 가능)
+}
@@ -5,6 +5,8 @@ import com.ssafy.keeping.domain.user.customer.dto.MyGroupsResponse;
 import com.ssafy.keeping.domain.user.customer.dto.CustomerProfileResponse;
 import com.ssafy.keeping.domain.user.customer.dto.CustomerProfileUpdateRequest;
 import com.ssafy.keeping.domain.user.customer.dto.CustomerCardResponse;
+import com.ssafy.keeping.domain.user.customer.dto.CustomerOnboardingResponse;
+import com.ssafy.keeping.domain.user.customer.service.CustomerOnboardingService;
 import com.ssafy.keeping.domain.user.customer.service.CustomerService;
 import com.ssafy.keeping.domain.user.dto.ProfileUploadResponse;
 import com.ssafy.keeping.global.s3.service.ImageService;
@@ -28,6 +30,7 @@ public class CustomerController {
     private final CustomerService customerService;
     private final GroupMemberRepository groupMemberRepository;
     private final ImageService imageService;
+    private final CustomerOnboardingService onboardingService;
 
 
     // 프로필 이미지 수정
@@ -75,6 +78,22 @@ public class CustomerController {
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success("카드 조회 성공", HttpStatus.OK.value(), response));
     }
 
+    // 가입 후 계좌/카드 준비 상태 조회 (완료 / 최종 실패는 SSE 로도 통지)
+    @GetMapping("/me/onboarding")
+    public ResponseEntity<ApiResponse<CustomerOnboardingResponse>> getMyOnboarding(@AuthenticationPrincipal Long customerId) {
+        CustomerOnboardingResponse response = onboardingService.find(customerId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success("계좌/카드 준비 상태 조회 성공", HttpStatus.OK.value(), response));
+    }
+
+    // 실패한 계좌/카드 준비 재시도 (완료된 단계는 건너뜀)
+    @PostMapping("/me/onboarding/retry")
+    public ResponseEntity<ApiResponse<CustomerOnboardingResponse>> retryMyOnboarding(@AuthenticationPrincipal Long customerId) {
+        CustomerOnboardingResponse response = onboardingService.retry(customerId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("계좌/카드 준비 재시도 요청", HttpStatus.ACCEPTED.value(), response));
+    }
+
     // 회원가입
 //    @PostMapping("/")
 //    public ResponseEntity<CustomerRegisterResponseDto> register(@RequestBody CustomerRegisterRequestDto dto) {
@@ -0,0 +1,38 @@
+package com.ssafy.keeping.domain.user.customer.dto;
+
+import com.ssafy.keeping.domain.user.customer.constant.OnboardingStatus;
+import com.ssafy.keeping.domain.user.customer.model.CustomerOnboarding;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerOnboardingResponse {
+    private OnboardingStatus status;
+    private boolean accountCreated;
+    private boolean cardIssued;
+    private boolean deposited;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime completedAt;
+
+    public static CustomerOnboardingResponse from(CustomerOnboarding onboarding) {
+        return CustomerOnboardingResponse.builder()
+                .status(onboarding.getStatus())
+                .accountCreated(onboarding.getAccountNo() != null)
+                .cardIssued(onboarding.isCardIssued())
+                .deposited(onboarding.isDeposited())
+                .attempts(onboarding.getAttempts())
+                .lastError(onboarding.getLastError())
+                .nextAttemptAt(onboarding.getNextAttemptAt())
+                .completedAt(onboarding.getCompletedAt())
+                .build();
+    }
+}
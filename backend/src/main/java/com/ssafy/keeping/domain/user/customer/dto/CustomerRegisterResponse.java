@@ -2,6 +2,7 @@ package com.ssafy.keeping.domain.user.customer.dto;
 
 import com.ssafy.keeping.domain.auth.enums.AuthProvider;
 import com.ssafy.keeping.domain.auth.enums.Gender;
+import com.ssafy.keeping.domain.user.customer.constant.OnboardingStatus;
 import com.ssafy.keeping.domain.user.customer.model.Customer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,8 +25,9 @@ public class CustomerRegisterResponse {
     private LocalDate birth;
     private Gender gender;
     private String imgUrl;
+    private OnboardingStatus onboardingStatus; // 계좌/카드 준비 상태 (가입 직후 PENDING)
 
-    public static CustomerRegisterResponse register(Customer customer) {
+    public static CustomerRegisterResponse register(Customer customer, OnboardingStatus onboardingStatus) {
         return CustomerRegisterResponse.builder()
                 .customerId(customer.getCustomerId())
                 .providerId(customer.getProviderId())
@@ -36,6 +38,7 @@ public class CustomerRegisterResponse {
                 .gender(customer.getGender())
                 .birth(customer.getBirth())
                 .imgUrl(customer.getImgUrl())
+                .onboardingStatus(onboardingStatus)
                 .build();
     }
 }
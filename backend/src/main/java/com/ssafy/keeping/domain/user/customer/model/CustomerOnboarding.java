@@ -0,0 +1,86 @@
+package com.ssafy.keeping.domain.user.customer.model;
+
+import com.ssafy.keeping.domain.user.customer.constant.OnboardingStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가입 후 금융 자산(계좌 / 카드 / 초기 입금) 준비 상태
+ * - 단계별 완료 여부를 남겨 재시도 시 끝난 단계는 다시 호출하지 않음
+ * - 상태 변경은 CustomerOnboardingRepository 의 단일 UPDATE 로만 (병렬 단계가 서로의 필드를 덮어쓰지 않도록)
+ * - 단계별 기관거래고유번호는 외부 호출 전에 저장 → 응답 없이 끝난 단계는 재시도 때 외부 상태부터 확인하고 같은 번호로 호출
+ * - leaseToken 은 점유할 때마다 증가, 모든 기록은 자기 토큰일 때만 반영 (점유가 넘어간 작업자의 늦은 기록 차단)
+ */
+@Entity
+@Table(name = "customer_onboarding",
+        indexes = {
+                @Index(name = "idx_onboarding_due", columnList = "status, next_attempt_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CustomerOnboarding {
+
+    @Id
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private OnboardingStatus status;
+
+    @Column(name = "account_no", length = 50)
+    private String accountNo;
+
+    @Column(name = "card_issued", nullable = false)
+    private boolean cardIssued;
+
+    @Column(name = "deposited", nullable = false)
+    private boolean deposited;
+
+    @Column(name = "account_request_no", length = 20)
+    private String accountRequestNo;
+
+    @Column(name = "card_request_no", length = 20)
+    private String cardRequestNo;
+
+    @Column(name = "deposit_request_no", length = 20)
+    private String depositRequestNo;
+
+    @Column(name = "lease_token", nullable = false)
+    private long leaseToken;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 100)
+    private String lastError;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt; // PENDING: 다음 시도 시각 / RUNNING: 점유 만료 시각
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static CustomerOnboarding pending(Long customerId, LocalDateTime now) {
+        return CustomerOnboarding.builder()
+                .customerId(customerId)
+                .status(OnboardingStatus.PENDING)
+                .nextAttemptAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.ssafy.keeping.domain.user.customer.repository;
+
+import com.ssafy.keeping.domain.user.customer.constant.OnboardingStatus;
+import com.ssafy.keeping.domain.user.customer.model.CustomerOnboarding;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 온보딩 상태 변경은 모두 단일 UPDATE (작업 스레드는 트랜잭션 밖에서 호출 → 메서드 단위 트랜잭션)
+ * - 점유 이후의 기록은 모두 leaseToken 조건부 (0 이면 점유가 다른 작업자에게 넘어간 것)
+ */
+@Repository
+public interface CustomerOnboardingRepository extends JpaRepository<CustomerOnboarding, Long> {
+
+    /**
+     * 작업 점유: 처리할 차례인 PENDING 또는 점유가 만료된 RUNNING 만 RUNNING 으로 + 토큰 증가 (1 이면 점유 성공)
+     * - 가입 직후 afterCommit 제출과 스케줄러 재제출이 겹쳐도 한 스레드만 처리
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE CustomerOnboarding o SET o.status = :running, o.nextAttemptAt = :leaseUntil, " +
+           "o.leaseToken = o.leaseToken + 1 " +
+           "WHERE o.customerId = :customerId AND o.status IN :claimable AND o.nextAttemptAt <= :now")
+    int claim(@Param("customerId") Long customerId,
+              @Param("running") OnboardingStatus running,
+              @Param("claimable") Collection<OnboardingStatus> claimable,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("SELECT o.customerId FROM CustomerOnboarding o " +
+           "WHERE o.status IN :statuses AND o.nextAttemptAt <= :now ORDER BY o.nextAttemptAt ASC")
+    List<Long> findDueCustomerIds(@Param("statuses") Collection<OnboardingStatus> statuses,
+                                  @Param("now") LocalDateTime now,
+                                  Pageable pageable);
+
+    /**
+     * 처리 중인 작업의 점유 연장 (자기 토큰이고 아직 RUNNING 일 때만)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE CustomerOnboarding o SET o.nextAttemptAt = :leaseUntil " +
+           "WHERE o.customerId = :customerId AND o.leaseToken = :leaseToken AND o.status = :running")
+    int renewLease(@Param("customerId") Long customerId,
+                   @Param("leaseToken") long leaseToken,
+                   @Param("running") OnboardingStatus running,
+                   @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 외부 호출 직전: 단계 기관거래고유번호 저장 + 점유 연장 (0 이면 호출하지 않음)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE CustomerOnboarding o SET o.accountRequestNo = :requestNo, o.nextAttemptAt = :leaseUntil " +
+           "WHERE o.customerId = :customerId AND o.leaseToken = :leaseToken")
+    int reserveAccountRequest(@Param("customerId") Long customerId,
+                              @Param("leaseToken") long leaseToken,
+                              @Param("requestNo") String requestNo,
+                              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE CustomerOnboarding o SET o.cardRequestNo = :requestNo, o.nextAttemptAt = :leaseUntil " +
+           "WHERE o.customerId = :customerId AND o.leaseToken = :leaseToken")
+    int reserveCardRequest(@Param("customerId") Long customerId,
+                           @Param("leaseToken") long leaseToken,
+                           @Param("requestNo") String requestNo,
+                           @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE CustomerOnboarding o SET o.depositRequestNo = :requestNo, o.nextAttemptAt = :leaseUntil " +
+           "WHERE o.customerId = :customerId AND o.leaseToken = :leaseToken")
+    int reserveDepositRequest(@Param("customerId") Long customerId,
+                              @Param("leaseToken") long leaseToken,
+                              @Param("requestNo") String requestNo,
+                              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE CustomerOnboarding o SET o.accountNo = :accountNo " +
+           "WHERE o.customerId = :customerId AND o.leaseToken = :leaseToken")
+    int markAccountCreated(@Param("customerId") Long customerId,
+                           @Param("leaseToken") long leaseToken,
+                           @Param("accountNo") String accountNo);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE CustomerOnboarding o SET o.cardIssued = true " +
+           "WHERE o.customerId = :customerId AND o.leaseToken = :leaseToken")
+    int markCardIssued(@Param("customerId") Long customerId, @Param("leaseToken") long leaseToken);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE CustomerOnboarding o SET o.deposited = true " +
+           "WHERE o.customerId = :customerId AND o.leaseToken = :leaseToken")
+    int markDeposited(@Param("customerId") Long customerId, @Param("leaseToken") long leaseToken);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE CustomerOnboarding o SET o.status = :completed, o.completedAt = :now, " +
+           "o.nextAttemptAt = null, o.lastError = null " +
+           "WHERE o.customerId = :customerId AND o.leaseToken = :leaseToken")
+    int markCompleted(@Param("customerId") Long customerId,
+                      @Param("leaseToken") long leaseToken,
+                      @Param("completed") OnboardingStatus completed,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 실패 기록: 재시도 남으면 PENDING + 다음 시도 시각, 아니면 FAILED (nextAttemptAt null)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE CustomerOnboarding o SET o.status = :status, o.attempts = :attempts, " +
+           "o.lastError = :lastError, o.nextAttemptAt = :nextAttemptAt " +
+           "WHERE o.customerId = :customerId AND o.leaseToken = :leaseToken")
+    int markFailure(@Param("customerId") Long customerId,
+                    @Param("leaseToken") long leaseToken,
+                    @Param("status") OnboardingStatus status,
+                    @Param("attempts") int attempts,
+                    @Param("lastError") String lastError,
+                    @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    /**
+     * 수동 재시도: FAILED 만 PENDING 으로 되돌림 (끝난 단계 기록은 유지)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE CustomerOnboarding o SET o.status = :pending, o.attempts = 0, o.nextAttemptAt = :now " +
+           "WHERE o.customerId = :customerId AND o.status = :failed")
+    int resetFailed(@Param("customerId") Long customerId,
+                    @Param("pending") OnboardingStatus pending,
+                    @Param("failed") OnboardingStatus failed,
+                    @Param("now") LocalDateTime now);
+}
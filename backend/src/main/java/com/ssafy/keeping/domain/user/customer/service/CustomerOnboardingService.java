@@ -0,0 +1,420 @@
+package com.ssafy.keeping.domain.user.customer.service;
+
+import com.ssafy.keeping.domain.auth.enums.UserRole;
+import com.ssafy.keeping.domain.charge.dto.ssafyapi.response.SsafyCardInquiryRecDto;
+import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
+import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import com.ssafy.keeping.domain.notification.gateway.NotificationFanoutBus;
+import com.ssafy.keeping.domain.user.customer.constant.OnboardingStatus;
+import com.ssafy.keeping.domain.user.customer.dto.CustomerOnboardingResponse;
+import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.customer.model.CustomerOnboarding;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerOnboardingRepository;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
+import com.ssafy.keeping.domain.user.finopenapi.dto.AccountListRecResponse;
+import com.ssafy.keeping.global.client.FinOpenApiClient;
+import com.ssafy.keeping.global.exception.CustomException;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import com.ssafy.keeping.global.util.TxUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * 고객 가입 후 금융 자산 준비 (FinOpenAPI 계좌 생성 → 카드 발급 / 초기 입금)
+ * - 가입 요청은 userKey 발급 + 고객 행 저장까지만, 나머지는 커밋 후 작업 스레드에서 처리
+ * - 카드 발급과 입금은 둘 다 계좌 번호만 필요 → 동시 호출 (계좌 생성 1회 + 병렬 1회 = 외부 API 2회 구간)
+ * - 단계별 완료를 customer_onboarding 에 남겨 재시도 시 끝난 단계는 건너뜀,
+ *   실패는 지수 백오프로 PENDING 재예약, 최대 횟수 초과 시 FAILED (수동 재시도)
+ * - 외부 호출 전에 단계별 기관거래고유번호를 저장, 번호는 있는데 완료 기록이 없는 단계(응답 유실 / 노드 종료)는
+ *   계좌 목록 / 카드 목록 / 잔액으로 외부 상태부터 확인하고, 반영되지 않았을 때만 같은 번호로 다시 호출
+ * - 점유는 처리 중 주기적으로 연장, 모든 기록은 점유 토큰 조건부 → 점유가 넘어가면 이전 작업자는 다음 호출 전에 중단
+ * - 스케줄러가 처리할 차례인 PENDING / 점유가 만료된 RUNNING(노드 재시작 등)을 다시 제출
+ * - 완료 / 최종 실패는 SSE 알림 채널로 통지 (저장하지 않는 일회성 이벤트), 그 외는 조회(polling)
+ */
+@Slf4j
+@Service
+public class CustomerOnboardingService {
+
+    private static final List<OnboardingStatus> CLAIMABLE = List.of(OnboardingStatus.PENDING, OnboardingStatus.RUNNING);
+
+    private final CustomerOnboardingRepository onboardingRepository;
+    private final CustomerRepository customerRepository;
+    private final FinOpenApiClient apiClient;
+    private final NotificationFanoutBus fanoutBus;
+    private final Clock clock;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final Duration lease;
+    private final int sweepBatch;
+    private final ThreadPoolExecutor workers;
+    private final ThreadPoolExecutor steps;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder leaseLost = new LongAdder();
+    private final LongAdder recoveredSteps = new LongAdder();
+
+    // 이 노드에서 처리 중인 고객 ID → 점유 토큰 (점유 연장 대상)
+    private final Map<Long, Long> leases = new ConcurrentHashMap<>();
+
+    public CustomerOnboardingService(CustomerOnboardingRepository onboardingRepository,
+                                     CustomerRepository customerRepository,
+                                     FinOpenApiClient apiClient,
+                                     NotificationFanoutBus fanoutBus,
+                                     Clock clock,
+                                     @Value("${customer.onboarding.workers:4}") int workerCount,
+                                     @Value("${customer.onboarding.queue-capacity:256}") int queueCapacity,
+                                     @Value("${customer.onboarding.max-attempts:5}") int maxAttempts,
+                                     @Value("${customer.onboarding.retry-backoff-ms:2000}") long retryBackoffMs,
+                                     @Value("${customer.onboarding.lease-seconds:120}") long leaseSeconds,
+                                     @Value("${customer.onboarding.sweep-batch:50}") int sweepBatch) {
+        this.onboardingRepository = onboardingRepository;
+        this.customerRepository = customerRepository;
+        this.apiClient = apiClient;
+        this.fanoutBus = fanoutBus;
+        this.clock = clock;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.sweepBatch = sweepBatch;
+
+        CustomizableThreadFactory workerThreads = new CustomizableThreadFactory("onboarding-");
+        workerThreads.setDaemon(true);
+        // 대기열이 차도 행은 PENDING 으로 남아 있으므로 거절 → 스케줄러가 다시 제출
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), workerThreads, new ThreadPoolExecutor.AbortPolicy());
+
+        // 작업 1개당 병렬 단계 최대 1개 → 작업 스레드 수만큼이면 대기 없음
+        CustomizableThreadFactory stepThreads = new CustomizableThreadFactory("onboarding-step-");
+        stepThreads.setDaemon(true);
+        this.steps = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), stepThreads);
+    }
+
+    public record Stats(long enqueued, long rejected, long upstreamCalls, long retries,
+                        long succeeded, long failed, long leaseLost, long recoveredSteps,
+                        int queued, int running) {
+    }
+
+    /**
+     * 가입 트랜잭션 안에서 호출: PENDING 행 저장 + 커밋 후 작업 제출 (롤백되면 제출하지 않음)
+     */
+    public OnboardingStatus start(Long customerId) {
+        onboardingRepository.save(CustomerOnboarding.pending(customerId, LocalDateTime.now(clock)));
+        TxUtils.afterCommit(() -> enqueue(customerId));
+        return OnboardingStatus.PENDING;
+    }
+
+    public void enqueue(Long customerId) {
+        try {
+            workers.execute(() -> run(customerId));
+            enqueued.increment();
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("온보딩 대기열 가득 참, 스케줄러 재제출 대기 - customerId: {}", customerId);
+        }
+    }
+
+    public CustomerOnboardingResponse find(Long customerId) {
+        return onboardingRepository.findById(customerId)
+                .map(CustomerOnboardingResponse::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.ONBOARDING_NOT_FOUND));
+    }
+
+    /**
+     * FAILED 온보딩 수동 재시도 (끝난 단계는 다시 호출하지 않음)
+     */
+    public CustomerOnboardingResponse retry(Long customerId) {
+        int reset = onboardingRepository.resetFailed(customerId, OnboardingStatus.PENDING, OnboardingStatus.FAILED,
+                LocalDateTime.now(clock));
+        if (reset == 0) {
+            CustomerOnboardingResponse current = find(customerId);
+            throw new CustomException(current.getStatus() == OnboardingStatus.COMPLETED
+                    ? ErrorCode.ONBOARDING_ALREADY_COMPLETED : ErrorCode.ONBOARDING_IN_PROGRESS);
+        }
+        enqueue(customerId);
+        return find(customerId);
+    }
+
+    /**
+     * 처리할 차례인 PENDING(재시도 예약 / 대기열 거절) + 점유 만료 RUNNING 재제출
+     */
+    @Scheduled(fixedDelayString = "${customer.onboarding.sweep-interval-ms:10000}")
+    public void resumeDue() {
+        int capacity = Math.min(sweepBatch, workers.getQueue().remainingCapacity());
+        if (capacity <= 0) return;
+        try {
+            List<Long> due = onboardingRepository.findDueCustomerIds(CLAIMABLE, LocalDateTime.now(clock),
+                    PageRequest.of(0, capacity));
+            due.forEach(this::enqueue);
+        } catch (Exception e) {
+            log.warn("온보딩 재제출 조회 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 처리 중인 작업의 점유 연장 (외부 API 가 느려도 점유가 만료돼 다른 노드가 같은 단계를 동시에 실행하지 않도록)
+     * - 연장 실패(토큰 불일치)면 점유를 잃은 것 → 다음 기록 / 호출에서 중단
+     */
+    @Scheduled(fixedDelayString = "${customer.onboarding.lease-renew-interval-ms:30000}")
+    public void renewLeases() {
+        if (leases.isEmpty()) return;
+        LocalDateTime leaseUntil = leaseUntil();
+        leases.forEach((customerId, token) -> {
+            try {
+                if (onboardingRepository.renewLease(customerId, token, OnboardingStatus.RUNNING, leaseUntil) == 0) {
+                    leases.remove(customerId, token);
+                    log.warn("온보딩 점유 연장 실패 (다른 작업자가 점유) - customerId: {}", customerId);
+                }
+            } catch (Exception e) {
+                log.warn("온보딩 점유 연장 오류 - customerId: {}, 오류: {}", customerId, e.getMessage());
+            }
+        });
+    }
+
+    public Stats stats() {
+        return new Stats(enqueued.sum(), rejected.sum(), upstreamCalls.sum(), retries.sum(),
+                succeeded.sum(), failed.sum(), leaseLost.sum(), recoveredSteps.sum(),
+                workers.getQueue().size(), workers.getActiveCount());
+    }
+
+    @PreDestroy
+    public void stop() {
+        // 처리 중이던 행은 RUNNING 으로 남고 점유 만료 후 스케줄러가 이어서 처리
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) workers.shutdownNow();
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        steps.shutdownNow();
+        log.info("고객 온보딩 처리 종료 - {}", stats());
+    }
+
+    private void run(Long customerId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        // 다른 스레드 / 노드가 처리 중이거나 이미 끝난 경우
+        if (onboardingRepository.claim(customerId, OnboardingStatus.RUNNING, CLAIMABLE, now, now.plus(lease)) == 0) {
+            return;
+        }
+        CustomerOnboarding onboarding = onboardingRepository.findById(customerId).orElse(null);
+        if (onboarding == null) return;
+
+        long token = onboarding.getLeaseToken();
+        leases.put(customerId, token);
+        try {
+            provision(onboarding, token);
+            fenced(onboardingRepository.markCompleted(customerId, token, OnboardingStatus.COMPLETED,
+                    LocalDateTime.now(clock)));
+            succeeded.increment();
+            log.info("고객 온보딩 완료 - customerId: {}", customerId);
+            notifyCustomer(customerId, NotificationType.ONBOARDING_COMPLETED);
+        } catch (Exception e) {
+            if (isLeaseLost(e)) {
+                // 이어받은 작업자가 저장된 번호 / 외부 상태로 이어서 처리, 여기서는 아무것도 기록하지 않음
+                leaseLost.increment();
+                log.warn("고객 온보딩 점유 상실, 처리 중단 - customerId: {}", customerId);
+            } else {
+                recordFailure(onboarding, token, e);
+            }
+        } finally {
+            leases.remove(customerId, token);
+        }
+    }
+
+    private void provision(CustomerOnboarding onboarding, long token) {
+        Long customerId = onboarding.getCustomerId();
+        String userKey = customerRepository.findByCustomerIdAndDeletedAtIsNull(customerId)
+                .map(Customer::getUserKey)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        // 1) 계좌 생성 (이전 시도에서 만든 계좌가 있으면 재사용)
+        String accountNo = onboarding.getAccountNo();
+        if (accountNo == null) {
+            accountNo = createAccount(onboarding, token, userKey);
+        }
+
+        // 2) 입금은 단계 스레드, 카드 발급은 현재 스레드에서 동시에
+        String withdrawalAccountNo = accountNo;
+        CompletableFuture<Void> deposit = onboarding.isDeposited()
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.runAsync(() -> deposit(onboarding, token, userKey, withdrawalAccountNo), steps);
+
+        RuntimeException cardFailure = null;
+        if (!onboarding.isCardIssued()) {
+            try {
+                issueCard(onboarding, token, userKey, withdrawalAccountNo);
+            } catch (RuntimeException e) {
+                cardFailure = e;
+            }
+        }
+
+        // 카드 발급이 실패해도 입금 결과는 기다려서 기록 (다음 시도에서 중복 입금 방지)
+        try {
+            deposit.join();
+        } catch (CompletionException e) {
+            if (cardFailure == null) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+            log.warn("온보딩 입금 실패 - customerId: {}, 오류: {}", customerId, e.getCause().getMessage());
+        }
+        if (cardFailure != null) throw cardFailure;
+    }
+
+    private String createAccount(CustomerOnboarding onboarding, long token, String userKey) {
+        Long customerId = onboarding.getCustomerId();
+        String previous = onboarding.getAccountRequestNo();
+        if (previous != null) {
+            // 이전 시도가 계좌 생성 요청 후 기록 전에 끝남 → 이미 만들어졌으면 그 계좌 사용 (가입 때 발급한 userKey 라 다른 계좌 없음)
+            upstreamCalls.increment();
+            String existing = apiClient.inquireAccounts(userKey).stream()
+                    .map(AccountListRecResponse::getAccountNo)
+                    .filter(Objects::nonNull)
+                    .findFirst().orElse(null);
+            if (existing != null) {
+                recoveredSteps.increment();
+                fenced(onboardingRepository.markAccountCreated(customerId, token, existing));
+                return existing;
+            }
+        }
+        String requestNo = reserve(previous,
+                no -> onboardingRepository.reserveAccountRequest(customerId, token, no, leaseUntil()));
+        upstreamCalls.increment();
+        String accountNo = apiClient.createAccount(userKey, UserRole.CUSTOMER.name(), requestNo)
+                .getRecResponse().getAccountNo();
+        fenced(onboardingRepository.markAccountCreated(customerId, token, accountNo));
+        return accountNo;
+    }
+
+    private void deposit(CustomerOnboarding onboarding, long token, String userKey, String accountNo) {
+        Long customerId = onboarding.getCustomerId();
+        String previous = onboarding.getDepositRequestNo();
+        if (previous != null) {
+            // 이전 시도가 입금 요청 후 기록 전에 끝남 → 새 계좌라 잔액이 초기 입금액 이상이면 이미 반영된 것
+            upstreamCalls.increment();
+            boolean reflected = apiClient.inquireAccounts(userKey).stream()
+                    .filter(a -> accountNo.equals(a.getAccountNo()))
+                    .anyMatch(a -> a.getAccountBalance() != null
+                            && a.getAccountBalance() >= FinOpenApiClient.TRANSACTION_BALANCE);
+            if (reflected) {
+                recoveredSteps.increment();
+                fenced(onboardingRepository.markDeposited(customerId, token));
+                return;
+            }
+        }
+        String requestNo = reserve(previous,
+                no -> onboardingRepository.reserveDepositRequest(customerId, token, no, leaseUntil()));
+        upstreamCalls.increment();
+        apiClient.accountDeposit(userKey, accountNo, requestNo);
+        fenced(onboardingRepository.markDeposited(customerId, token));
+    }
+
+    private void issueCard(CustomerOnboarding onboarding, long token, String userKey, String accountNo) {
+        Long customerId = onboarding.getCustomerId();
+        String previous = onboarding.getCardRequestNo();
+        if (previous != null) {
+            // 이전 시도가 카드 발급 요청 후 기록 전에 끝남 → 이 계좌로 발급된 카드가 있으면 완료로 기록
+            upstreamCalls.increment();
+            boolean issued = apiClient.inquireCards(userKey).stream()
+                    .map(SsafyCardInquiryRecDto::getWithdrawalAccountNo)
+                    .anyMatch(accountNo::equals);
+            if (issued) {
+                recoveredSteps.increment();
+                fenced(onboardingRepository.markCardIssued(customerId, token));
+                return;
+            }
+        }
+        String requestNo = reserve(previous,
+                no -> onboardingRepository.reserveCardRequest(customerId, token, no, leaseUntil()));
+        upstreamCalls.increment();
+        apiClient.issueCard(userKey, accountNo, requestNo);
+        fenced(onboardingRepository.markCardIssued(customerId, token));
+    }
+
+    /**
+     * 외부 호출 직전 단계 번호 저장 + 점유 연장 (이전 번호가 있으면 그대로), 점유를 잃었으면 호출하지 않음
+     */
+    private String reserve(String previous, ToIntFunction<String> save) {
+        String requestNo = previous != null ? previous : apiClient.newTransactionUniqueNo();
+        fenced(save.applyAsInt(requestNo));
+        return requestNo;
+    }
+
+    // 토큰 조건부 UPDATE 가 0 건 → 점유가 다른 작업자에게 넘어감
+    private static void fenced(int updated) {
+        if (updated == 0) throw new CustomException(ErrorCode.ONBOARDING_IN_PROGRESS);
+    }
+
+    private static boolean isLeaseLost(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof CustomException ce && ce.getErrorCode() == ErrorCode.ONBOARDING_IN_PROGRESS;
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now(clock).plus(lease);
+    }
+
+    private void recordFailure(CustomerOnboarding onboarding, long token, Exception e) {
+        Long customerId = onboarding.getCustomerId();
+        int attempts = onboarding.getAttempts() + 1;
+        String error = e instanceof CustomException ce ? ce.getErrorCode().name() : e.getClass().getSimpleName();
+
+        try {
+            if (attempts >= maxAttempts) {
+                if (onboardingRepository.markFailure(customerId, token, OnboardingStatus.FAILED, attempts, error, null) == 0) {
+                    leaseLost.increment();
+                    return;
+                }
+                failed.increment();
+                log.error("고객 온보딩 실패 - customerId: {}, 시도: {}/{}", customerId, attempts, maxAttempts, e);
+                notifyCustomer(customerId, NotificationType.ONBOARDING_FAILED);
+            } else {
+                LocalDateTime nextAttemptAt = LocalDateTime.now(clock)
+                        .plus(Duration.ofMillis(retryBackoffMs << (attempts - 1)));
+                if (onboardingRepository.markFailure(customerId, token, OnboardingStatus.PENDING, attempts, error,
+                        nextAttemptAt) == 0) {
+                    leaseLost.increment();
+                    return;
+                }
+                retries.increment();
+                log.warn("고객 온보딩 재시도 예약 - customerId: {}, 시도: {}/{}, 다음: {}, 원인: {}",
+                        customerId, attempts, maxAttempts, nextAttemptAt, error);
+            }
+        } catch (Exception recordError) {
+            // 기록 실패 시 행은 RUNNING 으로 남고 점유 만료 후 재처리
+            log.error("고객 온보딩 실패 기록 실패 - customerId: {}", customerId, recordError);
+        }
+    }
+
+    private void notifyCustomer(Long customerId, NotificationType type) {
+        String content = type == NotificationType.ONBOARDING_COMPLETED
+                ? "계좌와 카드 준비가 완료되었습니다. 이제 결제할 수 있습니다."
+                : "계좌와 카드 준비에 실패했습니다. 다시 시도해주세요.";
+        try {
+            fanoutBus.publish("onboarding-" + customerId,
+                    NotificationResponseDto.forSSE(content, type, UserRole.CUSTOMER.name(), customerId));
+        } catch (Exception e) {
+            log.warn("고객 온보딩 알림 실패 (조회로 확인 가능) - customerId: {}, 오류: {}", customerId, e.getMessage());
+        }
+    }
+}
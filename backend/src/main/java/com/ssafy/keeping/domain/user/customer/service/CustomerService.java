@@ -2,6 +2,7 @@ package com.ssafy.keeping.domain.user.customer.service;
 
 import com.ssafy.keeping.domain.auth.pin.service.PinAuthService;
 import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.customer.constant.OnboardingStatus;
 import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
 import com.ssafy.keeping.domain.user.customer.dto.CustomerRegisterRequest;
 import com.ssafy.keeping.domain.user.customer.dto.CustomerRegisterResponse;
@@ -48,6 +49,7 @@ public class CustomerService {
     private final ImageService imageService;
     private final SsafyFinanceApiService ssafyFinanceApiService;
     private final SecureRandom secureRandom;
+    private final CustomerOnboardingService onboardingService;
 
     private static final String SIGN_UP_INFO_KEY = "signup:info:";
 
@@ -126,43 +128,6 @@ public class CustomerService {
         // 결제 비밀번호 저장
         pinAuthService.setOrUpdatePin(customer.getCustomerId(), dto.getPaymentPin());
 
-        // 계좌 생성
-        String accountNo = null;
-
-        try{
-            log.debug("계좌 생성 시도");
-            String role = "CUSTOMER";
-            CreateAccountResponse accountResponse = apiClient.createAccount(userKey, role);
-            accountNo = accountResponse.getRecResponse().getAccountNo();
-            log.debug("계좌 생성 성공");
-
-        } catch (CustomException e) {
-            log.debug("해당 계좌 생성 실패 : {}", accountNo);
-
-            throw e;
-        }
-
-        // 카드 생성
-        try{
-            log.debug("해당 계좌로 카드 생성 : {}", accountNo);
-            apiClient.issueCard(userKey, accountNo);
-            log.debug("카드 생성 성공");
-        } catch (CustomException e) {
-            log.debug("해당 계좌로 카드 생성 실패 : {}", accountNo);
-            throw e;
-        }
-
-        // 계좌 입금 (1억)
-        try {
-            log.debug("해당 계좌로 입금 : {}", accountNo);
-            apiClient.accountDeposit(userKey, accountNo);
-            log.debug("입금 성공");
-
-        } catch (CustomException e) {
-            log.debug("해당 계좌로 입금 실패 : {}", accountNo);
-            throw e;
-        }
-
         // 지갑 생성
         Wallet wallet = Wallet.builder().customer(customer).walletType(WalletType.INDIVIDUAL).build();
 
@@ -172,9 +137,12 @@ public class CustomerService {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
 
+        // 계좌 생성 / 카드 발급 / 입금은 커밋 후 비동기 (완료 시 SSE 알림, GET /customers/me/onboarding 로 조회)
+        OnboardingStatus onboardingStatus = onboardingService.start(customer.getCustomerId());
+
         // 세션 만료
         sessionStore.deleteSession(SIGN_UP_INFO_KEY, dto.getRegSessionId());
-        return CustomerRegisterResponse.register(customer);
+        return CustomerRegisterResponse.register(customer, onboardingStatus);
     }
 
     public Customer validCustomer(Long customerId) {
@@ -0,0 +1,17 @@
+package com.ssafy.keeping.domain.user.finopenapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountListRecResponse {
+
+    private String bankCode;
+    private String accountNo;
+    private Long accountBalance;
+}
@@ -0,0 +1,19 @@
+package com.ssafy.keeping.domain.user.finopenapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ssafy.keeping.domain.charge.dto.ssafyapi.request.SsafyApiHeaderDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccountListRequest {
+
+    @JsonProperty("Header")
+    private SsafyApiHeaderDto header;
+
+}
@@ -0,0 +1,23 @@
+package com.ssafy.keeping.domain.user.finopenapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ssafy.keeping.domain.charge.dto.ssafyapi.response.SsafyApiResponseHeaderDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccountListResponse {
+
+    @JsonProperty("Header")
+    private SsafyApiResponseHeaderDto header;
+
+    @JsonProperty("REC")
+    private List<AccountListRecResponse> recResponse;
+}
@@ -1,5 +1,5 @@
 package com.ssafy.keeping.domain.wallet.constant;
 
 public enum LotStatus {
-    ACTIVE, CANCELED
+    ACTIVE, CANCELED, EXPIRED
 }
@@ -3,6 +3,7 @@ package com.ssafy.keeping.domain.wallet.controller;
 import com.ssafy.keeping.domain.idempotency.model.IdempotentResult;
 import com.ssafy.keeping.domain.wallet.dto.*;
 import com.ssafy.keeping.domain.wallet.service.WalletServiceHS;
+import com.ssafy.keeping.domain.wallet.service.WalletTransferCoordinator;
 import com.ssafy.keeping.global.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import org.springframework.data.domain.PageRequest;
 @RequiredArgsConstructor
 public class WalletController {
     private final WalletServiceHS walletService;
+    private final WalletTransferCoordinator transferCoordinator;
 
     @GetMapping("/groups/{groupId}")
     public ResponseEntity<ApiResponse<WalletResponseDto>> getGroupWallets(
@@ -37,8 +39,9 @@ public class WalletController {
             @RequestHeader("Idempotency-Key") String idemKey,
             @RequestBody @Valid PointShareRequestDto req
     ) {
-        IdempotentResult<PointShareResponseDto> result =
-                walletService.sharePoints(groupId, customerId, storeId, idemKey, req);
+        // 잠금 충돌(교착/대기 초과) 시 트랜잭션 단위 재시도
+        IdempotentResult<PointShareResponseDto> result = transferCoordinator.execute("share",
+                () -> walletService.sharePoints(groupId, customerId, storeId, idemKey, req));
 
         HttpStatus status = result.getHttpStatus();
         String msg;
@@ -77,8 +80,8 @@ public class WalletController {
             @RequestHeader("Idempotency-Key") String idemKey,
             @RequestBody @Valid PointShareRequestDto req
     ) {
-        IdempotentResult<PointShareResponseDto> result =
-                walletService.reclaimPoints(groupId, customerId, storeId, idemKey, req);
+        IdempotentResult<PointShareResponseDto> result = transferCoordinator.execute("reclaim",
+                () -> walletService.reclaimPoints(groupId, customerId, storeId, idemKey, req));
 
         HttpStatus status = result.getHttpStatus();
         if (result.isReplay()) {
@@ -0,0 +1,11 @@
+package com.ssafy.keeping.domain.wallet.dto;
+
+/**
+ * 그룹 지갑 LOT 기준 (기여 지갑, 가게)별 남은 양 합계 (기여 요약 재계산용)
+ */
+public record ContributionSumDto(
+        Long memberWalletId,
+        Long storeId,
+        Long amount
+) {
+}
@@ -0,0 +1,14 @@
+package com.ssafy.keeping.domain.wallet.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 대상 로트 키 (잠금 없이 먼저 읽어 잔액 잠금 대상 / 커서를 정함)
+ */
+public record ExpiredLotKeyDto(
+        Long lotId,
+        Long walletId,
+        Long storeId,
+        LocalDateTime expiredAt
+) {
+}
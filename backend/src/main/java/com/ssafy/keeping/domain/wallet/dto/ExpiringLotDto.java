@@ -0,0 +1,16 @@
+package com.ssafy.keeping.domain.wallet.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 예정 알림 대상 로트
+ */
+public record ExpiringLotDto(
+        Long lotId,
+        Long customerId,
+        Long storeId,
+        String storeName,
+        Long amountRemaining,
+        LocalDateTime expiredAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.ssafy.keeping.domain.wallet.dto;
+
+/**
+ * 로트 → 원천 충전 고객 매핑 (만료 거래/알림 귀속용)
+ */
+public record LotCustomerDto(
+        Long lotId,
+        Long customerId
+) {
+}
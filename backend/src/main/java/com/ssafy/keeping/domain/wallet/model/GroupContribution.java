@@ -0,0 +1,54 @@
+package com.ssafy.keeping.domain.wallet.model;
+
+import com.ssafy.keeping.domain.store.model.Store;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 지갑 내 회원별 기여 잔량 요약 (그룹 지갑, 기여 회원 지갑, 가게)
+ * - 그룹 LOT 중 ACTIVE 인 것의 contributor 별 amount_remaining 합계를 유지
+ * - 공유/회수/결제/환불/정산/만료 경로에서 같은 트랜잭션으로 갱신, 어긋나면 재계산 작업이 LOT 기준으로 맞춤
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(
+        name = "group_contributions",
+        uniqueConstraints = @UniqueConstraint(name = "uq_contribution_key",
+                columnNames = {"group_wallet_id", "member_wallet_id", "store_id"}),
+        indexes = @Index(name = "idx_contribution_member", columnList = "member_wallet_id")
+)
+public class GroupContribution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "contribution_id")
+    private Long contributionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_wallet_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Wallet groupWallet;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_wallet_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Wallet memberWallet;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Store store;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -3,6 +3,7 @@ package com.ssafy.keeping.domain.wallet.model;
 import com.ssafy.keeping.domain.payment.transactions.model.Transaction;
 import com.ssafy.keeping.global.exception.CustomException;
 import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import com.ssafy.keeping.domain.payment.common.LedgerId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -23,7 +24,7 @@ import java.time.LocalDateTime;
 public class WalletLotMove {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @LedgerId
     @Column(name = "move_id")
     private Long moveId;
 
@@ -4,6 +4,7 @@ import com.ssafy.keeping.domain.store.model.Store;
 import com.ssafy.keeping.domain.payment.transactions.model.Transaction;
 import com.ssafy.keeping.domain.wallet.constant.LotSourceType;
 import com.ssafy.keeping.domain.wallet.constant.LotStatus;
+import com.ssafy.keeping.domain.payment.common.LedgerId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,9 @@ import java.time.LocalDateTime;
         name="wallet_store_lot",
         indexes = {
                 @Index(name="idx_lot_wallet_store", columnList="wallet_id,store_id"),
-                @Index(name="idx_lot_origin_tx", columnList="origin_charge_tx_id")
+                @Index(name="idx_lot_origin_tx", columnList="origin_charge_tx_id"),
+                @Index(name="idx_lot_status_expired", columnList="lot_status,expired_at"),
+                @Index(name="idx_lot_contributor", columnList="contributor_wallet_id")
         }
 )
 
@@ -26,7 +29,7 @@ import java.time.LocalDateTime;
 public class WalletStoreLot {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @LedgerId
     @Column(name = "lot_id")
     private Long lotId;
 
@@ -73,6 +76,10 @@ public class WalletStoreLot {
     @JoinColumn(name = "cancel_tx_id")
     private Transaction cancelTransaction;
 
+    // 만료 예정 알림 발송 시각 (중복 발송 방지)
+    @Column(name = "expiry_notified_at")
+    private LocalDateTime expiryNotifiedAt;
+
     // 포인트 사용 메서드
     public void usePoints(Long amount) {
         if (this.amountRemaining.compareTo(amount) < 0) {
@@ -0,0 +1,83 @@
+package com.ssafy.keeping.domain.wallet.repository;
+
+import com.ssafy.keeping.domain.wallet.dto.ContributionSumDto;
+import com.ssafy.keeping.domain.wallet.model.GroupContribution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface GroupContributionRepository extends JpaRepository<GroupContribution, Long> {
+
+    /**
+     * 기여 잔량 증감 (음수로 내려가면 0 으로 맞춤)
+     * - 반환값: 1 = 반영, 0 = 행 없음 → insertRow
+     * - 호출자는 해당 (그룹 지갑, 가게) 잔액 행잠금을 이미 보유 → 같은 키의 동시 삽입 없음
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE group_contributions
+               SET amount = CASE WHEN amount + :delta >= 0 THEN amount + :delta ELSE 0 END,
+                   updated_at = :now
+             WHERE group_wallet_id  = :groupWalletId
+               AND member_wallet_id = :memberWalletId
+               AND store_id         = :storeId
+            """, nativeQuery = true)
+    int addAmount(@Param("groupWalletId") Long groupWalletId,
+                  @Param("memberWalletId") Long memberWalletId,
+                  @Param("storeId") Long storeId,
+                  @Param("delta") Long delta,
+                  @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO group_contributions (group_wallet_id, member_wallet_id, store_id, amount, updated_at)
+            VALUES (:groupWalletId, :memberWalletId, :storeId, :amount, :now)
+            """, nativeQuery = true)
+    int insertRow(@Param("groupWalletId") Long groupWalletId,
+                  @Param("memberWalletId") Long memberWalletId,
+                  @Param("storeId") Long storeId,
+                  @Param("amount") Long amount,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 회원이 모임에 남긴 가게별 기여 잔량 (유니크 키 단건 조회)
+     */
+    @Query("""
+        select coalesce(sum(c.amount), 0)
+        from GroupContribution c
+        where c.groupWallet.walletId = :groupWalletId
+          and c.store.storeId = :storeId
+          and c.memberWallet.customer.customerId = :customerId
+          and c.memberWallet.walletType = com.ssafy.keeping.domain.wallet.constant.WalletType.INDIVIDUAL
+    """)
+    long sumByStoreAndCustomer(@Param("groupWalletId") Long groupWalletId,
+                               @Param("storeId") Long storeId,
+                               @Param("customerId") Long customerId);
+
+    /**
+     * 회원이 모임에 남긴 전체 기여 잔량 (가게 수만큼의 인덱스 범위 조회)
+     */
+    @Query("""
+        select coalesce(sum(c.amount), 0)
+        from GroupContribution c
+        where c.groupWallet.walletId = :groupWalletId
+          and c.memberWallet.customer.customerId = :customerId
+          and c.memberWallet.walletType = com.ssafy.keeping.domain.wallet.constant.WalletType.INDIVIDUAL
+    """)
+    long sumByCustomer(@Param("groupWalletId") Long groupWalletId,
+                       @Param("customerId") Long customerId);
+
+    @Query("""
+        select new com.ssafy.keeping.domain.wallet.dto.ContributionSumDto(
+                   c.memberWallet.walletId, c.store.storeId, c.amount)
+        from GroupContribution c
+        where c.groupWallet.walletId = :groupWalletId
+    """)
+    List<ContributionSumDto> findSumsByGroupWalletId(@Param("groupWalletId") Long groupWalletId);
+}
@@ -0,0 +1,253 @@
+package com.ssafy.keeping.domain.wallet.repository;
+
+import com.ssafy.keeping.domain.payment.common.IdUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 모임 공유 포인트 일괄 정산용 JDBC 접근
+ * - 로트/잔액/거래를 로트 단위 엔티티 저장 대신 집합 단위 SQL + JDBC 배치로 처리
+ * - 호출 트랜잭션(JPA)의 커넥션을 그대로 사용하므로 호출 전 flush 필요
+ * - 로트/거래 PK 는 엔티티(@LedgerId)와 같은 발급기(IdUtil.newLedgerId)로 채움 (AUTO_INCREMENT 값과 섞이지 않도록)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShareSettlementJdbcRepository {
+
+    private static final int IN_CHUNK = 1000;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** 정산 대상 그룹 로트 (행잠금 결과) */
+    public record SourceLot(long lotId, long contributorWalletId, long storeId, long originTxId,
+                            long amount, LocalDateTime acquiredAt, LocalDateTime expiredAt) {
+    }
+
+    /** 개인 지갑 쪽 적립 대상 (지갑, 가게, 원천 충전) 합계 */
+    public record DestinationLot(long walletId, long storeId, long originTxId, long amount,
+                                 LocalDateTime acquiredAt, LocalDateTime expiredAt) {
+    }
+
+    /** (지갑, 가게) 잔액 증감 */
+    public record BalanceDelta(long walletId, long storeId, long amount) {
+    }
+
+    /** 공유/회수 거래 1건 */
+    public record TransferRow(long walletId, long relatedWalletId, long customerId, long storeId,
+                              String transactionType, long amount) {
+    }
+
+    /**
+     * 고객ID → 개인 지갑ID
+     */
+    public Map<Long, Long> findIndividualWalletIds(Collection<Long> customerIds) {
+        Map<Long, Long> walletByCustomer = new HashMap<>();
+        for (List<Long> chunk : chunks(customerIds)) {
+            jdbc.query("""
+                    SELECT wallet_id, customer_id
+                      FROM wallets
+                     WHERE customer_id IN (:customerIds)
+                       AND wallet_type = 'INDIVIDUAL'
+                    """, new MapSqlParameterSource("customerIds", chunk),
+                    rs -> { walletByCustomer.put(rs.getLong("customer_id"), rs.getLong("wallet_id")); });
+        }
+        return walletByCustomer;
+    }
+
+    /**
+     * 그룹 지갑에서 기여자별로 남아 있는 ACTIVE 로트 행잠금 조회
+     * - 잠근 행을 그대로 읽어야(current read) 차감량과 적립량이 어긋나지 않음
+     */
+    public List<SourceLot> lockSourceLots(long groupWalletId, Collection<Long> contributorWalletIds) {
+        List<SourceLot> lots = new ArrayList<>();
+        for (List<Long> chunk : chunks(contributorWalletIds)) {
+            lots.addAll(jdbc.query("""
+                    SELECT lot_id, contributor_wallet_id, store_id, origin_charge_tx_id,
+                           amount_remaining, acquired_at, expired_at
+                      FROM wallet_store_lot
+                     WHERE wallet_id = :groupWalletId
+                       AND contributor_wallet_id IN (:contributorWalletIds)
+                       AND lot_status = 'ACTIVE'
+                       AND amount_remaining > 0
+                     ORDER BY lot_id
+                       FOR UPDATE
+                    """, new MapSqlParameterSource()
+                            .addValue("groupWalletId", groupWalletId)
+                            .addValue("contributorWalletIds", chunk),
+                    (rs, i) -> new SourceLot(
+                            rs.getLong("lot_id"),
+                            rs.getLong("contributor_wallet_id"),
+                            rs.getLong("store_id"),
+                            rs.getLong("origin_charge_tx_id"),
+                            rs.getLong("amount_remaining"),
+                            rs.getTimestamp("acquired_at").toLocalDateTime(),
+                            rs.getTimestamp("expired_at").toLocalDateTime())));
+        }
+        return lots;
+    }
+
+    /**
+     * 개인 지갑에 이미 있는 TRANSFER_IN 로트 행잠금 조회
+     * @return "walletId:storeId:originTxId" → lot_id (중복이면 가장 오래된 로트)
+     */
+    public Map<String, Long> lockDestinationLots(Collection<Long> walletIds, Collection<Long> originTxIds) {
+        Map<String, Long> lotByKey = new HashMap<>();
+        if (walletIds.isEmpty() || originTxIds.isEmpty()) return lotByKey;
+        for (List<Long> chunk : chunks(originTxIds)) {
+            jdbc.query("""
+                    SELECT lot_id, wallet_id, store_id, origin_charge_tx_id
+                      FROM wallet_store_lot
+                     WHERE wallet_id IN (:walletIds)
+                       AND origin_charge_tx_id IN (:originTxIds)
+                       AND source_type = 'TRANSFER_IN'
+                     ORDER BY lot_id
+                       FOR UPDATE
+                    """, new MapSqlParameterSource()
+                            .addValue("walletIds", walletIds)
+                            .addValue("originTxIds", chunk),
+                    rs -> {
+                        lotByKey.putIfAbsent(
+                                destinationKey(rs.getLong("wallet_id"), rs.getLong("store_id"),
+                                        rs.getLong("origin_charge_tx_id")),
+                                rs.getLong("lot_id"));
+                    });
+        }
+        return lotByKey;
+    }
+
+    public static String destinationKey(long walletId, long storeId, long originTxId) {
+        return walletId + ":" + storeId + ":" + originTxId;
+    }
+
+    public void addToLots(Map<Long, Long> amountByLotId) {
+        SqlParameterSource[] batch = amountByLotId.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("lotId", e.getKey())
+                        .addValue("amount", e.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate("""
+                UPDATE wallet_store_lot
+                   SET amount_total     = amount_total + :amount,
+                       amount_remaining = amount_remaining + :amount
+                 WHERE lot_id = :lotId
+                """, batch);
+    }
+
+    public void insertTransferInLots(List<DestinationLot> lots, long groupWalletId) {
+        SqlParameterSource[] batch = lots.stream()
+                .map(l -> new MapSqlParameterSource()
+                        .addValue("lotId", IdUtil.newLedgerId())
+                        .addValue("walletId", l.walletId())
+                        .addValue("storeId", l.storeId())
+                        .addValue("amount", l.amount())
+                        .addValue("acquiredAt", Timestamp.valueOf(l.acquiredAt()))
+                        .addValue("expiredAt", Timestamp.valueOf(l.expiredAt()))
+                        .addValue("groupWalletId", groupWalletId)
+                        .addValue("originTxId", l.originTxId()))
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate("""
+                INSERT INTO wallet_store_lot
+                    (lot_id, wallet_id, store_id, amount_total, amount_remaining, acquired_at, expired_at,
+                     source_type, contributor_wallet_id, origin_charge_tx_id, lot_status)
+                VALUES
+                    (:lotId, :walletId, :storeId, :amount, :amount, :acquiredAt, :expiredAt,
+                     'TRANSFER_IN', :groupWalletId, :originTxId, 'ACTIVE')
+                """, batch);
+    }
+
+    /**
+     * 그룹 로트 소진 (잠금은 lockSourceLots 에서 이미 획득)
+     */
+    public int drainLots(List<Long> lotIds) {
+        int updated = 0;
+        for (List<Long> chunk : chunks(lotIds)) {
+            updated += jdbc.update("""
+                    UPDATE wallet_store_lot
+                       SET amount_remaining = 0
+                     WHERE lot_id IN (:lotIds)
+                    """, new MapSqlParameterSource("lotIds", chunk));
+        }
+        return updated;
+    }
+
+    /**
+     * 잔액 차감 (잔액 부족이면 해당 행은 0 반환)
+     */
+    public int[] subtractBalances(List<BalanceDelta> deltas) {
+        return jdbc.batchUpdate("""
+                UPDATE wallet_store_balances
+                   SET balance = balance - :amount
+                 WHERE wallet_id = :walletId
+                   AND store_id  = :storeId
+                   AND balance  >= :amount
+                """, toParams(deltas));
+    }
+
+    /**
+     * 잔액 가산 (행이 없으면 해당 행은 0 반환 → insertBalances)
+     */
+    public int[] addBalances(List<BalanceDelta> deltas) {
+        return jdbc.batchUpdate("""
+                UPDATE wallet_store_balances
+                   SET balance = balance + :amount
+                 WHERE wallet_id = :walletId
+                   AND store_id  = :storeId
+                """, toParams(deltas));
+    }
+
+    public void insertBalances(List<BalanceDelta> deltas, LocalDateTime now) {
+        SqlParameterSource[] batch = Arrays.stream(toParams(deltas))
+                .map(p -> ((MapSqlParameterSource) p).addValue("now", Timestamp.valueOf(now)))
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate("""
+                INSERT INTO wallet_store_balances (wallet_id, store_id, balance, updated_at)
+                VALUES (:walletId, :storeId, :amount, :now)
+                """, batch);
+    }
+
+    public void insertTransfers(List<TransferRow> rows, LocalDateTime now) {
+        SqlParameterSource[] batch = rows.stream()
+                .map(r -> new MapSqlParameterSource()
+                        .addValue("transactionId", IdUtil.newLedgerId())
+                        .addValue("walletId", r.walletId())
+                        .addValue("relatedWalletId", r.relatedWalletId())
+                        .addValue("customerId", r.customerId())
+                        .addValue("storeId", r.storeId())
+                        .addValue("type", r.transactionType())
+                        .addValue("amount", r.amount())
+                        .addValue("now", Timestamp.valueOf(now)))
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate("""
+                INSERT INTO transactions
+                    (transaction_id, wallet_id, related_wallet_id, customer_id, store_id, transaction_type, amount, created_at)
+                VALUES
+                    (:transactionId, :walletId, :relatedWalletId, :customerId, :storeId, :type, :amount, :now)
+                """, batch);
+    }
+
+    private SqlParameterSource[] toParams(List<BalanceDelta> deltas) {
+        return deltas.stream()
+                .map(d -> new MapSqlParameterSource()
+                        .addValue("walletId", d.walletId())
+                        .addValue("storeId", d.storeId())
+                        .addValue("amount", d.amount()))
+                .toArray(SqlParameterSource[]::new);
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> list = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += IN_CHUNK) {
+            chunks.add(list.subList(i, Math.min(i + IN_CHUNK, list.size())));
+        }
+        return chunks;
+    }
+}
@@ -3,11 +3,14 @@ package com.ssafy.keeping.domain.wallet.repository;
 import com.ssafy.keeping.domain.wallet.constant.WalletType;
 import com.ssafy.keeping.domain.user.customer.model.Customer;
 import com.ssafy.keeping.domain.wallet.model.Wallet;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -25,4 +28,27 @@ public interface WalletRepository extends JpaRepository<Wallet, Long> {
     where w.group.groupId=:groupId
     """)
     Optional<Wallet> findByGroupId(@Param("groupId") Long groupId);
+
+    /**
+     * 주어진 지갑 중 그룹 지갑 ID
+     */
+    @Query("""
+    select w.walletId
+    from Wallet w
+    where w.walletId in :walletIds
+      and w.walletType = com.ssafy.keeping.domain.wallet.constant.WalletType.GROUP
+    """)
+    List<Long> findGroupWalletIdsIn(@Param("walletIds") Collection<Long> walletIds);
+
+    /**
+     * 그룹 지갑 ID keyset 페이지 (기여 요약 재계산 순회용)
+     */
+    @Query("""
+    select w.walletId
+    from Wallet w
+    where w.walletType = com.ssafy.keeping.domain.wallet.constant.WalletType.GROUP
+      and w.walletId > :afterWalletId
+    order by w.walletId asc
+    """)
+    List<Long> findGroupWalletIdsAfter(@Param("afterWalletId") Long afterWalletId, Pageable pageable);
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -43,6 +44,18 @@ public interface WalletStoreBalanceRepository extends JpaRepository<WalletStoreB
     """)
     Optional<WalletStoreBalance> lockByWalletIdAndStoreId(@Param("walletId") Long walletId,
                                                           @Param("storeId") Long storeId);
+    /**
+     * 지갑들의 모든 가게 잔액 행잠금 ((wallet_id, store_id) 순으로 잠가 교착 방지)
+     */
+    @Query(value = """
+            SELECT balance_id
+              FROM wallet_store_balances
+             WHERE wallet_id IN (:walletIds)
+             ORDER BY wallet_id, store_id
+               FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> lockIdsByWalletIds(@Param("walletIds") Collection<Long> walletIds);
+
     @Query("""
         select case when count(wb)>0 then true else false end
         from WalletStoreBalance wb
@@ -65,6 +78,19 @@ public interface WalletStoreBalanceRepository extends JpaRepository<WalletStoreB
             """, nativeQuery = true)
     int decrementIfEnough(@Param("walletId") Long walletId, @Param("storeId") Long storeId, @Param("amount") Long amount);
 
+    /**
+     * 로트 만료분 차감 (decrementIfEnough 가 0 건일 때만 사용)
+     * - 잔액이 로트 합계보다 이미 작게 어긋나 있으면 음수 대신 0 으로 맞춤 → 호출부에서 경고 로그 + 보정 건수 집계
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+            UPDATE wallet_store_balances
+               SET balance = CASE WHEN balance >= :amount THEN balance - :amount ELSE 0 END
+             WHERE wallet_id = :walletId
+               AND store_id = :storeId
+            """, nativeQuery = true)
+    int decrementForExpiry(@Param("walletId") Long walletId, @Param("storeId") Long storeId, @Param("amount") Long amount);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
       select b
@@ -1,18 +1,26 @@
 package com.ssafy.keeping.domain.wallet.repository;
 
 import com.ssafy.keeping.domain.wallet.constant.LotSourceType;
+import com.ssafy.keeping.domain.wallet.dto.ContributionSumDto;
+import com.ssafy.keeping.domain.wallet.dto.ExpiredLotKeyDto;
+import com.ssafy.keeping.domain.wallet.dto.ExpiringLotDto;
+import com.ssafy.keeping.domain.wallet.dto.LotCustomerDto;
 import com.ssafy.keeping.domain.wallet.model.WalletStoreLot;
 import com.ssafy.keeping.domain.payment.transactions.model.Transaction;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -106,6 +114,70 @@ public interface WalletStoreLotRepository extends JpaRepository<WalletStoreLot,
     long sumAvailablePoints(@Param("groupWalletId") Long groupWalletId,
                             @Param("memberWalletId") Long memberWalletId);
 
+    /**
+     * 만료 시각이 지났지만 아직 만료 배치가 쓸지 않은 기여 LOT 의 남은 양 (가게 단위)
+     * - 기여 요약은 배치가 쓸 때 차감되므로, 조회 시 이만큼 빼야 지금 회수 가능한 양과 맞음
+     * - 배치 주기(1시간) 안의 로트만 해당되어 (lot_status, expired_at) 인덱스 범위가 작음
+     */
+    @Query("""
+    select coalesce(sum(l.amountRemaining), 0)
+    from WalletStoreLot l
+    where l.wallet.walletId = :groupWalletId
+      and l.store.storeId = :storeId
+      and l.contributorWallet.customer.customerId = :customerId
+      and l.contributorWallet.walletType = com.ssafy.keeping.domain.wallet.constant.WalletType.INDIVIDUAL
+      and l.lotStatus = com.ssafy.keeping.domain.wallet.constant.LotStatus.ACTIVE
+      and l.amountRemaining > 0
+      and l.expiredAt <= :now
+    """)
+    long sumUnsweptExpiredByStoreAndContributor(@Param("groupWalletId") Long groupWalletId,
+                                                @Param("storeId") Long storeId,
+                                                @Param("customerId") Long customerId,
+                                                @Param("now") LocalDateTime now);
+
+    /**
+     * 만료 시각이 지났지만 아직 만료 배치가 쓸지 않은 기여 LOT 의 남은 양 (모임 전체)
+     */
+    @Query("""
+    select coalesce(sum(l.amountRemaining), 0)
+    from WalletStoreLot l
+    where l.wallet.walletId = :groupWalletId
+      and l.contributorWallet.customer.customerId = :customerId
+      and l.contributorWallet.walletType = com.ssafy.keeping.domain.wallet.constant.WalletType.INDIVIDUAL
+      and l.lotStatus = com.ssafy.keeping.domain.wallet.constant.LotStatus.ACTIVE
+      and l.amountRemaining > 0
+      and l.expiredAt <= :now
+    """)
+    long sumUnsweptExpiredByContributor(@Param("groupWalletId") Long groupWalletId,
+                                        @Param("customerId") Long customerId,
+                                        @Param("now") LocalDateTime now);
+
+    /**
+     * 그룹 지갑 ACTIVE LOT 의 (기여 지갑, 가게)별 남은 양 합계 (기여 요약 재계산 기준)
+     */
+    @Query("""
+    select new com.ssafy.keeping.domain.wallet.dto.ContributionSumDto(
+               l.contributorWallet.walletId, l.store.storeId, sum(l.amountRemaining))
+    from WalletStoreLot l
+    where l.wallet.walletId = :groupWalletId
+      and l.contributorWallet is not null
+      and l.lotStatus = com.ssafy.keeping.domain.wallet.constant.LotStatus.ACTIVE
+    group by l.contributorWallet.walletId, l.store.storeId
+    """)
+    List<ContributionSumDto> sumContributionsByGroupWallet(@Param("groupWalletId") Long groupWalletId);
+
+    /**
+     * 그룹 지갑에 기여 LOT 이 하나라도 남아 있는지 (기여 요약 최초 백필 여부 판단)
+     */
+    @Query("""
+    select count(l) > 0
+    from WalletStoreLot l
+    where l.wallet.walletType = com.ssafy.keeping.domain.wallet.constant.WalletType.GROUP
+      and l.contributorWallet is not null
+      and l.lotStatus = com.ssafy.keeping.domain.wallet.constant.LotStatus.ACTIVE
+    """)
+    boolean existsActiveContributedGroupLot();
+
     @Query("""
     select case when count(l) > 0 then true else false end
     from WalletStoreLot l
@@ -140,4 +212,95 @@ public interface WalletStoreLotRepository extends JpaRepository<WalletStoreLot,
             @Param("storeId") Long storeId,
             @Param("customerId") Long customerId,
             @Param("now") LocalDateTime now);
-}
\ No newline at end of file
+
+    /**
+     * 만료 대상 로트 배치 조회 (잠금 없음)
+     * - (lot_status, expired_at) 인덱스를 (expired_at, lot_id) 커서로 keyset 스캔
+     * - 잔액 → LOT 잠금 순서를 지키려고 키만 먼저 읽고, 잠금은 잔액을 잡은 뒤 lockExpiredByIds 로
+     */
+    @Query("""
+        select new com.ssafy.keeping.domain.wallet.dto.ExpiredLotKeyDto(
+            l.lotId, l.wallet.walletId, l.store.storeId, l.expiredAt)
+        from WalletStoreLot l
+        where l.lotStatus = com.ssafy.keeping.domain.wallet.constant.LotStatus.ACTIVE
+          and l.expiredAt <= :now
+          and (l.expiredAt > :afterExpiredAt
+               or (l.expiredAt = :afterExpiredAt and l.lotId > :afterLotId))
+        order by l.expiredAt asc, l.lotId asc
+    """)
+    List<ExpiredLotKeyDto> findExpiredBatch(@Param("now") LocalDateTime now,
+                                            @Param("afterExpiredAt") LocalDateTime afterExpiredAt,
+                                            @Param("afterLotId") Long afterLotId,
+                                            Pageable pageable);
+
+    /**
+     * 만료 대상 로트 행잠금 ((wallet_id, store_id, lot_id) 순, 잔액 잠금 이후에 호출)
+     * - 조회 이후 결제/이동으로 바뀐 로트는 조건을 다시 확인해 제외
+     * - 그래도 다른 트랜잭션이 잡고 있는 로트는 SKIP LOCKED 로 건너뛰고 다음 실행에서 처리
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        select l from WalletStoreLot l
+        where l.lotId in :lotIds
+          and l.lotStatus = com.ssafy.keeping.domain.wallet.constant.LotStatus.ACTIVE
+          and l.expiredAt <= :now
+        order by l.wallet.walletId asc, l.store.storeId asc, l.lotId asc
+    """)
+    List<WalletStoreLot> lockExpiredByIds(@Param("lotIds") Collection<Long> lotIds,
+                                          @Param("now") LocalDateTime now);
+
+    @Query("""
+        select new com.ssafy.keeping.domain.wallet.dto.LotCustomerDto(l.lotId, t.customer.customerId)
+        from WalletStoreLot l
+        join l.originChargeTransaction t
+        where l.lotId in :lotIds
+    """)
+    List<LotCustomerDto> findOriginCustomers(@Param("lotIds") Collection<Long> lotIds);
+
+    /**
+     * 만료 처리: 남은 양 0 + EXPIRED (호출 트랜잭션이 행잠금을 잡고 있어야 함)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update WalletStoreLot l
+           set l.lotStatus = com.ssafy.keeping.domain.wallet.constant.LotStatus.EXPIRED,
+               l.amountRemaining = 0
+         where l.lotId in :lotIds
+           and l.lotStatus = com.ssafy.keeping.domain.wallet.constant.LotStatus.ACTIVE
+    """)
+    int markExpired(@Param("lotIds") Collection<Long> lotIds);
+
+    /**
+     * 만료 예정 알림 대상 (잠금 없음, keyset)
+     */
+    @Query("""
+        select new com.ssafy.keeping.domain.wallet.dto.ExpiringLotDto(
+            l.lotId, t.customer.customerId, s.storeId, s.storeName, l.amountRemaining, l.expiredAt)
+        from WalletStoreLot l
+        join l.originChargeTransaction t
+        join l.store s
+        where l.lotStatus = com.ssafy.keeping.domain.wallet.constant.LotStatus.ACTIVE
+          and l.expiredAt > :now
+          and l.expiredAt <= :until
+          and l.amountRemaining > 0
+          and l.expiryNotifiedAt is null
+          and (l.expiredAt > :afterExpiredAt
+               or (l.expiredAt = :afterExpiredAt and l.lotId > :afterLotId))
+        order by l.expiredAt asc, l.lotId asc
+    """)
+    List<ExpiringLotDto> findExpiringBatch(@Param("now") LocalDateTime now,
+                                           @Param("until") LocalDateTime until,
+                                           @Param("afterExpiredAt") LocalDateTime afterExpiredAt,
+                                           @Param("afterLotId") Long afterLotId,
+                                           Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update WalletStoreLot l
+           set l.expiryNotifiedAt = :notifiedAt
+         where l.lotId in :lotIds
+    """)
+    int markExpiryNotified(@Param("lotIds") Collection<Long> lotIds,
+                           @Param("notifiedAt") LocalDateTime notifiedAt);
+}
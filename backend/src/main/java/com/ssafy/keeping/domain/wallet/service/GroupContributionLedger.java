@@ -0,0 +1,135 @@
+package com.ssafy.keeping.domain.wallet.service;
+
+import com.ssafy.keeping.domain.wallet.dto.ContributionSumDto;
+import com.ssafy.keeping.domain.wallet.model.WalletStoreLot;
+import com.ssafy.keeping.domain.wallet.repository.GroupContributionRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletStoreLotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 모임 기여 요약(group_contributions) 갱신/재계산
+ * - 그룹 LOT 의 남은 양이 바뀌는 모든 경로가 같은 트랜잭션에서 apply 로 증감 반영
+ * - 호출자는 (그룹 지갑, 가게) 잔액 행잠금을 보유한 상태 (WalletTransferCoordinator 잠금 순서)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupContributionLedger {
+
+    private final GroupContributionRepository contributionRepository;
+    private final WalletRepository walletRepository;
+    private final WalletStoreLotRepository lotRepository;
+    private final Clock clock;
+
+    /** (그룹 지갑, 기여 지갑, 가게) */
+    public record Key(long groupWalletId, long memberWalletId, long storeId) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key o) {
+            int c = Long.compare(groupWalletId, o.groupWalletId);
+            if (c != 0) return c;
+            c = Long.compare(memberWalletId, o.memberWalletId);
+            return c != 0 ? c : Long.compare(storeId, o.storeId);
+        }
+    }
+
+    /** LOT 한 건의 남은 양 변화 (지갑 종류를 모를 때) */
+    public record LotDelta(Long walletId, Long contributorWalletId, Long storeId, long delta) {
+        // 연관 엔티티는 프록시 식별자만 읽음: 벌크 갱신으로 분리된 LOT 이어도 안전
+        public static LotDelta of(WalletStoreLot lot, long delta) {
+            return new LotDelta(lot.getWallet().getWalletId(),
+                    lot.getContributorWallet() == null ? null : lot.getContributorWallet().getWalletId(),
+                    lot.getStore().getStoreId(), delta);
+        }
+    }
+
+    public record ReconcileResult(long groupWalletId, int rows, int drifted, long driftAmount) {
+    }
+
+    /**
+     * 키별 증감 반영 (키 순서로 갱신, 행이 없으면 생성)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Map<Key, Long> deltas) {
+        if (deltas.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (Map.Entry<Key, Long> e : new TreeMap<>(deltas).entrySet()) {
+            long delta = e.getValue();
+            if (delta == 0L) continue;
+            Key k = e.getKey();
+            int updated = contributionRepository.addAmount(k.groupWalletId(), k.memberWalletId(), k.storeId(), delta, now);
+            if (updated == 1) continue;
+            if (delta > 0) {
+                contributionRepository.insertRow(k.groupWalletId(), k.memberWalletId(), k.storeId(), delta, now);
+            } else {
+                // 요약 행 없이 차감: 재계산 전 데이터 등 → 재계산 작업이 LOT 기준으로 맞춤
+                log.warn("모임 기여 요약 행 없음 - 그룹지갑: {}, 회원지갑: {}, 가게: {}, 증감: {}",
+                        k.groupWalletId(), k.memberWalletId(), k.storeId(), delta);
+            }
+        }
+    }
+
+    /**
+     * LOT 변화분 중 그룹 지갑 기여 LOT 만 골라 반영 (결제/환불/만료처럼 지갑 종류가 섞이는 경로)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyLotDeltas(Collection<LotDelta> lotDeltas) {
+        List<LotDelta> contributed = lotDeltas.stream()
+                .filter(d -> d.contributorWalletId() != null && d.delta() != 0L)
+                .toList();
+        if (contributed.isEmpty()) return;
+
+        Set<Long> walletIds = new HashSet<>();
+        contributed.forEach(d -> walletIds.add(d.walletId()));
+        Set<Long> groupWalletIds = new HashSet<>(walletRepository.findGroupWalletIdsIn(walletIds));
+        if (groupWalletIds.isEmpty()) return;
+
+        Map<Key, Long> deltas = new TreeMap<>();
+        for (LotDelta d : contributed) {
+            if (!groupWalletIds.contains(d.walletId())) continue;
+            deltas.merge(new Key(d.walletId(), d.contributorWalletId(), d.storeId()), d.delta(), Long::sum);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * 그룹 지갑 하나의 기여 요약을 LOT 기준으로 다시 맞춤
+     * - 호출자가 그룹 지갑 잔액 행들을 잠근 상태에서 실행해야 진행 중인 이동과 엇갈리지 않음
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ReconcileResult reconcile(long groupWalletId) {
+        Map<Key, Long> expected = new HashMap<>();
+        for (ContributionSumDto row : lotRepository.sumContributionsByGroupWallet(groupWalletId)) {
+            expected.put(new Key(groupWalletId, row.memberWalletId(), row.storeId()), row.amount());
+        }
+        Map<Key, Long> actual = new HashMap<>();
+        for (ContributionSumDto row : contributionRepository.findSumsByGroupWalletId(groupWalletId)) {
+            actual.put(new Key(groupWalletId, row.memberWalletId(), row.storeId()), row.amount());
+        }
+
+        Map<Key, Long> diffs = new TreeMap<>();
+        Set<Key> keys = new HashSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+        long driftAmount = 0L;
+        for (Key k : keys) {
+            long diff = expected.getOrDefault(k, 0L) - actual.getOrDefault(k, 0L);
+            if (diff == 0L) continue;
+            diffs.put(k, diff);
+            driftAmount += Math.abs(diff);
+        }
+        if (!diffs.isEmpty()) {
+            log.warn("모임 기여 요약 보정 - 그룹지갑: {}, 어긋난 행: {}건, 차이 합계: {}",
+                    groupWalletId, diffs.size(), driftAmount);
+            apply(diffs);
+        }
+        return new ReconcileResult(groupWalletId, keys.size(), diffs.size(), driftAmount);
+    }
+}
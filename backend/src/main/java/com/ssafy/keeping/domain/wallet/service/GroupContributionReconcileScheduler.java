@@ -0,0 +1,119 @@
+package com.ssafy.keeping.domain.wallet.service;
+
+import com.ssafy.keeping.domain.wallet.repository.GroupContributionRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletStoreLotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 모임 기여 요약 재계산 스케줄러
+ * - 그룹 지갑을 walletId keyset 으로 순회하며 지갑마다 별도 트랜잭션에서 LOT 기준으로 보정
+ * - 그룹 지갑 잔액 행을 먼저 잠가 공유/회수/결제와 같은 잠금 순서를 따름
+ * - 최초 배포 시 기존 LOT 으로 요약을 채우는 용도(rebuild)로도 그대로 사용
+ * - 기동 시 요약 테이블이 비어 있는데 기여 LOT 이 있으면 한 번 전체 재계산 (keeping.sql 백필을 건너뛴 환경 대비)
+ */
+@Service
+@Slf4j
+public class GroupContributionReconcileScheduler {
+
+    private final WalletRepository walletRepository;
+    private final WalletStoreLotRepository lotRepository;
+    private final GroupContributionRepository contributionRepository;
+    private final GroupContributionLedger contributionLedger;
+    private final WalletTransferCoordinator transferCoordinator;
+    private final int batchSize;
+    private final long maxRunMs;
+    private final boolean backfillOnStartup;
+
+    public GroupContributionReconcileScheduler(WalletRepository walletRepository,
+                                               WalletStoreLotRepository lotRepository,
+                                               GroupContributionRepository contributionRepository,
+                                               GroupContributionLedger contributionLedger,
+                                               WalletTransferCoordinator transferCoordinator,
+                                               @Value("${wallet.contribution.reconcile.batch-size:500}") int batchSize,
+                                               @Value("${wallet.contribution.reconcile.max-run-ms:1800000}") long maxRunMs,
+                                               @Value("${wallet.contribution.backfill-on-startup:true}") boolean backfillOnStartup) {
+        this.walletRepository = walletRepository;
+        this.lotRepository = lotRepository;
+        this.contributionRepository = contributionRepository;
+        this.contributionLedger = contributionLedger;
+        this.transferCoordinator = transferCoordinator;
+        this.batchSize = batchSize;
+        this.maxRunMs = maxRunMs;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    public record RunStats(int wallets, int drifted, long driftAmount, int failed, long elapsedMs) {
+    }
+
+    /**
+     * 요약 테이블이 비어 있으면 조회가 전부 0 으로 나가므로 기동 직후 LOT 기준으로 채움
+     * @return 백필을 실행했으면 그 결과, 필요 없으면 null
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public RunStats backfillIfEmpty() {
+        if (!backfillOnStartup) return null;
+        if (contributionRepository.count() > 0 || !lotRepository.existsActiveContributedGroupLot()) return null;
+        log.warn("모임 기여 요약이 비어 있음 - 기존 LOT 기준으로 백필 시작");
+        return reconcileAll();
+    }
+
+    /**
+     * 매일 04:30
+     */
+    @Scheduled(cron = "${wallet.contribution.reconcile.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        reconcileAll();
+    }
+
+    public RunStats reconcileAll() {
+        long started = System.currentTimeMillis();
+        long cursor = 0L;
+        int wallets = 0, drifted = 0, failed = 0;
+        long driftAmount = 0L;
+
+        while (true) {
+            List<Long> ids = walletRepository.findGroupWalletIdsAfter(cursor, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) break;
+
+            for (Long groupWalletId : ids) {
+                try {
+                    GroupContributionLedger.ReconcileResult r = reconcile(groupWalletId);
+                    drifted += r.drifted();
+                    driftAmount += r.driftAmount();
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("모임 기여 요약 재계산 실패 - 그룹지갑: {}, 오류: {}", groupWalletId, e.getMessage());
+                }
+                wallets++;
+            }
+            cursor = ids.get(ids.size() - 1);
+
+            if (ids.size() < batchSize) break;
+            if (System.currentTimeMillis() - started > maxRunMs) {
+                log.warn("모임 기여 요약 재계산 시간 초과로 중단 - 처리: {}개, 마지막 그룹지갑: {}", wallets, cursor);
+                break;
+            }
+        }
+
+        RunStats stats = new RunStats(wallets, drifted, driftAmount, failed, System.currentTimeMillis() - started);
+        log.info("모임 기여 요약 재계산 완료 - 그룹지갑: {}개, 보정 행: {}건, 차이 합계: {}, 실패: {}, 소요: {}ms",
+                stats.wallets(), stats.drifted(), stats.driftAmount(), stats.failed(), stats.elapsedMs());
+        return stats;
+    }
+
+    public GroupContributionLedger.ReconcileResult reconcile(long groupWalletId) {
+        return transferCoordinator.execute("contribution-reconcile", () -> {
+            transferCoordinator.lockWalletBalances(List.of(groupWalletId));
+            return contributionLedger.reconcile(groupWalletId);
+        });
+    }
+}
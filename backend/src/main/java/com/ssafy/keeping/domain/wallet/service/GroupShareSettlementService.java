@@ -0,0 +1,188 @@
+package com.ssafy.keeping.domain.wallet.service;
+
+import com.ssafy.keeping.domain.payment.transactions.constant.TransactionType;
+import com.ssafy.keeping.domain.wallet.repository.ShareSettlementJdbcRepository;
+import com.ssafy.keeping.domain.wallet.repository.ShareSettlementJdbcRepository.BalanceDelta;
+import com.ssafy.keeping.domain.wallet.repository.ShareSettlementJdbcRepository.DestinationLot;
+import com.ssafy.keeping.domain.wallet.repository.ShareSettlementJdbcRepository.SourceLot;
+import com.ssafy.keeping.domain.wallet.repository.ShareSettlementJdbcRepository.TransferRow;
+import com.ssafy.keeping.global.exception.CustomException;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 모임 공유 포인트 일괄 정산 (탈퇴/내보내기/해체)
+ * - 기여 로트를 한 번에 잠그고 (회원, 가게, 원천충전) 단위로 합산해 개인 로트에 적립
+ * - 공유/회수 거래는 로트마다가 아니라 (회원, 가게)마다 1쌍
+ * - 모든 쓰기는 JDBC 배치: 로트 수와 무관하게 문장 수가 배치 몇 개로 고정
+ * - 잠금 순서는 공유/회수와 같게 잔액 (walletId, storeId) → 로트
+ * - 개인 지갑이 없는 회원은 정산할 수 없으므로 건너뛰되 결과(skippedMembers)와 경고 로그로 남김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupShareSettlementService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ShareSettlementJdbcRepository settlementRepository;
+    private final WalletTransferCoordinator transferCoordinator;
+    private final GroupContributionLedger contributionLedger;
+    private final Clock clock;
+
+    // 개인 지갑이 없어 정산에서 제외된 회원 누적 수
+    private final LongAdder skippedTotal = new LongAdder();
+
+    public record SettlementResult(Map<Long, Long> refundedByMember, int sourceLots,
+                                   int destinationLotsUpdated, int destinationLotsInserted,
+                                   int transactions, List<Long> skippedMembers) {
+        public long totalRefunded() {
+            return refundedByMember.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    // (개인 지갑, 가게)
+    private record PairKey(long walletId, long storeId) implements Comparable<PairKey> {
+        @Override
+        public int compareTo(PairKey o) {
+            int c = Long.compare(walletId, o.walletId);
+            return c != 0 ? c : Long.compare(storeId, o.storeId);
+        }
+    }
+
+    /**
+     * 그룹 지갑에 남은 회원들의 기여분을 각자의 개인 지갑으로 돌려줌
+     * @return 회원별 환급액 (memberIds 순서, 기여분 없으면 0)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public SettlementResult settle(long groupWalletId, List<Long> memberIds) {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        Map<Long, Long> refunded = new LinkedHashMap<>();
+        memberIds.forEach(id -> refunded.put(id, 0L));
+        if (memberIds.isEmpty()) return new SettlementResult(refunded, 0, 0, 0, 0, List.of());
+
+        // 앞선 JPA 변경분을 먼저 반영해야 JDBC 가 같은 상태를 봄
+        entityManager.flush();
+
+        Map<Long, Long> walletByCustomer = settlementRepository.findIndividualWalletIds(memberIds);
+        Map<Long, Long> customerByWallet = new HashMap<>();
+        walletByCustomer.forEach((customerId, walletId) -> customerByWallet.put(walletId, customerId));
+
+        List<Long> skipped = memberIds.stream().filter(id -> !walletByCustomer.containsKey(id)).toList();
+        if (!skipped.isEmpty()) {
+            skippedTotal.add(skipped.size());
+            log.warn("모임 정산 제외 - 개인 지갑 없음, 그룹지갑: {}, 회원: {}", groupWalletId, skipped);
+        }
+
+        // 0. 그룹/회원 지갑 잔액을 먼저 잠금: 공유/회수(잔액 → 로트)와 교차 대기 방지
+        Set<Long> walletIds = new TreeSet<>(customerByWallet.keySet());
+        walletIds.add(groupWalletId);
+        transferCoordinator.lockWalletBalances(walletIds);
+
+        List<SourceLot> sources = settlementRepository.lockSourceLots(groupWalletId, customerByWallet.keySet());
+        if (sources.isEmpty()) return new SettlementResult(refunded, 0, 0, 0, 0, skipped);
+
+        // 1. (개인 지갑, 가게, 원천충전) 합계 / (개인 지갑, 가게) 합계
+        Map<String, DestinationLot> destinations = new LinkedHashMap<>();
+        Map<PairKey, Long> pairTotals = new TreeMap<>();
+        for (SourceLot s : sources) {
+            String key = ShareSettlementJdbcRepository.destinationKey(s.contributorWalletId(), s.storeId(), s.originTxId());
+            destinations.merge(key,
+                    new DestinationLot(s.contributorWalletId(), s.storeId(), s.originTxId(), s.amount(),
+                            s.acquiredAt(), s.expiredAt()),
+                    (a, b) -> new DestinationLot(a.walletId(), a.storeId(), a.originTxId(), a.amount() + b.amount(),
+                            min(a.acquiredAt(), b.acquiredAt()), min(a.expiredAt(), b.expiredAt())));
+            pairTotals.merge(new PairKey(s.contributorWalletId(), s.storeId()), s.amount(), Long::sum);
+        }
+
+        // 2. 그룹 잔액 차감 (가게별 합계, 가게 순)
+        Map<Long, Long> groupByStore = new TreeMap<>();
+        pairTotals.forEach((pair, amount) -> groupByStore.merge(pair.storeId(), amount, Long::sum));
+        List<BalanceDelta> groupDeltas = groupByStore.entrySet().stream()
+                .map(e -> new BalanceDelta(groupWalletId, e.getKey(), e.getValue()))
+                .toList();
+        int[] subtracted = settlementRepository.subtractBalances(groupDeltas);
+        for (int i = 0; i < subtracted.length; i++) {
+            if (subtracted[i] != 1) {
+                log.warn("모임 정산 잔액 불일치 - 그룹지갑: {}, 가게: {}, 차감액: {}",
+                        groupWalletId, groupDeltas.get(i).storeId(), groupDeltas.get(i).amount());
+                throw new CustomException(ErrorCode.INCONSISTENT_STATE);
+            }
+        }
+
+        // 3. 그룹 로트 소진
+        settlementRepository.drainLots(sources.stream().map(SourceLot::lotId).toList());
+        Map<GroupContributionLedger.Key, Long> contributions = new HashMap<>();
+        pairTotals.forEach((pair, amount) -> contributions.put(
+                new GroupContributionLedger.Key(groupWalletId, pair.walletId(), pair.storeId()), -amount));
+        contributionLedger.apply(contributions);
+
+        // 4. 개인 로트 적립: 있으면 가산, 없으면 생성
+        Set<Long> originTxIds = new HashSet<>();
+        sources.forEach(s -> originTxIds.add(s.originTxId()));
+        Map<String, Long> existing = settlementRepository.lockDestinationLots(customerByWallet.keySet(), originTxIds);
+
+        Map<Long, Long> addByLotId = new HashMap<>();
+        List<DestinationLot> inserts = new ArrayList<>();
+        destinations.forEach((key, dest) -> {
+            Long lotId = existing.get(key);
+            if (lotId != null) addByLotId.merge(lotId, dest.amount(), Long::sum);
+            else inserts.add(dest);
+        });
+        if (!addByLotId.isEmpty()) settlementRepository.addToLots(addByLotId);
+        if (!inserts.isEmpty()) settlementRepository.insertTransferInLots(inserts, groupWalletId);
+
+        // 5. 개인 잔액 가산 (없는 행은 생성)
+        List<BalanceDelta> individualDeltas = pairTotals.entrySet().stream()
+                .map(e -> new BalanceDelta(e.getKey().walletId(), e.getKey().storeId(), e.getValue()))
+                .toList();
+        int[] added = settlementRepository.addBalances(individualDeltas);
+        List<BalanceDelta> missing = new ArrayList<>();
+        for (int i = 0; i < added.length; i++) {
+            if (added[i] == 0) missing.add(individualDeltas.get(i));
+        }
+        if (!missing.isEmpty()) settlementRepository.insertBalances(missing, now);
+
+        // 6. 거래 기록: (회원, 가게)마다 TRANSFER_IN/OUT 1쌍
+        List<TransferRow> transfers = new ArrayList<>(pairTotals.size() * 2);
+        pairTotals.forEach((pair, amount) -> {
+            long customerId = customerByWallet.get(pair.walletId());
+            transfers.add(new TransferRow(pair.walletId(), groupWalletId, customerId, pair.storeId(),
+                    TransactionType.TRANSFER_IN.name(), amount));
+            transfers.add(new TransferRow(groupWalletId, pair.walletId(), customerId, pair.storeId(),
+                    TransactionType.TRANSFER_OUT.name(), amount));
+            refunded.merge(customerId, amount, Long::sum);
+        });
+        settlementRepository.insertTransfers(transfers, now);
+
+        SettlementResult result = new SettlementResult(refunded, sources.size(),
+                addByLotId.size(), inserts.size(), transfers.size(), skipped);
+        log.info("모임 공유 포인트 정산 - 그룹지갑: {}, 회원: {}명(제외 {}명), 로트: {}건, 적립로트 가산/생성: {}/{}, 거래: {}건, 환급: {}, 소요: {}ms",
+                groupWalletId, memberIds.size(), skipped.size(), result.sourceLots(), result.destinationLotsUpdated(),
+                result.destinationLotsInserted(), result.transactions(), result.totalRefunded(),
+                System.currentTimeMillis() - started);
+        return result;
+    }
+
+    public long skippedMembersTotal() {
+        return skippedTotal.sum();
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,166 @@
+package com.ssafy.keeping.domain.wallet.service;
+
+import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import com.ssafy.keeping.domain.notification.service.NotificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포인트 로트 만료 스케줄러
+ * 1. 만료 예정 알림: notice-days 안에 만료될 로트를 고객/가게별로 묶어 1회 알림
+ * 2. 만료 처리: 만료된 로트를 keyset 배치로 EXPIRED 전환 + 잔액 차감
+ * 배치마다 별도 트랜잭션이라 여러 노드가 동시에 돌아도 SKIP LOCKED 로 서로 다른 로트를 처리
+ */
+@Service
+@Slf4j
+public class LotExpiryScheduler {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final LotExpiryService lotExpiryService;
+    private final NotificationService notificationService;
+    private final Clock clock;
+    private final int batchSize;
+    private final int noticeDays;
+    private final long maxRunMs;
+
+    // 잔액 부족으로 0 보정한 누적 건수 (잔액/로트 합계 어긋남 추적)
+    private final LongAdder clampedTotal = new LongAdder();
+
+    public LotExpiryScheduler(LotExpiryService lotExpiryService,
+                              NotificationService notificationService,
+                              Clock clock,
+                              @Value("${wallet.lot-expiry.batch-size:1000}") int batchSize,
+                              @Value("${wallet.lot-expiry.notice-days:7}") int noticeDays,
+                              @Value("${wallet.lot-expiry.max-run-ms:600000}") long maxRunMs) {
+        this.lotExpiryService = lotExpiryService;
+        this.notificationService = notificationService;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.noticeDays = noticeDays;
+        this.maxRunMs = maxRunMs;
+    }
+
+    /**
+     * @param clampedBalances 잔액 부족으로 0 으로 보정한 (지갑, 가게) 수 (만료 처리에서만 사용)
+     */
+    public record RunStats(int lots, long points, int balances, int clampedBalances, int batches, long elapsedMs) {
+        public double rowsPerSecond() {
+            return elapsedMs == 0 ? lots : lots * 1000.0 / elapsedMs;
+        }
+    }
+
+    /**
+     * 매시 5분: 만료 예정 알림 → 만료 처리
+     */
+    @Scheduled(cron = "${wallet.lot-expiry.cron:0 5 * * * *}", zone = "Asia/Seoul")
+    public void run() {
+        notifyExpiring();
+        expire();
+    }
+
+    public RunStats expire() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        long started = System.currentTimeMillis();
+
+        LocalDateTime cursorAt = LotExpiryService.CURSOR_START;
+        Long cursorId = 0L;
+        int lots = 0, balances = 0, clamped = 0, batches = 0;
+        long points = 0L;
+
+        while (true) {
+            LotExpiryService.ExpireBatch batch;
+            try {
+                batch = lotExpiryService.expireBatch(now, cursorAt, cursorId, batchSize);
+            } catch (Exception e) {
+                // 데드락/잠금 타임아웃 등 → 해당 배치는 롤백, 다음 실행에서 다시 처리
+                log.warn("로트 만료 배치 실패, 이번 실행 중단 - 커서: ({}, {}), 오류: {}", cursorAt, cursorId, e.getMessage());
+                break;
+            }
+            if (batch.scanned() == 0) break;
+
+            batches++;
+            lots += batch.lots();
+            points += batch.points();
+            balances += batch.balances();
+            clamped += batch.clampedBalances();
+            cursorAt = batch.lastExpiredAt();
+            cursorId = batch.lastLotId();
+
+            if (batch.scanned() < batchSize) break;
+            if (System.currentTimeMillis() - started > maxRunMs) {
+                log.warn("로트 만료 실행 시간 초과로 중단 - 처리: {}건, 남은 로트는 다음 실행에서 처리", lots);
+                break;
+            }
+        }
+
+        RunStats stats = new RunStats(lots, points, balances, clamped, batches, System.currentTimeMillis() - started);
+        clampedTotal.add(clamped);
+        if (stats.lots() > 0) {
+            log.info("로트 만료 완료 - 로트: {}건, 소멸 포인트: {}, 잔액 조정: {}건, 0 보정: {}건, 배치: {}, 소요: {}ms, 처리량: {} rows/s",
+                    stats.lots(), stats.points(), stats.balances(), stats.clampedBalances(), stats.batches(), stats.elapsedMs(),
+                    String.format("%.1f", stats.rowsPerSecond()));
+        }
+        if (clamped > 0) {
+            log.warn("로트 만료 중 잔액/로트 합계 불일치 {}건 (누적 {}건) - 잔액 대사 필요", clamped, clampedTotal.sum());
+        }
+        return stats;
+    }
+
+    public long clampedBalancesTotal() {
+        return clampedTotal.sum();
+    }
+
+    public RunStats notifyExpiring() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime until = now.plusDays(noticeDays);
+        long started = System.currentTimeMillis();
+
+        LocalDateTime cursorAt = LotExpiryService.CURSOR_START;
+        Long cursorId = 0L;
+        int lots = 0, notices = 0, batches = 0;
+        long points = 0L;
+
+        while (true) {
+            LotExpiryService.NoticeBatch batch;
+            try {
+                batch = lotExpiryService.claimExpiryNotices(now, until, cursorAt, cursorId, batchSize);
+            } catch (Exception e) {
+                log.warn("만료 예정 알림 배치 실패, 이번 실행 중단 - 오류: {}", e.getMessage());
+                break;
+            }
+            if (batch.lots() == 0) break;
+
+            // 선점 커밋 후 발송 (sendToCustomer 는 자체 트랜잭션)
+            for (LotExpiryService.Notice n : batch.notices()) {
+                notificationService.sendToCustomer(n.customerId(), NotificationType.POINT_EXPIRING,
+                        String.format("%s 포인트 %,d원이 %s부터 만료됩니다.",
+                                n.storeName(), n.points(), n.firstExpiredAt().format(DATE)));
+                points += n.points();
+            }
+
+            batches++;
+            lots += batch.lots();
+            notices += batch.notices().size();
+            cursorAt = batch.lastExpiredAt();
+            cursorId = batch.lastLotId();
+
+            if (batch.lots() < batchSize) break;
+            if (System.currentTimeMillis() - started > maxRunMs) break;
+        }
+
+        RunStats stats = new RunStats(lots, points, notices, 0, batches, System.currentTimeMillis() - started);
+        if (stats.lots() > 0) {
+            log.info("만료 예정 알림 완료 - 로트: {}건, 알림: {}건, 대상 포인트: {}, 소요: {}ms",
+                    stats.lots(), notices, stats.points(), stats.elapsedMs());
+        }
+        return stats;
+    }
+}
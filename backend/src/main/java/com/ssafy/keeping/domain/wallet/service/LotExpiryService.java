@@ -0,0 +1,198 @@
+package com.ssafy.keeping.domain.wallet.service;
+
+import com.ssafy.keeping.domain.payment.transactions.constant.TransactionType;
+import com.ssafy.keeping.domain.payment.transactions.model.Transaction;
+import com.ssafy.keeping.domain.payment.transactions.repository.TransactionRepository;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
+import com.ssafy.keeping.domain.wallet.dto.ExpiredLotKeyDto;
+import com.ssafy.keeping.domain.wallet.dto.ExpiringLotDto;
+import com.ssafy.keeping.domain.wallet.dto.LotCustomerDto;
+import com.ssafy.keeping.domain.wallet.model.WalletLotMove;
+import com.ssafy.keeping.domain.wallet.model.WalletStoreLot;
+import com.ssafy.keeping.domain.wallet.repository.WalletLotMoveRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletStoreBalanceRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletStoreLotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 로트 만료 배치 단위 처리
+ * - 배치 하나가 트랜잭션 하나 → 잠금은 배치 크기만큼만, 짧게 유지
+ * - 반복/커서 진행/통계는 LotExpiryScheduler 가 담당
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LotExpiryService {
+
+    /** keyset 커서 시작값 */
+    public static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final WalletStoreLotRepository lotRepository;
+    private final WalletStoreBalanceRepository balanceRepository;
+    private final WalletLotMoveRepository lotMoveRepository;
+    private final TransactionRepository txRepository;
+    private final CustomerRepository customerRepository;
+    private final GroupContributionLedger contributionLedger;
+    private final WalletTransferCoordinator transferCoordinator;
+
+    /**
+     * @param scanned 커서로 읽은 로트 수 (잠그는 사이 바뀌어 빠진 로트 포함) — 배치 반복 종료 판단용
+     * @param clampedBalances 잔액이 만료분보다 작아 0 으로 맞춘 (지갑, 가게) 수 — 0 이 아니면 잔액/로트 합계가 어긋나 있음
+     */
+    public record ExpireBatch(int scanned, int lots, long points, int balances, int clampedBalances,
+                              LocalDateTime lastExpiredAt, Long lastLotId) {
+    }
+
+    public record Notice(Long customerId, Long storeId, String storeName,
+                         long points, LocalDateTime firstExpiredAt) {
+    }
+
+    public record NoticeBatch(int lots, List<Notice> notices,
+                              LocalDateTime lastExpiredAt, Long lastLotId) {
+    }
+
+    // 만료 거래 귀속 단위: (지갑, 가게, 원천 충전 고객)
+    private record ExpiryKey(Long walletId, Long storeId, Long customerId) {
+    }
+
+    // 잔액 조정 단위: (지갑, 가게) - 잔액 행은 이미 잠겨 있고, 갱신도 같은 순서로
+    private record BalanceKey(Long walletId, Long storeId) implements Comparable<BalanceKey> {
+        @Override
+        public int compareTo(BalanceKey o) {
+            int c = walletId.compareTo(o.walletId);
+            return c != 0 ? c : storeId.compareTo(o.storeId);
+        }
+    }
+
+    /**
+     * 커서 이후 만료된 ACTIVE 로트를 최대 batchSize 개 만료 처리
+     * - 잠금 순서는 결제/공유/정산과 같은 잔액 → LOT: 로트 키를 잠금 없이 읽고,
+     *   해당 지갑 잔액을 WalletTransferCoordinator 로 정렬 잠금한 뒤 로트를 다시 읽으며 잠금
+     * - 남은 양이 있는 로트: (지갑, 가게, 고객)별 EXPIRE 거래 1건 + 로트별 음수 WalletLotMove
+     * - 잔액은 (지갑, 가게)별 합계로 한 번씩만 차감
+     */
+    @Transactional
+    public ExpireBatch expireBatch(LocalDateTime now, LocalDateTime afterExpiredAt, Long afterLotId, int batchSize) {
+        List<ExpiredLotKeyDto> keys = lotRepository.findExpiredBatch(
+                now, afterExpiredAt, afterLotId, PageRequest.of(0, batchSize));
+        if (keys.isEmpty()) {
+            return new ExpireBatch(0, 0, 0L, 0, 0, afterExpiredAt, afterLotId);
+        }
+        // 커서는 읽은 키 기준 - 잠그는 사이 빠진 로트는 다음 실행에서 다시 확인
+        ExpiredLotKeyDto last = keys.get(keys.size() - 1);
+
+        transferCoordinator.lockWalletBalances(keys.stream().map(ExpiredLotKeyDto::walletId).toList());
+        List<WalletStoreLot> lots = lotRepository.lockExpiredByIds(
+                keys.stream().map(ExpiredLotKeyDto::lotId).toList(), now);
+        if (lots.isEmpty()) {
+            return new ExpireBatch(keys.size(), 0, 0L, 0, 0, last.expiredAt(), last.lotId());
+        }
+
+        List<WalletStoreLot> remaining = lots.stream()
+                .filter(l -> l.getAmountRemaining() != null && l.getAmountRemaining() > 0L)
+                .toList();
+
+        Map<Long, Long> customerByLot = remaining.isEmpty() ? Map.of()
+                : lotRepository.findOriginCustomers(remaining.stream().map(WalletStoreLot::getLotId).toList())
+                        .stream()
+                        .collect(Collectors.toMap(LotCustomerDto::lotId, LotCustomerDto::customerId));
+
+        Map<ExpiryKey, List<WalletStoreLot>> byExpiryKey = new LinkedHashMap<>();
+        for (WalletStoreLot lot : remaining) {
+            ExpiryKey key = new ExpiryKey(lot.getWallet().getWalletId(), lot.getStore().getStoreId(),
+                    customerByLot.get(lot.getLotId()));
+            byExpiryKey.computeIfAbsent(key, k -> new ArrayList<>()).add(lot);
+        }
+
+        List<WalletLotMove> moves = new ArrayList<>(remaining.size());
+        Map<BalanceKey, Long> expiredByBalance = new TreeMap<>();
+        long points = 0L;
+
+        for (Map.Entry<ExpiryKey, List<WalletStoreLot>> e : byExpiryKey.entrySet()) {
+            ExpiryKey key = e.getKey();
+            List<WalletStoreLot> group = e.getValue();
+            long amount = group.stream().mapToLong(WalletStoreLot::getAmountRemaining).sum();
+
+            Transaction tx = txRepository.save(Transaction.builder()
+                    .wallet(group.get(0).getWallet())
+                    .customer(customerRepository.getReferenceById(key.customerId()))
+                    .store(group.get(0).getStore())
+                    .transactionType(TransactionType.EXPIRE)
+                    .amount(amount)
+                    .createdAt(now)
+                    .build());
+
+            for (WalletStoreLot lot : group) {
+                moves.add(WalletLotMove.of(tx, lot, -lot.getAmountRemaining()));
+            }
+            expiredByBalance.merge(new BalanceKey(key.walletId(), key.storeId()), amount, Long::sum);
+            points += amount;
+        }
+        lotMoveRepository.saveAll(moves);
+
+        List<GroupContributionLedger.LotDelta> contributionDeltas = remaining.stream()
+                .map(l -> GroupContributionLedger.LotDelta.of(l, -l.getAmountRemaining()))
+                .toList();
+
+        // 남은 양이 0 인 로트도 상태는 EXPIRED 로 정리
+        lotRepository.markExpired(lots.stream().map(WalletStoreLot::getLotId).toList());
+
+        int clamped = 0;
+        for (Map.Entry<BalanceKey, Long> e : expiredByBalance.entrySet()) {
+            BalanceKey key = e.getKey();
+            long amount = e.getValue();
+            if (balanceRepository.decrementIfEnough(key.walletId(), key.storeId(), amount) > 0) continue;
+
+            // 잔액 < 로트 합계: 음수 대신 0 으로 맞추되 어긋남은 남김 (보정 건수는 스케줄러 통계로)
+            int updated = balanceRepository.decrementForExpiry(key.walletId(), key.storeId(), amount);
+            clamped++;
+            log.warn("로트 만료 차감 시 잔액 부족 → 0 으로 보정 (잔액/로트 합계 불일치) - 지갑: {}, 가게: {}, 만료분: {}, 잔액 행: {}",
+                    key.walletId(), key.storeId(), amount, updated > 0 ? "있음" : "없음");
+        }
+
+        // 그룹 지갑 기여 LOT 소멸분은 모임 기여 요약에서도 차감 (잔액 다음 순서)
+        contributionLedger.applyLotDeltas(contributionDeltas);
+
+        return new ExpireBatch(keys.size(), lots.size(), points, expiredByBalance.size(), clamped,
+                last.expiredAt(), last.lotId());
+    }
+
+    /**
+     * (now, until] 에 만료될 로트 중 아직 알리지 않은 것을 최대 batchSize 개 선점
+     * - 선점(expiry_notified_at 기록)이 커밋된 뒤 호출자가 발송 → 중복 발송 없음, 실패 시 재발송도 없음
+     * - 고객/가게별로 합산해 알림 1건
+     */
+    @Transactional
+    public NoticeBatch claimExpiryNotices(LocalDateTime now, LocalDateTime until,
+                                          LocalDateTime afterExpiredAt, Long afterLotId, int batchSize) {
+        List<ExpiringLotDto> rows = lotRepository.findExpiringBatch(
+                now, until, afterExpiredAt, afterLotId, PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return new NoticeBatch(0, List.of(), afterExpiredAt, afterLotId);
+        }
+        ExpiringLotDto last = rows.get(rows.size() - 1);
+
+        Map<List<Long>, Notice> byCustomerStore = new LinkedHashMap<>();
+        for (ExpiringLotDto row : rows) {
+            byCustomerStore.merge(List.of(row.customerId(), row.storeId()),
+                    new Notice(row.customerId(), row.storeId(), row.storeName(),
+                            row.amountRemaining(), row.expiredAt()),
+                    (a, b) -> new Notice(a.customerId(), a.storeId(), a.storeName(),
+                            a.points() + b.points(),
+                            a.firstExpiredAt().isBefore(b.firstExpiredAt()) ? a.firstExpiredAt() : b.firstExpiredAt()));
+        }
+
+        lotRepository.markExpiryNotified(rows.stream().map(ExpiringLotDto::lotId).toList(), now);
+
+        return new NoticeBatch(rows.size(), new ArrayList<>(byCustomerStore.values()),
+                last.expiredAt(), last.lotId());
+    }
+}
@@ -1,8 +1,5 @@
 package com.ssafy.keeping.domain.wallet.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.ssafy.keeping.domain.group.model.Group;
 import com.ssafy.keeping.domain.group.repository.GroupMemberRepository;
 import com.ssafy.keeping.domain.group.repository.GroupRepository;
@@ -11,7 +8,9 @@ import com.ssafy.keeping.domain.idempotency.constant.IdemStatus;
 import com.ssafy.keeping.domain.idempotency.dto.IdemBegin;
 import com.ssafy.keeping.domain.idempotency.model.IdempotencyKey;
 import com.ssafy.keeping.domain.idempotency.model.IdempotentResult;
+import com.ssafy.keeping.domain.idempotency.service.CanonicalBodyHasher;
 import com.ssafy.keeping.domain.idempotency.service.IdempotencyService;
+import com.ssafy.keeping.domain.idempotency.service.ResponseSnapshotCodecs;
 import com.ssafy.keeping.domain.notification.entity.NotificationType;
 import com.ssafy.keeping.domain.notification.service.NotificationService;
 import com.ssafy.keeping.domain.payment.transactions.constant.TransactionType;
@@ -21,13 +20,11 @@ import com.ssafy.keeping.domain.store.model.Store;
 import com.ssafy.keeping.domain.store.repository.StoreRepository;
 import com.ssafy.keeping.domain.user.customer.model.Customer;
 import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
-import com.ssafy.keeping.domain.wallet.constant.LotSourceType;
-import com.ssafy.keeping.domain.wallet.constant.LotStatus;
 import com.ssafy.keeping.domain.wallet.constant.WalletType;
 import com.ssafy.keeping.domain.wallet.dto.*;
 import com.ssafy.keeping.domain.wallet.model.Wallet;
 import com.ssafy.keeping.domain.wallet.model.WalletStoreBalance;
-import com.ssafy.keeping.domain.wallet.model.WalletStoreLot;
+import com.ssafy.keeping.domain.wallet.repository.GroupContributionRepository;
 import com.ssafy.keeping.domain.wallet.repository.WalletRepository;
 import com.ssafy.keeping.domain.wallet.repository.WalletStoreBalanceRepository;
 import com.ssafy.keeping.domain.wallet.repository.WalletStoreLotRepository;
@@ -35,7 +32,6 @@ import com.ssafy.keeping.global.exception.CustomException;
 import com.ssafy.keeping.global.exception.constants.ErrorCode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -45,7 +41,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.ssafy.keeping.global.util.TxUtils.afterCommit;
 
@@ -58,13 +53,15 @@ public class WalletServiceHS { // 충돌나는 것을 방지해 HS를 붙였으
     private final GroupRepository groupRepository;
     private final CustomerRepository customerRepository;
     private final TransactionRepository transactionRepository;
+    private final GroupContributionRepository contributionRepository;
     private final WalletStoreLotRepository lotRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final NotificationService notificationService;
+    private final GroupShareSettlementService shareSettlementService;
+    private final WalletTransferCoordinator transferCoordinator;
 
     private final IdempotencyService idempotencyService;
-    @Qualifier("canonicalObjectMapper")
-    private final ObjectMapper canonicalObjectMapper;
+    private final ResponseSnapshotCodecs snapshotCodecs;
 
 
     public WalletResponseDto createGroupWallet(Group group) {
@@ -143,8 +140,7 @@ public class WalletServiceHS { // 충돌나는 것을 방지해 HS를 붙였으
             throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REQUIRED);
 
         // 바디 정규화 + 해시
-        String canonicalBody = canonicalizeShareBody(groupId, userId, storeId, req);
-        byte[] bodyHash = IdempotencyService.sha256(canonicalBody);
+        byte[] bodyHash = shareBodyHash(groupId, userId, storeId, req);
 
         UUID keyUuid = UUID.fromString(idemKeyHeader);
         String path = "/groups/" + groupId + "/stores/" + storeId;
@@ -160,9 +156,8 @@ public class WalletServiceHS { // 충돌나는 것을 방지해 HS를 붙였으
 
         // DONE → 재생
         if (slot.getStatus() == IdemStatus.DONE) {
-            JsonNode snap = slot.getResponseJson();
-            if (snap == null) throw new CustomException(ErrorCode.IDEMPOTENCY_REPLAY_UNAVAILABLE);
-            PointShareResponseDto replay = parseSnapshot(snap);
+            PointShareResponseDto replay = parseSnapshot(slot);
+            if (replay == null) throw new CustomException(ErrorCode.IDEMPOTENCY_REPLAY_UNAVAILABLE);
             return IdempotentResult.okReplay(replay);
         }
 
@@ -197,61 +192,14 @@ public class WalletServiceHS { // 충돌나는 것을 방지해 HS를 붙였으
 
         Store store = validStore(storeId);
 
-        // 2) 잔액 행잠금 조회
-        WalletStoreBalance indivBal = balanceRepository.lockByWalletIdAndStoreId(individual.getWalletId(), storeId)
-                .orElseThrow(() -> new CustomException(ErrorCode.BEFORE_INDIVIDUAL_CHARGE));
-        if (indivBal.getBalance().compareTo(shareAmount) < 0)
-            throw new CustomException(ErrorCode.OVER_INDIVIDUAL_POINT);
-
-        WalletStoreBalance groupBal = balanceRepository.lockByWalletIdAndStoreId(group.getWalletId(), storeId)
-                .orElseGet(() -> balanceRepository.save(
-                        WalletStoreBalance.builder().wallet(group).store(store).balance(0L).build()
-                ));
-
-        // 3) LOT 차감 및 수신 LOT 적립(FIFO)
-        Long shareLeft = shareAmount;
-        List<WalletStoreLot> lots = lotRepository.lockAllByWalletIdAndStoreIdOrderByAcquiredAt(individual.getWalletId(), storeId);
-        for (WalletStoreLot src : lots) {
-            if (shareLeft == 0) break;
-            if (src.isExpired() || src.isFullyUsed()) continue;
-
-            Long movable = Math.min(src.getAmountRemaining(), shareLeft);
-            if (movable == 0) continue;
-
-            src.usePoints(movable);               // 개인 LOT 차감
-            shareLeft -= movable;
-
-            // 수신 LOT: 동일 origin_charge_tx 기준으로 1개에 누적
-            WalletStoreLot dst = lotRepository
-                    .findByWalletIdAndStoreIdAndOriginChargeTxIdAndSourceType(
-                            group.getWalletId(),
-                            storeId,
-                            src.getOriginChargeTransaction().getTransactionId(),
-                            LotSourceType.TRANSFER_IN
-                    )
-                    .orElseGet(() -> lotRepository.save(
-                            WalletStoreLot.builder()
-                                    .wallet(group)
-                                    .store(store)
-                                    .amountTotal(0L)
-                                    .amountRemaining(0L)
-                                    .acquiredAt(src.getAcquiredAt())
-                                    .expiredAt(src.getExpiredAt())
-                                    .sourceType(LotSourceType.TRANSFER_IN)
-                                    .contributorWallet(individual)
-                                    .lotStatus(LotStatus.ACTIVE)
-                                    .originChargeTransaction(src.getOriginChargeTransaction())
-                                    .build()
-                    ));
-            dst.sharePoints(movable); // 총액·잔량 가산
-        }
-        if (shareLeft != 0) throw new CustomException(ErrorCode.INCONSISTENT_STATE);
-
-        // 4) 잔액 이동
-        indivBal.subtractBalance(shareAmount);
-        groupBal.addBalance(shareAmount);
+        // 2) 잔액 → LOT 순 행잠금 후 FIFO 이동 (잠금 순서는 조정자가 walletId 순으로 고정)
+        WalletTransferCoordinator.Moved moved = transferCoordinator.move(new WalletTransferCoordinator.Movement(
+                individual, group, store, shareAmount, null,
+                ErrorCode.BEFORE_INDIVIDUAL_CHARGE, ErrorCode.OVER_INDIVIDUAL_POINT));
+        WalletStoreBalance indivBal = moved.fromBalance();
+        WalletStoreBalance groupBal = moved.toBalance();
 
-        // 5) 거래기록 2건(반드시 store 세팅)
+        // 3) 거래기록 2건(반드시 store 세팅)
         Transaction txOut = transactionRepository.save(
                 Transaction.builder()
                         .wallet(individual)
@@ -283,8 +231,8 @@ public class WalletServiceHS { // 충돌나는 것을 방지해 HS를 붙였으
 
         afterCommit(() -> {
             List<Long> memberIds = groupMemberRepository.findMemberIdsByGroupId(groupId);
-            notificationService.sendGroupSharedToMembers(
-                    memberIds, NotificationType.GROUP_POINT_SHARED, message
+            notificationService.sendToGroupMembers(
+                    groupId, memberIds, NotificationType.GROUP_POINT_SHARED, message
             );
         });
 
@@ -303,8 +251,7 @@ public class WalletServiceHS { // 충돌나는 것을 방지해 HS를 붙였으
         if (idemKeyHeader == null || idemKeyHeader.isBlank())
             throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REQUIRED);
 
-        String canonicalBody = canonicalizeReclaimBody(groupId, userId, storeId, req);
-        byte[] bodyHash = IdempotencyService.sha256(canonicalBody);
+        byte[] bodyHash = reclaimBodyHash(groupId, userId, storeId, req);
 
         UUID keyUuid = UUID.fromString(idemKeyHeader);
         String path = "/groups/" + groupId + "/stores/" + storeId + "/reclaim";
@@ -318,7 +265,8 @@ public class WalletServiceHS { // 충돌나는 것을 방지해 HS를 붙였으
         }
 
         if (slot.getStatus() == IdemStatus.DONE) {
-            PointShareResponseDto replay = parseSnapshot(slot.getResponseJson());
+            PointShareResponseDto replay = parseSnapshot(slot);
+            if (replay == null) throw new CustomException(ErrorCode.IDEMPOTENCY_REPLAY_UNAVAILABLE);
             return IdempotentResult.okReplay(replay);
         }
 
@@ -348,66 +296,12 @@ public class WalletServiceHS { // 충돌나는 것을 방지해 HS를 붙였으
 
         Store store = validStore(storeId);
 
-        // 잔액 행잠금
-        WalletStoreBalance indivBal = balanceRepository.lockByWalletIdAndStoreId(individual.getWalletId(), storeId)
-                .orElseGet(() -> balanceRepository.save(
-                        WalletStoreBalance.builder().wallet(individual).store(store).balance(0L).build()
-                ));
-        WalletStoreBalance groupBal = balanceRepository.lockByWalletIdAndStoreId(group.getWalletId(), storeId)
-                .orElseThrow(() -> new CustomException(ErrorCode.BEFORE_GROUP_CHARGE)); // 그룹에 해당 매장 잔액이 있어야 함
-        if (groupBal.getBalance().compareTo(amount) < 0)
-            throw new CustomException(ErrorCode.OVER_GROUP_POINT);
-
-        // LOT 회수: 그룹 → 개인, FIFO
-        Long left = amount;
-        List<WalletStoreLot> srcLots =
-                lotRepository.lockAllByWalletIdAndStoreIdOrderByAcquiredAt(group.getWalletId(), storeId);
-        for (WalletStoreLot src : srcLots) {
-            if (left == 0) break;
-            if (src.isExpired() || src.isFullyUsed()) continue;
-
-            // 개인이 기여한 LOT만 회수하도록 제한(선택). 필요 없으면 이 if 제거.
-            if (src.getContributorWallet() != null
-                    && !src.getContributorWallet().getWalletId().equals(individual.getWalletId())) {
-                continue;
-            }
-
-            Long movable = Math.min(src.getAmountRemaining(), left);
-            if (movable == 0) continue;
-
-            // 그룹 LOT 차감
-            src.usePoints(movable);
-            left -= movable;
-
-            // 개인 LOT 누적: origin_charge_tx 기준 1개에 합산
-            WalletStoreLot dst = lotRepository
-                    .findByWalletIdAndStoreIdAndOriginChargeTxIdAndSourceType(
-                            individual.getWalletId(),
-                            storeId,
-                            src.getOriginChargeTransaction().getTransactionId(),
-                            LotSourceType.TRANSFER_IN // 내부 이관은 TRANSFER_IN 재사용
-                    )
-                    .orElseGet(() -> lotRepository.save(
-                            WalletStoreLot.builder()
-                                    .wallet(individual)
-                                    .store(store)
-                                    .amountTotal(0L)
-                                    .amountRemaining(0L)
-                                    .acquiredAt(src.getAcquiredAt())
-                                    .expiredAt(src.getExpiredAt())
-                                    .sourceType(LotSourceType.TRANSFER_IN)
-                                    .contributorWallet(group) // 출처 표기
-                                    .lotStatus(LotStatus.ACTIVE)
-                                    .originChargeTransaction(src.getOriginChargeTransaction())
-                                    .build()
-                    ));
-            dst.sharePoints(movable);
-        }
-        if (left != 0) throw new CustomException(ErrorCode.INCONSISTENT_STATE);
-
-        // 잔액 이동: 그룹 감소, 개인 증가
-        groupBal.subtractBalance(amount);
-        indivBal.addBalance(amount);
+        // 잔액 → LOT 순 행잠금 후 회수: 그룹 → 개인, FIFO (개인이 기여한 LOT 만)
+        WalletTransferCoordinator.Moved moved = transferCoordinator.move(new WalletTransferCoordinator.Movement(
+                group, individual, store, amount, individual.getWalletId(),
+                ErrorCode.BEFORE_GROUP_CHARGE, ErrorCode.OVER_GROUP_POINT)); // 그룹에 해당 매장 잔액이 있어야 함
+        WalletStoreBalance groupBal = moved.fromBalance();
+        WalletStoreBalance indivBal = moved.toBalance();
 
         // 거래 기록 2건
         Transaction txOut = transactionRepository.save(
@@ -439,33 +333,37 @@ public class WalletServiceHS { // 충돌나는 것을 방지해 HS를 붙였으
     }
 
     // ===== Helpers =====
-    private String canonicalizeShareBody(Long groupId, Long userId, Long storeId, PointShareRequestDto req) {
-        // 키 순서 고정 직렬화
-        ObjectNode n = canonicalObjectMapper.createObjectNode();
-        n.put("groupId", groupId);
-        n.put("userId", userId);
-        n.put("storeId", storeId);
-        n.put("individualWalletId", req.getIndividualWalletId());
-        n.put("groupWalletId", req.getGroupWalletId());
-        n.put("shareAmount", req.getShareAmount());
-        return n.toString();
+    // 키 순서 고정 직렬화 + 해시 (ObjectNode.toString() 과 같은 바이트, null 은 null 리터럴)
+    static byte[] shareBodyHash(Long groupId, Long userId, Long storeId, PointShareRequestDto req) {
+        return CanonicalBodyHasher.start()
+                .beginObject()
+                .fieldOrNull("groupId", groupId)
+                .fieldOrNull("userId", userId)
+                .fieldOrNull("storeId", storeId)
+                .fieldOrNull("individualWalletId", req.getIndividualWalletId())
+                .fieldOrNull("groupWalletId", req.getGroupWalletId())
+                .fieldOrNull("shareAmount", req.getShareAmount())
+                .endObject()
+                .digest();
     }
 
     // === canonical helpers ===
-    private String canonicalizeReclaimBody(Long groupId, Long userId, Long storeId, PointShareRequestDto req) {
-        ObjectNode n = canonicalObjectMapper.createObjectNode();
-        n.put("groupId", groupId);
-        n.put("userId", userId);
-        n.put("storeId", storeId);
-        n.put("individualWalletId", req.getIndividualWalletId());
-        n.put("groupWalletId", req.getGroupWalletId());
-        n.put("reclaimAmount", req.getShareAmount()); // 필드 재사용
-        return n.toString();
+    static byte[] reclaimBodyHash(Long groupId, Long userId, Long storeId, PointShareRequestDto req) {
+        return CanonicalBodyHasher.start()
+                .beginObject()
+                .fieldOrNull("groupId", groupId)
+                .fieldOrNull("userId", userId)
+                .fieldOrNull("storeId", storeId)
+                .fieldOrNull("individualWalletId", req.getIndividualWalletId())
+                .fieldOrNull("groupWalletId", req.getGroupWalletId())
+                .fieldOrNull("reclaimAmount", req.getShareAmount()) // 필드 재사용
+                .endObject()
+                .digest();
     }
 
-    private PointShareResponseDto parseSnapshot(JsonNode snap) {
+    private PointShareResponseDto parseSnapshot(IdempotencyKey slot) {
         try {
-            return canonicalObjectMapper.treeToValue(snap, PointShareResponseDto.class);
+            return snapshotCodecs.readSnapshot(slot, PointShareResponseDto.class);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.IDEMPOTENCY_REPLAY_UNAVAILABLE);
         }
@@ -484,19 +382,25 @@ public class WalletServiceHS { // 충돌나는 것을 방지해 HS를 붙였으
         return new AvailablePointResponseDto(storeId, groupWallet.getWalletId(), customerId, available);
     }
 
+    // 모임 기여 요약 조회: (그룹 지갑, 회원 지갑, 가게) 유니크 키 단건
+    // 요약은 만료 배치가 돌 때 줄어드므로, 만료됐지만 아직 쓸지 않은 LOT 만큼 빼서 회수 가능한 양과 맞춤
     @Transactional(readOnly = true)
     public long getMemberSharedBalanceByStore(Long groupWalletId, Long storeId, Long customerId) {
-        List<WalletStoreLot> lots = lotRepository.findReclaimableByStore(
+        long summary = contributionRepository.sumByStoreAndCustomer(groupWalletId, storeId, customerId);
+        if (summary == 0L) return 0L;
+        long unswept = lotRepository.sumUnsweptExpiredByStoreAndContributor(
                 groupWalletId, storeId, customerId, LocalDateTime.now());
-        return lots.stream().mapToLong(WalletStoreLot::getAmountRemaining).sum();
+        return Math.max(0L, summary - unswept);
     }
 
     @Transactional(readOnly = true)
     public long getMemberSharedBalance(Long groupId, Long customerId) { // 시그니처 변경
         Wallet groupWallet = validGroupWallet(groupId);
-        List<WalletStoreLot> lots = lotRepository
-                .findActiveByWalletIdAndContributorCustomerId(groupWallet.getWalletId(), customerId);
-        return lots.stream().mapToLong(WalletStoreLot::getAmountRemaining).sum();
+        long summary = contributionRepository.sumByCustomer(groupWallet.getWalletId(), customerId);
+        if (summary == 0L) return 0L;
+        long unswept = lotRepository.sumUnsweptExpiredByContributor(
+                groupWallet.getWalletId(), customerId, LocalDateTime.now());
+        return Math.max(0L, summary - unswept);
     }
 
 
@@ -508,87 +412,8 @@ public class WalletServiceHS { // 충돌나는 것을 방지해 HS를 붙였으
             throw new CustomException(ErrorCode.ONLY_GROUP_MEMBER);
         }
 
-        List<WalletStoreLot> srcLots = lotRepository
-                .findActiveByWalletIdAndContributorCustomerId(groupWallet.getWalletId(), customerId);
-        if (srcLots.isEmpty()) return 0L;
-
-        Wallet individual = srcLots.get(0).getContributorWallet();
-        if (individual == null || individual.getCustomer() == null ||
-                !individual.getCustomer().getCustomerId().equals(customerId)) {
-            throw new CustomException(ErrorCode.INCONSISTENT_STATE);
-        }
-
-        long totalRefunded = 0L;
-
-        Map<Long, List<WalletStoreLot>> byStore =
-                srcLots.stream().collect(Collectors.groupingBy(l -> l.getStore().getStoreId()));
-
-        for (Map.Entry<Long, List<WalletStoreLot>> entry : byStore.entrySet()) {
-            Long storeId = entry.getKey();
-            Store store = validStore(storeId);
-
-            WalletStoreBalance groupBal = balanceRepository
-                    .lockByWalletIdAndStoreId(groupWallet.getWalletId(), storeId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.WALLET_NOT_FOUND));
-            WalletStoreBalance indivBal = balanceRepository
-                    .lockByWalletIdAndStoreId(individual.getWalletId(), storeId)
-                    .orElseGet(() -> balanceRepository.save(
-                            WalletStoreBalance.builder().wallet(individual).store(store).balance(0L).build()
-                    ));
-
-            long movedSum = 0L;
-
-            for (WalletStoreLot src : entry.getValue()) {
-                long remain = src.getAmountRemaining();
-                if (remain <= 0) continue;
-
-                src.usePoints(remain);
-
-                WalletStoreLot dst = lotRepository
-                        .findByWalletIdAndStoreIdAndOriginChargeTxIdAndSourceType(
-                                individual.getWalletId(),
-                                storeId,
-                                src.getOriginChargeTransaction().getTransactionId(),
-                                LotSourceType.TRANSFER_IN
-                        )
-                        .orElseGet(() -> lotRepository.save(
-                                WalletStoreLot.builder()
-                                        .wallet(individual).store(store)
-                                        .amountTotal(0L).amountRemaining(0L)
-                                        .acquiredAt(src.getAcquiredAt())
-                                        .expiredAt(src.getExpiredAt())
-                                        .sourceType(LotSourceType.TRANSFER_IN)
-                                        .contributorWallet(groupWallet)
-                                        .lotStatus(LotStatus.ACTIVE)
-                                        .originChargeTransaction(src.getOriginChargeTransaction())
-                                        .build()
-                        ));
-                dst.sharePoints(remain);
-
-                transactionRepository.save(Transaction.builder()
-                        .wallet(individual).relatedWallet(groupWallet)
-                        .customer(individual.getCustomer()).store(store)
-                        .transactionType(TransactionType.TRANSFER_IN).amount(remain).build());
-
-                transactionRepository.save(Transaction.builder()
-                        .wallet(groupWallet).relatedWallet(individual)
-                        .customer(individual.getCustomer()).store(store)
-                        .transactionType(TransactionType.TRANSFER_OUT).amount(remain).build());
-
-                movedSum += remain;
-            }
-
-            if (movedSum > 0) {
-                if (groupBal.getBalance() < movedSum) {
-                    throw new CustomException(ErrorCode.INCONSISTENT_STATE);
-                }
-                groupBal.subtractBalance(movedSum);
-                indivBal.addBalance(movedSum);
-                totalRefunded += movedSum;
-            }
-        }
-
-        return totalRefunded;
+        return shareSettlementService.settle(groupWallet.getWalletId(), List.of(customerId))
+                .refundedByMember().get(customerId);
     }
 
     @Transactional(readOnly = true)
@@ -599,12 +424,16 @@ public class WalletServiceHS { // 충돌나는 것을 방지해 HS를 붙였으
 
     @Transactional
     public Map<Long, Long> settleAllMembersShare(Long groupId, List<Long> memberIds) { // 시그니처 변경
-        Map<Long, Long> refunded = new LinkedHashMap<>();
-        for (Long memberId : memberIds) {
-            long amt = settleShareToIndividual(groupId, memberId); // 변경
-            refunded.put(memberId, amt);
+        Wallet groupWallet = validGroupWallet(groupId);
+
+        // 회원별 확인 대신 모임원 목록을 한 번 조회해 일괄 확인
+        Set<Long> members = new HashSet<>(groupMemberRepository.findMemberIdsByGroupId(groupId));
+        if (!members.containsAll(memberIds)) {
+            throw new CustomException(ErrorCode.ONLY_GROUP_MEMBER);
         }
-        return refunded;
+
+        // 회원별 반복 대신 한 번에 일괄 정산
+        return shareSettlementService.settle(groupWallet.getWalletId(), memberIds).refundedByMember();
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,310 @@
+package com.ssafy.keeping.domain.wallet.service;
+
+import com.ssafy.keeping.domain.store.model.Store;
+import com.ssafy.keeping.domain.wallet.constant.LotSourceType;
+import com.ssafy.keeping.domain.wallet.constant.LotStatus;
+import com.ssafy.keeping.domain.wallet.constant.WalletType;
+import com.ssafy.keeping.domain.wallet.model.Wallet;
+import com.ssafy.keeping.domain.wallet.model.WalletStoreBalance;
+import com.ssafy.keeping.domain.wallet.model.WalletStoreLot;
+import com.ssafy.keeping.domain.wallet.repository.WalletStoreBalanceRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletStoreLotRepository;
+import com.ssafy.keeping.global.exception.CustomException;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 지갑 간 포인트 이동(공유/회수/정산) 공통 조정자
+ * - 잠금 순서 고정: 잔액 행 (walletId, storeId) 오름차순 → LOT 행 (walletId, storeId, lotId) 오름차순
+ *   결제(잔액 차감 후 LOT), 환불(잔액 잠금 후 LOT)도 같은 "잔액 → LOT" 순서라 서로 교착되지 않음
+ * - 교착/잠금 대기 초과는 트랜잭션 전체를 롤백 후 제한 횟수만큼 자동 재시도
+ * - 잠금 대기 시간/재시도 횟수 집계
+ */
+@Slf4j
+@Component
+public class WalletTransferCoordinator {
+
+    // MySQL: 1213 = Deadlock found, 1205 = Lock wait timeout exceeded
+    private static final Set<Integer> LOCK_ERROR_CODES = Set.of(1213, 1205);
+    private static final String SQLSTATE_SERIALIZATION_FAILURE = "40001";
+
+    private final WalletStoreBalanceRepository balanceRepository;
+    private final WalletStoreLotRepository lotRepository;
+    private final GroupContributionLedger contributionLedger;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    private final LongAdder lockAcquisitions = new LongAdder();
+    private final LongAdder lockWaitNanos = new LongAdder();
+    private final AtomicLong maxLockWaitNanos = new AtomicLong();
+    private final LongAdder lockConflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public WalletTransferCoordinator(WalletStoreBalanceRepository balanceRepository,
+                                     WalletStoreLotRepository lotRepository,
+                                     GroupContributionLedger contributionLedger,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${wallet.transfer.max-attempts:3}") int maxAttempts,
+                                     @Value("${wallet.transfer.backoff-ms:50}") long backoffMs) {
+        this.balanceRepository = balanceRepository;
+        this.lotRepository = lotRepository;
+        this.contributionLedger = contributionLedger;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = Math.max(0, backoffMs);
+    }
+
+    /** 한 번의 이동 요청 (from → to, 같은 가게) */
+    public record Movement(Wallet from, Wallet to, Store store, long amount,
+                           Long contributorWalletId,
+                           ErrorCode missingBalance, ErrorCode shortBalance) {
+    }
+
+    /** 이동 후 양쪽 잔액 (잠금 보유 상태) */
+    public record Moved(WalletStoreBalance fromBalance, WalletStoreBalance toBalance) {
+    }
+
+    public record Stats(long lockAcquisitions, long lockWaitMillis, long maxLockWaitMillis,
+                        long lockConflicts, long retries, long exhausted) {
+    }
+
+    /**
+     * 잠금 충돌(교착/대기 초과) 시 새 트랜잭션으로 재시도
+     * - 이미 트랜잭션 안이면 그대로 실행: 롤백 범위가 바깥 트랜잭션이라 재시도도 바깥의 몫
+     * - 재시도 소진 시 TRANSFER_LOCK_CONFLICT (409)
+     */
+    public <T> T execute(String operation, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (RuntimeException e) {
+                if (!isLockConflict(e)) throw e;
+                lockConflicts.increment();
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    log.warn("지갑 이동 잠금 충돌 재시도 소진 - 작업: {}, 시도: {}회, 원인: {}",
+                            operation, attempt, rootMessage(e));
+                    throw new CustomException(ErrorCode.TRANSFER_LOCK_CONFLICT);
+                }
+                retries.increment();
+                log.info("지갑 이동 잠금 충돌로 재시도 - 작업: {}, 시도: {}/{}, 원인: {}",
+                        operation, attempt, maxAttempts, rootMessage(e));
+                backoff(attempt);
+            }
+        }
+    }
+
+    public void execute(String operation, Runnable work) {
+        execute(operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * 같은 가게의 지갑 잔액들을 walletId 오름차순으로 잠금
+     * @return walletId → 잔액 (행이 없으면 키 없음)
+     */
+    public Map<Long, WalletStoreBalance> lockBalances(Long storeId, Long... walletIds) {
+        long started = System.nanoTime();
+        Map<Long, WalletStoreBalance> locked = new HashMap<>();
+        for (Long walletId : ordered(walletIds)) {
+            balanceRepository.lockByWalletIdAndStoreId(walletId, storeId)
+                    .ifPresent(b -> locked.put(walletId, b));
+        }
+        recordWait(started);
+        return locked;
+    }
+
+    /**
+     * 지갑들의 모든 가게 잔액을 (walletId, storeId) 오름차순으로 잠금 (모임 정산용)
+     * @return 잠근 잔액 행 수
+     */
+    public int lockWalletBalances(Collection<Long> walletIds) {
+        if (walletIds.isEmpty()) return 0;
+        long started = System.nanoTime();
+        int locked = balanceRepository.lockIdsByWalletIds(new TreeSet<>(walletIds)).size();
+        recordWait(started);
+        return locked;
+    }
+
+    /**
+     * 같은 가게의 지갑 LOT 들을 walletId 오름차순으로 잠금
+     * - 지갑 안에서는 (wallet_id, store_id) 인덱스를 lot_id 순으로 훑으며 잠김
+     * @return walletId → 취득순 LOT
+     */
+    public Map<Long, List<WalletStoreLot>> lockLots(Long storeId, Long... walletIds) {
+        long started = System.nanoTime();
+        Map<Long, List<WalletStoreLot>> locked = new HashMap<>();
+        for (Long walletId : ordered(walletIds)) {
+            locked.put(walletId, lotRepository.lockAllByWalletIdAndStoreIdOrderByAcquiredAt(walletId, storeId));
+        }
+        recordWait(started);
+        return locked;
+    }
+
+    /**
+     * 지갑 간 포인트 이동 (잔액 → LOT 순으로 잠근 뒤 FIFO 이동)
+     * - from LOT 을 원천 충전 단위로 to 지갑 TRANSFER_IN LOT 에 누적
+     * - contributorWalletId 가 있으면 그 지갑이 기여한(또는 기여자 없는) LOT 만 이동
+     * - 잔액 행이 없거나 부족하면 Movement 에 지정한 오류
+     * - 그룹 지갑 쪽 LOT 변화는 모임 기여 요약에 같은 트랜잭션으로 반영
+     */
+    public Moved move(Movement m) {
+        Long storeId = m.store().getStoreId();
+        Long fromId = m.from().getWalletId();
+        Long toId = m.to().getWalletId();
+
+        // 1) 잔액 잠금
+        Map<Long, WalletStoreBalance> balances = lockBalances(storeId, fromId, toId);
+        WalletStoreBalance fromBal = balances.get(fromId);
+        if (fromBal == null) throw new CustomException(m.missingBalance());
+        if (fromBal.getBalance() < m.amount()) throw new CustomException(m.shortBalance());
+        WalletStoreBalance toBal = balances.get(toId);
+        if (toBal == null) {
+            toBal = balanceRepository.save(
+                    WalletStoreBalance.builder().wallet(m.to()).store(m.store()).balance(0L).build());
+        }
+
+        // 2) LOT 잠금 후 FIFO 이동
+        Map<Long, List<WalletStoreLot>> lots = lockLots(storeId, fromId, toId);
+        boolean fromGroup = m.from().getWalletType() == WalletType.GROUP;
+        boolean toGroup = m.to().getWalletType() == WalletType.GROUP;
+        Map<GroupContributionLedger.Key, Long> contributions = new HashMap<>();
+        long left = m.amount();
+        for (WalletStoreLot src : lots.getOrDefault(fromId, List.of())) {
+            if (left == 0) break;
+            if (src.isExpired() || src.isFullyUsed()) continue;
+            if (m.contributorWalletId() != null && src.getContributorWallet() != null
+                    && !src.getContributorWallet().getWalletId().equals(m.contributorWalletId())) {
+                continue;
+            }
+
+            long movable = Math.min(src.getAmountRemaining(), left);
+            if (movable == 0) continue;
+
+            src.usePoints(movable);
+            left -= movable;
+            if (fromGroup && src.getContributorWallet() != null) {
+                contributions.merge(new GroupContributionLedger.Key(
+                        fromId, src.getContributorWallet().getWalletId(), storeId), -movable, Long::sum);
+            }
+
+            // 수신 LOT: 동일 origin_charge_tx 기준으로 1개에 누적
+            WalletStoreLot dst = lotRepository
+                    .findByWalletIdAndStoreIdAndOriginChargeTxIdAndSourceType(
+                            toId, storeId,
+                            src.getOriginChargeTransaction().getTransactionId(),
+                            LotSourceType.TRANSFER_IN)
+                    .orElseGet(() -> lotRepository.save(
+                            WalletStoreLot.builder()
+                                    .wallet(m.to())
+                                    .store(m.store())
+                                    .amountTotal(0L)
+                                    .amountRemaining(0L)
+                                    .acquiredAt(src.getAcquiredAt())
+                                    .expiredAt(src.getExpiredAt())
+                                    .sourceType(LotSourceType.TRANSFER_IN)
+                                    .contributorWallet(m.from()) // 출처 표기
+                                    .lotStatus(LotStatus.ACTIVE)
+                                    .originChargeTransaction(src.getOriginChargeTransaction())
+                                    .build()));
+            dst.sharePoints(movable);
+            if (toGroup && dst.getContributorWallet() != null) {
+                contributions.merge(new GroupContributionLedger.Key(
+                        toId, dst.getContributorWallet().getWalletId(), storeId), movable, Long::sum);
+            }
+        }
+        if (left != 0) throw new CustomException(ErrorCode.INCONSISTENT_STATE);
+        contributionLedger.apply(contributions);
+
+        // 3) 잔액 이동
+        fromBal.subtractBalance(m.amount());
+        toBal.addBalance(m.amount());
+        return new Moved(fromBal, toBal);
+    }
+
+    public Stats stats() {
+        return new Stats(lockAcquisitions.sum(),
+                lockWaitNanos.sum() / 1_000_000, maxLockWaitNanos.get() / 1_000_000,
+                lockConflicts.sum(), retries.sum(), exhausted.sum());
+    }
+
+    @Scheduled(fixedDelayString = "${wallet.transfer.stats-interval-ms:300000}",
+            initialDelayString = "${wallet.transfer.stats-interval-ms:300000}")
+    public void logStats() {
+        Stats s = stats();
+        if (s.lockAcquisitions() == 0 && s.lockConflicts() == 0) return;
+        log.info("지갑 이동 잠금 통계 - 잠금: {}회, 누적대기: {}ms, 최대대기: {}ms, 충돌: {}회, 재시도: {}회, 소진: {}회",
+                s.lockAcquisitions(), s.lockWaitMillis(), s.maxLockWaitMillis(),
+                s.lockConflicts(), s.retries(), s.exhausted());
+    }
+
+    static boolean isLockConflict(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof PessimisticLockingFailureException
+                    || t instanceof PessimisticLockException
+                    || t instanceof LockTimeoutException
+                    || t instanceof SQLTransactionRollbackException) {
+                return true;
+            }
+            if (t instanceof SQLException sql
+                    && (LOCK_ERROR_CODES.contains(sql.getErrorCode())
+                    || SQLSTATE_SERIALIZATION_FAILURE.equals(sql.getSQLState()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Long> ordered(Long... walletIds) {
+        return Arrays.stream(walletIds).filter(Objects::nonNull).distinct().sorted().toList();
+    }
+
+    private void recordWait(long startedNanos) {
+        long waited = System.nanoTime() - startedNanos;
+        lockAcquisitions.increment();
+        lockWaitNanos.add(waited);
+        maxLockWaitNanos.accumulateAndGet(waited, Math::max);
+    }
+
+    // 선형 백오프 + 지터: 같은 순간 충돌한 요청끼리 다시 부딪히지 않게
+    private void backoff(int attempt) {
+        if (backoffMs == 0) return;
+        long sleep = backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs + 1);
+        try {
+            Thread.sleep(sleep);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.TRANSFER_LOCK_CONFLICT);
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null) root = root.getCause();
+        return root.getClass().getSimpleName() + ": " + root.getMessage();
+    }
+}
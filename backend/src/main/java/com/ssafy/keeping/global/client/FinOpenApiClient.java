@@ -1,6 +1,9 @@
 package com.ssafy.keeping.global.client;
 
 import com.ssafy.keeping.domain.charge.dto.ssafyapi.request.SsafyApiHeaderDto;
+import com.ssafy.keeping.domain.charge.dto.ssafyapi.request.SsafyCardInquiryRequestDto;
+import com.ssafy.keeping.domain.charge.dto.ssafyapi.response.SsafyCardInquiryRecDto;
+import com.ssafy.keeping.domain.charge.dto.ssafyapi.response.SsafyCardInquiryResponseDto;
 import com.ssafy.keeping.domain.charge.service.SsafyFinanceApiService;
 import com.ssafy.keeping.domain.user.finopenapi.dto.*;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +14,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -23,7 +26,8 @@ public class FinOpenApiClient {
     private final SsafyFinanceApiService ssafyFinanceApiService;
     private final FinOpenApiProperties apiProps;
 
-    private final Long TRANSACTION_BALANCE = 100000000L;
+    // 가입 시 초기 입금액
+    public static final Long TRANSACTION_BALANCE = 100000000L;
 
     @Value("${ssafy.finance.value.customer-account-type-unique-no}")
     private String customerAccountTypeUniqueNo;
@@ -40,23 +44,21 @@ public class FinOpenApiClient {
     public <TReq, TRes> TRes post(String path, TReq body, Class<TRes> resType) {
         log.debug("FinOpenAPI 요청 - Path: {}", path);
 
-        return Mono.fromCallable(() -> {
-                    return finOpenApiWebClient.post()
-                            .uri(path)
-                            .header("Content-Type", "application/json")
-                            .bodyValue(body)
-                            .retrieve()
-                            .onStatus(HttpStatusCode::is4xxClientError, r -> r.bodyToMono(String.class)
-                                    .map(msg -> new IllegalArgumentException("finopenapi 4xx: " + msg)))
-                            .onStatus(HttpStatusCode::is5xxServerError, r -> {
-                                log.error("FinOpenAPI 500 에러 - Status: {}", r.statusCode());
-                                return r.bodyToMono(String.class)
-                                        .doOnNext(errorBody -> log.error("에러 응답: {}", errorBody))
-                                        .map(msg -> new IllegalStateException("finopenapi 5xx: " + msg));
-                            })
-                            .bodyToMono(resType)
-                            .block();
-                }).subscribeOn(Schedulers.boundedElastic())
+        // 호출 스레드에서 바로 block (boundedElastic 으로 넘겼다가 다시 기다리던 스레드 홉 제거)
+        return finOpenApiWebClient.post()
+                .uri(path)
+                .header("Content-Type", "application/json")
+                .bodyValue(body)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, r -> r.bodyToMono(String.class)
+                        .map(msg -> new IllegalArgumentException("finopenapi 4xx: " + msg)))
+                .onStatus(HttpStatusCode::is5xxServerError, r -> {
+                    log.error("FinOpenAPI 500 에러 - Status: {}", r.statusCode());
+                    return r.bodyToMono(String.class)
+                            .doOnNext(errorBody -> log.error("에러 응답: {}", errorBody))
+                            .map(msg -> new IllegalStateException("finopenapi 5xx: " + msg));
+                })
+                .bodyToMono(resType)
                 .block();
     }
 
@@ -73,14 +75,23 @@ public class FinOpenApiClient {
         return post(FinOpenApiPaths.INSERT_MEMBER, requestDto, InsertMemberResponseDto.class);
     }
 
+    // 단계별로 미리 저장해 두는 기관거래고유번호 (재시도에도 같은 번호로 호출)
+    public String newTransactionUniqueNo() {
+        return ssafyFinanceApiService.newInstitutionTransactionUniqueNo();
+    }
+
     // 계좌 생성
     public CreateAccountResponse createAccount(String userKey, String role) {
+        return createAccount(userKey, role, null);
+    }
+
+    public CreateAccountResponse createAccount(String userKey, String role, String transactionUniqueNo) {
         log.debug("계좌 생성 시작");
 
         // TODO: 환경변수
         String apiName = "createDemandDepositAccount";
 
-        SsafyApiHeaderDto header = ssafyFinanceApiService.createCommonHeader(userKey, apiName);
+        SsafyApiHeaderDto header = header(userKey, apiName, transactionUniqueNo);
 
         CreateAccountRequest request = CreateAccountRequest.builder()
                 .header(header)
@@ -91,10 +102,14 @@ public class FinOpenApiClient {
 
     // card 생성
     public IssueCardResponse issueCard(String userKey, String withdrawalAccountNo) {
+        return issueCard(userKey, withdrawalAccountNo, null);
+    }
+
+    public IssueCardResponse issueCard(String userKey, String withdrawalAccountNo, String transactionUniqueNo) {
         String apiName = "createCreditCard";
         log.debug("카드 생성 계좌 번호 : {}", withdrawalAccountNo);
 
-        SsafyApiHeaderDto header = ssafyFinanceApiService.createCommonHeader(userKey, apiName);
+        SsafyApiHeaderDto header = header(userKey, apiName, transactionUniqueNo);
 
         // 출금일은 1일로 고정
         IssueCardRequest request = IssueCardRequest.builder()
@@ -106,9 +121,13 @@ public class FinOpenApiClient {
 
     // 계좌 입금
     public AccountDepositResponse accountDeposit(String userKey, String accountNo) {
+        return accountDeposit(userKey, accountNo, null);
+    }
+
+    public AccountDepositResponse accountDeposit(String userKey, String accountNo, String transactionUniqueNo) {
         String apiName = "updateDemandDepositAccountDeposit";
 
-        SsafyApiHeaderDto header = ssafyFinanceApiService.createCommonHeader(userKey, apiName);
+        SsafyApiHeaderDto header = header(userKey, apiName, transactionUniqueNo);
 
         AccountDepositRequest request = AccountDepositRequest.builder()
                 .header(header).accountNo(accountNo).transactionBalance(TRANSACTION_BALANCE).build();
@@ -116,6 +135,29 @@ public class FinOpenApiClient {
         return post(FinOpenApiPaths.ACCOUNT_DEPOSIT, request, AccountDepositResponse.class);
     }
 
+    // 수시입출금 계좌 목록 (잔액 포함)
+    public List<AccountListRecResponse> inquireAccounts(String userKey) {
+        String apiName = "inquireDemandDepositAccountList";
+
+        SsafyApiHeaderDto header = ssafyFinanceApiService.createCommonHeader(userKey, apiName);
+
+        AccountListRequest request = AccountListRequest.builder().header(header).build();
+
+        AccountListResponse response = post(FinOpenApiPaths.INQUIRE_ACCOUNTS, request, AccountListResponse.class);
+        return response == null || response.getRecResponse() == null ? List.of() : response.getRecResponse();
+    }
+
+    // 발급된 카드 목록
+    public List<SsafyCardInquiryRecDto> inquireCards(String userKey) {
+        String apiName = "inquireSignUpCreditCardList";
+
+        SsafyApiHeaderDto header = ssafyFinanceApiService.createCommonHeader(userKey, apiName);
+
+        SsafyCardInquiryResponseDto response = post(FinOpenApiPaths.INQUIRE_CARDS,
+                SsafyCardInquiryRequestDto.create(header), SsafyCardInquiryResponseDto.class);
+        return response == null || response.getREC() == null ? List.of() : response.getREC();
+    }
+
     // 카테고리 조회
     public SearchCategoriesResponse searchCategories() {
         String apiName = "inquireCategoryList";
@@ -138,5 +180,9 @@ public class FinOpenApiClient {
         return post(FinOpenApiPaths.INSERT_MERCHANT, request, InsertMerchantResponse.class);
     }
 
-
+    private SsafyApiHeaderDto header(String userKey, String apiName, String transactionUniqueNo) {
+        return transactionUniqueNo == null
+                ? ssafyFinanceApiService.createCommonHeader(userKey, apiName)
+                : ssafyFinanceApiService.createCommonHeader(userKey, apiName, transactionUniqueNo);
+    }
 }
@@ -6,6 +6,8 @@ public class FinOpenApiPaths {
     public static final String ISSUE_CARD = "/ssafy/api/v1/edu/creditCard/createCreditCard";
     public static final String CREATE_ACCOUNT = "/ssafy/api/v1/edu/demandDeposit/createDemandDepositAccount";
     public static final String ACCOUNT_DEPOSIT = "/ssafy/api/v1/edu/demandDeposit/updateDemandDepositAccountDeposit";
+    public static final String INQUIRE_ACCOUNTS = "/ssafy/api/v1/edu/demandDeposit/inquireDemandDepositAccountList";
+    public static final String INQUIRE_CARDS = "/ssafy/api/v1/edu/creditCard/inquireSignUpCreditCardList";
     public static final String SEARCH_CATEGORIES = "/ssafy/api/v1/edu/creditCard/inquireCategoryList";
     public static final String INSERT_MERCHANT = "/ssafy/api/v1/edu/creditCard/createMerchant";
 }
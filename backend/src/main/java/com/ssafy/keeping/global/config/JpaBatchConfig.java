@@ -0,0 +1,26 @@
+package com.ssafy.keeping.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 설정 (application.yml 에 같은 키가 있으면 그 값을 우선)
+ * - 원장 엔티티는 @LedgerId(앱에서 ID 발급)라 saveAll 이 flush 때 batch_size 단위 INSERT 로 묶임
+ * - order_inserts/order_updates: 엔티티 종류별로 정렬해야 거래 → 품목 → 로트 이동이 섞여도 배치가 끊기지 않음
+ * - MySQL 에서 배치를 한 번의 왕복으로 보내려면 JDBC URL 에 rewriteBatchedStatements=true 필요
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+            properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", true);
+        };
+    }
+}
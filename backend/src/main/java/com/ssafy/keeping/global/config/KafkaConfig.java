@@ -6,6 +6,8 @@ import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,12 +22,21 @@ import org.springframework.kafka.support.serializer.JsonSerializer;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Kafka 설정
+ * - 프로듀서/컨슈머 팩토리에 Micrometer 리스너를 붙여 클라이언트 지표 노출 (컨슈머 lag: kafka.consumer.fetch.manager.records.lag.max)
+ * - 템플릿/리스너 컨테이너 observation 활성화 → 발행 시 traceparent 헤더에 스팬 전파, 수신 시 이어서 처리 스팬 생성
+ */
 @Configuration
 @EnableKafka
+@RequiredArgsConstructor
 public class KafkaConfig {
 
-//    private String bootstrapServers = "localhost:9092";
-    private String bootstrapServers = "kafka:9092";
+    private final MeterRegistry meterRegistry;
+
+    // 로컬: localhost:9092, 부하 테스트 하네스: 임베디드 브로커 주소로 덮어씀
+    @Value("${spring.kafka.bootstrap-servers:kafka:9092}")
+    private String bootstrapServers;
 
     private String groupId = "keeping-service-group";
 
@@ -100,12 +111,16 @@ public class KafkaConfig {
 //        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(configProps);
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
     public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        KafkaTemplate<String, Object> template = new KafkaTemplate<>(producerFactory());
+        template.setObservationEnabled(true);
+        return template;
     }
 
     // ==================== Consumer Configuration ====================
@@ -137,7 +152,7 @@ public class KafkaConfig {
         props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 10);
         props.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 300000);
 
-        return new DefaultKafkaConsumerFactory<>(props);
+        return meteredConsumerFactory(props);
     }
 
     @Bean
@@ -149,6 +164,7 @@ public class KafkaConfig {
 
         // 수동 commit 설정
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setObservationEnabled(true);
 
         // 에러 핸들링
         factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
@@ -180,7 +196,7 @@ public class KafkaConfig {
         // 수동 커밋 설정
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
 
-        return new DefaultKafkaConsumerFactory<>(props);
+        return meteredConsumerFactory(props);
     }
 
     @Bean("anomalyKafkaListenerContainerFactory")
@@ -192,6 +208,7 @@ public class KafkaConfig {
 
         // 수동 commit 설정
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setObservationEnabled(true);
 
         // 에러 핸들링
         factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
@@ -223,7 +240,7 @@ public class KafkaConfig {
         // 수동 커밋 설정
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
 
-        return new DefaultKafkaConsumerFactory<>(props);
+        return meteredConsumerFactory(props);
     }
 
     @Bean("dlqKafkaListenerContainerFactory")
@@ -235,6 +252,7 @@ public class KafkaConfig {
 
         // 수동 commit 설정
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setObservationEnabled(true);
 
         // DLQ에서는 에러 핸들러 최소화
         factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
@@ -244,4 +262,10 @@ public class KafkaConfig {
 
         return factory;
     }
-}
\ No newline at end of file
+
+    private ConsumerFactory<String, Object> meteredConsumerFactory(Map<String, Object> props) {
+        DefaultKafkaConsumerFactory<String, Object> factory = new DefaultKafkaConsumerFactory<>(props);
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
+}
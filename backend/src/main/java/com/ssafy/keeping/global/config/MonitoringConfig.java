@@ -0,0 +1,17 @@
+package com.ssafy.keeping.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 계측 기본 설정 (monitoring.properties)
+ * - /actuator/prometheus 노출, 추적 샘플링 비율, W3C traceparent 전파
+ * - @PropertySource 는 우선순위가 가장 낮아 application.yml / 환경 변수로 덮어쓸 수 있음
+ * - 핫패스 미터: PaymentMetrics, ExternalApiMetrics, NotificationSseMetrics (global/monitoring)
+ * - Kafka 스팬/클라이언트 지표(컨슈머 lag 포함)는 KafkaConfig 에서 연결
+ * - Redis 명령별 지연(lettuce.command.*)은 RedisConfig 의 ClientResources 에서 연결
+ */
+@Configuration
+@PropertySource("classpath:monitoring.properties")
+public class MonitoringConfig {
+}
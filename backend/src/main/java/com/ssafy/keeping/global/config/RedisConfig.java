@@ -1,27 +1,129 @@
 package com.ssafy.keeping.global.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Redis 연결 설정 (Lettuce)
+ * - 토폴로지: spring.data.redis.topology = standalone(기본) | sentinel | cluster
+ *   sentinel 은 sentinel.master / sentinel.nodes, cluster 는 cluster.nodes 필요 (host:port 콤마 구분)
+ * - 일반 명령은 공유 네이티브 커넥션 1개로 다중화, 파이프라인 / 트랜잭션 / 블로킹 명령은 전용 커넥션 → 풀에서 빌림
+ *   (풀이 없으면 파이프라인마다 커넥션을 새로 맺고 끊음)
+ * - 명령 타임아웃 + 연결 끊김 시 즉시 거절 → Redis 장애가 요청 스레드(인증 필터 등)를 붙잡지 않음
+ * - 명령별 지연: lettuce.command.completion / lettuce.command.firstresponse (command 태그, p50/p95/p99)
+ */
 @Configuration
 @EnableAutoConfiguration(exclude = RedisRepositoriesAutoConfiguration.class)  // Redis Repository 자동 설정 완전 비활성화
 public class RedisConfig {
 
+    public enum Topology { STANDALONE, SENTINEL, CLUSTER }
+
+    @Value("${spring.data.redis.topology:standalone}")
+    private String topology;
+
     @Value("${spring.data.redis.host:127.0.0.1}")
     private String redisHost;
 
     @Value("${spring.data.redis.port:6379}")
     private int redisPort;
 
+    @Value("${spring.data.redis.password:}")
+    private String password;
+
+    @Value("${spring.data.redis.database:0}")
+    private int database;
+
+    @Value("${spring.data.redis.sentinel.master:}")
+    private String sentinelMaster;
+
+    @Value("${spring.data.redis.sentinel.nodes:}")
+    private String sentinelNodes;
+
+    @Value("${spring.data.redis.cluster.nodes:}")
+    private String clusterNodes;
+
+    @Value("${spring.data.redis.cluster.max-redirects:3}")
+    private int clusterMaxRedirects;
+
+    // 클러스터 슬롯 재배치 / 페일오버 반영 주기 (MOVED/ASK 등 발생 시에는 즉시 갱신)
+    @Value("${spring.data.redis.cluster.refresh-period-ms:30000}")
+    private long clusterRefreshPeriodMs;
+
+    @Value("${spring.data.redis.command-timeout-ms:500}")
+    private long commandTimeoutMs;
+
+    @Value("${spring.data.redis.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${spring.data.redis.lettuce.pool.enabled:true}")
+    private boolean poolEnabled;
+
+    @Value("${spring.data.redis.lettuce.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:2}")
+    private int poolMinIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.max-wait-ms:200}")
+    private long poolMaxWaitMs;
+
+    // 파이프라인 명령을 모아서 보내는 단위 (명령마다 flush 하지 않음, closePipeline 시 나머지 flush)
+    @Value("${spring.data.redis.lettuce.pipeline-flush-commands:64}")
+    private int pipelineFlushCommands;
+
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources(MeterRegistry meterRegistry) {
+        MicrometerOptions options = MicrometerOptions.builder()
+                .enable()
+                .localDistinction(false)
+                .targetPercentiles(new double[]{0.5, 0.95, 0.99})
+                .build();
+        return ClientResources.builder()
+                .commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry, options))
+                .build();
+    }
+
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisHost, redisPort);
+    public LettuceConnectionFactory redisConnectionFactory(ClientResources lettuceClientResources) {
+        Topology mode = Topology.valueOf(topology.trim().toUpperCase());
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(serverConfiguration(mode),
+                clientConfiguration(mode, lettuceClientResources));
+        factory.setPipeliningFlushPolicy(LettuceConnection.PipeliningFlushPolicy.buffered(pipelineFlushCommands));
+        return factory;
     }
 
     @Bean
@@ -30,4 +132,103 @@ public class RedisConfig {
         template.setConnectionFactory(redisConnectionFactory);
         return template;
     }
-}
\ No newline at end of file
+
+    // pub/sub 구독용 컨테이너 (SSE 노드 간 팬아웃 등)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    private RedisConfiguration serverConfiguration(Topology mode) {
+        RedisPassword redisPassword = RedisPassword.of(StringUtils.hasText(password) ? password : null);
+        switch (mode) {
+            case SENTINEL -> {
+                if (!StringUtils.hasText(sentinelMaster) || !StringUtils.hasText(sentinelNodes)) {
+                    throw new IllegalStateException("sentinel 토폴로지에는 spring.data.redis.sentinel.master / nodes 가 필요합니다.");
+                }
+                RedisSentinelConfiguration sentinel = new RedisSentinelConfiguration();
+                sentinel.master(sentinelMaster);
+                nodes(sentinelNodes).forEach(node -> sentinel.sentinel(host(node), port(node)));
+                sentinel.setDatabase(database);
+                sentinel.setPassword(redisPassword);
+                return sentinel;
+            }
+            case CLUSTER -> {
+                if (!StringUtils.hasText(clusterNodes)) {
+                    throw new IllegalStateException("cluster 토폴로지에는 spring.data.redis.cluster.nodes 가 필요합니다.");
+                }
+                RedisClusterConfiguration cluster = new RedisClusterConfiguration(nodes(clusterNodes));
+                cluster.setMaxRedirects(clusterMaxRedirects);
+                cluster.setPassword(redisPassword);
+                return cluster;
+            }
+            default -> {
+                RedisStandaloneConfiguration standalone = new RedisStandaloneConfiguration(redisHost, redisPort);
+                standalone.setDatabase(database);
+                standalone.setPassword(redisPassword);
+                return standalone;
+            }
+        }
+    }
+
+    private LettuceClientConfiguration clientConfiguration(Topology mode, ClientResources clientResources) {
+        Duration commandTimeout = Duration.ofMillis(commandTimeoutMs);
+        SocketOptions socketOptions = SocketOptions.builder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .keepAlive(true)
+                .build();
+
+        ClientOptions clientOptions;
+        if (mode == Topology.CLUSTER) {
+            clientOptions = ClusterClientOptions.builder()
+                    .socketOptions(socketOptions)
+                    .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                    .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                    .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                            .enablePeriodicRefresh(Duration.ofMillis(clusterRefreshPeriodMs))
+                            .enableAllAdaptiveRefreshTriggers()
+                            .build())
+                    .build();
+        } else {
+            clientOptions = ClientOptions.builder()
+                    .socketOptions(socketOptions)
+                    .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                    .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                    .build();
+        }
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder;
+        if (poolEnabled) {
+            GenericObjectPoolConfig<StatefulConnection<?, ?>> pool = new GenericObjectPoolConfig<>();
+            pool.setMaxTotal(poolMaxActive);
+            pool.setMaxIdle(poolMaxIdle);
+            pool.setMinIdle(poolMinIdle);
+            pool.setMaxWait(Duration.ofMillis(poolMaxWaitMs));
+            builder = LettucePoolingClientConfiguration.builder().poolConfig(pool);
+        } else {
+            builder = LettuceClientConfiguration.builder();
+        }
+        return builder
+                .clientResources(clientResources)
+                .clientOptions(clientOptions)
+                .commandTimeout(commandTimeout)
+                .build();
+    }
+
+    private static List<String> nodes(String csv) {
+        return Arrays.stream(csv.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .toList();
+    }
+
+    private static String host(String node) {
+        return node.substring(0, node.lastIndexOf(':'));
+    }
+
+    private static int port(String node) {
+        return Integer.parseInt(node.substring(node.lastIndexOf(':') + 1));
+    }
+}
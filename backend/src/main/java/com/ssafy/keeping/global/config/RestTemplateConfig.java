@@ -1,5 +1,6 @@
 package com.ssafy.keeping.global.config;
 
+import com.ssafy.keeping.global.monitoring.ExternalApiMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
@@ -9,11 +10,13 @@ import org.springframework.web.client.RestTemplate;
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(ExternalApiMetrics externalApiMetrics) {
         HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
         factory.setConnectTimeout(5000); // 5초
         factory.setReadTimeout(10000);   // 10초
         
-        return new RestTemplate(factory);
+        RestTemplate restTemplate = new RestTemplate(factory);
+        restTemplate.getInterceptors().add(externalApiMetrics.restTemplateInterceptor()); // 호스트/엔드포인트별 지연 계측
+        return restTemplate;
     }
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package com.ssafy.keeping.global.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,12 +23,32 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // S3 호환 로컬 에뮬레이터 주소 (부하 테스트 하네스 등), 비어 있으면 AWS 리전 엔드포인트
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public AmazonS3 amazonS3() {
         BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(credentials))
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(credentials));
+        if (endpoint.isBlank()) {
+            return builder.withRegion(region).build();
+        }
+        return builder
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                .withPathStyleAccessEnabled(true)
+                .build();
+    }
+
+    // 큰 파일은 part 단위 병렬 멀티파트 업로드 (part 전송 스레드 풀은 TransferManager 기본값)
+    @Bean
+    public TransferManager transferManager(AmazonS3 amazonS3,
+                                           @Value("${image.upload.multipart-threshold:5242880}") long multipartThreshold) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withMultipartUploadThreshold(multipartThreshold)
+                .withMinimumUploadPartSize(Math.max(multipartThreshold, 5L * 1024 * 1024))   // S3 part 최소 크기 5MB
                 .build();
     }
 }
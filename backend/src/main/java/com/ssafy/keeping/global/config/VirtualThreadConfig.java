@@ -0,0 +1,49 @@
+package com.ssafy.keeping.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+
+/**
+ * 가상 스레드 실행 모드 (opt-in: spring.threads.virtual.enabled=true, JRE 21 이상)
+ * - Tomcat 요청 처리 / @Scheduled / applicationTaskExecutor(@Async, MVC 비동기) 는 스프링 부트가 자동 전환
+ * - KafkaConfig 에서 직접 만든 리스너 컨테이너 팩토리는 부트 자동설정 대상이 아니므로 여기서 listener executor 지정
+ * - 핀닝 진단은 VirtualThreadPinningMonitor (JFR jdk.VirtualThreadPinned)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor kafkaVirtualThreadListenerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ConcurrentKafkaListenerContainerFactory<?, ?> factory
+                        && Runtime.version().feature() >= 21) {
+                    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(beanName + "-vt-");
+                    executor.setVirtualThreads(true);
+                    factory.getContainerProperties().setListenerTaskExecutor(executor);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportMode() {
+        int feature = Runtime.version().feature();
+        if (feature < 21) {
+            log.warn("spring.threads.virtual.enabled=true 이지만 JRE {} 에서 실행 중 → 플랫폼 스레드로 동작합니다 (JRE 21 이상 필요)", feature);
+            return;
+        }
+        log.info("가상 스레드 실행 모드 활성화 - Tomcat/@Scheduled/@Async/Kafka listener (JRE {})", feature);
+    }
+}
@@ -1,12 +1,14 @@
 package com.ssafy.keeping.global.config;
 
 import com.ssafy.keeping.global.client.FinOpenApiProperties;
+import com.ssafy.keeping.global.monitoring.ExternalApiMetrics;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
 
@@ -16,15 +18,19 @@ import java.util.concurrent.TimeUnit;
 public class WebClientConfig {
 
     @Bean
-    public WebClient finOpenApiWebClient(@Value("${finopenapi.base-url}") String baseUrl, FinOpenApiProperties props) {
+    public WebClient finOpenApiWebClient(@Value("${finopenapi.base-url}") String baseUrl, FinOpenApiProperties props,
+                                         ExternalApiMetrics externalApiMetrics) {
         HttpClient httpClient = HttpClient.create()
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, props.getTimeOutMs().getConnect())
                 .doOnConnected(conn ->
                         conn.addHandlerLast(new ReadTimeoutHandler(props.getTimeOutMs().getRead(), TimeUnit.MILLISECONDS))
                                 .addHandlerLast(new WriteTimeoutHandler(props.getTimeOutMs().getRead(), TimeUnit.MILLISECONDS))
                 );
+        // 타임아웃이 걸린 커넥터 사용 + 엔드포인트별 지연 계측
         return WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(externalApiMetrics.webClientFilter())
                 .build();
     }
 
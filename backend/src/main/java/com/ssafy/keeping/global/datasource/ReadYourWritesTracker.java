@@ -0,0 +1,61 @@
+package com.ssafy.keeping.global.datasource;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 본인 쓰기 직후 읽기를 주 DB 로 고정 (read-your-writes)
+ * - 로그인 사용자: 역할 + 사용자ID 기준, 비로그인(스케줄러/리스너 등): 스레드 기준
+ * - 쓰기 트랜잭션 커밋 시각부터 window 동안 고정
+ * - 노드 메모리 기준이라 다음 요청이 다른 노드로 가면 적용되지 않음 (그 경우 복제 지연만큼 이전 값을 볼 수 있음)
+ */
+public class ReadYourWritesTracker {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> lastWriteByThread = new ThreadLocal<>();
+
+    public ReadYourWritesTracker(long windowMs) {
+        this.windowNanos = windowMs * 1_000_000L;
+    }
+
+    /** 현재 요청 주체 (비로그인 null) */
+    public String currentUserKey() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) return null;
+        String role = auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(a -> a.startsWith("ROLE_"))
+                .findFirst()
+                .orElse("ROLE_");
+        return role + ":" + auth.getName();
+    }
+
+    public void markWrite(String userKey) {
+        long now = System.nanoTime();
+        if (userKey == null) {
+            lastWriteByThread.set(now);
+            return;
+        }
+        lastWriteByUser.put(userKey, now);
+        if (lastWriteByUser.size() > CLEANUP_THRESHOLD) {
+            lastWriteByUser.values().removeIf(at -> now - at > windowNanos);
+        }
+    }
+
+    public boolean isSticky(String userKey) {
+        Long at = userKey == null ? lastWriteByThread.get() : lastWriteByUser.get(userKey);
+        return at != null && System.nanoTime() - at <= windowNanos;
+    }
+
+    public int trackedUsers() {
+        return lastWriteByUser.size();
+    }
+}
@@ -0,0 +1,98 @@
+package com.ssafy.keeping.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 복제본 지연 측정 (하트비트 테이블)
+ * - 주 DB 의 replication_heartbeat 행에 현재 시각 기록 → 복제본에서 같은 행을 읽어 차이를 지연으로 봄
+ * - 복제 권한(SHOW REPLICA STATUS) 없이 실제 읽기 경로 기준 지연을 잼
+ * - 측정 전 / 측정 실패 / max-lag 초과 / 마지막 측정이 오래된 복제본은 읽기 대상에서 제외
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String UPDATE_BEAT = """
+            UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1
+            """;
+    static final String INSERT_BEAT = """
+            INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)
+            """;
+    static final String SELECT_BEAT = """
+            SELECT beat_at FROM replication_heartbeat WHERE id = 1
+            """;
+
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final long maxLagMs;
+    private final long staleAfterNanos;
+
+    /** 복제본별 마지막 측정 (없으면 아직 측정 전) */
+    private final Map<String, Sample> samples = new ConcurrentHashMap<>();
+
+    public record Sample(long lagMs, long measuredAtNanos) {
+    }
+
+    public ReplicaLagMonitor(DataSource primary, Map<String, DataSource> replicas, long maxLagMs, long intervalMs) {
+        this.primary = new JdbcTemplate(primary);
+        replicas.forEach((key, ds) -> this.replicas.put(key, new JdbcTemplate(ds)));
+        this.maxLagMs = maxLagMs;
+        this.staleAfterNanos = intervalMs * 3 * 1_000_000L;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.heartbeat-interval-ms:1000}")
+    public void check() {
+        Timestamp primaryBeat;
+        try {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            if (primary.update(UPDATE_BEAT, now) == 0) primary.update(INSERT_BEAT, now);
+            primaryBeat = primary.queryForObject(SELECT_BEAT, Timestamp.class);
+        } catch (Exception e) {
+            // 주 DB 장애면 라우팅과 무관 (쓰기도 실패) → 복제본 상태는 마지막 측정 유지, 오래되면 자연히 제외
+            log.warn("복제 하트비트 기록 실패 - 오류: {}", e.getMessage());
+            return;
+        }
+
+        replicas.forEach((key, replica) -> {
+            try {
+                Timestamp replicaBeat = replica.queryForObject(SELECT_BEAT, Timestamp.class);
+                long lag = Math.max(0, primaryBeat.getTime() - replicaBeat.getTime());
+                Sample previous = samples.put(key, new Sample(lag, System.nanoTime()));
+                boolean wasHealthy = previous != null && previous.lagMs() <= maxLagMs;
+                if (wasHealthy && lag > maxLagMs) {
+                    log.warn("복제본 지연 초과로 읽기 제외 - {}: {}ms (기준 {}ms)", key, lag, maxLagMs);
+                } else if (!wasHealthy && lag <= maxLagMs) {
+                    log.info("복제본 읽기 대상 포함 - {}: {}ms", key, lag);
+                }
+            } catch (Exception e) {
+                if (samples.remove(key) != null) {
+                    log.warn("복제본 지연 측정 실패로 읽기 제외 - {}: {}", key, e.getMessage());
+                }
+            }
+        });
+    }
+
+    public boolean isHealthy(String key) {
+        Sample sample = samples.get(key);
+        return sample != null
+                && sample.lagMs() <= maxLagMs
+                && System.nanoTime() - sample.measuredAtNanos() <= staleAfterNanos;
+    }
+
+    /** 복제본별 마지막 지연(ms), 측정 전/실패는 -1 */
+    public Map<String, Long> lags() {
+        Map<String, Long> lags = new LinkedHashMap<>();
+        replicas.keySet().forEach(key -> {
+            Sample sample = samples.get(key);
+            lags.put(key, sample == null ? -1L : sample.lagMs());
+        });
+        return lags;
+    }
+}
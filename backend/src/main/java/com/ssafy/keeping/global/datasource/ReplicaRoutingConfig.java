@@ -0,0 +1,80 @@
+package com.ssafy.keeping.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주 DB + 읽기 복제본 라우팅 (datasource.routing.enabled=true 일 때만, 아니면 기존 단일 DataSource 자동 설정 그대로)
+ * - 주 DB: spring.datasource.* + spring.datasource.hikari.* (풀 이름 primary)
+ * - 복제본: datasource.routing.replicas[n].url/username/password (풀 이름 replica-n, 읽기 전용)
+ *   username/password 를 비우면 주 DB 계정 사용
+ * - JPA/JdbcTemplate 은 @Primary LazyConnectionDataSourceProxy → ReplicaRoutingDataSource 를 사용
+ * - 주 DB/복제본에 replication_heartbeat 테이블 필요 (keeping.sql)
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return ds;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             ReplicaRoutingProperties routing) {
+        Map<String, DataSource> replicas = replicaPools(properties, routing.getReplicas());
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(primaryDataSource, replicas,
+                routing.getMaxLagMs(), routing.getHeartbeatIntervalMs());
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, lagMonitor,
+                new ReadYourWritesTracker(routing.getStickyWindowMs()));
+    }
+
+    // 하트비트 스케줄(@Scheduled) 등록용
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return replicaRoutingDataSource.lagMonitor();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static Map<String, DataSource> replicaPools(DataSourceProperties properties,
+                                                        List<ReplicaRoutingProperties.Replica> replicas) {
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaRoutingProperties.Replica replica = replicas.get(i);
+            HikariDataSource ds = new HikariDataSource();
+            ds.setPoolName("replica-" + i);
+            ds.setJdbcUrl(replica.getUrl());
+            ds.setUsername(StringUtils.hasText(replica.getUsername()) ? replica.getUsername() : properties.determineUsername());
+            ds.setPassword(StringUtils.hasText(replica.getUsername()) ? replica.getPassword() : properties.determinePassword());
+            if (properties.getDriverClassName() != null) ds.setDriverClassName(properties.getDriverClassName());
+            ds.setMaximumPoolSize(replica.getMaximumPoolSize());
+            ds.setReadOnly(true);
+            pools.put(ds.getPoolName(), ds);
+        }
+        return pools;
+    }
+}
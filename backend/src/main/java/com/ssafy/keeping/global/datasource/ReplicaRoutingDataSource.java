@@ -0,0 +1,147 @@
+package com.ssafy.keeping.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 DataSource
+ * - LazyConnectionDataSourceProxy 뒤에 두어야 함: 실제 커넥션을 첫 SQL 시점에 빌려야 트랜잭션의 readOnly 여부가 정해져 있음
+ * - 쓰기 트랜잭션 / 트랜잭션 밖 → 주 DB
+ * - readOnly 트랜잭션 → 지연 기준을 만족하는 복제본을 순서대로 (없으면 주 DB)
+ *   단, 같은 사용자(비로그인이면 같은 스레드)가 방금 쓰기를 커밋했다면 주 DB (ReadYourWritesTracker)
+ * - readOnly 트랜잭션 안에서 쓰기를 하면 복제본(읽기 전용 풀)에서 실패하므로 쓰기 메서드는 readOnly 로 두지 않음
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker tracker;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder stickyReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+    private final LongAdder outsideTransaction = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReplicaLagMonitor lagMonitor, ReadYourWritesTracker tracker) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.lagMonitor = lagMonitor;
+        this.tracker = tracker;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public record PoolStats(String name, int active, int idle, int total, int waiting) {
+    }
+
+    public record Stats(long writes, long replicaReads, long stickyReads, long fallbackReads,
+                        long outsideTransaction, Map<String, Long> replicaLagMs, List<PoolStats> pools) {
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            outsideTransaction.increment();
+            return PRIMARY;
+        }
+        String userKey = tracker.currentUserKey();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        tracker.markWrite(userKey);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (tracker.isSticky(userKey)) {
+            stickyReads.increment();
+            return PRIMARY;
+        }
+        String replica = nextHealthyReplica();
+        if (replica == null) {
+            fallbackReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return replica;
+    }
+
+    private String nextHealthyReplica() {
+        int n = replicaKeys.size();
+        if (n == 0) return null;
+        int start = Math.floorMod(cursor.getAndIncrement(), n);
+        for (int i = 0; i < n; i++) {
+            String key = replicaKeys.get((start + i) % n);
+            if (lagMonitor.isHealthy(key)) return key;
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.stats-log-interval-ms:60000}")
+    public void logStats() {
+        log.info("DB 라우팅 통계 - {}", stats());
+    }
+
+    public ReplicaLagMonitor lagMonitor() {
+        return lagMonitor;
+    }
+
+    public Stats stats() {
+        List<PoolStats> pools = new ArrayList<>();
+        pools.add(poolStats(PRIMARY, primary));
+        replicas.forEach((key, ds) -> pools.add(poolStats(key, ds)));
+        return new Stats(writes.sum(), replicaReads.sum(), stickyReads.sum(), fallbackReads.sum(),
+                outsideTransaction.sum(), lagMonitor.lags(), pools);
+    }
+
+    private static PoolStats poolStats(String name, DataSource ds) {
+        if (ds instanceof HikariDataSource hikari && hikari.getHikariPoolMXBean() != null) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return new PoolStats(name, pool.getActiveConnections(), pool.getIdleConnections(),
+                    pool.getTotalConnections(), pool.getThreadsAwaitingConnection());
+        }
+        return new PoolStats(name, -1, -1, -1, -1);
+    }
+
+    /** 복제본 풀은 이 객체가 생성/소유 (주 DB 풀은 스프링 빈으로 별도 종료) */
+    @Override
+    public void destroy() {
+        replicas.values().forEach(ds -> {
+            if (ds instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("복제본 커넥션 풀 종료 실패 - 오류: {}", e.getMessage());
+                }
+            }
+        });
+    }
+}
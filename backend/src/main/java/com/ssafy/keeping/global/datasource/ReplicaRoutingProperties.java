@@ -0,0 +1,40 @@
+package com.ssafy.keeping.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션 복제본 라우팅 설정 (datasource.routing.enabled=true 일 때만 적용)
+ * - 주 DB 는 기존 spring.datasource.* / spring.datasource.hikari.* 그대로 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReplicaRoutingProperties {
+
+    private boolean enabled;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // 이 값보다 뒤처진 복제본은 읽기 대상에서 제외 (주 DB 로 대체)
+    private long maxLagMs = 1_000;
+
+    // 본인 쓰기 커밋 후 이 시간 동안은 읽기도 주 DB 로 (read-your-writes)
+    private long stickyWindowMs = 3_000;
+
+    // 하트비트 기록/지연 측정 주기 (측정이 이 주기 3배 이상 끊기면 복제본 제외)
+    private long heartbeatIntervalMs = 1_000;
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
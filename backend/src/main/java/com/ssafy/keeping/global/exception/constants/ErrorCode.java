@@ -64,14 +64,20 @@ public enum ErrorCode {
     INCONSISTENT_STATE(HttpStatus.CONFLICT, "처리 중 상태가 일치하지 않습니다."),
     BEFORE_GROUP_CHARGE(HttpStatus.BAD_REQUEST,  "그룹 지갑에 해당 매장 잔액이 없습니다."),
     OVER_GROUP_POINT   (HttpStatus.BAD_REQUEST,  "그룹 지갑 잔액이 부족합니다."),
+    TRANSFER_LOCK_CONFLICT(HttpStatus.CONFLICT, "다른 요청과 처리 순서가 겹쳤습니다. 잠시 후 다시 시도해주세요."),
     // user 관련
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 사용자를 찾을 수 없습니다."),
+    ONBOARDING_NOT_FOUND(HttpStatus.NOT_FOUND, "계좌/카드 준비 정보를 찾을 수 없습니다."),
+    ONBOARDING_IN_PROGRESS(HttpStatus.CONFLICT, "계좌/카드 준비가 진행 중입니다."),
+    ONBOARDING_ALREADY_COMPLETED(HttpStatus.CONFLICT, "계좌/카드 준비가 이미 완료되었습니다."),
+    ONBOARDING_NOT_COMPLETED(HttpStatus.CONFLICT, "계좌/카드 준비가 아직 끝나지 않아 결제할 수 없습니다. 준비가 완료된 후 다시 시도해주세요."),
 
     // 결제 요청(Payment Intent) / 검증
     PAYMENT_INIT_ORDER_EMPTY(HttpStatus.BAD_REQUEST, "주문 항목이 비어 있습니다."),
     PAYMENT_INIT_STORE_ID_REQUIRED(HttpStatus.BAD_REQUEST, "storeId는 필수입니다."),
     PAYMENT_INIT_QUANTITY_INVALID(HttpStatus.BAD_REQUEST, "수량은 1 이상이어야 합니다."),
     PAYMENT_INTENT_NOT_FOUND(HttpStatus.NOT_FOUND, "결제 요청 찾을 수 없습니다."),
+    LEDGER_ID_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "원장 ID 를 발급할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 멱등성(Idempotency)
     IDEMPOTENCY_KEY_REQUIRED(HttpStatus.BAD_REQUEST, "Idempotency-Key 헤더가 필요합니다."),
@@ -110,6 +116,7 @@ public enum ErrorCode {
     NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 알림을 찾을 수 없습니다."),
     NOTIFICATION_UNAUTHORIZED_ACCESS(HttpStatus.FORBIDDEN, "본인의 알림만 접근할 수 있습니다."),
     NOTIFICATION_ALREADY_READ(HttpStatus.BAD_REQUEST, "이미 읽은 알림입니다."),
+    NOTIFICATION_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "알림 목록 커서가 올바르지 않습니다."),
 
     // global
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "올바르지 않은 요청값입니다."),
@@ -162,6 +169,9 @@ public enum ErrorCode {
     WALLET_BALANCE_NOT_FOUND(HttpStatus.NOT_FOUND, "지갑 잔액 정보를 찾을 수 없습니다."),
     IMAGE_UPLOAD_ERROR(HttpStatus.BAD_REQUEST, "이미지 업로드에 실패했습니다"),
     IMAGE_UPDATE_ERROR(HttpStatus.BAD_REQUEST, "이미지 업데이트에 실패했습니다"),
+    IMAGE_TYPE_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "지원하지 않는 이미지 형식입니다. (jpg, jpeg, png, gif)"),
+    IMAGE_TOO_LARGE(HttpStatus.BAD_REQUEST, "이미지 용량이 너무 큽니다."),
+    IMAGE_DIMENSION_TOO_LARGE(HttpStatus.BAD_REQUEST, "이미지 해상도가 너무 큽니다."),
 
     // 충전 보너스 관련
     CHARGE_BONUS_NOT_FOUND(HttpStatus.NOT_FOUND, "충전 보너스 설정을 찾을 수 없습니다."),
@@ -178,7 +188,9 @@ public enum ErrorCode {
     OCR_FILE_TYPE_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "지원하지 않는 파일 형식입니다. (jpg, jpeg, png)"),
     OCR_FILE_TOO_LARGE(HttpStatus.BAD_REQUEST, "파일 용량이 너무 큽니다. (최대 10MB)"),
     OCR_UPSTREAM_BAD_REQUEST(HttpStatus.BAD_REQUEST, "OCR 요청 형식이 올바르지 않습니다."),
-    OCR_UPSTREAM_ERROR(HttpStatus.BAD_GATEWAY, "OCR 외부 API 호출 중 오류가 발생했습니다.");
+    OCR_UPSTREAM_ERROR(HttpStatus.BAD_GATEWAY, "OCR 외부 API 호출 중 오류가 발생했습니다."),
+    OCR_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "OCR 작업을 찾을 수 없습니다."),
+    OCR_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "OCR 요청이 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -0,0 +1,66 @@
+package com.ssafy.keeping.global.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * 외부 API 호출 지연 계측
+ * - external.api.requests: 호스트 · 엔드포인트(경로) · 상태 코드별 소요 시간 (p50/p95/p99)
+ * - SSAFY 금융 API 는 경로에 식별자가 없어 경로를 그대로 태그로 사용 (쿼리 문자열은 제외)
+ * - 응답을 받지 못한 호출(타임아웃/연결 실패)은 status=IO_ERROR
+ * - RestTemplate 은 인터셉터, WebClient 는 필터로 붙임 (직접 만든 클라이언트라 부트 자동 계측 대상이 아님)
+ */
+@Component
+public class ExternalApiMetrics {
+
+    static final String METRIC = "external.api.requests";
+    static final String IO_ERROR = "IO_ERROR";
+
+    private final MeterRegistry registry;
+
+    public ExternalApiMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public ClientHttpRequestInterceptor restTemplateInterceptor() {
+        return (request, body, execution) -> {
+            long start = System.nanoTime();
+            String status = IO_ERROR;
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                status = String.valueOf(response.getStatusCode().value());
+                return response;
+            } finally {
+                record(request.getURI(), status, System.nanoTime() - start);
+            }
+        };
+    }
+
+    public ExchangeFilterFunction webClientFilter() {
+        return (request, next) -> {
+            long start = System.nanoTime();
+            return next.exchange(request)
+                    .doOnNext(response -> record(request.url(), String.valueOf(response.statusCode().value()),
+                            System.nanoTime() - start))
+                    .doOnError(e -> record(request.url(), IO_ERROR, System.nanoTime() - start));
+        };
+    }
+
+    void record(URI uri, String status, long elapsedNanos) {
+        Timer.builder(METRIC)
+                .description("외부 API 호출 소요 시간")
+                .tag("host", uri.getHost() == null ? "unknown" : uri.getHost())
+                .tag("endpoint", uri.getPath() == null || uri.getPath().isEmpty() ? "/" : uri.getPath())
+                .tag("status", status)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry)
+                .record(Duration.ofNanos(elapsedNanos));
+    }
+}
@@ -0,0 +1,47 @@
+package com.ssafy.keeping.global.monitoring;
+
+import com.ssafy.keeping.domain.notification.gateway.NotificationSseGateway;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 게이트웨이 지표 (스크레이프 시점에 게이트웨이 값을 읽기만 함, 발행 경로에는 추가 비용 없음)
+ * - sse.connections: 이 노드의 열린 연결 수
+ * - sse.receivers: 연결을 가진 수신자 수
+ * - sse.queue.depth: 전체 연결의 대기 이벤트 수
+ * - sse.events.published / sse.events.dropped / sse.slow.consumer.disconnects: 누적 건수
+ */
+@Component
+public class NotificationSseMetrics implements MeterBinder {
+
+    private final NotificationSseGateway gateway;
+
+    public NotificationSseMetrics(NotificationSseGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sse.connections", gateway, NotificationSseGateway::connectionCount)
+                .description("열린 SSE 연결 수")
+                .register(registry);
+        Gauge.builder("sse.receivers", gateway, NotificationSseGateway::receiverCount)
+                .description("SSE 연결을 가진 수신자 수")
+                .register(registry);
+        Gauge.builder("sse.queue.depth", gateway, NotificationSseGateway::queueDepth)
+                .description("SSE 연결 대기 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("sse.events.published", gateway, NotificationSseGateway::publishedEvents)
+                .description("SSE 발행 건수")
+                .register(registry);
+        FunctionCounter.builder("sse.events.dropped", gateway, NotificationSseGateway::droppedEvents)
+                .description("큐가 가득 차 드롭된 SSE 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("sse.slow.consumer.disconnects", gateway, NotificationSseGateway::slowConsumerDisconnects)
+                .description("느린 소비자로 종료된 SSE 연결 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,82 @@
+package com.ssafy.keeping.global.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 결제 핫패스 계측
+ * - payment.phase: 단계별 소요 시간 (operation=initiate|approve, phase=idempotency_begin|pin_verify|capture|notify|idempotency_complete)
+ *   p50/p95/p99 + Prometheus 히스토그램 버킷 (1ms ~ 2s)
+ * - payment.idempotency: 멱등 처리 결과 건수 (outcome=created|replay|accepted|conflict)
+ * - 미터는 생성 시 모두 등록해 두고 호출 경로에서는 조회 없이 기록만 함
+ */
+@Component
+public class PaymentMetrics {
+
+    public enum Operation { INITIATE, APPROVE }
+
+    public enum Phase { IDEMPOTENCY_BEGIN, PIN_VERIFY, CAPTURE, NOTIFY, IDEMPOTENCY_COMPLETE }
+
+    public enum IdemOutcome { CREATED, REPLAY, ACCEPTED, CONFLICT }
+
+    private final Map<Operation, Map<Phase, Timer>> phaseTimers = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<IdemOutcome, Counter>> idemCounters = new EnumMap<>(Operation.class);
+
+    public PaymentMetrics(MeterRegistry registry) {
+        for (Operation operation : Operation.values()) {
+            Map<Phase, Timer> timers = new EnumMap<>(Phase.class);
+            for (Phase phase : Phase.values()) {
+                timers.put(phase, Timer.builder("payment.phase")
+                        .description("결제 단계별 소요 시간")
+                        .tag("operation", tagValue(operation))
+                        .tag("phase", tagValue(phase))
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(2))
+                        .register(registry));
+            }
+            phaseTimers.put(operation, timers);
+
+            Map<IdemOutcome, Counter> counters = new EnumMap<>(IdemOutcome.class);
+            for (IdemOutcome outcome : IdemOutcome.values()) {
+                counters.put(outcome, Counter.builder("payment.idempotency")
+                        .description("멱등 처리 결과 건수")
+                        .tag("operation", tagValue(operation))
+                        .tag("outcome", tagValue(outcome))
+                        .register(registry));
+            }
+            idemCounters.put(operation, counters);
+        }
+    }
+
+    /**
+     * 단계 실행 시간 기록 (예외로 끝나도 기록)
+     */
+    public <T> T time(Operation operation, Phase phase, Supplier<T> body) {
+        return phaseTimers.get(operation).get(phase).record(body);
+    }
+
+    public void time(Operation operation, Phase phase, Runnable body) {
+        phaseTimers.get(operation).get(phase).record(body);
+    }
+
+    public void idempotency(Operation operation, IdemOutcome outcome) {
+        idemCounters.get(operation).get(outcome).increment();
+    }
+
+    public Timer timer(Operation operation, Phase phase) {
+        return phaseTimers.get(operation).get(phase);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase();
+    }
+}
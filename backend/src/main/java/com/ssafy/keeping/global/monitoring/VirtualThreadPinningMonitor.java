@@ -0,0 +1,93 @@
+package com.ssafy.keeping.global.monitoring;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 핀닝 진단
+ * - JFR jdk.VirtualThreadPinned 이벤트(임계값 이상 캐리어 스레드를 붙잡은 경우)를 스트리밍으로 구독
+ * - synchronized 블록/네이티브 프레임 안에서 I/O 로 블로킹된 지점을 우리 코드 프레임 기준으로 집계해 경고
+ * - 이벤트 이름 문자열 기반이라 Java 17 로 컴파일되고, JRE 21 이상에서만 이벤트가 발생
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.ssafy.keeping";
+
+    @Value("${vthreads.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream stream;
+
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private final Map<String, LongAdder> pinnedBySite = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (Runtime.version().feature() < 21) return;
+
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            log.info("가상 스레드 핀닝 모니터 시작 - 임계값: {}ms", thresholdMs);
+        } catch (Exception e) {
+            log.warn("가상 스레드 핀닝 모니터 시작 실패: {}", e.getMessage());
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        String site = pinnedSite(event);
+        pinnedBySite.computeIfAbsent(site, k -> new LongAdder()).increment();
+        log.warn("가상 스레드 핀닝 - {}ms, 위치: {}", event.getDuration().toMillis(), site);
+    }
+
+    /**
+     * 스택에서 첫 번째 우리 코드 프레임 (없으면 최상단 프레임)
+     */
+    private String pinnedSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) return "unknown";
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return type + "#" + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        if (frames.isEmpty()) return "unknown";
+        RecordedFrame top = frames.get(0);
+        return top.getMethod().getType().getName() + "#" + top.getMethod().getName();
+    }
+
+    @Scheduled(fixedDelayString = "${vthreads.pinning.report-interval-ms:300000}")
+    public void report() {
+        if (pinnedCount.get() == 0) return;
+        log.warn("가상 스레드 핀닝 누적 {}건 - 위치별: {}", pinnedCount.get(), pinnedBySite);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) stream.close();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ssafy.keeping.global.redis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 여러 키에 대한 명령을 파이프라인으로 묶어 보내는 공용 도우미
+ * - 입력 1개당 명령 N개를 쌓고 batchSize 입력 단위로 왕복 (수천 건이어도 응답 버퍼가 한없이 커지지 않음)
+ * - 결과는 입력 순서대로, 입력 1개당 쌓은 명령 수만큼 이어서 반환
+ * - 파이프라인은 전용 커넥션을 쓰므로 RedisConfig 의 풀에서 빌리고 반납
+ * - 클러스터에서는 키마다 해당 노드로 나뉘어 전송됨 (여러 키를 원자적으로 다뤄야 하면 Lua + 해시태그 사용)
+ */
+@Component
+public class RedisPipeline {
+
+    private final StringRedisTemplate redis;
+    private final int batchSize;
+
+    public RedisPipeline(StringRedisTemplate redis,
+                         @Value("${spring.data.redis.pipeline.batch-size:500}") int batchSize) {
+        this.redis = redis;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * @param command 입력 1개에 대해 쌓을 명령 (입력마다 같은 수의 명령을 쌓아야 결과 위치가 맞음)
+     */
+    public <T> List<Object> execute(List<T> inputs, BiConsumer<StringRedisConnection, T> command) {
+        if (inputs.isEmpty()) return List.of();
+
+        List<Object> results = new ArrayList<>(inputs.size());
+        for (int from = 0; from < inputs.size(); from += batchSize) {
+            List<T> batch = inputs.subList(from, Math.min(from + batchSize, inputs.size()));
+            List<Object> part = redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (T input : batch) {
+                    command.accept(conn, input);
+                }
+                return null;
+            });
+            if (part != null) results.addAll(part);
+        }
+        return results;
+    }
+
+    /**
+     * 키마다 EXISTS, 입력 순서대로 존재 여부 (응답이 비정상이면 null 위치 그대로)
+     */
+    public List<Boolean> existsEach(List<String> keys) {
+        List<Object> results = execute(keys, (conn, key) -> conn.exists(key));
+        List<Boolean> exists = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Object result = i < results.size() ? results.get(i) : null;
+            exists.add(result instanceof Boolean b ? b : null);
+        }
+        return exists;
+    }
+
+    /**
+     * 카운터 증가 + 첫 생성 시점 기준 만료 (왕복 1회)
+     * - SET NX EX 로 만료를 건 0 을 먼저 만들고 INCR → INCR 후 EXPIRE 가 유실돼 영구 키가 남는 일이 없음
+     */
+    public long incrementWithTtl(String key, Duration ttl) {
+        List<Object> results = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.set(key, "0", Expiration.from(ttl), SetOption.SET_IF_ABSENT);
+            conn.incr(key);
+            return null;
+        });
+        return ((Number) results.get(1)).longValue();
+    }
+}
@@ -0,0 +1,47 @@
+package com.ssafy.keeping.global.s3.constant;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지 변형본 (원본과 같은 폴더에 JPEG 로 저장)
+ * - 원본 키: images/{id}/original.{ext} → 변형본 키: images/{id}/{name}.jpg
+ * - 이 규칙 이전에 올라간 이미지 / 기본 이미지는 변형본이 없으므로 원본 URL 그대로 사용
+ * - 규칙에 맞는 원본은 업로드 시 변형본 키에 원본 복사본이 먼저 생기므로 변형본 URL 이 바로 유효
+ * - WebP 원본은 디코딩할 수 없어 변형본을 만들지 않으므로 원본 URL 그대로 사용
+ */
+public enum ImageVariant {
+    THUMBNAIL("thumb", 240),   // 메뉴 목록
+    MEDIUM("medium", 960);     // 가게 상세
+
+    public static final String KEY_PREFIX = "images/";
+    public static final String ORIGINAL_NAME = "original";
+    private static final Pattern ORIGINAL = Pattern.compile("^(.*/" + KEY_PREFIX + "[^/]+/)" + ORIGINAL_NAME + "\\.(?![Ww][Ee][Bb][Pp]$)[A-Za-z0-9]+$");
+
+    private final String fileName;
+    private final int maxEdge;
+
+    ImageVariant(String fileName, int maxEdge) {
+        this.fileName = fileName;
+        this.maxEdge = maxEdge;
+    }
+
+    public int maxEdge() {
+        return maxEdge;
+    }
+
+    /** 원본 키(또는 URL) → 변형본 키(또는 URL), 규칙에 맞지 않으면 null */
+    public String keyOf(String original) {
+        if (original == null) return null;
+        Matcher m = ORIGINAL.matcher(original.startsWith(KEY_PREFIX) ? "/" + original : original);
+        if (!m.matches()) return null;
+        String variant = m.group(1) + fileName + ".jpg";
+        return original.startsWith(KEY_PREFIX) ? variant.substring(1) : variant;
+    }
+
+    /** 응답용 URL: 변형본이 없는 이미지는 원본 URL */
+    public String urlOf(String originalUrl) {
+        String variant = keyOf(originalUrl);
+        return variant != null ? variant : originalUrl;
+    }
+}
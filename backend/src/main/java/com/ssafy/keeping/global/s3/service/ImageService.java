@@ -3,22 +3,27 @@ package com.ssafy.keeping.global.s3.service;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
 import com.ssafy.keeping.domain.menu.repository.MenuRepository;
 import com.ssafy.keeping.domain.store.repository.StoreRepository;
 import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
 import com.ssafy.keeping.domain.user.owner.repository.OwnerRepository;
 import com.ssafy.keeping.global.exception.CustomException;
 import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import com.ssafy.keeping.global.s3.constant.ImageVariant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.awt.Dimension;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -26,7 +31,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ImageService {
 
+    // WebP 는 JDK ImageIO 로 디코딩할 수 없어 변형본 없이 원본만 저장 (응답 URL 도 원본)
+    private static final String WEBP = "image/webp";
+    private static final Set<String> ALLOWED_CONTENT_TYPES =
+            Set.of("image/jpeg", "image/jpg", "image/png", WEBP, "image/gif");
+
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
+    private final ImageVariantService imageVariantService;
     private final CustomerRepository customerRepository;
     private final OwnerRepository ownerRepository;
     private final MenuRepository menuRepository;
@@ -35,27 +47,23 @@ public class ImageService {
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
-    // 이미지 저장/업데이트
-    public String updateProfileImage(String oldImgUrl, MultipartFile newImage) {
+    @Value("${image.upload.max-bytes:10485760}")
+    private long maxUploadBytes;
 
-        deleteFileFromS3(oldImgUrl);
+    @Value("${image.upload.multipart-threshold:5242880}")
+    private long multipartThreshold;
 
-        String fileName = UUID.randomUUID() + "_" + newImage.getOriginalFilename();
+    @Value("${image.upload.max-pixels:40000000}")
+    private long maxPixels;
 
-        // 메타데이터 설정
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType(newImage.getContentType());
-        metadata.setContentLength(newImage.getSize());
+    // 이미지 저장/업데이트
+    public String updateProfileImage(String oldImgUrl, MultipartFile newImage) {
+        // 새 이미지 검증이 끝난 뒤 기존 이미지 삭제
+        validate(newImage);
 
-        PutObjectRequest putObjectRequest = null;
-        try {
-            putObjectRequest = new PutObjectRequest(bucketName, fileName, newImage.getInputStream(), metadata);
-        } catch (IOException e) {
-            throw new CustomException(ErrorCode.IMAGE_UPLOAD_ERROR);
-        }
-        amazonS3.putObject(putObjectRequest);
+        deleteFileFromS3(oldImgUrl);
 
-        return getPublicUrl(fileName);
+        return getPublicUrl(upload(newImage));
     }
 
     public String uploadImage(MultipartFile image, String kindOfImage) {
@@ -70,24 +78,128 @@ public class ImageService {
             return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, amazonS3.getRegionName(), basicImageFileName);
         }
 
-        String fileName = UUID.randomUUID() + "_" + image.getOriginalFilename();
+        validate(image);
+
+        return getPublicUrl(upload(image));
+    }
+
+    /**
+     * 본문을 읽기 전에 크기/형식 검증 (MultipartFile 크기는 파싱 단계에서 이미 알 수 있음)
+     * - 이후 헤더만 읽어 실제 이미지인지, 픽셀 수가 max-pixels 이하인지 확인 (WebP 는 RIFF 헤더에서 직접)
+     */
+    private void validate(MultipartFile image) {
+        if (image == null || image.isEmpty()) {
+            throw new CustomException(ErrorCode.IMAGE_UPLOAD_ERROR);
+        }
+        if (image.getSize() > maxUploadBytes) {
+            throw new CustomException(ErrorCode.IMAGE_TOO_LARGE);
+        }
+        String contentType = image.getContentType();
+        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase())) {
+            throw new CustomException(ErrorCode.IMAGE_TYPE_NOT_ALLOWED);
+        }
+
+        Dimension size;
+        try (InputStream in = image.getInputStream()) {
+            size = WEBP.equalsIgnoreCase(contentType)
+                    ? readWebpDimensions(in)
+                    : ImageVariantService.readDimensions(in);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.IMAGE_UPLOAD_ERROR);
+        }
+        if (size == null) {
+            throw new CustomException(ErrorCode.IMAGE_TYPE_NOT_ALLOWED);
+        }
+        if ((long) size.width * size.height > maxPixels) {
+            throw new CustomException(ErrorCode.IMAGE_DIMENSION_TOO_LARGE);
+        }
+    }
+
+    /**
+     * 원본을 스트림 그대로 S3 에 저장 (메모리에 올리지 않음) 후 변형본 생성은 비동기로 넘김
+     * - multipart-threshold 이상이면 TransferManager 멀티파트 업로드, 미만이면 단일 PUT
+     * - 변형본 키에는 먼저 원본을 복사 → 생성이 끝나기 전에도 썸네일/중간 크기 URL 이 원본을 돌려줌
+     * - WebP 는 변형본을 만들지 않음 (ImageVariant.keyOf 가 null → 응답 URL 은 원본)
+     * @return 원본 S3 키 (images/{id}/original.{ext})
+     */
+    private String upload(MultipartFile image) {
+        String key = ImageVariant.KEY_PREFIX + UUID.randomUUID() + "/" + ImageVariant.ORIGINAL_NAME
+                + "." + extensionOf(image.getContentType());
 
         // 메타데이터 설정
         ObjectMetadata metadata = new ObjectMetadata();
         metadata.setContentType(image.getContentType());
         metadata.setContentLength(image.getSize());
+        metadata.setCacheControl("public, max-age=31536000, immutable");
 
-        PutObjectRequest putObjectRequest = null;
-        try {
-            putObjectRequest = new PutObjectRequest(bucketName, fileName, image.getInputStream(), metadata);
+        try (InputStream in = image.getInputStream()) {
+            if (image.getSize() >= multipartThreshold) {
+                transferManager.upload(bucketName, key, in, metadata).waitForCompletion();
+            } else {
+                amazonS3.putObject(new PutObjectRequest(bucketName, key, in, metadata));
+            }
         } catch (IOException e) {
             throw new CustomException(ErrorCode.IMAGE_UPLOAD_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.IMAGE_UPLOAD_ERROR);
         }
-        amazonS3.putObject(putObjectRequest);
 
-        return getPublicUrl(fileName);
+        if (!WEBP.equalsIgnoreCase(image.getContentType())) {
+            imageVariantService.copyOriginalToVariants(key);
+            imageVariantService.generateAsync(key);
+        }
+        return key;
+    }
+
+    private static String extensionOf(String contentType) {
+        return switch (contentType.toLowerCase()) {
+            case "image/png" -> "png";
+            case "image/gif" -> "gif";
+            case WEBP -> "webp";
+            default -> "jpg";
+        };
     }
 
+    /**
+     * WebP(RIFF) 헤더에서 픽셀 크기만 읽음 (VP8 / VP8L / VP8X)
+     * @return WebP 가 아니면 null
+     */
+    static Dimension readWebpDimensions(InputStream in) throws IOException {
+        byte[] h = in.readNBytes(30);
+        if (h.length < 30 || !ascii(h, 0, "RIFF") || !ascii(h, 8, "WEBP")) return null;
+        if (ascii(h, 12, "VP8 ")) {
+            // 손실 압축: 키프레임 시작 코드 9D 01 2A 뒤 14비트 폭/높이
+            if ((h[23] & 0xFF) != 0x9D || (h[24] & 0xFF) != 0x01 || (h[25] & 0xFF) != 0x2A) return null;
+            return new Dimension(le16(h, 26) & 0x3FFF, le16(h, 28) & 0x3FFF);
+        }
+        if (ascii(h, 12, "VP8L")) {
+            // 무손실: 시그니처 0x2F 뒤 (폭-1, 높이-1) 각 14비트
+            if ((h[20] & 0xFF) != 0x2F) return null;
+            int bits = (h[21] & 0xFF) | (h[22] & 0xFF) << 8 | (h[23] & 0xFF) << 16 | (h[24] & 0xFF) << 24;
+            return new Dimension((bits & 0x3FFF) + 1, ((bits >>> 14) & 0x3FFF) + 1);
+        }
+        if (ascii(h, 12, "VP8X")) {
+            // 확장 형식: 캔버스 (폭-1, 높이-1) 각 24비트
+            return new Dimension(le24(h, 24) + 1, le24(h, 27) + 1);
+        }
+        return null;
+    }
+
+    private static boolean ascii(byte[] b, int offset, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (b[offset + i] != (byte) s.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static int le16(byte[] b, int offset) {
+        return (b[offset] & 0xFF) | (b[offset + 1] & 0xFF) << 8;
+    }
+
+    private static int le24(byte[] b, int offset) {
+        return le16(b, offset) | (b[offset + 2] & 0xFF) << 16;
+    }
 
     // 기존에 있던 S3 파일 삭제
     public void deleteFileFromS3(String s3Url) {
@@ -99,6 +211,7 @@ public class ImageService {
         try {
             String s3Key = extractS3Key(s3Url);
             deleteFile(s3Key);
+            imageVariantService.delete(s3Key);
             log.debug("S3 파일 삭제 완료 : {}, Url : {}", s3Key, s3Url);
         } catch (Exception e) {
             log.debug("S3 파일 삭제 실패 : {}", s3Url, e);
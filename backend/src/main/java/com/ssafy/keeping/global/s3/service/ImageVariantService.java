@@ -0,0 +1,280 @@
+package com.ssafy.keeping.global.s3.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.ssafy.keeping.global.s3.constant.ImageVariant;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업로드된 원본으로 변형본(썸네일/중간 크기) 생성
+ * - 요청 스레드와 분리: 업로드 직후 작업 스레드에서 S3 원본을 스트림으로 읽어 축소 → JPEG 재압축 → 저장
+ * - 축소/인코딩은 CPU 작업이라 작업 스레드 수를 코어 수의 절반으로 제한, 대기열도 image.variant.queue-capacity 로 제한
+ *   → 업로드가 몰려 대기열이 차면 생성을 건너뜀 (변형본 키의 원본 복사본이 그대로 쓰임)
+ * - 응답 URL 은 키만으로 결정(ImageVariant.urlOf)하므로 변형본 키가 항상 있어야 함
+ *   → 업로드 직후 원본을 변형본 키로 서버 측 복사(placeholder)해 두고, 생성되면 축소본으로 덮어씀
+ *   → 디코딩 실패 / 해상도 초과 / 원본이 이미 작은 경우에는 원본 복사본이 그대로 남음
+ * - 디코딩 전에 헤더만 읽어 픽셀 수를 확인 (작은 파일이 거대한 비트맵으로 풀리는 이미지 방지)
+ * - 디코딩은 가장 큰 변형본 크기 이상을 유지하는 정수 배율로 건너뛰며 읽음 (MenuImageDownscaler 와 같은 방식)
+ *   → 4천만 화소 원본도 전체 비트맵(약 160MB)을 만들지 않음
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private final AmazonS3 amazonS3;
+    private final String bucketName;
+    private final float quality;
+    private final long maxPixels;
+    private final ThreadPoolExecutor worker;
+
+    // 누적 지표 (원본 대비 변형본 바이트)
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder originalBytes = new LongAdder();
+    private final LongAdder variantBytes = new LongAdder();
+
+    public ImageVariantService(AmazonS3 amazonS3,
+                               @Value("${cloud.aws.s3.bucket}") String bucketName,
+                               @Value("${image.variant.jpeg-quality:0.8}") float quality,
+                               @Value("${image.upload.max-pixels:40000000}") long maxPixels,
+                               @Value("${image.variant.queue-capacity:100}") int queueCapacity) {
+        this.amazonS3 = amazonS3;
+        this.bucketName = bucketName;
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+        CustomizableThreadFactory threads = new CustomizableThreadFactory("image-variant-");
+        threads.setDaemon(true);
+        int workerCount = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.worker = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), threads, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * @param skipped 대기열이 가득 차 생성을 건너뛴 수 (원본 복사본이 변형본으로 남음)
+     */
+    public record Stats(long generated, long failed, long skipped, long originalBytes, long variantBytes) {
+    }
+
+    /**
+     * 변형본 키에 원본을 복사해 둠 (업로드 요청 스레드에서 호출 → 응답 URL 이 생성 전에도 404 가 아님)
+     */
+    public void copyOriginalToVariants(String originalKey) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            amazonS3.copyObject(bucketName, originalKey, bucketName, variant.keyOf(originalKey));
+        }
+    }
+
+    /** 변형본 생성 요청 (비동기) */
+    public void generateAsync(String originalKey) {
+        try {
+            worker.execute(() -> generate(originalKey));
+        } catch (RejectedExecutionException e) {
+            skipped.increment();
+            log.warn("이미지 변형본 생성 생략 ({}) - key: {}", worker.isShutdown() ? "종료 중" : "대기열 가득 참", originalKey);
+        }
+    }
+
+    /** 원본 1개의 변형본 전체 생성 (동기) */
+    public void generate(String originalKey) {
+        try {
+            BufferedImage source;
+            long sourceBytes;
+            try (S3Object object = amazonS3.getObject(bucketName, originalKey);
+                 InputStream in = object.getObjectContent()) {
+                sourceBytes = object.getObjectMetadata().getContentLength();
+                source = decode(in, originalKey);
+            }
+            if (source == null) {
+                fallBackToOriginal(originalKey);
+                return;
+            }
+
+            for (ImageVariant variant : ImageVariant.values()) {
+                byte[] encoded = encodeJpeg(resize(source, variant.maxEdge()), quality);
+                if (encoded.length >= sourceBytes) {
+                    // 원본이 이미 작음 → 원본을 그대로 변형본 키로 복사
+                    amazonS3.copyObject(bucketName, originalKey, bucketName, variant.keyOf(originalKey));
+                    variantBytes.add(sourceBytes);
+                    continue;
+                }
+                ObjectMetadata metadata = new ObjectMetadata();
+                metadata.setContentType("image/jpeg");
+                metadata.setContentLength(encoded.length);
+                metadata.setCacheControl("public, max-age=31536000, immutable");
+                amazonS3.putObject(bucketName, variant.keyOf(originalKey), new ByteArrayInputStream(encoded), metadata);
+                variantBytes.add(encoded.length);
+            }
+            originalBytes.add(sourceBytes);
+            generated.increment();
+            log.debug("이미지 변형본 생성 완료 - key: {}, {}x{}, {} bytes",
+                    originalKey, source.getWidth(), source.getHeight(), sourceBytes);
+        } catch (Exception e) {
+            log.error("이미지 변형본 생성 실패 - key: {}", originalKey, e);
+            fallBackToOriginal(originalKey);
+        }
+    }
+
+    /**
+     * 헤더로 픽셀 수를 확인한 뒤 디코딩, 읽을 수 없는 형식이거나 max-pixels 초과면 null
+     */
+    private BufferedImage decode(InputStream in, String originalKey) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            ImageReader reader = readerOf(iis);
+            if (reader == null) {
+                log.warn("이미지 변형본 생성 불가 (지원하지 않는 형식) - key: {}", originalKey);
+                return null;
+            }
+            try {
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("이미지 변형본 생성 불가 (해상도 초과) - key: {}, {}x{}",
+                            originalKey, reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                // 가장 큰 변형본보다 작아지지 않는 최대 정수 배율로 건너뛰며 디코딩
+                int subsampling = subsampling(reader.getWidth(0), reader.getHeight(0), maxVariantEdge());
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    static int subsampling(int width, int height, int maxEdge) {
+        return Math.max(1, Math.max(width, height) / maxEdge);
+    }
+
+    private static int maxVariantEdge() {
+        int max = 1;
+        for (ImageVariant variant : ImageVariant.values()) max = Math.max(max, variant.maxEdge());
+        return max;
+    }
+
+    /**
+     * 헤더만 읽어 픽셀 크기 확인 (본문은 디코딩하지 않음)
+     * @return 읽을 수 있는 형식이 아니면 null
+     */
+    public static Dimension readDimensions(InputStream in) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            ImageReader reader = readerOf(iis);
+            if (reader == null) return null;
+            try {
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static ImageReader readerOf(ImageInputStream iis) {
+        if (iis == null) return null;
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+        if (!readers.hasNext()) return null;
+        ImageReader reader = readers.next();
+        reader.setInput(iis, true, true);
+        return reader;
+    }
+
+    /** 변형본을 만들 수 없으면 원본 복사본을 변형본 키에 남김 (업로드 때 복사가 빠진 경우 대비) */
+    private void fallBackToOriginal(String originalKey) {
+        failed.increment();
+        try {
+            copyOriginalToVariants(originalKey);
+        } catch (Exception e) {
+            log.error("이미지 변형본 대체 복사 실패 - key: {}", originalKey, e);
+        }
+    }
+
+    /** 변형본 삭제 (원본 삭제 시) */
+    public void delete(String originalKey) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            String key = variant.keyOf(originalKey);
+            if (key == null) return;
+            try {
+                amazonS3.deleteObject(bucketName, key);
+            } catch (Exception e) {
+                log.debug("이미지 변형본 삭제 실패 : {}", key, e);
+            }
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(generated.sum(), failed.sum(), skipped.sum(), originalBytes.sum(), variantBytes.sum());
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.shutdown();
+        try {
+            worker.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** 긴 변 기준 축소 (확대하지 않음), 투명 배경은 흰색으로 채움 */
+    static BufferedImage resize(BufferedImage source, int maxEdge) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(w, h));
+        int tw = Math.max(1, (int) Math.round(w * scale));
+        int th = Math.max(1, (int) Math.round(h * scale));
+
+        BufferedImage target = new BufferedImage(tw, th, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, tw, th);
+            g.drawImage(source, 0, 0, tw, th, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
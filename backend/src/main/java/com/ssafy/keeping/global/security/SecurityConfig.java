@@ -38,6 +38,7 @@ public class SecurityConfig {
             "/login",
             "/error",
             "/actuator/health",
+            "/actuator/prometheus", // 스크레이프 (외부 접근은 리버스 프록시에서 차단)
             "/swagger-ui/**",
             "/v3/api-docs/**",
             "/swagger-resources/**",
@@ -47,6 +48,7 @@ public class SecurityConfig {
             "/owners/stores/**",
             "/api/v1/stores/**",
             "/ocr/*",
+            "/ocr/jobs/**",
             "/customer/register/**",
             "/owners/register/**",
             "/debug/redis"
@@ -61,6 +61,31 @@ CREATE TABLE `customer_pin_auth` (
     ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+CREATE TABLE `customer_onboarding` (
+  `customer_id`     BIGINT        NOT NULL,            -- 고객 고유번호 (PK & FK)
+  `status`          ENUM('PENDING','RUNNING','COMPLETED','FAILED') NOT NULL DEFAULT 'PENDING',
+  `account_no`      VARCHAR(50)   NULL,                -- 생성된 수시입출금 계좌 (재시도 시 재사용)
+  `card_issued`     BOOLEAN       NOT NULL DEFAULT FALSE,
+  `deposited`       BOOLEAN       NOT NULL DEFAULT FALSE,
+  `account_request_no` VARCHAR(20) NULL,               -- 단계별 기관거래고유번호 (외부 호출 전에 저장, 재시도 시 재사용)
+  `card_request_no`    VARCHAR(20) NULL,
+  `deposit_request_no` VARCHAR(20) NULL,
+  `lease_token`     BIGINT        NOT NULL DEFAULT 0,  -- 점유할 때마다 증가하는 펜싱 토큰
+  `attempts`        INT           NOT NULL DEFAULT 0,  -- 실패한 시도 횟수
+  `last_error`      VARCHAR(100)  NULL,                -- 마지막 실패 원인 (ErrorCode / 예외 이름)
+  `next_attempt_at` DATETIME(3)   NULL,                -- PENDING: 다음 시도 시각 / RUNNING: 점유 만료 시각
+  `completed_at`    DATETIME(3)   NULL,
+  `created_at`      DATETIME(3)   NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  `updated_at`      DATETIME(3)   NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+                                      ON UPDATE CURRENT_TIMESTAMP(3),
+
+  PRIMARY KEY (`customer_id`),
+  KEY `idx_onboarding_due` (`status`, `next_attempt_at`),
+  CONSTRAINT `fk_customer_onboarding_customer`
+    FOREIGN KEY (`customer_id`) REFERENCES `customers`(`customer_id`)
+    ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 CREATE TABLE `groups` (
   `group_id`          BIGINT        NOT NULL AUTO_INCREMENT,
   `group_name`        VARCHAR(100)  NOT NULL,
@@ -135,6 +160,8 @@ CREATE TABLE `stores` (
   `img_url`        VARCHAR(200)  NOT NULL,
   `category`       VARCHAR(50)   NOT NULL,
   `bank_account`   VARCHAR(100)  NOT NULL,
+  `latitude`       DOUBLE        NULL,      -- 주소 지오코딩 위도
+  `longitude`      DOUBLE        NULL,      -- 주소 지오코딩 경도
   `stores_status`  ENUM('ACTIVE','SUSPENDED','DELETED') NOT NULL,
   `created_at`     DATETIME(3)   NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
   `updated_at`     DATETIME(3)   NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
@@ -152,7 +179,9 @@ CREATE TABLE `stores` (
   UNIQUE KEY `uk_store_tax_addr` (`tax_id_number`,`address`),
   UNIQUE KEY `uq_owner_store_name`(`owner_id`, `store_name`), -- 한 사업자 내 중복 가게명 방지
   KEY `idx_stores_owner`   (`owner_id`),
-  KEY `idx_stores_category`(`category`)
+  KEY `idx_stores_category`(`category`),
+  KEY `idx_stores_status_location` (`stores_status`, `latitude`, `longitude`), -- 근처 가게 인덱스 재적재용
+  KEY `idx_stores_category_status_name` (`category`, `stores_status`, `store_name`) -- 카테고리별 공개 목록 페이지
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 CREATE TABLE `store_favorite` (
@@ -287,12 +316,12 @@ CREATE TABLE `wallet_store_balances` (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 CREATE TABLE `transactions` (
-  `transaction_id`      BIGINT         NOT NULL AUTO_INCREMENT,
+  `transaction_id`      BIGINT         NOT NULL,                        -- 앱에서 발급하는 시간순 ID (LedgerIdGenerator)
   `wallet_id`           BIGINT         NOT NULL,                        -- 거래가 발생한 지갑
   `related_wallet_id`   BIGINT         NULL,                            -- 지갑 간 공유/회수 시 상대 지갑
   `customer_id`         BIGINT         NOT NULL,                        -- 거래 주체(고객)
   `store_id`            BIGINT         NOT NULL,                        -- 가게(충전/사용이 귀속되는 상점)
-  `transaction_type`    ENUM('CHARGE','USE','TRANSFER_IN','TRANSFER_OUT','CANCEL_CHARGE','CANCEL_USE') NOT NULL,
+  `transaction_type`    ENUM('CHARGE','USE','TRANSFER_IN','TRANSFER_OUT','CANCEL_CHARGE','CANCEL_USE','EXPIRE') NOT NULL,
   `amount`              BIGINT UNSIGNED  NOT NULL,                        -- 거래 금액(양수 권장)
   `created_at`          DATETIME(3)    NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
   `transaction_unique_no` VARCHAR(50)    NULL,                            -- 가상은행망 결제 고유번호(충전만 사용)
@@ -327,7 +356,7 @@ CREATE TABLE `transactions` (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 CREATE TABLE `wallet_store_lot` (
-  `lot_id`               BIGINT         NOT NULL AUTO_INCREMENT,     -- PK
+  `lot_id`               BIGINT         NOT NULL,                    -- PK (앱에서 발급하는 시간순 ID)
   `wallet_id`            BIGINT         NOT NULL,                    -- 대상 지갑
   `store_id`             BIGINT         NOT NULL,                    -- 대상 가게
   `amount_total`         BIGINT UNSIGNED  NOT NULL,                    -- 생성 시 총량
@@ -339,9 +368,10 @@ CREATE TABLE `wallet_store_lot` (
   `origin_charge_tx_id`  BIGINT         NOT NULL,                    -- 원천 CHARGE 트랜잭션
   
     -- 취소 처리(논리 종료)
-  `lot_status`            ENUM('ACTIVE','CANCELED') NOT NULL DEFAULT 'ACTIVE',
+  `lot_status`            ENUM('ACTIVE','CANCELED','EXPIRED') NOT NULL DEFAULT 'ACTIVE',
   `canceled_at`           DATETIME(3)    NULL,
   `cancel_tx_id`          BIGINT         NULL,
+  `expiry_notified_at`    DATETIME(3)    NULL,                        -- 만료 예정 알림 발송 시각
   
   PRIMARY KEY (`lot_id`),
 
@@ -373,6 +403,8 @@ CREATE TABLE `wallet_store_lot` (
     (`lot_status`='ACTIVE'   AND `canceled_at` IS NULL AND `cancel_tx_id` IS NULL) OR
     (`lot_status`='CANCELED' AND `canceled_at` IS NOT NULL
                               AND `cancel_tx_id` IS NOT NULL
+                              AND `amount_remaining`=0) OR
+    (`lot_status`='EXPIRED'  AND `canceled_at` IS NULL AND `cancel_tx_id` IS NULL
                               AND `amount_remaining`=0)
   ),
   -- CHARGE 원장은 원천 결제( origin_charge_tx_id )당 1개만 존재(부분 유니크)
@@ -384,11 +416,13 @@ CREATE TABLE `wallet_store_lot` (
   UNIQUE KEY `uq_charge_origin` (`charge_origin_key`),
 
   KEY `idx_lot_wallet_store` (`wallet_id`,`store_id`),
-  KEY `idx_lot_origin_tx` (`origin_charge_tx_id`)
+  KEY `idx_lot_origin_tx` (`origin_charge_tx_id`),
+  KEY `idx_lot_status_expired` (`lot_status`, `expired_at`), -- 만료 배치 keyset 스캔
+  KEY `idx_lot_contributor` (`contributor_wallet_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 CREATE TABLE `wallet_lot_moves` (
-  `move_id`        BIGINT        NOT NULL AUTO_INCREMENT,
+  `move_id`        BIGINT        NOT NULL,                     -- 앱에서 발급하는 시간순 ID
   `transaction_id` BIGINT        NOT NULL,                     -- USE 또는 CANCELED 등
   `lot_id`         BIGINT        NOT NULL,
   `delta`          BIGINT        NOT NULL,                     -- USE: 음수, 취소: 양수
@@ -398,6 +432,32 @@ CREATE TABLE `wallet_lot_moves` (
   CONSTRAINT `fk_moves_lot` FOREIGN KEY (`lot_id`)         REFERENCES `wallet_store_lot`(`lot_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- 모임 지갑 회원별 기여 잔량 요약 (그룹 ACTIVE LOT 의 contributor 별 amount_remaining 합계)
+CREATE TABLE `group_contributions` (
+  `contribution_id`  BIGINT          NOT NULL AUTO_INCREMENT,
+  `group_wallet_id`  BIGINT          NOT NULL,                    -- 그룹 지갑
+  `member_wallet_id` BIGINT          NOT NULL,                    -- 기여한 개인 지갑
+  `store_id`         BIGINT          NOT NULL,
+  `amount`           BIGINT UNSIGNED NOT NULL DEFAULT 0,
+  `updated_at`       DATETIME(3)     NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (`contribution_id`),
+  UNIQUE KEY `uq_contribution_key` (`group_wallet_id`, `member_wallet_id`, `store_id`),
+  KEY `idx_contribution_member` (`member_wallet_id`),
+  CONSTRAINT `fk_contribution_group_wallet`  FOREIGN KEY (`group_wallet_id`)  REFERENCES `wallets`(`wallet_id`) ON DELETE CASCADE,
+  CONSTRAINT `fk_contribution_member_wallet` FOREIGN KEY (`member_wallet_id`) REFERENCES `wallets`(`wallet_id`) ON DELETE CASCADE,
+  CONSTRAINT `fk_contribution_store`         FOREIGN KEY (`store_id`)         REFERENCES `stores`(`store_id`)   ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 기존 데이터 백필: 그룹 지갑 ACTIVE LOT 기준으로 요약을 채움 (재실행해도 LOT 기준 값으로 덮어씀)
+INSERT INTO `group_contributions` (`group_wallet_id`, `member_wallet_id`, `store_id`, `amount`, `updated_at`)
+SELECT l.`wallet_id`, l.`contributor_wallet_id`, l.`store_id`, SUM(l.`amount_remaining`), CURRENT_TIMESTAMP(3)
+  FROM `wallet_store_lot` l
+  JOIN `wallets` w ON w.`wallet_id` = l.`wallet_id` AND w.`wallet_type` = 'GROUP'
+ WHERE l.`contributor_wallet_id` IS NOT NULL
+   AND l.`lot_status` = 'ACTIVE'
+ GROUP BY l.`wallet_id`, l.`contributor_wallet_id`, l.`store_id`
+ON DUPLICATE KEY UPDATE `amount` = VALUES(`amount`), `updated_at` = VALUES(`updated_at`);
+
 CREATE TABLE `qr_token` (
   `qr_token_id`   BINARY(16)  NOT NULL,  -- UUIDv7 (시간 순 배치)
   `customer_id`   BIGINT      NOT NULL,
@@ -479,7 +539,7 @@ CREATE TABLE `payment_intent` (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 CREATE TABLE `payment_intent_item` (
-  `id`              BIGINT        NOT NULL AUTO_INCREMENT,
+  `id`              BIGINT        NOT NULL,                      -- 앱에서 발급하는 시간순 ID
   `intent_id`       BIGINT        NOT NULL,
   `menu_id`         BIGINT        NOT NULL,                 -- 당시 메뉴 PK
   `menu_name_snap`  VARCHAR(100)  NOT NULL,                 -- 메뉴명 스냅샷
@@ -508,7 +568,8 @@ CREATE TABLE `idempotency_keys` (
   `body_hash`        VARBINARY(32) NOT NULL,                                   -- 정규화 바디
   `status`           ENUM('IN_PROGRESS','DONE') NOT NULL DEFAULT 'IN_PROGRESS',
   `http_status`      INT   		   NULL,                                       -- 최초 응답 코드
-  `response_json`    JSON          NULL,                                       -- 최초 응답 원문(리플레이)
+  `response_json`    JSON          NULL,                                       -- 최초 응답 원문(이전 형식, 읽기 전용)
+  `response_snapshot` VARBINARY(16384) NULL,                                   -- 최초 응답 스냅샷(Smile, 큰 응답은 deflate)
   `intent_public_id` BINARY(16)    NULL,                                       -- 관련 리소스 공개 ID
   `created_at`       DATETIME(3)   NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
 
@@ -544,7 +605,7 @@ CREATE TABLE `settlement_tasks` (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 CREATE TABLE `transaction_items` (
-  `item_id`               BIGINT        NOT NULL AUTO_INCREMENT,
+  `item_id`               BIGINT        NOT NULL,               -- 앱에서 발급하는 시간순 ID
   `transaction_id`        BIGINT        NOT NULL,
   `store_id`              BIGINT        NOT NULL,
   `menu_id`               BIGINT        NULL,
@@ -571,16 +632,34 @@ CREATE TABLE `transaction_items` (
   CHECK (`menu_price_snapshot` >= 0)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- 여러 수신자에게 같은 내용으로 보내는 알림의 공유 본문 (수신자 행은 notifications.body_id 로 참조)
+CREATE TABLE `notification_bodies` (
+    `body_id` BIGINT NOT NULL AUTO_INCREMENT,
+    `notification_type` VARCHAR(50) NOT NULL,
+    `content` VARCHAR(500) NOT NULL,
+    `event_count` INT NOT NULL,          -- 묶인 원본 이벤트 수 (2 이상이면 요약 알림)
+    `created_at` DATETIME NOT NULL,
+    PRIMARY KEY (`body_id`),
+    KEY `idx_notification_body_created` (`created_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 CREATE TABLE `notifications` (
     `notification_id` BIGINT NOT NULL AUTO_INCREMENT,
     `customer_id` BIGINT NULL,
     `owner_id` BIGINT NULL,
-    `content` VARCHAR(500) NOT NULL,
+    `content` VARCHAR(500) NULL,         -- 공유 본문을 참조하면 NULL
+    `body_id` BIGINT NULL,
 	`url` VARCHAR(255) NULL,
     `is_read` TINYINT(1) NOT NULL,
     `notification_type` ENUM('ORDER','EVENT','ETC') NOT NULL,
     `created_at` DATETIME NOT NULL,
     PRIMARY KEY (`notification_id`),
+    KEY `idx_notification_customer_created` (`customer_id`, `created_at`),
+    KEY `idx_notification_customer_read_created` (`customer_id`, `is_read`, `created_at`),
+    KEY `idx_notification_owner_created` (`owner_id`, `created_at`),
+    KEY `idx_notification_owner_read_created` (`owner_id`, `is_read`, `created_at`),
+    KEY `idx_notification_created` (`created_at`), -- 보존 기간 경계 조회
+    KEY `idx_notification_body` (`body_id`),
 
     -- FK: notifications → customers (N:1)
     CONSTRAINT `fk_notification_customer`
@@ -592,7 +671,28 @@ CREATE TABLE `notifications` (
     CONSTRAINT `fk_notification_owner`
         FOREIGN KEY (`owner_id`)
         REFERENCES `owners` (`owner_id`)
-        ON DELETE CASCADE
+        ON DELETE CASCADE,
+
+    -- FK: notifications → notification_bodies (N:1)
+    CONSTRAINT `fk_notification_body`
+        FOREIGN KEY (`body_id`)
+        REFERENCES `notification_bodies` (`body_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 보존 기간이 지난 읽은 알림 보관 (FK 없이 원본 값 그대로 복사)
+CREATE TABLE `notifications_archive` (
+    `notification_id` BIGINT NOT NULL,
+    `customer_id` BIGINT NULL,
+    `owner_id` BIGINT NULL,
+    `content` VARCHAR(500) NOT NULL,
+    `is_read` TINYINT(1) NOT NULL,
+    `notification_type` VARCHAR(50) NOT NULL,
+    `created_at` DATETIME NOT NULL,
+    `archived_at` DATETIME NOT NULL,
+    PRIMARY KEY (`notification_id`),
+    KEY `idx_notification_archive_customer` (`customer_id`, `created_at`),
+    KEY `idx_notification_archive_owner` (`owner_id`, `created_at`),
+    KEY `idx_notification_archive_archived` (`archived_at`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 CREATE TABLE `fcm_tokens` (
@@ -616,3 +716,10 @@ CREATE TABLE `fcm_tokens` (
         REFERENCES `owners` (`owner_id`)
         ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 읽기 복제본 지연 측정용 하트비트 (ReplicaLagMonitor 가 주 DB 에 기록, 복제본에서 읽어 지연 계산)
+CREATE TABLE `replication_heartbeat` (
+    `id` TINYINT NOT NULL,
+    `beat_at` DATETIME(3) NOT NULL,
+    PRIMARY KEY (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,236 @@
+package com.ssafy.keeping.auth;
+
+import com.ssafy.keeping.domain.auth.enums.UserRole;
+import com.ssafy.keeping.domain.auth.security.JwtAuthenticationFilter;
+import com.ssafy.keeping.domain.auth.security.JwtProvider;
+import com.ssafy.keeping.global.config.RedisConfig;
+import com.ssafy.keeping.global.redis.RedisPipeline;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증 필터 처리량: 요청마다 블랙리스트 EXISTS 1회 (기본 test 에서는 제외, ./gradlew benchmark 로 실행)
+ * - jwt-only: Redis 응답을 즉시 돌려주는 템플릿 (JWT 검증 비용만)
+ * - legacy: 이전 설정 그대로 new LettuceConnectionFactory(host, port)
+ * - configured: RedisConfig (명령 타임아웃 + 전용 커넥션 풀 + 명령별 지연 계측)
+ * - 같은 두 팩토리로 수신자 50명 로그인 확인 파이프라인도 비교 (풀이 없으면 파이프라인마다 커넥션을 새로 맺음)
+ * - 요청 스레드 32개, 처리량(req/s)과 호출당 p50/p99 출력
+ */
+@Tag("benchmark")
+class JwtAuthFilterRedisBenchmarkTest {
+
+    private static final int THREADS = 32;
+    private static final int REQUESTS_PER_THREAD = 2_000;
+    private static final int PIPELINES_PER_THREAD = 100;
+    private static final int RECEIVERS = 50;
+
+    private static RedisServer redisServer;
+    private static int port;
+
+    private static JwtProvider jwtProvider;
+    private static String accessToken;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        jwtProvider = new JwtProvider();
+        ReflectionTestUtils.setField(jwtProvider, "secret", "benchmark-secret-benchmark-secret-benchmark-secret-0123456789");
+        jwtProvider.init();
+        accessToken = jwtProvider.generateAccessToken(12L, UserRole.CUSTOMER);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (redisServer != null) redisServer.stop();
+    }
+
+    /** RedisConfig 기본값 그대로 (@Value 기본값과 같음) */
+    private static RedisConfig redisConfig() {
+        RedisConfig config = new RedisConfig();
+        Map<String, Object> values = Map.ofEntries(
+                Map.entry("topology", "standalone"), Map.entry("redisHost", "localhost"), Map.entry("redisPort", port),
+                Map.entry("password", ""), Map.entry("database", 0),
+                Map.entry("sentinelMaster", ""), Map.entry("sentinelNodes", ""),
+                Map.entry("clusterNodes", ""), Map.entry("clusterMaxRedirects", 3), Map.entry("clusterRefreshPeriodMs", 30_000L),
+                Map.entry("commandTimeoutMs", 500L), Map.entry("connectTimeoutMs", 1_000L),
+                Map.entry("poolEnabled", true), Map.entry("poolMaxActive", 16), Map.entry("poolMaxIdle", 8),
+                Map.entry("poolMinIdle", 2), Map.entry("poolMaxWaitMs", 200L), Map.entry("pipelineFlushCommands", 64));
+        values.forEach((field, value) -> ReflectionTestUtils.setField(config, field, value));
+        return config;
+    }
+
+    private static LettuceConnectionFactory start(LettuceConnectionFactory factory) {
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private record Result(long requests, long elapsedNanos, long[] latencies) {
+        double perSecond() {
+            return requests * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        long percentileMicros(double p) {
+            return latencies[Math.min(latencies.length - 1, (int) (latencies.length * p))] / 1_000;
+        }
+    }
+
+    interface Call {
+        void run() throws Exception;
+    }
+
+    private static Result measure(int perThread, Call call) throws Exception {
+        // 워밍업 (JIT + 커넥션)
+        for (int i = 0; i < 500; i++) call.run();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        long[][] latencies = new long[THREADS][perThread];
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long[] mine = latencies[t];
+            futures.add(pool.submit(() -> {
+                ready.countDown();
+                go.await();
+                for (int i = 0; i < perThread; i++) {
+                    long start = System.nanoTime();
+                    call.run();
+                    mine[i] = System.nanoTime() - start;
+                }
+                return null;
+            }));
+        }
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Future<?> f : futures) f.get(2, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result((long) THREADS * perThread, elapsed, all);
+    }
+
+    private static Result filterThroughput(StringRedisTemplate redis, LongAdder authenticated) throws Exception {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtProvider, redis);
+        FilterChain chain = (req, res) -> {
+            if (SecurityContextHolder.getContext().getAuthentication() != null) authenticated.increment();
+        };
+        return measure(REQUESTS_PER_THREAD, () -> {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/notifications");
+            request.addHeader("Authorization", "Bearer " + accessToken);
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            SecurityContextHolder.clearContext();
+        });
+    }
+
+    private static void print(String name, Result r) {
+        System.out.printf("[%s] calls=%d %.0f/s p50=%dus p99=%dus%n",
+                name, r.requests(), r.perSecond(), r.percentileMicros(0.5), r.percentileMicros(0.99));
+    }
+
+    @Test
+    @DisplayName("블랙리스트 확인이 있는 인증 필터: JWT 만 vs 이전 팩토리 vs RedisConfig, 로그인 확인 파이프라인 비교")
+    void authFilterWithBlacklistCheck() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RedisConfig config = redisConfig();
+        ClientResources resources = config.lettuceClientResources(registry);
+        LettuceConnectionFactory legacyFactory = start(new LettuceConnectionFactory("localhost", port));
+        LettuceConnectionFactory configuredFactory = start(config.redisConnectionFactory(resources));
+        try {
+            StringRedisTemplate legacy = new StringRedisTemplate(legacyFactory);
+            StringRedisTemplate configured = new StringRedisTemplate(configuredFactory);
+
+            // 블랙리스트에 오른 토큰은 인증되지 않음
+            String revoked = jwtProvider.generateAccessToken(13L, UserRole.OWNER);
+            configured.opsForValue().set("auth:blacklist:" + revoked, "logout", Duration.ofMinutes(5));
+            LongAdder revokedAuthenticated = new LongAdder();
+            MockHttpServletRequest revokedRequest = new MockHttpServletRequest("GET", "/api/notifications");
+            revokedRequest.addHeader("Authorization", "Bearer " + revoked);
+            new JwtAuthenticationFilter(jwtProvider, configured).doFilter(revokedRequest, new MockHttpServletResponse(),
+                    (req, res) -> {
+                        if (SecurityContextHolder.getContext().getAuthentication() != null) revokedAuthenticated.increment();
+                    });
+            SecurityContextHolder.clearContext();
+            assertThat(revokedAuthenticated.sum()).isZero();
+
+            // 1) 인증 필터
+            StringRedisTemplate noRedis = new StringRedisTemplate() {
+                @Override
+                public Boolean hasKey(String key) {
+                    return Boolean.FALSE;
+                }
+            };
+            LongAdder jwtOnlyOk = new LongAdder();
+            LongAdder legacyOk = new LongAdder();
+            LongAdder configuredOk = new LongAdder();
+            Result jwtOnly = filterThroughput(noRedis, jwtOnlyOk);
+            Result legacyFilter = filterThroughput(legacy, legacyOk);
+            Result configuredFilter = filterThroughput(configured, configuredOk);
+
+            print("auth-filter jwt-only", jwtOnly);
+            print("auth-filter legacy", legacyFilter);
+            print("auth-filter configured", configuredFilter);
+
+            // 2) 수신자 50명 로그인 확인 (NotificationService.filterLoggedIn 과 같은 EXISTS 파이프라인)
+            List<String> keys = new ArrayList<>();
+            for (int i = 0; i < RECEIVERS; i++) {
+                keys.add("auth:rt:CUSTOMER:" + i);
+                if (i % 2 == 0) configured.opsForValue().set("auth:rt:CUSTOMER:" + i, "rt", Duration.ofMinutes(5));
+            }
+            RedisPipeline legacyPipeline = new RedisPipeline(legacy, 500);
+            RedisPipeline configuredPipeline = new RedisPipeline(configured, 500);
+            assertThat(configuredPipeline.existsEach(keys)).filteredOn(Boolean.TRUE::equals).hasSize(RECEIVERS / 2);
+
+            Result legacyBatch = measure(PIPELINES_PER_THREAD, () -> legacyPipeline.existsEach(keys));
+            Result configuredBatch = measure(PIPELINES_PER_THREAD, () -> configuredPipeline.existsEach(keys));
+            print("logged-in pipeline legacy", legacyBatch);
+            print("logged-in pipeline configured", configuredBatch);
+
+            Timer exists = registry.find("lettuce.command.completion").tag("command", "EXISTS").timer();
+            assertThat(exists).isNotNull();
+            System.out.printf("[lettuce.command.completion EXISTS] count=%d mean=%.1fus max=%.1fus%n",
+                    exists.count(), exists.mean(TimeUnit.MICROSECONDS), exists.max(TimeUnit.MICROSECONDS));
+
+            long expected = (long) THREADS * REQUESTS_PER_THREAD;
+            assertThat(jwtOnlyOk.sum()).isEqualTo(expected + 500);
+            assertThat(legacyOk.sum()).isEqualTo(expected + 500);
+            assertThat(configuredOk.sum()).isEqualTo(expected + 500);
+            assertThat(exists.count()).isGreaterThanOrEqualTo(expected);
+            // 계측 / 타임아웃을 붙여도 필터 처리량은 이전 수준, 파이프라인은 커넥션 재사용으로 빨라짐
+            assertThat(configuredFilter.perSecond()).isGreaterThan(legacyFilter.perSecond() * 0.8);
+            assertThat(configuredBatch.perSecond()).isGreaterThan(legacyBatch.perSecond());
+        } finally {
+            configuredFactory.destroy();
+            legacyFactory.destroy();
+            resources.shutdown();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.ssafy.keeping.customer;
+
+import com.ssafy.keeping.domain.notification.gateway.NotificationFanoutBus;
+import com.ssafy.keeping.domain.user.customer.constant.OnboardingStatus;
+import com.ssafy.keeping.domain.user.customer.service.CustomerOnboardingService;
+import com.ssafy.keeping.global.client.FinOpenApiClient;
+import com.ssafy.keeping.global.client.FinOpenApiPaths;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 고객 가입 지연: 요청 안에서 FinOpenAPI 4회 순차 호출 vs 온보딩 분리 (기본 test 에서는 제외, ./gradlew benchmark 로 실행)
+ * - 대역 서버 지연 300ms / 호출, 가입 SIGNUPS 건을 한 건씩
+ * - 이전: userKey 발급 → 계좌 생성 → 카드 발급 → 입금 (요청이 4회를 모두 기다림)
+ * - 이후: 요청은 userKey 발급 + 온보딩 등록까지, 계좌 생성 → (카드 발급 ∥ 입금)은 작업 스레드
+ * - 가입 응답까지 / 계좌·카드 준비 완료까지 평균(ms) 출력 (DB 저장 비용은 제외)
+ */
+@Tag("benchmark")
+class CustomerOnboardingBenchmarkTest {
+
+    private static final long LATENCY_MS = 300;
+    private static final int SIGNUPS = 10;
+
+    @Test
+    @DisplayName("가입 응답 지연: 순차 4회 호출 vs 온보딩 분리 + 카드/입금 병렬")
+    void signupLatency() throws Exception {
+        try (StubFinOpenApiServer stub = new StubFinOpenApiServer(LATENCY_MS)) {
+            FinOpenApiClient client = stub.client();
+
+            // 1) 이전 방식: 가입 요청 안에서 4회 순차
+            long sequentialNanos = 0;
+            for (int i = 0; i < SIGNUPS; i++) {
+                long start = System.nanoTime();
+                String userKey = client.insertMember("bench-seq-" + i + "@keeping509customer.com").getUserKey();
+                String accountNo = client.createAccount(userKey, "CUSTOMER").getRecResponse().getAccountNo();
+                client.issueCard(userKey, accountNo);
+                client.accountDeposit(userKey, accountNo);
+                sequentialNanos += System.nanoTime() - start;
+            }
+
+            // 2) 온보딩 분리: 요청은 userKey 발급 + PENDING 등록, 준비는 작업 스레드 (카드 발급 ∥ 입금)
+            InMemoryOnboardingRepository onboarding = new InMemoryOnboardingRepository();
+            CustomerOnboardingService service = new CustomerOnboardingService(onboarding.repository,
+                    CustomerOnboardingServiceTest.customers(), client, mock(NotificationFanoutBus.class),
+                    Clock.systemDefaultZone(), 4, 64, 3, 500, 120, 50);
+            long signupNanos = 0;
+            long provisionedNanos = 0;
+            try {
+                for (int i = 0; i < SIGNUPS; i++) {
+                    long customerId = 1_000L + i;
+                    long start = System.nanoTime();
+                    client.insertMember("bench-async-" + i + "@keeping509customer.com");
+                    service.start(customerId);
+                    signupNanos += System.nanoTime() - start;
+
+                    while (onboarding.status(customerId) != OnboardingStatus.COMPLETED) {
+                        Thread.sleep(1);
+                    }
+                    provisionedNanos += System.nanoTime() - start;
+                }
+            } finally {
+                service.stop();
+            }
+
+            long sequentialMs = sequentialNanos / SIGNUPS / 1_000_000;
+            long signupMs = signupNanos / SIGNUPS / 1_000_000;
+            long provisionedMs = provisionedNanos / SIGNUPS / 1_000_000;
+            System.out.printf("[signup-sequential] upstream=%dms/call signup response=%dms (account+card+deposit included)%n",
+                    LATENCY_MS, sequentialMs);
+            System.out.printf("[signup-onboarding] upstream=%dms/call signup response=%dms provisioned=%dms " +
+                            "(card/deposit parallel, upstream max in-flight=%d)%n",
+                    LATENCY_MS, signupMs, provisionedMs, stub.maxInFlight());
+
+            assertThat(stub.hits(FinOpenApiPaths.ISSUE_CARD)).isEqualTo(SIGNUPS * 2);
+            assertThat(stub.hits(FinOpenApiPaths.ACCOUNT_DEPOSIT)).isEqualTo(SIGNUPS * 2);
+            // 응답은 외부 호출 1회 구간, 준비 완료는 3회 구간 (카드/입금 동시)
+            assertThat(signupMs).isLessThan(LATENCY_MS * 2);
+            assertThat(provisionedMs).isLessThan(LATENCY_MS * 4);
+            assertThat(sequentialMs).isGreaterThanOrEqualTo(LATENCY_MS * 4);
+            assertThat(stub.maxInFlight()).isGreaterThanOrEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.ssafy.keeping.customer;
+
+import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
+import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import com.ssafy.keeping.domain.notification.gateway.NotificationFanoutBus;
+import com.ssafy.keeping.domain.user.customer.constant.OnboardingStatus;
+import com.ssafy.keeping.domain.user.customer.dto.CustomerOnboardingResponse;
+import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
+import com.ssafy.keeping.domain.user.customer.service.CustomerOnboardingService;
+import com.ssafy.keeping.global.client.FinOpenApiClient;
+import com.ssafy.keeping.global.client.FinOpenApiPaths;
+import com.ssafy.keeping.global.exception.CustomException;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 가입 후 계좌/카드 준비: 커밋 후 비동기 처리, 끝난 단계 건너뛰는 재시도, 최종 실패 / 수동 재시도, SSE 통지
+ * - FinOpenAPI 대역 서버(StubFinOpenApiServer) + 메모리 온보딩 저장소
+ */
+class CustomerOnboardingServiceTest {
+
+    private static final long CUSTOMER_ID = 1L;
+
+    private StubFinOpenApiServer stub;
+    private InMemoryOnboardingRepository onboarding;
+    private NotificationFanoutBus fanoutBus;
+    private CustomerOnboardingService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new StubFinOpenApiServer(10);
+        onboarding = new InMemoryOnboardingRepository();
+        fanoutBus = mock(NotificationFanoutBus.class);
+        // 재시도 대기 0ms, 최대 2회 (재제출은 테스트에서 resumeDue 직접 호출)
+        service = new CustomerOnboardingService(onboarding.repository, customers(), stub.client(), fanoutBus,
+                Clock.systemDefaultZone(), 2, 16, 2, 0, 120, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+        stub.close();
+    }
+
+    static CustomerRepository customers() {
+        CustomerRepository customers = mock(CustomerRepository.class);
+        when(customers.findByCustomerIdAndDeletedAtIsNull(anyLong())).thenAnswer(inv -> {
+            Long id = inv.getArgument(0);
+            return Optional.of(Customer.builder().customerId(id).userKey("uk-" + id).build());
+        });
+        return customers;
+    }
+
+    private void awaitStatus(long customerId, OnboardingStatus expected) throws InterruptedException {
+        for (int i = 0; i < 500 && onboarding.status(customerId) != expected; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(onboarding.status(customerId)).isEqualTo(expected);
+    }
+
+    // 가입 직후에도 PENDING 이므로 실패 기록(시도 횟수)까지 기다림
+    private void awaitRetryScheduled(long customerId, int attempts) throws InterruptedException {
+        for (int i = 0; i < 500 && service.find(customerId).getAttempts() < attempts; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(service.find(customerId).getAttempts()).isEqualTo(attempts);
+        assertThat(onboarding.status(customerId)).isEqualTo(OnboardingStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("정상: 가입 시 PENDING 반환, 계좌 생성 후 카드 발급 / 입금 각 1회, 완료 SSE 통지 (안내 문구)")
+    void provisionsAfterStart() throws Exception {
+        assertThat(service.start(CUSTOMER_ID)).isEqualTo(OnboardingStatus.PENDING);
+
+        awaitStatus(CUSTOMER_ID, OnboardingStatus.COMPLETED);
+        CustomerOnboardingResponse res = service.find(CUSTOMER_ID);
+        assertThat(res.isAccountCreated()).isTrue();
+        assertThat(res.isCardIssued()).isTrue();
+        assertThat(res.isDeposited()).isTrue();
+        assertThat(res.getCompletedAt()).isNotNull();
+
+        assertThat(stub.hits(FinOpenApiPaths.CREATE_ACCOUNT)).isEqualTo(1);
+        assertThat(stub.hits(FinOpenApiPaths.ISSUE_CARD)).isEqualTo(1);
+        assertThat(stub.hits(FinOpenApiPaths.ACCOUNT_DEPOSIT)).isEqualTo(1);
+        verify(fanoutBus, timeout(1_000)).publish(eq("onboarding-" + CUSTOMER_ID),
+                argThat((NotificationResponseDto n) -> n.getNotificationType() == NotificationType.ONBOARDING_COMPLETED
+                        && "CUSTOMER".equals(n.getReceiverType()) && n.getReceiverId() == CUSTOMER_ID
+                        && "계좌와 카드 준비가 완료되었습니다. 이제 결제할 수 있습니다.".equals(n.getContent())));
+    }
+
+    @Test
+    @DisplayName("카드 발급 실패: PENDING 재예약, 재시도에서는 계좌 생성 / 입금을 다시 호출하지 않음")
+    void retrySkipsFinishedSteps() throws Exception {
+        stub.enqueueStatuses(FinOpenApiPaths.ISSUE_CARD, 500);
+
+        service.start(CUSTOMER_ID);
+        awaitRetryScheduled(CUSTOMER_ID, 1);
+        CustomerOnboardingResponse failed = service.find(CUSTOMER_ID);
+        assertThat(failed.isAccountCreated()).isTrue();
+        assertThat(failed.isDeposited()).isTrue();
+        assertThat(failed.isCardIssued()).isFalse();
+        assertThat(failed.getLastError()).isNotBlank();
+
+        service.resumeDue();
+        awaitStatus(CUSTOMER_ID, OnboardingStatus.COMPLETED);
+        assertThat(stub.hits(FinOpenApiPaths.CREATE_ACCOUNT)).isEqualTo(1);
+        assertThat(stub.hits(FinOpenApiPaths.ACCOUNT_DEPOSIT)).isEqualTo(1);
+        assertThat(stub.hits(FinOpenApiPaths.ISSUE_CARD)).isEqualTo(2);
+
+        // 실패한 카드 발급은 발급 여부부터 확인하고, 반영되지 않았으니 처음 저장한 번호 그대로 다시 호출
+        assertThat(stub.hits(FinOpenApiPaths.INQUIRE_CARDS)).isEqualTo(1);
+        List<String> cardRequests = stub.requestNos(FinOpenApiPaths.ISSUE_CARD);
+        assertThat(cardRequests).hasSize(2);
+        assertThat(cardRequests.get(1)).isEqualTo(cardRequests.get(0))
+                .isEqualTo(onboarding.repository.findById(CUSTOMER_ID).orElseThrow().getCardRequestNo());
+    }
+
+    @Test
+    @DisplayName("응답 유실: 외부에 반영됐는데 응답을 못 받은 단계는 재시도에서 외부 상태로 확인 → 계좌 / 입금 / 카드 중복 없음")
+    void lostResponsesAreNotRepeated() throws Exception {
+        service.stop();
+        service = new CustomerOnboardingService(onboarding.repository, customers(), stub.client(), fanoutBus,
+                Clock.systemDefaultZone(), 2, 16, 5, 0, 120, 50);
+
+        // 1회차: 계좌는 만들어졌지만 응답 유실
+        stub.loseResponses(FinOpenApiPaths.CREATE_ACCOUNT, 1);
+        service.start(CUSTOMER_ID);
+        awaitRetryScheduled(CUSTOMER_ID, 1);
+        assertThat(service.find(CUSTOMER_ID).isAccountCreated()).isFalse();
+
+        // 2회차: 계좌는 목록에서 찾아 사용, 입금 / 카드 발급은 반영됐지만 응답 유실
+        stub.loseResponses(FinOpenApiPaths.ACCOUNT_DEPOSIT, 1);
+        stub.loseResponses(FinOpenApiPaths.ISSUE_CARD, 1);
+        service.resumeDue();
+        awaitRetryScheduled(CUSTOMER_ID, 2);
+        assertThat(service.find(CUSTOMER_ID).isAccountCreated()).isTrue();
+
+        // 3회차: 잔액 / 카드 목록으로 반영 확인 후 완료
+        service.resumeDue();
+        awaitStatus(CUSTOMER_ID, OnboardingStatus.COMPLETED);
+
+        String accountNo = onboarding.repository.findById(CUSTOMER_ID).orElseThrow().getAccountNo();
+        assertThat(stub.hits(FinOpenApiPaths.CREATE_ACCOUNT)).isEqualTo(1);
+        assertThat(stub.hits(FinOpenApiPaths.ACCOUNT_DEPOSIT)).isEqualTo(1);
+        assertThat(stub.hits(FinOpenApiPaths.ISSUE_CARD)).isEqualTo(1);
+        assertThat(stub.accounts("uk-" + CUSTOMER_ID)).isEqualTo(1);
+        assertThat(stub.balance(accountNo)).isEqualTo(FinOpenApiClient.TRANSACTION_BALANCE);
+        assertThat(service.stats().recoveredSteps()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("점유 연장 / 펜싱: 처리 중에는 점유가 연장되고, 점유를 빼앗긴 작업자는 늦은 기록 없이 다음 호출 전에 중단")
+    void staleWorkerIsFencedOut() throws Exception {
+        service.stop();
+        stub.close();
+        stub = new StubFinOpenApiServer(300);
+        service = new CustomerOnboardingService(onboarding.repository, customers(), stub.client(), fanoutBus,
+                Clock.systemDefaultZone(), 2, 16, 2, 0, 120, 50);
+
+        service.start(CUSTOMER_ID);
+        // 계좌 생성 번호를 저장하고 외부 호출 중
+        for (int i = 0; i < 500 && onboarding.repository.findById(CUSTOMER_ID).orElseThrow().getAccountRequestNo() == null; i++) {
+            Thread.sleep(5);
+        }
+        LocalDateTime leasedUntil = onboarding.repository.findById(CUSTOMER_ID).orElseThrow().getNextAttemptAt();
+        Thread.sleep(20);
+        service.renewLeases();
+        assertThat(onboarding.repository.findById(CUSTOMER_ID).orElseThrow().getNextAttemptAt()).isAfter(leasedUntil);
+
+        // 점유 만료 후 다른 노드가 가져간 상황
+        onboarding.takeOver(CUSTOMER_ID);
+        for (int i = 0; i < 500 && service.stats().leaseLost() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(service.stats().leaseLost()).isEqualTo(1);
+        CustomerOnboardingResponse stale = service.find(CUSTOMER_ID);
+        assertThat(stale.isAccountCreated()).isFalse();
+        assertThat(stale.getAttempts()).isZero();
+        assertThat(stale.getStatus()).isEqualTo(OnboardingStatus.RUNNING);
+        assertThat(stub.hits(FinOpenApiPaths.ACCOUNT_DEPOSIT)).isZero();
+        assertThat(stub.hits(FinOpenApiPaths.ISSUE_CARD)).isZero();
+
+        // 가져간 노드도 종료 → 다음 처리는 이미 만들어진 계좌를 찾아 이어서 진행
+        onboarding.release(CUSTOMER_ID, LocalDateTime.now());
+        service.resumeDue();
+        awaitStatus(CUSTOMER_ID, OnboardingStatus.COMPLETED);
+        assertThat(stub.hits(FinOpenApiPaths.CREATE_ACCOUNT)).isEqualTo(1);
+        assertThat(stub.hits(FinOpenApiPaths.ACCOUNT_DEPOSIT)).isEqualTo(1);
+        assertThat(stub.hits(FinOpenApiPaths.ISSUE_CARD)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 초과: FAILED + 실패 SSE 통지, 수동 재시도로 완료, 완료 후 재시도는 거절")
+    void failedThenManualRetry() throws Exception {
+        stub.enqueueStatuses(FinOpenApiPaths.CREATE_ACCOUNT, 500, 500);
+
+        service.start(CUSTOMER_ID);
+        awaitRetryScheduled(CUSTOMER_ID, 1);
+        service.resumeDue();
+        awaitStatus(CUSTOMER_ID, OnboardingStatus.FAILED);
+        assertThat(service.find(CUSTOMER_ID).getAttempts()).isEqualTo(2);
+        verify(fanoutBus, timeout(1_000)).publish(eq("onboarding-" + CUSTOMER_ID),
+                argThat((NotificationResponseDto n) -> n.getNotificationType() == NotificationType.ONBOARDING_FAILED
+                        && n.getContent().startsWith("계좌와 카드 준비에 실패했습니다.")));
+
+        // FAILED 는 스케줄러가 다시 집지 않음
+        service.resumeDue();
+        Thread.sleep(100);
+        assertThat(stub.hits(FinOpenApiPaths.CREATE_ACCOUNT)).isEqualTo(2);
+
+        service.retry(CUSTOMER_ID);
+        awaitStatus(CUSTOMER_ID, OnboardingStatus.COMPLETED);
+        assertThat(stub.hits(FinOpenApiPaths.CREATE_ACCOUNT)).isEqualTo(3);
+
+        assertThatThrownBy(() -> service.retry(CUSTOMER_ID))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ONBOARDING_ALREADY_COMPLETED);
+    }
+
+    @Test
+    @DisplayName("온보딩 행이 없는 고객 조회는 ONBOARDING_NOT_FOUND")
+    void findMissing() {
+        assertThatThrownBy(() -> service.find(99L))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ONBOARDING_NOT_FOUND);
+    }
+}
@@ -0,0 +1,196 @@
+package com.ssafy.keeping.customer;
+
+import com.ssafy.keeping.domain.user.customer.constant.OnboardingStatus;
+import com.ssafy.keeping.domain.user.customer.model.CustomerOnboarding;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerOnboardingRepository;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * CustomerOnboardingRepository 대역 (Mockito mock + 메모리 맵)
+ * - 단일 UPDATE 쿼리들을 행 단위 synchronized 로 흉내 (claim 의 원자성, 점유 토큰 조건 포함)
+ */
+class InMemoryOnboardingRepository {
+
+    static final class Row {
+        OnboardingStatus status;
+        String accountNo;
+        boolean cardIssued;
+        boolean deposited;
+        String accountRequestNo;
+        String cardRequestNo;
+        String depositRequestNo;
+        long leaseToken;
+        int attempts;
+        String lastError;
+        LocalDateTime nextAttemptAt;
+        LocalDateTime completedAt;
+
+        synchronized CustomerOnboarding snapshot(Long customerId) {
+            return CustomerOnboarding.builder()
+                    .customerId(customerId).status(status).accountNo(accountNo)
+                    .cardIssued(cardIssued).deposited(deposited)
+                    .accountRequestNo(accountRequestNo).cardRequestNo(cardRequestNo).depositRequestNo(depositRequestNo)
+                    .leaseToken(leaseToken).attempts(attempts)
+                    .lastError(lastError).nextAttemptAt(nextAttemptAt).completedAt(completedAt)
+                    .build();
+        }
+    }
+
+    final Map<Long, Row> rows = new ConcurrentHashMap<>();
+    final CustomerOnboardingRepository repository = mock(CustomerOnboardingRepository.class);
+
+    InMemoryOnboardingRepository() {
+        doAnswer(inv -> {
+            CustomerOnboarding o = inv.getArgument(0);
+            Row row = new Row();
+            row.status = o.getStatus();
+            row.nextAttemptAt = o.getNextAttemptAt();
+            rows.put(o.getCustomerId(), row);
+            return o;
+        }).when(repository).save(any(CustomerOnboarding.class));
+
+        doAnswer(inv -> {
+            Long id = inv.getArgument(0);
+            Row row = rows.get(id);
+            return row == null ? Optional.empty() : Optional.of(row.snapshot(id));
+        }).when(repository).findById(anyLong());
+
+        doAnswer(inv -> update(inv.getArgument(0), row -> {
+            Collection<OnboardingStatus> claimable = inv.getArgument(2);
+            LocalDateTime now = inv.getArgument(3);
+            if (!claimable.contains(row.status) || row.nextAttemptAt == null || row.nextAttemptAt.isAfter(now)) return false;
+            row.status = inv.getArgument(1);
+            row.nextAttemptAt = inv.getArgument(4);
+            row.leaseToken++;
+            return true;
+        })).when(repository).claim(anyLong(), any(), anyCollection(), any(), any());
+
+        doAnswer(inv -> {
+            Collection<OnboardingStatus> statuses = inv.getArgument(0);
+            LocalDateTime now = inv.getArgument(1);
+            Pageable page = inv.getArgument(2);
+            return rows.entrySet().stream()
+                    .filter(e -> {
+                        synchronized (e.getValue()) {
+                            Row r = e.getValue();
+                            return statuses.contains(r.status) && r.nextAttemptAt != null && !r.nextAttemptAt.isAfter(now);
+                        }
+                    })
+                    .sorted(Comparator.comparing(e -> e.getValue().nextAttemptAt))
+                    .limit(page.getPageSize())
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }).when(repository).findDueCustomerIds(anyCollection(), any(), any());
+
+        doAnswer(inv -> owned(inv.getArgument(0), inv.getArgument(1), row -> {
+            if (row.status != inv.getArgument(2)) return false;
+            row.nextAttemptAt = inv.getArgument(3);
+            return true;
+        })).when(repository).renewLease(anyLong(), anyLong(), any(), any());
+
+        doAnswer(inv -> owned(inv.getArgument(0), inv.getArgument(1), row -> {
+            row.accountRequestNo = inv.getArgument(2);
+            row.nextAttemptAt = inv.getArgument(3);
+            return true;
+        })).when(repository).reserveAccountRequest(anyLong(), anyLong(), anyString(), any());
+
+        doAnswer(inv -> owned(inv.getArgument(0), inv.getArgument(1), row -> {
+            row.cardRequestNo = inv.getArgument(2);
+            row.nextAttemptAt = inv.getArgument(3);
+            return true;
+        })).when(repository).reserveCardRequest(anyLong(), anyLong(), anyString(), any());
+
+        doAnswer(inv -> owned(inv.getArgument(0), inv.getArgument(1), row -> {
+            row.depositRequestNo = inv.getArgument(2);
+            row.nextAttemptAt = inv.getArgument(3);
+            return true;
+        })).when(repository).reserveDepositRequest(anyLong(), anyLong(), anyString(), any());
+
+        doAnswer(inv -> owned(inv.getArgument(0), inv.getArgument(1), row -> {
+            row.accountNo = inv.getArgument(2);
+            return true;
+        })).when(repository).markAccountCreated(anyLong(), anyLong(), anyString());
+
+        doAnswer(inv -> owned(inv.getArgument(0), inv.getArgument(1), row -> row.cardIssued = true))
+                .when(repository).markCardIssued(anyLong(), anyLong());
+
+        doAnswer(inv -> owned(inv.getArgument(0), inv.getArgument(1), row -> row.deposited = true))
+                .when(repository).markDeposited(anyLong(), anyLong());
+
+        doAnswer(inv -> owned(inv.getArgument(0), inv.getArgument(1), row -> {
+            row.status = inv.getArgument(2);
+            row.completedAt = inv.getArgument(3);
+            row.nextAttemptAt = null;
+            row.lastError = null;
+            return true;
+        })).when(repository).markCompleted(anyLong(), anyLong(), any(), any());
+
+        doAnswer(inv -> owned(inv.getArgument(0), inv.getArgument(1), row -> {
+            row.status = inv.getArgument(2);
+            row.attempts = inv.getArgument(3);
+            row.lastError = inv.getArgument(4);
+            row.nextAttemptAt = inv.getArgument(5);
+            return true;
+        })).when(repository).markFailure(anyLong(), anyLong(), any(), anyInt(), any(), any());
+
+        doAnswer(inv -> update(inv.getArgument(0), row -> {
+            if (row.status != inv.getArgument(2)) return false;
+            row.status = inv.getArgument(1);
+            row.attempts = 0;
+            row.nextAttemptAt = inv.getArgument(3);
+            return true;
+        })).when(repository).resetFailed(anyLong(), any(), any(), any());
+    }
+
+    interface RowUpdate {
+        boolean apply(Row row);
+    }
+
+    private int update(Long customerId, RowUpdate update) {
+        Row row = rows.get(customerId);
+        if (row == null) return 0;
+        synchronized (row) {
+            return update.apply(row) ? 1 : 0;
+        }
+    }
+
+    // 점유 토큰 조건부 UPDATE
+    private int owned(Long customerId, long leaseToken, RowUpdate update) {
+        return update(customerId, row -> row.leaseToken == leaseToken && update.apply(row));
+    }
+
+    /** 다른 노드가 점유를 가져간 상황 (점유 만료 후 재점유) */
+    void takeOver(Long customerId) {
+        update(customerId, row -> {
+            row.leaseToken++;
+            return true;
+        });
+    }
+
+    /** 점유를 가져간 노드도 종료 → 다시 처리할 차례로 */
+    void release(Long customerId, LocalDateTime now) {
+        update(customerId, row -> {
+            row.status = OnboardingStatus.PENDING;
+            row.nextAttemptAt = now;
+            return true;
+        });
+    }
+
+    OnboardingStatus status(Long customerId) {
+        Row row = rows.get(customerId);
+        synchronized (row) {
+            return row.status;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ssafy.keeping.customer;
+
+import com.ssafy.keeping.domain.charge.dto.request.PrepaymentRequestDto;
+import com.ssafy.keeping.domain.charge.service.PrepaymentService;
+import com.ssafy.keeping.domain.charge.service.SsafyFinanceApiService;
+import com.ssafy.keeping.domain.idempotency.service.IdempotencyService;
+import com.ssafy.keeping.domain.user.customer.constant.OnboardingStatus;
+import com.ssafy.keeping.domain.user.customer.model.CustomerOnboarding;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerOnboardingRepository;
+import com.ssafy.keeping.global.exception.CustomException;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 선결제: 계좌/카드 준비가 끝나지 않은 고객은 멱등 키 선점 / 외부 결제 전에 ONBOARDING_NOT_COMPLETED
+ */
+@ExtendWith(MockitoExtension.class)
+class PrepaymentOnboardingGuardTest {
+
+    private static final long CUSTOMER_ID = 7L;
+
+    @InjectMocks PrepaymentService prepaymentService;
+
+    @Mock CustomerOnboardingRepository customerOnboardingRepository;
+    @Mock IdempotencyService idempotencyService;
+    @Mock SsafyFinanceApiService ssafyFinanceApiService;
+
+    private final PrepaymentRequestDto request = PrepaymentRequestDto.builder()
+            .cardNo("1234567812345678").cvc("123").paymentBalance(10_000L).build();
+
+    private void onboarding(OnboardingStatus status) {
+        when(customerOnboardingRepository.findById(CUSTOMER_ID)).thenReturn(Optional.of(
+                CustomerOnboarding.builder().customerId(CUSTOMER_ID).status(status).build()));
+    }
+
+    @Test
+    @DisplayName("준비 중(PENDING / RUNNING) 또는 실패(FAILED)면 전용 오류 코드, 멱등 키 / 카드 결제는 건드리지 않음")
+    void notCompleted_rejected() {
+        for (OnboardingStatus status : new OnboardingStatus[]{
+                OnboardingStatus.PENDING, OnboardingStatus.RUNNING, OnboardingStatus.FAILED}) {
+            onboarding(status);
+            assertThatThrownBy(() -> prepaymentService.processPayment(1L, CUSTOMER_ID, UUID.randomUUID().toString(), request))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.ONBOARDING_NOT_COMPLETED);
+        }
+        verifyNoInteractions(idempotencyService, ssafyFinanceApiService);
+    }
+
+    @Test
+    @DisplayName("준비 완료 고객 / 온보딩 도입 전 가입 고객(행 없음)은 그대로 결제 흐름으로")
+    void completedOrLegacy_passesGuard() {
+        onboarding(OnboardingStatus.COMPLETED);
+        assertThatThrownBy(() -> prepaymentService.processPayment(1L, CUSTOMER_ID, UUID.randomUUID().toString(), request))
+                .isNotInstanceOf(CustomException.class);
+
+        when(customerOnboardingRepository.findById(CUSTOMER_ID)).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> prepaymentService.processPayment(1L, CUSTOMER_ID, UUID.randomUUID().toString(), request))
+                .isNotInstanceOf(CustomException.class);
+
+        // 두 번 모두 가드를 지나 멱등 키 선점까지 도달 (mock 이 null 을 돌려줘 이후 단계에서 중단)
+        verify(idempotencyService, times(2)).beginOrLoad(any(), any(), any(), any(), any(), any());
+    }
+}
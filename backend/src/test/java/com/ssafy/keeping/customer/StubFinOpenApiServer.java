@@ -0,0 +1,196 @@
+package com.ssafy.keeping.customer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keeping.domain.charge.dto.ssafyapi.request.SsafyApiHeaderDto;
+import com.ssafy.keeping.domain.charge.service.SsafyFinanceApiService;
+import com.ssafy.keeping.global.client.FinOpenApiClient;
+import com.ssafy.keeping.global.client.FinOpenApiPaths;
+import com.ssafy.keeping.global.client.FinOpenApiProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * FinOpenAPI 대역 HTTP 서버 (JDK HttpServer) - 가입에 쓰는 경로 + 계좌 / 카드 목록 조회
+ * - 고정 지연 후 최소 응답 (userKey / 계좌 번호는 호출마다 새 값)
+ * - 경로별 응답 코드는 미리 넣어 둔 순서대로 (비어 있으면 200), 경로별 호출 수 / 동시 처리 최대치 기록
+ * - userKey 별 계좌 / 잔액 / 카드를 기억, 이미 처리한 기관거래고유번호로 다시 오면 400 (실제 API 의 중복 거절)
+ * - loseResponses: 처리는 반영하고 응답만 500 (응답 유실 / 타임아웃 흉내)
+ */
+class StubFinOpenApiServer implements AutoCloseable {
+
+    interface Handler {
+        String handle(JsonNode request, String userKey, int n);
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Queue<Integer>> statuses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> lostResponses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final Map<String, Queue<String>> requestNos = new ConcurrentHashMap<>();
+    private final Set<String> appliedRequestNos = ConcurrentHashMap.newKeySet();
+    private final Map<String, Queue<String>> accounts = new ConcurrentHashMap<>();   // userKey → 계좌 번호
+    private final Map<String, AtomicLong> balances = new ConcurrentHashMap<>();      // 계좌 번호 → 잔액
+    private final Map<String, Queue<String>> cards = new ConcurrentHashMap<>();      // userKey → 출금 계좌 번호
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicLong requestNoSequence = new AtomicLong();
+    private final long latencyMs;
+
+    StubFinOpenApiServer(long latencyMs) throws Exception {
+        this.latencyMs = latencyMs;
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        route(FinOpenApiPaths.INSERT_MEMBER, (req, userKey, n) ->
+                "{\"userId\":\"stub" + n + "@keeping509customer.com\",\"userKey\":\"uk-" + n + "\"}");
+        route(FinOpenApiPaths.CREATE_ACCOUNT, (req, userKey, n) -> {
+            String accountNo = String.valueOf(9_990_000_000L + n);
+            accounts.computeIfAbsent(userKey, k -> new ConcurrentLinkedQueue<>()).add(accountNo);
+            balances.put(accountNo, new AtomicLong());
+            return "{\"Header\":{\"responseCode\":\"H0000\"},\"REC\":{\"bankCode\":\"999\",\"accountNo\":\"" + accountNo + "\"}}";
+        });
+        route(FinOpenApiPaths.ISSUE_CARD, (req, userKey, n) -> {
+            cards.computeIfAbsent(userKey, k -> new ConcurrentLinkedQueue<>()).add(req.path("withdrawalAccountNo").asText());
+            return "{\"Header\":{\"responseCode\":\"H0000\"}}";
+        });
+        route(FinOpenApiPaths.ACCOUNT_DEPOSIT, (req, userKey, n) -> {
+            balances.computeIfAbsent(req.path("accountNo").asText(), k -> new AtomicLong())
+                    .addAndGet(req.path("transactionBalance").asLong());
+            return "{\"Header\":{\"responseCode\":\"H0000\"}}";
+        });
+        route(FinOpenApiPaths.INQUIRE_ACCOUNTS, (req, userKey, n) ->
+                "{\"Header\":{\"responseCode\":\"H0000\"},\"REC\":[" +
+                accounts.getOrDefault(userKey, new ConcurrentLinkedQueue<>()).stream()
+                        .map(no -> "{\"bankCode\":\"999\",\"accountNo\":\"" + no + "\",\"accountBalance\":" + balance(no) + "}")
+                        .collect(Collectors.joining(",")) + "]}");
+        route(FinOpenApiPaths.INQUIRE_CARDS, (req, userKey, n) ->
+                "{\"Header\":{\"responseCode\":\"H0000\"},\"REC\":[" +
+                cards.getOrDefault(userKey, new ConcurrentLinkedQueue<>()).stream()
+                        .map(no -> "{\"cardNo\":\"1000" + no + "\",\"withdrawalAccountNo\":\"" + no + "\"}")
+                        .collect(Collectors.joining(",")) + "]}");
+        server.start();
+    }
+
+    private void route(String path, Handler handler) {
+        statuses.put(path, new ConcurrentLinkedQueue<>());
+        lostResponses.put(path, new AtomicInteger());
+        hits.put(path, new AtomicInteger());
+        requestNos.put(path, new ConcurrentLinkedQueue<>());
+        server.createContext(path, exchange -> {
+            hits.get(path).incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try (InputStream in = exchange.getRequestBody()) {
+                JsonNode request = MAPPER.readTree(in.readAllBytes());
+                JsonNode header = request.path("Header");
+                String userKey = header.path("userKey").asText("");
+                String requestNo = header.path("institutionTransactionUniqueNo").asText(null);
+                if (requestNo != null) requestNos.get(path).add(requestNo);
+                Thread.sleep(latencyMs);
+
+                Integer status = statuses.get(path).poll();
+                int code = status == null ? 200 : status;
+                String body = "{\"responseCode\":\"stub\"}";
+                if (code == 200 && requestNo != null && !appliedRequestNos.add(requestNo)) {
+                    code = 400;
+                    body = "{\"responseCode\":\"H1008\",\"responseMessage\":\"기관거래고유번호가 중복된 값입니다.\"}";
+                } else if (code == 200) {
+                    body = handler.handle(request, userKey, sequence.incrementAndGet());
+                    if (lostResponses.get(path).getAndUpdate(left -> Math.max(0, left - 1)) > 0) code = 500;
+                }
+                byte[] out = body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(code, out.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(out);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /** 대역 서버를 보는 FinOpenApiClient (공통 헤더는 userKey / 기관거래고유번호만 채워서) */
+    FinOpenApiClient client() {
+        SsafyFinanceApiService headers = mock(SsafyFinanceApiService.class);
+        when(headers.newInstitutionTransactionUniqueNo())
+                .thenAnswer(inv -> String.format("20250901120000%06d", requestNoSequence.incrementAndGet()));
+        when(headers.createCommonHeader(anyString(), anyString()))
+                .thenAnswer(inv -> header(inv.getArgument(0), inv.getArgument(1), null));
+        when(headers.createCommonHeader(anyString(), anyString(), anyString()))
+                .thenAnswer(inv -> header(inv.getArgument(0), inv.getArgument(1), inv.getArgument(2)));
+        return new FinOpenApiClient(WebClient.builder().baseUrl(baseUrl()).build(),
+                headers, new FinOpenApiProperties(baseUrl(), "stub-api-key", null));
+    }
+
+    private static SsafyApiHeaderDto header(String userKey, String apiName, String requestNo) {
+        return SsafyApiHeaderDto.builder().apiName(apiName).userKey(userKey)
+                .institutionTransactionUniqueNo(requestNo).build();
+    }
+
+    void enqueueStatuses(String path, Integer... codes) {
+        statuses.get(path).addAll(List.of(codes));
+    }
+
+    void loseResponses(String path, int count) {
+        lostResponses.get(path).addAndGet(count);
+    }
+
+    int hits(String path) {
+        return hits.get(path).get();
+    }
+
+    /** 경로별로 받은 기관거래고유번호 (받은 순서대로) */
+    List<String> requestNos(String path) {
+        return List.copyOf(requestNos.get(path));
+    }
+
+    long balance(String accountNo) {
+        AtomicLong balance = balances.get(accountNo);
+        return balance == null ? 0 : balance.get();
+    }
+
+    int accounts(String userKey) {
+        return accounts.getOrDefault(userKey, new ConcurrentLinkedQueue<>()).size();
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,197 @@
+package com.ssafy.keeping.datasource;
+
+import com.ssafy.keeping.global.datasource.ReadYourWritesTracker;
+import com.ssafy.keeping.global.datasource.ReplicaLagMonitor;
+import com.ssafy.keeping.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 메모리 DB 3개를 주 DB / 복제본 2개로 두고 라우팅 확인
+ * - 각 DB 의 probe 테이블에 자기 이름을 넣어 두고 읽은 값으로 어느 DB 로 갔는지 판별
+ * - 복제는 주 DB 하트비트 값을 복제본에 복사하는 것으로 흉내
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_MS = 1_000;
+    private static final long STICKY_WINDOW_MS = 300;
+
+    HikariDataSource primary;
+    Map<String, DataSource> replicas;
+    ReplicaLagMonitor monitor;
+    ReplicaRoutingDataSource routing;
+    JdbcTemplate jdbc;
+    TransactionTemplate readOnlyTx;
+    TransactionTemplate writeTx;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        primary = h2("primary", run);
+        replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", h2("replica-0", run));
+        replicas.put("replica-1", h2("replica-1", run));
+
+        monitor = new ReplicaLagMonitor(primary, replicas, MAX_LAG_MS, 60_000);
+        routing = new ReplicaRoutingDataSource(primary, replicas, monitor, new ReadYourWritesTracker(STICKY_WINDOW_MS));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager tm = new DataSourceTransactionManager(dataSource);
+        readOnlyTx = new TransactionTemplate(tm);
+        readOnlyTx.setReadOnly(true);
+        writeTx = new TransactionTemplate(tm);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        routing.destroy();
+        primary.close();
+    }
+
+    private static HikariDataSource h2(String name, String run) {
+        HikariDataSource ds = new HikariDataSource();
+        ds.setPoolName(name);
+        ds.setJdbcUrl("jdbc:h2:mem:" + name + "-" + run + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        ds.setUsername("sa");
+        ds.setMaximumPoolSize(4);
+        JdbcTemplate init = new JdbcTemplate(ds);
+        init.execute("CREATE TABLE probe (name VARCHAR(20), hits INT)");
+        init.update("INSERT INTO probe VALUES (?, 0)", name);
+        init.execute("CREATE TABLE replication_heartbeat (id TINYINT PRIMARY KEY, beat_at DATETIME(3) NOT NULL)");
+        return ds;
+    }
+
+    /** 주 DB 하트비트를 복제본에 반영 (offsetMs 만큼 뒤처지게) */
+    private void replicate(String replica, long offsetMs) {
+        Timestamp beat = new JdbcTemplate(primary)
+                .queryForObject("SELECT beat_at FROM replication_heartbeat WHERE id = 1", Timestamp.class);
+        JdbcTemplate target = new JdbcTemplate(replicas.get(replica));
+        target.update("DELETE FROM replication_heartbeat");
+        target.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)",
+                new Timestamp(beat.getTime() - offsetMs));
+    }
+
+    private void replicateAll() {
+        monitor.check();
+        replicas.keySet().forEach(r -> replicate(r, 0));
+        monitor.check();
+    }
+
+    private String read() {
+        return readOnlyTx.execute(s -> jdbc.queryForObject("SELECT name FROM probe", String.class));
+    }
+
+    private void write() {
+        writeTx.executeWithoutResult(s -> jdbc.update("UPDATE probe SET hits = hits + 1"));
+    }
+
+    private static void login(long userId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                String.valueOf(userId), null, List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER"))));
+    }
+
+    @Test
+    @DisplayName("지연 측정 전에는 주 DB, 측정 후에는 복제본을 번갈아 사용, 쓰기는 주 DB")
+    void readOnlyGoesToHealthyReplicas() {
+        assertThat(read()).isEqualTo("primary");
+
+        replicateAll();
+        List<String> reads = List.of(read(), read(), read(), read());
+        assertThat(reads).containsOnly("replica-0", "replica-1");
+        assertThat(new HashSet<>(reads)).hasSize(2);
+
+        write();
+        assertThat(new JdbcTemplate(primary).queryForObject("SELECT hits FROM probe", Integer.class)).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT name FROM probe", String.class)).isEqualTo("primary");   // 트랜잭션 밖
+    }
+
+    @Test
+    @DisplayName("지연이 기준을 넘은 복제본은 제외, 모두 제외되면 주 DB")
+    void laggingReplicaIsSkipped() {
+        monitor.check();
+        replicate("replica-0", 0);
+        replicate("replica-1", 5_000);
+        monitor.check();
+
+        assertThat(List.of(read(), read(), read())).containsOnly("replica-0");
+        assertThat(monitor.lags().get("replica-1")).isGreaterThan(MAX_LAG_MS);
+
+        replicate("replica-0", 5_000);
+        monitor.check();
+        assertThat(read()).isEqualTo("primary");
+        assertThat(routing.stats().fallbackReads()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("본인 쓰기 직후에는 주 DB 에서 읽고, 다른 사용자는 복제본, 창이 지나면 다시 복제본")
+    void readYourWritesPerUser() throws Exception {
+        replicateAll();
+
+        login(1L);
+        write();
+        assertThat(read()).isEqualTo("primary");
+
+        login(2L);
+        assertThat(read()).startsWith("replica-");
+
+        login(1L);
+        Thread.sleep(STICKY_WINDOW_MS + 100);
+        assertThat(read()).startsWith("replica-");
+        assertThat(routing.stats().stickyReads()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비로그인 쓰기(스케줄러 등)는 같은 스레드의 다음 읽기만 주 DB 로 고정")
+    void readYourWritesPerThreadWhenAnonymous() throws Exception {
+        replicateAll();
+
+        write();
+        assertThat(read()).isEqualTo("primary");
+        assertThat(CompletableFuture.supplyAsync(this::read).get()).startsWith("replica-");
+    }
+
+    @Test
+    @DisplayName("복제본에 접속할 수 없으면 측정에서 빠지고 읽기는 주 DB")
+    void unreachableReplicaFallsBackToPrimary() {
+        replicateAll();
+        replicas.values().forEach(ds -> ((HikariDataSource) ds).close());
+
+        monitor.check();
+
+        assertThat(monitor.lags()).containsValues(-1L, -1L);
+        assertThat(read()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("풀별 통계: 주 DB / 복제본 각각")
+    void poolStats() {
+        replicateAll();
+        read();
+        write();
+
+        ReplicaRoutingDataSource.Stats stats = routing.stats();
+        assertThat(stats.pools()).extracting(ReplicaRoutingDataSource.PoolStats::name)
+                .containsExactly("primary", "replica-0", "replica-1");
+        assertThat(stats.pools()).allMatch(p -> p.total() >= 1);
+        assertThat(stats.writes()).isEqualTo(1);
+        assertThat(stats.replicaReads()).isEqualTo(1);
+    }
+}
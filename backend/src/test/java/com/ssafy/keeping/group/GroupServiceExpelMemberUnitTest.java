@@ -45,7 +45,7 @@ class GroupServiceExpelMemberUnitTest {
     }
 
     @Test
-    @DisplayName("잔액>0 → 정산 호출, 멤버 삭제, 알림 1+N 호출")
+    @DisplayName("잔액>0 → 정산 호출, 멤버 삭제, 본인 알림 + 모임원 일괄 알림")
     void expel_positiveRemain() {
         long groupId=1L, leaderId=10L, targetId=20L;
         Group g = group(groupId);
@@ -63,9 +63,9 @@ class GroupServiceExpelMemberUnitTest {
         verify(walletService).settleShareToIndividual(g.getGroupId(), targetId);
         verify(groupMemberRepository).delete(target);
 
-        verify(notificationService).sendToCustomer(targetId, NotificationType.MEMBER_EXPELLED, "모임에서 내보내졌습니다.");
-        verify(notificationService).sendToCustomer(leaderId, NotificationType.MEMBER_EXPELLED, "모임원이 내보내졌습니다.");
-        verify(notificationService).sendToCustomer(30L, NotificationType.MEMBER_EXPELLED, "모임원이 내보내졌습니다.");
+        verify(notificationService).sendToCustomer(targetId, NotificationType.MEMBER_EXPELLED, "G1 모임에서 내보내졌습니다.");
+        verify(notificationService).sendToGroupMembers(groupId, List.of(leaderId, 30L),
+                NotificationType.MEMBER_EXPELLED, "G1 모임의 모임원 U20이 내보내졌습니다.");
         verifyNoMoreInteractions(notificationService);
     }
 
@@ -86,8 +86,10 @@ class GroupServiceExpelMemberUnitTest {
 
         verify(walletService, never()).settleShareToIndividual(any(), anyLong());
         verify(groupMemberRepository).delete(target);
-        verify(notificationService, times(2))
+        verify(notificationService)
                 .sendToCustomer(anyLong(), eq(NotificationType.MEMBER_EXPELLED), anyString());
+        verify(notificationService)
+                .sendToGroupMembers(eq(groupId), eq(List.of(leaderId)), eq(NotificationType.MEMBER_EXPELLED), anyString());
     }
 
     @Test
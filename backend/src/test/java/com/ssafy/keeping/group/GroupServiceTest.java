@@ -85,8 +85,8 @@ class GroupServiceTest {
 
         verify(groupMemberRepository).delete(me);
         verify(notificationService, atLeastOnce()).sendToCustomer(eq(uid), any(), contains("환급"));
-        verify(notificationService, atLeastOnce()).sendToCustomer(eq(20L), any(), anyString());
-        verify(notificationService, atLeastOnce()).sendToCustomer(eq(30L), any(), anyString());
+        // 남은 모임원은 공유 본문 1건으로 일괄 전송
+        verify(notificationService).sendToGroupMembers(eq(gid), eq(List.of(20L, 30L)), any(), anyString());
     }
 
     @Test
@@ -139,8 +139,10 @@ class GroupServiceTest {
         verify(walletRepository).delete(gw);
         verify(groupRepository).delete(group);
 
+        // 환급액이 모두 달라 환급액별 1건씩
         verify(notificationService, times(3))
-                .sendToCustomer(anyLong(), any(), contains("환급"));
+                .sendToGroupMembers(eq(gid), anyList(), any(), contains("환급"));
+        verify(notificationService, never()).sendToCustomer(anyLong(), any(), anyString());
     }
 
     @Test
@@ -0,0 +1,341 @@
+package com.ssafy.keeping.image;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.ssafy.keeping.domain.menu.dto.MenuResponseDto;
+import com.ssafy.keeping.global.exception.CustomException;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import com.ssafy.keeping.global.s3.constant.ImageVariant;
+import com.ssafy.keeping.global.s3.service.ImageService;
+import com.ssafy.keeping.global.s3.service.ImageVariantService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 이미지 업로드 파이프라인: 크기/형식 선검증, 스트림 업로드, 비동기 변형본 생성, 응답 URL
+ * - S3 는 메모리 Map 으로 동작하는 대역(put/get/copy/delete)으로 대체
+ */
+class ImageUploadPipelineTest {
+
+    private static final String BUCKET = "keeping-test";
+    private static final long MAX_BYTES = 10L * 1024 * 1024;
+    private static final long MULTIPART_THRESHOLD = 5L * 1024 * 1024;
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    Map<String, byte[]> objects;
+    AmazonS3 s3;
+    TransferManager transferManager;
+    ImageVariantService variantService;
+    ImageService imageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        objects = new ConcurrentHashMap<>();
+        s3 = inMemoryS3(objects);
+        transferManager = mock(TransferManager.class);
+        when(transferManager.upload(anyString(), anyString(), any(InputStream.class), any(ObjectMetadata.class)))
+                .thenAnswer(inv -> {
+                    try (InputStream in = inv.getArgument(2)) {
+                        objects.put(inv.getArgument(1), in.readAllBytes());
+                    }
+                    return mock(Upload.class);
+                });
+
+        variantService = new ImageVariantService(s3, BUCKET, 0.8f, MAX_PIXELS, 100);
+        imageService = new ImageService(s3, transferManager, variantService, null, null, null, null);
+        ReflectionTestUtils.setField(imageService, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(imageService, "maxUploadBytes", MAX_BYTES);
+        ReflectionTestUtils.setField(imageService, "multipartThreshold", MULTIPART_THRESHOLD);
+        ReflectionTestUtils.setField(imageService, "maxPixels", MAX_PIXELS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        variantService.stop();
+    }
+
+    /** S3 대역: 키 → 바이트 */
+    private static AmazonS3 inMemoryS3(Map<String, byte[]> objects) throws Exception {
+        AmazonS3 s3 = mock(AmazonS3.class);
+        when(s3.getRegionName()).thenReturn("ap-northeast-2");
+        when(s3.putObject(any(PutObjectRequest.class))).thenAnswer(inv -> {
+            PutObjectRequest req = inv.getArgument(0);
+            try (InputStream in = req.getInputStream()) {
+                objects.put(req.getKey(), in.readAllBytes());
+            }
+            return null;
+        });
+        when(s3.putObject(anyString(), anyString(), any(InputStream.class), any(ObjectMetadata.class))).thenAnswer(inv -> {
+            try (InputStream in = inv.getArgument(2)) {
+                objects.put(inv.getArgument(1), in.readAllBytes());
+            }
+            return null;
+        });
+        when(s3.getObject(anyString(), anyString())).thenAnswer(inv -> {
+            byte[] bytes = objects.get(inv.<String>getArgument(1));
+            S3Object object = new S3Object();
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(bytes.length);
+            object.setObjectMetadata(metadata);
+            object.setObjectContent(new ByteArrayInputStream(bytes));
+            return object;
+        });
+        when(s3.copyObject(anyString(), anyString(), anyString(), anyString())).thenAnswer(inv -> {
+            objects.put(inv.getArgument(3), objects.get(inv.<String>getArgument(1)));
+            return null;
+        });
+        when(s3.doesObjectExist(anyString(), anyString()))
+                .thenAnswer(inv -> objects.containsKey(inv.<String>getArgument(1)));
+        doAnswer(inv -> objects.remove(inv.<String>getArgument(1)))
+                .when(s3).deleteObject(anyString(), anyString());
+        return s3;
+    }
+
+    /** 노이즈 섞인 사진 대용 JPEG */
+    private static byte[] photo(int width, int height) throws Exception {
+        return encode(noise(width, height), "jpg");
+    }
+
+    private static BufferedImage noise(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        Random random = new Random(7);
+        for (int i = 0; i < width * height / 16; i++) {
+            image.setRGB(random.nextInt(width), random.nextInt(height), random.nextInt());
+        }
+        return image;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    // 변형본 키는 업로드 직후부터 (원본 복사본으로) 존재하므로 생성 완료는 지표로 확인
+    private void awaitVariants() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (variantService.stats().generated() + variantService.stats().failed() == 0) {
+            if (System.currentTimeMillis() > deadline) throw new AssertionError("variants not generated in 10s");
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    @DisplayName("원본 업로드 후 변형본이 비동기로 생성되고, 메뉴 목록은 썸네일 URL 로 응답")
+    void upload_generatesVariants() throws Exception {
+        byte[] original = photo(2400, 1800);
+        String url = imageService.uploadImage(
+                new MockMultipartFile("imgFile", "IMG_0001.JPG", "image/jpeg", original), "menu");
+
+        String key = imageService.extractS3Key(url);
+        assertThat(key).startsWith("images/").endsWith("/original.jpg");
+        assertThat(objects.get(key)).hasSize(original.length);
+        verifyNoInteractions(transferManager);
+
+        awaitVariants();
+        byte[] thumb = objects.get(ImageVariant.THUMBNAIL.keyOf(key));
+        byte[] medium = objects.get(ImageVariant.MEDIUM.keyOf(key));
+        BufferedImage thumbImage = ImageIO.read(new ByteArrayInputStream(thumb));
+        assertThat(Math.max(thumbImage.getWidth(), thumbImage.getHeight())).isEqualTo(ImageVariant.THUMBNAIL.maxEdge());
+        assertThat(thumb.length).isLessThan(original.length / 20);
+        assertThat(medium.length).isLessThan(original.length / 4);
+
+        MenuResponseDto dto = new MenuResponseDto(1L, 1L, "아메리카노", 1L, "커피", 1, false, url, "", 4500);
+        assertThat(dto.thumbnailUrl()).isEqualTo(url.replace("original.jpg", "thumb.jpg"));
+
+        // 메뉴 20개 목록 1회 조회 시 내려가는 이미지 바이트 (원본 vs 썸네일)
+        long servedOriginal = 20L * original.length;
+        long servedThumb = 20L * thumb.length;
+        ImageVariantService.Stats stats = variantService.stats();
+        assertThat(stats.generated()).isEqualTo(1);
+        System.out.printf("[image] original=%d thumb=%d medium=%d bytes | menu list x20 served %d → %d bytes (%.1f%% saved)%n",
+                original.length, thumb.length, medium.length, servedOriginal, servedThumb,
+                100.0 * (servedOriginal - servedThumb) / servedOriginal);
+    }
+
+    @Test
+    @DisplayName("용량 초과 / 허용되지 않는 형식은 본문을 읽기 전에 거부")
+    void validate_beforeReadingBody() throws Exception {
+        MultipartFile huge = mock(MultipartFile.class);
+        when(huge.isEmpty()).thenReturn(false);
+        when(huge.getSize()).thenReturn(MAX_BYTES + 1);
+        when(huge.getContentType()).thenReturn("image/jpeg");
+
+        assertThatThrownBy(() -> imageService.uploadImage(huge, "store"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.IMAGE_TOO_LARGE);
+        verify(huge, never()).getInputStream();
+        verify(huge, never()).getBytes();
+
+        MockMultipartFile pdf = new MockMultipartFile("imgFile", "menu.pdf", "application/pdf", new byte[]{1, 2, 3});
+        assertThatThrownBy(() -> imageService.updateProfileImage(null, pdf))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.IMAGE_TYPE_NOT_ALLOWED);
+        assertThat(objects).isEmpty();
+    }
+
+    @Test
+    @DisplayName("multipart-threshold 이상은 TransferManager 멀티파트 업로드")
+    void largeUpload_usesTransferManager() throws Exception {
+        // 압축이 거의 안 되는 노이즈 PNG (threshold 보다 큼)
+        BufferedImage image = new BufferedImage(1400, 1400, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(11);
+        for (int y = 0; y < 1400; y++) {
+            for (int x = 0; x < 1400; x++) image.setRGB(x, y, random.nextInt());
+        }
+        byte[] large = encode(image, "png");
+        assertThat((long) large.length).isGreaterThanOrEqualTo(MULTIPART_THRESHOLD);
+        imageService.uploadImage(new MockMultipartFile("imgFile", "big.png", "image/png", large), "store");
+
+        verify(transferManager).upload(eq(BUCKET), endsWith("/original.png"), any(InputStream.class), any(ObjectMetadata.class));
+        verify(s3, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("이전 규칙으로 올라간 이미지 / 기본 이미지는 변형본 URL 대신 원본 URL")
+    void legacyUrl_fallsBackToOriginal() {
+        String legacy = "https://keeping-test.s3.ap-northeast-2.amazonaws.com/2b1c_menu.jpg";
+        String basic = "https://keeping-test.s3.ap-northeast-2.amazonaws.com/menuBasicImage.jpg";
+
+        assertThat(ImageVariant.THUMBNAIL.urlOf(legacy)).isEqualTo(legacy);
+        assertThat(ImageVariant.MEDIUM.urlOf(basic)).isEqualTo(basic);
+        assertThat(ImageVariant.THUMBNAIL.urlOf(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("WebP 헤더가 아닌 파일 / 형식을 속인 파일 / 해상도 초과 이미지는 S3 에 올리기 전에 거부")
+    void validate_rejectsFakeAndOversized() throws Exception {
+        MockMultipartFile webp = new MockMultipartFile("imgFile", "menu.webp", "image/webp", new byte[]{1, 2, 3});
+        assertThatThrownBy(() -> imageService.uploadImage(webp, "menu"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.IMAGE_TYPE_NOT_ALLOWED);
+
+        MockMultipartFile fake = new MockMultipartFile("imgFile", "menu.png", "image/png", new byte[1024]);
+        assertThatThrownBy(() -> imageService.uploadImage(fake, "menu"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.IMAGE_TYPE_NOT_ALLOWED);
+
+        // 헤더 기준 픽셀 수 초과 (단색이라 파일은 작음)
+        ReflectionTestUtils.setField(imageService, "maxPixels", 1_000_000L);
+        byte[] wide = encode(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "png");
+        assertThatThrownBy(() -> imageService.uploadImage(
+                new MockMultipartFile("imgFile", "wide.png", "image/png", wide), "store"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.IMAGE_DIMENSION_TOO_LARGE);
+        assertThat(objects).isEmpty();
+    }
+
+    /** VP8L(무손실) WebP 헤더만 있는 파일 (크기 검증용) */
+    private static byte[] webpHeader(int width, int height) {
+        byte[] b = new byte[30];
+        System.arraycopy("RIFF".getBytes(), 0, b, 0, 4);
+        System.arraycopy("WEBPVP8L".getBytes(), 0, b, 8, 8);
+        b[20] = 0x2F;
+        int bits = (width - 1) | (height - 1) << 14;
+        for (int i = 0; i < 4; i++) b[21 + i] = (byte) (bits >>> (8 * i));
+        return b;
+    }
+
+    @Test
+    @DisplayName("WebP 는 변형본 없이 원본만 저장하고, 응답 URL 도 원본 / 헤더 기준 해상도 초과는 거부")
+    void webp_storedAsOriginalOnly() throws Exception {
+        String url = imageService.uploadImage(
+                new MockMultipartFile("imgFile", "menu.webp", "image/webp", webpHeader(640, 480)), "menu");
+        String key = imageService.extractS3Key(url);
+
+        assertThat(key).endsWith("/original.webp");
+        assertThat(objects).containsOnlyKeys(key);
+        assertThat(ImageVariant.THUMBNAIL.urlOf(url)).isEqualTo(url);
+        assertThat(ImageVariant.MEDIUM.urlOf(url)).isEqualTo(url);
+        assertThat(variantService.stats().generated() + variantService.stats().failed()).isZero();
+
+        ReflectionTestUtils.setField(imageService, "maxPixels", 1_000_000L);
+        assertThatThrownBy(() -> imageService.uploadImage(
+                new MockMultipartFile("imgFile", "wide.webp", "image/webp", webpHeader(2000, 1000)), "store"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.IMAGE_DIMENSION_TOO_LARGE);
+    }
+
+    @Test
+    @DisplayName("변형본 키는 업로드 직후부터 존재하고, 디코딩/해상도 검사에 실패하면 원본 복사본이 남음")
+    void variantKeys_alwaysResolve() throws Exception {
+        // 업로드 응답 시점: 변형본 키에 원본 복사본
+        String url = imageService.uploadImage(
+                new MockMultipartFile("imgFile", "small.png", "image/png", encode(noise(64, 64), "png")), "menu");
+        String key = imageService.extractS3Key(url);
+        assertThat(objects).containsKeys(ImageVariant.THUMBNAIL.keyOf(key), ImageVariant.MEDIUM.keyOf(key));
+        awaitVariants();
+
+        // 디코딩 불가 원본 (업로드 검증 이전에 올라간 파일 등)
+        String broken = "images/broken/original.jpg";
+        objects.put(broken, new byte[]{(byte) 0xFF, (byte) 0xD8, 1, 2, 3});
+        variantService.generate(broken);
+        assertThat(objects.get(ImageVariant.THUMBNAIL.keyOf(broken))).isEqualTo(objects.get(broken));
+        assertThat(objects.get(ImageVariant.MEDIUM.keyOf(broken))).isEqualTo(objects.get(broken));
+
+        // 해상도 초과 원본은 디코딩하지 않고 원본 복사본
+        ImageVariantService strict = new ImageVariantService(s3, BUCKET, 0.8f, 10_000L, 100);
+        try {
+            String big = "images/big/original.png";
+            objects.put(big, encode(new BufferedImage(1000, 1000, BufferedImage.TYPE_INT_RGB), "png"));
+            strict.generate(big);
+            assertThat(strict.stats().failed()).isEqualTo(1);
+            assertThat(objects.get(ImageVariant.THUMBNAIL.keyOf(big))).isEqualTo(objects.get(big));
+        } finally {
+            strict.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("변형본 생성 대기열이 가득 차면 생성을 건너뛰고(원본 복사본 유지) 건너뛴 수를 집계")
+    void variantQueue_isBounded() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AmazonS3 slowS3 = mock(AmazonS3.class);
+        when(slowS3.getObject(anyString(), anyString())).thenAnswer(inv -> {
+            release.await(10, TimeUnit.SECONDS);
+            throw new IllegalStateException("slow");
+        });
+        ImageVariantService bounded = new ImageVariantService(slowS3, BUCKET, 0.8f, MAX_PIXELS, 1);
+        try {
+            int workers = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            // 작업 스레드 수만큼 처리 중 + 대기열 1건, 그다음부터 거부
+            for (int i = 0; i < workers + 1 + 3; i++) {
+                bounded.generateAsync("images/slow" + i + "/original.jpg");
+            }
+            assertThat(bounded.stats().skipped()).isEqualTo(3);
+        } finally {
+            release.countDown();
+            bounded.stop();
+        }
+    }
+}
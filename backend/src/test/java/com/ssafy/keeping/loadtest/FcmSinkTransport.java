@@ -0,0 +1,129 @@
+package com.ssafy.keeping.loadtest;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FCM 대역: Firebase Admin SDK 의 HTTP 전송 계층을 바꿔 끼워 실제 호출 없이 200 으로 응답하고 건수만 셈
+ * - 스프링 컨텍스트 기동 전에 기본 FirebaseApp 을 먼저 올려 두면 FirebaseConfig 는 초기화를 건너뜀
+ * - 토큰 갱신이 일어나지 않도록 만료가 먼 고정 액세스 토큰 사용
+ */
+class FcmSinkTransport extends HttpTransport {
+
+    private final AtomicLong sends = new AtomicLong();
+    private final long latencyMs;
+
+    FcmSinkTransport(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    FirebaseApp install() {
+        AccessToken token = new AccessToken("loadtest", new Date(System.currentTimeMillis() + Duration.ofDays(1).toMillis()));
+        return FirebaseApp.initializeApp(FirebaseOptions.builder()
+                .setCredentials(GoogleCredentials.create(token))
+                .setProjectId("loadtest")
+                .setHttpTransport(this)
+                .build());
+    }
+
+    long sends() {
+        return sends.get();
+    }
+
+    @Override
+    protected LowLevelHttpRequest buildRequest(String method, String url) {
+        return new LowLevelHttpRequest() {
+            @Override
+            public void addHeader(String name, String value) {
+            }
+
+            @Override
+            public LowLevelHttpResponse execute() throws IOException {
+                if (getStreamingContent() != null) {
+                    getStreamingContent().writeTo(OutputStream.nullOutputStream());
+                }
+                try {
+                    Thread.sleep(latencyMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("FCM 대역 응답 대기 중 인터럽트", e);
+                }
+                long id = sends.incrementAndGet();
+                return new JsonResponse("{\"name\":\"projects/loadtest/messages/" + id + "\"}");
+            }
+        };
+    }
+
+    private static final class JsonResponse extends LowLevelHttpResponse {
+
+        private final byte[] body;
+
+        JsonResponse(String json) {
+            this.body = json.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public InputStream getContent() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return null;
+        }
+
+        @Override
+        public long getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/json; charset=UTF-8";
+        }
+
+        @Override
+        public String getStatusLine() {
+            return "HTTP/1.1 200 OK";
+        }
+
+        @Override
+        public int getStatusCode() {
+            return 200;
+        }
+
+        @Override
+        public String getReasonPhrase() {
+            return "OK";
+        }
+
+        @Override
+        public int getHeaderCount() {
+            return 0;
+        }
+
+        @Override
+        public String getHeaderName(int index) {
+            return null;
+        }
+
+        @Override
+        public String getHeaderValue(int index) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ssafy.keeping.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트용 HTTP 클라이언트: 요청 1건 = 단계 1건으로 응답 시간 / 상태 코드를 StepRecorder 에 기록
+ * - 2xx 면 ApiResponse 의 data 노드, 아니면 null (시나리오는 null 이면 그 회차의 남은 단계를 건너뜀)
+ * - 연결 실패 / 타임아웃은 상태 -1 로 기록
+ */
+class LoadTestClient {
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StepRecorder recorder;
+
+    LoadTestClient(String baseUrl, StepRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+    }
+
+    JsonNode get(String step, String path, String token) {
+        return send(step, request(path, token).GET().build());
+    }
+
+    JsonNode post(String step, String path, String token, Object body) {
+        return post(step, path, token, body, false);
+    }
+
+    // 멱등 키가 필요한 쓰기 API 는 매 요청 새 키 (재시도 재생 경로가 아니라 신규 처리 경로를 측정)
+    JsonNode postIdempotent(String step, String path, String token, Object body) {
+        return post(step, path, token, body, true);
+    }
+
+    private JsonNode post(String step, String path, String token, Object body, boolean idempotent) {
+        HttpRequest.Builder builder = request(path, token).header("Content-Type", "application/json");
+        if (idempotent) {
+            builder.header("Idempotency-Key", UUID.randomUUID().toString());
+        }
+        try {
+            byte[] json = body == null ? new byte[0] : objectMapper.writeValueAsBytes(body);
+            return send(step, builder.POST(HttpRequest.BodyPublishers.ofByteArray(json)).build());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문 직렬화 실패: " + step, e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private JsonNode send(String step, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            boolean ok = response.statusCode() / 100 == 2;
+            recorder.record(step, response.statusCode(), System.nanoTime() - start, ok);
+            return ok ? objectMapper.readTree(response.body()).path("data") : null;
+        } catch (IOException e) {
+            recorder.record(step, -1, System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.ssafy.keeping.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.firebase.FirebaseApp;
+import com.ssafy.keeping.KeepingApplication;
+import com.ssafy.keeping.loadtest.LoadTestScenarios.Scenario;
+import com.ssafy.keeping.loadtest.LoadTestSeeder.CustomerFixture;
+import com.ssafy.keeping.loadtest.LoadTestSeeder.Fixtures;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import redis.embedded.RedisServer;
+
+import java.io.File;
+import java.net.ServerSocket;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 종단 간 부하 테스트 하네스: 외부 의존성을 전부 프로세스 안 대역으로 바꿔 앱을 띄우고 시나리오를 돌려 단계별 처리량 / 지연 백분위 보고
+ * - DB: H2(MySQL 모드, -Pspring.datasource.url 로 실제 MySQL 지정 가능) / Redis: 임베디드 / Kafka: 임베디드 KRaft 브로커
+ * - SSAFY 금융 API: StubFinanceServer / FCM: FcmSinkTransport / S3: StubS3Server
+ * - 실행: ./gradlew loadTest [-Ploadtest.users=100 -Ploadtest.duration-seconds=120 -Ploadtest.mix=payment:6,group:2,dashboard:2]
+ * - 결과: 콘솔 표 + loadtest.report(JSON) 파일
+ */
+public class LoadTestHarness {
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 50);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 15);
+        int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+        int stores = Integer.getInteger("loadtest.stores", 20);
+        int menus = Integer.getInteger("loadtest.menus", 8);
+        int groupSize = Integer.getInteger("loadtest.group-size", 4);
+        long thinkMs = Long.getLong("loadtest.think-ms", 0L);
+        long financeLatencyMs = Long.getLong("loadtest.finance-latency-ms", 80L);
+        long fcmLatencyMs = Long.getLong("loadtest.fcm-latency-ms", 30L);
+        Map<Scenario, Integer> mix = parseMix(System.getProperty("loadtest.mix", "payment:6,group:2,dashboard:2"));
+        File reportFile = new File(System.getProperty("loadtest.report", "build/reports/loadtest/report.json"));
+
+        int redisPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+        EmbeddedKafkaKraftBroker kafka = new EmbeddedKafkaKraftBroker(1, 1,
+                "notification-events", "anomaly-detection-events", "notification-events-dlq", "anomaly-detection-events-dlq");
+        kafka.afterPropertiesSet();
+        StubFinanceServer finance = new StubFinanceServer(financeLatencyMs);
+        StubS3Server s3 = new StubS3Server();
+        FcmSinkTransport fcm = new FcmSinkTransport(fcmLatencyMs);
+        FirebaseApp firebase = fcm.install();
+
+        ConfigurableApplicationContext context = null;
+        try {
+            context = new SpringApplicationBuilder(KeepingApplication.class)
+                    .profiles("test", "loadtest")
+                    .run("--server.port=0",
+                            "--spring.data.redis.host=localhost",
+                            "--spring.data.redis.port=" + redisPort,
+                            "--spring.kafka.bootstrap-servers=" + kafka.getBrokersAsString(),
+                            "--ssafy.finance.api.base-url=" + finance.baseUrl(),
+                            "--finopenapi.base-url=" + finance.baseUrl(),
+                            "--cloud.aws.s3.endpoint=" + s3.endpoint());
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            long seedStart = System.nanoTime();
+            Fixtures fixtures = new LoadTestSeeder(context).seed(stores, menus, users, groupSize);
+            System.out.printf("기초 데이터 적재: 가게 %d, 고객 %d (%.1fs)%n",
+                    stores, users, (System.nanoTime() - seedStart) / 1e9);
+
+            StepRecorder recorder = new StepRecorder();
+            LoadTestScenarios scenarios = new LoadTestScenarios(
+                    new LoadTestClient("http://localhost:" + port, recorder), fixtures, mix);
+            run(scenarios, fixtures.customers(), recorder, warmupSeconds, durationSeconds, thinkMs);
+
+            System.out.printf("%n사용자 %d, 측정 %.1fs, 시나리오 비중 %s%n", users, recorder.measuredSeconds(), mix);
+            System.out.print(recorder.table());
+            Map<String, Object> standIns = new LinkedHashMap<>();
+            standIns.put("financeApiCalls", finance.hits());
+            standIns.put("fcmSends", fcm.sends());
+            standIns.put("s3Objects", s3.objectCount());
+            System.out.println("대역 호출: " + standIns);
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("users", users);
+            report.put("mix", mix);
+            report.putAll(recorder.toReport());
+            report.put("standIns", standIns);
+            File dir = reportFile.getAbsoluteFile().getParentFile();
+            if (dir != null) dir.mkdirs();
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, report);
+            System.out.println("보고서: " + reportFile.getAbsolutePath());
+        } finally {
+            if (context != null) context.close();
+            firebase.delete();
+            s3.close();
+            finance.close();
+            kafka.destroy();
+            redis.stop();
+        }
+    }
+
+    // 가상 사용자마다 고객 1명, 워밍업 후 측정 구간만 기록
+    private static void run(LoadTestScenarios scenarios, List<CustomerFixture> customers, StepRecorder recorder,
+                            int warmupSeconds, int durationSeconds, long thinkMs) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(customers.size());
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds + durationSeconds);
+        for (int i = 0; i < customers.size(); i++) {
+            CustomerFixture me = customers.get(i);
+            Random random = new Random(i);
+            pool.submit(() -> {
+                while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                    scenarios.runOnce(me, random);
+                    if (thinkMs > 0) {
+                        try {
+                            Thread.sleep(thinkMs);
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                }
+            });
+        }
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        recorder.start();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        recorder.stop();
+        pool.shutdown();
+        if (!pool.awaitTermination(60, TimeUnit.SECONDS)) {
+            pool.shutdownNow();
+        }
+    }
+
+    private static Map<Scenario, Integer> parseMix(String spec) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split(":");
+            mix.put(Scenario.valueOf(kv[0].trim().toUpperCase()), Integer.parseInt(kv[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,126 @@
+package com.ssafy.keeping.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssafy.keeping.loadtest.LoadTestSeeder.CustomerFixture;
+import com.ssafy.keeping.loadtest.LoadTestSeeder.Fixtures;
+import com.ssafy.keeping.loadtest.LoadTestSeeder.StoreFixture;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 부하 테스트 시나리오 (가상 사용자 1명 = 고객 1명, 매 회차 가중치에 따라 시나리오 1개 실행)
+ * - payment: 충전 → QR 발급 → 결제 요청(점주) → 승인(PIN) → 거래내역 조회 → 환불(점주)
+ * - group: 충전 → 모임 지갑으로 공유 → 모임 지갑에서 회수
+ * - dashboard: 점주 통계 전체 / 일별 / 기간 / 월별
+ * - 앞 단계가 실패하면 그 회차의 남은 단계는 건너뜀 (실패 단계만 errors 로 집계)
+ */
+class LoadTestScenarios {
+
+    enum Scenario { PAYMENT, GROUP, DASHBOARD }
+
+    private static final String CARD_NO = "1234567812345678";
+    private static final String CVC = "123";
+
+    private final LoadTestClient client;
+    private final Fixtures fixtures;
+    private final List<Scenario> weighted = new ArrayList<>();
+
+    LoadTestScenarios(LoadTestClient client, Fixtures fixtures, Map<Scenario, Integer> mix) {
+        this.client = client;
+        this.fixtures = fixtures;
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) weighted.add(scenario);
+        });
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("시나리오 가중치가 모두 0");
+        }
+    }
+
+    void runOnce(CustomerFixture me, Random random) {
+        StoreFixture store = fixtures.stores().get(random.nextInt(fixtures.stores().size()));
+        switch (weighted.get(random.nextInt(weighted.size()))) {
+            case PAYMENT -> payment(me, store, random);
+            case GROUP -> group(me, store);
+            case DASHBOARD -> dashboard(store);
+        }
+    }
+
+    private void payment(CustomerFixture me, StoreFixture store, Random random) {
+        long storeId = store.storeId();
+        if (charge("payment.charge", me, storeId, 50_000L) == null) return;
+
+        JsonNode qr = client.post("payment.qr", "/cpqr/new", me.token(), Map.of(
+                "walletId", me.walletId(), "mode", "CPQR", "bindStoreId", storeId, "ttlSeconds", 60));
+        String qrToken = text(qr, "qrToken");
+        if (qrToken == null) return;
+
+        // 서로 다른 메뉴 1~3개
+        List<Long> menus = new ArrayList<>(store.menuIds());
+        Collections.shuffle(menus, random);
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (Long menuId : menus.subList(0, Math.min(menus.size(), 1 + random.nextInt(3)))) {
+            items.add(Map.of("menuId", menuId, "quantity", 1 + random.nextInt(2)));
+        }
+        JsonNode intent = client.postIdempotent("payment.initiate", "/cpqr/" + qrToken + "/initiate", store.ownerToken(),
+                Map.of("storeId", storeId, "orderItems", items));
+        String intentId = text(intent, "intentId");
+        if (intentId == null) return;
+
+        JsonNode approved = client.postIdempotent("payment.approve", "/payments/" + intentId + "/approve", me.token(),
+                Map.of("pin", LoadTestSeeder.PIN));
+        if (text(approved, "intentId") == null) return;
+
+        JsonNode detail = client.get("payment.history",
+                "/wallets/individual/stores/" + storeId + "/detail?page=0&size=5", me.token());
+        Long useTransactionId = null;
+        if (detail != null) {
+            for (JsonNode tx : detail.path("transactions").path("content")) {
+                if ("USE".equals(tx.path("transactionType").asText())) {
+                    useTransactionId = tx.path("transactionId").asLong();
+                    break;
+                }
+            }
+        }
+        if (useTransactionId == null) return;
+
+        client.postIdempotent("payment.refund",
+                "/stores/" + storeId + "/transactions/" + useTransactionId + "/refund", store.ownerToken(), null);
+    }
+
+    private void group(CustomerFixture me, StoreFixture store) {
+        long storeId = store.storeId();
+        if (charge("group.charge", me, storeId, 20_000L) == null) return;
+
+        Map<String, Object> body = Map.of(
+                "individualWalletId", me.walletId(), "groupWalletId", me.groupWalletId(), "shareAmount", 10_000L);
+        String path = "/wallets/groups/" + me.groupId() + "/stores/" + storeId;
+        if (client.postIdempotent("group.share", path, me.token(), body) == null) return;
+        client.postIdempotent("group.reclaim", path + "/reclaim", me.token(), body);
+    }
+
+    private void dashboard(StoreFixture store) {
+        String base = "/stores/" + store.storeId() + "/statistics";
+        String today = LocalDate.now().toString();
+        client.post("dashboard.overall", base + "/overall", store.ownerToken(), Map.of());
+        client.post("dashboard.daily", base + "/daily", store.ownerToken(), Map.of("date", today));
+        client.post("dashboard.period", base + "/period", store.ownerToken(),
+                Map.of("startDate", LocalDate.now().minusDays(30).toString(), "endDate", today));
+        client.post("dashboard.monthly", base + "/monthly", store.ownerToken(), Map.of("date", today));
+    }
+
+    private JsonNode charge(String step, CustomerFixture me, long storeId, long amount) {
+        return client.postIdempotent(step, "/api/v1/stores/" + storeId + "/prepayment", me.token(),
+                Map.of("cardNo", CARD_NO, "cvc", CVC, "paymentBalance", amount));
+    }
+
+    // 202(처리 중) 응답은 data 가 비어 있으므로 다음 단계로 넘어가지 않음
+    private static String text(JsonNode node, String field) {
+        if (node == null || !node.hasNonNull(field)) return null;
+        return node.get(field).asText();
+    }
+}
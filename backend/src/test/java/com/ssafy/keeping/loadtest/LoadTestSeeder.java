@@ -0,0 +1,146 @@
+package com.ssafy.keeping.loadtest;
+
+import com.ssafy.keeping.domain.auth.enums.UserRole;
+import com.ssafy.keeping.domain.auth.pin.service.PinAuthService;
+import com.ssafy.keeping.domain.auth.security.JwtProvider;
+import com.ssafy.keeping.domain.group.model.Group;
+import com.ssafy.keeping.domain.group.model.GroupMember;
+import com.ssafy.keeping.domain.menu.model.Menu;
+import com.ssafy.keeping.domain.menuCategory.model.MenuCategory;
+import com.ssafy.keeping.domain.notification.entity.FcmToken;
+import com.ssafy.keeping.domain.store.constant.StoreStatus;
+import com.ssafy.keeping.domain.store.model.Store;
+import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.owner.model.Owner;
+import com.ssafy.keeping.domain.wallet.constant.WalletType;
+import com.ssafy.keeping.domain.wallet.model.Wallet;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ssafy.keeping.domain.auth.enums.AuthProvider.KAKAO;
+import static com.ssafy.keeping.domain.auth.enums.Gender.MALE;
+
+/**
+ * 부하 테스트 기초 데이터 적재 (기동된 컨텍스트의 JPA 로 직접 저장)
+ * - 점주 1명당 가게 1개, 가게마다 메뉴 카테고리 1개 + 메뉴 menusPerStore 개
+ * - 고객마다 개인 지갑 / 결제 PIN / FCM 토큰, groupSize 명씩 묶어 모임 + 모임 지갑
+ * - 로그인 흐름은 측정 대상이 아니므로 액세스 토큰은 JwtProvider 로 바로 발급
+ */
+class LoadTestSeeder {
+
+    static final String PIN = "123456";
+
+    record StoreFixture(long storeId, String ownerToken, List<Long> menuIds) {
+    }
+
+    record CustomerFixture(long customerId, String token, long walletId, long groupId, long groupWalletId) {
+    }
+
+    record Fixtures(List<StoreFixture> stores, List<CustomerFixture> customers) {
+    }
+
+    private record SeededStore(long storeId, long ownerId, List<Long> menuIds) {
+    }
+
+    private final ApplicationContext context;
+    private final EntityManager em;
+    private final TransactionTemplate tx;
+
+    LoadTestSeeder(ApplicationContext context) {
+        this.context = context;
+        this.em = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        this.tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    Fixtures seed(int storeCount, int menusPerStore, int customerCount, int groupSize) {
+        JwtProvider jwt = context.getBean(JwtProvider.class);
+        PinAuthService pins = context.getBean(PinAuthService.class);
+
+        List<StoreFixture> stores = new ArrayList<>();
+        for (int s = 0; s < storeCount; s++) {
+            int n = s;
+            SeededStore seeded = tx.execute(status -> createStore(n, menusPerStore));
+            stores.add(new StoreFixture(seeded.storeId(),
+                    jwt.generateAccessToken(seeded.ownerId(), UserRole.OWNER), seeded.menuIds()));
+        }
+
+        List<CustomerFixture> customers = new ArrayList<>();
+        for (int from = 0; from < customerCount; from += groupSize) {
+            int size = Math.min(groupSize, customerCount - from);
+            int first = from;
+            List<CustomerFixture> members = tx.execute(status -> createGroup(first, size));
+            for (CustomerFixture c : members) {
+                pins.setOrUpdatePin(c.customerId(), PIN);
+                customers.add(new CustomerFixture(c.customerId(),
+                        jwt.generateAccessToken(c.customerId(), UserRole.CUSTOMER),
+                        c.walletId(), c.groupId(), c.groupWalletId()));
+            }
+        }
+        return new Fixtures(stores, customers);
+    }
+
+    private SeededStore createStore(int n, int menusPerStore) {
+        Owner owner = Owner.builder()
+                .providerId("lt-owner-" + n).providerType(KAKAO)
+                .email("lt-owner-" + n + "@loadtest.local").phoneNumber(String.format("010-7%03d-%04d", n / 10000, n % 10000))
+                .birth(LocalDate.of(1985, 1, 1)).name("점주" + n).gender(MALE)
+                .imgUrl("https://img/owner.png").userKey("LT-OWNER-" + n).build();
+        em.persist(owner);
+        em.persist(FcmToken.builder().token("lt-owner-fcm-" + n).owner(owner).build());
+
+        Store store = Store.builder()
+                .storeName("부하테스트가게" + n).address("서울시 부하구 " + n)
+                .phoneNumber("02-700-" + String.format("%04d", n)).bankAccount("001-700-" + String.format("%06d", n))
+                .category("FOOD").imgUrl("https://img/store.png")
+                .taxIdNumber(String.format("700-%02d-%05d", n / 100000, n % 100000)).storeStatus(StoreStatus.ACTIVE)
+                .owner(owner).merchantId(70_000L + n).build();
+        em.persist(store);
+
+        MenuCategory category = MenuCategory.builder().store(store).categoryName("커피").build();
+        em.persist(category);
+        List<Long> menuIds = new ArrayList<>();
+        for (int m = 0; m < menusPerStore; m++) {
+            Menu menu = Menu.builder()
+                    .store(store).category(category)
+                    .menuName("메뉴" + m).price(3_000 + 500 * (m % 6))
+                    .displayOrder(m).imgUrl("https://img/menu.png").build();
+            em.persist(menu);
+            menuIds.add(menu.getMenuId());
+        }
+        return new SeededStore(store.getStoreId(), owner.getOwnerId(), menuIds);
+    }
+
+    private List<CustomerFixture> createGroup(int first, int size) {
+        Group group = Group.builder()
+                .groupName("부하테스트모임" + first).groupCode("LT-" + first).groupDescription("부하 테스트")
+                .build();
+        em.persist(group);
+        Wallet groupWallet = Wallet.builder().group(group).walletType(WalletType.GROUP).build();
+        em.persist(groupWallet);
+
+        List<CustomerFixture> members = new ArrayList<>();
+        for (int i = first; i < first + size; i++) {
+            Customer customer = Customer.builder()
+                    .providerId("lt-customer-" + i).providerType(KAKAO)
+                    .email("lt-customer-" + i + "@loadtest.local").phoneNumber(String.format("010-8%03d-%04d", i / 10000, i % 10000))
+                    .birth(LocalDate.of(1995, 1, 1)).name("고객" + i).gender(MALE)
+                    .imgUrl("https://img/customer.png").userKey("LT-CUSTOMER-" + i).build();
+            em.persist(customer);
+            em.persist(FcmToken.builder().token("lt-customer-fcm-" + i).customer(customer).build());
+            Wallet wallet = Wallet.builder().customer(customer).walletType(WalletType.INDIVIDUAL).build();
+            em.persist(wallet);
+            em.persist(GroupMember.builder().group(group).user(customer).leader(i == first).build());
+            members.add(new CustomerFixture(customer.getCustomerId(), null,
+                    wallet.getWalletId(), group.getGroupId(), groupWallet.getWalletId()));
+        }
+        return members;
+    }
+}
@@ -0,0 +1,112 @@
+package com.ssafy.keeping.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계별 응답 시간 / 실패 수 기록
+ * - 워밍업 중에는 버리고 start() 이후 측정 구간만 집계
+ * - 단계 이름은 등록 순서대로 보고 (시나리오 흐름 순)
+ */
+class StepRecorder {
+
+    record StepSummary(String step, long count, long errors, double throughput,
+                       double p50Ms, double p95Ms, double p99Ms, double maxMs, Map<Integer, Long> statuses) {
+    }
+
+    private static final class Step {
+        private long[] nanos = new long[1024];
+        private int size;
+        private final LongAdder errors = new LongAdder();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        synchronized void add(long elapsedNanos) {
+            if (size == nanos.length) nanos = Arrays.copyOf(nanos, size * 2);
+            nanos[size++] = elapsedNanos;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(nanos, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private final Map<String, Step> steps = new ConcurrentHashMap<>();
+    private final List<String> order = new CopyOnWriteArrayList<>();
+    private volatile boolean recording;
+    private volatile long startedAt;
+    private volatile long stoppedAt;
+
+    void start() {
+        startedAt = System.nanoTime();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+        stoppedAt = System.nanoTime();
+    }
+
+    void record(String step, int status, long elapsedNanos, boolean ok) {
+        if (!recording) return;
+        Step s = steps.computeIfAbsent(step, k -> {
+            order.add(k);
+            return new Step();
+        });
+        s.add(elapsedNanos);
+        s.statuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+        if (!ok) s.errors.increment();
+    }
+
+    double measuredSeconds() {
+        return (stoppedAt - startedAt) / 1e9;
+    }
+
+    List<StepSummary> summaries() {
+        double seconds = measuredSeconds();
+        List<StepSummary> result = new ArrayList<>();
+        for (String name : order) {
+            Step s = steps.get(name);
+            long[] sorted = s.sorted();
+            Map<Integer, Long> statuses = new TreeMap<>();
+            s.statuses.forEach((code, n) -> statuses.put(code, n.sum()));
+            result.add(new StepSummary(name, sorted.length, s.errors.sum(), sorted.length / seconds,
+                    percentileMs(sorted, 0.50), percentileMs(sorted, 0.95), percentileMs(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6, statuses));
+        }
+        return result;
+    }
+
+    // nearest-rank
+    private static double percentileMs(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    String table() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-22s %8s %7s %9s %9s %9s %9s %9s  %s%n",
+                "step", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "status"));
+        for (StepSummary s : summaries()) {
+            sb.append(String.format("%-22s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    s.step(), s.count(), s.errors(), s.throughput(), s.p50Ms(), s.p95Ms(), s.p99Ms(), s.maxMs(), s.statuses()));
+        }
+        return sb.toString();
+    }
+
+    Map<String, Object> toReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("measuredSeconds", measuredSeconds());
+        report.put("steps", summaries());
+        return report;
+    }
+}
@@ -0,0 +1,139 @@
+package com.ssafy.keeping.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * SSAFY 금융 API 대역 서버 (JDK HttpServer)
+ * - 카드 결제 / 카드 결제 취소 / 계좌 입금(정산)을 항상 H0000 으로 응답
+ * - 고정 지연(latencyMs)으로 실제 외부 호출 대기 시간을 흉내 냄
+ * - 엔드포인트별 호출 수 기록
+ * - 단독 실행(./gradlew stubFinance): 패키징된 앱을 k6 로 부하 줄 때 외부 결제 호출 대역으로 사용
+ */
+class StubFinanceServer implements AutoCloseable {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HHmmss");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, LongAdder> hits = new ConcurrentHashMap<>();
+    private final AtomicLong transactionSeq = new AtomicLong(1_000_000);
+    private final long latencyMs;
+
+    StubFinanceServer(long latencyMs) throws IOException {
+        this(0, latencyMs);
+    }
+
+    StubFinanceServer(int port, long latencyMs) throws IOException {
+        this.latencyMs = latencyMs;
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.setExecutor(executor);
+        route("/ssafy/api/v1/edu/creditCard/createCreditCardTransaction", (req, rec) -> {
+            rec.put("transactionUniqueNo", String.valueOf(transactionSeq.incrementAndGet()));
+            rec.put("categoryId", "CG-LOADTEST");
+            rec.put("categoryName", "부하테스트");
+            rec.put("merchantId", req.path("merchantId").asText());
+            rec.put("merchantName", "부하테스트가맹점");
+            rec.put("paymentBalance", req.path("paymentBalance").asText());
+        });
+        route("/ssafy/api/v1/edu/creditCard/deleteTransaction", (req, rec) -> {
+            rec.put("transactionUniqueNo", req.path("transactionUniqueNo").asText());
+            rec.put("categoryId", "CG-LOADTEST");
+            rec.put("categoryName", "부하테스트");
+            rec.put("merchantId", "0");
+            rec.put("merchantName", "부하테스트가맹점");
+            rec.put("transactionBalance", "0");
+            rec.put("status", "CANCELED");
+        });
+        route("/ssafy/api/v1/edu/demandDeposit/updateDemandDepositAccountDeposit", (req, rec) ->
+                rec.put("transactionUniqueNo", String.valueOf(transactionSeq.incrementAndGet())));
+        server.start();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = Integer.getInteger("loadtest.finance-port", 18080);
+        long latencyMs = Long.getLong("loadtest.finance-latency-ms", 80L);
+        StubFinanceServer server = new StubFinanceServer(port, latencyMs);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println("대역 호출: " + server.hits());
+            server.close();
+        }));
+        System.out.printf("SSAFY 금융 API 대역: %s (지연 %dms)%n", server.baseUrl(), latencyMs);
+        Thread.currentThread().join();
+    }
+
+    private void route(String path, BiConsumer<JsonNode, ObjectNode> recBuilder) {
+        String apiName = path.substring(path.lastIndexOf('/') + 1);
+        server.createContext(path, exchange -> {
+            hits.computeIfAbsent(apiName, k -> new LongAdder()).increment();
+            try (InputStream in = exchange.getRequestBody()) {
+                JsonNode request = objectMapper.readTree(in.readAllBytes());
+                Thread.sleep(latencyMs);
+
+                LocalDateTime now = LocalDateTime.now();
+                ObjectNode body = objectMapper.createObjectNode();
+                ObjectNode header = body.putObject("Header");
+                header.put("responseCode", "H0000");
+                header.put("responseMessage", "정상처리 되었습니다.");
+                header.put("apiName", apiName);
+                header.put("transmissionDate", now.format(DATE));
+                header.put("transmissionTime", now.format(TIME));
+                header.put("institutionTransactionUniqueNo",
+                        request.path("Header").path("institutionTransactionUniqueNo").asText());
+                ObjectNode rec = body.putObject("REC");
+                rec.put("transactionDate", now.format(DATE));
+                rec.put("transactionTime", now.format(TIME));
+                recBuilder.accept(request, rec);
+                respond(exchange, objectMapper.writeValueAsBytes(body));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    Map<String, Long> hits() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        hits.forEach((api, count) -> snapshot.put(api, count.sum()));
+        return snapshot;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,163 @@
+package com.ssafy.keeping.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * S3 로컬 에뮬레이터 (JDK HttpServer, path-style, 메모리 보관)
+ * - 단일 PUT / 복사(x-amz-copy-source) / GET / HEAD / DELETE 만 지원 (멀티파트 업로드 미지원)
+ * - SDK 가 HTTP 엔드포인트에서 보내는 aws-chunked 본문은 청크 서명을 걷어내고 저장
+ * - ETag 는 본문 MD5 (SDK 의 업로드 무결성 검사와 일치)
+ */
+class StubS3Server implements AutoCloseable {
+
+    private record StoredObject(byte[] body, String contentType, String etag) {
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    StubS3Server() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> {
+            try {
+                handle(exchange);
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        // /{bucket}/{key}
+        String key = URLDecoder.decode(exchange.getRequestURI().getRawPath(), StandardCharsets.UTF_8);
+        switch (exchange.getRequestMethod()) {
+            case "PUT" -> {
+                String copySource = exchange.getRequestHeaders().getFirst("x-amz-copy-source");
+                if (copySource != null) {
+                    StoredObject source = objects.get(URLDecoder.decode(
+                            copySource.startsWith("/") ? copySource : "/" + copySource, StandardCharsets.UTF_8));
+                    if (source == null) {
+                        send(exchange, 404, null, null);
+                        return;
+                    }
+                    objects.put(key, source);
+                    byte[] xml = ("<CopyObjectResult><LastModified>" + Instant.now() + "</LastModified>"
+                            + "<ETag>\"" + source.etag() + "\"</ETag></CopyObjectResult>").getBytes(StandardCharsets.UTF_8);
+                    send(exchange, 200, "application/xml", xml);
+                    return;
+                }
+                byte[] body;
+                try (InputStream in = exchange.getRequestBody()) {
+                    body = in.readAllBytes();
+                }
+                String sha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+                if (sha != null && sha.startsWith("STREAMING-")) {
+                    body = decodeAwsChunked(body);
+                }
+                StoredObject object = new StoredObject(body,
+                        exchange.getRequestHeaders().getFirst("Content-Type"), md5Hex(body));
+                objects.put(key, object);
+                exchange.getResponseHeaders().add("ETag", "\"" + object.etag() + "\"");
+                send(exchange, 200, null, null);
+            }
+            case "GET", "HEAD" -> {
+                StoredObject object = objects.get(key);
+                if (object == null) {
+                    send(exchange, 404, null, null);
+                    return;
+                }
+                exchange.getResponseHeaders().add("ETag", "\"" + object.etag() + "\"");
+                if ("HEAD".equals(exchange.getRequestMethod())) {
+                    exchange.getResponseHeaders().add("Content-Type",
+                            object.contentType() == null ? "application/octet-stream" : object.contentType());
+                    exchange.sendResponseHeaders(200, -1);
+                    return;
+                }
+                send(exchange, 200, object.contentType(), object.body());
+            }
+            case "DELETE" -> {
+                objects.remove(key);
+                exchange.sendResponseHeaders(204, -1);
+            }
+            default -> send(exchange, 405, null, null);
+        }
+    }
+
+    // "<hex 크기>;chunk-signature=<서명>\r\n<데이터>\r\n" 반복, 크기 0 청크로 끝남
+    private static byte[] decodeAwsChunked(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length);
+        int pos = 0;
+        while (pos < raw.length) {
+            int lineEnd = indexOfCrlf(raw, pos);
+            String header = new String(raw, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.substring(0, header.indexOf(';')), 16);
+            if (size == 0) break;
+            out.write(raw, lineEnd + 2, size);
+            pos = lineEnd + 2 + size + 2;
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] raw, int from) {
+        for (int i = from; i < raw.length - 1; i++) {
+            if (raw[i] == '\r' && raw[i + 1] == '\n') return i;
+        }
+        throw new IllegalArgumentException("aws-chunked 본문 형식 오류");
+    }
+
+    private static String md5Hex(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        if (contentType != null) {
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+        }
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    String endpoint() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    int objectCount() {
+        return objects.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
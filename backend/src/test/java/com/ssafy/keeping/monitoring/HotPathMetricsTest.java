@@ -0,0 +1,127 @@
+package com.ssafy.keeping.monitoring;
+
+import com.ssafy.keeping.domain.notification.gateway.NotificationSseGateway;
+import com.ssafy.keeping.global.monitoring.ExternalApiMetrics;
+import com.ssafy.keeping.global.monitoring.NotificationSseMetrics;
+import com.ssafy.keeping.global.monitoring.PaymentMetrics;
+import com.ssafy.keeping.global.monitoring.PaymentMetrics.IdemOutcome;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import static com.ssafy.keeping.global.monitoring.PaymentMetrics.Operation.APPROVE;
+import static com.ssafy.keeping.global.monitoring.PaymentMetrics.Phase.CAPTURE;
+import static com.ssafy.keeping.global.monitoring.PaymentMetrics.Phase.PIN_VERIFY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * 핫패스 계측: 결제 단계 타이머 / 멱등 결과 카운터 / 외부 API 지연 / SSE 게이지
+ */
+class HotPathMetricsTest {
+
+    SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("결제 단계 타이머는 예외로 끝난 단계도 기록하고 p50/p95/p99 를 내보냄")
+    void paymentPhase_recordsEvenOnFailure() {
+        PaymentMetrics metrics = new PaymentMetrics(registry);
+
+        assertThat(metrics.time(APPROVE, PIN_VERIFY, () -> true)).isTrue();
+        assertThatThrownBy(() -> metrics.time(APPROVE, CAPTURE, () -> {
+            throw new IllegalStateException("잔액 부족");
+        })).isInstanceOf(IllegalStateException.class);
+        metrics.idempotency(APPROVE, IdemOutcome.REPLAY);
+        metrics.idempotency(APPROVE, IdemOutcome.REPLAY);
+        metrics.idempotency(APPROVE, IdemOutcome.CONFLICT);
+
+        Timer pin = registry.get("payment.phase").tags("operation", "approve", "phase", "pin_verify").timer();
+        Timer capture = registry.get("payment.phase").tags("operation", "approve", "phase", "capture").timer();
+        assertThat(pin.count()).isEqualTo(1);
+        assertThat(capture.count()).isEqualTo(1);
+        assertThat(pin.takeSnapshot().percentileValues()).hasSize(3);
+
+        assertThat(registry.get("payment.idempotency").tags("operation", "approve", "outcome", "replay")
+                .counter().count()).isEqualTo(2);
+        assertThat(registry.get("payment.idempotency").tags("operation", "approve", "outcome", "conflict")
+                .counter().count()).isEqualTo(1);
+        assertThat(registry.get("payment.idempotency").tags("operation", "initiate", "outcome", "accepted")
+                .counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("외부 API 지연은 호스트 · 엔드포인트 · 상태 코드별로 기록 (쿼리 문자열 제외)")
+    void externalApi_taggedByEndpoint() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new ExternalApiMetrics(registry).restTemplateInterceptor());
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+
+        server.expect(requestTo("https://finopenapi.ssafy.io/ssafy/api/v1/member?x=1")).andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://finopenapi.ssafy.io/ssafy/api/v1/member?x=2")).andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://finopenapi.ssafy.io/ssafy/api/v1/edu/demandDeposit/createDemandDepositAccount"))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        restTemplate.postForEntity("https://finopenapi.ssafy.io/ssafy/api/v1/member?x=1", "{}", String.class);
+        restTemplate.postForEntity("https://finopenapi.ssafy.io/ssafy/api/v1/member?x=2", "{}", String.class);
+        assertThatThrownBy(() -> restTemplate.postForEntity(
+                "https://finopenapi.ssafy.io/ssafy/api/v1/edu/demandDeposit/createDemandDepositAccount", "{}", String.class))
+                .isInstanceOf(HttpServerErrorException.class);
+        server.verify();
+
+        assertThat(registry.get("external.api.requests")
+                .tags("host", "finopenapi.ssafy.io", "endpoint", "/ssafy/api/v1/member", "status", "200")
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get("external.api.requests")
+                .tags("endpoint", "/ssafy/api/v1/edu/demandDeposit/createDemandDepositAccount", "status", "500")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("external.api.requests").timers()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("SSE 게이지는 스크레이프 시점의 연결 수 / 대기 이벤트 / 누적 발행 수를 읽음")
+    void sseGauges_readGatewayState() {
+        NotificationSseGateway gateway = new NotificationSseGateway(16, 4, 60_000, 3_600_000);
+        new NotificationSseMetrics(gateway).bindTo(registry);
+
+        // 연결은 구독 시점에 등록, 요청(request) 없는 구독자 → 이벤트가 큐에 남음
+        gateway.connect("customer", 1L, Flux.empty()).subscribe(new IdleSubscriber());
+        gateway.connect("customer", 1L, Flux.empty()).subscribe(new IdleSubscriber());
+        gateway.connect("owner", 2L, Flux.empty()).subscribe(new IdleSubscriber());
+        gateway.publish("customer", 1L, ServerSentEvent.<Object>builder("data").id("1").build());
+
+        assertThat(registry.get("sse.connections").gauge().value()).isEqualTo(3);
+        assertThat(registry.get("sse.receivers").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("sse.queue.depth").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("sse.events.published").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("sse.events.dropped").functionCounter().count()).isZero();
+    }
+
+    private static class IdleSubscriber extends BaseSubscriber<ServerSentEvent<Object>> {
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.ssafy.keeping.notification;
+
+import com.ssafy.keeping.domain.auth.security.JwtProvider;
+import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
+import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import com.ssafy.keeping.domain.notification.gateway.NotificationFanoutBus;
+import com.ssafy.keeping.domain.notification.repository.EmitterRepository;
+import com.ssafy.keeping.domain.notification.repository.NotificationJdbcRepository;
+import com.ssafy.keeping.domain.notification.repository.NotificationRepository;
+import com.ssafy.keeping.domain.notification.service.*;
+import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
+import com.ssafy.keeping.domain.user.owner.repository.OwnerRepository;
+import com.ssafy.keeping.global.redis.RedisPipeline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static com.ssafy.keeping.domain.auth.enums.AuthProvider.KAKAO;
+import static com.ssafy.keeping.domain.auth.enums.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 모임 알림 공유 본문 저장 + 일괄 전송 + 묶음 처리
+ * - 모임원 10명 중 5명은 SSE 연결, 5명은 로그인 상태(FCM 대상)
+ * - 건별 전송(sendToCustomer) 대비 모임 이벤트당 저장 행 수 / 푸시 호출 수 측정
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class NotificationFanoutCoalescerTest {
+
+    private static final int MEMBERS = 10;
+    private static final long GROUP_ID = 7L;
+
+    @Autowired NamedParameterJdbcTemplate namedJdbc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired NotificationRepository notificationRepo;
+    @Autowired CustomerRepository customerRepo;
+    @Autowired OwnerRepository ownerRepo;
+
+    NotificationFanoutBus fanoutBus;
+    FcmService fcmService;
+    NotificationWriteBehindStore writeBehindStore;
+    NotificationFanoutCoalescer coalescer;
+    NotificationService notificationService;
+    List<Long> memberIds;
+    Set<String> online;
+
+    @BeforeEach
+    void setUp() {
+        memberIds = new ArrayList<>();
+        online = new HashSet<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            Customer c = customerRepo.save(Customer.builder()
+                    .providerId("pid-fo-" + i).providerType(KAKAO)
+                    .email("fo" + i + "@example.com").phoneNumber("010-6000-000" + i)
+                    .birth(LocalDate.of(1995, 1, 1)).name("회원" + i).gender(MALE)
+                    .imgUrl("https://img/fo.png").userKey("UKFO" + i).build());
+            memberIds.add(c.getCustomerId());
+            if (i < MEMBERS / 2) online.add("customer-" + c.getCustomerId());
+        }
+
+        fanoutBus = mock(NotificationFanoutBus.class);
+        when(fanoutBus.isOnline(eq("customer"), anyLong()))
+                .thenAnswer(inv -> online.contains("customer-" + inv.getArgument(1)));
+        when(fanoutBus.publishAll(anyList())).thenAnswer(inv -> {
+            List<NotificationResponseDto> notifications = inv.getArgument(0);
+            Set<String> delivered = new HashSet<>();
+            notifications.forEach(n -> {
+                String key = "customer-" + n.getReceiverId();
+                if (online.contains(key)) delivered.add(key);
+            });
+            return new NotificationFanoutBus.BroadcastResult(delivered, 1);
+        });
+        fcmService = mock(FcmService.class);
+        when(fcmService.sendMulticastToCustomers(anyCollection(), anyString(), anyString(), anyMap())).thenReturn(1);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);   // 전원 로그인 상태
+
+        NotificationJdbcRepository jdbcRepository = new NotificationJdbcRepository(namedJdbc);
+        NotificationUnreadCounter counter = mock(NotificationUnreadCounter.class);
+        writeBehindStore = new NotificationWriteBehindStore(jdbcRepository, counter, transactionManager, 50, 10, 10_000, 8, 2_000);
+        writeBehindStore.start();
+        coalescer = new NotificationFanoutCoalescer(jdbcRepository, counter, transactionManager,
+                300, 20, EnumSet.of(NotificationType.GROUP_POINT_SHARED), 4, 1_000);
+        notificationService = new NotificationService(mock(EmitterRepository.class), fanoutBus, writeBehindStore,
+                coalescer, customerRepo, ownerRepo, fcmService, mock(JwtProvider.class), redisTemplate,
+                new RedisPipeline(redisTemplate, 500));
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBehindStore.stop();
+        coalescer.stop();
+        notificationRepo.deleteAllInBatch();
+        jdbc.update("delete from notification_bodies");
+        customerRepo.deleteAllInBatch();
+    }
+
+    private long rows() {
+        return jdbc.queryForObject("select (select count(*) from notifications) + (select count(*) from notification_bodies)",
+                Long.class);
+    }
+
+    private int pushCalls() {
+        return mockingDetails(fanoutBus).getInvocations().stream()
+                .filter(i -> Set.of("publish", "publishAll").contains(i.getMethod().getName())).toList().size()
+                + mockingDetails(fcmService).getInvocations().size();
+    }
+
+    @Test
+    @DisplayName("모임 이벤트 1건: 건별 전송은 행/푸시가 모임원 수만큼, 공유 본문은 본문 1 + 수신자 행, 푸시 2회")
+    void groupEvent_rowsAndPushCalls() {
+        // 1) 기존 방식: 모임원마다 sendToCustomer
+        memberIds.forEach(id -> notificationService.sendToCustomer(id, NotificationType.GROUP_JOINED, "새 멤버가 참여했습니다."));
+        verify(fcmService, timeout(5_000).times(MEMBERS / 2)).sendToCustomer(anyLong(), any(), anyString(), anyString(), anyMap());
+        verify(fanoutBus, timeout(5_000).times(MEMBERS / 2)).publish(anyString(), any());
+        long perMemberRows = rows();
+        int perMemberPushes = pushCalls();
+
+        notificationRepo.deleteAllInBatch();
+        clearInvocations(fanoutBus, fcmService);
+
+        // 2) 공유 본문 + 일괄 전송
+        notificationService.sendToGroupMembers(GROUP_ID, memberIds, NotificationType.GROUP_JOINED, "새 멤버가 참여했습니다.");
+        verify(fcmService, timeout(5_000)).sendMulticastToCustomers(anyCollection(), anyString(), anyString(), anyMap());
+        long fanoutRows = rows();
+        int fanoutPushes = pushCalls();
+
+        assertThat(perMemberRows).isEqualTo(MEMBERS);
+        assertThat(perMemberPushes).isEqualTo(MEMBERS);
+        assertThat(fanoutRows).isEqualTo(1 + MEMBERS);
+        assertThat(fanoutPushes).isEqualTo(2);
+        assertThat(jdbc.queryForObject("select count(*) from notifications where content is null", Long.class))
+                .isEqualTo(MEMBERS);
+
+        // SSE 연결이 없는 모임원만 FCM 멀티캐스트 대상
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> fcmTargets = ArgumentCaptor.forClass(Collection.class);
+        verify(fcmService).sendMulticastToCustomers(fcmTargets.capture(), anyString(), anyString(), anyMap());
+        assertThat(fcmTargets.getValue()).containsExactlyInAnyOrderElementsOf(memberIds.subList(MEMBERS / 2, MEMBERS));
+
+        System.out.printf("[group-fanout] members=%d per-member rows=%d pushes=%d | shared-body rows=%d pushes=%d%n",
+                MEMBERS, perMemberRows, perMemberPushes, fanoutRows, fanoutPushes);
+    }
+
+    @Test
+    @DisplayName("창 안의 포인트 공유 4건은 수신자별 요약 1건으로 묶이고, 받은 조합이 같은 수신자끼리 본문 공유")
+    void burst_coalescedPerReceiver() {
+        List<Long> stayed = memberIds.subList(0, MEMBERS - 2);
+        for (int i = 1; i <= 3; i++) {
+            notificationService.sendToGroupMembers(GROUP_ID, memberIds, NotificationType.GROUP_POINT_SHARED,
+                    "포인트 " + i + "00원 공유");
+        }
+        // 두 명이 나간 뒤의 공유 (창 안)
+        notificationService.sendToGroupMembers(GROUP_ID, stayed, NotificationType.GROUP_POINT_SHARED, "포인트 400원 공유");
+
+        verify(fcmService, timeout(5_000).times(2)).sendMulticastToCustomers(anyCollection(), anyString(), anyString(), anyMap());
+        verify(fanoutBus, times(2)).publishAll(anyList());
+
+        assertThat(coalescer.stats().events()).isEqualTo(4);
+        assertThat(coalescer.stats().bodies()).isEqualTo(2);
+        assertThat(coalescer.stats().recipientRows()).isEqualTo(MEMBERS);
+        assertThat(notificationRepo.count()).isEqualTo(MEMBERS);
+
+        // 클래스가 NOT_SUPPORTED 라 조회는 읽기 트랜잭션 안에서 (수신자 이름 지연 로딩)
+        NotificationQueryService queryService = new NotificationQueryService(notificationRepo, customerRepo, ownerRepo,
+                mock(NotificationUnreadCounter.class));
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        String stayedContent = readOnly.execute(status -> queryService.getInboxForCustomer(stayed.get(0), null, 10, false)
+                .getNotifications().get(0).getContent());
+        String leftContent = readOnly.execute(status -> queryService.getInboxForCustomer(memberIds.get(MEMBERS - 1), null, 10, false)
+                .getNotifications().get(0).getContent());
+        assertThat(stayedContent).startsWith("새 알림 4건").contains("포인트 100원 공유", "포인트 400원 공유");
+        assertThat(leftContent).startsWith("새 알림 3건").doesNotContain("포인트 400원 공유");
+    }
+
+    @Test
+    @DisplayName("요약 본문이 길면 마지막 알림 + 나머지 건수로 줄임")
+    void digestContent_truncatesLongBurst() {
+        List<String> contents = new ArrayList<>();
+        for (int i = 0; i < 30; i++) contents.add("회원" + i + "님이 모임 지갑에 포인트 1,000원을 공유했습니다.");
+
+        assertThat(NotificationFanoutCoalescer.digestContent(contents))
+                .isEqualTo("회원29님이 모임 지갑에 포인트 1,000원을 공유했습니다. 외 29건");
+        assertThat(NotificationFanoutCoalescer.digestContent(List.of("하나"))).isEqualTo("하나");
+    }
+}
@@ -0,0 +1,175 @@
+package com.ssafy.keeping.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
+import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import com.ssafy.keeping.domain.notification.gateway.NotificationFanoutBus;
+import com.ssafy.keeping.domain.notification.gateway.NotificationSseGateway;
+import com.ssafy.keeping.domain.notification.repository.EmitterRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 Redis 1개 + 노드 2개(A, B)로 노드 간 SSE 팬아웃 / 접속 현황 검증
+ */
+class NotificationFanoutMultiNodeTest {
+
+    private static RedisServer redisServer;
+    private static int port;
+
+    /** 테스트용 노드: 자체 커넥션 팩토리/리스너 컨테이너/게이트웨이/버스 */
+    private record Node(LettuceConnectionFactory factory, RedisMessageListenerContainer container,
+                        NotificationSseGateway gateway, NotificationFanoutBus bus) {
+
+        static Node start(String nodeId, long presenceTtlMs) throws Exception {
+            LettuceConnectionFactory factory = new LettuceConnectionFactory("localhost", port);
+            factory.afterPropertiesSet();
+            factory.start();
+            StringRedisTemplate template = new StringRedisTemplate(factory);
+
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(factory);
+            container.afterPropertiesSet();
+
+            NotificationSseGateway gateway = new NotificationSseGateway(64, 8, 60_000, 3_600_000);
+            NotificationFanoutBus bus = new NotificationFanoutBus(gateway, new EmitterRepository(), template,
+                    container, new ObjectMapper(), nodeId, presenceTtlMs);
+            bus.subscribeNodeChannel();
+            container.start();
+            await(container::isListening);
+            return new Node(factory, container, gateway, bus);
+        }
+
+        void stop() throws Exception {
+            container.stop();
+            container.destroy();
+            factory.destroy();
+        }
+    }
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (redisServer != null) redisServer.stop();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) throw new AssertionError("condition not met in 5s");
+            Thread.sleep(20);
+        }
+    }
+
+    private NotificationResponseDto notification(Long customerId, String content) {
+        return NotificationResponseDto.forSSE(content, NotificationType.PAYMENT_APPROVED, "CUSTOMER", customerId);
+    }
+
+    @Test
+    @DisplayName("A 노드에 연결된 고객에게 B 노드에서 보낸 알림이 A 노드로만 전달됨")
+    void publishOnOtherNode_deliveredByConnectionHolder() throws Exception {
+        Node a = Node.start("node-a", 30_000);
+        Node b = Node.start("node-b", 30_000);
+        try {
+            List<ServerSentEvent<Object>> received = new CopyOnWriteArrayList<>();
+            Disposable sub = a.bus().connect("customer", 1L, Flux.empty())
+                    .filter(e -> e.comment() == null)
+                    .subscribe(received::add);
+
+            assertThat(b.bus().isOnline("customer", 1L)).isTrue();
+            assertThat(b.gateway().hasConnection("customer", 1L)).isFalse();
+
+            int targets = b.bus().publish("customer-1_1", notification(1L, "결제가 승인되었습니다."));
+
+            assertThat(targets).isEqualTo(1);
+            await(() -> received.size() == 1);
+            assertThat(received.get(0).id()).isEqualTo("customer-1_1");
+            assertThat(((NotificationResponseDto) received.get(0).data()).getContent()).isEqualTo("결제가 승인되었습니다.");
+
+            // 연결이 끊기면 클러스터 어디서도 온라인 아님
+            sub.dispose();
+            await(() -> !b.bus().isOnline("customer", 1L));
+        } finally {
+            a.stop();
+            b.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 수신자 일괄 전달은 대상 노드당 메시지 1건, 연결 없는 수신자는 미전달로 반환")
+    void publishAll_onePublishPerNode() throws Exception {
+        Node a = Node.start("node-a3", 30_000);
+        Node b = Node.start("node-b3", 30_000);
+        try {
+            List<ServerSentEvent<Object>> received = new CopyOnWriteArrayList<>();
+            Disposable sub11 = a.bus().connect("customer", 11L, Flux.empty())
+                    .filter(e -> e.comment() == null).subscribe(received::add);
+            Disposable sub12 = a.bus().connect("customer", 12L, Flux.empty())
+                    .filter(e -> e.comment() == null).subscribe(received::add);
+
+            NotificationFanoutBus.BroadcastResult result = b.bus().publishAll(List.of(
+                    notification(11L, "새 멤버가 참여했습니다."),
+                    notification(12L, "새 멤버가 참여했습니다."),
+                    notification(13L, "새 멤버가 참여했습니다.")));
+
+            assertThat(result.published()).isEqualTo(1);
+            assertThat(result.delivered()).containsExactlyInAnyOrder("customer-11", "customer-12");
+            await(() -> received.size() == 2);
+            assertThat(received).extracting(e -> ((NotificationResponseDto) e.data()).getReceiverId())
+                    .containsExactlyInAnyOrder(11L, 12L);
+
+            sub11.dispose();
+            sub12.dispose();
+        } finally {
+            a.stop();
+            b.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("heartbeat 가 끊긴 노드의 접속 현황은 TTL 후 만료, heartbeat 시 복구")
+    void presenceExpiresWithoutHeartbeat() throws Exception {
+        Node a = Node.start("node-a2", 500);
+        Node b = Node.start("node-b2", 500);
+        try {
+            Disposable sub = a.bus().connect("owner", 5L, Flux.empty()).subscribe();
+            assertThat(b.bus().isOnline("owner", 5L)).isTrue();
+
+            Thread.sleep(700); // heartbeat 없이 TTL 경과 (노드 장애 상황)
+            assertThat(b.bus().isOnline("owner", 5L)).isFalse();
+            assertThat(b.bus().publish("owner-5_1", NotificationResponseDto.forSSE(
+                    "x", NotificationType.PAYMENT_APPROVED, "OWNER", 5L))).isZero();
+
+            a.bus().heartbeat();
+            assertThat(b.bus().isOnline("owner", 5L)).isTrue();
+            sub.dispose();
+        } finally {
+            a.stop();
+            b.stop();
+        }
+    }
+}
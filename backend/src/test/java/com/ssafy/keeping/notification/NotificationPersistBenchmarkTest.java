@@ -0,0 +1,128 @@
+package com.ssafy.keeping.notification;
+
+import com.ssafy.keeping.domain.notification.entity.Notification;
+import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import com.ssafy.keeping.domain.notification.repository.NotificationJdbcRepository;
+import com.ssafy.keeping.domain.notification.repository.NotificationRepository;
+import com.ssafy.keeping.domain.notification.service.NotificationUnreadCounter;
+import com.ssafy.keeping.domain.notification.service.NotificationWriteBehindStore;
+import com.ssafy.keeping.domain.notification.service.NotificationWriteBehindStore.PendingNotification;
+import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static com.ssafy.keeping.domain.auth.enums.AuthProvider.KAKAO;
+import static com.ssafy.keeping.domain.auth.enums.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 알림 저장 처리량: 건별 REQUIRES_NEW + saveAndFlush vs write-behind 배치 (기본 test 에서는 제외, ./gradlew benchmark 로 실행)
+ * - 발송 스레드 16개 × 1,250건 = 20,000건, notifications persisted/sec 출력
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class NotificationPersistBenchmarkTest {
+
+    private static final int SENDERS = 16;
+    private static final int PER_SENDER = 1_250;
+    private static final int TOTAL = SENDERS * PER_SENDER;
+
+    @Autowired NamedParameterJdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired NotificationRepository notificationRepo;
+    @Autowired CustomerRepository customerRepo;
+
+    @AfterEach
+    void tearDown() {
+        notificationRepo.deleteAllInBatch();
+        customerRepo.deleteAllInBatch();
+    }
+
+    private List<Customer> customers(int n) {
+        List<Customer> list = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            list.add(customerRepo.save(Customer.builder()
+                    .providerId("pid-nb-" + i).providerType(KAKAO)
+                    .email("nb" + i + "@example.com").phoneNumber("010-8000-" + String.format("%04d", i))
+                    .birth(LocalDate.of(1995, 1, 1)).name("회원" + i).gender(MALE)
+                    .imgUrl("https://img/nb.png").userKey("UKNB" + i).build()));
+        }
+        return list;
+    }
+
+    @Test
+    @DisplayName("알림 20k 저장: 건별 saveAndFlush vs write-behind 배치")
+    void persistThroughput() throws Exception {
+        List<Customer> receivers = customers(200);
+
+        // 1) 기존 방식: 알림마다 새 트랜잭션 + saveAndFlush
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        long t = System.nanoTime();
+        runSenders(i -> requiresNew.executeWithoutResult(s -> notificationRepo.saveAndFlush(Notification.builder()
+                .customer(receivers.get(i % receivers.size()))
+                .notificationType(NotificationType.POINT_CHARGE)
+                .content("알림 " + i).build())));
+        double perRowSec = (System.nanoTime() - t) / 1e9;
+        assertThat(notificationRepo.count()).isEqualTo(TOTAL);
+        notificationRepo.deleteAllInBatch();
+
+        // 2) write-behind: 큐 적재 → 배치 INSERT
+        NotificationWriteBehindStore store = new NotificationWriteBehindStore(new NotificationJdbcRepository(jdbc),
+                mock(NotificationUnreadCounter.class), transactionManager, 200, 20, 50_000, 8, 2_000);
+        store.start();
+        CountDownLatch persisted = new CountDownLatch(TOTAL);
+        t = System.nanoTime();
+        runSenders(i -> store.enqueue(new PendingNotification(receivers.get(i % receivers.size()).getCustomerId(),
+                null, "회원", NotificationType.POINT_CHARGE, "알림 " + i, LocalDateTime.now().withNano(0),
+                dto -> persisted.countDown())));
+        assertThat(persisted.await(60, TimeUnit.SECONDS)).isTrue();
+        double batchedSec = (System.nanoTime() - t) / 1e9;
+        NotificationWriteBehindStore.Stats stats = store.stats();
+        store.stop();
+        assertThat(notificationRepo.count()).isEqualTo(TOTAL);
+
+        System.out.printf("[notification-persist] rows=%d per-row=%.0f/s write-behind=%.0f/s (x%.1f) batches=%d avgBatch=%.1f overflow=%d%n",
+                TOTAL, TOTAL / perRowSec, TOTAL / batchedSec, perRowSec / batchedSec,
+                stats.batches(), stats.persisted() / (double) Math.max(1, stats.batches()), stats.overflow());
+    }
+
+    private void runSenders(IntConsumer send) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(SENDERS);
+        for (int s = 0; s < SENDERS; s++) {
+            int base = s * PER_SENDER;
+            pool.submit(() -> {
+                for (int i = 0; i < PER_SENDER; i++) send.accept(base + i);
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(120, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,175 @@
+package com.ssafy.keeping.notification;
+
+import com.ssafy.keeping.domain.notification.dto.NotificationCursorResponseDto;
+import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
+import com.ssafy.keeping.domain.notification.repository.NotificationJdbcRepository;
+import com.ssafy.keeping.domain.notification.repository.NotificationRepository;
+import com.ssafy.keeping.domain.notification.service.NotificationQueryService;
+import com.ssafy.keeping.domain.notification.service.NotificationRetentionScheduler;
+import com.ssafy.keeping.domain.notification.service.NotificationUnreadCounter;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
+import com.ssafy.keeping.domain.user.owner.model.Owner;
+import com.ssafy.keeping.domain.user.owner.repository.OwnerRepository;
+import com.ssafy.keeping.global.exception.CustomException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ssafy.keeping.domain.auth.enums.AuthProvider.KAKAO;
+import static com.ssafy.keeping.domain.auth.enums.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class NotificationRetentionTest {
+
+    @Autowired NamedParameterJdbcTemplate namedJdbc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired NotificationRepository notificationRepo;
+    @Autowired CustomerRepository customerRepo;
+    @Autowired OwnerRepository ownerRepo;
+    @Autowired EntityManager em;
+
+    final LocalDateTime now = LocalDateTime.of(2025, 9, 1, 12, 0);
+    final Clock clock = Clock.fixed(now.atZone(ZoneId.of("Asia/Seoul")).toInstant(), ZoneId.of("Asia/Seoul"));
+
+    Owner owner;
+    NotificationRetentionScheduler retention;
+    NotificationQueryService queryService;
+
+    @BeforeEach
+    void setUp() {
+        owner = ownerRepo.save(Owner.builder()
+                .providerId("owner-rt").providerType(KAKAO)
+                .email("owner-rt@ex.com").phoneNumber("010-9999-5000")
+                .birth(LocalDate.of(1990, 1, 1)).name("사장님").gender(MALE)
+                .imgUrl("https://img/owner.png").userKey("OWRT").build());
+        em.flush();
+
+        NotificationJdbcRepository jdbcRepository = new NotificationJdbcRepository(namedJdbc);
+        retention = new NotificationRetentionScheduler(jdbcRepository, transactionManager, clock, 90, 365, 7, 60_000);
+        queryService = new NotificationQueryService(notificationRepo, customerRepo, ownerRepo,
+                mock(NotificationUnreadCounter.class));
+    }
+
+    private void insert(LocalDateTime createdAt, boolean read, int n) {
+        for (int i = 0; i < n; i++) {
+            jdbc.update("""
+                    insert into notifications (owner_id, content, is_read, notification_type, created_at)
+                    values (?, ?, ?, 'PAYMENT_REQUEST', ?)
+                    """, owner.getOwnerId(), "알림", read, Timestamp.valueOf(createdAt));
+        }
+    }
+
+    private long count(String sql) {
+        return jdbc.queryForObject(sql, Long.class);
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 읽은 알림만 chunk 단위로 보관 테이블로 이동, 읽지 않은 알림은 유지")
+    void purge_archivesOldReadOnly() {
+        insert(now.minusDays(120), true, 20);   // 보관 대상
+        insert(now.minusDays(120), false, 3);   // 오래됐지만 읽지 않음 → 유지
+        insert(now.minusDays(10), true, 5);     // 기간 안 → 유지
+
+        NotificationRetentionScheduler.RunStats stats = retention.purge();
+
+        assertThat(stats.archived()).isEqualTo(20);
+        assertThat(stats.chunks()).isEqualTo(3);            // chunk 7 → 7, 7, 6
+        assertThat(count("select count(*) from notifications")).isEqualTo(8);
+        assertThat(count("select count(*) from notifications where is_read = false")).isEqualTo(3);
+        assertThat(count("select count(*) from notifications_archive")).isEqualTo(20);
+        assertThat(retention.metrics().archivedTotal()).isEqualTo(20);
+
+        // 재실행은 할 일이 없음
+        assertThat(retention.purge().archived()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관 기간까지 지난 보관 알림은 삭제")
+    void purge_dropsExpiredArchive() {
+        for (int i = 0; i < 10; i++) {
+            jdbc.update("""
+                    insert into notifications_archive
+                           (notification_id, owner_id, content, is_read, notification_type, created_at, archived_at)
+                    values (?, ?, '알림', true, 'PAYMENT_REQUEST', ?, ?)
+                    """, 10_000L + i, owner.getOwnerId(),
+                    Timestamp.valueOf(now.minusDays(500)),
+                    Timestamp.valueOf(i < 8 ? now.minusDays(400) : now.minusDays(30)));
+        }
+
+        assertThat(retention.purge().purged()).isEqualTo(8);
+        assertThat(count("select count(*) from notifications_archive")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("공유 본문을 참조하는 알림은 본문 내용으로 보관되고, 참조가 모두 빠진 본문은 삭제")
+    void purge_archivesSharedBodyAndDropsOrphan() {
+        Timestamp old = Timestamp.valueOf(now.minusDays(120));
+        jdbc.update("""
+                insert into notification_bodies (body_id, notification_type, content, event_count, created_at)
+                values (500, 'GROUP_POINT_SHARED', '새 알림 2건', 2, ?)
+                """, old);
+        for (int i = 0; i < 3; i++) {
+            jdbc.update("""
+                    insert into notifications (owner_id, body_id, is_read, notification_type, created_at)
+                    values (?, 500, true, 'GROUP_POINT_SHARED', ?)
+                    """, owner.getOwnerId(), old);
+        }
+
+        NotificationRetentionScheduler.RunStats stats = retention.purge();
+
+        assertThat(stats.archived()).isEqualTo(3);
+        assertThat(stats.bodies()).isEqualTo(1);
+        assertThat(count("select count(*) from notifications_archive where content = '새 알림 2건'")).isEqualTo(3);
+        assertThat(count("select count(*) from notification_bodies")).isZero();
+    }
+
+    @Test
+    @DisplayName("커서 알림함: 같은 생성 시각이 섞여도 중복/누락 없이 끝까지 조회")
+    void inbox_keysetPaging() {
+        insert(now.minusMinutes(3), false, 12);
+        insert(now.minusMinutes(2), true, 15);
+        insert(now.minusMinutes(1), false, 18);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            NotificationCursorResponseDto page = queryService.getInboxForOwner(owner.getOwnerId(), cursor, 10, false);
+            page.getNotifications().stream().map(NotificationResponseDto::getNotificationId).forEach(seen::add);
+            cursor = page.getNextCursor();
+            pages++;
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(5);
+        assertThat(seen).hasSize(45).doesNotHaveDuplicates();
+
+        NotificationCursorResponseDto unread = queryService.getInboxForOwner(owner.getOwnerId(), null, 100, true);
+        assertThat(unread.getNotifications()).hasSize(30).allMatch(n -> !n.getIsRead());
+        assertThat(unread.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서 형식이 잘못되면 400")
+    void inbox_invalidCursor() {
+        assertThatThrownBy(() -> queryService.getInboxForOwner(owner.getOwnerId(), "not-a-cursor", 10, false))
+                .isInstanceOf(CustomException.class);
+    }
+}
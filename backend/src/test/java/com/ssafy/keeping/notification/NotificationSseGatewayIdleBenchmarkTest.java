@@ -0,0 +1,181 @@
+package com.ssafy.keeping.notification;
+
+import com.ssafy.keeping.domain.notification.gateway.NotificationSseGateway;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 한 노드에서 유휴 연결 20,000개 유지 (기본 test 에서는 제외, ./gradlew benchmark 로 실행)
+ * - 연결당 힙 사용량, 공유 하트비트 팬아웃, 단건 발행 지연 측정
+ * - MVC 어댑터(ReactiveTypeHandler) 경유: 연결당 추가 힙, 유휴 중 점유 스레드, 하트비트당 executor 작업 수
+ */
+@Tag("benchmark")
+class NotificationSseGatewayIdleBenchmarkTest {
+
+    private static final int CONNECTIONS = 20_000;
+    private static final int MVC_CONNECTIONS = 2_000;
+
+    @Test
+    @DisplayName("유휴 SSE 연결 20k: 메모리/하트비트/발행 지연")
+    void hold20kIdleConnections() throws Exception {
+        NotificationSseGateway gateway = new NotificationSseGateway(256, 32, 1_000, 3_600_000);
+        Runtime rt = Runtime.getRuntime();
+
+        System.gc();
+        long heapBefore = rt.totalMemory() - rt.freeMemory();
+
+        LongAdder heartbeats = new LongAdder();
+        List<Disposable> subscriptions = new ArrayList<>(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            subscriptions.add(gateway.connect("owner", (long) i, Flux.empty())
+                    .subscribe(e -> {
+                        if (e.comment() != null) heartbeats.increment();
+                    }));
+        }
+
+        System.gc();
+        long heapAfter = rt.totalMemory() - rt.freeMemory();
+        assertThat(gateway.connectionCount()).isEqualTo(CONNECTIONS);
+
+        // 공유 하트비트 1회 이상이 모든 연결에 도달
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (heartbeats.sum() < CONNECTIONS && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(heartbeats.sum()).isGreaterThanOrEqualTo(CONNECTIONS);
+
+        // 유휴 연결이 많아도 단건 발행은 해당 수신자 연결만 건드림
+        long t = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            gateway.publish("owner", (long) (i % CONNECTIONS),
+                    ServerSentEvent.<Object>builder("x").id("e" + i).build());
+        }
+        double publishUs = (System.nanoTime() - t) / 10_000 / 1_000.0;
+
+        System.out.printf("[sse-idle] connections=%d heap/conn=%.0fB heartbeats=%d publish avg=%.2fus queueDepth=%d%n",
+                CONNECTIONS, (heapAfter - heapBefore) / (double) CONNECTIONS,
+                heartbeats.sum(), publishUs, gateway.queueDepth());
+
+        subscriptions.forEach(Disposable::dispose);
+        assertThat(gateway.connectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("MVC ReactiveTypeHandler 경유 유휴 SSE 연결 2k: 연결당 힙 / 유휴 중 점유 스레드 / executor 작업 수")
+    void idleConnectionsThroughMvcAdapter() throws Exception {
+        NotificationSseGateway gateway = new NotificationSseGateway(256, 32, 1_000, 3_600_000);
+        LongAdder tasks = new LongAdder();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setTaskDecorator(task -> {
+            tasks.increment();
+            return task;
+        });
+        executor.initialize();
+
+        AnnotationConfigWebApplicationContext ctx = new AnnotationConfigWebApplicationContext();
+        ctx.setServletContext(new MockServletContext());
+        ctx.addBeanFactoryPostProcessor(beanFactory -> {
+            beanFactory.registerSingleton("notificationSseGateway", gateway);
+            beanFactory.registerSingleton("sseTaskExecutor", executor);
+        });
+        ctx.register(MvcConfig.class, SseController.class);
+        ctx.refresh();
+        MockMvc mvc = MockMvcBuilders.webAppContextSetup(ctx).build();
+        Runtime rt = Runtime.getRuntime();
+
+        System.gc();
+        long heapBefore = rt.totalMemory() - rt.freeMemory();
+        List<MvcResult> results = new ArrayList<>(MVC_CONNECTIONS);
+        for (int i = 0; i < MVC_CONNECTIONS; i++) {
+            results.add(mvc.perform(get("/sse/{id}", i)).andExpect(request().asyncStarted()).andReturn());
+        }
+        System.gc();
+        long heapAfter = rt.totalMemory() - rt.freeMemory();
+        assertThat(gateway.connectionCount()).isEqualTo(MVC_CONNECTIONS);
+
+        // 하트비트 3회 동안 유휴 연결이 executor 를 얼마나 쓰는지
+        long deadline;
+        long tasksBefore = tasks.sum();
+        Thread.sleep(3_000);
+        long idleTasks = tasks.sum() - tasksBefore;
+        int activeWhileIdle = executor.getActiveCount();
+
+        System.out.printf("[sse-idle-mvc] connections=%d heap/conn=%.0fB executor tasks in 3s idle=%d (%.1f/conn/heartbeat) " +
+                        "active executor threads while idle=%d/%d%n",
+                MVC_CONNECTIONS, (heapAfter - heapBefore) / (double) MVC_CONNECTIONS,
+                idleTasks, idleTasks / 3.0 / MVC_CONNECTIONS, activeWhileIdle, executor.getMaxPoolSize());
+
+        // 클라이언트 연결 끊김(쓰기 실패) → 서블릿 비동기 오류 → 구독 취소 → 게이트웨이에서 해제
+        for (MvcResult result : results) {
+            MockAsyncContext async = (MockAsyncContext) result.getRequest().getAsyncContext();
+            for (AsyncListener listener : async.getListeners()) {
+                listener.onError(new AsyncEvent(async, new IOException("Broken pipe")));
+            }
+        }
+        // 구독 취소는 어댑터가 executor 작업에서 수행
+        deadline = System.currentTimeMillis() + 5_000;
+        while (gateway.connectionCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(gateway.connectionCount()).isZero();
+        assertThat(activeWhileIdle).isLessThan(executor.getMaxPoolSize());
+
+        ctx.close();
+        executor.shutdown();
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class MvcConfig implements WebMvcConfigurer {
+        @Autowired ThreadPoolTaskExecutor sseTaskExecutor;
+
+        @Override
+        public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+            configurer.setTaskExecutor(sseTaskExecutor);
+            configurer.setDefaultTimeout(3_600_000);
+        }
+    }
+
+    @RestController
+    static class SseController {
+        @Autowired NotificationSseGateway gateway;
+
+        @GetMapping(value = "/sse/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        Flux<ServerSentEvent<Object>> subscribe(@PathVariable Long id) {
+            return gateway.connect("customer", id, Flux.empty());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.ssafy.keeping.notification;
+
+import com.ssafy.keeping.domain.notification.gateway.NotificationSseGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationSseGatewayTest {
+
+    private ServerSentEvent<Object> event(String id) {
+        return ServerSentEvent.<Object>builder("data-" + id).id(id).event("notification").build();
+    }
+
+    /** request 수를 직접 조절하는 구독자 */
+    private static class ManualSubscriber extends BaseSubscriber<ServerSentEvent<Object>> {
+        final List<ServerSentEvent<Object>> received = new ArrayList<>();
+        final AtomicBoolean completed = new AtomicBoolean();
+        private final long initialRequest;
+
+        ManualSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            if (initialRequest > 0) request(initialRequest);
+        }
+
+        @Override
+        protected void hookOnNext(ServerSentEvent<Object> value) {
+            received.add(value);
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            completed.set(true);
+        }
+    }
+
+    @Test
+    @DisplayName("초기 이벤트 후 발행 이벤트가 같은 수신자의 모든 연결에 전달됨")
+    void publish_deliversToAllConnectionsOfReceiver() {
+        NotificationSseGateway gateway = new NotificationSseGateway(16, 4, 60_000, 3_600_000);
+
+        ManualSubscriber tab1 = new ManualSubscriber(Long.MAX_VALUE);
+        ManualSubscriber tab2 = new ManualSubscriber(Long.MAX_VALUE);
+        ManualSubscriber other = new ManualSubscriber(Long.MAX_VALUE);
+        gateway.connect("owner", 1L, Flux.just(event("hello"))).subscribe(tab1);
+        gateway.connect("owner", 1L, Flux.empty()).subscribe(tab2);
+        gateway.connect("owner", 10L, Flux.empty()).subscribe(other);
+
+        int delivered = gateway.publish("owner", 1L, event("e1"));
+
+        assertThat(delivered).isEqualTo(2);
+        assertThat(tab1.received).extracting(ServerSentEvent::id).containsExactly("hello", "e1");
+        assertThat(tab2.received).extracting(ServerSentEvent::id).containsExactly("e1");
+        assertThat(other.received).isEmpty();
+        assertThat(gateway.connectionCount()).isEqualTo(3);
+
+        tab1.dispose();
+        assertThat(gateway.connectionCount()).isEqualTo(2);
+        assertThat(gateway.hasConnection("owner", 1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("읽지 않는 클라이언트: 버퍼 초과분은 드롭, 연속 드롭 한도 도달 시 연결 종료")
+    void slowConsumer_dropsThenDisconnects() {
+        int buffer = 16, maxDrops = 4;
+        NotificationSseGateway gateway = new NotificationSseGateway(buffer, maxDrops, 60_000, 3_600_000);
+
+        ManualSubscriber stuck = new ManualSubscriber(0); // 요청 없음 → 큐에만 쌓임
+        gateway.connect("customer", 7L, Flux.empty()).subscribe(stuck);
+
+        int accepted = 0;
+        for (int i = 0; i < buffer * 4; i++) {
+            accepted += gateway.publish("customer", 7L, event("e" + i));
+        }
+
+        // 버퍼(+ merge prefetch 1건)까지만 적재, 이후는 드롭
+        assertThat(accepted).isBetween(buffer, buffer + 1);
+        assertThat(gateway.droppedEvents()).isEqualTo(maxDrops);
+        assertThat(stuck.completed).isTrue();
+        assertThat(gateway.hasConnection("customer", 7L)).isFalse();
+        assertThat(gateway.connectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("구독 전에는 연결을 등록하지 않음 (구독 없이 버려진 Flux 누수 없음), 구독마다 별도 연결")
+    void connect_registersOnSubscribeOnly() {
+        NotificationSseGateway gateway = new NotificationSseGateway(16, 4, 60_000, 3_600_000);
+
+        Flux<ServerSentEvent<Object>> abandoned = gateway.connect("customer", 3L, Flux.empty());
+        Flux<ServerSentEvent<Object>> stream = gateway.connect("customer", 3L, Flux.empty());
+        assertThat(gateway.connectionCount()).isZero();
+        assertThat(gateway.publish("customer", 3L, event("lost"))).isZero();
+
+        ManualSubscriber first = new ManualSubscriber(Long.MAX_VALUE);
+        ManualSubscriber second = new ManualSubscriber(Long.MAX_VALUE);
+        stream.subscribe(first);
+        stream.subscribe(second);
+        assertThat(gateway.connectionCount()).isEqualTo(2);
+        assertThat(gateway.publish("customer", 3L, event("e1"))).isEqualTo(2);
+
+        first.dispose();
+        second.dispose();
+        assertThat(gateway.connectionCount()).isZero();
+        assertThat(gateway.hasConnection("customer", 3L)).isFalse();
+    }
+}
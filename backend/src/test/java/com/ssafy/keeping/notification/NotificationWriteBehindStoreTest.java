@@ -0,0 +1,182 @@
+package com.ssafy.keeping.notification;
+
+import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
+import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import com.ssafy.keeping.domain.notification.repository.NotificationJdbcRepository;
+import com.ssafy.keeping.domain.notification.repository.NotificationRepository;
+import com.ssafy.keeping.domain.notification.service.NotificationUnreadCounter;
+import com.ssafy.keeping.domain.notification.service.NotificationWriteBehindStore;
+import com.ssafy.keeping.domain.notification.service.NotificationWriteBehindStore.PendingNotification;
+import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static com.ssafy.keeping.domain.auth.enums.AuthProvider.KAKAO;
+import static com.ssafy.keeping.domain.auth.enums.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * 알림 write-behind 저장소: 여러 발송 스레드 → 배치 저장 → 카운터 증가 → 전송 콜백
+ * - 저장은 별도 스레드/트랜잭션이므로 테스트 트랜잭션 없이 실행
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class NotificationWriteBehindStoreTest {
+
+    private static final int SENDERS = 8;
+    private static final int PER_SENDER = 100;
+
+    @Autowired NamedParameterJdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired NotificationRepository notificationRepo;
+    @Autowired CustomerRepository customerRepo;
+
+    NotificationUnreadCounter counter;
+    NotificationWriteBehindStore store;
+    List<Customer> customers;
+
+    @BeforeEach
+    void setUp() {
+        customers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            customers.add(customerRepo.save(Customer.builder()
+                    .providerId("pid-wb-" + i).providerType(KAKAO)
+                    .email("wb" + i + "@example.com").phoneNumber("010-7000-000" + i)
+                    .birth(LocalDate.of(1995, 1, 1)).name("회원" + i).gender(MALE)
+                    .imgUrl("https://img/wb.png").userKey("UKWB" + i).build()));
+        }
+        counter = mock(NotificationUnreadCounter.class);
+        store = new NotificationWriteBehindStore(new NotificationJdbcRepository(jdbc), counter,
+                transactionManager, 50, 10, 10_000, 8, 2_000);
+        store.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.stop();
+        notificationRepo.deleteAllInBatch();
+        customerRepo.deleteAllInBatch();
+    }
+
+    private PendingNotification pending(Long customerId, int seq, Collection<NotificationResponseDto> delivered,
+                                        CountDownLatch done) {
+        return new PendingNotification(customerId, null, "회원", NotificationType.POINT_CHARGE,
+                "알림 " + seq, LocalDateTime.now().withNano(0), dto -> {
+                    delivered.add(dto);
+                    done.countDown();
+                });
+    }
+
+    @Test
+    @DisplayName("동시 발송 800건이 배치로 저장되고, 저장된 ID로 전송 콜백/카운터 증가")
+    void concurrentSenders_persistInBatches() throws Exception {
+        int total = SENDERS * PER_SENDER;
+        Queue<NotificationResponseDto> delivered = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(total);
+
+        ExecutorService pool = Executors.newFixedThreadPool(SENDERS);
+        for (int s = 0; s < SENDERS; s++) {
+            int sender = s;
+            pool.submit(() -> {
+                for (int i = 0; i < PER_SENDER; i++) {
+                    Customer c = customers.get((sender + i) % customers.size());
+                    store.enqueue(pending(c.getCustomerId(), sender * PER_SENDER + i, delivered, done));
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(done.await(20, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(notificationRepo.count()).isEqualTo(total);
+        assertThat(delivered).extracting(NotificationResponseDto::getNotificationId)
+                .doesNotContainNull().doesNotHaveDuplicates();
+        // 건별 저장이 아닌 묶음 저장
+        assertThat(store.stats().batches()).isLessThan(total / 5);
+        assertThat(store.stats().persisted()).isEqualTo(total);
+
+        // 카운터 증가는 배치마다 수신자별로 합산되어 전달
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(counter, atLeastOnce()).addAll(captor.capture());
+        long counted = captor.getAllValues().stream()
+                .flatMap(m -> m.values().stream()).mapToLong(Long::longValue).sum();
+        assertThat(counted).isEqualTo(total);
+        for (Customer c : customers) {
+            assertThat(notificationRepo.countUnreadByCustomerId(c.getCustomerId())).isEqualTo(total / customers.size());
+        }
+    }
+
+    @Test
+    @DisplayName("배치 중 한 건이 실패하면 1건씩 다시 저장해 나머지는 저장")
+    void badRow_isolatedFromBatch() throws Exception {
+        Queue<NotificationResponseDto> delivered = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(9);
+
+        List<PendingNotification> batch = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            // 5번째는 존재하지 않는 고객 → FK 위반
+            Long customerId = i == 4 ? 999_999L : customers.get(0).getCustomerId();
+            batch.add(pending(customerId, i, delivered, done));
+        }
+        batch.forEach(store::enqueue);
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(notificationRepo.count()).isEqualTo(9);
+        assertThat(delivered).hasSize(9);
+        assertThat(store.stats().failed()).isEqualTo(1);
+        verify(counter, atLeastOnce()).addAll(anyMap());
+    }
+
+    @Test
+    @DisplayName("전송 풀/큐가 가득 차면 스레드를 늘리지 않고 flusher 가 직접 전송 (유실 없음)")
+    void slowDelivery_boundedPoolFallsBackToCaller() throws Exception {
+        store.stop();
+        store = new NotificationWriteBehindStore(new NotificationJdbcRepository(jdbc), counter,
+                transactionManager, 50, 10, 10_000, 1, 1);
+        store.start();
+
+        int total = 20;
+        Set<String> deliveryThreads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(total);
+        for (int i = 0; i < total; i++) {
+            store.enqueue(new PendingNotification(customers.get(0).getCustomerId(), null, "회원",
+                    NotificationType.POINT_CHARGE, "느린 전송 " + i, LocalDateTime.now().withNano(0), dto -> {
+                        deliveryThreads.add(Thread.currentThread().getName());
+                        try {
+                            Thread.sleep(20);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        done.countDown();
+                    }));
+        }
+
+        assertThat(done.await(20, TimeUnit.SECONDS)).isTrue();
+        assertThat(store.stats().deliveryCallerRuns()).isPositive();
+        // 전송 스레드 1개 + flusher 외에는 없음
+        assertThat(deliveryThreads).allMatch(name ->
+                name.startsWith("notification-delivery-") || name.equals("notification-write-behind"));
+        assertThat(deliveryThreads.stream().filter(name -> name.startsWith("notification-delivery-"))).hasSize(1);
+    }
+}
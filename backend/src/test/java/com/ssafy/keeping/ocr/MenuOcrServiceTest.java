@@ -0,0 +1,229 @@
+package com.ssafy.keeping.ocr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keeping.domain.ocr.dto.MenuOcrResponse;
+import com.ssafy.keeping.domain.ocr.service.MenuImageDownscaler;
+import com.ssafy.keeping.domain.ocr.service.MenuOcrService;
+import com.ssafy.keeping.global.exception.CustomException;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import com.ssafy.keeping.global.monitoring.ExternalApiMetrics;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 메뉴 OCR: 이미지 축소, 바디에 바로 쓴 base64 가 이전 data URL 과 같은지, 동시 호출 상한
+ * - OpenAI 호환 대역 서버(JDK HttpServer)가 받은 바디를 그대로 보관
+ */
+class MenuOcrServiceTest {
+
+    private static final String COMPLETION = """
+            {"choices":[{"message":{"content":"{\\"items\\":[{\\"nameKr\\":\\"아메리카노\\",\\"price\\":\\"4,500원\\"},{\\"nameKr\\":\\"아메 리카노\\",\\"price\\":4000}]}"}}]}
+            """;
+
+    private final ObjectMapper om = new ObjectMapper();
+    private HttpServer server;
+    private ExecutorService executor;
+    private final List<byte[]> bodies = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile long latencyMs;
+    private volatile int status = 200;
+
+    @BeforeEach
+    void startStub() throws Exception {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/v1/chat/completions", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try (InputStream in = exchange.getRequestBody()) {
+                bodies.add(in.readAllBytes());
+                Thread.sleep(latencyMs);
+                byte[] out = (status == 200 ? COMPLETION : "{\"error\":{\"message\":\"stub\"}}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, out.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(out);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private MenuOcrService service(int maxConcurrency, long acquireTimeoutMs) {
+        return service(maxConcurrency, acquireTimeoutMs, 5_000);
+    }
+
+    private MenuOcrService service(int maxConcurrency, long acquireTimeoutMs, long timeoutMs) {
+        String url = "http://localhost:" + server.getAddress().getPort() + "/v1/chat/completions";
+        return new MenuOcrService(om, new ExternalApiMetrics(new SimpleMeterRegistry()), "test-key", url,
+                timeoutMs, maxConcurrency, acquireTimeoutMs, 2048, 768, 0.85f);
+    }
+
+    private ErrorCode failureOf(MenuOcrService service, byte[] image) {
+        try {
+            service.recognize(image, "image/png");
+        } catch (CustomException e) {
+            return e.getErrorCode();
+        }
+        throw new AssertionError("expected CustomException");
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.BLACK);
+        for (int y = 0; y < height; y += 40) g.drawString("아메리카노 4,500원", 10, y + 20);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private JsonNode imageUrl(byte[] body) throws Exception {
+        JsonNode root = om.readTree(body);
+        assertThat(root.path("model").asText()).isEqualTo("gpt-4o");
+        assertThat(root.path("messages").path(0).path("content").asText()).contains("Return ONLY valid JSON");
+        return root.path("messages").path(1).path("content").path(1).path("image_url").path("url");
+    }
+
+    @Test
+    @DisplayName("큰 이미지: 모델 해상도(긴 변 2048 / 짧은 변 768)로 줄인 JPEG 를 base64 data URL 로 전송")
+    void downscalesLargeImage() throws Exception {
+        byte[] original = png(3024, 4032);
+        MenuOcrService service = service(2, 1_000);
+        try {
+            MenuOcrResponse res = service.recognize(original, "image/png");
+            assertThat(res.getItems()).hasSize(1);
+            assertThat(res.getItems().get(0).getPrice()).isEqualTo(4000);
+        } finally {
+            service.close();
+        }
+
+        String url = imageUrl(bodies.get(0)).asText();
+        assertThat(url).startsWith("data:image/jpeg;base64,");
+        byte[] sent = Base64.getDecoder().decode(url.substring("data:image/jpeg;base64,".length()));
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(sent));
+        assertThat(Math.min(decoded.getWidth(), decoded.getHeight())).isLessThanOrEqualTo(768);
+        assertThat(Math.max(decoded.getWidth(), decoded.getHeight())).isLessThanOrEqualTo(2048);
+        assertThat(decoded.getWidth() * 4 / decoded.getHeight()).isEqualTo(3); // 비율 유지
+    }
+
+    @Test
+    @DisplayName("작은 이미지: 재인코딩 없이 원본 바이트 / 원래 형식 그대로, 바디는 이전 data URL 과 같음")
+    void smallImagePassesThrough() throws Exception {
+        byte[] original = png(600, 700);
+        MenuOcrService service = service(2, 1_000);
+        try {
+            service.recognize(original, "image/png");
+        } finally {
+            service.close();
+        }
+
+        String expected = "data:image/png;base64," + Base64.getEncoder().encodeToString(original);
+        assertThat(imageUrl(bodies.get(0)).asText()).isEqualTo(expected);
+
+        MenuImageDownscaler.Prepared prepared = MenuImageDownscaler.prepare(
+                () -> new ByteArrayInputStream(original), "image/png", 2048, 768, 0.85f);
+        assertThat(prepared.downscaled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시 호출 상한: 외부 동시 요청은 상한 이하, 대기 시간을 넘긴 요청은 OCR_QUEUE_FULL")
+    void concurrencyLimit() throws Exception {
+        latencyMs = 300;
+        byte[] image = png(400, 400);
+        MenuOcrService service = service(2, 5_000);
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<MenuOcrResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(callers.submit(() -> service.recognize(image, "image/png")));
+            }
+            for (Future<MenuOcrResponse> f : futures) {
+                assertThat(f.get(10, TimeUnit.SECONDS).getItems()).hasSize(1);
+            }
+            assertThat(maxInFlight.get()).isEqualTo(2);
+        } finally {
+            callers.shutdownNow();
+            service.close();
+        }
+
+        MenuOcrService impatient = service(1, 50);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<MenuOcrResponse> first = caller.submit(() -> impatient.recognize(image, "image/png"));
+            while (inFlight.get() == 0) Thread.sleep(5);
+            assertThatThrownBy(() -> impatient.recognize(image, "image/png"))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.OCR_QUEUE_FULL);
+            first.get(10, TimeUnit.SECONDS);
+        } finally {
+            caller.shutdownNow();
+            impatient.close();
+        }
+    }
+
+    @Test
+    @DisplayName("외부 4xx(인증/요청 오류)는 재시도 대상이 아닌 OCR_UPSTREAM_BAD_REQUEST, 5xx/429/시간 초과만 OCR_EXTERNAL_API_FAILED")
+    void upstreamErrors_classifiedForRetry() throws Exception {
+        byte[] image = png(200, 200);
+        MenuOcrService service = service(2, 1_000, 300);
+        try {
+            status = 401;
+            assertThat(failureOf(service, image)).isEqualTo(ErrorCode.OCR_UPSTREAM_BAD_REQUEST);
+            status = 400;
+            assertThat(failureOf(service, image)).isEqualTo(ErrorCode.OCR_UPSTREAM_BAD_REQUEST);
+
+            status = 503;
+            assertThat(failureOf(service, image)).isEqualTo(ErrorCode.OCR_EXTERNAL_API_FAILED);
+            status = 429;
+            assertThat(failureOf(service, image)).isEqualTo(ErrorCode.OCR_EXTERNAL_API_FAILED);
+
+            status = 200;
+            latencyMs = 1_000;
+            assertThat(failureOf(service, image)).isEqualTo(ErrorCode.OCR_EXTERNAL_API_FAILED);
+        } finally {
+            service.close();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.ssafy.keeping.ocr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.keeping.domain.notification.dto.NotificationResponseDto;
+import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import com.ssafy.keeping.domain.notification.gateway.NotificationFanoutBus;
+import com.ssafy.keeping.domain.ocr.dto.OcrJobResponse;
+import com.ssafy.keeping.domain.ocr.job.OcrJobKind;
+import com.ssafy.keeping.domain.ocr.job.OcrJobService;
+import com.ssafy.keeping.domain.ocr.job.OcrJobStatus;
+import com.ssafy.keeping.domain.ocr.job.OcrJobStore;
+import com.ssafy.keeping.domain.ocr.service.BizLicenseOcrService;
+import com.ssafy.keeping.domain.ocr.service.MenuOcrService;
+import com.ssafy.keeping.global.exception.CustomException;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OCR 비동기 작업: 즉시 접수, 내용 해시 캐시, 처리 중 합류, 재시도, 대기열 상한
+ * - 임베디드 Redis + Clova 대역 서버(StubOcrServer)
+ */
+class OcrJobServiceTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory factory;
+    private static StringRedisTemplate redis;
+
+    StubOcrServer stub;
+    NotificationFanoutBus fanoutBus;
+    OcrJobService service;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        factory = new LettuceConnectionFactory("localhost", port);
+        factory.afterPropertiesSet();
+        factory.start();
+        redis = new StringRedisTemplate(factory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (factory != null) factory.destroy();
+        if (redisServer != null) redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        stub = new StubOcrServer(150);
+        fanoutBus = mock(NotificationFanoutBus.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) service.stop();
+        stub.close();
+    }
+
+    private OcrJobService service(int workers, int queueCapacity) {
+        BizLicenseOcrService bizLicense = new BizLicenseOcrService(1_000, 5_000);
+        ReflectionTestUtils.setField(bizLicense, "clovaUrl", stub.url());
+        ReflectionTestUtils.setField(bizLicense, "clovaSecret", "stub-secret");
+        ReflectionTestUtils.setField(bizLicense, "templateIdsProp", "1");
+
+        OcrJobStore store = new OcrJobStore(redis, new ObjectMapper().registerModule(new JavaTimeModule()));
+        return new OcrJobService(bizLicense, mock(MenuOcrService.class), store, fanoutBus, Clock.systemDefaultZone(),
+                workers, queueCapacity, 3, 10, 60, 168, 300);
+    }
+
+    private static MockMultipartFile image(String seed) {
+        return new MockMultipartFile("file", "biz.png", "image/png", ("png-" + seed).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private OcrJobResponse await(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            OcrJobResponse job = service.find(jobId);
+            if (job.getStatus() == OcrJobStatus.SUCCEEDED || job.getStatus() == OcrJobStatus.FAILED) return job;
+            if (System.currentTimeMillis() > deadline) throw new AssertionError("job not finished in 10s: " + jobId);
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    @DisplayName("제출은 외부 호출을 기다리지 않고 작업 ID 반환, 완료 시 SSE 알림 + 같은 이미지 재제출은 캐시 결과")
+    void submit_returnsImmediately_thenCachesByContent() throws Exception {
+        service = service(2, 8);
+
+        long start = System.nanoTime();
+        OcrJobResponse submitted = service.submit(OcrJobKind.BIZ_LICENSE, image("a"), "OWNER", 7L);
+        long submitMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(submitted.getStatus()).isEqualTo(OcrJobStatus.PENDING);
+        assertThat(submitMs).isLessThan(150);
+
+        OcrJobResponse done = await(submitted.getJobId());
+        assertThat(done.getStatus()).isEqualTo(OcrJobStatus.SUCCEEDED);
+        assertThat(done.isCached()).isFalse();
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = (Map<String, Object>) done.getResult();
+        assertThat(result).containsEntry("bizNumber", "569-19-01664").containsEntry("fullName", "홍길동");
+
+        ArgumentCaptor<NotificationResponseDto> pushed = ArgumentCaptor.forClass(NotificationResponseDto.class);
+        verify(fanoutBus, timeout(1_000)).publish(eq("ocr-" + done.getJobId()), pushed.capture());
+        assertThat(pushed.getValue().getNotificationType()).isEqualTo(NotificationType.OCR_JOB_COMPLETED);
+        assertThat(pushed.getValue().getContent()).isEqualTo(done.getJobId());
+        assertThat(pushed.getValue().getReceiverId()).isEqualTo(7L);
+
+        // 같은 이미지 → 외부 API 호출 없이 완료 상태로 바로 반환
+        OcrJobResponse again = service.submit(OcrJobKind.BIZ_LICENSE, image("a"), null, null);
+        assertThat(again.getStatus()).isEqualTo(OcrJobStatus.SUCCEEDED);
+        assertThat(again.isCached()).isTrue();
+        assertThat(stub.hits()).isEqualTo(1);
+        assertThat(service.stats().cacheHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 이미지가 처리 중이면 새 작업 없이 기존 작업에 합류")
+    void duplicateWhileRunning_joinsExistingJob() throws Exception {
+        service = service(2, 8);
+
+        OcrJobResponse first = service.submit(OcrJobKind.BIZ_LICENSE, image("b"), null, null);
+        OcrJobResponse second = service.submit(OcrJobKind.BIZ_LICENSE, image("b"), null, null);
+
+        assertThat(second.getJobId()).isEqualTo(first.getJobId());
+        await(first.getJobId());
+        assertThat(stub.hits()).isEqualTo(1);
+        assertThat(service.stats().joined()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("외부 5xx 는 재시도 후 성공, 4xx 는 재시도 없이 실패")
+    void retriesOnlyUpstreamErrors() throws Exception {
+        service = service(1, 8);
+
+        stub.enqueueStatuses(500, 503);
+        OcrJobResponse retried = await(service.submit(OcrJobKind.BIZ_LICENSE, image("c"), null, null).getJobId());
+        assertThat(retried.getStatus()).isEqualTo(OcrJobStatus.SUCCEEDED);
+        assertThat(retried.getAttempts()).isEqualTo(3);
+
+        stub.enqueueStatuses(400);
+        OcrJobResponse rejected = await(service.submit(OcrJobKind.BIZ_LICENSE, image("d"), "OWNER", 7L).getJobId());
+        assertThat(rejected.getStatus()).isEqualTo(OcrJobStatus.FAILED);
+        assertThat(rejected.getAttempts()).isEqualTo(1);
+        assertThat(rejected.getErrorCode()).isEqualTo(ErrorCode.OCR_UPSTREAM_BAD_REQUEST.name());
+        verify(fanoutBus, timeout(1_000)).publish(eq("ocr-" + rejected.getJobId()),
+                argThat(n -> n.getNotificationType() == NotificationType.OCR_JOB_FAILED));
+
+        assertThat(stub.hits()).isEqualTo(4);
+        assertThat(service.stats().retries()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작업 스레드와 대기열이 모두 차면 제출 시점에 OCR_QUEUE_FULL")
+    void boundedQueue_rejectsWhenFull() throws Exception {
+        stub.setLatencyMs(1_000);
+        service = service(1, 1);
+
+        service.submit(OcrJobKind.BIZ_LICENSE, image("e1"), null, null);   // 실행 중
+        Thread.sleep(100);
+        service.submit(OcrJobKind.BIZ_LICENSE, image("e2"), null, null);   // 대기
+
+        assertThatThrownBy(() -> service.submit(OcrJobKind.BIZ_LICENSE, image("e3"), null, null))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.OCR_QUEUE_FULL);
+        assertThat(service.stats().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 작업 ID 조회는 OCR_JOB_NOT_FOUND")
+    void find_unknownJob() {
+        service = service(1, 1);
+        assertThatThrownBy(() -> service.find("nope"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.OCR_JOB_NOT_FOUND);
+    }
+}
@@ -0,0 +1,167 @@
+package com.ssafy.keeping.ocr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.keeping.domain.notification.gateway.NotificationFanoutBus;
+import com.ssafy.keeping.domain.ocr.dto.OcrJobResponse;
+import com.ssafy.keeping.domain.ocr.job.OcrJobKind;
+import com.ssafy.keeping.domain.ocr.job.OcrJobService;
+import com.ssafy.keeping.domain.ocr.job.OcrJobStatus;
+import com.ssafy.keeping.domain.ocr.job.OcrJobStore;
+import com.ssafy.keeping.domain.ocr.service.BizLicenseOcrService;
+import com.ssafy.keeping.domain.ocr.service.MenuOcrService;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * OCR 처리량: 요청 스레드에서 동기 호출 vs 비동기 작업 (기본 test 에서는 제외, ./gradlew benchmark 로 실행)
+ * - 대역 서버 지연 200ms, 요청 스레드 32개 × 200건, 그중 절반은 이미 올라온 이미지 재업로드
+ * - 외부 호출 커넥션 풀(경로당 5개)은 두 방식이 같음
+ * - 요청 스레드 점유 시간 합계 / 외부 API 호출 수 / 처리 완료까지 걸린 시간 출력
+ */
+@Tag("benchmark")
+class OcrJobThroughputBenchmarkTest {
+
+    private static final int REQUEST_THREADS = 32;
+    private static final int REQUESTS = 200;
+    private static final int DISTINCT = REQUESTS / 2;
+    private static final long LATENCY_MS = 200;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory factory;
+    private static StringRedisTemplate redis;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        factory = new LettuceConnectionFactory("localhost", port);
+        factory.afterPropertiesSet();
+        factory.start();
+        redis = new StringRedisTemplate(factory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (factory != null) factory.destroy();
+        if (redisServer != null) redisServer.stop();
+    }
+
+    private static BizLicenseOcrService bizLicense(StubOcrServer stub) {
+        BizLicenseOcrService service = new BizLicenseOcrService(1_000, 5_000);
+        ReflectionTestUtils.setField(service, "clovaUrl", stub.url());
+        ReflectionTestUtils.setField(service, "clovaSecret", "stub-secret");
+        ReflectionTestUtils.setField(service, "templateIdsProp", "1");
+        return service;
+    }
+
+    private static MockMultipartFile image(int i) {
+        // 앞 절반은 서로 다른 이미지, 뒤 절반은 앞 이미지 재업로드
+        return new MockMultipartFile("file", "biz.png", "image/png",
+                ("png-" + (i % DISTINCT)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 요청 스레드 풀에서 REQUESTS 건 처리, 요청 스레드 점유 시간 합계(ms) 반환 */
+    private static long runRequests(IntConsumer request) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(REQUEST_THREADS);
+        LongAdder busyNanos = new LongAdder();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            int n = i;
+            futures.add(pool.submit(() -> {
+                long start = System.nanoTime();
+                request.accept(n);
+                busyNanos.add(System.nanoTime() - start);
+                return null;
+            }));
+        }
+        for (Future<?> f : futures) f.get(2, TimeUnit.MINUTES);
+        pool.shutdown();
+        return busyNanos.sum() / 1_000_000;
+    }
+
+    interface IntConsumer {
+        void accept(int i) throws Exception;
+    }
+
+    @Test
+    @DisplayName("동기 호출 vs 비동기 작업 + 내용 해시 캐시")
+    void syncVersusJobs() throws Exception {
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        // 1) 동기: 요청 스레드가 외부 호출 내내 대기
+        long syncHits;
+        long syncBusyMs;
+        long syncElapsedMs;
+        try (StubOcrServer stub = new StubOcrServer(LATENCY_MS)) {
+            BizLicenseOcrService service = bizLicense(stub);
+            long start = System.nanoTime();
+            syncBusyMs = runRequests(i -> {
+                MockMultipartFile file = image(i);
+                service.recognize(file.getBytes(), file.getOriginalFilename(), file.getContentType());
+            });
+            syncElapsedMs = (System.nanoTime() - start) / 1_000_000;
+            syncHits = stub.hits();
+        }
+
+        // 2) 비동기 작업: 요청 스레드는 해시 계산 + 등록만, 작업 스레드 4개가 처리
+        long jobHits;
+        long jobBusyMs;
+        long jobElapsedMs;
+        OcrJobService.Stats stats;
+        try (StubOcrServer stub = new StubOcrServer(LATENCY_MS)) {
+            OcrJobService jobs = new OcrJobService(bizLicense(stub), mock(MenuOcrService.class),
+                    new OcrJobStore(redis, new ObjectMapper().registerModule(new JavaTimeModule())),
+                    mock(NotificationFanoutBus.class), Clock.systemDefaultZone(),
+                    4, REQUESTS, 3, 50, 60, 168, 300);
+            Set<String> jobIds = ConcurrentHashMap.newKeySet();
+            long start = System.nanoTime();
+            jobBusyMs = runRequests(i -> jobIds.add(jobs.submit(OcrJobKind.BIZ_LICENSE, image(i), null, null).getJobId()));
+            for (String jobId : jobIds) {
+                while (true) {
+                    OcrJobResponse job = jobs.find(jobId);
+                    if (job.getStatus() == OcrJobStatus.SUCCEEDED || job.getStatus() == OcrJobStatus.FAILED) break;
+                    Thread.sleep(10);
+                }
+            }
+            jobElapsedMs = (System.nanoTime() - start) / 1_000_000;
+            jobHits = stub.hits();
+            stats = jobs.stats();
+            jobs.stop();
+        }
+
+        System.out.printf("[ocr-sync] requests=%d upstream calls=%d request-thread busy=%dms elapsed=%dms%n",
+                REQUESTS, syncHits, syncBusyMs, syncElapsedMs);
+        System.out.printf("[ocr-jobs] requests=%d upstream calls=%d request-thread busy=%dms elapsed=%dms " +
+                        "(cache hits=%d, joined=%d, %.1f jobs/s)%n",
+                REQUESTS, jobHits, jobBusyMs, jobElapsedMs, stats.cacheHits(), stats.joined(),
+                REQUESTS * 1000.0 / jobElapsedMs);
+
+        assertThat(syncHits).isEqualTo(REQUESTS);
+        assertThat(jobHits).isLessThanOrEqualTo(DISTINCT);
+        assertThat(jobBusyMs).isLessThan(syncBusyMs / 10);
+    }
+}
@@ -0,0 +1,92 @@
+package com.ssafy.keeping.ocr;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Clova Template OCR 대역 HTTP 서버 (JDK HttpServer)
+ * - 고정 지연 후 사업자등록증 필드 응답, 응답 코드는 미리 넣어 둔 순서대로 (비어 있으면 200)
+ * - 호출 수 / 동시 처리 최대치 기록
+ */
+class StubOcrServer implements AutoCloseable {
+
+    static final String BODY = """
+            {"images":[{"fields":[
+              {"name":"등록번호","inferText":"5691901664","inferConfidence":0.98},
+              {"name":"성명","inferText":"홍길동","inferConfidence":0.95},
+              {"name":"개업연월일","inferText":"2020년 01월 02일","inferConfidence":0.91}
+            ]}]}
+            """;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile long latencyMs;
+
+    StubOcrServer(long latencyMs) throws Exception {
+        this.latencyMs = latencyMs;
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/ocr", exchange -> {
+            hits.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try (InputStream in = exchange.getRequestBody()) {
+                in.readAllBytes();
+                Thread.sleep(this.latencyMs);
+                Integer status = statuses.poll();
+                int code = status == null ? 200 : status;
+                byte[] body = (code == 200 ? BODY : "{\"error\":\"stub\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(code, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    String url() {
+        return "http://localhost:" + server.getAddress().getPort() + "/ocr";
+    }
+
+    void enqueueStatuses(Integer... codes) {
+        statuses.addAll(List.of(codes));
+    }
+
+    void setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    int hits() {
+        return hits.get();
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
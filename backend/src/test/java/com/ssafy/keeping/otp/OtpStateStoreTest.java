@@ -0,0 +1,131 @@
+package com.ssafy.keeping.otp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keeping.domain.auth.enums.Gender;
+import com.ssafy.keeping.domain.otp.session.OtpStateStore;
+import com.ssafy.keeping.domain.otp.session.OtpStateStore.VerifyStatus;
+import com.ssafy.keeping.domain.otp.session.RegSession;
+import com.ssafy.keeping.domain.otp.session.RegStep;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 Redis 로 OTP 요청/검증/가입 정보 합치기 왕복 수와 시도 제한 원자성 검증
+ */
+class OtpStateStoreTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory factory;
+    private static StringRedisTemplate redis;
+
+    private OtpStateStore store;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        factory = new LettuceConnectionFactory("localhost", port);
+        factory.afterPropertiesSet();
+        factory.start();
+        redis = new StringRedisTemplate(factory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (factory != null) factory.destroy();
+        if (redisServer != null) redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        store = new OtpStateStore(redis, new ObjectMapper().findAndRegisterModules());
+    }
+
+    private RegSession session(String regSessionId) {
+        return RegSession.builder()
+                .regSessionId(regSessionId).name("홍길동").phoneNumber("010-1234-5678")
+                .birth(LocalDate.of(1995, 1, 1)).gender(Gender.MALE).regStep(RegStep.OTP_SENT)
+                .build();
+    }
+
+    @Test
+    @DisplayName("요청 1회 + 검증 1회 + 합치기 2회 = 가입 1건당 왕복 4회, 성공 후 OTP 키는 모두 삭제")
+    void signup_roundTrips() {
+        store.issue("rs-1", session("rs-1"), Duration.ofMinutes(30), "123456", Duration.ofMinutes(5));
+        assertThat(redis.hasKey("otp:code:{rs-1}")).isTrue();
+        assertThat(redis.opsForValue().get("otp:try:{rs-1}")).isEqualTo("0");
+
+        OtpStateStore.VerifyResult result = store.verify("rs-1", "123456", 5);
+        assertThat(result.status()).isEqualTo(VerifyStatus.VERIFIED);
+        assertThat(result.session().getName()).isEqualTo("홍길동");
+        assertThat(result.session().getBirth()).isEqualTo(LocalDate.of(1995, 1, 1));
+
+        store.promote("rs-1", "signup:info:rs-1", Duration.ofMinutes(15), previous -> "{\"merged\":true}");
+
+        assertThat(redis.opsForValue().get("signup:info:rs-1")).isEqualTo("{\"merged\":true}");
+        assertThat(redis.getExpire("signup:info:rs-1")).isPositive();
+        assertThat(redis.countExistingKeys(List.of("otp:info:{rs-1}", "otp:code:{rs-1}", "otp:try:{rs-1}"))).isZero();
+
+        OtpStateStore.Metrics metrics = store.metrics();
+        assertThat(metrics.roundTrips()).isEqualTo(4);
+        assertThat(metrics.roundTripsPerSignup()).isEqualTo(4.0);
+        System.out.printf("[otp] round-trips per signup=%.1f%n", metrics.roundTripsPerSignup());
+    }
+
+    @Test
+    @DisplayName("틀린 코드 동시 20건 → 실패 횟수는 정확히 5에서 잠기고, 이후 맞는 코드도 거부")
+    void concurrentWrongCodes_lockAtMaxTries() throws Exception {
+        store.issue("rs-2", session("rs-2"), Duration.ofMinutes(30), "654321", Duration.ofMinutes(5));
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<OtpStateStore.VerifyResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return store.verify("rs-2", "000000", 5);
+            }));
+        }
+        start.countDown();
+        List<VerifyStatus> statuses = new ArrayList<>();
+        for (Future<OtpStateStore.VerifyResult> f : futures) statuses.add(f.get(5, TimeUnit.SECONDS).status());
+        pool.shutdown();
+
+        assertThat(statuses).filteredOn(s -> s == VerifyStatus.MISMATCH).hasSize(5);
+        assertThat(statuses).filteredOn(s -> s == VerifyStatus.LOCKED).hasSize(15);
+        assertThat(redis.opsForValue().get("otp:try:{rs-2}")).isEqualTo("5");
+        assertThat(store.metrics().lockouts()).isEqualTo(1);
+
+        assertThat(store.verify("rs-2", "654321", 5).status()).isEqualTo(VerifyStatus.LOCKED);
+    }
+
+    @Test
+    @DisplayName("세션이 없으면 SESSION_EXPIRED, 인증번호만 만료되면 CODE_EXPIRED")
+    void verify_expired() {
+        assertThat(store.verify("none", "123456", 5).status()).isEqualTo(VerifyStatus.SESSION_EXPIRED);
+
+        store.issue("rs-3", session("rs-3"), Duration.ofMinutes(30), "111111", Duration.ofMinutes(5));
+        redis.delete("otp:code:{rs-3}");
+        assertThat(store.verify("rs-3", "111111", 5).status()).isEqualTo(VerifyStatus.CODE_EXPIRED);
+    }
+}
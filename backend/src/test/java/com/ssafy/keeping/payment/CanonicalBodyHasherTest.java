@@ -0,0 +1,92 @@
+package com.ssafy.keeping.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ssafy.keeping.domain.charge.canonical.CanonicalPrepayment;
+import com.ssafy.keeping.domain.idempotency.service.CanonicalBodyHasher;
+import com.ssafy.keeping.domain.idempotency.service.IdempotencyService;
+import com.ssafy.keeping.domain.payment.intent.canonical.CanonicalApprove;
+import com.ssafy.keeping.domain.payment.intent.canonical.CanonicalInitiate;
+import com.ssafy.keeping.global.config.CanonicalJsonConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CanonicalBodyHasher 의 해시가 기존 방식(캔노니컬 DTO / ObjectNode → 문자열 → SHA-256)과 같은지 확인
+ * - 다르면 배포 직후 같은 멱등 키 재시도가 IDEMPOTENCY_BODY_CONFLICT 로 거절됨
+ */
+class CanonicalBodyHasherTest {
+
+    private final ObjectMapper canonicalObjectMapper = new CanonicalJsonConfig().canonicalObjectMapper();
+
+    @Test
+    @DisplayName("initiate 바디: 중첩 배열 / 여러 자릿수 / 음수까지 Jackson 직렬화와 같은 해시")
+    void initiateMatchesJackson() throws Exception {
+        long[][] cases = {{}, {7}, {1, 10, 100, 9_999_999_999L}, {-5, 0, Long.MAX_VALUE, Long.MIN_VALUE}};
+        for (long[] menuIds : cases) {
+            List<CanonicalInitiate.Item> items = new ArrayList<>();
+            CanonicalBodyHasher hasher = CanonicalBodyHasher.start()
+                    .beginObject().field("storeId", 12_345L).beginArray("items");
+            for (int i = 0; i < menuIds.length; i++) {
+                items.add(CanonicalInitiate.Item.builder().menuId(menuIds[i]).quantity(i + 1).build());
+                hasher.beginObject().field("menuId", menuIds[i]).field("quantity", i + 1).endObject();
+            }
+            byte[] actual = hasher.endArray().endObject().digest();
+
+            String expected = canonicalObjectMapper.writeValueAsString(
+                    CanonicalInitiate.builder().storeId(12_345L).items(items).build());
+            assertThat(actual).as(expected).isEqualTo(IdempotencyService.sha256(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("문자열 필드: 따옴표 / 역슬래시 / 제어문자 / 한글 / 이모지 이스케이프가 Jackson 과 같음")
+    void stringEscapesMatchJackson() throws Exception {
+        String[] values = {"", "123456", "a\"b\\c", "\t\n\r\b\f\u0000\u001f", "가맹점 카드", "💳 pay", "\u00e9\u07ff\u0800\ufffd"};
+        for (String v : values) {
+            String expected = canonicalObjectMapper.writeValueAsString(CanonicalApprove.builder().pin(v).build());
+            byte[] actual = CanonicalBodyHasher.start().beginObject().field("pin", v).endObject().digest();
+            assertThat(actual).as(expected).isEqualTo(IdempotencyService.sha256(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("null 필드: field 는 생략(NON_NULL), fieldOrNull 은 null 리터럴(ObjectNode)")
+    void nullHandling() throws Exception {
+        String prepayment = canonicalObjectMapper.writeValueAsString(
+                CanonicalPrepayment.builder().cardNo("1234567812345678").cvc(null).paymentBalance(50_000L).build());
+        byte[] prepaymentHash = CanonicalBodyHasher.start().beginObject()
+                .field("cardNo", "1234567812345678")
+                .field("cvc", (String) null)
+                .field("paymentBalance", 50_000L)
+                .endObject().digest();
+        assertThat(prepaymentHash).as(prepayment).isEqualTo(IdempotencyService.sha256(prepayment));
+
+        ObjectNode share = canonicalObjectMapper.createObjectNode();
+        share.put("groupId", 3L);
+        share.put("userId", (Long) null);
+        share.put("shareAmount", 10_000L);
+        byte[] shareHash = CanonicalBodyHasher.start().beginObject()
+                .fieldOrNull("groupId", 3L)
+                .fieldOrNull("userId", null)
+                .fieldOrNull("shareAmount", 10_000L)
+                .endObject().digest();
+        assertThat(shareHash).as(share.toString()).isEqualTo(IdempotencyService.sha256(share.toString()));
+    }
+
+    @Test
+    @DisplayName("내부 버퍼보다 긴 바디와 연속 호출에서도 상태가 섞이지 않음")
+    void longBodyAndReuse() throws Exception {
+        String longValue = "키핑".repeat(500);
+        String expected = canonicalObjectMapper.writeValueAsString(CanonicalApprove.builder().pin(longValue).build());
+        for (int i = 0; i < 3; i++) {
+            byte[] actual = CanonicalBodyHasher.start().beginObject().field("pin", longValue).endObject().digest();
+            assertThat(actual).isEqualTo(IdempotencyService.sha256(expected));
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.ssafy.keeping.payment;
+
+import com.ssafy.keeping.domain.group.model.Group;
+import com.ssafy.keeping.domain.group.repository.GroupRepository;
+import com.ssafy.keeping.domain.menu.repository.MenuRepository;
+import com.ssafy.keeping.domain.payment.funds.dto.FundsResult;
+import com.ssafy.keeping.domain.payment.funds.service.FundsService;
+import com.ssafy.keeping.domain.payment.intent.model.PaymentIntent;
+import com.ssafy.keeping.domain.payment.intent.model.PaymentIntentItem;
+import com.ssafy.keeping.domain.payment.intent.repository.PaymentIntentItemRepository;
+import com.ssafy.keeping.domain.payment.transactions.constant.TransactionType;
+import com.ssafy.keeping.domain.payment.transactions.model.Transaction;
+import com.ssafy.keeping.domain.payment.transactions.repository.TransactionItemRepository;
+import com.ssafy.keeping.domain.payment.transactions.repository.TransactionRepository;
+import com.ssafy.keeping.domain.store.constant.StoreStatus;
+import com.ssafy.keeping.domain.store.model.Store;
+import com.ssafy.keeping.domain.store.repository.StoreRepository;
+import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
+import com.ssafy.keeping.domain.user.owner.model.Owner;
+import com.ssafy.keeping.domain.wallet.constant.LotSourceType;
+import com.ssafy.keeping.domain.wallet.constant.LotStatus;
+import com.ssafy.keeping.domain.wallet.constant.WalletType;
+import com.ssafy.keeping.domain.wallet.model.Wallet;
+import com.ssafy.keeping.domain.wallet.model.WalletStoreLot;
+import com.ssafy.keeping.domain.wallet.repository.*;
+import com.ssafy.keeping.domain.wallet.service.GroupContributionLedger;
+import com.ssafy.keeping.domain.wallet.service.GroupShareSettlementService;
+import com.ssafy.keeping.domain.wallet.service.WalletTransferCoordinator;
+import com.ssafy.keeping.global.config.JpaBatchConfig;
+import com.ssafy.keeping.global.config.TimeConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.ssafy.keeping.domain.auth.enums.AuthProvider.KAKAO;
+import static com.ssafy.keeping.domain.auth.enums.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 원장 INSERT 왕복 수: 결제 승인 1건 / 모임 해체 정산 1건 (기본 test 에서는 제외, ./gradlew benchmark 로 실행)
+ * - DataSource 를 감싸 JDBC 실행(execute*, executeBatch)을 왕복 1회로 셈
+ * - IDENTITY 였다면 INSERT 행마다 왕복 1회 → "IDENTITY 기준" = 전체 왕복 - INSERT 왕복 + INSERT 행 수
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({LedgerBatchInsertBenchmarkTest.StatementCounter.class, JpaBatchConfig.class,
+        GroupShareSettlementService.class, ShareSettlementJdbcRepository.class,
+        WalletTransferCoordinator.class, GroupContributionLedger.class, TimeConfig.class})
+class LedgerBatchInsertBenchmarkTest {
+
+    private static final int APPROVAL_LOTS = 20;
+    private static final int APPROVAL_ITEMS = 5;
+    private static final int MEMBERS = 10;
+    private static final int STORES = 5;
+    private static final int LOTS_PER_PAIR = 2;
+
+    @Autowired StatementCounter counter;
+    @Autowired GroupShareSettlementService settlementService;
+    @Autowired GroupContributionLedger contributionLedger;
+    @Autowired WalletStoreBalanceRepository balanceRepo;
+    @Autowired WalletStoreLotRepository lotRepo;
+    @Autowired WalletLotMoveRepository moveRepo;
+    @Autowired WalletRepository walletRepo;
+    @Autowired CustomerRepository customerRepo;
+    @Autowired StoreRepository storeRepo;
+    @Autowired MenuRepository menuRepo;
+    @Autowired GroupRepository groupRepo;
+    @Autowired TransactionRepository txRepo;
+    @Autowired TransactionItemRepository txItemRepo;
+    @Autowired Clock clock;
+    @Autowired EntityManager em;
+
+    final LocalDateTime acquired = LocalDateTime.now().withNano(0).minusDays(10);
+    final LocalDateTime expires = LocalDateTime.now().withNano(0).plusDays(300);
+
+    @Test
+    @DisplayName("결제 승인 1건: 거래 1 + 품목 5 + 로트 이동 20 행이 엔티티 종류별 배치 INSERT 로 묶임")
+    void approval_statements() {
+        Owner owner = owner(1);
+        Store store = store(owner, 1);
+        Customer customer = customer(1);
+        Wallet wallet = walletRepo.save(Wallet.builder().customer(customer).walletType(WalletType.INDIVIDUAL).build());
+        for (int i = 0; i < APPROVAL_LOTS; i++) {
+            lot(wallet, null, store, 100L, charge(wallet, customer, store, 100L), LotSourceType.CHARGE);
+        }
+        balanceRow(wallet, store, APPROVAL_LOTS * 100L);
+
+        PaymentIntent intent = PaymentIntent.builder()
+                .intentId(1L).customerId(customer.getCustomerId())
+                .walletId(wallet.getWalletId()).storeId(store.getStoreId())
+                .amount(APPROVAL_LOTS * 100L).build();
+        List<PaymentIntentItem> items = new ArrayList<>();
+        for (int i = 0; i < APPROVAL_ITEMS; i++) {
+            items.add(PaymentIntentItem.builder()
+                    .menuNameSnap("메뉴" + i).unitPriceSnap(400L).quantity(1).build());
+        }
+        PaymentIntentItemRepository intentItemRepo = mock(PaymentIntentItemRepository.class);
+        when(intentItemRepo.findByIntent_IntentId(1L)).thenReturn(items);
+        FundsService fundsService = new FundsService(balanceRepo, lotRepo, moveRepo, walletRepo, customerRepo,
+                storeRepo, menuRepo, txRepo, txItemRepo, intentItemRepo, contributionLedger, clock);
+        em.flush();
+        em.clear();
+
+        counter.reset();
+        FundsResult result = fundsService.capture(intent);
+        em.flush();
+        StatementCounter.Counts counts = counter.snapshot();
+
+        assertThat(result.isSufficient()).isTrue();
+        assertThat(counts.insertRows()).isEqualTo(1 + APPROVAL_ITEMS + APPROVAL_LOTS);
+        assertThat(counts.insertRoundTrips()).isEqualTo(3);
+        print("approval", counts);
+    }
+
+    @Test
+    @DisplayName("모임 해체 정산 1건 (회원 10명 × 가게 5곳 × 로트 2건)")
+    void groupSettlement_statements() {
+        Owner owner = owner(2);
+        List<Store> stores = new ArrayList<>();
+        for (int s = 0; s < STORES; s++) stores.add(store(owner, s + 10));
+        Group group = groupRepo.save(Group.builder().groupName("배치모임").groupCode("LB-001").groupDescription("bench").build());
+        Wallet groupW = walletRepo.save(Wallet.builder().group(group).walletType(WalletType.GROUP).build());
+
+        List<Long> memberIds = new ArrayList<>();
+        for (int m = 0; m < MEMBERS; m++) {
+            Customer c = customer(m + 10);
+            Wallet w = walletRepo.save(Wallet.builder().customer(c).walletType(WalletType.INDIVIDUAL).build());
+            memberIds.add(c.getCustomerId());
+            for (Store s : stores) {
+                Transaction origin = charge(w, c, s, 100L * LOTS_PER_PAIR);
+                for (int l = 0; l < LOTS_PER_PAIR; l++) lot(groupW, w, s, 100L, origin, LotSourceType.TRANSFER_IN);
+            }
+        }
+        stores.forEach(s -> balanceRow(groupW, s, MEMBERS * LOTS_PER_PAIR * 100L));
+        em.flush();
+        em.clear();
+
+        counter.reset();
+        GroupShareSettlementService.SettlementResult result = settlementService.settle(groupW.getWalletId(), memberIds);
+        em.flush();
+        StatementCounter.Counts counts = counter.snapshot();
+
+        assertThat(result.sourceLots()).isEqualTo(MEMBERS * STORES * LOTS_PER_PAIR);
+        assertThat(counts.insertRows()).isGreaterThanOrEqualTo(MEMBERS * STORES * 3L);   // 적립 로트 + 거래 2건
+        assertThat(counts.insertRoundTrips()).isLessThan(10);
+        print("group-settlement", counts);
+    }
+
+    private static void print(String name, StatementCounter.Counts c) {
+        System.out.printf("[ledger-%s] round trips=%d (insert %d rows in %d) | IDENTITY equivalent=%d%n",
+                name, c.roundTrips(), c.insertRows(), c.insertRoundTrips(),
+                c.roundTrips() - c.insertRoundTrips() + c.insertRows());
+    }
+
+    private Owner owner(int n) {
+        Owner owner = Owner.builder()
+                .providerId("owner-lb-" + n).providerType(KAKAO)
+                .email("owner-lb-" + n + "@ex.com").phoneNumber("010-9999-300" + n)
+                .birth(LocalDate.of(1990, 1, 1)).name("사장님").gender(MALE)
+                .imgUrl("https://img/owner.png").userKey("OWLB" + n).build();
+        em.persist(owner);
+        return owner;
+    }
+
+    private Customer customer(int n) {
+        return customerRepo.save(Customer.builder()
+                .providerId("pid-lb-" + n).providerType(KAKAO)
+                .email("lb" + n + "@example.com").phoneNumber("010-4000-" + n)
+                .birth(LocalDate.of(1995, 1, 1)).name("회원" + n).gender(MALE)
+                .imgUrl("https://img/lb.png").userKey("UKLB" + n).build());
+    }
+
+    private Store store(Owner owner, int n) {
+        return storeRepo.save(Store.builder()
+                .storeName("배치가게" + n).address("서울시 " + n)
+                .phoneNumber("02-400-" + n).bankAccount("004-" + n)
+                .category("FOOD").imgUrl("https://img/store.png")
+                .taxIdNumber("400-00-" + n).storeStatus(StoreStatus.ACTIVE)
+                .owner(owner).merchantId(4_000L + n).build());
+    }
+
+    private Transaction charge(Wallet w, Customer c, Store s, long amount) {
+        return txRepo.save(Transaction.builder()
+                .wallet(w).customer(c).store(s)
+                .transactionType(TransactionType.CHARGE).amount(amount)
+                .transactionUniqueNo("LB-" + System.nanoTime())
+                .createdAt(acquired).build());
+    }
+
+    private void lot(Wallet owner, Wallet contributor, Store s, long amount, Transaction origin, LotSourceType type) {
+        lotRepo.save(WalletStoreLot.builder()
+                .wallet(owner).store(s)
+                .amountTotal(amount).amountRemaining(amount)
+                .acquiredAt(acquired).expiredAt(expires)
+                .sourceType(type)
+                .contributorWallet(contributor)
+                .originChargeTransaction(origin)
+                .lotStatus(LotStatus.ACTIVE).build());
+    }
+
+    private void balanceRow(Wallet w, Store s, long balance) {
+        em.createNativeQuery("""
+                insert into wallet_store_balances (wallet_id, store_id, balance, updated_at)
+                values (?, ?, ?, CURRENT_TIMESTAMP)
+                """)
+                .setParameter(1, w.getWalletId()).setParameter(2, s.getStoreId()).setParameter(3, balance)
+                .executeUpdate();
+    }
+
+    /**
+     * DataSource → Connection → Statement 를 감싸 JDBC 왕복 수를 셈
+     */
+    static class StatementCounter implements BeanPostProcessor {
+
+        private static final Set<String> EXECUTES = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+        private static final Set<String> BATCHES = Set.of("executeBatch", "executeLargeBatch");
+
+        private final LongAdder roundTrips = new LongAdder();
+        private final LongAdder insertRoundTrips = new LongAdder();
+        private final LongAdder insertRows = new LongAdder();
+
+        record Counts(long roundTrips, long insertRoundTrips, long insertRows) {
+        }
+
+        void reset() {
+            roundTrips.reset();
+            insertRoundTrips.reset();
+            insertRows.reset();
+        }
+
+        Counts snapshot() {
+            return new Counts(roundTrips.sum(), insertRoundTrips.sum(), insertRows.sum());
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource)) return bean;
+            return proxy(bean, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection connection ? connection(connection) : result;
+            });
+        }
+
+        private Object connection(Connection target) {
+            return proxy(target, (t, method, args) -> {
+                Object result = invoke(t, method, args);
+                if (!(result instanceof Statement statement)) return result;
+                // prepareStatement(sql, ...) 는 SQL 을 미리 알 수 있음
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return statement(statement, sql);
+            });
+        }
+
+        private Object statement(Statement target, String preparedSql) {
+            int[] pending = {0};
+            return proxy(target, (t, method, args) -> {
+                String name = method.getName();
+                String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String s ? s : "";
+                boolean insert = sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("insert");
+                if (name.equals("addBatch")) {
+                    pending[0]++;
+                } else if (BATCHES.contains(name)) {
+                    roundTrips.increment();
+                    if (insert) {
+                        insertRoundTrips.increment();
+                        insertRows.add(pending[0]);
+                    }
+                    pending[0] = 0;
+                } else if (EXECUTES.contains(name)) {
+                    roundTrips.increment();
+                    if (insert) {
+                        insertRoundTrips.increment();
+                        insertRows.increment();
+                    }
+                }
+                return invoke(t, method, args);
+            });
+        }
+
+        private static Object proxy(Object target, InvocationHandler handler) {
+            return Proxy.newProxyInstance(target.getClass().getClassLoader(),
+                    ClassUtils.getAllInterfaces(target), (p, method, args) -> handler.invoke(target, method, args));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
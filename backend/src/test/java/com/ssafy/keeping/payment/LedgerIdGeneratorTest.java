@@ -0,0 +1,74 @@
+package com.ssafy.keeping.payment;
+
+import com.ssafy.keeping.domain.payment.common.IdUtil;
+import com.ssafy.keeping.domain.payment.common.LedgerIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LedgerIdGeneratorTest {
+
+    private static final long JS_MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @Test
+    @DisplayName("노드 안에서 단조 증가, JS 안전 정수 범위 안, 노드 번호가 ID 에 들어감")
+    void monotonicAndSafeForJson() {
+        LedgerIdGenerator generator = new LedgerIdGenerator(17);
+        long prev = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.next();
+            assertThat(id).isGreaterThan(prev).isLessThanOrEqualTo(JS_MAX_SAFE_INTEGER);
+            assertThat((id >> 7) & 31).isEqualTo(17);
+            prev = id;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 중복 없음")
+    void uniqueUnderContention() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) ids.add(IdUtil.newLedgerId());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get();
+        pool.shutdown();
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("서로 다른 노드는 같은 ms 에 발급해도 겹치지 않음")
+    void nodesDoNotCollide() {
+        LedgerIdGenerator a = new LedgerIdGenerator(0);
+        LedgerIdGenerator b = new LedgerIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 5_000; i++) {
+            ids.add(a.next());
+            ids.add(b.next());
+        }
+        assertThat(ids).hasSize(10_000);
+        assertThatThrownBy(() -> new LedgerIdGenerator(LedgerIdGenerator.MAX_NODE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package com.ssafy.keeping.payment;
+
+import com.ssafy.keeping.domain.payment.common.IdUtil;
+import com.ssafy.keeping.domain.payment.common.LedgerIdGenerator;
+import com.ssafy.keeping.domain.payment.common.LedgerNodeLease;
+import com.ssafy.keeping.global.exception.CustomException;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 원장 ID 노드 번호 임대: 번호를 못 얻으면 기동 실패, ttl 안에 연장하지 못하면 발급 거부
+ */
+class LedgerNodeLeaseTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory factory;
+    private static StringRedisTemplate redis;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        factory = new LettuceConnectionFactory("localhost", port);
+        factory.afterPropertiesSet();
+        factory.start();
+        redis = new StringRedisTemplate(factory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (factory != null) factory.destroy();
+        if (redisServer != null) redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @AfterEach
+    void resetIdUtil() {
+        // 다른 테스트가 쓰는 정적 발급기를 기한 없는 0 번으로 되돌림
+        new LedgerNodeLease(redis, 0, 60).start();
+    }
+
+    @Test
+    @DisplayName("두 인스턴스는 서로 다른 번호를 임대하고, 종료 시 반납")
+    void distinctNodes() {
+        LedgerNodeLease a = new LedgerNodeLease(redis, -1, 60);
+        LedgerNodeLease b = new LedgerNodeLease(redis, -1, 60);
+        a.start();
+        b.start();
+
+        assertThat(a.leasedNode()).isBetween(0, LedgerIdGenerator.MAX_NODE);
+        assertThat(b.leasedNode()).isBetween(0, LedgerIdGenerator.MAX_NODE).isNotEqualTo(a.leasedNode());
+
+        a.stop();
+        assertThat(redis.hasKey("ledger:id:node:" + a.leasedNode())).isFalse();
+        assertThat(redis.hasKey("ledger:id:node:" + b.leasedNode())).isTrue();
+    }
+
+    @Test
+    @DisplayName("32개 번호가 모두 사용 중이면 0 번을 쓰지 않고 기동 실패")
+    void allNodesTaken_failsStartup() {
+        for (int n = 0; n <= LedgerIdGenerator.MAX_NODE; n++) {
+            redis.opsForValue().set("ledger:id:node:" + n, "other-instance");
+        }
+        assertThatThrownBy(() -> new LedgerNodeLease(redis, -1, 60).start())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Redis 에 연결할 수 없으면 임의 번호로 뜨지 않고 기동 실패, ledger.id.node 를 지정하면 Redis 없이 기동")
+    void redisDown_failsStartupUnlessNodeConfigured() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        LettuceConnectionFactory down = new LettuceConnectionFactory("localhost", closedPort);
+        down.afterPropertiesSet();
+        down.start();
+        try {
+            StringRedisTemplate unreachable = new StringRedisTemplate(down);
+            assertThatThrownBy(() -> new LedgerNodeLease(unreachable, -1, 60).start())
+                    .isInstanceOf(IllegalStateException.class);
+
+            LedgerNodeLease fixed = new LedgerNodeLease(unreachable, 9, 60);
+            fixed.start();
+            assertThat(fixed.node()).isEqualTo(9);
+            assertThat((IdUtil.newLedgerId() >> 7) & 31).isEqualTo(9);
+        } finally {
+            down.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("ttl 안에 연장하지 못하면 발급 거부, 다음 heartbeat 에서 다시 임대하면 재개")
+    void expiredLease_refusesIds() throws Exception {
+        LedgerNodeLease lease = new LedgerNodeLease(redis, -1, 1);
+        lease.start();
+        assertThat(IdUtil.newLedgerId()).isPositive();
+
+        // heartbeat 없이 ttl 경과 → Redis 키도 만료, 다른 인스턴스가 가져갈 수 있는 상태
+        Thread.sleep(1_200);
+        assertThatThrownBy(IdUtil::newLedgerId)
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.LEDGER_ID_UNAVAILABLE);
+
+        lease.heartbeat();
+        assertThat(lease.leasedNode()).isNotNegative();
+        assertThat((IdUtil.newLedgerId() >> 7) & 31).isEqualTo(lease.leasedNode());
+        lease.stop();
+
+        // 반납 후에는 바로 발급 중단
+        assertThatThrownBy(IdUtil::newLedgerId).isInstanceOf(CustomException.class);
+    }
+}
@@ -0,0 +1,131 @@
+package com.ssafy.keeping.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keeping.domain.idempotency.model.IdempotencyKey;
+import com.ssafy.keeping.domain.idempotency.service.ResponseSnapshotCodec;
+import com.ssafy.keeping.domain.idempotency.service.ResponseSnapshotCodecs;
+import com.ssafy.keeping.domain.payment.intent.constant.PaymentStatus;
+import com.ssafy.keeping.domain.payment.intent.dto.PaymentIntentDetailResponse;
+import com.ssafy.keeping.domain.payment.intent.dto.PaymentIntentItemView;
+import com.ssafy.keeping.global.config.CanonicalJsonConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResponseSnapshotCodecsTest {
+
+    private final ObjectMapper canonicalObjectMapper = new CanonicalJsonConfig().canonicalObjectMapper();
+    private final ResponseSnapshotCodecs codecs = new ResponseSnapshotCodecs(canonicalObjectMapper, 512);
+
+    @Test
+    @DisplayName("작은 응답: 압축 없이 저장, JSON 보다 작고 그대로 복원")
+    void smallResponseRoundTrip() throws Exception {
+        PaymentIntentDetailResponse res = response(2);
+
+        byte[] snapshot = codecs.encode(res);
+
+        assertThat(snapshot[0] & 0x80).isZero();
+        assertThat(snapshot.length).isLessThan(canonicalObjectMapper.writeValueAsBytes(res).length);
+        assertThat(codecs.decode(snapshot, PaymentIntentDetailResponse.class))
+                .usingRecursiveComparison().isEqualTo(res);
+    }
+
+    @Test
+    @DisplayName("임계값 이상 응답: deflate 로 저장하고 그대로 복원")
+    void largeResponseCompressed() throws Exception {
+        PaymentIntentDetailResponse res = response(40);
+
+        byte[] snapshot = codecs.encode(res);
+        int jsonBytes = canonicalObjectMapper.writeValueAsString(res).getBytes(StandardCharsets.UTF_8).length;
+
+        assertThat(snapshot[0] & 0x80).isNotZero();
+        assertThat(snapshot.length).isLessThan(jsonBytes / 2);
+        assertThat(codecs.decode(snapshot, PaymentIntentDetailResponse.class))
+                .usingRecursiveComparison().isEqualTo(res);
+    }
+
+    @Test
+    @DisplayName("readSnapshot: 바이너리 스냅샷 우선, 없으면 이전 형식(response_json), 둘 다 없으면 null")
+    void readSnapshotFallsBackToLegacyJson() throws Exception {
+        PaymentIntentDetailResponse res = response(3);
+
+        IdempotencyKey binary = IdempotencyKey.builder().responseSnapshot(codecs.encode(res)).build();
+        IdempotencyKey legacy = IdempotencyKey.builder().responseJson(canonicalObjectMapper.valueToTree(res)).build();
+        IdempotencyKey empty = IdempotencyKey.builder().build();
+
+        assertThat(codecs.readSnapshot(binary, PaymentIntentDetailResponse.class)).usingRecursiveComparison().isEqualTo(res);
+        assertThat(codecs.readSnapshot(legacy, PaymentIntentDetailResponse.class)).usingRecursiveComparison().isEqualTo(res);
+        assertThat(codecs.readSnapshot(empty, PaymentIntentDetailResponse.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("타입별 코덱 등록: 등록된 코덱으로 인코딩, 다른 포맷으로 쓴 스냅샷은 읽지 않음")
+    void customCodecAndFormatMismatch() throws Exception {
+        PaymentIntentDetailResponse res = response(1);
+        byte[] smile = codecs.encode(res);
+
+        ResponseSnapshotCodecs custom = new ResponseSnapshotCodecs(canonicalObjectMapper, 512);
+        custom.register(new IntentIdOnlyCodec());
+        byte[] snapshot = custom.encode(res);
+
+        assertThat(snapshot[0]).isEqualTo((byte) 9);
+        assertThat(custom.decode(snapshot, PaymentIntentDetailResponse.class).getIntentId()).isEqualTo(res.getIntentId());
+        assertThatThrownBy(() -> custom.decode(smile, PaymentIntentDetailResponse.class)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("컬럼 크기를 넘는 응답은 IOException (호출부는 스냅샷 없이 DONE 기록)")
+    void oversizedSnapshotRejected() {
+        ResponseSnapshotCodecs noCompression = new ResponseSnapshotCodecs(canonicalObjectMapper, Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> noCompression.encode(response(1_000))).isInstanceOf(IOException.class);
+    }
+
+    private static PaymentIntentDetailResponse response(int items) {
+        List<PaymentIntentItemView> views = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            views.add(PaymentIntentItemView.builder()
+                    .menuId(10_000L + i).name("메뉴" + i).unitPrice(4_500L).quantity(1 + i % 3).lineTotal(4_500L * (1 + i % 3))
+                    .build());
+        }
+        return PaymentIntentDetailResponse.builder()
+                .intentId("6f3f71c0-9b0c-4c33-a7c8-7d3e9745f2da").storeId(12_345L).customerId(12L).amount(54_000L)
+                .status(PaymentStatus.APPROVED)
+                .createdAt("2025-09-01T12:00:00+09:00").expiresAt("2025-09-01T12:03:00+09:00")
+                .approvedAt("2025-09-01T12:00:30+09:00")
+                .items(views)
+                .build();
+    }
+
+    private static class IntentIdOnlyCodec implements ResponseSnapshotCodec<PaymentIntentDetailResponse> {
+
+        @Override
+        public Class<PaymentIntentDetailResponse> type() {
+            return PaymentIntentDetailResponse.class;
+        }
+
+        @Override
+        public int formatId() {
+            return 9;
+        }
+
+        @Override
+        public byte[] encode(PaymentIntentDetailResponse value) {
+            return value.getIntentId().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public PaymentIntentDetailResponse decode(byte[] bytes, int offset, int length) {
+            return PaymentIntentDetailResponse.builder()
+                    .intentId(new String(bytes, offset, length, StandardCharsets.UTF_8))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.ssafy.keeping.store;
+
+import com.ssafy.keeping.domain.store.geo.DisabledGeocoder;
+import com.ssafy.keeping.domain.store.geo.Geocoder;
+import com.ssafy.keeping.domain.store.geo.StubGeocoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * geocoder.provider 로 지오코더 1개만 선택, 미설정 시 기동은 되고 좌표 없이 저장 (none)
+ */
+class GeocoderSelectionTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(DisabledGeocoder.class, StubGeocoder.class);
+
+    @Test
+    @DisplayName("provider 미설정 → none: 기동 실패 없이 좌표를 만들지 않음")
+    void unset_defaultsToNone() {
+        runner.run(ctx -> {
+            assertThat(ctx).hasSingleBean(Geocoder.class).hasSingleBean(DisabledGeocoder.class);
+            assertThat(ctx.getBean(Geocoder.class).geocode("서울 강남구 테헤란로 212")).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("provider=stub → 대역 지오코더만 등록")
+    void stub_selected() {
+        runner.withPropertyValues("geocoder.provider=stub").run(ctx -> {
+            assertThat(ctx).hasSingleBean(Geocoder.class).hasSingleBean(StubGeocoder.class);
+            assertThat(ctx.getBean(Geocoder.class).geocode("서울 강남구 테헤란로 212")).isPresent();
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package com.ssafy.keeping.store;
+
+import com.ssafy.keeping.domain.store.geo.GeoPoint;
+import com.ssafy.keeping.domain.store.geo.StoreGeoEntry;
+import com.ssafy.keeping.domain.store.geo.StoreGeoIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 10만 가게 kNN 지연시간 측정 (기본 test 에서는 제외, ./gradlew benchmark 로 실행)
+ */
+@Tag("benchmark")
+class StoreGeoIndexBenchmarkTest {
+
+    private static final int STORES = 100_000;
+    private static final int QUERIES = 20_000;
+    private static final int K = 20;
+
+    @Test
+    @DisplayName("10만 가게 kNN(k=20) 지연시간: 격자 인덱스 vs 전수 정렬")
+    void knnLatency() {
+        Random random = new Random(42);
+        List<StoreGeoEntry> entries = new ArrayList<>(STORES);
+        for (long id = 1; id <= STORES; id++) {
+            entries.add(new StoreGeoEntry(id, 37.42 + random.nextDouble() * 0.28,
+                    126.76 + random.nextDouble() * 0.42, "카페"));
+        }
+        StoreGeoIndex index = new StoreGeoIndex(0.01);
+        index.replaceAll(entries);
+
+        double[][] queries = new double[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = new double[]{37.45 + random.nextDouble() * 0.2, 126.8 + random.nextDouble() * 0.3};
+        }
+
+        // 워밍업
+        for (int i = 0; i < 5_000; i++) {
+            index.nearest(queries[i][0], queries[i][1], K, 20_000, null);
+        }
+
+        long[] nanos = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long t = System.nanoTime();
+            index.nearest(queries[i][0], queries[i][1], K, 20_000, null);
+            nanos[i] = System.nanoTime() - t;
+        }
+        Arrays.sort(nanos);
+
+        // 비교 기준: 기존 방식(전체 목록을 받아 거리 계산 후 정렬)
+        int bruteQueries = 50;
+        long bruteStart = System.nanoTime();
+        for (int i = 0; i < bruteQueries; i++) {
+            double lat = queries[i][0], lng = queries[i][1];
+            entries.stream()
+                    .mapToDouble(e -> GeoPoint.distanceMeters(lat, lng, e.latitude(), e.longitude()))
+                    .sorted().limit(K).sum();
+        }
+        long bruteAvg = (System.nanoTime() - bruteStart) / bruteQueries;
+
+        System.out.printf("[geo-knn] stores=%d k=%d p50=%.1fus p99=%.1fus max=%.1fus | brute-force avg=%.1fus%n",
+                STORES, K,
+                nanos[QUERIES / 2] / 1_000.0,
+                nanos[(int) (QUERIES * 0.99)] / 1_000.0,
+                nanos[QUERIES - 1] / 1_000.0,
+                bruteAvg / 1_000.0);
+    }
+}
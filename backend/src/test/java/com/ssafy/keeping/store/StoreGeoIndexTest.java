@@ -0,0 +1,101 @@
+package com.ssafy.keeping.store;
+
+import com.ssafy.keeping.domain.store.geo.GeoPoint;
+import com.ssafy.keeping.domain.store.geo.StoreGeoEntry;
+import com.ssafy.keeping.domain.store.geo.StoreGeoIndex;
+import com.ssafy.keeping.domain.store.geo.StubGeocoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreGeoIndexTest {
+
+    private static final String[] CATEGORIES = {"카페", "한식", "베이커리", "분식"};
+
+    private StoreGeoIndex index;
+    private List<StoreGeoEntry> entries;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        entries = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            entries.add(new StoreGeoEntry(id,
+                    37.42 + random.nextDouble() * 0.28,
+                    126.76 + random.nextDouble() * 0.42,
+                    CATEGORIES[random.nextInt(CATEGORIES.length)]));
+        }
+        index = new StoreGeoIndex(0.01);
+        index.replaceAll(entries);
+    }
+
+    private List<Long> bruteForce(double lat, double lng, int k, double radius, String category) {
+        return entries.stream()
+                .filter(e -> category == null || category.equals(e.category()))
+                .map(e -> new StoreGeoIndex.Hit(e.storeId(),
+                        GeoPoint.distanceMeters(lat, lng, e.latitude(), e.longitude())))
+                .filter(h -> h.distanceMeters() <= radius)
+                .sorted(Comparator.comparingDouble(StoreGeoIndex.Hit::distanceMeters)
+                        .thenComparingLong(StoreGeoIndex.Hit::storeId))
+                .limit(k)
+                .map(StoreGeoIndex.Hit::storeId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("kNN 결과가 전수 계산과 동일 (카테고리 필터 포함)")
+    void nearest_matchesBruteForce() {
+        Random random = new Random(7);
+        for (int q = 0; q < 50; q++) {
+            double lat = 37.45 + random.nextDouble() * 0.2;
+            double lng = 126.8 + random.nextDouble() * 0.3;
+            String category = q % 2 == 0 ? null : CATEGORIES[q % CATEGORIES.length];
+
+            List<Long> actual = index.nearest(lat, lng, 20, 20_000, category).stream()
+                    .map(StoreGeoIndex.Hit::storeId).toList();
+
+            assertThat(actual).containsExactlyElementsOf(bruteForce(lat, lng, 20, 20_000, category));
+        }
+    }
+
+    @Test
+    @DisplayName("반경 검색은 반경 내 가게만 거리순으로 반환")
+    void within_matchesBruteForce() {
+        List<Long> actual = index.within(37.5665, 126.9780, 1_500, null).stream()
+                .map(StoreGeoIndex.Hit::storeId).toList();
+
+        assertThat(actual).containsExactlyElementsOf(bruteForce(37.5665, 126.9780, Integer.MAX_VALUE, 1_500, null));
+    }
+
+    @Test
+    @DisplayName("upsert/remove 가 즉시 반영됨")
+    void upsertAndRemove() {
+        index.upsert(99_999L, 37.5665, 126.9780, "카페");
+        assertThat(index.nearest(37.5665, 126.9780, 1, 100, "카페"))
+                .extracting(StoreGeoIndex.Hit::storeId).containsExactly(99_999L);
+
+        index.remove(99_999L);
+        assertThat(index.nearest(37.5665, 126.9780, 5, 20_000, "카페"))
+                .extracting(StoreGeoIndex.Hit::storeId).doesNotContain(99_999L);
+    }
+
+    @Test
+    @DisplayName("스텁 지오코더는 같은 주소에 같은 서울 좌표를 반환")
+    void stubGeocoder_deterministic() {
+        StubGeocoder geocoder = new StubGeocoder();
+        GeoPoint a = geocoder.geocode("서울 강남구 테헤란로 212").orElseThrow();
+        GeoPoint b = geocoder.geocode("서울 강남구 테헤란로 212").orElseThrow();
+
+        assertThat(a).isEqualTo(b);
+        assertThat(a.latitude()).isBetween(37.42, 37.70);
+        assertThat(a.longitude()).isBetween(126.76, 127.18);
+        assertThat(geocoder.geocode(" ")).isEmpty();
+    }
+}
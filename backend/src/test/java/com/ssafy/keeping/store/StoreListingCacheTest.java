@@ -0,0 +1,193 @@
+package com.ssafy.keeping.store;
+
+import com.ssafy.keeping.domain.store.constant.StoreStatus;
+import com.ssafy.keeping.domain.store.controller.StoreController;
+import com.ssafy.keeping.domain.store.dto.StorePageDto;
+import com.ssafy.keeping.domain.store.dto.StorePublicDto;
+import com.ssafy.keeping.domain.store.service.StoreListingCache;
+import com.ssafy.keeping.domain.store.service.StoreService;
+import com.ssafy.keeping.global.config.CanonicalJsonConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 공개 가게 목록 캐시: hit / TTL / ETag / 무효화 / LRU 제거, 컨트롤러 304 응답
+ */
+class StoreListingCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private StoreListingCache cache(int maxEntries) {
+        return new StoreListingCache(new CanonicalJsonConfig().canonicalObjectMapper(), clock, 60_000, maxEntries);
+    }
+
+    private StorePageDto page(int page, String storeName) {
+        loads.incrementAndGet();
+        StorePublicDto store = new StorePublicDto(1L, storeName, "서울 강남구 테헤란로 212", "02-000-0000",
+                "카페", StoreStatus.ACTIVE, "설명", LocalDateTime.of(2025, 9, 1, 12, 0),
+                null, null, 37.5, 127.0);
+        return new StorePageDto(List.of(store), page, 20, 1, 1, false);
+    }
+
+    @Test
+    @DisplayName("TTL 안의 재조회는 로더를 부르지 않고 같은 스냅샷(ETag) 반환, TTL 이 지나면 다시 로딩")
+    void hitWithinTtl() {
+        StoreListingCache cache = cache(100);
+
+        StoreListingCache.Snapshot first = cache.get("카페", 0, 20, () -> page(0, "키핑 카페"));
+        StoreListingCache.Snapshot second = cache.get("카페", 0, 20, () -> page(0, "키핑 카페"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+
+        clock.advance(60_000);
+        cache.get("카페", 0, 20, () -> page(0, "키핑 카페"));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("ETag: 같은 내용이면 같은 값, 내용이 바뀌면 다른 값 / 가게 변경 시 해당 카테고리 + 전체 목록만 제거")
+    void etagAndEvict() {
+        StoreListingCache cache = cache(100);
+
+        String etag = cache.get("카페", 0, 20, () -> page(0, "키핑 카페")).etag();
+        cache.get(null, 0, 20, () -> page(0, "키핑 카페"));
+        cache.get("식당", 0, 20, () -> page(0, "키핑 식당"));
+        assertThat(etag).startsWith("\"").endsWith("\"");
+
+        cache.evict("카페");
+        assertThat(cache.size()).isEqualTo(1);
+
+        String sameContent = cache.get("카페", 0, 20, () -> page(0, "키핑 카페")).etag();
+        cache.evict("카페");
+        String changed = cache.get("카페", 0, 20, () -> page(0, "키핑 카페 2호점")).etag();
+
+        assertThat(sameContent).isEqualTo(etag);
+        assertThat(changed).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("로딩 중에 같은 카테고리가 무효화되면 로딩 결과를 저장하지 않음 (다음 조회는 다시 로딩)")
+    void evictDuringLoad_skipsPut() {
+        StoreListingCache cache = cache(100);
+
+        cache.get("카페", 0, 20, () -> {
+            cache.evict("카페");   // 로딩(DB 조회)과 커밋 후 무효화가 겹친 경우
+            return page(0, "키핑 카페");
+        });
+        cache.get(null, 0, 20, () -> {
+            cache.evict("식당");   // 다른 카테고리 변경도 전체 목록은 무효화
+            return page(0, "키핑 카페");
+        });
+        assertThat(cache.size()).isZero();
+
+        cache.get("카페", 0, 20, () -> page(0, "키핑 카페 2호점"));
+        cache.get("카페", 0, 20, () -> page(0, "키핑 카페 2호점"));
+        assertThat(loads).hasValue(3);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("엔트리가 가득 차면 가장 오래 조회되지 않은 페이지만 제거 (전체를 비우지 않음)")
+    void lruEviction() {
+        StoreListingCache cache = cache(3);
+        for (int p = 0; p < 3; p++) {
+            int n = p;
+            cache.get(null, n, 20, () -> page(n, "가게" + n));
+        }
+        // 0 페이지를 다시 조회 → 가장 오래된 것은 1 페이지
+        cache.get(null, 0, 20, () -> page(0, "가게0"));
+        cache.get(null, 3, 20, () -> page(3, "가게3"));
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(loads).hasValue(4);
+
+        cache.get(null, 0, 20, () -> page(0, "가게0"));
+        cache.get(null, 2, 20, () -> page(2, "가게2"));
+        assertThat(loads).hasValue(4);
+
+        cache.get(null, 1, 20, () -> page(1, "가게1"));
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("컨트롤러: If-None-Match 가 일치하면 본문 없이 304, 다르면 200 + ETag, 304 는 절약 바이트로 집계")
+    void notModified() {
+        StoreListingCache cache = cache(100);
+        StoreService storeService = mock(StoreService.class);
+        when(storeService.getStorePage(any(), anyInt(), anyInt()))
+                .thenAnswer(inv -> cache.get(inv.getArgument(0), inv.getArgument(1), inv.getArgument(2),
+                        () -> page(0, "키핑 카페")));
+        StoreController controller = new StoreController(storeService, cache);
+
+        ResponseEntity<?> ok = controller.getStorePage("카페", 0, 20, request(null));
+        assertThat(ok.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String etag = ok.getHeaders().getETag();
+        assertThat(etag).isNotNull();
+        assertThat(ok.getHeaders().getCacheControl()).contains("max-age=30");
+
+        ResponseEntity<?> notModified = controller.getStorePage("카페", 0, 20, request(etag));
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getBody()).isNull();
+        assertThat(notModified.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(cache.bytesSaved()).isPositive();
+
+        ResponseEntity<?> stale = controller.getStorePage("카페", 0, 20, request("\"stale\""));
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(loads).hasValue(1);
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stores/page");
+        if (ifNoneMatch != null) request.addHeader("If-None-Match", ifNoneMatch);
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    private static class MutableClock extends Clock {
+        private final AtomicLong millis = new AtomicLong(1_756_695_600_000L);
+
+        void advance(long ms) {
+            millis.addAndGet(ms);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.ssafy.keeping.wallet;
+
+import com.ssafy.keeping.domain.group.model.Group;
+import com.ssafy.keeping.domain.group.repository.GroupRepository;
+import com.ssafy.keeping.domain.payment.transactions.constant.TransactionType;
+import com.ssafy.keeping.domain.payment.transactions.model.Transaction;
+import com.ssafy.keeping.domain.payment.transactions.repository.TransactionRepository;
+import com.ssafy.keeping.domain.store.constant.StoreStatus;
+import com.ssafy.keeping.domain.store.model.Store;
+import com.ssafy.keeping.domain.store.repository.StoreRepository;
+import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
+import com.ssafy.keeping.domain.user.owner.model.Owner;
+import com.ssafy.keeping.domain.wallet.constant.LotSourceType;
+import com.ssafy.keeping.domain.wallet.constant.LotStatus;
+import com.ssafy.keeping.domain.wallet.constant.WalletType;
+import com.ssafy.keeping.domain.wallet.model.Wallet;
+import com.ssafy.keeping.domain.wallet.model.WalletStoreLot;
+import com.ssafy.keeping.domain.wallet.repository.GroupContributionRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletStoreLotRepository;
+import com.ssafy.keeping.domain.wallet.service.GroupContributionLedger;
+import com.ssafy.keeping.domain.wallet.service.GroupContributionReconcileScheduler;
+import com.ssafy.keeping.domain.wallet.service.WalletTransferCoordinator;
+import com.ssafy.keeping.domain.wallet.service.WalletTransferCoordinator.Movement;
+import com.ssafy.keeping.global.config.TimeConfig;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.ssafy.keeping.domain.auth.enums.AuthProvider.KAKAO;
+import static com.ssafy.keeping.domain.auth.enums.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({GroupContributionLedger.class, GroupContributionReconcileScheduler.class,
+        WalletTransferCoordinator.class, TimeConfig.class})
+class GroupContributionLedgerTest {
+
+    @Autowired WalletTransferCoordinator coordinator;
+    @Autowired GroupContributionReconcileScheduler reconciler;
+    @Autowired GroupContributionRepository contributionRepo;
+    @Autowired WalletStoreLotRepository lotRepo;
+    @Autowired WalletRepository walletRepo;
+    @Autowired CustomerRepository customerRepo;
+    @Autowired GroupRepository groupRepo;
+    @Autowired StoreRepository storeRepo;
+    @Autowired TransactionRepository txRepo;
+    @Autowired EntityManager em;
+
+    final LocalDateTime acquired = LocalDateTime.now().withNano(0).minusDays(10);
+    final LocalDateTime expires = LocalDateTime.now().withNano(0).plusDays(300);
+
+    Customer m1, m2;
+    Wallet groupW, m1W, m2W;
+    Store store;
+    Transaction origin1, origin2;
+
+    @BeforeEach
+    void setUp() {
+        m1 = customer(1);
+        m2 = customer(2);
+        Group group = groupRepo.save(Group.builder().groupName("기여모임").groupCode("GC-001").groupDescription("desc").build());
+        groupW = walletRepo.save(Wallet.builder().group(group).walletType(WalletType.GROUP).build());
+        m1W = walletRepo.save(Wallet.builder().customer(m1).walletType(WalletType.INDIVIDUAL).build());
+        m2W = walletRepo.save(Wallet.builder().customer(m2).walletType(WalletType.INDIVIDUAL).build());
+
+        Owner owner = Owner.builder()
+                .providerId("owner-gc").providerType(KAKAO)
+                .email("owner-gc@ex.com").phoneNumber("010-9999-4000")
+                .birth(LocalDate.of(1990, 1, 1)).name("사장님").gender(MALE)
+                .imgUrl("https://img/owner.png").userKey("OWGC").build();
+        em.persist(owner);
+        store = storeRepo.save(Store.builder()
+                .storeName("기여가게").address("서울시 어딘가 4-4")
+                .phoneNumber("02-400-0001").bankAccount("004-0000-000001")
+                .category("FOOD").imgUrl("https://img/store.png")
+                .taxIdNumber("423-45-67891").storeStatus(StoreStatus.ACTIVE)
+                .owner(owner).merchantId(400L).build());
+
+        origin1 = charge(m1W, m1);
+        origin2 = charge(m2W, m2);
+    }
+
+    private Customer customer(int n) {
+        return customerRepo.save(Customer.builder()
+                .providerId("pid-gc-" + n).providerType(KAKAO)
+                .email("gc" + n + "@example.com").phoneNumber("010-4000-000" + n)
+                .birth(LocalDate.of(1995, 1, 1)).name("회원" + n).gender(MALE)
+                .imgUrl("https://img/gc.png").userKey("UKGC" + n).build());
+    }
+
+    private Transaction charge(Wallet w, Customer c) {
+        return txRepo.save(Transaction.builder()
+                .wallet(w).customer(c).store(store)
+                .transactionType(TransactionType.CHARGE).amount(1_000L)
+                .transactionUniqueNo("GC-" + w.getWalletId())
+                .createdAt(acquired).build());
+    }
+
+    private WalletStoreLot lot(Wallet owner, Wallet contributor, long remain, Transaction origin) {
+        return lotRepo.save(WalletStoreLot.builder()
+                .wallet(owner).store(store)
+                .amountTotal(remain).amountRemaining(remain)
+                .acquiredAt(acquired).expiredAt(expires)
+                .sourceType(contributor == null ? LotSourceType.CHARGE : LotSourceType.TRANSFER_IN)
+                .contributorWallet(contributor)
+                .originChargeTransaction(origin)
+                .lotStatus(LotStatus.ACTIVE).build());
+    }
+
+    private void balanceRow(Wallet w, long balance) {
+        em.createNativeQuery("""
+                insert into wallet_store_balances (wallet_id, store_id, balance, updated_at)
+                values (?, ?, ?, CURRENT_TIMESTAMP)
+                """)
+                .setParameter(1, w.getWalletId()).setParameter(2, store.getStoreId()).setParameter(3, balance)
+                .executeUpdate();
+    }
+
+    @Test
+    @DisplayName("공유/회수 시 (그룹 지갑, 회원 지갑, 가게) 기여 잔량이 같은 트랜잭션에서 증감")
+    void move_updatesContribution() {
+        lot(m1W, null, 1_000L, origin1);
+        balanceRow(m1W, 1_000L);
+        balanceRow(groupW, 0L);
+        em.flush(); em.clear();
+
+        coordinator.move(new Movement(m1W, groupW, store, 700L, null,
+                ErrorCode.BEFORE_INDIVIDUAL_CHARGE, ErrorCode.OVER_INDIVIDUAL_POINT));
+        em.flush();
+        assertThat(contributionRepo.sumByStoreAndCustomer(groupW.getWalletId(), store.getStoreId(), m1.getCustomerId()))
+                .isEqualTo(700L);
+
+        coordinator.move(new Movement(groupW, m1W, store, 300L, m1W.getWalletId(),
+                ErrorCode.BEFORE_GROUP_CHARGE, ErrorCode.OVER_GROUP_POINT));
+        em.flush();
+        assertThat(contributionRepo.sumByStoreAndCustomer(groupW.getWalletId(), store.getStoreId(), m1.getCustomerId()))
+                .isEqualTo(400L);
+        assertThat(contributionRepo.sumByCustomer(groupW.getWalletId(), m1.getCustomerId())).isEqualTo(400L);
+        assertThat(contributionRepo.sumByCustomer(groupW.getWalletId(), m2.getCustomerId())).isZero();
+    }
+
+    @Test
+    @DisplayName("재계산: 요약이 없거나 어긋난 행을 그룹 LOT 기준으로 채우고 보정")
+    void reconcile_rebuildsAndFixesDrift() {
+        lot(groupW, m1W, 300L, origin1);
+        lot(groupW, m1W, 200L, origin1);
+        lot(groupW, m2W, 400L, origin2);
+        balanceRow(groupW, 900L);
+        em.flush(); em.clear();
+
+        GroupContributionLedger.ReconcileResult first = reconciler.reconcile(groupW.getWalletId());
+        assertThat(first.drifted()).isEqualTo(2);
+        assertThat(contributionRepo.sumByCustomer(groupW.getWalletId(), m1.getCustomerId())).isEqualTo(500L);
+        assertThat(contributionRepo.sumByCustomer(groupW.getWalletId(), m2.getCustomerId())).isEqualTo(400L);
+
+        // 요약만 어긋나게 만든 뒤 다시 재계산
+        contributionRepo.addAmount(groupW.getWalletId(), m2W.getWalletId(), store.getStoreId(), 50L, LocalDateTime.now());
+        GroupContributionLedger.ReconcileResult second = reconciler.reconcile(groupW.getWalletId());
+        assertThat(second.drifted()).isEqualTo(1);
+        assertThat(second.driftAmount()).isEqualTo(50L);
+        assertThat(contributionRepo.sumByCustomer(groupW.getWalletId(), m2.getCustomerId())).isEqualTo(400L);
+
+        assertThat(reconciler.reconcile(groupW.getWalletId()).drifted()).isZero();
+    }
+
+    @Test
+    @DisplayName("기동 백필: 요약이 비어 있고 기여 LOT 이 있으면 전체 재계산, 이미 채워져 있으면 건너뜀")
+    void backfillIfEmpty_fillsOnlyWhenSummaryIsEmpty() {
+        lot(groupW, m1W, 300L, origin1);
+        lot(groupW, m2W, 400L, origin2);
+        balanceRow(groupW, 700L);
+        em.flush(); em.clear();
+        assertThat(contributionRepo.count()).isZero();
+
+        GroupContributionReconcileScheduler.RunStats stats = reconciler.backfillIfEmpty();
+        assertThat(stats).isNotNull();
+        assertThat(stats.drifted()).isEqualTo(2);
+        assertThat(contributionRepo.sumByCustomer(groupW.getWalletId(), m1.getCustomerId())).isEqualTo(300L);
+        assertThat(contributionRepo.sumByCustomer(groupW.getWalletId(), m2.getCustomerId())).isEqualTo(400L);
+
+        assertThat(reconciler.backfillIfEmpty()).isNull();
+    }
+
+    @Test
+    @DisplayName("만료됐지만 배치가 아직 쓸지 않은 기여 LOT: 요약에는 남아 있고, 조회 시 빼면 회수 가능한 양과 같음")
+    void unsweptExpiredLots_subtractedOnRead() {
+        lot(groupW, m1W, 300L, origin1);
+        WalletStoreLot expired = lot(groupW, m1W, 200L, origin1);
+        balanceRow(groupW, 500L);
+        em.flush();
+        em.createQuery("update WalletStoreLot l set l.expiredAt = :at where l.lotId = :id")
+                .setParameter("at", LocalDateTime.now().minusMinutes(10))
+                .setParameter("id", expired.getLotId())
+                .executeUpdate();
+        em.clear();
+        reconciler.reconcile(groupW.getWalletId());
+
+        LocalDateTime now = LocalDateTime.now();
+        long summary = contributionRepo.sumByStoreAndCustomer(groupW.getWalletId(), store.getStoreId(), m1.getCustomerId());
+        long unswept = lotRepo.sumUnsweptExpiredByStoreAndContributor(
+                groupW.getWalletId(), store.getStoreId(), m1.getCustomerId(), now);
+        long reclaimable = lotRepo.findReclaimableByStore(groupW.getWalletId(), store.getStoreId(), m1.getCustomerId(), now)
+                .stream().mapToLong(WalletStoreLot::getAmountRemaining).sum();
+
+        assertThat(summary).isEqualTo(500L);
+        assertThat(unswept).isEqualTo(200L);
+        assertThat(summary - unswept).isEqualTo(reclaimable).isEqualTo(300L);
+        assertThat(lotRepo.sumUnsweptExpiredByContributor(groupW.getWalletId(), m1.getCustomerId(), now)).isEqualTo(200L);
+        assertThat(lotRepo.sumUnsweptExpiredByContributor(groupW.getWalletId(), m2.getCustomerId(), now)).isZero();
+    }
+}
@@ -0,0 +1,156 @@
+package com.ssafy.keeping.wallet;
+
+import com.ssafy.keeping.domain.group.model.Group;
+import com.ssafy.keeping.domain.group.repository.GroupRepository;
+import com.ssafy.keeping.domain.payment.common.IdUtil;
+import com.ssafy.keeping.domain.payment.transactions.constant.TransactionType;
+import com.ssafy.keeping.domain.payment.transactions.model.Transaction;
+import com.ssafy.keeping.domain.payment.transactions.repository.TransactionRepository;
+import com.ssafy.keeping.domain.store.constant.StoreStatus;
+import com.ssafy.keeping.domain.store.model.Store;
+import com.ssafy.keeping.domain.store.repository.StoreRepository;
+import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
+import com.ssafy.keeping.domain.user.owner.model.Owner;
+import com.ssafy.keeping.domain.wallet.constant.WalletType;
+import com.ssafy.keeping.domain.wallet.model.Wallet;
+import com.ssafy.keeping.domain.wallet.repository.ShareSettlementJdbcRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletRepository;
+import com.ssafy.keeping.domain.wallet.service.GroupContributionLedger;
+import com.ssafy.keeping.domain.wallet.service.GroupShareSettlementService;
+import com.ssafy.keeping.domain.wallet.service.WalletTransferCoordinator;
+import com.ssafy.keeping.global.config.TimeConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ssafy.keeping.domain.auth.enums.AuthProvider.KAKAO;
+import static com.ssafy.keeping.domain.auth.enums.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 100명 × 가게 20곳 모임 해체 정산 (기본 test 에서는 제외, ./gradlew benchmark 로 실행)
+ * - (회원, 가게)마다 원천충전 1건, 기여 로트 3건 → 로트 6,000건
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({GroupShareSettlementService.class, ShareSettlementJdbcRepository.class,
+        WalletTransferCoordinator.class, GroupContributionLedger.class, TimeConfig.class})
+class GroupShareSettlementBenchmarkTest {
+
+    private static final int MEMBERS = 100;
+    private static final int STORES = 20;
+    private static final int LOTS_PER_PAIR = 3;
+    private static final long LOT_AMOUNT = 1_000L;
+
+    @Autowired GroupShareSettlementService settlementService;
+    @Autowired CustomerRepository customerRepo;
+    @Autowired WalletRepository walletRepo;
+    @Autowired GroupRepository groupRepo;
+    @Autowired StoreRepository storeRepo;
+    @Autowired TransactionRepository txRepo;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EntityManager em;
+
+    @Test
+    @DisplayName("100명 × 20가게 모임 해체 정산: 로트 6,000건 일괄 처리")
+    void disbandLargeGroup() {
+        LocalDateTime acquired = LocalDateTime.now().withNano(0).minusDays(30);
+        LocalDateTime expires = acquired.plusYears(1);
+
+        Owner owner = Owner.builder()
+                .providerId("owner-bench").providerType(KAKAO)
+                .email("owner-bench@ex.com").phoneNumber("010-9999-2000")
+                .birth(LocalDate.of(1990, 1, 1)).name("사장님").gender(MALE)
+                .imgUrl("https://img/owner.png").userKey("OWB").build();
+        em.persist(owner);
+
+        List<Store> stores = new ArrayList<>();
+        for (int s = 0; s < STORES; s++) {
+            stores.add(storeRepo.save(Store.builder()
+                    .storeName("벤치가게" + s).address("서울시 " + s)
+                    .phoneNumber("02-200-" + s).bankAccount("002-" + s)
+                    .category("FOOD").imgUrl("https://img/store.png")
+                    .taxIdNumber("300-00-" + s).storeStatus(StoreStatus.ACTIVE)
+                    .owner(owner).merchantId(1_000L + s).build()));
+        }
+
+        Group group = groupRepo.save(Group.builder().groupName("대형모임").groupCode("BENCH-1").groupDescription("bench").build());
+        Wallet groupW = walletRepo.save(Wallet.builder().group(group).walletType(WalletType.GROUP).build());
+
+        List<Long> memberIds = new ArrayList<>();
+        List<Object[]> lots = new ArrayList<>();
+        for (int m = 0; m < MEMBERS; m++) {
+            Customer c = customerRepo.save(Customer.builder()
+                    .providerId("pid-bench-" + m).providerType(KAKAO)
+                    .email("bench" + m + "@example.com").phoneNumber("010-3000-" + m)
+                    .birth(LocalDate.of(1995, 1, 1)).name("회원" + m).gender(MALE)
+                    .imgUrl("https://img/b.png").userKey("UKB" + m).build());
+            Wallet w = walletRepo.save(Wallet.builder().customer(c).walletType(WalletType.INDIVIDUAL).build());
+            memberIds.add(c.getCustomerId());
+
+            for (Store s : stores) {
+                Transaction origin = txRepo.save(Transaction.builder()
+                        .wallet(w).customer(c).store(s)
+                        .transactionType(TransactionType.CHARGE).amount(LOT_AMOUNT * LOTS_PER_PAIR)
+                        .transactionUniqueNo("B-" + m + "-" + s.getStoreId())
+                        .createdAt(acquired).build());
+                for (int l = 0; l < LOTS_PER_PAIR; l++) {
+                    lots.add(new Object[]{IdUtil.newLedgerId(), groupW.getWalletId(), s.getStoreId(), LOT_AMOUNT, LOT_AMOUNT,
+                            Timestamp.valueOf(acquired.plusMinutes(l)), Timestamp.valueOf(expires),
+                            w.getWalletId(), origin.getTransactionId()});
+                }
+            }
+        }
+        em.flush();
+
+        jdbc.batchUpdate("""
+                INSERT INTO wallet_store_lot
+                    (lot_id, wallet_id, store_id, amount_total, amount_remaining, acquired_at, expired_at,
+                     source_type, contributor_wallet_id, origin_charge_tx_id, lot_status)
+                VALUES (?, ?, ?, ?, ?, ?, ?, 'TRANSFER_IN', ?, ?, 'ACTIVE')
+                """, lots);
+        long perStore = MEMBERS * LOTS_PER_PAIR * LOT_AMOUNT;
+        List<Object[]> balances = stores.stream()
+                .map(s -> new Object[]{groupW.getWalletId(), s.getStoreId(), perStore})
+                .toList();
+        jdbc.batchUpdate("""
+                INSERT INTO wallet_store_balances (wallet_id, store_id, balance, updated_at)
+                VALUES (?, ?, ?, CURRENT_TIMESTAMP)
+                """, balances);
+        em.clear();
+
+        long started = System.nanoTime();
+        GroupShareSettlementService.SettlementResult result = settlementService.settle(groupW.getWalletId(), memberIds);
+        double elapsedMs = (System.nanoTime() - started) / 1e6;
+
+        int pairs = MEMBERS * STORES;
+        // 기존 로트 단위 경로: 로트마다 적립로트 조회 + 생성/가산 + 거래 2건 + 로트 차감 ≥ 5문장
+        int legacyStatements = lots.size() * 5;
+        System.out.printf("[settlement] members=%d stores=%d lots=%d -> %.1f ms (%.0f lots/s), " +
+                        "transactions=%d (legacy %d), dest lots inserted=%d, legacy statements>=%d%n",
+                MEMBERS, STORES, lots.size(), elapsedMs, lots.size() / (elapsedMs / 1000.0),
+                result.transactions(), lots.size() * 2, result.destinationLotsInserted(), legacyStatements);
+
+        assertThat(result.sourceLots()).isEqualTo(lots.size());
+        assertThat(result.transactions()).isEqualTo(pairs * 2);
+        assertThat(result.destinationLotsInserted()).isEqualTo(pairs);
+        assertThat(result.totalRefunded()).isEqualTo(perStore * STORES);
+        assertThat(jdbc.queryForObject(
+                "SELECT COALESCE(SUM(balance), 0) FROM wallet_store_balances WHERE wallet_id = ?",
+                Long.class, groupW.getWalletId())).isZero();
+    }
+}
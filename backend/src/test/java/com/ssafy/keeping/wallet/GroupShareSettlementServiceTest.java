@@ -0,0 +1,230 @@
+package com.ssafy.keeping.wallet;
+
+import com.ssafy.keeping.domain.group.model.Group;
+import com.ssafy.keeping.domain.group.repository.GroupRepository;
+import com.ssafy.keeping.domain.payment.transactions.constant.TransactionType;
+import com.ssafy.keeping.domain.payment.transactions.model.Transaction;
+import com.ssafy.keeping.domain.payment.transactions.repository.TransactionRepository;
+import com.ssafy.keeping.domain.store.constant.StoreStatus;
+import com.ssafy.keeping.domain.store.model.Store;
+import com.ssafy.keeping.domain.store.repository.StoreRepository;
+import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
+import com.ssafy.keeping.domain.user.owner.model.Owner;
+import com.ssafy.keeping.domain.wallet.constant.LotSourceType;
+import com.ssafy.keeping.domain.wallet.constant.LotStatus;
+import com.ssafy.keeping.domain.wallet.constant.WalletType;
+import com.ssafy.keeping.domain.wallet.model.Wallet;
+import com.ssafy.keeping.domain.wallet.model.WalletStoreLot;
+import com.ssafy.keeping.domain.wallet.repository.ShareSettlementJdbcRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletStoreLotRepository;
+import com.ssafy.keeping.domain.wallet.service.GroupContributionLedger;
+import com.ssafy.keeping.domain.wallet.service.GroupShareSettlementService;
+import com.ssafy.keeping.domain.wallet.service.WalletTransferCoordinator;
+import com.ssafy.keeping.global.config.TimeConfig;
+import com.ssafy.keeping.global.exception.CustomException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.ssafy.keeping.domain.auth.enums.AuthProvider.KAKAO;
+import static com.ssafy.keeping.domain.auth.enums.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({GroupShareSettlementService.class, ShareSettlementJdbcRepository.class,
+        WalletTransferCoordinator.class, GroupContributionLedger.class, TimeConfig.class})
+class GroupShareSettlementServiceTest {
+
+    @Autowired GroupShareSettlementService settlementService;
+    @Autowired WalletStoreLotRepository lotRepo;
+    @Autowired WalletRepository walletRepo;
+    @Autowired CustomerRepository customerRepo;
+    @Autowired GroupRepository groupRepo;
+    @Autowired StoreRepository storeRepo;
+    @Autowired TransactionRepository txRepo;
+    @Autowired EntityManager em;
+
+    final LocalDateTime acquired = LocalDateTime.now().withNano(0).minusDays(10);
+    final LocalDateTime expires = LocalDateTime.now().withNano(0).plusDays(300);
+
+    Customer m1, m2, m3;
+    Wallet groupW, m1W, m2W, m3W;
+    Store storeA, storeB;
+
+    @BeforeEach
+    void setUp() {
+        m1 = customer(1);
+        m2 = customer(2);
+        m3 = customer(3);
+        Group group = groupRepo.save(Group.builder().groupName("정산모임").groupCode("GS-001").groupDescription("desc").build());
+        groupW = walletRepo.save(Wallet.builder().group(group).walletType(WalletType.GROUP).build());
+        m1W = walletRepo.save(Wallet.builder().customer(m1).walletType(WalletType.INDIVIDUAL).build());
+        m2W = walletRepo.save(Wallet.builder().customer(m2).walletType(WalletType.INDIVIDUAL).build());
+        m3W = walletRepo.save(Wallet.builder().customer(m3).walletType(WalletType.INDIVIDUAL).build());
+
+        Owner owner = Owner.builder()
+                .providerId("owner-gs").providerType(KAKAO)
+                .email("owner-gs@ex.com").phoneNumber("010-9999-1000")
+                .birth(LocalDate.of(1990, 1, 1)).name("사장님").gender(MALE)
+                .imgUrl("https://img/owner.png").userKey("OWGS").build();
+        em.persist(owner);
+        storeA = store(owner, 1);
+        storeB = store(owner, 2);
+    }
+
+    private Customer customer(int n) {
+        return customerRepo.save(Customer.builder()
+                .providerId("pid-gs-" + n).providerType(KAKAO)
+                .email("gs" + n + "@example.com").phoneNumber("010-1000-000" + n)
+                .birth(LocalDate.of(1995, 1, 1)).name("회원" + n).gender(MALE)
+                .imgUrl("https://img/gs.png").userKey("UKGS" + n).build());
+    }
+
+    private Store store(Owner owner, int n) {
+        return storeRepo.save(Store.builder()
+                .storeName("정산가게" + n).address("서울시 어딘가 " + n)
+                .phoneNumber("02-100-000" + n).bankAccount("001-1000-00000" + n)
+                .category("FOOD").imgUrl("https://img/store.png")
+                .taxIdNumber("223-45-6789" + n).storeStatus(StoreStatus.ACTIVE)
+                .owner(owner).merchantId(100L + n).build());
+    }
+
+    private Transaction charge(Wallet w, Customer c, Store s, long amount) {
+        return txRepo.save(Transaction.builder()
+                .wallet(w).customer(c).store(s)
+                .transactionType(TransactionType.CHARGE).amount(amount)
+                .transactionUniqueNo("GS-" + System.nanoTime())
+                .createdAt(acquired).build());
+    }
+
+    private WalletStoreLot lot(Wallet owner, Wallet contributor, Store s, long remain, Transaction origin) {
+        return lotRepo.save(WalletStoreLot.builder()
+                .wallet(owner).store(s)
+                .amountTotal(remain).amountRemaining(remain)
+                .acquiredAt(acquired).expiredAt(expires)
+                .sourceType(LotSourceType.TRANSFER_IN)
+                .contributorWallet(contributor)
+                .originChargeTransaction(origin)
+                .lotStatus(LotStatus.ACTIVE).build());
+    }
+
+    private void balanceRow(Wallet w, Store s, long balance) {
+        em.createNativeQuery("""
+                insert into wallet_store_balances (wallet_id, store_id, balance, updated_at)
+                values (?, ?, ?, CURRENT_TIMESTAMP)
+                """)
+                .setParameter(1, w.getWalletId()).setParameter(2, s.getStoreId()).setParameter(3, balance)
+                .executeUpdate();
+    }
+
+    private long balance(Wallet w, Store s) {
+        return ((Number) em.createNativeQuery(
+                        "select balance from wallet_store_balances where wallet_id = ? and store_id = ?")
+                .setParameter(1, w.getWalletId()).setParameter(2, s.getStoreId())
+                .getSingleResult()).longValue();
+    }
+
+    @Test
+    @DisplayName("회원/가게/원천충전 단위로 합산 적립, 잔액 이동, 거래는 회원/가게별 1쌍")
+    void settle_aggregatesPerMemberStoreOrigin() {
+        Transaction oA = charge(m1W, m1, storeA, 1_000L);
+        Transaction oB = charge(m1W, m1, storeA, 1_000L);
+        Transaction oC = charge(m2W, m2, storeB, 1_000L);
+
+        WalletStoreLot g1 = lot(groupW, m1W, storeA, 300L, oA);
+        WalletStoreLot g2 = lot(groupW, m1W, storeA, 200L, oA);
+        lot(groupW, m1W, storeA, 100L, oB);
+        lot(groupW, m2W, storeB, 400L, oC);
+        // m1 개인 지갑에는 oA 기준 적립 로트가 이미 있음 → 새로 만들지 않고 가산
+        WalletStoreLot existing = lot(m1W, groupW, storeA, 50L, oA);
+
+        balanceRow(groupW, storeA, 600L);
+        balanceRow(groupW, storeB, 400L);
+        balanceRow(m1W, storeA, 50L);
+        em.flush(); em.clear();
+
+        GroupShareSettlementService.SettlementResult result = settlementService.settle(
+                groupW.getWalletId(), List.of(m1.getCustomerId(), m2.getCustomerId(), m3.getCustomerId()));
+        em.clear();
+
+        assertThat(result.refundedByMember()).containsExactly(
+                Map.entry(m1.getCustomerId(), 600L),
+                Map.entry(m2.getCustomerId(), 400L),
+                Map.entry(m3.getCustomerId(), 0L));
+        assertThat(result.sourceLots()).isEqualTo(4);
+        assertThat(result.destinationLotsUpdated()).isEqualTo(1);
+        assertThat(result.destinationLotsInserted()).isEqualTo(2);
+        assertThat(result.transactions()).isEqualTo(4);
+        assertThat(result.skippedMembers()).isEmpty();
+
+        assertThat(balance(groupW, storeA)).isZero();
+        assertThat(balance(groupW, storeB)).isZero();
+        assertThat(balance(m1W, storeA)).isEqualTo(650L);
+        assertThat(balance(m2W, storeB)).isEqualTo(400L); // 잔액 행이 없던 경우 생성
+
+        assertThat(lotRepo.findById(g1.getLotId()).orElseThrow().getAmountRemaining()).isZero();
+        assertThat(lotRepo.findById(g2.getLotId()).orElseThrow().getAmountRemaining()).isZero();
+        WalletStoreLot merged = lotRepo.findById(existing.getLotId()).orElseThrow();
+        assertThat(merged.getAmountRemaining()).isEqualTo(550L);
+        assertThat(merged.getAmountTotal()).isEqualTo(550L);
+
+        WalletStoreLot created = lotRepo.findByWalletIdAndStoreIdAndOriginChargeTxIdAndSourceType(
+                m2W.getWalletId(), storeB.getStoreId(), oC.getTransactionId(), LotSourceType.TRANSFER_IN).orElseThrow();
+        assertThat(created.getAmountRemaining()).isEqualTo(400L);
+        assertThat(created.getContributorWallet().getWalletId()).isEqualTo(groupW.getWalletId());
+        assertThat(created.getExpiredAt()).isEqualTo(expires);
+
+        List<Transaction> transfers = txRepo.findAll().stream()
+                .filter(t -> t.getTransactionType() == TransactionType.TRANSFER_IN
+                        || t.getTransactionType() == TransactionType.TRANSFER_OUT)
+                .toList();
+        assertThat(transfers).hasSize(4);
+        assertThat(transfers).filteredOn(t -> t.getCustomer().getCustomerId().equals(m1.getCustomerId()))
+                .extracting(Transaction::getAmount).containsOnly(600L);
+    }
+
+    @Test
+    @DisplayName("그룹 잔액이 기여 로트 합계보다 작으면 INCONSISTENT_STATE")
+    void settle_groupBalanceShort_throws() {
+        Transaction oA = charge(m1W, m1, storeA, 1_000L);
+        lot(groupW, m1W, storeA, 300L, oA);
+        balanceRow(groupW, storeA, 100L);
+        em.flush(); em.clear();
+
+        assertThatThrownBy(() -> settlementService.settle(groupW.getWalletId(), List.of(m1.getCustomerId())))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("개인 지갑이 없는 회원은 조용히 빠지지 않고 skippedMembers 로 보고")
+    void settle_memberWithoutWallet_reported() {
+        Customer noWallet = customer(4);
+        Transaction oA = charge(m1W, m1, storeA, 1_000L);
+        lot(groupW, m1W, storeA, 300L, oA);
+        balanceRow(groupW, storeA, 300L);
+        em.flush(); em.clear();
+
+        long before = settlementService.skippedMembersTotal();
+        GroupShareSettlementService.SettlementResult result = settlementService.settle(
+                groupW.getWalletId(), List.of(m1.getCustomerId(), noWallet.getCustomerId()));
+
+        assertThat(result.refundedByMember()).containsEntry(m1.getCustomerId(), 300L)
+                .containsEntry(noWallet.getCustomerId(), 0L);
+        assertThat(result.skippedMembers()).containsExactly(noWallet.getCustomerId());
+        assertThat(settlementService.skippedMembersTotal()).isEqualTo(before + 1);
+    }
+}
@@ -0,0 +1,219 @@
+package com.ssafy.keeping.wallet;
+
+import com.ssafy.keeping.domain.payment.transactions.constant.TransactionType;
+import com.ssafy.keeping.domain.payment.transactions.model.Transaction;
+import com.ssafy.keeping.domain.payment.transactions.repository.TransactionRepository;
+import com.ssafy.keeping.domain.store.constant.StoreStatus;
+import com.ssafy.keeping.domain.store.model.Store;
+import com.ssafy.keeping.domain.store.repository.StoreRepository;
+import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
+import com.ssafy.keeping.domain.user.owner.model.Owner;
+import com.ssafy.keeping.domain.wallet.constant.LotSourceType;
+import com.ssafy.keeping.domain.wallet.constant.LotStatus;
+import com.ssafy.keeping.domain.wallet.constant.WalletType;
+import com.ssafy.keeping.domain.wallet.model.Wallet;
+import com.ssafy.keeping.domain.wallet.model.WalletLotMove;
+import com.ssafy.keeping.domain.wallet.model.WalletStoreLot;
+import com.ssafy.keeping.domain.wallet.repository.WalletLotMoveRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletStoreLotRepository;
+import com.ssafy.keeping.domain.wallet.service.GroupContributionLedger;
+import com.ssafy.keeping.domain.wallet.service.LotExpiryService;
+import com.ssafy.keeping.domain.wallet.service.WalletTransferCoordinator;
+import com.ssafy.keeping.global.config.TimeConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.ssafy.keeping.domain.auth.enums.AuthProvider.KAKAO;
+import static com.ssafy.keeping.domain.auth.enums.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({LotExpiryService.class, GroupContributionLedger.class, WalletTransferCoordinator.class, TimeConfig.class})
+class LotExpiryServiceTest {
+
+    @Autowired LotExpiryService lotExpiryService;
+    @Autowired WalletStoreLotRepository lotRepo;
+    @Autowired WalletLotMoveRepository moveRepo;
+    @Autowired WalletRepository walletRepo;
+    @Autowired CustomerRepository customerRepo;
+    @Autowired StoreRepository storeRepo;
+    @Autowired TransactionRepository txRepo;
+    @Autowired EntityManager em;
+
+    final LocalDateTime now = LocalDateTime.of(2025, 9, 1, 12, 0);
+
+    Customer customer;
+    Wallet wallet;
+    Store store;
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepo.save(Customer.builder()
+                .providerId("pid-exp").providerType(KAKAO)
+                .email("exp@example.com").phoneNumber("010-0000-0003")
+                .birth(LocalDate.of(1995, 1, 1)).name("만료고객").gender(MALE)
+                .imgUrl("https://img/3.png").userKey("UK3").build());
+        wallet = walletRepo.save(Wallet.builder().customer(customer).walletType(WalletType.INDIVIDUAL).build());
+
+        Owner owner = Owner.builder()
+                .providerId("owner-exp").providerType(KAKAO)
+                .email("owner-exp@ex.com").phoneNumber("010-9999-0000")
+                .birth(LocalDate.of(1990, 1, 1)).name("사장님").gender(MALE)
+                .imgUrl("https://img/owner.png").userKey("OW2").build();
+        em.persist(owner);
+
+        store = storeRepo.save(Store.builder()
+                .storeName("만료가게").address("서울시 어딘가 2-2")
+                .phoneNumber("02-000-0001").bankAccount("001-0000-000001")
+                .category("FOOD").imgUrl("https://img/store.png")
+                .taxIdNumber("123-45-67891").storeStatus(StoreStatus.ACTIVE)
+                .owner(owner).merchantId(2L).build());
+
+        // updated_at 이 insertable=false 라 잔액 행은 직접 삽입
+        em.createNativeQuery("""
+                insert into wallet_store_balances (wallet_id, store_id, balance, updated_at)
+                values (?, ?, ?, CURRENT_TIMESTAMP)
+                """)
+                .setParameter(1, wallet.getWalletId())
+                .setParameter(2, store.getStoreId())
+                .setParameter(3, 1_000L)
+                .executeUpdate();
+    }
+
+    private WalletStoreLot lot(long total, long remain, LocalDateTime exp) {
+        Transaction origin = txRepo.save(Transaction.builder()
+                .wallet(wallet).customer(customer).store(store)
+                .transactionType(TransactionType.CHARGE).amount(total)
+                .transactionUniqueNo("U-" + System.nanoTime())
+                .createdAt(exp.minusYears(1)).build());
+        return lotRepo.save(WalletStoreLot.builder()
+                .wallet(wallet).store(store)
+                .amountTotal(total).amountRemaining(remain)
+                .acquiredAt(exp.minusYears(1)).expiredAt(exp)
+                .sourceType(LotSourceType.CHARGE)
+                .originChargeTransaction(origin)
+                .lotStatus(LotStatus.ACTIVE).build());
+    }
+
+    private long balance() {
+        return ((Number) em.createNativeQuery(
+                        "select balance from wallet_store_balances where wallet_id = ? and store_id = ?")
+                .setParameter(1, wallet.getWalletId())
+                .setParameter(2, store.getStoreId())
+                .getSingleResult()).longValue();
+    }
+
+    @Test
+    @DisplayName("만료된 로트만 EXPIRED + 남은 양 0, 만료 거래/로트 이동 기록, 잔액은 합계만큼 차감")
+    void expireBatch_expiresOnlyPastLots() {
+        WalletStoreLot a = lot(500L, 300L, now.minusDays(2));
+        WalletStoreLot b = lot(400L, 200L, now.minusDays(1));
+        WalletStoreLot used = lot(300L, 0L, now.minusDays(1));   // 다 쓴 로트: 상태만 정리
+        WalletStoreLot live = lot(500L, 500L, now.plusDays(3));  // 미만료
+        em.flush(); em.clear();
+
+        LotExpiryService.ExpireBatch batch = lotExpiryService.expireBatch(
+                now, LotExpiryService.CURSOR_START, 0L, 100);
+        em.clear();
+
+        assertThat(batch.lots()).isEqualTo(3);
+        assertThat(batch.points()).isEqualTo(500L);
+        assertThat(batch.balances()).isEqualTo(1);
+        assertThat(batch.clampedBalances()).isZero();
+        assertThat(batch.lastLotId()).isEqualTo(used.getLotId());
+        assertThat(balance()).isEqualTo(500L);
+
+        for (Long id : List.of(a.getLotId(), b.getLotId(), used.getLotId())) {
+            WalletStoreLot expired = lotRepo.findById(id).orElseThrow();
+            assertThat(expired.getLotStatus()).isEqualTo(LotStatus.EXPIRED);
+            assertThat(expired.getAmountRemaining()).isZero();
+        }
+        assertThat(lotRepo.findById(live.getLotId()).orElseThrow().getLotStatus()).isEqualTo(LotStatus.ACTIVE);
+
+        List<WalletLotMove> moves = moveRepo.findByLot_LotId(a.getLotId());
+        assertThat(moves).hasSize(1);
+        assertThat(moves.get(0).getDelta()).isEqualTo(-300L);
+        Transaction expireTx = moves.get(0).getTransaction();
+        assertThat(expireTx.getTransactionType()).isEqualTo(TransactionType.EXPIRE);
+        assertThat(expireTx.getAmount()).isEqualTo(500L);
+        assertThat(moveRepo.findByTransaction_TransactionId(expireTx.getTransactionId())).hasSize(2);
+        assertThat(moveRepo.findByLot_LotId(used.getLotId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("keyset 커서: 배치 크기만큼 나눠 처리하고 두 번째 배치는 이어서 진행")
+    void expireBatch_keysetCursorAdvances() {
+        lot(100L, 100L, now.minusDays(3));
+        lot(100L, 100L, now.minusDays(2));
+        lot(100L, 100L, now.minusDays(1));
+        em.flush(); em.clear();
+
+        LotExpiryService.ExpireBatch first = lotExpiryService.expireBatch(
+                now, LotExpiryService.CURSOR_START, 0L, 2);
+        LotExpiryService.ExpireBatch second = lotExpiryService.expireBatch(
+                now, first.lastExpiredAt(), first.lastLotId(), 2);
+        LotExpiryService.ExpireBatch third = lotExpiryService.expireBatch(
+                now, second.lastExpiredAt(), second.lastLotId(), 2);
+
+        assertThat(first.lots()).isEqualTo(2);
+        assertThat(second.lots()).isEqualTo(1);
+        assertThat(third.lots()).isZero();
+        assertThat(balance()).isEqualTo(700L);
+    }
+
+    @Test
+    @DisplayName("잔액이 만료분보다 작게 어긋나 있으면 0 으로 맞추고 보정 건수로 드러냄")
+    void expireBatch_clampsDriftedBalanceAndCountsIt() {
+        lot(800L, 800L, now.minusDays(1));
+        em.createNativeQuery("update wallet_store_balances set balance = 300 where wallet_id = ? and store_id = ?")
+                .setParameter(1, wallet.getWalletId())
+                .setParameter(2, store.getStoreId())
+                .executeUpdate();
+        em.flush(); em.clear();
+
+        LotExpiryService.ExpireBatch batch = lotExpiryService.expireBatch(
+                now, LotExpiryService.CURSOR_START, 0L, 100);
+        em.clear();
+
+        assertThat(batch.points()).isEqualTo(800L);
+        assertThat(batch.balances()).isEqualTo(1);
+        assertThat(batch.clampedBalances()).isEqualTo(1);
+        assertThat(balance()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 예정 알림: 기간 내 로트를 고객/가게별로 합산하고 한 번만 선점")
+    void claimExpiryNotices_aggregatesAndClaimsOnce() {
+        lot(300L, 300L, now.plusDays(2));
+        lot(200L, 150L, now.plusDays(5));
+        lot(100L, 100L, now.plusDays(30)); // 알림 기간 밖
+        em.flush(); em.clear();
+
+        LotExpiryService.NoticeBatch batch = lotExpiryService.claimExpiryNotices(
+                now, now.plusDays(7), LotExpiryService.CURSOR_START, 0L, 100);
+
+        assertThat(batch.lots()).isEqualTo(2);
+        assertThat(batch.notices()).hasSize(1);
+        LotExpiryService.Notice notice = batch.notices().get(0);
+        assertThat(notice.customerId()).isEqualTo(customer.getCustomerId());
+        assertThat(notice.points()).isEqualTo(450L);
+        assertThat(notice.firstExpiredAt()).isEqualTo(now.plusDays(2));
+
+        LotExpiryService.NoticeBatch again = lotExpiryService.claimExpiryNotices(
+                now, now.plusDays(7), LotExpiryService.CURSOR_START, 0L, 100);
+        assertThat(again.lots()).isZero();
+    }
+}
@@ -13,6 +13,9 @@ import com.ssafy.keeping.domain.idempotency.dto.IdemBegin;
 import com.ssafy.keeping.domain.idempotency.model.IdempotencyKey;
 import com.ssafy.keeping.domain.idempotency.model.IdempotentResult;
 import com.ssafy.keeping.domain.idempotency.service.IdempotencyService;
+import com.ssafy.keeping.domain.idempotency.service.ResponseSnapshotCodecs;
+import com.ssafy.keeping.domain.notification.entity.NotificationType;
+import com.ssafy.keeping.domain.notification.service.NotificationService;
 import com.ssafy.keeping.domain.payment.transactions.model.Transaction;
 import com.ssafy.keeping.domain.payment.transactions.repository.TransactionRepository;
 import com.ssafy.keeping.domain.store.model.Store;
@@ -29,8 +32,11 @@ import com.ssafy.keeping.domain.wallet.model.WalletStoreLot;
 import com.ssafy.keeping.domain.wallet.repository.WalletRepository;
 import com.ssafy.keeping.domain.wallet.repository.WalletStoreBalanceRepository;
 import com.ssafy.keeping.domain.wallet.repository.WalletStoreLotRepository;
+import com.ssafy.keeping.domain.wallet.service.GroupContributionLedger;
 import com.ssafy.keeping.domain.wallet.service.WalletServiceHS;
+import com.ssafy.keeping.domain.wallet.service.WalletTransferCoordinator;
 import com.ssafy.keeping.global.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +44,8 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -60,6 +68,7 @@ class WalletServiceSharePointsUnitTest {
     @Mock TransactionRepository transactionRepository;
     @Mock WalletStoreLotRepository lotRepository;
     @Mock GroupMemberRepository groupMemberRepository;
+    @Mock NotificationService notificationService;
 
     @Mock IdempotencyService idempotencyService;
 
@@ -69,6 +78,18 @@ class WalletServiceSharePointsUnitTest {
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
+    // 재생 경로: 이전 형식(response_json) 스냅샷을 실제 코덱으로 읽음
+    @Spy
+    ResponseSnapshotCodecs snapshotCodecs = new ResponseSnapshotCodecs(canonicalObjectMapper, 512);
+
+    // 잠금 순서/이동 로직은 실제 조정자를 목 레포지토리 위에서 사용
+    @BeforeEach
+    void setUpCoordinator() {
+        ReflectionTestUtils.setField(walletService, "transferCoordinator",
+                new WalletTransferCoordinator(balanceRepository, lotRepository,
+                        mock(GroupContributionLedger.class), mock(PlatformTransactionManager.class), 3, 0));
+    }
+
     private Customer customer(long id) { return Customer.builder().customerId(id).name("U"+id).build(); }
     private Group group(long id) { return Group.builder().groupId(id).groupName("G"+id).groupCode("GC"+id).build(); }
     private Wallet indiv(Customer c) { return Wallet.builder().walletId(101L).walletType(WalletType.INDIVIDUAL).customer(c).build(); }
@@ -110,6 +131,7 @@ class WalletServiceSharePointsUnitTest {
         when(balanceRepository.lockByWalletIdAndStoreId(iw.getWalletId(), storeId)).thenReturn(Optional.of(indivBal));
         when(balanceRepository.lockByWalletIdAndStoreId(gw.getWalletId(), storeId)).thenReturn(Optional.of(groupBal));
         when(lotRepository.lockAllByWalletIdAndStoreIdOrderByAcquiredAt(iw.getWalletId(), storeId)).thenReturn(List.of(srcLot));
+        when(lotRepository.lockAllByWalletIdAndStoreIdOrderByAcquiredAt(gw.getWalletId(), storeId)).thenReturn(List.of());
         when(lotRepository.findByWalletIdAndStoreIdAndOriginChargeTxIdAndSourceType(gw.getWalletId(), storeId, 999L, LotSourceType.TRANSFER_IN))
                 .thenReturn(Optional.empty());
         when(lotRepository.save(any(WalletStoreLot.class))).thenAnswer((Answer<WalletStoreLot>) inv -> inv.getArgument(0));
@@ -148,6 +170,8 @@ class WalletServiceSharePointsUnitTest {
         assertThat(srcLot.getAmountRemaining()).isEqualTo(1_200L);
 
         verify(idempotencyService).completeCharge(any(), eq(201), any());
+        // 트랜잭션 밖(단위 테스트)에서는 afterCommit 이 즉시 실행 → 모임원 알림 1회
+        verify(notificationService).sendToGroupMembers(eq(groupId), any(), eq(NotificationType.GROUP_POINT_SHARED), anyString());
     }
 
     // ---------- 잔액 부족 ----------
@@ -171,6 +195,8 @@ class WalletServiceSharePointsUnitTest {
 
         var indivBal = WalletStoreBalance.builder().wallet(iw).store(s).balance(100L).build();
         when(balanceRepository.lockByWalletIdAndStoreId(iw.getWalletId(), storeId)).thenReturn(Optional.of(indivBal));
+        // 잠금은 walletId 순으로 양쪽 모두 잡은 뒤 잔액 검증
+        when(balanceRepository.lockByWalletIdAndStoreId(gw.getWalletId(), storeId)).thenReturn(Optional.empty());
 
         IdempotencyKey row = mock(IdempotencyKey.class);
         when(row.getStatus()).thenReturn(IdemStatus.IN_PROGRESS);
@@ -190,6 +216,7 @@ class WalletServiceSharePointsUnitTest {
 
         verify(transactionRepository, never()).save(any());
         verify(lotRepository, never()).save(any());
+        verify(lotRepository, never()).lockAllByWalletIdAndStoreIdOrderByAcquiredAt(anyLong(), anyLong());
         verify(idempotencyService, never()).completeCharge(any(), anyInt(), any());
     }
 
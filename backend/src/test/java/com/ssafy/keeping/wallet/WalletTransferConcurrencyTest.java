@@ -0,0 +1,293 @@
+package com.ssafy.keeping.wallet;
+
+import com.ssafy.keeping.domain.group.model.Group;
+import com.ssafy.keeping.domain.group.repository.GroupRepository;
+import com.ssafy.keeping.domain.payment.transactions.constant.TransactionType;
+import com.ssafy.keeping.domain.payment.transactions.model.Transaction;
+import com.ssafy.keeping.domain.payment.transactions.repository.TransactionRepository;
+import com.ssafy.keeping.domain.store.constant.StoreStatus;
+import com.ssafy.keeping.domain.store.model.Store;
+import com.ssafy.keeping.domain.store.repository.StoreRepository;
+import com.ssafy.keeping.domain.user.customer.model.Customer;
+import com.ssafy.keeping.domain.user.customer.repository.CustomerRepository;
+import com.ssafy.keeping.domain.user.owner.model.Owner;
+import com.ssafy.keeping.domain.wallet.constant.LotSourceType;
+import com.ssafy.keeping.domain.wallet.constant.LotStatus;
+import com.ssafy.keeping.domain.wallet.constant.WalletType;
+import com.ssafy.keeping.domain.wallet.model.Wallet;
+import com.ssafy.keeping.domain.wallet.model.WalletStoreLot;
+import com.ssafy.keeping.domain.wallet.repository.ShareSettlementJdbcRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletStoreBalanceRepository;
+import com.ssafy.keeping.domain.wallet.repository.WalletStoreLotRepository;
+import com.ssafy.keeping.domain.wallet.service.GroupContributionLedger;
+import com.ssafy.keeping.domain.wallet.service.GroupShareSettlementService;
+import com.ssafy.keeping.domain.wallet.service.WalletTransferCoordinator;
+import com.ssafy.keeping.domain.wallet.service.WalletTransferCoordinator.Movement;
+import com.ssafy.keeping.global.config.TimeConfig;
+import com.ssafy.keeping.global.exception.CustomException;
+import com.ssafy.keeping.global.exception.constants.ErrorCode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ssafy.keeping.domain.auth.enums.AuthProvider.KAKAO;
+import static com.ssafy.keeping.domain.auth.enums.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 지갑들에 공유/회수/탈퇴 정산/결제를 동시에 돌려 잠금 순서와 잔액·LOT 정합성 확인
+ * - 테스트 트랜잭션 없이 실제 커밋 (각 작업이 자기 트랜잭션에서 행잠금 경쟁)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({WalletTransferCoordinator.class, GroupShareSettlementService.class, GroupContributionLedger.class,
+        ShareSettlementJdbcRepository.class, TimeConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class WalletTransferConcurrencyTest {
+
+    private static final int ROUNDS = 30;
+    private static final int LOTS = 20;
+    private static final long LOT_AMOUNT = 500L;
+    private static final long INITIAL = LOTS * LOT_AMOUNT;
+
+    @Autowired WalletTransferCoordinator coordinator;
+    @Autowired GroupShareSettlementService settlementService;
+    @Autowired WalletStoreBalanceRepository balanceRepo;
+    @Autowired WalletStoreLotRepository lotRepo;
+    @Autowired WalletRepository walletRepo;
+    @Autowired CustomerRepository customerRepo;
+    @Autowired GroupRepository groupRepo;
+    @Autowired StoreRepository storeRepo;
+    @Autowired TransactionRepository txRepo;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EntityManager em;
+
+    TransactionTemplate tx;
+    Customer memberA, memberB;
+    Wallet walletA, walletB, groupW;
+    Store store;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        LocalDateTime acquired = LocalDateTime.now().withNano(0).minusDays(1);
+
+        tx.executeWithoutResult(s -> {
+            Owner owner = Owner.builder()
+                    .providerId("owner-cc").providerType(KAKAO)
+                    .email("owner-cc@ex.com").phoneNumber("010-9999-3000")
+                    .birth(LocalDate.of(1990, 1, 1)).name("사장님").gender(MALE)
+                    .imgUrl("https://img/owner.png").userKey("OWCC").build();
+            em.persist(owner);
+            store = storeRepo.save(Store.builder()
+                    .storeName("동시성가게").address("서울시 어딘가 3-3")
+                    .phoneNumber("02-300-0001").bankAccount("003-0000-000001")
+                    .category("FOOD").imgUrl("https://img/store.png")
+                    .taxIdNumber("323-45-67891").storeStatus(StoreStatus.ACTIVE)
+                    .owner(owner).merchantId(300L).build());
+
+            memberA = customer(1);
+            memberB = customer(2);
+            Group group = groupRepo.save(Group.builder().groupName("동시성모임").groupCode("CC-001").groupDescription("desc").build());
+            groupW = walletRepo.save(Wallet.builder().group(group).walletType(WalletType.GROUP).build());
+            walletA = walletRepo.save(Wallet.builder().customer(memberA).walletType(WalletType.INDIVIDUAL).build());
+            walletB = walletRepo.save(Wallet.builder().customer(memberB).walletType(WalletType.INDIVIDUAL).build());
+
+            chargeLots(walletA, memberA, acquired);
+            chargeLots(walletB, memberB, acquired);
+        });
+
+        // updated_at 이 insertable=false 라 잔액 행은 직접 삽입
+        for (Object[] row : List.of(
+                new Object[]{walletA.getWalletId(), INITIAL},
+                new Object[]{walletB.getWalletId(), INITIAL},
+                new Object[]{groupW.getWalletId(), 0L})) {
+            jdbc.update("""
+                    INSERT INTO wallet_store_balances (wallet_id, store_id, balance, updated_at)
+                    VALUES (?, ?, ?, CURRENT_TIMESTAMP)
+                    """, row[0], store.getStoreId(), row[1]);
+        }
+    }
+
+    private Customer customer(int n) {
+        return customerRepo.save(Customer.builder()
+                .providerId("pid-cc-" + n).providerType(KAKAO)
+                .email("cc" + n + "@example.com").phoneNumber("010-3000-000" + n)
+                .birth(LocalDate.of(1995, 1, 1)).name("회원" + n).gender(MALE)
+                .imgUrl("https://img/cc.png").userKey("UKCC" + n).build());
+    }
+
+    private void chargeLots(Wallet w, Customer c, LocalDateTime acquired) {
+        Transaction origin = txRepo.save(Transaction.builder()
+                .wallet(w).customer(c).store(store)
+                .transactionType(TransactionType.CHARGE).amount(INITIAL)
+                .transactionUniqueNo("CC-" + w.getWalletId())
+                .createdAt(acquired).build());
+        for (int i = 0; i < LOTS; i++) {
+            lotRepo.save(WalletStoreLot.builder()
+                    .wallet(w).store(store)
+                    .amountTotal(LOT_AMOUNT).amountRemaining(LOT_AMOUNT)
+                    .acquiredAt(acquired.plusMinutes(i)).expiredAt(acquired.plusYears(1))
+                    .sourceType(LotSourceType.CHARGE)
+                    .originChargeTransaction(origin)
+                    .lotStatus(LotStatus.ACTIVE).build());
+        }
+    }
+
+    private void share(Wallet from, long amount) {
+        coordinator.execute("share", () -> coordinator.move(new Movement(
+                from, groupW, store, amount, null,
+                ErrorCode.BEFORE_INDIVIDUAL_CHARGE, ErrorCode.OVER_INDIVIDUAL_POINT)));
+    }
+
+    private void reclaim(Wallet to, long amount) {
+        coordinator.execute("reclaim", () -> coordinator.move(new Movement(
+                groupW, to, store, amount, to.getWalletId(),
+                ErrorCode.BEFORE_GROUP_CHARGE, ErrorCode.OVER_GROUP_POINT)));
+    }
+
+    private void leave(Customer member) {
+        coordinator.execute("leave",
+                () -> settlementService.settle(groupW.getWalletId(), List.of(member.getCustomerId())));
+    }
+
+    // FundsService.capture 와 같은 순서: 잔액 원자 차감 → LOT FIFO 조건부 차감
+    private boolean pay(Wallet w, long amount) {
+        return Boolean.TRUE.equals(tx.execute(s -> {
+            if (balanceRepo.decrementIfEnough(w.getWalletId(), store.getStoreId(), amount) != 1) return false;
+            LocalDateTime now = LocalDateTime.now();
+            long remain = amount;
+            for (WalletStoreLot lot : lotRepo.findSpendableLots(w.getWalletId(), store.getStoreId(), now)) {
+                if (remain == 0) break;
+                long use = Math.min(lot.getAmountRemaining(), remain);
+                if (lotRepo.decrementLotIfEnough(lot.getLotId(), use, now) == 1) remain -= use;
+            }
+            if (remain > 0) throw new IllegalStateException("결제 LOT 차감 부족: " + remain);
+            return true;
+        }));
+    }
+
+    private long balance(Wallet w) {
+        return jdbc.queryForObject(
+                "SELECT balance FROM wallet_store_balances WHERE wallet_id = ? AND store_id = ?",
+                Long.class, w.getWalletId(), store.getStoreId());
+    }
+
+    private long lotSum(Wallet w) {
+        return jdbc.queryForObject("""
+                SELECT COALESCE(SUM(amount_remaining), 0) FROM wallet_store_lot
+                 WHERE wallet_id = ? AND store_id = ? AND lot_status = 'ACTIVE'
+                """, Long.class, w.getWalletId(), store.getStoreId());
+    }
+
+    private long contribution(Wallet member) {
+        return jdbc.queryForObject("""
+                SELECT COALESCE(SUM(amount), 0) FROM group_contributions
+                 WHERE group_wallet_id = ? AND member_wallet_id = ? AND store_id = ?
+                """, Long.class, groupW.getWalletId(), member.getWalletId(), store.getStoreId());
+    }
+
+    private long contributedLots(Wallet member) {
+        return jdbc.queryForObject("""
+                SELECT COALESCE(SUM(amount_remaining), 0) FROM wallet_store_lot
+                 WHERE wallet_id = ? AND contributor_wallet_id = ? AND store_id = ? AND lot_status = 'ACTIVE'
+                """, Long.class, groupW.getWalletId(), member.getWalletId(), store.getStoreId());
+    }
+
+    @Test
+    @DisplayName("공유/회수/탈퇴 정산/결제 동시 실행: 교착 없이 잔액 = LOT 합계, 총량 보존")
+    void concurrentShareReclaimLeavePayment() throws Exception {
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        AtomicLong paid = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+
+        List<Runnable> workers = List.of(
+                () -> { for (int i = 0; i < ROUNDS; i++) guard(unexpected, rejected, false, () -> share(walletA, 100L)); },
+                () -> { for (int i = 0; i < ROUNDS; i++) guard(unexpected, rejected, true, () -> reclaim(walletA, 100L)); },
+                () -> {
+                    for (int i = 0; i < ROUNDS; i++) {
+                        guard(unexpected, rejected, false, () -> share(walletB, 100L));
+                        if (i % 3 == 2) guard(unexpected, rejected, false, () -> leave(memberB));
+                    }
+                },
+                () -> {
+                    for (int i = 0; i < ROUNDS; i++) {
+                        guard(unexpected, rejected, false, () -> { if (pay(walletA, 50L)) paid.addAndGet(50L); });
+                    }
+                });
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = workers.stream()
+                .map(w -> pool.submit(() -> { awaitQuietly(start); w.run(); }))
+                .<Future<?>>map(f -> f)
+                .toList();
+        start.countDown();
+        for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        WalletTransferCoordinator.Stats stats = coordinator.stats();
+        System.out.printf("[transfer-stress] rejected=%d paid=%d locks=%d wait=%dms max=%dms conflicts=%d retries=%d%n",
+                rejected.get(), paid.get(), stats.lockAcquisitions(), stats.lockWaitMillis(),
+                stats.maxLockWaitMillis(), stats.lockConflicts(), stats.retries());
+
+        assertThat(unexpected).isEmpty();
+        assertThat(stats.exhausted()).isZero();
+        for (Wallet w : List.of(walletA, walletB, groupW)) {
+            assertThat(balance(w)).as("wallet %d balance = lots", w.getWalletId()).isEqualTo(lotSum(w));
+        }
+        assertThat(balance(walletA) + balance(walletB) + balance(groupW) + paid.get()).isEqualTo(INITIAL * 2);
+        // 모임 기여 요약도 그룹 LOT 의 기여자별 합계와 일치
+        for (Wallet member : List.of(walletA, walletB)) {
+            assertThat(contribution(member)).as("contribution of wallet %d", member.getWalletId())
+                    .isEqualTo(contributedLots(member));
+        }
+    }
+
+    // 잔액 부족 같은 업무 거절은 정상, 그 외(정합성 위반, 재시도 소진, 잠금 실패)는 실패로 수집
+    // 회수는 그룹 잔액이 충분해도 본인 기여 LOT 이 모자라면 INCONSISTENT_STATE 로 롤백 (기존 정책)
+    private static void guard(ConcurrentLinkedQueue<Throwable> unexpected, AtomicLong rejected,
+                              boolean reclaim, Runnable op) {
+        try {
+            op.run();
+        } catch (CustomException e) {
+            ErrorCode code = e.getErrorCode();
+            if (code == ErrorCode.OVER_INDIVIDUAL_POINT || code == ErrorCode.OVER_GROUP_POINT
+                    || (reclaim && code == ErrorCode.INCONSISTENT_STATE)) {
+                rejected.incrementAndGet();
+            } else {
+                unexpected.add(e);
+            }
+        } catch (RuntimeException e) {
+            unexpected.add(e);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
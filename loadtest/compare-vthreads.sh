@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+# 같은 jar 를 플랫폼 스레드 / 가상 스레드 모드로 각각 띄워 k6 혼합 부하 결과와 메모리(RSS)를 비교한다.
+# 사용: ./compare-vthreads.sh path/to/app.jar [VUS]
+# 필요: JDK 21 java, k6, 로컬 MySQL/Redis/Kafka (application.yml 기준)
+# 외부 카드 결제: FINANCE_BASE_URL 이 없으면 SSAFY 금융 API 대역(./gradlew stubFinance, 지연 FINANCE_LATENCY_MS)을 띄워 사용
+# 선결제 쓰기 경로는 TOKEN / CUSTOMER_ID(계좌/카드 준비가 끝난 고객)가 있어야 성공 응답
+set -euo pipefail
+
+JAR=${1:?jar path required}
+VUS=${2:-2000}
+PORT=${PORT:-8080}
+OUT=${OUT:-./results}
+FINANCE_PORT=${FINANCE_PORT:-18080}
+FINANCE_LATENCY_MS=${FINANCE_LATENCY_MS:-80}
+mkdir -p "$OUT"
+
+if [ -z "${FINANCE_BASE_URL:-}" ]; then
+  FINANCE_BASE_URL="http://localhost:${FINANCE_PORT}"
+  ( cd "$(dirname "$0")/../backend" && ./gradlew -q stubFinance \
+      -Ploadtest.finance-port="${FINANCE_PORT}" -Ploadtest.finance-latency-ms="${FINANCE_LATENCY_MS}" ) \
+      > "$OUT/stub-finance.log" 2>&1 &
+  STUB_PID=$!
+  trap 'kill $STUB_PID 2>/dev/null || true' EXIT
+  until grep -q "SSAFY 금융 API 대역" "$OUT/stub-finance.log" 2>/dev/null; do sleep 1; done
+fi
+
+run_mode() {
+  local mode=$1 vt=$2
+  echo "=== ${mode} (spring.threads.virtual.enabled=${vt}) ==="
+  java -XX:MaxRAMPercentage=75 -Dspring.threads.virtual.enabled="${vt}" \
+       -Dserver.port="${PORT}" -Dssafy.finance.api.base-url="${FINANCE_BASE_URL}" \
+       -Dfinopenapi.base-url="${FINANCE_BASE_URL}" -jar "$JAR" > "$OUT/${mode}.app.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' RETURN
+
+  until curl -sf "http://localhost:${PORT}/stores/page?size=1" > /dev/null; do sleep 2; done
+
+  # 부하 중 RSS / 스레드 수 샘플링 (1초 간격)
+  ( while kill -0 $pid 2>/dev/null; do
+      echo "$(date +%s) $(ps -o rss= -p $pid) $(ls /proc/$pid/task | wc -l)"
+      sleep 1
+    done ) > "$OUT/${mode}.rss.txt" &
+  local sampler=$!
+
+  k6 run -q -e BASE_URL="http://localhost:${PORT}" -e VUS="${VUS}" -e TOKEN="${TOKEN:-}" \
+     -e CUSTOMER_ID="${CUSTOMER_ID:-1}" \
+     --summary-export "$OUT/${mode}.summary.json" "$(dirname "$0")/k6/vthreads-mixed.js"
+
+  kill $sampler 2>/dev/null || true
+  kill $pid; wait $pid 2>/dev/null || true
+
+  awk '{ if ($2 > max) max = $2; if ($3 > th) th = $3 } END { printf "peak RSS: %.1f MB, peak threads: %d\n", max/1024, th }' "$OUT/${mode}.rss.txt"
+  jq -r '"throughput: \(.metrics.http_reqs.rate|floor) req/s, p95: \(.metrics.http_req_duration["p(95)"]|floor) ms, failed: \(.metrics.http_req_failed.value)"' \
+     "$OUT/${mode}.summary.json"
+}
+
+run_mode platform false
+run_mode virtual true
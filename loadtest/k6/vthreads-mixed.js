@@ -0,0 +1,86 @@
+// 플랫폼 스레드 vs 가상 스레드 비교용 혼합 부하 (2,000 동시 사용자)
+// - 조회(목록/근처/상세/안 읽은 알림) + 쓰기(선결제 충전: 멱등 키 선점 → 외부 카드 결제 대역 호출 → 지갑 적립)
+// - 외부 카드 결제는 ./gradlew stubFinance 대역(고정 지연)으로 돌려야 요청 스레드가 외부 I/O 를 기다리는 구간이 생김
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<고객 access token> -e CUSTOMER_ID=<고객 ID> k6/vthreads-mixed.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN || '';
+const CUSTOMER_ID = __ENV.CUSTOMER_ID || '1';
+const VUS = parseInt(__ENV.VUS || '2000', 10);
+const STORES = parseInt(__ENV.STORES || '50', 10);
+const CARD_NO = __ENV.CARD_NO || '1234567812345678';
+const CVC = __ENV.CVC || '123';
+
+const listing = new Trend('lat_store_page', true);
+const nearby = new Trend('lat_store_nearby', true);
+const detail = new Trend('lat_store_detail', true);
+const unread = new Trend('lat_notification_unread', true);
+const prepayment = new Trend('lat_prepayment', true);
+
+export const options = {
+  scenarios: {
+    mixed: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },
+        { duration: '2m', target: VUS },
+        { duration: '15s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+function authHeaders() {
+  return TOKEN ? { headers: { Authorization: `Bearer ${TOKEN}` } } : {};
+}
+
+// 요청마다 새 멱등 키 (서버는 UUID 형식만 받음)
+function uuid() {
+  return 'xxxxxxxx-xxxx-4xxx-yxxx-xxxxxxxxxxxx'.replace(/[xy]/g, (c) => {
+    const v = Math.floor(Math.random() * 16);
+    return (c === 'x' ? v : (v & 0x3) | 0x8).toString(16);
+  });
+}
+
+function charge() {
+  const storeId = 1 + Math.floor(Math.random() * STORES);
+  const body = JSON.stringify({ cardNo: CARD_NO, cvc: CVC, paymentBalance: 10000 });
+  const params = authHeaders();
+  params.headers = Object.assign({}, params.headers, {
+    'Content-Type': 'application/json',
+    'Idempotency-Key': uuid(),
+  });
+  return http.post(`${BASE_URL}/api/v1/stores/${storeId}/prepayment`, body, params);
+}
+
+export default function () {
+  const r = Math.random();
+  let res;
+  if (r < 0.3) {
+    res = http.get(`${BASE_URL}/stores/page?page=${Math.floor(Math.random() * 5)}&size=20`);
+    listing.add(res.timings.duration);
+  } else if (r < 0.55) {
+    const lat = 37.45 + Math.random() * 0.2;
+    const lng = 126.8 + Math.random() * 0.3;
+    res = http.get(`${BASE_URL}/stores/nearby?lat=${lat}&lng=${lng}&radius=3000&size=20`);
+    nearby.add(res.timings.duration);
+  } else if (r < 0.7) {
+    res = http.get(`${BASE_URL}/stores/${1 + Math.floor(Math.random() * STORES)}`);
+    detail.add(res.timings.duration);
+  } else if (r < 0.8) {
+    res = http.get(`${BASE_URL}/api/notifications/customer/${CUSTOMER_ID}/unread-count`, authHeaders());
+    unread.add(res.timings.duration);
+  } else {
+    res = charge();
+    prepayment.add(res.timings.duration);
+  }
+  check(res, { 'status < 500': (x) => x.status < 500 });
+}